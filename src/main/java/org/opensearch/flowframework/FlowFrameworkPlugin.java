@@ -25,28 +25,43 @@ import org.opensearch.core.xcontent.NamedXContentRegistry;
 import org.opensearch.env.Environment;
 import org.opensearch.env.NodeEnvironment;
 import org.opensearch.flowframework.common.FlowFrameworkSettings;
+import org.opensearch.flowframework.indices.FlowFrameworkBootstrap;
 import org.opensearch.flowframework.indices.FlowFrameworkIndicesHandler;
+import org.opensearch.flowframework.rest.RestCancelWorkflowAction;
 import org.opensearch.flowframework.rest.RestCreateWorkflowAction;
 import org.opensearch.flowframework.rest.RestDeleteWorkflowAction;
 import org.opensearch.flowframework.rest.RestDeprovisionWorkflowAction;
+import org.opensearch.flowframework.rest.RestExportWorkflowsAction;
+import org.opensearch.flowframework.rest.RestFlowFrameworkStatsAction;
 import org.opensearch.flowframework.rest.RestGetWorkflowAction;
 import org.opensearch.flowframework.rest.RestGetWorkflowStateAction;
 import org.opensearch.flowframework.rest.RestGetWorkflowStepAction;
+import org.opensearch.flowframework.rest.RestImportWorkflowsAction;
 import org.opensearch.flowframework.rest.RestProvisionWorkflowAction;
 import org.opensearch.flowframework.rest.RestSearchWorkflowAction;
 import org.opensearch.flowframework.rest.RestSearchWorkflowStateAction;
+import org.opensearch.flowframework.rest.RestWorkflowSummaryAction;
+import org.opensearch.flowframework.stats.FlowFrameworkStats;
+import org.opensearch.flowframework.transport.CancelWorkflowAction;
+import org.opensearch.flowframework.transport.CancelWorkflowTransportAction;
 import org.opensearch.flowframework.transport.CreateWorkflowAction;
 import org.opensearch.flowframework.transport.CreateWorkflowTransportAction;
 import org.opensearch.flowframework.transport.DeleteWorkflowAction;
 import org.opensearch.flowframework.transport.DeleteWorkflowTransportAction;
 import org.opensearch.flowframework.transport.DeprovisionWorkflowAction;
 import org.opensearch.flowframework.transport.DeprovisionWorkflowTransportAction;
+import org.opensearch.flowframework.transport.ExportWorkflowsAction;
+import org.opensearch.flowframework.transport.ExportWorkflowsTransportAction;
+import org.opensearch.flowframework.transport.FlowFrameworkStatsAction;
+import org.opensearch.flowframework.transport.FlowFrameworkStatsTransportAction;
 import org.opensearch.flowframework.transport.GetWorkflowAction;
 import org.opensearch.flowframework.transport.GetWorkflowStateAction;
 import org.opensearch.flowframework.transport.GetWorkflowStateTransportAction;
 import org.opensearch.flowframework.transport.GetWorkflowStepAction;
 import org.opensearch.flowframework.transport.GetWorkflowStepTransportAction;
 import org.opensearch.flowframework.transport.GetWorkflowTransportAction;
+import org.opensearch.flowframework.transport.ImportWorkflowsAction;
+import org.opensearch.flowframework.transport.ImportWorkflowsTransportAction;
 import org.opensearch.flowframework.transport.ProvisionWorkflowAction;
 import org.opensearch.flowframework.transport.ProvisionWorkflowTransportAction;
 import org.opensearch.flowframework.transport.ReprovisionWorkflowAction;
@@ -55,9 +70,15 @@ import org.opensearch.flowframework.transport.SearchWorkflowAction;
 import org.opensearch.flowframework.transport.SearchWorkflowStateAction;
 import org.opensearch.flowframework.transport.SearchWorkflowStateTransportAction;
 import org.opensearch.flowframework.transport.SearchWorkflowTransportAction;
+import org.opensearch.flowframework.transport.WorkflowSummaryAction;
+import org.opensearch.flowframework.transport.WorkflowSummaryTransportAction;
 import org.opensearch.flowframework.transport.handler.SearchHandler;
+import org.opensearch.flowframework.util.AdaptiveThreadPoolSizer;
 import org.opensearch.flowframework.util.EncryptorUtils;
 import org.opensearch.flowframework.util.PluginClient;
+import org.opensearch.flowframework.workflow.ActiveProvisionRegistry;
+import org.opensearch.flowframework.workflow.ReindexTaskRecovery;
+import org.opensearch.flowframework.workflow.WorkflowExecutors;
 import org.opensearch.flowframework.workflow.WorkflowProcessSorter;
 import org.opensearch.flowframework.workflow.WorkflowStepFactory;
 import org.opensearch.identity.PluginSubject;
@@ -79,6 +100,7 @@ import org.opensearch.threadpool.ThreadPool;
 import org.opensearch.transport.client.Client;
 import org.opensearch.watcher.ResourceWatcherService;
 
+import java.io.IOException;
 import java.util.Collection;
 import java.util.Collections;
 import java.util.List;
@@ -89,11 +111,17 @@ import static org.opensearch.flowframework.common.CommonValue.CONFIG_INDEX;
 import static org.opensearch.flowframework.common.CommonValue.DEPROVISION_WORKFLOW_THREAD_POOL;
 import static org.opensearch.flowframework.common.CommonValue.FLOW_FRAMEWORK_THREAD_POOL_PREFIX;
 import static org.opensearch.flowframework.common.CommonValue.GLOBAL_CONTEXT_INDEX;
+import static org.opensearch.flowframework.common.CommonValue.INGEST_DATA_DIRECTORY;
 import static org.opensearch.flowframework.common.CommonValue.PROVISION_WORKFLOW_THREAD_POOL;
+import static org.opensearch.flowframework.common.CommonValue.SHARED_RESOURCE_INDEX;
+import static org.opensearch.flowframework.common.CommonValue.TEMPLATE_BODY_INDEX;
 import static org.opensearch.flowframework.common.CommonValue.TENANT_ID_FIELD;
 import static org.opensearch.flowframework.common.CommonValue.WORKFLOW_STATE_INDEX;
 import static org.opensearch.flowframework.common.CommonValue.WORKFLOW_THREAD_POOL;
 import static org.opensearch.flowframework.common.FlowFrameworkSettings.DEPROVISION_THREAD_POOL_SIZE;
+import static org.opensearch.flowframework.common.FlowFrameworkSettings.DOCUMENT_BODY_ENCODING;
+import static org.opensearch.flowframework.common.FlowFrameworkSettings.DOCUMENT_CACHE_SIZE;
+import static org.opensearch.flowframework.common.FlowFrameworkSettings.DOCUMENT_CACHE_TTL;
 import static org.opensearch.flowframework.common.FlowFrameworkSettings.FILTER_BY_BACKEND_ROLES;
 import static org.opensearch.flowframework.common.FlowFrameworkSettings.FLOW_FRAMEWORK_ENABLED;
 import static org.opensearch.flowframework.common.FlowFrameworkSettings.FLOW_FRAMEWORK_MULTI_TENANCY_ENABLED;
@@ -106,7 +134,15 @@ import static org.opensearch.flowframework.common.FlowFrameworkSettings.REMOTE_M
 import static org.opensearch.flowframework.common.FlowFrameworkSettings.REMOTE_METADATA_REGION;
 import static org.opensearch.flowframework.common.FlowFrameworkSettings.REMOTE_METADATA_SERVICE_NAME;
 import static org.opensearch.flowframework.common.FlowFrameworkSettings.REMOTE_METADATA_TYPE;
+import static org.opensearch.flowframework.common.FlowFrameworkSettings.STARTUP_BOOTSTRAP_ENABLED;
+import static org.opensearch.flowframework.common.FlowFrameworkSettings.SUMMARY_CACHE_TTL;
 import static org.opensearch.flowframework.common.FlowFrameworkSettings.TASK_REQUEST_RETRY_DURATION;
+import static org.opensearch.flowframework.common.FlowFrameworkSettings.TEMPLATE_DEDUPLICATION_ENABLED;
+import static org.opensearch.flowframework.common.FlowFrameworkSettings.THREAD_POOL_AUTOSIZE_ENABLED;
+import static org.opensearch.flowframework.common.FlowFrameworkSettings.THREAD_POOL_AUTOSIZE_INTERVAL;
+import static org.opensearch.flowframework.common.FlowFrameworkSettings.THREAD_POOL_MIN_SIZE;
+import static org.opensearch.flowframework.common.FlowFrameworkSettings.THREAD_POOL_TARGET_QUEUE_LATENCY;
+import static org.opensearch.flowframework.common.FlowFrameworkSettings.VIRTUAL_THREADS_ENABLED;
 import static org.opensearch.flowframework.common.FlowFrameworkSettings.WORKFLOW_REQUEST_TIMEOUT;
 import static org.opensearch.flowframework.common.FlowFrameworkSettings.WORKFLOW_THREAD_POOL_SIZE;
 import static org.opensearch.remote.metadata.common.CommonValue.REMOTE_METADATA_ENDPOINT_KEY;
@@ -125,6 +161,10 @@ public class FlowFrameworkPlugin extends Plugin implements ActionPlugin, SystemI
 
     private PluginClient pluginClient;
 
+    private WorkflowExecutors workflowExecutors;
+
+    private AdaptiveThreadPoolSizer adaptiveThreadPoolSizer;
+
     /**
      * Instantiate this plugin.
      */
@@ -175,6 +215,7 @@ public class FlowFrameworkPlugin extends Plugin implements ActionPlugin, SystemI
             sdkClient,
             clusterService,
             encryptorUtils,
+            flowFrameworkSettings,
             xContentRegistry,
             multiTenancyEnabled
         );
@@ -183,9 +224,35 @@ public class FlowFrameworkPlugin extends Plugin implements ActionPlugin, SystemI
             mlClient,
             flowFrameworkIndicesHandler,
             flowFrameworkSettings,
-            client
+            client,
+            xContentRegistry,
+            environment.configDir().resolve(INGEST_DATA_DIRECTORY)
         );
-        WorkflowProcessSorter workflowProcessSorter = new WorkflowProcessSorter(workflowStepFactory, threadPool, flowFrameworkSettings);
+        FlowFrameworkStats flowFrameworkStats = new FlowFrameworkStats();
+        workflowExecutors = new WorkflowExecutors(threadPool, flowFrameworkSettings);
+        WorkflowProcessSorter workflowProcessSorter = new WorkflowProcessSorter(
+            workflowStepFactory,
+            workflowExecutors,
+            flowFrameworkSettings,
+            flowFrameworkStats
+        );
+
+        // Keeps the plugin thread pools sized to the load and resource pressure of the node
+        this.adaptiveThreadPoolSizer = new AdaptiveThreadPoolSizer(threadPool, flowFrameworkSettings, settings);
+        adaptiveThreadPoolSizer.start();
+
+        // Creates the system indices and loads the master key once the cluster state is recovered, off the request path
+        new FlowFrameworkBootstrap(
+            flowFrameworkIndicesHandler,
+            workflowStepFactory,
+            flowFrameworkSettings,
+            clusterService,
+            threadPool,
+            multiTenancyEnabled
+        ).start();
+
+        // Resumes monitoring the background reindexes this node started before it restarted
+        new ReindexTaskRecovery(client, flowFrameworkIndicesHandler, clusterService, threadPool, multiTenancyEnabled).start();
 
         SearchHandler searchHandler = new SearchHandler(
             settings,
@@ -202,6 +269,9 @@ public class FlowFrameworkPlugin extends Plugin implements ActionPlugin, SystemI
             flowFrameworkIndicesHandler,
             searchHandler,
             flowFrameworkSettings,
+            flowFrameworkStats,
+            new ActiveProvisionRegistry(),
+            workflowExecutors,
             sdkClient
         );
     }
@@ -225,7 +295,12 @@ public class FlowFrameworkPlugin extends Plugin implements ActionPlugin, SystemI
             new RestGetWorkflowStateAction(flowFrameworkSettings),
             new RestGetWorkflowAction(flowFrameworkSettings),
             new RestGetWorkflowStepAction(flowFrameworkSettings),
-            new RestSearchWorkflowStateAction(flowFrameworkSettings)
+            new RestSearchWorkflowStateAction(flowFrameworkSettings),
+            new RestFlowFrameworkStatsAction(flowFrameworkSettings),
+            new RestCancelWorkflowAction(flowFrameworkSettings),
+            new RestWorkflowSummaryAction(flowFrameworkSettings),
+            new RestExportWorkflowsAction(flowFrameworkSettings),
+            new RestImportWorkflowsAction(flowFrameworkSettings)
         );
     }
 
@@ -241,7 +316,12 @@ public class FlowFrameworkPlugin extends Plugin implements ActionPlugin, SystemI
             new ActionHandler<>(GetWorkflowAction.INSTANCE, GetWorkflowTransportAction.class),
             new ActionHandler<>(GetWorkflowStepAction.INSTANCE, GetWorkflowStepTransportAction.class),
             new ActionHandler<>(SearchWorkflowStateAction.INSTANCE, SearchWorkflowStateTransportAction.class),
-            new ActionHandler<>(ReprovisionWorkflowAction.INSTANCE, ReprovisionWorkflowTransportAction.class)
+            new ActionHandler<>(ReprovisionWorkflowAction.INSTANCE, ReprovisionWorkflowTransportAction.class),
+            new ActionHandler<>(FlowFrameworkStatsAction.INSTANCE, FlowFrameworkStatsTransportAction.class),
+            new ActionHandler<>(CancelWorkflowAction.INSTANCE, CancelWorkflowTransportAction.class),
+            new ActionHandler<>(WorkflowSummaryAction.INSTANCE, WorkflowSummaryTransportAction.class),
+            new ActionHandler<>(ExportWorkflowsAction.INSTANCE, ExportWorkflowsTransportAction.class),
+            new ActionHandler<>(ImportWorkflowsAction.INSTANCE, ImportWorkflowsTransportAction.class)
         );
     }
 
@@ -260,6 +340,17 @@ public class FlowFrameworkPlugin extends Plugin implements ActionPlugin, SystemI
             MAX_ACTIVE_PROVISIONS_PER_TENANT,
             DEPROVISION_THREAD_POOL_SIZE,
             MAX_ACTIVE_DEPROVISIONS_PER_TENANT,
+            TEMPLATE_DEDUPLICATION_ENABLED,
+            DOCUMENT_BODY_ENCODING,
+            DOCUMENT_CACHE_SIZE,
+            DOCUMENT_CACHE_TTL,
+            THREAD_POOL_AUTOSIZE_ENABLED,
+            THREAD_POOL_MIN_SIZE,
+            THREAD_POOL_TARGET_QUEUE_LATENCY,
+            THREAD_POOL_AUTOSIZE_INTERVAL,
+            VIRTUAL_THREADS_ENABLED,
+            SUMMARY_CACHE_TTL,
+            STARTUP_BOOTSTRAP_ENABLED,
             REMOTE_METADATA_TYPE,
             REMOTE_METADATA_ENDPOINT,
             REMOTE_METADATA_REGION,
@@ -269,26 +360,26 @@ public class FlowFrameworkPlugin extends Plugin implements ActionPlugin, SystemI
 
     @Override
     public List<ExecutorBuilder<?>> getExecutorBuilders(Settings settings) {
-        int maxSizeFromAllocatedProcessors = OpenSearchExecutors.allocatedProcessors(settings) - 1;
+        int allocatedProcessors = OpenSearchExecutors.allocatedProcessors(settings);
         return List.of(
             new ScalingExecutorBuilder(
                 WORKFLOW_THREAD_POOL,
                 1,
-                Math.max(WORKFLOW_THREAD_POOL_SIZE.get(settings), maxSizeFromAllocatedProcessors),
+                AdaptiveThreadPoolSizer.maxPoolSize(WORKFLOW_THREAD_POOL_SIZE.get(settings), allocatedProcessors),
                 TimeValue.timeValueMinutes(1),
                 FLOW_FRAMEWORK_THREAD_POOL_PREFIX + WORKFLOW_THREAD_POOL
             ),
             new ScalingExecutorBuilder(
                 PROVISION_WORKFLOW_THREAD_POOL,
                 1,
-                Math.max(PROVISION_THREAD_POOL_SIZE.get(settings), maxSizeFromAllocatedProcessors),
+                AdaptiveThreadPoolSizer.maxPoolSize(PROVISION_THREAD_POOL_SIZE.get(settings), allocatedProcessors),
                 TimeValue.timeValueMinutes(5),
                 FLOW_FRAMEWORK_THREAD_POOL_PREFIX + PROVISION_WORKFLOW_THREAD_POOL
             ),
             new ScalingExecutorBuilder(
                 DEPROVISION_WORKFLOW_THREAD_POOL,
                 1,
-                Math.max(DEPROVISION_THREAD_POOL_SIZE.get(settings), maxSizeFromAllocatedProcessors),
+                AdaptiveThreadPoolSizer.maxPoolSize(DEPROVISION_THREAD_POOL_SIZE.get(settings), allocatedProcessors),
                 TimeValue.timeValueMinutes(1),
                 FLOW_FRAMEWORK_THREAD_POOL_PREFIX + DEPROVISION_WORKFLOW_THREAD_POOL
             )
@@ -300,7 +391,9 @@ public class FlowFrameworkPlugin extends Plugin implements ActionPlugin, SystemI
         return List.of(
             new SystemIndexDescriptor(CONFIG_INDEX, "Flow Framework Config index"),
             new SystemIndexDescriptor(GLOBAL_CONTEXT_INDEX, "Flow Framework Global Context index"),
-            new SystemIndexDescriptor(WORKFLOW_STATE_INDEX, "Flow Framework Workflow State index")
+            new SystemIndexDescriptor(WORKFLOW_STATE_INDEX, "Flow Framework Workflow State index"),
+            new SystemIndexDescriptor(TEMPLATE_BODY_INDEX, "Flow Framework Template Body index"),
+            new SystemIndexDescriptor(SHARED_RESOURCE_INDEX, "Flow Framework Shared Resource index")
         );
     }
 
@@ -311,4 +404,14 @@ public class FlowFrameworkPlugin extends Plugin implements ActionPlugin, SystemI
         }
     }
 
+    @Override
+    public void close() throws IOException {
+        if (this.adaptiveThreadPoolSizer != null) {
+            this.adaptiveThreadPoolSizer.stop();
+        }
+        if (this.workflowExecutors != null) {
+            this.workflowExecutors.close();
+        }
+    }
+
 }
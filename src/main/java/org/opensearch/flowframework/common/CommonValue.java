@@ -45,6 +45,32 @@ public class CommonValue {
     public static final String CONFIG_INDEX_MAPPING = "mappings/config.json";
     /** Config index mapping version */
     public static final Integer CONFIG_INDEX_VERSION = 1;
+    /** Template Body Index Name, holding workflows sections shared by deduplicated templates */
+    public static final String TEMPLATE_BODY_INDEX = ".plugins-flow-framework-template-bodies";
+    /** Template Body index mapping file path */
+    public static final String TEMPLATE_BODY_INDEX_MAPPING = "mappings/template-body.json";
+    /** Template Body index mapping version */
+    public static final Integer TEMPLATE_BODY_INDEX_VERSION = 1;
+    /** Shared Resource Index Name, holding connectors and models reused by identical workflow steps */
+    public static final String SHARED_RESOURCE_INDEX = ".plugins-flow-framework-shared-resources";
+    /** Shared Resource index mapping file path */
+    public static final String SHARED_RESOURCE_INDEX_MAPPING = "mappings/shared-resource.json";
+    /** Shared Resource index mapping version */
+    public static final Integer SHARED_RESOURCE_INDEX_VERSION = 1;
+    /** The shared resource field name holding the content hash of the step inputs which created the resources */
+    public static final String RESOURCE_HASH_FIELD = "resource_hash";
+    /** The shared resource field name holding the ids of the workflows referencing the resources */
+    public static final String WORKFLOW_IDS_FIELD = "workflow_ids";
+    /** The shared resource field name holding the outputs of the step which created the resources */
+    public static final String STEP_OUTPUTS_FIELD = "step_outputs";
+    /** The template field name referencing the content hash of a shared workflows section */
+    public static final String WORKFLOWS_HASH_FIELD = "workflows_hash";
+    /** The template field name holding the use case parameter values substituted into a shared workflows section */
+    public static final String WORKFLOWS_PARAMS_FIELD = "workflows_params";
+    /** The field name holding the binary encoded, non-searched part of a system index document */
+    public static final String ENCODED_BODY_FIELD = "encoded_body";
+    /** The toXContent param naming the binary content type used to write the encoded body */
+    public static final String BODY_ENCODING_PARAM = "body_encoding";
     /** Master key field name */
     public static final String MASTER_KEY = "master_key";
     /** Create Time field  name */
@@ -75,6 +101,10 @@ public class CommonValue {
     public static final String FLOW_FRAMEWORK_BASE_URI = "/_plugins/_flow_framework";
     /** The URI for this plugin's workflow rest actions */
     public static final String WORKFLOW_URI = FLOW_FRAMEWORK_BASE_URI + "/workflow";
+    /** The URI for this plugin's stats rest action */
+    public static final String STATS_URI = FLOW_FRAMEWORK_BASE_URI + "/stats";
+    /** The param name for the node ids of the stats rest action */
+    public static final String NODE_ID = "nodeId";
     /** Field name for workflow Id, the document Id of the indexed use case template */
     public static final String WORKFLOW_ID = "workflow_id";
     /** Field name for template validation, the flag to indicate if validation is necessary */
@@ -87,6 +117,28 @@ public class CommonValue {
     public static final String UPDATE_WORKFLOW_FIELDS = "update_fields";
     /** The param name for specifying the timeout duration in seconds to wait for workflow completion */
     public static final String WAIT_FOR_COMPLETION_TIMEOUT = "wait_for_completion_timeout";
+    /** The param name for specifying how long the get workflow state API waits for the state to change */
+    public static final String WAIT_FOR_CHANGE_TIMEOUT = "wait_for_change_timeout";
+    /** The param name for the workflow state fields returned by the get workflow state API */
+    public static final String STATE_FIELDS = "fields";
+    /** The param name for the page size of resources created returned by the get workflow state API */
+    public static final String RESOURCES_SIZE = "resources_size";
+    /** The param name for the cursor to a page of resources created, used by the get workflow state API */
+    public static final String RESOURCES_CURSOR = "resources_cursor";
+    /** The field name for the cursor to the next page of resources created */
+    public static final String NEXT_RESOURCES_CURSOR_FIELD = "next_resources_cursor";
+    /** The param name for the date histogram interval of the workflow summary API */
+    public static final String SUMMARY_INTERVAL = "interval";
+    /** The param name for the number of workflows returned by each call of the export API */
+    public static final String EXPORT_SIZE = "size";
+    /** The param name for the cursor to the next page of workflows, used by the export API */
+    public static final String EXPORT_CURSOR = "cursor";
+    /** The param name for how the export API returns credentials, either redacted or encrypted, and how the import API reads them */
+    public static final String EXPORT_CREDENTIALS = "credentials";
+    /** The response header containing the cursor to the next page of exported workflows */
+    public static final String EXPORT_NEXT_CURSOR_HEADER = "X-Flow-Framework-Next-Cursor";
+    /** The param name for whether the import API replaces existing workflows with the same workflow id */
+    public static final String IMPORT_OVERWRITE = "overwrite";
     /** The field name for workflow steps. This field represents the name of the workflow steps to be fetched. */
     public static final String WORKFLOW_STEP = "workflow_step";
     /** The param name for default use case, used by the create workflow API */
@@ -103,6 +155,8 @@ public class CommonValue {
      */
     /** Flow Framework plugin thread pool name prefix */
     public static final String FLOW_FRAMEWORK_THREAD_POOL_PREFIX = "thread_pool.flow_framework.";
+    /** The directory under the node config directory which documents may be ingested from by file */
+    public static final String INGEST_DATA_DIRECTORY = "opensearch-flow-framework";
     /** The general workflow thread pool name for most calls */
     public static final String WORKFLOW_THREAD_POOL = "opensearch_workflow";
     /** The workflow thread pool name for provisioning */
@@ -145,6 +199,12 @@ public class CommonValue {
     public static final String DESCRIPTION_FIELD = "description";
     /** Description field */
     public static final String DEPLOY_FIELD = "deploy";
+    /** Reuse existing field, opting a step into reusing the resources of an identical step of another workflow */
+    public static final String REUSE_EXISTING_FIELD = "reuse_existing";
+    /** Fan out field, the list of inputs a step is executed with once each */
+    public static final String FAN_OUT_FIELD = "fan_out";
+    /** Fan out concurrency field, the maximum number of executions of a fanned out step running at once */
+    public static final String FAN_OUT_CONCURRENCY_FIELD = "fan_out_concurrency";
     /** Model format field */
     public static final String MODEL_FORMAT = "model_format";
     /** Model content hash value field */
@@ -226,6 +286,8 @@ public class CommonValue {
     public static final String UI_METADATA_FIELD = "ui_metadata";
     /** The template field name for template user outputs */
     public static final String USER_OUTPUTS_FIELD = "user_outputs";
+    /** The workflow state field name flagging a workflow which started background tasks, searched for when a node restarts */
+    public static final String HAS_BACKGROUND_TASKS_FIELD = "has_background_tasks";
     /** The template field name for template resources created */
     public static final String RESOURCES_CREATED_FIELD = "resources_created";
     /** The parameter to clear workflow state when deleting template */
@@ -238,6 +300,20 @@ public class CommonValue {
     public static final String RESOURCE_TYPE = "resource_type";
     /** The field name for the resource id */
     public static final String RESOURCE_ID = "resource_id";
+    /** The workflow state field name for the execution timeline of each workflow step */
+    public static final String STEP_TIMELINE_FIELD = "step_timeline";
+    /** The field name for the time a workflow step was queued for execution */
+    public static final String ENQUEUE_TIME_FIELD = "enqueue_time";
+    /** The field name for the time a workflow step started, once all its predecessors completed */
+    public static final String START_TIME_FIELD = "start_time";
+    /** The field name for the time a workflow step completed */
+    public static final String END_TIME_FIELD = "end_time";
+    /** The field name for the time a workflow step waited on its predecessors */
+    public static final String PREDECESSOR_WAIT_MILLIS_FIELD = "predecessor_wait_millis";
+    /** The field name for the number of retries of a workflow step */
+    public static final String RETRY_COUNT_FIELD = "retry_count";
+    /** The field name for the status of a workflow step */
+    public static final String STEP_STATUS_FIELD = "status";
     /** The field name for the opensearch-ml plugin */
     public static final String OPENSEARCH_ML = "opensearch-ml";
 
@@ -266,6 +342,8 @@ public class CommonValue {
      */
     /** Version 2.19.0 */
     public static final Version VERSION_2_19_0 = Version.fromString("2.19.0");
+    /** Version 3.6.0 */
+    public static final Version VERSION_3_6_0 = Version.fromString("3.6.0");
 
     /*
      * Constants associated with resource-sharing
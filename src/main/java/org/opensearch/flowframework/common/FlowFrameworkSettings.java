@@ -13,6 +13,10 @@ import org.opensearch.common.settings.Setting;
 import org.opensearch.common.settings.Setting.Property;
 import org.opensearch.common.settings.Settings;
 import org.opensearch.common.unit.TimeValue;
+import org.opensearch.core.common.unit.ByteSizeUnit;
+import org.opensearch.core.common.unit.ByteSizeValue;
+
+import java.util.List;
 
 import static org.opensearch.remote.metadata.common.CommonValue.REMOTE_METADATA_ENDPOINT_KEY;
 import static org.opensearch.remote.metadata.common.CommonValue.REMOTE_METADATA_REGION_KEY;
@@ -43,6 +47,27 @@ public class FlowFrameworkSettings {
     private volatile Integer deprovisionThreadPoolSize;
     /** Max simultaneous deprovision requests */
     private volatile Integer maxActiveDeprovisionsPerTenant;
+    /** Whether workflows sections of new templates are stored once and shared by content hash */
+    private volatile Boolean isTemplateDeduplicationEnabled;
+    /** Content type used to encode the unsearched body of system index documents */
+    private volatile String documentBodyEncoding;
+    /** Max total size of parsed documents held in the node-local document cache */
+    private final ByteSizeValue documentCacheSize;
+    /** How long a cached workflow state may be served without fetching it again */
+    private final TimeValue documentCacheTtl;
+    /** Whether the plugin thread pools are resized at runtime */
+    private volatile Boolean isThreadPoolAutosizeEnabled;
+    /** The smallest max size the plugin thread pools can be resized to */
+    private volatile Integer threadPoolMinSize;
+    /** The queue latency above which a thread pool grows */
+    private volatile TimeValue threadPoolTargetQueueLatency;
+    /** How often the plugin thread pools are resized */
+    private final TimeValue threadPoolAutosizeInterval;
+    /** Whether provision and deprovision work runs on virtual threads */
+    private volatile Boolean isVirtualThreadsEnabled;
+    /** How long a workflow summary is served from the cache */
+    private volatile TimeValue summaryCacheTtl;
+    private final boolean isStartupBootstrapEnabled;
 
     /** The upper limit of max workflows that can be created  */
     public static final int MAX_WORKFLOWS_LIMIT = 10000;
@@ -145,7 +170,8 @@ public class FlowFrameworkSettings {
         4,
         1,
         400,
-        Setting.Property.NodeScope
+        Setting.Property.NodeScope,
+        Setting.Property.Dynamic
     );
 
     /** This setting sets the max size of the provision thread pool */
@@ -154,7 +180,8 @@ public class FlowFrameworkSettings {
         8,
         1,
         800,
-        Setting.Property.NodeScope
+        Setting.Property.NodeScope,
+        Setting.Property.Dynamic
     );
 
     /** This setting sets max workflows that can be simultaneously provisioned, or reprovisioned by the same tenant */
@@ -173,7 +200,8 @@ public class FlowFrameworkSettings {
         4,
         1,
         400,
-        Setting.Property.NodeScope
+        Setting.Property.NodeScope,
+        Setting.Property.Dynamic
     );
 
     /** This setting sets max workflows that can be simultaneously deprovisioned by the same tenant */
@@ -185,6 +213,107 @@ public class FlowFrameworkSettings {
         Setting.Property.NodeScope,
         Setting.Property.Dynamic
     );
+
+    /** This setting enables storing identical template workflows sections once, referenced by their content hash */
+    public static final Setting<Boolean> TEMPLATE_DEDUPLICATION_ENABLED = Setting.boolSetting(
+        "plugins.flow_framework.template_deduplication_enabled",
+        false,
+        Setting.Property.NodeScope,
+        Setting.Property.Dynamic
+    );
+
+    /** The document body encodings supported by {@link #DOCUMENT_BODY_ENCODING} */
+    public static final List<String> DOCUMENT_BODY_ENCODINGS = List.of("json", "smile", "cbor");
+
+    /** This setting sets the content type used to store the unsearched body of templates and workflow states */
+    public static final Setting<String> DOCUMENT_BODY_ENCODING = Setting.simpleString(
+        "plugins.flow_framework.document_body_encoding",
+        "json",
+        value -> {
+            if (!DOCUMENT_BODY_ENCODINGS.contains(value)) {
+                throw new IllegalArgumentException(
+                    "Invalid document body encoding [" + value + "], must be one of " + DOCUMENT_BODY_ENCODINGS
+                );
+            }
+        },
+        Setting.Property.NodeScope,
+        Setting.Property.Dynamic
+    );
+
+    /** This setting sets the max total source size of templates and workflow states cached on each node, zero disables the cache */
+    public static final Setting<ByteSizeValue> DOCUMENT_CACHE_SIZE = Setting.byteSizeSetting(
+        "plugins.flow_framework.document_cache_size",
+        new ByteSizeValue(10, ByteSizeUnit.MB),
+        Setting.Property.NodeScope
+    );
+
+    /** This setting sets how long a cached workflow state may be served before it is fetched again */
+    public static final Setting<TimeValue> DOCUMENT_CACHE_TTL = Setting.timeSetting(
+        "plugins.flow_framework.document_cache_ttl",
+        TimeValue.timeValueSeconds(1),
+        TimeValue.ZERO,
+        Setting.Property.NodeScope
+    );
+
+    /** This setting enables resizing the plugin thread pools at runtime, based on their load and the resource pressure of the node */
+    public static final Setting<Boolean> THREAD_POOL_AUTOSIZE_ENABLED = Setting.boolSetting(
+        "plugins.flow_framework.thread_pool_autosize_enabled",
+        false,
+        Setting.Property.NodeScope,
+        Setting.Property.Dynamic
+    );
+
+    /** This setting sets the smallest max size the plugin thread pools can be shrunk to when autosizing */
+    public static final Setting<Integer> THREAD_POOL_MIN_SIZE = Setting.intSetting(
+        "plugins.flow_framework.thread_pool_min_size",
+        1,
+        1,
+        400,
+        Setting.Property.NodeScope,
+        Setting.Property.Dynamic
+    );
+
+    /** This setting sets the queue latency above which an autosized thread pool grows */
+    public static final Setting<TimeValue> THREAD_POOL_TARGET_QUEUE_LATENCY = Setting.timeSetting(
+        "plugins.flow_framework.thread_pool_target_queue_latency",
+        TimeValue.timeValueMillis(100),
+        TimeValue.timeValueMillis(1),
+        Setting.Property.NodeScope,
+        Setting.Property.Dynamic
+    );
+
+    /** This setting sets how often the plugin thread pools are resized */
+    public static final Setting<TimeValue> THREAD_POOL_AUTOSIZE_INTERVAL = Setting.timeSetting(
+        "plugins.flow_framework.thread_pool_autosize_interval",
+        TimeValue.timeValueSeconds(10),
+        TimeValue.timeValueSeconds(1),
+        Setting.Property.NodeScope
+    );
+
+    /** This setting runs provision and deprovision work on virtual threads rather than on the plugin thread pools */
+    public static final Setting<Boolean> VIRTUAL_THREADS_ENABLED = Setting.boolSetting(
+        "plugins.flow_framework.virtual_threads_enabled",
+        false,
+        Setting.Property.NodeScope,
+        Setting.Property.Dynamic
+    );
+
+    /** This setting sets how long a workflow summary is served from the cache before its aggregations run again */
+    public static final Setting<TimeValue> SUMMARY_CACHE_TTL = Setting.timeSetting(
+        "plugins.flow_framework.summary_cache_ttl",
+        TimeValue.timeValueSeconds(5),
+        TimeValue.ZERO,
+        Setting.Property.NodeScope,
+        Setting.Property.Dynamic
+    );
+
+    /** This setting creates or upgrades the system indices and loads the master key when the node starts, rather than on first use */
+    public static final Setting<Boolean> STARTUP_BOOTSTRAP_ENABLED = Setting.boolSetting(
+        "plugins.flow_framework.startup_bootstrap_enabled",
+        true,
+        Setting.Property.NodeScope
+    );
+
     /** This setting sets the remote metadata type */
     public static final Setting<String> REMOTE_METADATA_TYPE = Setting.simpleString(
         "plugins.flow_framework." + REMOTE_METADATA_TYPE_KEY,
@@ -233,6 +362,17 @@ public class FlowFrameworkSettings {
         this.maxActiveProvisionsPerTenant = MAX_ACTIVE_PROVISIONS_PER_TENANT.get(settings);
         this.deprovisionThreadPoolSize = DEPROVISION_THREAD_POOL_SIZE.get(settings);
         this.maxActiveDeprovisionsPerTenant = MAX_ACTIVE_DEPROVISIONS_PER_TENANT.get(settings);
+        this.isTemplateDeduplicationEnabled = TEMPLATE_DEDUPLICATION_ENABLED.get(settings);
+        this.documentBodyEncoding = DOCUMENT_BODY_ENCODING.get(settings);
+        this.documentCacheSize = DOCUMENT_CACHE_SIZE.get(settings);
+        this.documentCacheTtl = DOCUMENT_CACHE_TTL.get(settings);
+        this.isThreadPoolAutosizeEnabled = THREAD_POOL_AUTOSIZE_ENABLED.get(settings);
+        this.threadPoolMinSize = THREAD_POOL_MIN_SIZE.get(settings);
+        this.threadPoolTargetQueueLatency = THREAD_POOL_TARGET_QUEUE_LATENCY.get(settings);
+        this.threadPoolAutosizeInterval = THREAD_POOL_AUTOSIZE_INTERVAL.get(settings);
+        this.isVirtualThreadsEnabled = VIRTUAL_THREADS_ENABLED.get(settings);
+        this.summaryCacheTtl = SUMMARY_CACHE_TTL.get(settings);
+        this.isStartupBootstrapEnabled = STARTUP_BOOTSTRAP_ENABLED.get(settings);
         clusterService.getClusterSettings().addSettingsUpdateConsumer(FLOW_FRAMEWORK_ENABLED, it -> isFlowFrameworkEnabled = it);
         clusterService.getClusterSettings().addSettingsUpdateConsumer(TASK_REQUEST_RETRY_DURATION, it -> retryDuration = it);
         clusterService.getClusterSettings().addSettingsUpdateConsumer(MAX_WORKFLOW_STEPS, it -> maxWorkflowSteps = it);
@@ -242,6 +382,19 @@ public class FlowFrameworkSettings {
             .addSettingsUpdateConsumer(MAX_ACTIVE_PROVISIONS_PER_TENANT, it -> maxActiveProvisionsPerTenant = it);
         clusterService.getClusterSettings()
             .addSettingsUpdateConsumer(MAX_ACTIVE_DEPROVISIONS_PER_TENANT, it -> maxActiveDeprovisionsPerTenant = it);
+        clusterService.getClusterSettings()
+            .addSettingsUpdateConsumer(TEMPLATE_DEDUPLICATION_ENABLED, it -> isTemplateDeduplicationEnabled = it);
+        clusterService.getClusterSettings().addSettingsUpdateConsumer(DOCUMENT_BODY_ENCODING, it -> documentBodyEncoding = it);
+        clusterService.getClusterSettings().addSettingsUpdateConsumer(WORKFLOW_THREAD_POOL_SIZE, it -> workflowThreadPoolSize = it);
+        clusterService.getClusterSettings().addSettingsUpdateConsumer(PROVISION_THREAD_POOL_SIZE, it -> provisionThreadPoolSize = it);
+        clusterService.getClusterSettings().addSettingsUpdateConsumer(DEPROVISION_THREAD_POOL_SIZE, it -> deprovisionThreadPoolSize = it);
+        clusterService.getClusterSettings()
+            .addSettingsUpdateConsumer(THREAD_POOL_AUTOSIZE_ENABLED, it -> isThreadPoolAutosizeEnabled = it);
+        clusterService.getClusterSettings().addSettingsUpdateConsumer(THREAD_POOL_MIN_SIZE, it -> threadPoolMinSize = it);
+        clusterService.getClusterSettings()
+            .addSettingsUpdateConsumer(THREAD_POOL_TARGET_QUEUE_LATENCY, it -> threadPoolTargetQueueLatency = it);
+        clusterService.getClusterSettings().addSettingsUpdateConsumer(VIRTUAL_THREADS_ENABLED, it -> isVirtualThreadsEnabled = it);
+        clusterService.getClusterSettings().addSettingsUpdateConsumer(SUMMARY_CACHE_TTL, it -> summaryCacheTtl = it);
     }
 
     /**
@@ -331,4 +484,92 @@ public class FlowFrameworkSettings {
     public Integer getMaxActiveDeprovisionsPerTenant() {
         return maxActiveDeprovisionsPerTenant;
     }
+
+    /**
+     * Whether new templates store their workflows section in the shared template body index
+     * @return whether template deduplication is enabled
+     */
+    public boolean isTemplateDeduplicationEnabled() {
+        return isTemplateDeduplicationEnabled;
+    }
+
+    /**
+     * Getter for the content type used to encode the unsearched body of system index documents
+     * @return the document body encoding, json if stored inline
+     */
+    public String getDocumentBodyEncoding() {
+        return documentBodyEncoding;
+    }
+
+    /**
+     * Getter for the max total size of the node-local document cache
+     * @return document cache size
+     */
+    public ByteSizeValue getDocumentCacheSize() {
+        return documentCacheSize;
+    }
+
+    /**
+     * Getter for how long a cached workflow state may be served without fetching it again
+     * @return document cache TTL
+     */
+    public TimeValue getDocumentCacheTtl() {
+        return documentCacheTtl;
+    }
+
+    /**
+     * Whether the plugin thread pools are resized at runtime
+     * @return whether thread pool autosizing is enabled
+     */
+    public boolean isThreadPoolAutosizeEnabled() {
+        return isThreadPoolAutosizeEnabled;
+    }
+
+    /**
+     * Getter for the smallest max size the plugin thread pools can be shrunk to
+     * @return thread pool min size
+     */
+    public Integer getThreadPoolMinSize() {
+        return threadPoolMinSize;
+    }
+
+    /**
+     * Getter for the queue latency above which a thread pool grows
+     * @return target queue latency
+     */
+    public TimeValue getThreadPoolTargetQueueLatency() {
+        return threadPoolTargetQueueLatency;
+    }
+
+    /**
+     * Getter for how often the plugin thread pools are resized
+     * @return autosize interval
+     */
+    public TimeValue getThreadPoolAutosizeInterval() {
+        return threadPoolAutosizeInterval;
+    }
+
+    /**
+     * Whether provision and deprovision work runs on virtual threads
+     * @return whether virtual threads are enabled
+     */
+    public boolean isVirtualThreadsEnabled() {
+        return isVirtualThreadsEnabled;
+    }
+
+    /**
+     * Getter for how long a workflow summary is served from the cache
+     * @return summary cache TTL
+     */
+    public TimeValue getSummaryCacheTtl() {
+        return summaryCacheTtl;
+    }
+
+    /**
+     * Whether the system indices and master key are initialized when the node starts
+     * @return whether startup bootstrap is enabled
+     */
+    public boolean isStartupBootstrapEnabled() {
+        return isStartupBootstrapEnabled;
+    }
 }
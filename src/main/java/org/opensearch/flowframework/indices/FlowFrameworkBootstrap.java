@@ -0,0 +1,161 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * The OpenSearch Contributors require contributions made to
+ * this file be licensed under the Apache-2.0 license or a
+ * compatible open source license.
+ */
+package org.opensearch.flowframework.indices;
+
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+import org.opensearch.cluster.ClusterChangedEvent;
+import org.opensearch.cluster.ClusterState;
+import org.opensearch.cluster.ClusterStateListener;
+import org.opensearch.cluster.service.ClusterService;
+import org.opensearch.core.action.ActionListener;
+import org.opensearch.flowframework.common.FlowFrameworkSettings;
+import org.opensearch.flowframework.workflow.WorkflowStepFactory;
+import org.opensearch.gateway.GatewayService;
+import org.opensearch.threadpool.ThreadPool;
+
+import java.util.EnumSet;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Initializes this plugin's system indices and master key when the node starts, rather than inline with the first requests.
+ * <p>
+ * Once the cluster state is recovered, the elected cluster manager creates the missing indices, and every node checks and
+ * upgrades the mappings of the existing ones, so the mapping version checks of {@link FlowFrameworkIndicesHandler} are done
+ * before the first request. The master key is then loaded into the {@link org.opensearch.flowframework.util.EncryptorUtils},
+ * or generated on a new cluster. With multitenancy, master keys are per tenant and are still loaded on first use.
+ * An index which fails to initialize is retried on later cluster state changes, and is otherwise initialized on first use.
+ */
+public class FlowFrameworkBootstrap implements ClusterStateListener {
+
+    private static final Logger logger = LogManager.getLogger(FlowFrameworkBootstrap.class);
+
+    /** The number of times an index is attempted before leaving it to be initialized on first use */
+    static final int MAX_ATTEMPTS = 3;
+
+    private final FlowFrameworkIndicesHandler flowFrameworkIndicesHandler;
+    private final WorkflowStepFactory workflowStepFactory;
+    private final FlowFrameworkSettings flowFrameworkSettings;
+    private final ClusterService clusterService;
+    private final ThreadPool threadPool;
+    private final boolean multiTenancyEnabled;
+    private final Set<FlowFrameworkIndex> remaining = ConcurrentHashMap.newKeySet();
+    private final Set<FlowFrameworkIndex> inFlight = ConcurrentHashMap.newKeySet();
+    private final Map<FlowFrameworkIndex, AtomicInteger> failedAttempts = new ConcurrentHashMap<>();
+
+    /**
+     * Instantiates a new FlowFrameworkBootstrap
+     * @param flowFrameworkIndicesHandler the handler of the system indices
+     * @param workflowStepFactory the workflow step factory, to warm the step validators
+     * @param flowFrameworkSettings the plugin settings
+     * @param clusterService the cluster service
+     * @param threadPool the OpenSearch thread pool
+     * @param multiTenancyEnabled whether multitenancy is enabled
+     */
+    public FlowFrameworkBootstrap(
+        FlowFrameworkIndicesHandler flowFrameworkIndicesHandler,
+        WorkflowStepFactory workflowStepFactory,
+        FlowFrameworkSettings flowFrameworkSettings,
+        ClusterService clusterService,
+        ThreadPool threadPool,
+        boolean multiTenancyEnabled
+    ) {
+        this.flowFrameworkIndicesHandler = flowFrameworkIndicesHandler;
+        this.workflowStepFactory = workflowStepFactory;
+        this.flowFrameworkSettings = flowFrameworkSettings;
+        this.clusterService = clusterService;
+        this.threadPool = threadPool;
+        this.multiTenancyEnabled = multiTenancyEnabled;
+    }
+
+    /**
+     * Starts initializing the system indices once the cluster state is recovered, and warms the step validators
+     */
+    public void start() {
+        if (!flowFrameworkSettings.isStartupBootstrapEnabled()) {
+            return;
+        }
+        remaining.addAll(EnumSet.of(FlowFrameworkIndex.GLOBAL_CONTEXT, FlowFrameworkIndex.WORKFLOW_STATE, FlowFrameworkIndex.CONFIG));
+        if (flowFrameworkSettings.isTemplateDeduplicationEnabled()) {
+            remaining.add(FlowFrameworkIndex.TEMPLATE_BODY);
+        }
+        clusterService.addListener(this);
+        threadPool.generic().execute(workflowStepFactory::getWorkflowValidator);
+    }
+
+    /**
+     * Whether every system index has been initialized, or left to be initialized on first use
+     * @return true once the bootstrap is complete
+     */
+    public boolean isComplete() {
+        return remaining.isEmpty();
+    }
+
+    @Override
+    public void clusterChanged(ClusterChangedEvent event) {
+        ClusterState state = event.state();
+        if (state.blocks().hasGlobalBlock(GatewayService.STATE_NOT_RECOVERED_BLOCK) || !flowFrameworkSettings.isFlowFrameworkEnabled()) {
+            return;
+        }
+        boolean clusterManager = event.localNodeClusterManager();
+        for (FlowFrameworkIndex index : remaining) {
+            // Only the cluster manager creates missing indices, other nodes initialize them once they exist
+            if (!clusterManager && !multiTenancyEnabled && !state.metadata().hasIndex(index.getIndexName())) {
+                continue;
+            }
+            if (inFlight.add(index)) {
+                threadPool.generic().execute(() -> initialize(index));
+            }
+        }
+    }
+
+    private void initialize(FlowFrameworkIndex index) {
+        ActionListener<Boolean> listener = ActionListener.wrap(initialized -> {
+            if (Boolean.TRUE.equals(initialized)) {
+                logger.debug("Initialized index {} on startup", index.getIndexName());
+                done(index);
+            } else {
+                failed(index, null);
+            }
+        }, e -> failed(index, e));
+        try {
+            if (index == FlowFrameworkIndex.CONFIG && !multiTenancyEnabled) {
+                // Creates the config index if absent, then loads or generates the master key
+                flowFrameworkIndicesHandler.initializeConfigIndex(null, listener);
+            } else {
+                flowFrameworkIndicesHandler.initFlowFrameworkIndexIfAbsent(index, listener);
+            }
+        } catch (Exception e) {
+            failed(index, e);
+        }
+    }
+
+    private void done(FlowFrameworkIndex index) {
+        remaining.remove(index);
+        inFlight.remove(index);
+        if (remaining.isEmpty()) {
+            clusterService.removeListener(this);
+            logger.info("Flow framework system indices are initialized");
+        }
+    }
+
+    private void failed(FlowFrameworkIndex index, Exception e) {
+        int attempts = failedAttempts.computeIfAbsent(index, i -> new AtomicInteger()).incrementAndGet();
+        if (attempts < MAX_ATTEMPTS) {
+            logger.debug("Failed to initialize index {} on startup, retrying on the next cluster state change", index.getIndexName(), e);
+            inFlight.remove(index);
+        } else {
+            logger.warn("Failed to initialize index {} on startup, it will be initialized on first use", index.getIndexName(), e);
+            done(index);
+        }
+    }
+}
@@ -16,6 +16,10 @@ import static org.opensearch.flowframework.common.CommonValue.CONFIG_INDEX;
 import static org.opensearch.flowframework.common.CommonValue.CONFIG_INDEX_VERSION;
 import static org.opensearch.flowframework.common.CommonValue.GLOBAL_CONTEXT_INDEX;
 import static org.opensearch.flowframework.common.CommonValue.GLOBAL_CONTEXT_INDEX_VERSION;
+import static org.opensearch.flowframework.common.CommonValue.SHARED_RESOURCE_INDEX;
+import static org.opensearch.flowframework.common.CommonValue.SHARED_RESOURCE_INDEX_VERSION;
+import static org.opensearch.flowframework.common.CommonValue.TEMPLATE_BODY_INDEX;
+import static org.opensearch.flowframework.common.CommonValue.TEMPLATE_BODY_INDEX_VERSION;
 import static org.opensearch.flowframework.common.CommonValue.WORKFLOW_STATE_INDEX;
 import static org.opensearch.flowframework.common.CommonValue.WORKFLOW_STATE_INDEX_VERSION;
 
@@ -46,6 +50,22 @@ public enum FlowFrameworkIndex {
         CONFIG_INDEX,
         ThrowingSupplierWrapper.throwingSupplierWrapper(FlowFrameworkIndicesHandler::getConfigIndexMappings),
         CONFIG_INDEX_VERSION
+    ),
+    /**
+     * Template Body Index
+     */
+    TEMPLATE_BODY(
+        TEMPLATE_BODY_INDEX,
+        ThrowingSupplierWrapper.throwingSupplierWrapper(FlowFrameworkIndicesHandler::getTemplateBodyMappings),
+        TEMPLATE_BODY_INDEX_VERSION
+    ),
+    /**
+     * Shared Resource Index
+     */
+    SHARED_RESOURCE(
+        SHARED_RESOURCE_INDEX,
+        ThrowingSupplierWrapper.throwingSupplierWrapper(FlowFrameworkIndicesHandler::getSharedResourceMappings),
+        SHARED_RESOURCE_INDEX_VERSION
     );
 
     private final String indexName;
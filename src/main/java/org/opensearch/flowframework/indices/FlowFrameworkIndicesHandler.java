@@ -24,15 +24,22 @@ import org.opensearch.action.index.IndexResponse;
 import org.opensearch.action.update.UpdateResponse;
 import org.opensearch.cluster.metadata.IndexMetadata;
 import org.opensearch.cluster.service.ClusterService;
+import org.opensearch.common.Nullable;
+import org.opensearch.common.metrics.CounterMetric;
+import org.opensearch.common.unit.TimeValue;
 import org.opensearch.common.util.concurrent.ThreadContext;
 import org.opensearch.common.util.concurrent.ThreadContext.StoredContext;
+import org.opensearch.common.xcontent.XContentHelper;
 import org.opensearch.common.xcontent.XContentType;
 import org.opensearch.commons.authuser.User;
 import org.opensearch.core.action.ActionListener;
+import org.opensearch.core.common.Strings;
+import org.opensearch.core.common.bytes.BytesReference;
 import org.opensearch.core.rest.RestStatus;
 import org.opensearch.core.xcontent.NamedXContentRegistry;
+import org.opensearch.core.xcontent.ToXContent;
 import org.opensearch.core.xcontent.ToXContentObject;
-import org.opensearch.core.xcontent.XContentParser;
+import org.opensearch.flowframework.common.FlowFrameworkSettings;
 import org.opensearch.flowframework.exception.FlowFrameworkException;
 import org.opensearch.flowframework.model.ProvisioningProgress;
 import org.opensearch.flowframework.model.ResourceCreated;
@@ -43,32 +50,45 @@ import org.opensearch.flowframework.util.EncryptorUtils;
 import org.opensearch.flowframework.util.ParseUtils;
 import org.opensearch.flowframework.workflow.WorkflowData;
 import org.opensearch.index.IndexNotFoundException;
+import org.opensearch.remote.metadata.client.BulkDataObjectRequest;
+import org.opensearch.remote.metadata.client.DataObjectResponse;
 import org.opensearch.remote.metadata.client.DeleteDataObjectRequest;
 import org.opensearch.remote.metadata.client.GetDataObjectRequest;
 import org.opensearch.remote.metadata.client.PutDataObjectRequest;
 import org.opensearch.remote.metadata.client.SdkClient;
 import org.opensearch.remote.metadata.client.UpdateDataObjectRequest;
 import org.opensearch.remote.metadata.common.SdkClientUtils;
+import org.opensearch.search.fetch.subphase.FetchSourceContext;
 import org.opensearch.transport.client.Client;
 
 import java.io.IOException;
 import java.util.ArrayList;
 import java.util.Collections;
 import java.util.HashMap;
+import java.util.HashSet;
 import java.util.List;
 import java.util.Map;
 import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
 import java.util.function.Consumer;
+import java.util.stream.Collectors;
 
 import static org.opensearch.core.rest.RestStatus.INTERNAL_SERVER_ERROR;
-import static org.opensearch.core.xcontent.XContentParserUtils.ensureExpectedToken;
+import static org.opensearch.flowframework.common.CommonValue.BODY_ENCODING_PARAM;
 import static org.opensearch.flowframework.common.CommonValue.CONFIG_INDEX_MAPPING;
+import static org.opensearch.flowframework.common.CommonValue.ENCODED_BODY_FIELD;
 import static org.opensearch.flowframework.common.CommonValue.GLOBAL_CONTEXT_INDEX;
 import static org.opensearch.flowframework.common.CommonValue.GLOBAL_CONTEXT_INDEX_MAPPING;
 import static org.opensearch.flowframework.common.CommonValue.META;
 import static org.opensearch.flowframework.common.CommonValue.NO_SCHEMA_VERSION;
 import static org.opensearch.flowframework.common.CommonValue.SCHEMA_VERSION_FIELD;
+import static org.opensearch.flowframework.common.CommonValue.SHARED_RESOURCE_INDEX;
+import static org.opensearch.flowframework.common.CommonValue.SHARED_RESOURCE_INDEX_MAPPING;
+import static org.opensearch.flowframework.common.CommonValue.TEMPLATE_BODY_INDEX_MAPPING;
+import static org.opensearch.flowframework.common.CommonValue.USER_OUTPUTS_FIELD;
 import static org.opensearch.flowframework.common.CommonValue.WORKFLOW_STATE_INDEX;
 import static org.opensearch.flowframework.common.CommonValue.WORKFLOW_STATE_INDEX_MAPPING;
 import static org.opensearch.flowframework.common.WorkflowResources.getResourceByWorkflowStep;
@@ -83,6 +103,19 @@ public class FlowFrameworkIndicesHandler {
     private final SdkClient sdkClient;
     private final ClusterService clusterService;
     private final EncryptorUtils encryptorUtils;
+    private final FlowFrameworkSettings flowFrameworkSettings;
+    private final SharedTemplateBodyHandler sharedTemplateBodyHandler;
+    private final SharedResourceHandler sharedResourceHandler;
+    private final WorkflowDocumentCache documentCache;
+    private final WorkflowStateChangeNotifier stateChangeNotifier = new WorkflowStateChangeNotifier();
+    private final CounterMetric stateWriteConflicts = new CounterMetric();
+    private final CounterMetric stateWriteRetries = new CounterMetric();
+    // Retries made while recording the resources of a provisioning step, keyed by workflow id, then step id
+    private final Map<String, Map<String, AtomicInteger>> stepStateWriteRetries = new ConcurrentHashMap<>();
+    // Resources of fanned out steps, keyed by workflow and step id, recorded in the state with a single update
+    private final Map<String, List<ResourceCreated>> bufferedResources = new ConcurrentHashMap<>();
+    // Resources waiting for the resource update in flight for their workflow, keyed by workflow id
+    private final Map<String, List<PendingResource>> pendingStateWrites = new HashMap<>();
     private static final Map<String, AtomicBoolean> indexMappingUpdated = new HashMap<>();
     private static final Map<String, Object> indexSettings = Map.of("index.auto_expand_replicas", "0-1");
     private final NamedXContentRegistry xContentRegistry;
@@ -96,6 +129,7 @@ public class FlowFrameworkIndicesHandler {
      * @param sdkClient the remote metadata client
      * @param clusterService ClusterService
      * @param encryptorUtils encryption utility
+     * @param flowFrameworkSettings the plugin settings
      * @param xContentRegistry contentRegister to parse any response
      * @param multiTenancyEnabled whether multitenancy is enabled
      */
@@ -104,6 +138,7 @@ public class FlowFrameworkIndicesHandler {
         SdkClient sdkClient,
         ClusterService clusterService,
         EncryptorUtils encryptorUtils,
+        FlowFrameworkSettings flowFrameworkSettings,
         NamedXContentRegistry xContentRegistry,
         boolean multiTenancyEnabled
     ) {
@@ -111,6 +146,15 @@ public class FlowFrameworkIndicesHandler {
         this.sdkClient = sdkClient;
         this.clusterService = clusterService;
         this.encryptorUtils = encryptorUtils;
+        this.flowFrameworkSettings = flowFrameworkSettings;
+        this.sharedTemplateBodyHandler = new SharedTemplateBodyHandler(client, sdkClient);
+        this.sharedResourceHandler = new SharedResourceHandler(client, sdkClient);
+        this.documentCache = flowFrameworkSettings == null || flowFrameworkSettings.getDocumentCacheSize() == null
+            ? new WorkflowDocumentCache(0, TimeValue.ZERO)
+            : new WorkflowDocumentCache(
+                flowFrameworkSettings.getDocumentCacheSize().getBytes(),
+                flowFrameworkSettings.getDocumentCacheTtl()
+            );
         for (FlowFrameworkIndex mlIndex : FlowFrameworkIndex.values()) {
             indexMappingUpdated.put(mlIndex.getIndexName(), new AtomicBoolean(false));
         }
@@ -151,6 +195,24 @@ public class FlowFrameworkIndicesHandler {
         return getIndexMappings(CONFIG_INDEX_MAPPING);
     }
 
+    /**
+     * Get template body index mapping
+     * @return template body index mapping
+     * @throws IOException if mapping file cannot be read correctly
+     */
+    public static String getTemplateBodyMappings() throws IOException {
+        return getIndexMappings(TEMPLATE_BODY_INDEX_MAPPING);
+    }
+
+    /**
+     * Get shared resource index mapping
+     * @return shared resource index mapping
+     * @throws IOException if mapping file cannot be read correctly
+     */
+    public static String getSharedResourceMappings() throws IOException {
+        return getIndexMappings(SHARED_RESOURCE_INDEX_MAPPING);
+    }
+
     /**
      * Create global context index if it's absent
      * @param listener The action listener
@@ -167,6 +229,22 @@ public class FlowFrameworkIndicesHandler {
         initFlowFrameworkIndexIfAbsent(FlowFrameworkIndex.WORKFLOW_STATE, listener);
     }
 
+    /**
+     * Create template body index if it's absent
+     * @param listener The action listener
+     */
+    public void initTemplateBodyIndexIfAbsent(ActionListener<Boolean> listener) {
+        initFlowFrameworkIndexIfAbsent(FlowFrameworkIndex.TEMPLATE_BODY, listener);
+    }
+
+    /**
+     * Create shared resource index if it's absent
+     * @param listener The action listener
+     */
+    public void initSharedResourceIndexIfAbsent(ActionListener<Boolean> listener) {
+        initFlowFrameworkIndexIfAbsent(FlowFrameworkIndex.SHARED_RESOURCE, listener);
+    }
+
     /**
      * Create config index if it's absent
      * @param listener The action listener
@@ -359,15 +437,46 @@ public class FlowFrameworkIndicesHandler {
     }
 
     private void putOrReplaceTemplateInGlobalContextIndex(String documentId, Template template, ActionListener<IndexResponse> listener) {
+        if (flowFrameworkSettings == null
+            || !flowFrameworkSettings.isTemplateDeduplicationEnabled()
+            || !SharedTemplateBodyHandler.isDeduplicable(template)) {
+            indexTemplateDocument(documentId, template.getTenantId(), encryptorUtils.encryptTemplateCredentials(template), listener);
+            return;
+        }
+        initTemplateBodyIndexIfAbsent(ActionListener.wrap(indexCreated -> {
+            if (!indexCreated) {
+                listener.onFailure(new FlowFrameworkException("No response to create template body index", INTERNAL_SERVER_ERROR));
+                return;
+            }
+            sharedTemplateBodyHandler.putSharedWorkflows(
+                template,
+                ActionListener.wrap(
+                    referencingDocument -> indexTemplateDocument(documentId, template.getTenantId(), referencingDocument, listener),
+                    listener::onFailure
+                )
+            );
+        }, e -> {
+            logger.error("Failed to create template body index");
+            listener.onFailure(e);
+        }));
+    }
+
+    private void indexTemplateDocument(
+        String documentId,
+        String tenantId,
+        ToXContentObject document,
+        ActionListener<IndexResponse> listener
+    ) {
         PutDataObjectRequest request = PutDataObjectRequest.builder()
             .index(GLOBAL_CONTEXT_INDEX)
             .id(documentId)
-            .tenantId(template.getTenantId())
-            .dataObject(encryptorUtils.encryptTemplateCredentials(template))
+            .tenantId(tenantId)
+            .dataObject(withBodyEncoding(document))
             .build();
         try (ThreadContext.StoredContext context = client.threadPool().getThreadContext().stashContext()) {
             sdkClient.putDataObjectAsync(request).whenComplete((r, throwable) -> {
                 context.restore();
+                documentCache.invalidate(documentId, tenantId);
                 if (throwable == null) {
                     try {
                         IndexResponse indexResponse = IndexResponse.fromXContent(r.parser());
@@ -387,6 +496,55 @@ public class FlowFrameworkIndicesHandler {
         }
     }
 
+    /**
+     * Get the configured document body encoding, or null if none is set
+     */
+    private XContentType getBodyEncoding() {
+        String bodyEncoding = flowFrameworkSettings == null ? null : flowFrameworkSettings.getDocumentBodyEncoding();
+        if (bodyEncoding == null) {
+            return null;
+        }
+        return ParseUtils.getBodyEncoding(new ToXContent.MapParams(Map.of(BODY_ENCODING_PARAM, bodyEncoding)));
+    }
+
+    /**
+     * Apply the configured document body encoding to a workflow state written as an update. Updates merge into the
+     * stored document, so user outputs written inline before they were encoded are cleared.
+     * @param document the document to write
+     * @return the document, writing its unsearched body in the configured binary encoding if one is set
+     */
+    private ToXContentObject withStateBodyEncoding(ToXContentObject document) {
+        if (getBodyEncoding() == null || !(document instanceof WorkflowState)) {
+            return withBodyEncoding(document);
+        }
+        WorkflowState state = (WorkflowState) document;
+        Map<String, String> encodingParams = Map.of(BODY_ENCODING_PARAM, flowFrameworkSettings.getDocumentBodyEncoding());
+        return (builder, params) -> {
+            builder.startObject();
+            state.innerToXContent(builder, new ToXContent.DelegatingMapParams(encodingParams, params));
+            if (state.userOutputs() != null && !state.userOutputs().isEmpty()) {
+                builder.nullField(USER_OUTPUTS_FIELD);
+            }
+            return builder.endObject();
+        };
+    }
+
+    /**
+     * Apply the configured document body encoding to a document written to the global context or workflow state index
+     * @param document the document to write
+     * @return the document, writing its unsearched body in the configured binary encoding if one is set
+     */
+    private ToXContentObject withBodyEncoding(ToXContentObject document) {
+        String bodyEncoding = flowFrameworkSettings == null ? null : flowFrameworkSettings.getDocumentBodyEncoding();
+        if (bodyEncoding == null || "json".equals(bodyEncoding)) {
+            return document;
+        }
+        return (builder, params) -> document.toXContent(
+            builder,
+            new ToXContent.DelegatingMapParams(Map.of(BODY_ENCODING_PARAM, bodyEncoding), params)
+        );
+    }
+
     /**
      * Initializes config index and EncryptorUtils
      * @param tenantId the tenant id
@@ -439,11 +597,13 @@ public class FlowFrameworkIndicesHandler {
                 .index(WORKFLOW_STATE_INDEX)
                 .id(workflowId)
                 .tenantId(tenantId)
-                .dataObject(state)
+                .dataObject(withBodyEncoding(state))
                 .build();
             try (ThreadContext.StoredContext context = client.threadPool().getThreadContext().stashContext()) {
                 sdkClient.putDataObjectAsync(putRequest).whenComplete((r, throwable) -> {
                     context.restore();
+                    documentCache.invalidate(workflowId, tenantId);
+                    stateChangeNotifier.notifyChanged(workflowId, tenantId);
                     if (throwable == null) {
                         try {
                             IndexResponse indexResponse = IndexResponse.fromXContent(r.parser());
@@ -467,6 +627,69 @@ public class FlowFrameworkIndicesHandler {
         }));
     }
 
+    /**
+     * Writes a batch of templates or workflow states in a single bulk request. The indices must already exist.
+     * @param index the global context or workflow state index
+     * @param tenantId the tenant id
+     * @param documents the documents to write, by workflow id
+     * @param overwrite whether to replace existing documents, otherwise writing an existing workflow id fails with a conflict
+     * @param listener action listener, completed with the failure of each document which was not written, by workflow id
+     */
+    public void bulkPutWorkflowDocuments(
+        String index,
+        String tenantId,
+        Map<String, ? extends ToXContentObject> documents,
+        boolean overwrite,
+        ActionListener<Map<String, Exception>> listener
+    ) {
+        if (documents.isEmpty()) {
+            listener.onResponse(Collections.emptyMap());
+            return;
+        }
+        BulkDataObjectRequest bulkRequest = BulkDataObjectRequest.builder().globalIndex(index).build();
+        for (Map.Entry<String, ? extends ToXContentObject> document : documents.entrySet()) {
+            bulkRequest.add(
+                PutDataObjectRequest.builder()
+                    .index(index)
+                    .id(document.getKey())
+                    .tenantId(tenantId)
+                    .overwriteIfExists(overwrite)
+                    .dataObject(withBodyEncoding(document.getValue()))
+                    .build()
+            );
+        }
+        try (ThreadContext.StoredContext context = client.threadPool().getThreadContext().stashContext()) {
+            sdkClient.bulkDataObjectAsync(bulkRequest).whenComplete((r, throwable) -> {
+                context.restore();
+                for (String workflowId : documents.keySet()) {
+                    documentCache.invalidate(workflowId, tenantId);
+                    if (WORKFLOW_STATE_INDEX.equals(index)) {
+                        stateChangeNotifier.notifyChanged(workflowId, tenantId);
+                    }
+                }
+                if (throwable == null) {
+                    Map<String, Exception> failures = new HashMap<>();
+                    for (DataObjectResponse itemResponse : r.getResponses()) {
+                        if (itemResponse.isFailed()) {
+                            failures.put(
+                                itemResponse.id(),
+                                itemResponse.cause() == null
+                                    ? new FlowFrameworkException("Failed to write document", itemResponse.status())
+                                    : itemResponse.cause()
+                            );
+                        }
+                    }
+                    listener.onResponse(failures);
+                } else {
+                    Exception exception = SdkClientUtils.unwrapAndConvertToException(throwable);
+                    String errorMessage = "Failed to bulk write documents to " + index;
+                    logger.error(errorMessage, exception);
+                    listener.onFailure(new FlowFrameworkException(errorMessage, ExceptionsHelper.status(exception)));
+                }
+            });
+        }
+    }
+
     /**
      * Replaces a document in the global context index
      * @param documentId the document Id
@@ -570,13 +793,15 @@ public class FlowFrameworkIndicesHandler {
         sdkClient.getDataObjectAsync(getRequest).whenComplete((r, throwable) -> {
             context.restore();
             if (throwable == null) {
+                GetResponse getResponse;
                 try {
-                    GetResponse getResponse = GetResponse.fromXContent(r.parser());
-                    listener.onResponse(getResponse);
+                    getResponse = GetResponse.fromXContent(r.parser());
                 } catch (IOException e) {
                     logger.error("Failed to parse get response", e);
                     listener.onFailure(new FlowFrameworkException("Failed to parse get response", INTERNAL_SERVER_ERROR));
+                    return;
                 }
+                resolveTemplateReference(getResponse, tenantId, listener);
             } else {
                 Exception exception = SdkClientUtils.unwrapAndConvertToException(throwable);
                 String errorMessage = ParameterizedMessageFactory.INSTANCE.newMessage("Failed to get template {}", documentId)
@@ -587,6 +812,172 @@ public class FlowFrameworkIndicesHandler {
         });
     }
 
+    /**
+     * Resolve a global context document which references a shared workflows section into a complete template source.
+     * Documents holding their workflows inline are passed through unchanged.
+     *
+     * @param getResponse the get response of a global context document
+     * @param tenantId tenant id
+     * @param listener action listener
+     */
+    public void resolveTemplateReference(GetResponse getResponse, String tenantId, ActionListener<GetResponse> listener) {
+        sharedTemplateBodyHandler.resolveTemplateSource(getResponse, tenantId, listener);
+    }
+
+    /**
+     * Resolve the global context documents of a search response which reference a shared workflows section, so that
+     * search results hold complete templates and the requested source filtering applies to their workflows.
+     *
+     * @param content the search response content
+     * @param fetchSource the source filtering requested by the user, may be null
+     * @param tenantId tenant id
+     * @param listener action listener receiving the resolved search response content
+     */
+    public void resolveSearchResponseReferences(
+        BytesReference content,
+        FetchSourceContext fetchSource,
+        String tenantId,
+        ActionListener<BytesReference> listener
+    ) {
+        sharedTemplateBodyHandler.resolveSearchResponse(content, fetchSource, tenantId, listener);
+    }
+
+    /**
+     * Reference the resources created by an earlier step with identical inputs from another workflow
+     *
+     * @param resourceHash the content hash of the step inputs
+     * @param workflowId the id of the workflow reusing the resources
+     * @param tenantId tenant id
+     * @param listener action listener receiving the shared resource document, or null if there are no resources to reuse
+     */
+    public void acquireSharedResource(
+        String resourceHash,
+        String workflowId,
+        String tenantId,
+        ActionListener<Map<String, Object>> listener
+    ) {
+        if (!doesIndexExist(SHARED_RESOURCE_INDEX)) {
+            listener.onResponse(null);
+            return;
+        }
+        sharedResourceHandler.acquire(resourceHash, workflowId, tenantId, listener);
+    }
+
+    /**
+     * Store the resources created by a step so that identical steps of other workflows can reuse them
+     *
+     * @param resourceHash the content hash of the step inputs
+     * @param resources the resources created by the step
+     * @param stepOutputs the outputs of the step
+     * @param workflowId the id of the workflow which created the resources
+     * @param tenantId tenant id
+     * @param listener action listener receiving whether the resources are shared
+     */
+    public void registerSharedResource(
+        String resourceHash,
+        List<ResourceCreated> resources,
+        Map<String, Object> stepOutputs,
+        String workflowId,
+        String tenantId,
+        ActionListener<Boolean> listener
+    ) {
+        initSharedResourceIndexIfAbsent(ActionListener.wrap(indexCreated -> {
+            if (!indexCreated) {
+                listener.onFailure(new FlowFrameworkException("No response to create shared resource index", INTERNAL_SERVER_ERROR));
+                return;
+            }
+            sharedResourceHandler.register(resourceHash, resources, stepOutputs, workflowId, tenantId, listener);
+        }, e -> {
+            logger.error("Failed to create shared resource index");
+            listener.onFailure(e);
+        }));
+    }
+
+    /**
+     * Release the reference of a workflow to a resource before deprovisioning it
+     *
+     * @param resource the resource being deprovisioned
+     * @param workflowId the id of the workflow deprovisioning the resource
+     * @param tenantId tenant id
+     * @param listener action listener receiving true if other workflows still use the resource, which must not be deprovisioned
+     */
+    public void releaseSharedResource(ResourceCreated resource, String workflowId, String tenantId, ActionListener<Boolean> listener) {
+        if (!doesIndexExist(SHARED_RESOURCE_INDEX)) {
+            listener.onResponse(false);
+            return;
+        }
+        sharedResourceHandler.release(resource, workflowId, tenantId, listener);
+    }
+
+    /**
+     * Parse the template held by a global context get response, reusing the node-local cached instance if the document is unchanged
+     *
+     * @param getResponse an existing, resolved global context document
+     * @param tenantId tenant id
+     * @return the parsed template
+     * @throws IOException on failure to parse
+     */
+    public Template parseTemplate(GetResponse getResponse, String tenantId) throws IOException {
+        return documentCache.getTemplate(getResponse, tenantId);
+    }
+
+    /**
+     * Invalidate the node-local cached template and workflow state of a workflow
+     *
+     * @param workflowId workflow id
+     * @param tenantId tenant id
+     */
+    public void invalidateCachedDocuments(String workflowId, String tenantId) {
+        documentCache.invalidate(workflowId, tenantId);
+    }
+
+    /**
+     * Get the node-local cache of parsed templates and workflow states
+     * @return the document cache
+     */
+    public WorkflowDocumentCache getDocumentCache() {
+        return documentCache;
+    }
+
+    /**
+     * Get the notifier of workflow state changes written by this node
+     * @return the state change notifier
+     */
+    public WorkflowStateChangeNotifier getStateChangeNotifier() {
+        return stateChangeNotifier;
+    }
+
+    /**
+     * Get the number of version conflicts returned to workflow state writes by this node.
+     * Conflicts resolved by an update's own retry_on_conflict are not observed.
+     * @return the conflict count
+     */
+    public long getStateWriteConflictCount() {
+        return stateWriteConflicts.count();
+    }
+
+    /**
+     * Get the number of workflow state writes retried by this node after a version conflict
+     * @return the retry count
+     */
+    public long getStateWriteRetryCount() {
+        return stateWriteRetries.count();
+    }
+
+    /**
+     * Get and clear the number of retries made while recording the resources created by the steps of a workflow.
+     * All entries of the workflow are removed, including those of steps which are not part of the timeline.
+     * @param workflowId the workflow id
+     * @return the retry count of each step id which retried
+     */
+    public Map<String, Integer> removeStepStateWriteRetries(String workflowId) {
+        Map<String, AtomicInteger> retries = stepStateWriteRetries.remove(workflowId);
+        if (retries == null) {
+            return Collections.emptyMap();
+        }
+        return retries.entrySet().stream().collect(Collectors.toMap(Map.Entry::getKey, e -> e.getValue().get()));
+    }
+
     /**
      * Get a workflow state from the state index
      *
@@ -596,25 +987,57 @@ public class FlowFrameworkIndicesHandler {
      * @param context the thread context
      */
     public void getWorkflowState(String workflowId, String tenantId, ActionListener<WorkflowState> listener, StoredContext context) {
-        GetDataObjectRequest getRequest = GetDataObjectRequest.builder()
+        getWorkflowState(workflowId, tenantId, null, listener, context);
+    }
+
+    /**
+     * Get a workflow state from the state index, fetching only the given top level fields of the document.
+     * Partial documents bypass the document cache.
+     *
+     * @param workflowId workflow id
+     * @param tenantId tenant id
+     * @param includes the top level fields to fetch, or null to fetch the whole document
+     * @param listener action listener
+     * @param context the thread context
+     */
+    public void getWorkflowState(
+        String workflowId,
+        String tenantId,
+        @Nullable Set<String> includes,
+        ActionListener<WorkflowState> listener,
+        StoredContext context
+    ) {
+        if (includes == null) {
+            WorkflowState cachedState = documentCache.getFreshWorkflowState(workflowId, tenantId);
+            if (cachedState != null) {
+                context.restore();
+                listener.onResponse(cachedState);
+                return;
+            }
+        }
+        GetDataObjectRequest.Builder getRequestBuilder = GetDataObjectRequest.builder()
             .index(WORKFLOW_STATE_INDEX)
             .id(workflowId)
-            .tenantId(tenantId)
-            .build();
+            .tenantId(tenantId);
+        if (includes != null) {
+            Set<String> sourceIncludes = new HashSet<>(includes);
+            // User outputs may be stored in the encoded body
+            if (sourceIncludes.contains(USER_OUTPUTS_FIELD)) {
+                sourceIncludes.add(ENCODED_BODY_FIELD);
+            }
+            getRequestBuilder.fetchSourceContext(new FetchSourceContext(true, sourceIncludes.toArray(new String[0]), Strings.EMPTY_ARRAY));
+        }
+        GetDataObjectRequest getRequest = getRequestBuilder.build();
         sdkClient.getDataObjectAsync(getRequest).whenComplete((r, throwable) -> {
             context.restore();
             if (throwable == null) {
                 try {
                     GetResponse getResponse = GetResponse.fromXContent(r.parser());
                     if (getResponse != null && getResponse.isExists()) {
-                        try (
-                            XContentParser parser = ParseUtils.createXContentParserFromRegistry(
-                                xContentRegistry,
-                                getResponse.getSourceAsBytesRef()
-                            )
-                        ) {
-                            ensureExpectedToken(XContentParser.Token.START_OBJECT, parser.nextToken(), parser);
-                            WorkflowState workflowState = WorkflowState.parse(parser);
+                        try {
+                            WorkflowState workflowState = includes == null
+                                ? documentCache.getWorkflowState(getResponse, tenantId)
+                                : WorkflowState.parse(getResponse.getSourceAsBytesRef());
                             listener.onResponse(workflowState);
                         } catch (Exception e) {
                             String errorMessage = ParameterizedMessageFactory.INSTANCE.newMessage(
@@ -739,11 +1162,13 @@ public class FlowFrameworkIndicesHandler {
                     .index(WORKFLOW_STATE_INDEX)
                     .id(documentId)
                     .tenantId(tenantId)
-                    .dataObject(updatedDocument)
+                    .dataObject(withStateBodyEncoding(updatedDocument))
                     .retryOnConflict(RETRIES)
                     .build();
                 sdkClient.updateDataObjectAsync(updateRequest).whenComplete((r, throwable) -> {
                     context.restore();
+                    documentCache.invalidate(documentId, tenantId);
+                    stateChangeNotifier.notifyChanged(documentId, tenantId);
                     if (throwable == null) {
                         UpdateResponse response;
                         try {
@@ -758,6 +1183,9 @@ public class FlowFrameworkIndicesHandler {
                         }
                     } else {
                         Exception exception = SdkClientUtils.unwrapAndConvertToException(throwable);
+                        if (ExceptionsHelper.status(exception) == RestStatus.CONFLICT) {
+                            stateWriteConflicts.inc();
+                        }
                         String errorMessage = ParameterizedMessageFactory.INSTANCE.newMessage(
                             "Failed to update {} entry : {}",
                             WORKFLOW_STATE_INDEX,
@@ -800,6 +1228,9 @@ public class FlowFrameworkIndicesHandler {
             ).getFormattedMessage();
             logger.error(errorMessage);
             listener.onFailure(new FlowFrameworkException(errorMessage, RestStatus.BAD_REQUEST));
+        } else if (getBodyEncoding() != null && updatedFields.get(USER_OUTPUTS_FIELD) instanceof Map) {
+            // Merging user outputs inline would leave the encoded body stale, so the whole body is rewritten instead
+            getAndUpdateEncodedUserOutputs(documentId, tenantId, updatedFields, RETRIES, listener);
         } else {
             try (ThreadContext.StoredContext context = client.threadPool().getThreadContext().stashContext()) {
                 Map<String, Object> updatedContent = new HashMap<>(updatedFields);
@@ -813,6 +1244,8 @@ public class FlowFrameworkIndicesHandler {
                 // TODO: decide what condition can be considered as an update conflict and add retry strategy
                 sdkClient.updateDataObjectAsync(updateRequest).whenComplete((r, throwable) -> {
                     context.restore();
+                    documentCache.invalidate(documentId, tenantId);
+                    stateChangeNotifier.notifyChanged(documentId, tenantId);
                     if (throwable == null) {
                         try {
                             UpdateResponse response = UpdateResponse.fromXContent(r.parser());
@@ -826,6 +1259,9 @@ public class FlowFrameworkIndicesHandler {
                         }
                     } else {
                         Exception exception = SdkClientUtils.unwrapAndConvertToException(throwable);
+                        if (ExceptionsHelper.status(exception) == RestStatus.CONFLICT) {
+                            stateWriteConflicts.inc();
+                        }
                         String errorMessage = ParameterizedMessageFactory.INSTANCE.newMessage(
                             "Failed to update {} entry : {}",
                             WORKFLOW_STATE_INDEX,
@@ -847,6 +1283,119 @@ public class FlowFrameworkIndicesHandler {
         }
     }
 
+    private void getAndUpdateEncodedUserOutputs(
+        String documentId,
+        String tenantId,
+        Map<String, Object> updatedFields,
+        int retries,
+        ActionListener<UpdateResponse> listener
+    ) {
+        String errorMessage = ParameterizedMessageFactory.INSTANCE.newMessage(
+            "Failed to update {} entry : {}",
+            WORKFLOW_STATE_INDEX,
+            documentId
+        ).getFormattedMessage();
+        GetDataObjectRequest getRequest = GetDataObjectRequest.builder()
+            .index(WORKFLOW_STATE_INDEX)
+            .id(documentId)
+            .tenantId(tenantId)
+            .build();
+        try (ThreadContext.StoredContext context = client.threadPool().getThreadContext().stashContext()) {
+            sdkClient.getDataObjectAsync(getRequest).whenComplete((r, throwable) -> {
+                context.restore();
+                if (throwable != null) {
+                    Exception exception = SdkClientUtils.unwrapAndConvertToException(throwable);
+                    logger.error(errorMessage, exception);
+                    listener.onFailure(new FlowFrameworkException(errorMessage, ExceptionsHelper.status(exception)));
+                    return;
+                }
+                try {
+                    GetResponse getResponse = GetResponse.fromXContent(r.parser());
+                    if (!getResponse.isExists()) {
+                        listener.onFailure(new FlowFrameworkException("Workflow state not found for " + documentId, RestStatus.NOT_FOUND));
+                        return;
+                    }
+                    updateEncodedUserOutputs(documentId, tenantId, updatedFields, retries, getResponse, listener);
+                } catch (Exception e) {
+                    logger.error(errorMessage, e);
+                    listener.onFailure(new FlowFrameworkException(errorMessage, ExceptionsHelper.status(e)));
+                }
+            });
+        }
+    }
+
+    @SuppressWarnings("unchecked")
+    private void updateEncodedUserOutputs(
+        String documentId,
+        String tenantId,
+        Map<String, Object> updatedFields,
+        int retries,
+        GetResponse getResponse,
+        ActionListener<UpdateResponse> listener
+    ) throws IOException {
+        WorkflowState currentState = WorkflowState.parse(getResponse.getSourceAsBytesRef());
+        Map<String, Object> userOutputs = new HashMap<>();
+        if (currentState.userOutputs() != null) {
+            userOutputs.putAll(currentState.userOutputs());
+        }
+        // Same merge as a partial document update would apply to inline user outputs
+        XContentHelper.update(userOutputs, (Map<String, Object>) updatedFields.get(USER_OUTPUTS_FIELD), false);
+        XContentType bodyEncoding = getBodyEncoding();
+        ToXContentObject updatedDocument = (builder, params) -> {
+            builder.startObject();
+            for (Map.Entry<String, Object> e : updatedFields.entrySet()) {
+                if (!USER_OUTPUTS_FIELD.equals(e.getKey())) {
+                    builder.field(e.getKey(), e.getValue());
+                }
+            }
+            ParseUtils.writeEncodedBody(builder, bodyEncoding, body -> body.field(USER_OUTPUTS_FIELD, userOutputs));
+            builder.nullField(USER_OUTPUTS_FIELD);
+            return builder.endObject();
+        };
+        UpdateDataObjectRequest updateRequest = UpdateDataObjectRequest.builder()
+            .index(WORKFLOW_STATE_INDEX)
+            .id(documentId)
+            .tenantId(tenantId)
+            .dataObject(updatedDocument)
+            .ifSeqNo(getResponse.getSeqNo())
+            .ifPrimaryTerm(getResponse.getPrimaryTerm())
+            .build();
+        try (ThreadContext.StoredContext context = client.threadPool().getThreadContext().stashContext()) {
+            sdkClient.updateDataObjectAsync(updateRequest).whenComplete((r, throwable) -> {
+                context.restore();
+                documentCache.invalidate(documentId, tenantId);
+                stateChangeNotifier.notifyChanged(documentId, tenantId);
+                if (throwable == null) {
+                    try {
+                        UpdateResponse response = UpdateResponse.fromXContent(r.parser());
+                        logger.info("Updated workflow state doc: {}", documentId);
+                        listener.onResponse(response);
+                    } catch (Exception e) {
+                        logger.error("Failed to parse update response", e);
+                        listener.onFailure(new FlowFrameworkException("Failed to parse update response", RestStatus.INTERNAL_SERVER_ERROR));
+                    }
+                    return;
+                }
+                Exception exception = SdkClientUtils.unwrapAndConvertToException(throwable);
+                if (ExceptionsHelper.status(exception) == RestStatus.CONFLICT) {
+                    stateWriteConflicts.inc();
+                    if (retries > 0) {
+                        stateWriteRetries.inc();
+                        getAndUpdateEncodedUserOutputs(documentId, tenantId, updatedFields, retries - 1, listener);
+                        return;
+                    }
+                }
+                String errorMessage = ParameterizedMessageFactory.INSTANCE.newMessage(
+                    "Failed to update {} entry : {}",
+                    WORKFLOW_STATE_INDEX,
+                    documentId
+                ).getFormattedMessage();
+                logger.error(errorMessage, exception);
+                listener.onFailure(new FlowFrameworkException(errorMessage, ExceptionsHelper.status(exception)));
+            });
+        }
+    }
+
     /**
      * Deletes a document in the workflow state index
      * @param documentId the document ID
@@ -871,6 +1420,8 @@ public class FlowFrameworkIndicesHandler {
                     .build();
                 sdkClient.deleteDataObjectAsync(deleteRequest).whenComplete((r, throwable) -> {
                     context.restore();
+                    documentCache.invalidate(documentId, tenantId);
+                    stateChangeNotifier.notifyChanged(documentId, tenantId);
                     if (throwable == null) {
                         try {
                             DeleteResponse response = DeleteResponse.fromXContent(r.parser());
@@ -913,6 +1464,28 @@ public class FlowFrameworkIndicesHandler {
         String resourceId,
         String tenantId,
         ActionListener<WorkflowData> listener
+    ) {
+        addResourceToStateIndex(currentNodeInputs, nodeId, workflowStepName, resourceId, null, tenantId, listener);
+    }
+
+    /**
+     * Adds a resource shared with other workflows to the state index, including common exception handling
+     * @param currentNodeInputs Inputs to the current node
+     * @param nodeId current process node (workflow step) id
+     * @param workflowStepName the workflow step name that created the resource
+     * @param resourceId the id of the resource
+     * @param resourceHash the hash of the shared resources the resource belongs to, or null if it is not shared
+     * @param tenantId the tenant id
+     * @param listener the ActionListener for this step to handle completing the future after update
+     */
+    public void addResourceToStateIndex(
+        WorkflowData currentNodeInputs,
+        String nodeId,
+        String workflowStepName,
+        String resourceId,
+        String resourceHash,
+        String tenantId,
+        ActionListener<WorkflowData> listener
     ) {
         String workflowId = currentNodeInputs.getWorkflowId();
         if (!validateStateIndexExists(workflowId, listener)) {
@@ -920,11 +1493,111 @@ public class FlowFrameworkIndicesHandler {
         }
         String resourceName = getResourceByWorkflowStep(workflowStepName);
         ResourceCreated newResource = new ResourceCreated(workflowStepName, nodeId, resourceName, resourceId);
+        if (resourceHash != null) {
+            newResource = newResource.withResourceHash(resourceHash);
+        }
+        List<ResourceCreated> buffer = bufferedResources.get(workflowId + "/" + nodeId);
+        if (buffer != null) {
+            buffer.add(newResource);
+            listener.onResponse(new WorkflowData(Map.of(resourceName, resourceId), workflowId, nodeId));
+            return;
+        }
+        PendingResource pendingResource;
+        try (ThreadContext.StoredContext context = client.threadPool().getThreadContext().stashContext()) {
+            pendingResource = new PendingResource(newResource, tenantId, ActionListener.runBefore(listener, context::restore));
+        }
+        // Resources added by sibling steps while an update of their workflow is in flight are grouped in the next update
+        boolean write;
+        synchronized (pendingStateWrites) {
+            List<PendingResource> queued = pendingStateWrites.get(workflowId);
+            write = queued == null;
+            if (write) {
+                pendingStateWrites.put(workflowId, new ArrayList<>());
+            } else {
+                queued.add(pendingResource);
+            }
+        }
+        if (write) {
+            writePendingResources(workflowId, List.of(pendingResource));
+        }
+    }
+
+    /**
+     * Adds resources to the state index with a single update, then writes the resources queued for the workflow meanwhile
+     * @param workflowId The workflow document id in the state index
+     * @param batch the resources to add
+     */
+    private void writePendingResources(String workflowId, List<PendingResource> batch) {
+        List<ResourceCreated> resources = batch.stream().map(p -> p.resource).collect(Collectors.toList());
+        ActionListener<WorkflowData> batchListener = ActionListener.wrap(r -> {
+            writeNextPendingResources(workflowId);
+            for (PendingResource p : batch) {
+                p.listener.onResponse(
+                    new WorkflowData(Map.of(p.resource.resourceType(), p.resource.resourceId()), workflowId, p.resource.workflowStepId())
+                );
+            }
+        }, e -> {
+            writeNextPendingResources(workflowId);
+            batch.forEach(p -> p.listener.onFailure(e));
+        });
+        try (ThreadContext.StoredContext context = client.threadPool().getThreadContext().stashContext()) {
+            getAndUpdateResourceInStateDocumentWithRetries(
+                workflowId,
+                batch.get(0).tenantId,
+                resources,
+                OpType.INDEX,
+                RETRIES,
+                batchListener
+            );
+        } catch (Exception e) {
+            batchListener.onFailure(e);
+        }
+    }
+
+    private void writeNextPendingResources(String workflowId) {
+        List<PendingResource> next;
+        synchronized (pendingStateWrites) {
+            next = pendingStateWrites.remove(workflowId);
+            if (next == null || next.isEmpty()) {
+                return;
+            }
+            pendingStateWrites.put(workflowId, new ArrayList<>());
+        }
+        logger.debug("Adding {} queued resources to the state of {}", next.size(), workflowId);
+        writePendingResources(workflowId, next);
+    }
+
+    /**
+     * Starts buffering the resources added to the state index by a step, until they are flushed with a single state update
+     * @param workflowId The workflow document id in the state index
+     * @param nodeId current process node (workflow step) id
+     */
+    public void bufferResources(String workflowId, String nodeId) {
+        bufferedResources.put(workflowId + "/" + nodeId, Collections.synchronizedList(new ArrayList<>()));
+    }
+
+    /**
+     * Adds the resources buffered for a step to the state index with a single update, and stops buffering them
+     * @param workflowId The workflow document id in the state index
+     * @param nodeId current process node (workflow step) id
+     * @param tenantId the tenant id
+     * @param listener the ActionListener notified after the update, with a null response if nothing was buffered
+     */
+    public void flushResources(String workflowId, String nodeId, String tenantId, ActionListener<WorkflowData> listener) {
+        List<ResourceCreated> buffer = bufferedResources.remove(workflowId + "/" + nodeId);
+        if (buffer == null || buffer.isEmpty()) {
+            listener.onResponse(null);
+            return;
+        }
+        List<ResourceCreated> resources;
+        synchronized (buffer) {
+            resources = List.copyOf(buffer);
+        }
         try (ThreadContext.StoredContext context = client.threadPool().getThreadContext().stashContext()) {
             getAndUpdateResourceInStateDocumentWithRetries(
                 workflowId,
                 tenantId,
-                newResource,
+                resources,
                 OpType.INDEX,
                 RETRIES,
                 ActionListener.runBefore(listener, context::restore)
@@ -952,7 +1625,7 @@ public class FlowFrameworkIndicesHandler {
             getAndUpdateResourceInStateDocumentWithRetries(
                 workflowId,
                 tenantId,
-                resourceToDelete,
+                List.of(resourceToDelete),
                 OpType.DELETE,
                 RETRIES,
                 ActionListener.runBefore(listener, context::restore)
@@ -960,6 +1633,35 @@ public class FlowFrameworkIndicesHandler {
         }
     }
 
+    /**
+     * Records the hash of the shared resources they belong to on resources already in the state index, so that deprovisioning
+     * the workflow releases them
+     * @param workflowId The workflow document id in the state index
+     * @param tenantId The tenant id
+     * @param sharedResources The resources, with the hash of their shared resources
+     * @param listener the ActionListener notified after the update
+     */
+    public void recordSharedResources(
+        String workflowId,
+        String tenantId,
+        List<ResourceCreated> sharedResources,
+        ActionListener<WorkflowData> listener
+    ) {
+        if (!validateStateIndexExists(workflowId, listener)) {
+            return;
+        }
+        try (ThreadContext.StoredContext context = client.threadPool().getThreadContext().stashContext()) {
+            getAndUpdateResourceInStateDocumentWithRetries(
+                workflowId,
+                tenantId,
+                sharedResources,
+                OpType.UPDATE,
+                RETRIES,
+                ActionListener.runBefore(listener, context::restore)
+            );
+        }
+    }
+
     private boolean validateStateIndexExists(String workflowId, ActionListener<WorkflowData> listener) {
         if (!doesIndexExist(WORKFLOW_STATE_INDEX)) {
             String errorMessage = ParameterizedMessageFactory.INSTANCE.newMessage(
@@ -978,15 +1680,16 @@ public class FlowFrameworkIndicesHandler {
      * Performs a get and update of a State Index document adding or removing a resource with strong consistency and retries
      * @param workflowId The document id to update
      * @param tenantId
-     * @param resource The resource to add or remove from the resources created list
-     * @param operation The operation to perform on the resource (INDEX to append to the list or DELETE to remove)
+     * @param resources The resources to add or remove from the resources created list
+     * @param operation The operation to perform on the resource (INDEX to append to the list, UPDATE to replace the matching
+     *     resources or DELETE to remove)
      * @param retries The number of retries on update version conflicts
      * @param listener The listener to complete on success or failure
      */
     private void getAndUpdateResourceInStateDocumentWithRetries(
         String workflowId,
         String tenantId,
-        ResourceCreated resource,
+        List<ResourceCreated> resources,
         OpType operation,
         int retries,
         ActionListener<WorkflowData> listener
@@ -1000,14 +1703,14 @@ public class FlowFrameworkIndicesHandler {
             if (throwable == null) {
                 try {
                     GetResponse getResponse = GetResponse.fromXContent(r.parser());
-                    handleStateGetResponse(workflowId, tenantId, resource, operation, retries, listener, getResponse);
+                    handleStateGetResponse(workflowId, tenantId, resources, operation, retries, listener, getResponse);
                 } catch (Exception e) {
                     logger.error("Failed to parse get response", e);
                     listener.onFailure(new FlowFrameworkException("Failed to parse get response", INTERNAL_SERVER_ERROR));
                 }
             } else {
                 Exception ex = SdkClientUtils.unwrapAndConvertToException(throwable);
-                handleStateUpdateException(workflowId, tenantId, resource, operation, 0, listener, ex);
+                handleStateUpdateException(workflowId, tenantId, resources, operation, 0, listener, ex);
             }
         });
     }
@@ -1015,7 +1718,7 @@ public class FlowFrameworkIndicesHandler {
     private void handleStateGetResponse(
         String workflowId,
         String tenantId,
-        ResourceCreated resource,
+        List<ResourceCreated> resources,
         OpType operation,
         int retries,
         ActionListener<WorkflowData> listener,
@@ -1026,28 +1729,32 @@ public class FlowFrameworkIndicesHandler {
             return;
         }
         try {
-            WorkflowState currentState = WorkflowState.parse(getResponse.getSourceAsString());
+            WorkflowState currentState = WorkflowState.parse(getResponse.getSourceAsBytesRef());
             List<ResourceCreated> resourcesCreated = new ArrayList<>(currentState.resourcesCreated());
             if (operation == OpType.DELETE) {
-                resourcesCreated.removeIf(r -> r.resourceMap().equals(resource.resourceMap()));
+                resourcesCreated.removeIf(r -> resources.stream().anyMatch(resource -> r.resourceMap().equals(resource.resourceMap())));
+            } else if (operation == OpType.UPDATE) {
+                resourcesCreated.replaceAll(r -> resources.stream().filter(resource -> isSameResource(r, resource)).findFirst().orElse(r));
             } else {
-                resourcesCreated.add(resource);
+                resourcesCreated.addAll(resources);
             }
             WorkflowState newState = WorkflowState.builder(currentState).resourcesCreated(resourcesCreated).build();
             UpdateDataObjectRequest updateRequest = UpdateDataObjectRequest.builder()
                 .index(WORKFLOW_STATE_INDEX)
                 .id(workflowId)
                 .tenantId(tenantId)
-                .dataObject(newState)
+                .dataObject(withStateBodyEncoding(newState))
                 .ifSeqNo(getResponse.getSeqNo())
                 .ifPrimaryTerm(getResponse.getPrimaryTerm())
                 .build();
             sdkClient.updateDataObjectAsync(updateRequest).whenComplete((r, throwable) -> {
+                documentCache.invalidate(workflowId, tenantId);
+                stateChangeNotifier.notifyChanged(workflowId, tenantId);
                 if (throwable == null) {
-                    handleStateUpdateSuccess(workflowId, resource, operation, listener);
+                    handleStateUpdateSuccess(workflowId, resources, operation, listener);
                 } else {
                     Exception e = SdkClientUtils.unwrapAndConvertToException(throwable);
-                    handleStateUpdateException(workflowId, tenantId, resource, operation, retries, listener, e);
+                    handleStateUpdateException(workflowId, tenantId, resources, operation, retries, listener, e);
                 }
             });
         } catch (Exception e) {
@@ -1062,47 +1769,85 @@ public class FlowFrameworkIndicesHandler {
 
     private void handleStateUpdateSuccess(
         String workflowId,
-        ResourceCreated newResource,
+        List<ResourceCreated> resources,
         OpType operation,
         ActionListener<WorkflowData> listener
     ) {
-        String resourceName = newResource.resourceType();
-        String resourceId = newResource.resourceId();
-        String nodeId = newResource.workflowStepId();
+        String nodeId = resources.get(0).workflowStepId();
         logger.info(
-            "Updated resources created for {} on step {} to {} resource {} {}",
+            "Updated resources created for {} on step {} to {} resources {}",
             workflowId,
             nodeId,
-            operation.equals(OpType.DELETE) ? "delete" : "add",
-            resourceName,
-            resourceId
+            describe(operation),
+            resources
         );
-        listener.onResponse(new WorkflowData(Map.of(resourceName, resourceId), workflowId, nodeId));
+        // A fanned out step adds several resources of the same type, the last one is returned
+        Map<String, Object> content = resources.stream()
+            .collect(Collectors.toMap(ResourceCreated::resourceType, ResourceCreated::resourceId, (first, last) -> last));
+        listener.onResponse(new WorkflowData(content, workflowId, nodeId));
     }
 
     private void handleStateUpdateException(
         String workflowId,
         String tenantId,
-        ResourceCreated newResource,
+        List<ResourceCreated> resources,
         OpType operation,
         int retries,
         ActionListener<WorkflowData> listener,
         Exception e
     ) {
-        if (e instanceof OpenSearchStatusException && ((OpenSearchStatusException) e).status() == RestStatus.CONFLICT && retries > 0) {
+        boolean isConflict = e instanceof OpenSearchStatusException && ((OpenSearchStatusException) e).status() == RestStatus.CONFLICT;
+        if (isConflict) {
+            stateWriteConflicts.inc();
+        }
+        if (isConflict && retries > 0) {
             // Retry if we haven't exhausted retries
-            getAndUpdateResourceInStateDocumentWithRetries(workflowId, tenantId, newResource, operation, retries - 1, listener);
+            stateWriteRetries.inc();
+            if (operation == OpType.INDEX) {
+                stepStateWriteRetries.computeIfAbsent(workflowId, k -> new ConcurrentHashMap<>())
+                    .computeIfAbsent(resources.get(0).workflowStepId(), k -> new AtomicInteger())
+                    .incrementAndGet();
+            }
+            getAndUpdateResourceInStateDocumentWithRetries(workflowId, tenantId, resources, operation, retries - 1, listener);
             return;
         }
         String errorMessage = ParameterizedMessageFactory.INSTANCE.newMessage(
-            "Failed to update workflow state for {} on step {} to {} resource {} {}",
+            "Failed to update workflow state for {} on step {} to {} resource {}",
             workflowId,
-            newResource.workflowStepId(),
-            operation.equals(OpType.DELETE) ? "delete" : "add",
-            newResource.resourceType(),
-            newResource.resourceId()
+            resources.get(0).workflowStepId(),
+            describe(operation),
+            resources.size() == 1 ? resources.get(0).resourceType() + " " + resources.get(0).resourceId() : resources
         ).getFormattedMessage();
         logger.error(errorMessage, e);
         listener.onFailure(new FlowFrameworkException(errorMessage, ExceptionsHelper.status(e)));
     }
+
+    private static boolean isSameResource(ResourceCreated resource, ResourceCreated other) {
+        return resource.workflowStepId().equals(other.workflowStepId())
+            && resource.workflowStepName().equals(other.workflowStepName())
+            && resource.resourceId().equals(other.resourceId());
+    }
+
+    private static String describe(OpType operation) {
+        switch (operation) {
+            case DELETE:
+                return "delete";
+            case UPDATE:
+                return "update";
+            default:
+                return "add";
+        }
+    }
+
+    private static class PendingResource {
+        private final ResourceCreated resource;
+        private final String tenantId;
+        private final ActionListener<WorkflowData> listener;
+
+        PendingResource(ResourceCreated resource, String tenantId, ActionListener<WorkflowData> listener) {
+            this.resource = resource;
+            this.tenantId = tenantId;
+            this.listener = listener;
+        }
+    }
 }
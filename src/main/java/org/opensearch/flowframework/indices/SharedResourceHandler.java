@@ -0,0 +1,384 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * The OpenSearch Contributors require contributions made to
+ * this file be licensed under the Apache-2.0 license or a
+ * compatible open source license.
+ */
+package org.opensearch.flowframework.indices;
+
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+import org.opensearch.ExceptionsHelper;
+import org.opensearch.action.get.GetResponse;
+import org.opensearch.common.util.concurrent.ThreadContext;
+import org.opensearch.common.xcontent.XContentFactory;
+import org.opensearch.commons.authuser.User;
+import org.opensearch.core.action.ActionListener;
+import org.opensearch.core.common.bytes.BytesReference;
+import org.opensearch.core.rest.RestStatus;
+import org.opensearch.core.xcontent.ToXContentObject;
+import org.opensearch.flowframework.exception.FlowFrameworkException;
+import org.opensearch.flowframework.model.ResourceCreated;
+import org.opensearch.remote.metadata.client.DeleteDataObjectRequest;
+import org.opensearch.remote.metadata.client.GetDataObjectRequest;
+import org.opensearch.remote.metadata.client.PutDataObjectRequest;
+import org.opensearch.remote.metadata.client.SdkClient;
+import org.opensearch.remote.metadata.client.UpdateDataObjectRequest;
+import org.opensearch.remote.metadata.common.SdkClientUtils;
+import org.opensearch.transport.client.Client;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.HexFormat;
+import java.util.List;
+import java.util.Map;
+
+import static org.opensearch.flowframework.common.CommonValue.CREATE_TIME;
+import static org.opensearch.flowframework.common.CommonValue.CREDENTIAL_FIELD;
+import static org.opensearch.flowframework.common.CommonValue.LAST_UPDATED_TIME_FIELD;
+import static org.opensearch.flowframework.common.CommonValue.RESOURCES_CREATED_FIELD;
+import static org.opensearch.flowframework.common.CommonValue.RESOURCE_HASH_FIELD;
+import static org.opensearch.flowframework.common.CommonValue.SHARED_RESOURCE_INDEX;
+import static org.opensearch.flowframework.common.CommonValue.STEP_OUTPUTS_FIELD;
+import static org.opensearch.flowframework.common.CommonValue.TENANT_ID_FIELD;
+import static org.opensearch.flowframework.common.CommonValue.WORKFLOW_IDS_FIELD;
+
+/**
+ * Records the resources created by workflow steps which opted into reuse, keyed by a hash of the normalized step inputs,
+ * together with the workflows referencing them. A resource is only deprovisioned once no other workflow references it.
+ */
+public class SharedResourceHandler {
+    private static final Logger logger = LogManager.getLogger(SharedResourceHandler.class);
+
+    // Retries in case of simultaneous updates of the workflows referencing a shared resource
+    private static final int RETRIES = 5;
+
+    private final Client client;
+    private final SdkClient sdkClient;
+
+    /**
+     * Instantiate this class
+     * @param client the OpenSearch client
+     * @param sdkClient the remote metadata client
+     */
+    public SharedResourceHandler(Client client, SdkClient sdkClient) {
+        this.client = client;
+        this.sdkClient = sdkClient;
+    }
+
+    /**
+     * Compute the document id of the resources created by a step. Credentials are replaced by a fingerprint of their
+     * plaintext value, so that steps with the same credentials match however the credentials were encrypted at rest.
+     * The tenant id is part of the hash so that resources are never shared between tenants when multitenancy is enabled,
+     * and so are the name and backend roles of the owner of the workflow, so that resources are only shared between
+     * workflows of the same owner when security is enabled.
+     * @param workflowStepName the name of the step creating the resources
+     * @param inputs the resolved inputs of the step
+     * @param tenantId the tenant id, may be null
+     * @param owner the user owning the workflow, may be null
+     * @return the hex encoded SHA-256 content hash
+     */
+    public static String computeResourceHash(String workflowStepName, Map<String, Object> inputs, String tenantId, User owner) {
+        Map<String, Object> normalized = new HashMap<>(inputs);
+        if (normalized.get(CREDENTIAL_FIELD) instanceof Map) {
+            Map<String, Object> fingerprints = new HashMap<>();
+            for (Map.Entry<?, ?> e : ((Map<?, ?>) normalized.get(CREDENTIAL_FIELD)).entrySet()) {
+                fingerprints.put(e.getKey().toString(), sha256(String.valueOf(e.getValue()).getBytes(StandardCharsets.UTF_8)));
+            }
+            normalized.put(CREDENTIAL_FIELD, fingerprints);
+        }
+        BytesReference normalizedInputs;
+        try {
+            @SuppressWarnings("unchecked")
+            Map<String, Object> sorted = (Map<String, Object>) SharedTemplateBodyHandler.sortKeys(normalized);
+            normalizedInputs = BytesReference.bytes(XContentFactory.jsonBuilder().map(sorted));
+        } catch (IOException e) {
+            throw new FlowFrameworkException("Unable to normalize step inputs", RestStatus.INTERNAL_SERVER_ERROR);
+        }
+        StringBuilder content = new StringBuilder();
+        if (tenantId != null) {
+            content.append(tenantId).append('\0');
+        }
+        if (owner != null) {
+            List<String> backendRoles = owner.getBackendRoles() == null ? new ArrayList<>() : new ArrayList<>(owner.getBackendRoles());
+            Collections.sort(backendRoles);
+            content.append(owner.getName()).append('\0').append(String.join(",", backendRoles)).append('\0');
+        }
+        content.append(workflowStepName).append('\0').append(normalizedInputs.utf8ToString());
+        return sha256(content.toString().getBytes(StandardCharsets.UTF_8));
+    }
+
+    private static String sha256(byte[] content) {
+        try {
+            return HexFormat.of().formatHex(MessageDigest.getInstance("SHA-256").digest(content));
+        } catch (NoSuchAlgorithmException e) {
+            throw new FlowFrameworkException("Unable to compute resource hash", RestStatus.INTERNAL_SERVER_ERROR);
+        }
+    }
+
+    /**
+     * Add a workflow to the references of the resources stored under a hash
+     * @param resourceHash the content hash of the step inputs
+     * @param workflowId the id of the workflow reusing the resources
+     * @param tenantId the tenant id
+     * @param listener action listener receiving the shared resource document, or null if there are no resources to reuse
+     */
+    public void acquire(String resourceHash, String workflowId, String tenantId, ActionListener<Map<String, Object>> listener) {
+        acquire(resourceHash, workflowId, tenantId, RETRIES, listener);
+    }
+
+    private void acquire(
+        String resourceHash,
+        String workflowId,
+        String tenantId,
+        int retries,
+        ActionListener<Map<String, Object>> listener
+    ) {
+        getSharedResource(resourceHash, tenantId, ActionListener.wrap(getResponse -> {
+            if (!getResponse.isExists()) {
+                listener.onResponse(null);
+                return;
+            }
+            Map<String, Object> source = getResponse.getSourceAsMap();
+            List<String> workflowIds = workflowIds(source);
+            if (workflowIds.contains(workflowId)) {
+                // Provisioned again after a failure, the workflow already holds a reference
+                listener.onResponse(source);
+                return;
+            }
+            if (workflowIds.isEmpty()) {
+                // The last reference was released and the resources are being deprovisioned
+                deleteSharedResource(resourceHash, tenantId);
+                listener.onResponse(null);
+                return;
+            }
+            workflowIds.add(workflowId);
+            updateWorkflowIds(getResponse, workflowIds, tenantId, ActionListener.wrap(r -> {
+                logger.info("Workflow {} reuses the resources of {}", workflowId, resourceHash);
+                listener.onResponse(source);
+            }, e -> {
+                if (isConflict(e) && retries > 0) {
+                    acquire(resourceHash, workflowId, tenantId, retries - 1, listener);
+                } else {
+                    listener.onFailure(e);
+                }
+            }));
+        }, listener::onFailure));
+    }
+
+    /**
+     * Store the resources created by a step under the hash of its inputs, referenced by the workflow which created them
+     * @param resourceHash the content hash of the step inputs
+     * @param resources the resources created by the step
+     * @param stepOutputs the outputs of the step, returned to the workflows reusing its resources
+     * @param workflowId the id of the workflow which created the resources
+     * @param tenantId the tenant id
+     * @param listener action listener receiving true if the resources were stored, or false if an identical step of another
+     *     workflow stored its own resources first, in which case these resources are not shared
+     */
+    public void register(
+        String resourceHash,
+        List<ResourceCreated> resources,
+        Map<String, Object> stepOutputs,
+        String workflowId,
+        String tenantId,
+        ActionListener<Boolean> listener
+    ) {
+        ToXContentObject document = (builder, params) -> {
+            builder.startObject();
+            builder.field(RESOURCE_HASH_FIELD, resourceHash);
+            builder.startArray(RESOURCES_CREATED_FIELD);
+            for (ResourceCreated resource : resources) {
+                resource.toXContent(builder, params);
+            }
+            builder.endArray();
+            builder.field(STEP_OUTPUTS_FIELD, stepOutputs);
+            builder.field(WORKFLOW_IDS_FIELD, List.of(workflowId));
+            long now = Instant.now().toEpochMilli();
+            builder.field(CREATE_TIME, now);
+            builder.field(LAST_UPDATED_TIME_FIELD, now);
+            if (tenantId != null) {
+                builder.field(TENANT_ID_FIELD, tenantId);
+            }
+            return builder.endObject();
+        };
+        PutDataObjectRequest putRequest = PutDataObjectRequest.builder()
+            .index(SHARED_RESOURCE_INDEX)
+            .id(resourceHash)
+            .tenantId(tenantId)
+            .overwriteIfExists(false)
+            .dataObject(document)
+            .build();
+        try (ThreadContext.StoredContext context = client.threadPool().getThreadContext().stashContext()) {
+            sdkClient.putDataObjectAsync(putRequest).whenComplete((r, throwable) -> {
+                context.restore();
+                if (throwable == null) {
+                    logger.info("Stored shared resources {} of workflow {}", resourceHash, workflowId);
+                    listener.onResponse(true);
+                    return;
+                }
+                Exception exception = SdkClientUtils.unwrapAndConvertToException(throwable);
+                if (isConflict(exception)) {
+                    // An identical step of another workflow stored its resources first, these stay owned by this workflow alone
+                    logger.info("Resources {} of workflow {} are not shared", resourceHash, workflowId);
+                    listener.onResponse(false);
+                } else {
+                    String errorMessage = "Failed to store shared resources " + resourceHash;
+                    logger.error(errorMessage, exception);
+                    listener.onFailure(new FlowFrameworkException(errorMessage, ExceptionsHelper.status(exception)));
+                }
+            });
+        }
+    }
+
+    /**
+     * Remove a workflow from the references of the shared resources containing a resource.
+     * <p>
+     * The shared resources are fetched with a realtime get by the hash recorded with the resource in the workflow state, so a
+     * reference taken by another workflow just before is never missed.
+     * @param resource the resource being deprovisioned
+     * @param workflowId the id of the workflow deprovisioning the resource
+     * @param tenantId the tenant id
+     * @param listener action listener receiving true if other workflows still reference the resource, which must then be
+     *     kept, or false if the resource may be deprovisioned
+     */
+    public void release(ResourceCreated resource, String workflowId, String tenantId, ActionListener<Boolean> listener) {
+        if (resource.resourceHash() == null) {
+            // Not shared with other workflows
+            listener.onResponse(false);
+            return;
+        }
+        release(resource.resourceHash(), workflowId, tenantId, RETRIES, listener);
+    }
+
+    private void release(String resourceHash, String workflowId, String tenantId, int retries, ActionListener<Boolean> listener) {
+        getSharedResource(resourceHash, tenantId, ActionListener.wrap(getResponse -> {
+            if (!getResponse.isExists()) {
+                listener.onResponse(false);
+                return;
+            }
+            List<String> workflowIds = workflowIds(getResponse.getSourceAsMap());
+            boolean referenced = workflowIds.remove(workflowId);
+            if (!workflowIds.isEmpty() && !referenced) {
+                // Released with another resource created by the same step
+                listener.onResponse(true);
+                return;
+            }
+            if (workflowIds.isEmpty() && !referenced) {
+                listener.onResponse(false);
+                return;
+            }
+            // Clear the references before deleting, so that the resources can not be acquired while being deprovisioned
+            updateWorkflowIds(getResponse, workflowIds, tenantId, ActionListener.wrap(r -> {
+                if (!workflowIds.isEmpty()) {
+                    logger.info("Workflow {} released the resources of {}, still used by {}", workflowId, resourceHash, workflowIds);
+                    listener.onResponse(true);
+                    return;
+                }
+                deleteSharedResource(resourceHash, tenantId);
+                listener.onResponse(false);
+            }, e -> {
+                if (isConflict(e) && retries > 0) {
+                    release(resourceHash, workflowId, tenantId, retries - 1, listener);
+                } else {
+                    listener.onFailure(e);
+                }
+            }));
+        }, listener::onFailure));
+    }
+
+    private void getSharedResource(String resourceHash, String tenantId, ActionListener<GetResponse> listener) {
+        GetDataObjectRequest getRequest = GetDataObjectRequest.builder()
+            .index(SHARED_RESOURCE_INDEX)
+            .id(resourceHash)
+            .tenantId(tenantId)
+            .build();
+        try (ThreadContext.StoredContext context = client.threadPool().getThreadContext().stashContext()) {
+            sdkClient.getDataObjectAsync(getRequest).whenComplete((r, throwable) -> {
+                context.restore();
+                if (throwable != null) {
+                    Exception exception = SdkClientUtils.unwrapAndConvertToException(throwable);
+                    String errorMessage = "Failed to get shared resources " + resourceHash;
+                    logger.error(errorMessage, exception);
+                    listener.onFailure(new FlowFrameworkException(errorMessage, ExceptionsHelper.status(exception)));
+                    return;
+                }
+                try {
+                    listener.onResponse(GetResponse.fromXContent(r.parser()));
+                } catch (Exception e) {
+                    logger.error("Failed to parse get response", e);
+                    listener.onFailure(new FlowFrameworkException("Failed to parse get response", RestStatus.INTERNAL_SERVER_ERROR));
+                }
+            });
+        }
+    }
+
+    private void updateWorkflowIds(GetResponse getResponse, List<String> workflowIds, String tenantId, ActionListener<Void> listener) {
+        UpdateDataObjectRequest updateRequest = UpdateDataObjectRequest.builder()
+            .index(SHARED_RESOURCE_INDEX)
+            .id(getResponse.getId())
+            .tenantId(tenantId)
+            .dataObject(Map.of(WORKFLOW_IDS_FIELD, workflowIds, LAST_UPDATED_TIME_FIELD, Instant.now().toEpochMilli()))
+            .ifSeqNo(getResponse.getSeqNo())
+            .ifPrimaryTerm(getResponse.getPrimaryTerm())
+            .build();
+        try (ThreadContext.StoredContext context = client.threadPool().getThreadContext().stashContext()) {
+            sdkClient.updateDataObjectAsync(updateRequest).whenComplete((r, throwable) -> {
+                context.restore();
+                if (throwable == null) {
+                    listener.onResponse(null);
+                } else {
+                    Exception exception = SdkClientUtils.unwrapAndConvertToException(throwable);
+                    if (!isConflict(exception)) {
+                        logger.error("Failed to update the workflows referencing shared resources {}", getResponse.getId(), exception);
+                    }
+                    listener.onFailure(exception);
+                }
+            });
+        }
+    }
+
+    private void deleteSharedResource(String resourceHash, String tenantId) {
+        DeleteDataObjectRequest deleteRequest = DeleteDataObjectRequest.builder()
+            .index(SHARED_RESOURCE_INDEX)
+            .id(resourceHash)
+            .tenantId(tenantId)
+            .build();
+        try (ThreadContext.StoredContext context = client.threadPool().getThreadContext().stashContext()) {
+            sdkClient.deleteDataObjectAsync(deleteRequest).whenComplete((r, throwable) -> {
+                context.restore();
+                if (throwable == null) {
+                    logger.info("Deleted shared resources {}", resourceHash);
+                } else {
+                    // Without references the document is never reused, and is deleted again by the next identical step
+                    Exception exception = SdkClientUtils.unwrapAndConvertToException(throwable);
+                    logger.error("Failed to delete shared resources {}", resourceHash, exception);
+                }
+            });
+        }
+    }
+
+    private static List<String> workflowIds(Map<String, Object> source) {
+        Object workflowIds = source.get(WORKFLOW_IDS_FIELD);
+        if (!(workflowIds instanceof List)) {
+            return new ArrayList<>();
+        }
+        List<String> ids = new ArrayList<>();
+        for (Object id : (List<?>) workflowIds) {
+            ids.add(id.toString());
+        }
+        return ids;
+    }
+
+    private static boolean isConflict(Exception e) {
+        return ExceptionsHelper.status(e) == RestStatus.CONFLICT;
+    }
+}
@@ -0,0 +1,675 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * The OpenSearch Contributors require contributions made to
+ * this file be licensed under the Apache-2.0 license or a
+ * compatible open source license.
+ */
+package org.opensearch.flowframework.indices;
+
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+import org.apache.logging.log4j.message.ParameterizedMessageFactory;
+import org.opensearch.ExceptionsHelper;
+import org.opensearch.OpenSearchStatusException;
+import org.opensearch.action.get.GetResponse;
+import org.opensearch.action.support.GroupedActionListener;
+import org.opensearch.common.cache.Cache;
+import org.opensearch.common.cache.CacheBuilder;
+import org.opensearch.common.collect.Tuple;
+import org.opensearch.common.util.concurrent.ThreadContext;
+import org.opensearch.common.xcontent.XContentFactory;
+import org.opensearch.common.xcontent.XContentHelper;
+import org.opensearch.common.xcontent.XContentType;
+import org.opensearch.common.xcontent.support.XContentMapValues;
+import org.opensearch.core.action.ActionListener;
+import org.opensearch.core.common.Strings;
+import org.opensearch.core.common.bytes.BytesReference;
+import org.opensearch.core.rest.RestStatus;
+import org.opensearch.core.xcontent.ToXContent;
+import org.opensearch.core.xcontent.ToXContentObject;
+import org.opensearch.core.xcontent.XContentBuilder;
+import org.opensearch.flowframework.common.DefaultUseCases;
+import org.opensearch.flowframework.exception.FlowFrameworkException;
+import org.opensearch.flowframework.model.Template;
+import org.opensearch.flowframework.model.Workflow;
+import org.opensearch.flowframework.model.WorkflowNode;
+import org.opensearch.flowframework.util.ParseUtils;
+import org.opensearch.index.get.GetResult;
+import org.opensearch.remote.metadata.client.GetDataObjectRequest;
+import org.opensearch.remote.metadata.client.PutDataObjectRequest;
+import org.opensearch.remote.metadata.client.SdkClient;
+import org.opensearch.remote.metadata.common.SdkClientUtils;
+import org.opensearch.search.fetch.subphase.FetchSourceContext;
+import org.opensearch.transport.client.Client;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.HexFormat;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.TreeMap;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+import static org.opensearch.flowframework.common.CommonValue.CREATE_TIME;
+import static org.opensearch.flowframework.common.CommonValue.CREDENTIAL_FIELD;
+import static org.opensearch.flowframework.common.CommonValue.TEMPLATE_BODY_INDEX;
+import static org.opensearch.flowframework.common.CommonValue.TENANT_ID_FIELD;
+import static org.opensearch.flowframework.common.CommonValue.WORKFLOWS_HASH_FIELD;
+import static org.opensearch.flowframework.common.CommonValue.WORKFLOWS_PARAMS_FIELD;
+import static org.opensearch.flowframework.model.Template.WORKFLOWS_FIELD;
+
+/**
+ * Stores the workflows section of templates once per distinct content, keyed by a hash of its normalized form,
+ * and resolves global context documents which reference a shared workflows section back into complete templates.
+ */
+public class SharedTemplateBodyHandler {
+    private static final Logger logger = LogManager.getLogger(SharedTemplateBodyHandler.class);
+
+    /** Upper bound on the total size of workflows sections held in the node-local cache */
+    static final long MAX_CACHED_BODY_BYTES = 16L * 1024 * 1024;
+
+    /** Matches a use case parameter placeholder, capturing the parameter name */
+    private static final Pattern PLACEHOLDER_PATTERN = Pattern.compile("\\$\\{\\{\\s*([\\w.\\-]+)\\s*\\}\\}");
+
+    // Parsed once on first use, the use case templates are bundled resources which never change
+    private static volatile Map<String, List<Map<String, Object>>> useCaseWorkflows;
+
+    private final Client client;
+    private final SdkClient sdkClient;
+    // Bodies are immutable once stored under their content hash, so entries never need invalidation
+    private final Cache<String, BytesReference> bodyCache;
+
+    /**
+     * Instantiate this class
+     * @param client the OpenSearch client
+     * @param sdkClient the remote metadata client
+     */
+    public SharedTemplateBodyHandler(Client client, SdkClient sdkClient) {
+        this.client = client;
+        this.sdkClient = sdkClient;
+        this.bodyCache = CacheBuilder.<String, BytesReference>builder()
+            .setMaximumWeight(MAX_CACHED_BODY_BYTES)
+            .weigher((hash, body) -> body.length())
+            .build();
+    }
+
+    /**
+     * Whether a template's workflows section may be stored as a shared body. Templates carrying credentials are always
+     * stored inline so that their encrypted values stay within the workflow's own document.
+     * @param template the template
+     * @return true if the workflows section can be deduplicated
+     */
+    public static boolean isDeduplicable(Template template) {
+        if (template.workflows().isEmpty()) {
+            return false;
+        }
+        for (Workflow workflow : template.workflows().values()) {
+            for (WorkflowNode node : workflow.nodes()) {
+                if (node.userInputs().containsKey(CREDENTIAL_FIELD)) {
+                    return false;
+                }
+            }
+        }
+        return true;
+    }
+
+    /**
+     * Serialize the workflows section of a template to JSON with all object keys sorted, so that semantically identical
+     * sections always produce identical bytes
+     * @param template the template
+     * @return the normalized workflows section
+     * @throws IOException if the template cannot be serialized
+     */
+    public static BytesReference normalizedWorkflows(Template template) throws IOException {
+        return BytesReference.bytes(XContentFactory.jsonBuilder().map(normalizedWorkflowsMap(template)));
+    }
+
+    /**
+     * Convert the workflows section of a template to nested maps with all object keys sorted
+     * @param template the template
+     * @return the normalized workflows section
+     * @throws IOException if the template cannot be serialized
+     */
+    @SuppressWarnings("unchecked")
+    static Map<String, Object> normalizedWorkflowsMap(Template template) throws IOException {
+        XContentBuilder builder = XContentFactory.jsonBuilder().startObject();
+        for (Map.Entry<String, Workflow> e : new TreeMap<>(template.workflows()).entrySet()) {
+            builder.field(e.getKey(), e.getValue(), ToXContent.EMPTY_PARAMS);
+        }
+        builder.endObject();
+        Map<String, Object> workflows = XContentHelper.convertToMap(BytesReference.bytes(builder), false, XContentType.JSON).v2();
+        return (Map<String, Object>) sortKeys(workflows);
+    }
+
+    /**
+     * Find the use case template a workflows section was created from and the parameter values substituted into it.
+     * Use case templates differ only in these values, so storing the unsubstituted section lets all workflows created
+     * from the same use case share one body.
+     * @param workflows the normalized workflows section
+     * @return the use case workflows section and its parameter values, or null if the section matches no use case
+     */
+    static ParameterizedWorkflows parameterize(Map<String, Object> workflows) {
+        for (Map<String, Object> useCase : useCaseWorkflows().getOrDefault(shapeOf(workflows), Collections.emptyList())) {
+            Map<String, String> params = new HashMap<>();
+            if (!extractParams(useCase, workflows, params)) {
+                continue;
+            }
+            // Placeholders left unsubstituted by the create request are kept as they are
+            params.entrySet().removeIf(e -> e.getValue().equals("${{" + e.getKey() + "}}"));
+            if (params.isEmpty() || params.values().stream().anyMatch(v -> v.contains("${{"))) {
+                continue;
+            }
+            // Only share the body if substituting the extracted values reproduces the section exactly
+            if (workflows.equals(substituteParams(useCase, params))) {
+                return new ParameterizedWorkflows(useCase, params);
+            }
+        }
+        return null;
+    }
+
+    /**
+     * Lazily parse the workflows sections of all substitution ready use case templates, grouped by their shape
+     * @return the normalized use case workflows sections keyed by shape
+     */
+    static Map<String, List<Map<String, Object>>> useCaseWorkflows() {
+        Map<String, List<Map<String, Object>>> byShape = useCaseWorkflows;
+        if (byShape == null) {
+            byShape = new HashMap<>();
+            Set<String> files = new HashSet<>();
+            for (DefaultUseCases useCase : DefaultUseCases.values()) {
+                String file = useCase.getSubstitutionReadyFile();
+                if (!files.add(file)) {
+                    continue;
+                }
+                try {
+                    Map<String, Object> workflows = normalizedWorkflowsMap(Template.parse(ParseUtils.resourceToString("/" + file)));
+                    byShape.computeIfAbsent(shapeOf(workflows), k -> new ArrayList<>()).add(workflows);
+                } catch (Exception e) {
+                    // Templates with placeholders outside of string values cannot be parsed before substitution
+                    logger.debug("Use case template {} cannot be shared", file);
+                }
+            }
+            useCaseWorkflows = byShape;
+        }
+        return byShape;
+    }
+
+    /**
+     * Describe a workflows section by its workflow names and the ids and types of their nodes
+     * @param workflows the normalized workflows section
+     * @return a key equal for all sections which could have been created from the same use case template
+     */
+    @SuppressWarnings("unchecked")
+    private static String shapeOf(Map<String, Object> workflows) {
+        StringBuilder shape = new StringBuilder();
+        for (Map.Entry<String, Object> workflow : workflows.entrySet()) {
+            shape.append(workflow.getKey()).append('{');
+            Object nodes = workflow.getValue() instanceof Map
+                ? ((Map<String, Object>) workflow.getValue()).get(Workflow.NODES_FIELD)
+                : null;
+            if (nodes instanceof List) {
+                for (Object node : (List<Object>) nodes) {
+                    if (node instanceof Map) {
+                        Map<String, Object> nodeMap = (Map<String, Object>) node;
+                        shape.append(nodeMap.get(WorkflowNode.ID_FIELD)).append(':');
+                        shape.append(nodeMap.get(WorkflowNode.TYPE_FIELD)).append(',');
+                    }
+                }
+            }
+            shape.append('}');
+        }
+        return shape.toString();
+    }
+
+    /**
+     * Walk a use case workflows section and a substituted one in parallel, collecting the parameter values
+     * @param useCase the value from the use case template
+     * @param actual the value from the substituted template
+     * @param params the parameter values collected so far
+     * @return false if the values cannot be produced from the use case value
+     */
+    private static boolean extractParams(Object useCase, Object actual, Map<String, String> params) {
+        if (useCase instanceof Map && actual instanceof Map) {
+            Map<?, ?> useCaseMap = (Map<?, ?>) useCase;
+            Map<?, ?> actualMap = (Map<?, ?>) actual;
+            if (useCaseMap.size() != actualMap.size()) {
+                return false;
+            }
+            List<Object> placeholderKeys = new ArrayList<>();
+            Set<Object> unmatchedKeys = new HashSet<>(actualMap.keySet());
+            for (Map.Entry<?, ?> e : useCaseMap.entrySet()) {
+                if (e.getKey().toString().contains("${{")) {
+                    placeholderKeys.add(e.getKey());
+                } else if (!unmatchedKeys.remove(e.getKey()) || !extractParams(e.getValue(), actualMap.get(e.getKey()), params)) {
+                    return false;
+                }
+            }
+            // Keys may be placeholders too, such as field names, so pair them with the remaining keys by their values
+            for (Object placeholderKey : placeholderKeys) {
+                Object matchedKey = null;
+                for (Object key : unmatchedKeys) {
+                    Map<String, String> candidateParams = new HashMap<>(params);
+                    if (extractPlaceholderValues(placeholderKey.toString(), key.toString(), candidateParams)
+                        && extractParams(useCaseMap.get(placeholderKey), actualMap.get(key), candidateParams)) {
+                        params.putAll(candidateParams);
+                        matchedKey = key;
+                        break;
+                    }
+                }
+                if (matchedKey == null) {
+                    return false;
+                }
+                unmatchedKeys.remove(matchedKey);
+            }
+            return true;
+        }
+        if (useCase instanceof List && actual instanceof List) {
+            List<?> useCaseList = (List<?>) useCase;
+            List<?> actualList = (List<?>) actual;
+            if (useCaseList.size() != actualList.size()) {
+                return false;
+            }
+            for (int i = 0; i < useCaseList.size(); i++) {
+                if (!extractParams(useCaseList.get(i), actualList.get(i), params)) {
+                    return false;
+                }
+            }
+            return true;
+        }
+        if (useCase instanceof String && actual instanceof String && ((String) useCase).contains("${{")) {
+            return extractPlaceholderValues((String) useCase, (String) actual, params);
+        }
+        return Objects.equals(useCase, actual);
+    }
+
+    private static boolean extractPlaceholderValues(String useCase, String actual, Map<String, String> params) {
+        Matcher placeholders = PLACEHOLDER_PATTERN.matcher(useCase);
+        StringBuilder regex = new StringBuilder();
+        List<String> keys = new ArrayList<>();
+        int last = 0;
+        while (placeholders.find()) {
+            regex.append(Pattern.quote(useCase.substring(last, placeholders.start()))).append("(.*?)");
+            keys.add(placeholders.group(1));
+            last = placeholders.end();
+        }
+        regex.append(Pattern.quote(useCase.substring(last)));
+        Matcher values = Pattern.compile(regex.toString(), Pattern.DOTALL).matcher(actual);
+        if (!values.matches()) {
+            return false;
+        }
+        for (int i = 0; i < keys.size(); i++) {
+            String previous = params.putIfAbsent(keys.get(i), values.group(i + 1));
+            if (previous != null && !previous.equals(values.group(i + 1))) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * Compute the document id of a shared workflows section. The tenant id is part of the hash so that bodies are never
+     * shared between tenants when multitenancy is enabled.
+     * @param normalizedWorkflows the normalized workflows section
+     * @param tenantId the tenant id, may be null
+     * @return the hex encoded SHA-256 content hash
+     */
+    public static String computeWorkflowsHash(BytesReference normalizedWorkflows, String tenantId) {
+        try {
+            MessageDigest digest = MessageDigest.getInstance("SHA-256");
+            if (tenantId != null) {
+                digest.update(tenantId.getBytes(StandardCharsets.UTF_8));
+                digest.update((byte) 0);
+            }
+            digest.update(BytesReference.toBytes(normalizedWorkflows));
+            return HexFormat.of().formatHex(digest.digest());
+        } catch (NoSuchAlgorithmException e) {
+            throw new FlowFrameworkException("Unable to compute workflows hash", RestStatus.INTERNAL_SERVER_ERROR);
+        }
+    }
+
+    /**
+     * Whether a global context document references a shared workflows section instead of holding it inline
+     * @param getResponse the get response of a global context document
+     * @return true if the document must be resolved before parsing its workflows
+     */
+    public static boolean hasWorkflowsReference(GetResponse getResponse) {
+        return getResponse != null
+            && getResponse.isExists()
+            && !getResponse.isSourceEmpty()
+            && getResponse.getSourceAsMap().get(WORKFLOWS_HASH_FIELD) instanceof String;
+    }
+
+    /**
+     * Wrap a template so that it is written with a reference to its shared workflows section in place of the section itself
+     * @param template the template
+     * @param workflowsHash the content hash of the stored workflows section
+     * @param workflowsParams the parameter values to substitute into the stored section, may be null
+     * @return the document to index into the global context index
+     */
+    public static ToXContentObject referencingDocument(Template template, String workflowsHash, Map<String, String> workflowsParams) {
+        return (builder, xContentParams) -> {
+            Map<String, String> params = new HashMap<>();
+            params.put(WORKFLOWS_HASH_FIELD, workflowsHash);
+            if (workflowsParams != null && !workflowsParams.isEmpty()) {
+                params.put(WORKFLOWS_PARAMS_FIELD, XContentFactory.jsonBuilder().map(new TreeMap<>(workflowsParams)).toString());
+            }
+            return template.toXContent(builder, new ToXContent.DelegatingMapParams(params, xContentParams));
+        };
+    }
+
+    /**
+     * Store the workflows section of a template in the template body index unless an identical section already exists.
+     * Sections created from a use case template are stored without their parameter values, which are kept in the
+     * referencing document instead.
+     * @param template the template whose workflows should be stored
+     * @param listener action listener receiving the document referencing the stored section
+     */
+    public void putSharedWorkflows(Template template, ActionListener<ToXContentObject> listener) {
+        BytesReference workflows;
+        Map<String, String> workflowsParams = null;
+        try {
+            Map<String, Object> normalized = normalizedWorkflowsMap(template);
+            ParameterizedWorkflows parameterized = parameterize(normalized);
+            if (parameterized != null) {
+                normalized = parameterized.workflows;
+                workflowsParams = parameterized.params;
+            }
+            workflows = BytesReference.bytes(XContentFactory.jsonBuilder().map(normalized));
+        } catch (IOException e) {
+            String errorMessage = "Failed to normalize template workflows";
+            logger.error(errorMessage, e);
+            listener.onFailure(new FlowFrameworkException(errorMessage, RestStatus.INTERNAL_SERVER_ERROR));
+            return;
+        }
+        String tenantId = template.getTenantId();
+        String hash = computeWorkflowsHash(workflows, tenantId);
+        ToXContentObject referencingDocument = referencingDocument(template, hash, workflowsParams);
+        if (bodyCache.get(hash) != null) {
+            listener.onResponse(referencingDocument);
+            return;
+        }
+        ToXContentObject body = (builder, params) -> {
+            builder.startObject();
+            builder.field(WORKFLOWS_HASH_FIELD, hash);
+            builder.rawField(WORKFLOWS_FIELD, workflows.streamInput(), XContentType.JSON);
+            builder.field(CREATE_TIME, Instant.now().toEpochMilli());
+            if (tenantId != null) {
+                builder.field(TENANT_ID_FIELD, tenantId);
+            }
+            return builder.endObject();
+        };
+        PutDataObjectRequest putRequest = PutDataObjectRequest.builder()
+            .index(TEMPLATE_BODY_INDEX)
+            .id(hash)
+            .tenantId(tenantId)
+            .overwriteIfExists(false)
+            .dataObject(body)
+            .build();
+        try (ThreadContext.StoredContext context = client.threadPool().getThreadContext().stashContext()) {
+            sdkClient.putDataObjectAsync(putRequest).whenComplete((r, throwable) -> {
+                context.restore();
+                if (throwable == null) {
+                    logger.debug("Stored shared workflows {}", hash);
+                    bodyCache.put(hash, workflows);
+                    listener.onResponse(referencingDocument);
+                    return;
+                }
+                Exception exception = SdkClientUtils.unwrapAndConvertToException(throwable);
+                // An identical body was stored by an earlier template, content addressing makes it safe to reuse
+                if (exception instanceof OpenSearchStatusException
+                    && ((OpenSearchStatusException) exception).status() == RestStatus.CONFLICT) {
+                    bodyCache.put(hash, workflows);
+                    listener.onResponse(referencingDocument);
+                } else {
+                    String errorMessage = "Failed to store shared template workflows";
+                    logger.error(errorMessage, exception);
+                    listener.onFailure(new FlowFrameworkException(errorMessage, ExceptionsHelper.status(exception)));
+                }
+            });
+        }
+    }
+
+    /**
+     * Replace the workflows reference of a global context document with the shared workflows section it points to.
+     * Documents holding their workflows inline are returned unchanged.
+     * @param getResponse the get response of a global context document
+     * @param tenantId the tenant id
+     * @param listener action listener receiving a get response with a complete template source
+     */
+    public void resolveTemplateSource(GetResponse getResponse, String tenantId, ActionListener<GetResponse> listener) {
+        if (!hasWorkflowsReference(getResponse)) {
+            listener.onResponse(getResponse);
+            return;
+        }
+        Map<String, Object> source = getResponse.getSourceAsMap();
+        String hash = (String) source.get(WORKFLOWS_HASH_FIELD);
+        getSharedWorkflows(hash, tenantId, ActionListener.wrap(workflows -> {
+            XContentBuilder builder = XContentFactory.jsonBuilder().startObject();
+            for (Map.Entry<String, Object> e : source.entrySet()) {
+                if (!WORKFLOWS_HASH_FIELD.equals(e.getKey()) && !WORKFLOWS_PARAMS_FIELD.equals(e.getKey())) {
+                    builder.field(e.getKey(), e.getValue());
+                }
+            }
+            builder.field(WORKFLOWS_FIELD, resolveWorkflows(workflows, source));
+            builder.endObject();
+            GetResult resolved = new GetResult(
+                getResponse.getIndex(),
+                getResponse.getId(),
+                getResponse.getSeqNo(),
+                getResponse.getPrimaryTerm(),
+                getResponse.getVersion(),
+                true,
+                BytesReference.bytes(builder),
+                Collections.emptyMap(),
+                Collections.emptyMap()
+            );
+            listener.onResponse(new GetResponse(resolved));
+        }, listener::onFailure));
+    }
+
+    /**
+     * Replace the workflows references of the hits of a global context search response with the shared workflows
+     * sections they point to, then apply the source filtering of the request to the resolved sources
+     * @param content the search response content
+     * @param fetchSource the source filtering requested by the user, may be null
+     * @param tenantId the tenant id
+     * @param listener action listener receiving the resolved search response content
+     */
+    @SuppressWarnings("unchecked")
+    public void resolveSearchResponse(
+        BytesReference content,
+        FetchSourceContext fetchSource,
+        String tenantId,
+        ActionListener<BytesReference> listener
+    ) {
+        if (!content.utf8ToString().contains("\"" + WORKFLOWS_HASH_FIELD + "\"")) {
+            listener.onResponse(content);
+            return;
+        }
+        Map<String, Object> response = XContentHelper.convertToMap(content, true, XContentType.JSON).v2();
+        List<Map<String, Object>> referencingHits = new ArrayList<>();
+        Object hits = response.get("hits") instanceof Map ? ((Map<String, Object>) response.get("hits")).get("hits") : null;
+        if (hits instanceof List) {
+            for (Object hit : (List<Object>) hits) {
+                Object source = hit instanceof Map ? ((Map<String, Object>) hit).get("_source") : null;
+                if (source instanceof Map && ((Map<String, Object>) source).get(WORKFLOWS_HASH_FIELD) instanceof String) {
+                    referencingHits.add((Map<String, Object>) hit);
+                }
+            }
+        }
+        if (referencingHits.isEmpty()) {
+            listener.onResponse(content);
+            return;
+        }
+        Set<String> hashes = new HashSet<>();
+        for (Map<String, Object> hit : referencingHits) {
+            hashes.add((String) ((Map<String, Object>) hit.get("_source")).get(WORKFLOWS_HASH_FIELD));
+        }
+        ActionListener<Collection<Tuple<String, BytesReference>>> resolvedListener = ActionListener.wrap(bodies -> {
+            Map<String, BytesReference> bodyByHash = new HashMap<>();
+            for (Tuple<String, BytesReference> body : bodies) {
+                bodyByHash.put(body.v1(), body.v2());
+            }
+            String[] includes = fetchSource == null ? Strings.EMPTY_ARRAY : fetchSource.includes();
+            String[] excludes = fetchSource == null ? Strings.EMPTY_ARRAY : fetchSource.excludes();
+            for (Map<String, Object> hit : referencingHits) {
+                Map<String, Object> source = new LinkedHashMap<>((Map<String, Object>) hit.get("_source"));
+                BytesReference workflows = bodyByHash.get((String) source.remove(WORKFLOWS_HASH_FIELD));
+                source.put(WORKFLOWS_FIELD, resolveWorkflows(workflows, source));
+                source.remove(WORKFLOWS_PARAMS_FIELD);
+                hit.put("_source", XContentMapValues.filter(source, includes, excludes));
+            }
+            listener.onResponse(BytesReference.bytes(XContentFactory.jsonBuilder().map(response)));
+        }, listener::onFailure);
+        GroupedActionListener<Tuple<String, BytesReference>> groupedListener = new GroupedActionListener<>(
+            resolvedListener,
+            hashes.size()
+        );
+        for (String hash : hashes) {
+            getSharedWorkflows(
+                hash,
+                tenantId,
+                ActionListener.wrap(body -> groupedListener.onResponse(new Tuple<>(hash, body)), groupedListener::onFailure)
+            );
+        }
+    }
+
+    @SuppressWarnings("unchecked")
+    private static Object resolveWorkflows(BytesReference workflows, Map<String, Object> source) {
+        Map<String, Object> sharedWorkflows = XContentHelper.convertToMap(workflows, true, XContentType.JSON).v2();
+        Object workflowsParams = source.get(WORKFLOWS_PARAMS_FIELD);
+        if (!(workflowsParams instanceof Map)) {
+            return sharedWorkflows;
+        }
+        Map<String, String> params = new HashMap<>();
+        for (Map.Entry<String, Object> e : ((Map<String, Object>) workflowsParams).entrySet()) {
+            params.put(e.getKey(), String.valueOf(e.getValue()));
+        }
+        return substituteParams(sharedWorkflows, params);
+    }
+
+    /**
+     * Substitute use case parameter values into both the string leaves and the object keys of a workflows section
+     * @param value the value to substitute into
+     * @param params the parameter values
+     * @return a copy of the value with its parameters substituted
+     */
+    static Object substituteParams(Object value, Map<String, String> params) {
+        if (value instanceof Map) {
+            Map<String, Object> substituted = new TreeMap<>();
+            for (Map.Entry<?, ?> e : ((Map<?, ?>) value).entrySet()) {
+                String key = (String) ParseUtils.substituteLeaves(e.getKey().toString(), null, params);
+                substituted.put(key, substituteParams(e.getValue(), params));
+            }
+            return substituted;
+        }
+        if (value instanceof List) {
+            List<Object> substituted = new ArrayList<>();
+            for (Object item : (List<?>) value) {
+                substituted.add(substituteParams(item, params));
+            }
+            return substituted;
+        }
+        return ParseUtils.substituteLeaves(value, null, params);
+    }
+
+    private void getSharedWorkflows(String hash, String tenantId, ActionListener<BytesReference> listener) {
+        BytesReference cached = bodyCache.get(hash);
+        if (cached != null) {
+            listener.onResponse(cached);
+            return;
+        }
+        GetDataObjectRequest getRequest = GetDataObjectRequest.builder().index(TEMPLATE_BODY_INDEX).id(hash).tenantId(tenantId).build();
+        try (ThreadContext.StoredContext context = client.threadPool().getThreadContext().stashContext()) {
+            sdkClient.getDataObjectAsync(getRequest).whenComplete((r, throwable) -> {
+                context.restore();
+                if (throwable != null) {
+                    Exception exception = SdkClientUtils.unwrapAndConvertToException(throwable);
+                    String errorMessage = ParameterizedMessageFactory.INSTANCE.newMessage("Failed to get shared workflows {}", hash)
+                        .getFormattedMessage();
+                    logger.error(errorMessage, exception);
+                    listener.onFailure(new FlowFrameworkException(errorMessage, ExceptionsHelper.status(exception)));
+                    return;
+                }
+                try {
+                    GetResponse getResponse = r.parser() == null ? null : GetResponse.fromXContent(r.parser());
+                    if (getResponse == null || !getResponse.isExists()) {
+                        String errorMessage = ParameterizedMessageFactory.INSTANCE.newMessage("Shared workflows {} not found", hash)
+                            .getFormattedMessage();
+                        logger.error(errorMessage);
+                        listener.onFailure(new FlowFrameworkException(errorMessage, RestStatus.INTERNAL_SERVER_ERROR));
+                        return;
+                    }
+                    Object workflows = getResponse.getSourceAsMap().get(WORKFLOWS_FIELD);
+                    BytesReference body = BytesReference.bytes(XContentFactory.jsonBuilder().value(workflows));
+                    bodyCache.put(hash, body);
+                    listener.onResponse(body);
+                } catch (Exception e) {
+                    String errorMessage = ParameterizedMessageFactory.INSTANCE.newMessage("Failed to parse shared workflows {}", hash)
+                        .getFormattedMessage();
+                    logger.error(errorMessage, e);
+                    listener.onFailure(new FlowFrameworkException(errorMessage, RestStatus.INTERNAL_SERVER_ERROR));
+                }
+            });
+        }
+    }
+
+    /**
+     * Number of shared workflows sections currently held in the node-local cache
+     * @return the cache entry count
+     */
+    public int cachedBodyCount() {
+        return bodyCache.count();
+    }
+
+    /**
+     * A use case workflows section together with the parameter values substituted into it
+     */
+    static class ParameterizedWorkflows {
+        final Map<String, Object> workflows;
+        final Map<String, String> params;
+
+        ParameterizedWorkflows(Map<String, Object> workflows, Map<String, String> params) {
+            this.workflows = workflows;
+            this.params = params;
+        }
+    }
+
+    /**
+     * Recursively replace maps by maps sorted by key, so that equal content always serializes to identical bytes
+     * @param value the value to sort
+     * @return the sorted value
+     */
+    @SuppressWarnings("unchecked")
+    static Object sortKeys(Object value) {
+        if (value instanceof Map) {
+            Map<String, Object> sorted = new TreeMap<>();
+            for (Map.Entry<String, Object> e : ((Map<String, Object>) value).entrySet()) {
+                sorted.put(e.getKey(), sortKeys(e.getValue()));
+            }
+            return sorted;
+        }
+        if (value instanceof List) {
+            List<Object> sorted = new ArrayList<>();
+            for (Object item : (List<Object>) value) {
+                sorted.add(sortKeys(item));
+            }
+            return sorted;
+        }
+        return value;
+    }
+}
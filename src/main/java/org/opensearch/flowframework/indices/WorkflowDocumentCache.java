@@ -0,0 +1,226 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * The OpenSearch Contributors require contributions made to
+ * this file be licensed under the Apache-2.0 license or a
+ * compatible open source license.
+ */
+package org.opensearch.flowframework.indices;
+
+import org.opensearch.action.get.GetResponse;
+import org.opensearch.common.CheckedFunction;
+import org.opensearch.common.cache.Cache;
+import org.opensearch.common.cache.CacheBuilder;
+import org.opensearch.common.cache.RemovalReason;
+import org.opensearch.common.metrics.CounterMetric;
+import org.opensearch.common.unit.TimeValue;
+import org.opensearch.core.common.bytes.BytesReference;
+import org.opensearch.flowframework.model.Template;
+import org.opensearch.flowframework.model.WorkflowState;
+
+import java.io.IOException;
+import java.util.function.LongSupplier;
+
+import static org.opensearch.flowframework.common.CommonValue.GLOBAL_CONTEXT_INDEX;
+import static org.opensearch.flowframework.common.CommonValue.WORKFLOW_STATE_INDEX;
+
+/**
+ * Node-local cache of parsed templates and workflow states, keyed by workflow ID and tenant.
+ * <p>
+ * Every fetched document is checked against the sequence number and primary term of the cached entry, so an unchanged
+ * document is parsed only once. Workflow states cached within the TTL are served without fetching them at all, which bounds
+ * how stale a state written by another node can be. Writes through {@link FlowFrameworkIndicesHandler} invalidate entries.
+ */
+public class WorkflowDocumentCache {
+
+    /** Approximate heap overhead of a cache entry beyond its document source */
+    static final long ENTRY_OVERHEAD_BYTES = 256;
+
+    private final Cache<String, CacheEntry> cache;
+    private final long ttlNanos;
+    private final LongSupplier relativeNanoTime;
+    private final CounterMetric hits = new CounterMetric();
+    private final CounterMetric misses = new CounterMetric();
+    private final CounterMetric evictions = new CounterMetric();
+
+    /**
+     * Instantiate this class
+     * @param maxSizeInBytes the max total size of cached document sources, zero disables caching
+     * @param ttl how long a cached workflow state may be served without fetching it
+     */
+    public WorkflowDocumentCache(long maxSizeInBytes, TimeValue ttl) {
+        this(maxSizeInBytes, ttl, System::nanoTime);
+    }
+
+    /**
+     * Instantiate this class with the given clock
+     * @param maxSizeInBytes the max total size of cached document sources, zero disables caching
+     * @param ttl how long a cached workflow state may be served without fetching it
+     * @param relativeNanoTime the clock used to expire entries
+     */
+    WorkflowDocumentCache(long maxSizeInBytes, TimeValue ttl, LongSupplier relativeNanoTime) {
+        this.cache = maxSizeInBytes > 0
+            ? CacheBuilder.<String, CacheEntry>builder()
+                .setMaximumWeight(maxSizeInBytes)
+                .weigher((key, entry) -> entry.weight)
+                .removalListener(notification -> {
+                    if (notification.getRemovalReason() == RemovalReason.EVICTED) {
+                        evictions.inc();
+                    }
+                })
+                .build()
+            : null;
+        this.ttlNanos = ttl.nanos();
+        this.relativeNanoTime = relativeNanoTime;
+    }
+
+    /**
+     * Parse a template from a global context get response, reusing the cached instance if the document is unchanged
+     * @param getResponse an existing global context document
+     * @param tenantId the tenant id
+     * @return the parsed template
+     * @throws IOException on failure to parse
+     */
+    public Template getTemplate(GetResponse getResponse, String tenantId) throws IOException {
+        return getOrParse(GLOBAL_CONTEXT_INDEX, getResponse, tenantId, Template::parse, Template.class);
+    }
+
+    /**
+     * Parse a workflow state from a workflow state get response, reusing the cached instance if the document is unchanged
+     * @param getResponse an existing workflow state document
+     * @param tenantId the tenant id
+     * @return the parsed workflow state
+     * @throws IOException on failure to parse
+     */
+    public WorkflowState getWorkflowState(GetResponse getResponse, String tenantId) throws IOException {
+        return getOrParse(WORKFLOW_STATE_INDEX, getResponse, tenantId, WorkflowState::parse, WorkflowState.class);
+    }
+
+    /**
+     * Get a workflow state cached within the TTL, which may be served without fetching it
+     * @param workflowId the workflow id
+     * @param tenantId the tenant id
+     * @return the cached workflow state, or null if there is none or it is older than the TTL
+     */
+    public WorkflowState getFreshWorkflowState(String workflowId, String tenantId) {
+        if (cache == null || ttlNanos <= 0) {
+            return null;
+        }
+        CacheEntry entry = cache.get(cacheKey(WORKFLOW_STATE_INDEX, workflowId, tenantId));
+        if (entry == null || relativeNanoTime.getAsLong() - entry.cachedAtNanos >= ttlNanos) {
+            return null;
+        }
+        hits.inc();
+        return (WorkflowState) entry.document;
+    }
+
+    /**
+     * Invalidate the cached template and workflow state of a workflow
+     * @param workflowId the workflow id
+     * @param tenantId the tenant id
+     */
+    public void invalidate(String workflowId, String tenantId) {
+        if (cache != null) {
+            cache.invalidate(cacheKey(GLOBAL_CONTEXT_INDEX, workflowId, tenantId));
+            cache.invalidate(cacheKey(WORKFLOW_STATE_INDEX, workflowId, tenantId));
+        }
+    }
+
+    /**
+     * Number of documents served from the cache
+     * @return the hit count
+     */
+    public long getHitCount() {
+        return hits.count();
+    }
+
+    /**
+     * Number of documents which had to be parsed
+     * @return the miss count
+     */
+    public long getMissCount() {
+        return misses.count();
+    }
+
+    /**
+     * Number of entries evicted to stay within the max size
+     * @return the eviction count
+     */
+    public long getEvictionCount() {
+        return evictions.count();
+    }
+
+    /**
+     * Number of entries currently cached
+     * @return the entry count
+     */
+    public int count() {
+        return cache == null ? 0 : cache.count();
+    }
+
+    /**
+     * Approximate total size of the cached entries
+     * @return the cache weight in bytes
+     */
+    public long getSizeInBytes() {
+        return cache == null ? 0 : cache.weight();
+    }
+
+    private <T> T getOrParse(
+        String index,
+        GetResponse getResponse,
+        String tenantId,
+        CheckedFunction<BytesReference, T, IOException> parser,
+        Class<T> type
+    ) throws IOException {
+        BytesReference source = getResponse.getSourceAsBytesRef();
+        // Without a sequence number the cached entry could never be validated, e.g. for remote metadata stores
+        if (cache == null || getResponse.getSeqNo() < 0) {
+            misses.inc();
+            return parser.apply(source);
+        }
+        String key = cacheKey(index, getResponse.getId(), tenantId);
+        CacheEntry entry = cache.get(key);
+        T document;
+        if (entry != null && entry.seqNo == getResponse.getSeqNo() && entry.primaryTerm == getResponse.getPrimaryTerm()) {
+            hits.inc();
+            document = type.cast(entry.document);
+        } else {
+            misses.inc();
+            document = parser.apply(source);
+        }
+        // Refresh the entry so that the TTL restarts from the latest confirmed read
+        cache.put(
+            key,
+            new CacheEntry(
+                document,
+                getResponse.getSeqNo(),
+                getResponse.getPrimaryTerm(),
+                source.length() + ENTRY_OVERHEAD_BYTES,
+                relativeNanoTime.getAsLong()
+            )
+        );
+        return document;
+    }
+
+    private static String cacheKey(String index, String workflowId, String tenantId) {
+        return index + "/" + (tenantId == null ? "" : tenantId) + "/" + workflowId;
+    }
+
+    private static final class CacheEntry {
+        private final Object document;
+        private final long seqNo;
+        private final long primaryTerm;
+        private final long weight;
+        private final long cachedAtNanos;
+
+        private CacheEntry(Object document, long seqNo, long primaryTerm, long weight, long cachedAtNanos) {
+            this.document = document;
+            this.seqNo = seqNo;
+            this.primaryTerm = primaryTerm;
+            this.weight = weight;
+            this.cachedAtNanos = cachedAtNanos;
+        }
+    }
+}
@@ -0,0 +1,89 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * The OpenSearch Contributors require contributions made to
+ * this file be licensed under the Apache-2.0 license or a
+ * compatible open source license.
+ */
+package org.opensearch.flowframework.indices;
+
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Notifies in-process waiters when a workflow state document written by this node changes.
+ * <p>
+ * Listeners are one-shot: each is removed before it runs, and must register again to observe further changes.
+ * Changes written by other nodes are not observed, so waiters must also poll the state and bound their wait with a timeout.
+ */
+public class WorkflowStateChangeNotifier {
+    private static final Logger logger = LogManager.getLogger(WorkflowStateChangeNotifier.class);
+
+    private final Map<String, List<Runnable>> listeners = new ConcurrentHashMap<>();
+
+    /**
+     * Register a one-shot listener for the next change of a workflow state. Registering a listener already waiting is a no-op.
+     * @param workflowId the workflow id
+     * @param tenantId the tenant id
+     * @param listener the listener to run on the next change
+     */
+    public void addListener(String workflowId, String tenantId, Runnable listener) {
+        listeners.compute(key(workflowId, tenantId), (k, registered) -> {
+            List<Runnable> updated = registered == null ? new ArrayList<>() : registered;
+            if (!updated.contains(listener)) {
+                updated.add(listener);
+            }
+            return updated;
+        });
+    }
+
+    /**
+     * Remove a registered listener which has not run yet
+     * @param workflowId the workflow id
+     * @param tenantId the tenant id
+     * @param listener the listener to remove
+     */
+    public void removeListener(String workflowId, String tenantId, Runnable listener) {
+        listeners.computeIfPresent(key(workflowId, tenantId), (k, registered) -> {
+            registered.remove(listener);
+            return registered.isEmpty() ? null : registered;
+        });
+    }
+
+    /**
+     * Run and remove all listeners waiting on a workflow state
+     * @param workflowId the workflow id
+     * @param tenantId the tenant id
+     */
+    public void notifyChanged(String workflowId, String tenantId) {
+        List<Runnable> registered = listeners.remove(key(workflowId, tenantId));
+        if (registered == null) {
+            return;
+        }
+        for (Runnable listener : registered) {
+            try {
+                listener.run();
+            } catch (Exception e) {
+                logger.error("Failed to notify workflow state change listener for {}", workflowId, e);
+            }
+        }
+    }
+
+    /**
+     * Number of listeners currently waiting on a change
+     * @return the waiting listener count
+     */
+    public int getWaitingCount() {
+        return listeners.values().stream().mapToInt(List::size).sum();
+    }
+
+    private static String key(String workflowId, String tenantId) {
+        return (tenantId == null ? "" : tenantId) + "/" + workflowId;
+    }
+}
@@ -18,8 +18,10 @@ import org.opensearch.core.xcontent.XContentBuilder;
 import org.opensearch.core.xcontent.XContentParser;
 
 import java.io.IOException;
+import java.util.HashMap;
 import java.util.Map;
 
+import static org.opensearch.flowframework.common.CommonValue.RESOURCE_HASH_FIELD;
 import static org.opensearch.flowframework.common.CommonValue.RESOURCE_ID;
 import static org.opensearch.flowframework.common.CommonValue.RESOURCE_TYPE;
 import static org.opensearch.flowframework.common.CommonValue.WORKFLOW_STEP_ID;
@@ -111,6 +113,27 @@ public class ResourceCreated implements ToXContentObject, Writeable {
         return resourceMap.get(WORKFLOW_STEP_ID);
     }
 
+    /**
+     * Gets the hash of the shared resources this resource belongs to, if it is shared with other workflows
+     *
+     * @return the resource hash, or null if the resource is not shared.
+     */
+    public String resourceHash() {
+        return resourceMap.get(RESOURCE_HASH_FIELD);
+    }
+
+    /**
+     * Creates a copy of this resource recording the hash of the shared resources it belongs to
+     *
+     * @param resourceHash the content hash of the inputs of the step which created the resource
+     * @return the shared resource
+     */
+    public ResourceCreated withResourceHash(String resourceHash) {
+        Map<String, String> map = new HashMap<>(resourceMap);
+        map.put(RESOURCE_HASH_FIELD, resourceHash);
+        return new ResourceCreated(map);
+    }
+
     /**
      * Gets the map of resource values
      *
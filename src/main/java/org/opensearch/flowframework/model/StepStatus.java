@@ -0,0 +1,31 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * The OpenSearch Contributors require contributions made to
+ * this file be licensed under the Apache-2.0 license or a
+ * compatible open source license.
+ */
+package org.opensearch.flowframework.model;
+
+/**
+ * Enum relating to the execution status of a single workflow step
+ */
+public enum StepStatus {
+    /** Queued State, the step has not been picked up by its thread pool */
+    QUEUED,
+    /** Waiting State, the step is waiting on its predecessors */
+    WAITING,
+    /** Running State */
+    RUNNING,
+    /** Completed State */
+    COMPLETED,
+    /** Failed State */
+    FAILED,
+    /** Timed Out State */
+    TIMED_OUT,
+    /** Skipped State, a predecessor failed or the provisioning was cancelled so the step never started */
+    SKIPPED,
+    /** Cancelled State, the provisioning was cancelled while the step was running */
+    CANCELLED
+}
@@ -0,0 +1,284 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * The OpenSearch Contributors require contributions made to
+ * this file be licensed under the Apache-2.0 license or a
+ * compatible open source license.
+ */
+package org.opensearch.flowframework.model;
+
+import org.opensearch.core.common.io.stream.StreamInput;
+import org.opensearch.core.common.io.stream.StreamOutput;
+import org.opensearch.core.common.io.stream.Writeable;
+import org.opensearch.core.rest.RestStatus;
+import org.opensearch.core.xcontent.ToXContentObject;
+import org.opensearch.core.xcontent.XContentBuilder;
+import org.opensearch.core.xcontent.XContentParser;
+import org.opensearch.flowframework.exception.FlowFrameworkException;
+
+import java.io.IOException;
+import java.time.Instant;
+import java.util.Objects;
+
+import static org.opensearch.core.xcontent.XContentParserUtils.ensureExpectedToken;
+import static org.opensearch.flowframework.common.CommonValue.END_TIME_FIELD;
+import static org.opensearch.flowframework.common.CommonValue.ENQUEUE_TIME_FIELD;
+import static org.opensearch.flowframework.common.CommonValue.PREDECESSOR_WAIT_MILLIS_FIELD;
+import static org.opensearch.flowframework.common.CommonValue.RETRY_COUNT_FIELD;
+import static org.opensearch.flowframework.common.CommonValue.START_TIME_FIELD;
+import static org.opensearch.flowframework.common.CommonValue.STEP_STATUS_FIELD;
+import static org.opensearch.flowframework.common.CommonValue.WORKFLOW_STEP_ID;
+import static org.opensearch.flowframework.common.CommonValue.WORKFLOW_STEP_NAME;
+
+/**
+ * This represents the execution timeline of one workflow step in the WorkflowState {@link WorkflowState}.
+ */
+public class StepTimeline implements ToXContentObject, Writeable {
+
+    private final String workflowStepId;
+    private final String workflowStepName;
+    private final Instant enqueueTime;
+    private final Instant startTime;
+    private final Instant endTime;
+    private final long predecessorWaitMillis;
+    private final int retryCount;
+    private final StepStatus status;
+
+    /**
+     * Create the timeline of a workflow step
+     * @param workflowStepId The workflow step ID
+     * @param workflowStepName The workflow step name
+     * @param enqueueTime The time the step was queued on its thread pool
+     * @param startTime The time the step started, once all predecessors completed, or null if it has not started
+     * @param endTime The time the step completed, or null if it has not completed
+     * @param predecessorWaitMillis The time the step waited on its predecessors after being picked up by its thread pool
+     * @param retryCount The number of retries made while recording the step's resources
+     * @param status The status of the step
+     */
+    public StepTimeline(
+        String workflowStepId,
+        String workflowStepName,
+        Instant enqueueTime,
+        Instant startTime,
+        Instant endTime,
+        long predecessorWaitMillis,
+        int retryCount,
+        StepStatus status
+    ) {
+        this.workflowStepId = workflowStepId;
+        this.workflowStepName = workflowStepName;
+        this.enqueueTime = enqueueTime;
+        this.startTime = startTime;
+        this.endTime = endTime;
+        this.predecessorWaitMillis = predecessorWaitMillis;
+        this.retryCount = retryCount;
+        this.status = status;
+    }
+
+    /**
+     * Create the timeline of a workflow step from a StreamInput
+     * @param input the input stream to read from
+     * @throws IOException if failed to read input stream
+     */
+    public StepTimeline(StreamInput input) throws IOException {
+        this.workflowStepId = input.readString();
+        this.workflowStepName = input.readString();
+        this.enqueueTime = input.readOptionalInstant();
+        this.startTime = input.readOptionalInstant();
+        this.endTime = input.readOptionalInstant();
+        this.predecessorWaitMillis = input.readVLong();
+        this.retryCount = input.readVInt();
+        this.status = input.readEnum(StepStatus.class);
+    }
+
+    @Override
+    public void writeTo(StreamOutput out) throws IOException {
+        out.writeString(workflowStepId);
+        out.writeString(workflowStepName);
+        out.writeOptionalInstant(enqueueTime);
+        out.writeOptionalInstant(startTime);
+        out.writeOptionalInstant(endTime);
+        out.writeVLong(predecessorWaitMillis);
+        out.writeVInt(retryCount);
+        out.writeEnum(status);
+    }
+
+    @Override
+    public XContentBuilder toXContent(XContentBuilder builder, Params params) throws IOException {
+        builder.startObject();
+        builder.field(WORKFLOW_STEP_ID, workflowStepId);
+        builder.field(WORKFLOW_STEP_NAME, workflowStepName);
+        if (enqueueTime != null) {
+            builder.field(ENQUEUE_TIME_FIELD, enqueueTime.toEpochMilli());
+        }
+        if (startTime != null) {
+            builder.field(START_TIME_FIELD, startTime.toEpochMilli());
+        }
+        if (endTime != null) {
+            builder.field(END_TIME_FIELD, endTime.toEpochMilli());
+        }
+        builder.field(PREDECESSOR_WAIT_MILLIS_FIELD, predecessorWaitMillis);
+        builder.field(RETRY_COUNT_FIELD, retryCount);
+        builder.field(STEP_STATUS_FIELD, status.name());
+        return builder.endObject();
+    }
+
+    /**
+     * Parse raw JSON content into a StepTimeline instance.
+     *
+     * @param parser JSON based content parser
+     * @return the parsed StepTimeline instance
+     * @throws IOException if content can't be parsed correctly
+     */
+    public static StepTimeline parse(XContentParser parser) throws IOException {
+        String workflowStepId = null;
+        String workflowStepName = null;
+        Instant enqueueTime = null;
+        Instant startTime = null;
+        Instant endTime = null;
+        long predecessorWaitMillis = 0;
+        int retryCount = 0;
+        StepStatus status = null;
+
+        ensureExpectedToken(XContentParser.Token.START_OBJECT, parser.currentToken(), parser);
+        while (parser.nextToken() != XContentParser.Token.END_OBJECT) {
+            String fieldName = parser.currentName();
+            parser.nextToken();
+            switch (fieldName) {
+                case WORKFLOW_STEP_ID:
+                    workflowStepId = parser.text();
+                    break;
+                case WORKFLOW_STEP_NAME:
+                    workflowStepName = parser.text();
+                    break;
+                case ENQUEUE_TIME_FIELD:
+                    enqueueTime = Instant.ofEpochMilli(parser.longValue());
+                    break;
+                case START_TIME_FIELD:
+                    startTime = Instant.ofEpochMilli(parser.longValue());
+                    break;
+                case END_TIME_FIELD:
+                    endTime = Instant.ofEpochMilli(parser.longValue());
+                    break;
+                case PREDECESSOR_WAIT_MILLIS_FIELD:
+                    predecessorWaitMillis = parser.longValue();
+                    break;
+                case RETRY_COUNT_FIELD:
+                    retryCount = parser.intValue();
+                    break;
+                case STEP_STATUS_FIELD:
+                    status = StepStatus.valueOf(parser.text());
+                    break;
+                default:
+                    throw new FlowFrameworkException(
+                        "Unable to parse field [" + fieldName + "] in a step timeline object.",
+                        RestStatus.BAD_REQUEST
+                    );
+            }
+        }
+        if (workflowStepId == null || workflowStepName == null || status == null) {
+            throw new FlowFrameworkException("A step timeline requires a step id, name and status.", RestStatus.BAD_REQUEST);
+        }
+        return new StepTimeline(
+            workflowStepId,
+            workflowStepName,
+            enqueueTime,
+            startTime,
+            endTime,
+            predecessorWaitMillis,
+            retryCount,
+            status
+        );
+    }
+
+    /**
+     * Gets the workflow step ID
+     * @return the workflowStepId
+     */
+    public String workflowStepId() {
+        return workflowStepId;
+    }
+
+    /**
+     * Gets the workflow step name
+     * @return the workflowStepName
+     */
+    public String workflowStepName() {
+        return workflowStepName;
+    }
+
+    /**
+     * Gets the time the step was queued on its thread pool
+     * @return the enqueue time
+     */
+    public Instant enqueueTime() {
+        return enqueueTime;
+    }
+
+    /**
+     * Gets the time the step started, once all predecessors completed
+     * @return the start time, or null if the step has not started
+     */
+    public Instant startTime() {
+        return startTime;
+    }
+
+    /**
+     * Gets the time the step completed
+     * @return the end time, or null if the step has not completed
+     */
+    public Instant endTime() {
+        return endTime;
+    }
+
+    /**
+     * Gets the time the step waited on its predecessors
+     * @return the predecessor wait in milliseconds
+     */
+    public long predecessorWaitMillis() {
+        return predecessorWaitMillis;
+    }
+
+    /**
+     * Gets the number of retries made while recording the step's resources
+     * @return the retry count
+     */
+    public int retryCount() {
+        return retryCount;
+    }
+
+    /**
+     * Gets the status of the step
+     * @return the status
+     */
+    public StepStatus status() {
+        return status;
+    }
+
+    @Override
+    public boolean equals(Object obj) {
+        if (this == obj) return true;
+        if (obj == null) return false;
+        if (getClass() != obj.getClass()) return false;
+        StepTimeline other = (StepTimeline) obj;
+        return predecessorWaitMillis == other.predecessorWaitMillis
+            && retryCount == other.retryCount
+            && Objects.equals(workflowStepId, other.workflowStepId)
+            && Objects.equals(workflowStepName, other.workflowStepName)
+            && Objects.equals(enqueueTime, other.enqueueTime)
+            && Objects.equals(startTime, other.startTime)
+            && Objects.equals(endTime, other.endTime)
+            && status == other.status;
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(workflowStepId, workflowStepName, enqueueTime, startTime, endTime, predecessorWaitMillis, retryCount, status);
+    }
+
+    @Override
+    public String toString() {
+        return "step_timeline [" + workflowStepId + ", " + workflowStepName + ", " + status + "]";
+    }
+}
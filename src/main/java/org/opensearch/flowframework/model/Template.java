@@ -10,10 +10,12 @@ package org.opensearch.flowframework.model;
 
 import org.opensearch.Version;
 import org.opensearch.common.xcontent.LoggingDeprecationHandler;
+import org.opensearch.common.xcontent.XContentType;
 import org.opensearch.common.xcontent.json.JsonXContent;
 import org.opensearch.common.xcontent.yaml.YamlXContent;
 import org.opensearch.commons.authuser.User;
 import org.opensearch.core.common.Strings;
+import org.opensearch.core.common.bytes.BytesReference;
 import org.opensearch.core.rest.RestStatus;
 import org.opensearch.core.xcontent.NamedXContentRegistry;
 import org.opensearch.core.xcontent.ToXContentObject;
@@ -22,7 +24,9 @@ import org.opensearch.core.xcontent.XContentParser;
 import org.opensearch.flowframework.exception.FlowFrameworkException;
 import org.opensearch.flowframework.util.ParseUtils;
 
+import java.io.ByteArrayInputStream;
 import java.io.IOException;
+import java.nio.charset.StandardCharsets;
 import java.time.Instant;
 import java.util.ArrayList;
 import java.util.Collections;
@@ -36,6 +40,7 @@ import static org.opensearch.core.xcontent.XContentParserUtils.ensureExpectedTok
 import static org.opensearch.flowframework.common.CommonValue.ALL_SHARED_PRINCIPALS_FIELD;
 import static org.opensearch.flowframework.common.CommonValue.CREATED_TIME;
 import static org.opensearch.flowframework.common.CommonValue.DESCRIPTION_FIELD;
+import static org.opensearch.flowframework.common.CommonValue.ENCODED_BODY_FIELD;
 import static org.opensearch.flowframework.common.CommonValue.LAST_PROVISIONED_TIME_FIELD;
 import static org.opensearch.flowframework.common.CommonValue.LAST_UPDATED_TIME_FIELD;
 import static org.opensearch.flowframework.common.CommonValue.NAME_FIELD;
@@ -43,6 +48,8 @@ import static org.opensearch.flowframework.common.CommonValue.TENANT_ID_FIELD;
 import static org.opensearch.flowframework.common.CommonValue.UI_METADATA_FIELD;
 import static org.opensearch.flowframework.common.CommonValue.USER_FIELD;
 import static org.opensearch.flowframework.common.CommonValue.VERSION_FIELD;
+import static org.opensearch.flowframework.common.CommonValue.WORKFLOWS_HASH_FIELD;
+import static org.opensearch.flowframework.common.CommonValue.WORKFLOWS_PARAMS_FIELD;
 
 /**
  * The Template is the central data structure which configures workflows. This object is used to parse JSON communicated via REST API.
@@ -368,14 +375,27 @@ public class Template implements ToXContentObject {
             xContentBuilder.endObject();
         }
 
-        xContentBuilder.startObject(WORKFLOWS_FIELD);
-        for (Entry<String, Workflow> e : workflows.entrySet()) {
-            xContentBuilder.field(e.getKey(), e.getValue(), params);
+        // A deduplicated template references its shared workflows section by content hash instead of holding it inline
+        String workflowsHash = params == null ? null : params.param(WORKFLOWS_HASH_FIELD);
+        if (workflowsHash != null) {
+            xContentBuilder.field(WORKFLOWS_HASH_FIELD, workflowsHash);
+            // Use case parameter values substituted into a shared section are kept with the referencing document
+            String workflowsParams = params.param(WORKFLOWS_PARAMS_FIELD);
+            if (workflowsParams != null) {
+                xContentBuilder.rawField(
+                    WORKFLOWS_PARAMS_FIELD,
+                    new ByteArrayInputStream(workflowsParams.getBytes(StandardCharsets.UTF_8)),
+                    XContentType.JSON
+                );
+            }
         }
-        xContentBuilder.endObject();
 
-        if (uiMetadata != null && !uiMetadata.isEmpty()) {
-            xContentBuilder.field(UI_METADATA_FIELD, uiMetadata);
+        // The workflows and UI metadata are never searched, so they may be stored in a compact binary encoding
+        XContentType bodyEncoding = ParseUtils.getBodyEncoding(params);
+        if (bodyEncoding != null) {
+            ParseUtils.writeEncodedBody(xContentBuilder, bodyEncoding, body -> writeBody(body, params, workflowsHash == null));
+        } else {
+            writeBody(xContentBuilder, params, workflowsHash == null);
         }
 
         if (user != null) {
@@ -409,6 +429,20 @@ public class Template implements ToXContentObject {
         return xContentBuilder.endObject();
     }
 
+    private void writeBody(XContentBuilder xContentBuilder, Params params, boolean includeWorkflows) throws IOException {
+        if (includeWorkflows) {
+            xContentBuilder.startObject(WORKFLOWS_FIELD);
+            for (Entry<String, Workflow> e : workflows.entrySet()) {
+                xContentBuilder.field(e.getKey(), e.getValue(), params);
+            }
+            xContentBuilder.endObject();
+        }
+
+        if (uiMetadata != null && !uiMetadata.isEmpty()) {
+            xContentBuilder.field(UI_METADATA_FIELD, uiMetadata);
+        }
+    }
+
     /**
      * Merges two templates by updating the fields from an existing template with the (non-null) fields of another one.
      * @param existingTemplate An existing complete template.
@@ -520,16 +554,40 @@ public class Template implements ToXContentObject {
                     }
                     break;
                 case WORKFLOWS_FIELD:
-                    ensureExpectedToken(XContentParser.Token.START_OBJECT, parser.currentToken(), parser);
-                    while (parser.nextToken() != XContentParser.Token.END_OBJECT) {
-                        String workflowFieldName = parser.currentName();
-                        parser.nextToken();
-                        workflows.put(workflowFieldName, Workflow.parse(parser));
-                    }
+                    parseWorkflows(parser, workflows);
+                    break;
+                case WORKFLOWS_HASH_FIELD:
+                case WORKFLOWS_PARAMS_FIELD:
+                    // Unresolved reference to a shared workflows section, resolved by FlowFrameworkIndicesHandler#getTemplate
+                    parser.skipChildren();
                     break;
                 case UI_METADATA_FIELD:
                     uiMetadata = parser.map();
                     break;
+                case ENCODED_BODY_FIELD:
+                    try (
+                        XContentParser bodyParser = ParseUtils.createEncodedBodyParser(parser.getXContentRegistry(), parser.binaryValue())
+                    ) {
+                        ensureExpectedToken(XContentParser.Token.START_OBJECT, bodyParser.nextToken(), bodyParser);
+                        while (bodyParser.nextToken() != XContentParser.Token.END_OBJECT) {
+                            String bodyFieldName = bodyParser.currentName();
+                            bodyParser.nextToken();
+                            switch (bodyFieldName) {
+                                case WORKFLOWS_FIELD:
+                                    parseWorkflows(bodyParser, workflows);
+                                    break;
+                                case UI_METADATA_FIELD:
+                                    uiMetadata = bodyParser.map();
+                                    break;
+                                default:
+                                    throw new FlowFrameworkException(
+                                        "Unable to parse field [" + bodyFieldName + "] in an encoded template body.",
+                                        RestStatus.BAD_REQUEST
+                                    );
+                            }
+                        }
+                    }
+                    break;
                 case USER_FIELD:
                     user = User.parse(parser);
                     break;
@@ -607,6 +665,29 @@ public class Template implements ToXContentObject {
         }
     }
 
+    /**
+     * Parse a use case template directly from the bytes of a document source, without materializing it as a String
+     *
+     * @param source the document source
+     * @return A {@link Template} represented by the source.
+     * @throws IOException on failure to parse
+     */
+    public static Template parse(BytesReference source) throws IOException {
+        try (XContentParser parser = ParseUtils.createXContentParserFromRegistry(NamedXContentRegistry.EMPTY, source)) {
+            ensureExpectedToken(XContentParser.Token.START_OBJECT, parser.nextToken(), parser);
+            return parse(parser);
+        }
+    }
+
+    private static void parseWorkflows(XContentParser parser, Map<String, Workflow> workflows) throws IOException {
+        ensureExpectedToken(XContentParser.Token.START_OBJECT, parser.currentToken(), parser);
+        while (parser.nextToken() != XContentParser.Token.END_OBJECT) {
+            String workflowFieldName = parser.currentName();
+            parser.nextToken();
+            workflows.put(workflowFieldName, Workflow.parse(parser));
+        }
+    }
+
     /**
      * Creates an empty template with the given tenant ID
      *
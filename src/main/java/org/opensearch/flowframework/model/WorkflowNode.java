@@ -35,6 +35,7 @@ import java.util.Set;
 import static java.util.concurrent.TimeUnit.SECONDS;
 import static org.opensearch.core.xcontent.XContentParserUtils.ensureExpectedToken;
 import static org.opensearch.flowframework.common.CommonValue.CONFIGURATIONS;
+import static org.opensearch.flowframework.common.CommonValue.FAN_OUT_FIELD;
 import static org.opensearch.flowframework.common.CommonValue.GUARDRAILS_FIELD;
 import static org.opensearch.flowframework.common.CommonValue.INTERFACE_FIELD;
 import static org.opensearch.flowframework.common.CommonValue.LLM;
@@ -65,8 +66,8 @@ public class WorkflowNode implements ToXContentObject {
     public static final String NODE_TIMEOUT_FIELD = "node_timeout";
     /** The default timeout value if the template doesn't override it */
     public static final TimeValue NODE_TIMEOUT_DEFAULT_VALUE = new TimeValue(10, SECONDS);
-    /** Map fields */
-    private static final Set<String> MAP_FIELDS = Set.of(CONFIGURATIONS, INTERFACE_FIELD, LLM);
+    /** Map fields stored as JSON strings */
+    private static final Set<String> MAP_FIELDS = Set.of(INTERFACE_FIELD, LLM);
 
     private final String id; // unique id
     private final String type; // maps to a WorkflowStep
@@ -106,6 +107,10 @@ public class WorkflowNode implements ToXContentObject {
             } else if (GUARDRAILS_FIELD.equals(e.getKey())) {
                 Guardrails g = (Guardrails) e.getValue();
                 xContentBuilder.value(g);
+            } else if (CONFIGURATIONS.equals(e.getKey()) && e.getValue() instanceof Map<?, ?>) {
+                @SuppressWarnings("unchecked")
+                Map<String, Object> configurations = (Map<String, Object>) e.getValue();
+                xContentBuilder.map(configurations);
             } else if (e.getValue() instanceof Map<?, ?>) {
                 buildStringToStringMap(xContentBuilder, (Map<?, ?>) e.getValue());
             } else if (e.getValue() instanceof Object[]) {
@@ -170,6 +175,10 @@ public class WorkflowNode implements ToXContentObject {
                                 if (GUARDRAILS_FIELD.equals(inputFieldName)) {
                                     userInputs.put(inputFieldName, Guardrails.parse(parser));
                                     break;
+                                } else if (CONFIGURATIONS.equals(inputFieldName)) {
+                                    // Kept structured, so that steps build requests without re-parsing an encoded string
+                                    userInputs.put(inputFieldName, parser.mapOrdered());
+                                    break;
                                 } else if (MAP_FIELDS.contains(inputFieldName)) {
                                     Map<String, Object> configurationsMap = parser.map();
                                     try {
@@ -201,6 +210,13 @@ public class WorkflowNode implements ToXContentObject {
                                         toolsList.add(parser.text());
                                     }
                                     userInputs.put(inputFieldName, toolsList.toArray(new String[0]));
+                                } else if (FAN_OUT_FIELD.equals(inputFieldName)) {
+                                    // Entries override any input, so they keep structured values such as configurations
+                                    List<Map<String, Object>> entries = new ArrayList<>();
+                                    while (parser.nextToken() != XContentParser.Token.END_ARRAY) {
+                                        entries.add(parser.mapOrdered());
+                                    }
+                                    userInputs.put(inputFieldName, entries.toArray(new Map[0]));
                                 } else {
                                     List<Map<String, Object>> mapList = new ArrayList<>();
                                     while (parser.nextToken() != XContentParser.Token.END_ARRAY) {
@@ -9,9 +9,11 @@
 package org.opensearch.flowframework.model;
 
 import org.opensearch.common.xcontent.LoggingDeprecationHandler;
+import org.opensearch.common.xcontent.XContentType;
 import org.opensearch.common.xcontent.json.JsonXContent;
 import org.opensearch.commons.authuser.User;
 import org.opensearch.core.common.ParsingException;
+import org.opensearch.core.common.bytes.BytesReference;
 import org.opensearch.core.common.io.stream.StreamInput;
 import org.opensearch.core.common.io.stream.StreamOutput;
 import org.opensearch.core.common.io.stream.Writeable;
@@ -31,15 +33,19 @@ import java.util.ArrayList;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.Set;
 
 import static org.opensearch.core.xcontent.XContentParserUtils.ensureExpectedToken;
 import static org.opensearch.flowframework.common.CommonValue.ALL_SHARED_PRINCIPALS_FIELD;
+import static org.opensearch.flowframework.common.CommonValue.ENCODED_BODY_FIELD;
 import static org.opensearch.flowframework.common.CommonValue.ERROR_FIELD;
+import static org.opensearch.flowframework.common.CommonValue.HAS_BACKGROUND_TASKS_FIELD;
 import static org.opensearch.flowframework.common.CommonValue.PROVISIONING_PROGRESS_FIELD;
 import static org.opensearch.flowframework.common.CommonValue.PROVISION_END_TIME_FIELD;
 import static org.opensearch.flowframework.common.CommonValue.PROVISION_START_TIME_FIELD;
 import static org.opensearch.flowframework.common.CommonValue.RESOURCES_CREATED_FIELD;
 import static org.opensearch.flowframework.common.CommonValue.STATE_FIELD;
+import static org.opensearch.flowframework.common.CommonValue.STEP_TIMELINE_FIELD;
 import static org.opensearch.flowframework.common.CommonValue.TENANT_ID_FIELD;
 import static org.opensearch.flowframework.common.CommonValue.USER_FIELD;
 import static org.opensearch.flowframework.common.CommonValue.USER_OUTPUTS_FIELD;
@@ -51,6 +57,21 @@ import static org.opensearch.flowframework.util.ParseUtils.parseStringToStringMa
  * global context.
  */
 public class WorkflowState implements ToXContentObject, Writeable {
+    /** The top level fields which may be requested individually from the get workflow state API */
+    public static final Set<String> PROJECTABLE_FIELDS = Set.of(
+        WORKFLOW_ID_FIELD,
+        ERROR_FIELD,
+        STATE_FIELD,
+        PROVISIONING_PROGRESS_FIELD,
+        PROVISION_START_TIME_FIELD,
+        PROVISION_END_TIME_FIELD,
+        USER_FIELD,
+        USER_OUTPUTS_FIELD,
+        RESOURCES_CREATED_FIELD,
+        STEP_TIMELINE_FIELD,
+        TENANT_ID_FIELD
+    );
+
     private String workflowId;
     private String error;
     private String state;
@@ -61,6 +82,7 @@ public class WorkflowState implements ToXContentObject, Writeable {
     private User user;
     private Map<String, Object> userOutputs;
     private List<ResourceCreated> resourcesCreated;
+    private List<StepTimeline> stepTimeline = List.of();
     private String tenantId;
     private List<String> allSharedPrincipals;
 
@@ -130,6 +152,9 @@ public class WorkflowState implements ToXContentObject, Writeable {
         if (input.getVersion().onOrAfter(CommonValue.VERSION_2_19_0)) {
             this.tenantId = input.readOptionalString();
         }
+        if (input.getVersion().onOrAfter(CommonValue.VERSION_3_6_0)) {
+            this.stepTimeline = input.readList(StepTimeline::new);
+        }
 
     }
 
@@ -163,6 +188,7 @@ public class WorkflowState implements ToXContentObject, Writeable {
         private User user = null;
         private Map<String, Object> userOutputs = null;
         private List<ResourceCreated> resourcesCreated = null;
+        private List<StepTimeline> stepTimeline = null;
         private String tenantId = null;
         private List<String> allSharedPrincipals = null;
 
@@ -185,6 +211,7 @@ public class WorkflowState implements ToXContentObject, Writeable {
             this.user = existingState.getUser();
             this.userOutputs = existingState.userOutputs();
             this.resourcesCreated = existingState.resourcesCreated();
+            this.stepTimeline = existingState.stepTimeline();
             this.tenantId = existingState.getTenantId();
             this.allSharedPrincipals = existingState.getAllSharedPrincipals();
         }
@@ -279,6 +306,16 @@ public class WorkflowState implements ToXContentObject, Writeable {
             return this;
         }
 
+        /**
+         * Builder method for adding the step timeline
+         * @param stepTimeline the execution timeline of each workflow step
+         * @return the Builder object
+         */
+        public Builder stepTimeline(List<StepTimeline> stepTimeline) {
+            this.stepTimeline = stepTimeline;
+            return this;
+        }
+
         /**
          * Builder method for adding tenant id
          * @param tenantId tenant id
@@ -314,6 +351,7 @@ public class WorkflowState implements ToXContentObject, Writeable {
             workflowState.user = this.user;
             workflowState.userOutputs = this.userOutputs;
             workflowState.resourcesCreated = this.resourcesCreated;
+            workflowState.stepTimeline = this.stepTimeline;
             workflowState.tenantId = this.tenantId;
             workflowState.allSharedPrincipals = this.allSharedPrincipals;
             return workflowState;
@@ -355,6 +393,9 @@ public class WorkflowState implements ToXContentObject, Writeable {
         if (stateWithNewFields.resourcesCreated() != null) {
             builder.resourcesCreated(stateWithNewFields.resourcesCreated());
         }
+        if (!stateWithNewFields.stepTimeline().isEmpty()) {
+            builder.stepTimeline(stateWithNewFields.stepTimeline());
+        }
         if (stateWithNewFields.getTenantId() != null) {
             builder.tenantId(stateWithNewFields.getTenantId());
         }
@@ -365,9 +406,42 @@ public class WorkflowState implements ToXContentObject, Writeable {
         return builder.build();
     }
 
+    /**
+     * Creates a copy of this workflow state containing only the given fields. The workflow id is always kept.
+     * @param fields the top level fields to keep, see {@link #PROJECTABLE_FIELDS}
+     * @return the projected workflow state
+     */
+    public WorkflowState project(Set<String> fields) {
+        return new Builder().workflowId(workflowId)
+            .error(fields.contains(ERROR_FIELD) ? error : null)
+            .state(fields.contains(STATE_FIELD) ? state : null)
+            .provisioningProgress(fields.contains(PROVISIONING_PROGRESS_FIELD) ? provisioningProgress : null)
+            .provisionStartTime(fields.contains(PROVISION_START_TIME_FIELD) ? provisionStartTime : null)
+            .provisionEndTime(fields.contains(PROVISION_END_TIME_FIELD) ? provisionEndTime : null)
+            .user(fields.contains(USER_FIELD) ? user : null)
+            .userOutputs(fields.contains(USER_OUTPUTS_FIELD) ? userOutputs : null)
+            .resourcesCreated(fields.contains(RESOURCES_CREATED_FIELD) ? resourcesCreated : List.of())
+            .stepTimeline(fields.contains(STEP_TIMELINE_FIELD) ? stepTimeline : null)
+            .tenantId(fields.contains(TENANT_ID_FIELD) ? tenantId : null)
+            .build();
+    }
+
     @Override
     public XContentBuilder toXContent(XContentBuilder builder, Params params) throws IOException {
-        XContentBuilder xContentBuilder = builder.startObject();
+        builder.startObject();
+        innerToXContent(builder, params);
+        return builder.endObject();
+    }
+
+    /**
+     * Writes the fields of this workflow state into an object which has already been started
+     * @param builder the builder to write to
+     * @param params the XContent params
+     * @return the builder
+     * @throws IOException on failure to write
+     */
+    public XContentBuilder innerToXContent(XContentBuilder builder, Params params) throws IOException {
+        XContentBuilder xContentBuilder = builder;
         if (workflowId != null) {
             xContentBuilder.field(WORKFLOW_ID_FIELD, workflowId);
         }
@@ -390,11 +464,20 @@ public class WorkflowState implements ToXContentObject, Writeable {
             xContentBuilder.field(USER_FIELD, user);
         }
         if (userOutputs != null && !userOutputs.isEmpty()) {
-            xContentBuilder.field(USER_OUTPUTS_FIELD, userOutputs);
+            // User outputs are never searched, so they may be stored in a compact binary encoding
+            XContentType bodyEncoding = ParseUtils.getBodyEncoding(params);
+            if (bodyEncoding != null) {
+                ParseUtils.writeEncodedBody(xContentBuilder, bodyEncoding, body -> body.field(USER_OUTPUTS_FIELD, userOutputs));
+            } else {
+                xContentBuilder.field(USER_OUTPUTS_FIELD, userOutputs);
+            }
         }
         if (resourcesCreated != null && !resourcesCreated.isEmpty()) {
             xContentBuilder.field(RESOURCES_CREATED_FIELD, resourcesCreated.toArray());
         }
+        if (stepTimeline != null && !stepTimeline.isEmpty()) {
+            xContentBuilder.field(STEP_TIMELINE_FIELD, stepTimeline.toArray());
+        }
         if (tenantId != null) {
             xContentBuilder.field(TENANT_ID_FIELD, tenantId);
         }
@@ -406,7 +489,7 @@ public class WorkflowState implements ToXContentObject, Writeable {
             }
             xContentBuilder.endArray();
         }
-        return xContentBuilder.endObject();
+        return xContentBuilder;
     }
 
     @Override
@@ -439,6 +522,9 @@ public class WorkflowState implements ToXContentObject, Writeable {
         if (output.getVersion().onOrAfter(CommonValue.VERSION_2_19_0)) {
             output.writeOptionalString(tenantId);
         }
+        if (output.getVersion().onOrAfter(CommonValue.VERSION_3_6_0)) {
+            output.writeList(stepTimeline());
+        }
     }
 
     /**
@@ -458,6 +544,7 @@ public class WorkflowState implements ToXContentObject, Writeable {
         User user = null;
         Map<String, Object> userOutputs = new HashMap<>();
         List<ResourceCreated> resourcesCreated = new ArrayList<>();
+        List<StepTimeline> stepTimeline = new ArrayList<>();
         String tenantId = null;
         List<String> allSharedPrincipals = new ArrayList<>();
 
@@ -488,21 +575,26 @@ public class WorkflowState implements ToXContentObject, Writeable {
                     user = User.parse(parser);
                     break;
                 case USER_OUTPUTS_FIELD:
-                    ensureExpectedToken(XContentParser.Token.START_OBJECT, parser.currentToken(), parser);
-                    while (parser.nextToken() != XContentParser.Token.END_OBJECT) {
-                        String userOutputsFieldName = parser.currentName();
-                        switch (parser.nextToken()) {
-                            case VALUE_STRING:
-                                userOutputs.put(userOutputsFieldName, parser.text());
-                                break;
-                            case START_OBJECT:
-                                userOutputs.put(userOutputsFieldName, parseStringToStringMap(parser));
-                                break;
-                            default:
+                    // Cleared when the user outputs moved into the encoded body
+                    if (parser.currentToken() != XContentParser.Token.VALUE_NULL) {
+                        parseUserOutputs(parser, userOutputs);
+                    }
+                    break;
+                case ENCODED_BODY_FIELD:
+                    try (
+                        XContentParser bodyParser = ParseUtils.createEncodedBodyParser(parser.getXContentRegistry(), parser.binaryValue())
+                    ) {
+                        ensureExpectedToken(XContentParser.Token.START_OBJECT, bodyParser.nextToken(), bodyParser);
+                        while (bodyParser.nextToken() != XContentParser.Token.END_OBJECT) {
+                            String bodyFieldName = bodyParser.currentName();
+                            bodyParser.nextToken();
+                            if (!USER_OUTPUTS_FIELD.equals(bodyFieldName)) {
                                 throw new FlowFrameworkException(
-                                    "Unable to parse field [" + userOutputsFieldName + "] in a user_outputs object.",
+                                    "Unable to parse field [" + bodyFieldName + "] in an encoded workflowState body.",
                                     RestStatus.BAD_REQUEST
                                 );
+                            }
+                            parseUserOutputs(bodyParser, userOutputs);
                         }
                     }
                     break;
@@ -519,9 +611,19 @@ public class WorkflowState implements ToXContentObject, Writeable {
                         throw e;
                     }
                     break;
+                case STEP_TIMELINE_FIELD:
+                    ensureExpectedToken(XContentParser.Token.START_ARRAY, parser.currentToken(), parser);
+                    while (parser.nextToken() != XContentParser.Token.END_ARRAY) {
+                        stepTimeline.add(StepTimeline.parse(parser));
+                    }
+                    break;
                 case TENANT_ID_FIELD:
                     tenantId = parser.text();
                     break;
+                case HAS_BACKGROUND_TASKS_FIELD:
+                    // Only searched for by ReindexTaskRecovery, the background tasks are recorded in the user outputs
+                    parser.skipChildren();
+                    break;
                 case ALL_SHARED_PRINCIPALS_FIELD:
                     ensureExpectedToken(XContentParser.Token.START_ARRAY, parser.currentToken(), parser);
                     while (parser.nextToken() != XContentParser.Token.END_ARRAY) {
@@ -544,6 +646,7 @@ public class WorkflowState implements ToXContentObject, Writeable {
             .user(user)
             .userOutputs(userOutputs)
             .resourcesCreated(resourcesCreated)
+            .stepTimeline(stepTimeline)
             .tenantId(tenantId)
             .allSharedPrincipals(allSharedPrincipals)
             .build();
@@ -565,6 +668,39 @@ public class WorkflowState implements ToXContentObject, Writeable {
         return parse(parser);
     }
 
+    /**
+     * Parse a workflow state directly from the bytes of a document source, without materializing it as a String
+     * @param source the document source
+     * @return A {@link WorkflowState} represented by the source
+     * @throws IOException on failure to parse
+     */
+    public static WorkflowState parse(BytesReference source) throws IOException {
+        try (XContentParser parser = ParseUtils.createXContentParserFromRegistry(NamedXContentRegistry.EMPTY, source)) {
+            ensureExpectedToken(XContentParser.Token.START_OBJECT, parser.nextToken(), parser);
+            return parse(parser);
+        }
+    }
+
+    private static void parseUserOutputs(XContentParser parser, Map<String, Object> userOutputs) throws IOException {
+        ensureExpectedToken(XContentParser.Token.START_OBJECT, parser.currentToken(), parser);
+        while (parser.nextToken() != XContentParser.Token.END_OBJECT) {
+            String userOutputsFieldName = parser.currentName();
+            switch (parser.nextToken()) {
+                case VALUE_STRING:
+                    userOutputs.put(userOutputsFieldName, parser.text());
+                    break;
+                case START_OBJECT:
+                    userOutputs.put(userOutputsFieldName, parseStringToStringMap(parser));
+                    break;
+                default:
+                    throw new FlowFrameworkException(
+                        "Unable to parse field [" + userOutputsFieldName + "] in a user_outputs object.",
+                        RestStatus.BAD_REQUEST
+                    );
+            }
+        }
+    }
+
     /**
      * The workflowID associated with this workflow-state
      * @return the workflowId
@@ -637,6 +773,14 @@ public class WorkflowState implements ToXContentObject, Writeable {
         return resourcesCreated;
     }
 
+    /**
+     * The execution timeline of each workflow step of the last provisioning
+     * @return the step timeline, or an empty list if none was recorded
+     */
+    public List<StepTimeline> stepTimeline() {
+        return stepTimeline == null ? List.of() : stepTimeline;
+    }
+
     /**
      * The tenant id associated with this workflow-state
      * @return the tenantId
@@ -10,12 +10,12 @@ package org.opensearch.flowframework.rest;
 
 import org.opensearch.action.ActionType;
 import org.opensearch.action.search.SearchRequest;
-import org.opensearch.action.search.SearchResponse;
 import org.opensearch.core.rest.RestStatus;
 import org.opensearch.core.xcontent.ToXContent;
 import org.opensearch.core.xcontent.ToXContentObject;
 import org.opensearch.flowframework.common.FlowFrameworkSettings;
 import org.opensearch.flowframework.exception.FlowFrameworkException;
+import org.opensearch.flowframework.transport.FlowFrameworkSearchResponse;
 import org.opensearch.flowframework.util.TenantAwareHelper;
 import org.opensearch.rest.BaseRestHandler;
 import org.opensearch.rest.BytesRestResponse;
@@ -46,7 +46,7 @@ public abstract class AbstractSearchWorkflowAction<T extends ToXContentObject> e
     /** Search class name*/
     protected final Class<T> clazz;
     /** Search action type*/
-    protected final ActionType<SearchResponse> actionType;
+    protected final ActionType<FlowFrameworkSearchResponse> actionType;
     /** Settings to enable FlowFramework API*/
     protected final FlowFrameworkSettings flowFrameworkSettings;
 
@@ -62,7 +62,7 @@ public abstract class AbstractSearchWorkflowAction<T extends ToXContentObject> e
         List<String> urlPaths,
         String index,
         Class<T> clazz,
-        ActionType<SearchResponse> actionType,
+        ActionType<FlowFrameworkSearchResponse> actionType,
         FlowFrameworkSettings flowFrameworkSettings
     ) {
         this.urlPaths = urlPaths;
@@ -108,10 +108,10 @@ public abstract class AbstractSearchWorkflowAction<T extends ToXContentObject> e
      * @param channel the REST channel
      * @return the action response
      */
-    protected RestResponseListener<SearchResponse> search(RestChannel channel) {
-        return new RestResponseListener<SearchResponse>(channel) {
+    protected RestResponseListener<FlowFrameworkSearchResponse> search(RestChannel channel) {
+        return new RestResponseListener<FlowFrameworkSearchResponse>(channel) {
             @Override
-            public RestResponse buildResponse(SearchResponse response) throws Exception {
+            public RestResponse buildResponse(FlowFrameworkSearchResponse response) throws Exception {
                 if (response.isTimedOut()) {
                     return new BytesRestResponse(RestStatus.REQUEST_TIMEOUT, response.toString());
                 }
@@ -0,0 +1,127 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * The OpenSearch Contributors require contributions made to
+ * this file be licensed under the Apache-2.0 license or a
+ * compatible open source license.
+ */
+package org.opensearch.flowframework.rest;
+
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+import org.opensearch.ExceptionsHelper;
+import org.opensearch.core.action.ActionListener;
+import org.opensearch.core.rest.RestStatus;
+import org.opensearch.core.xcontent.ToXContent;
+import org.opensearch.core.xcontent.XContentBuilder;
+import org.opensearch.flowframework.common.FlowFrameworkSettings;
+import org.opensearch.flowframework.exception.FlowFrameworkException;
+import org.opensearch.flowframework.transport.ExportWorkflowsAction;
+import org.opensearch.flowframework.transport.ExportWorkflowsRequest;
+import org.opensearch.flowframework.util.TenantAwareHelper;
+import org.opensearch.rest.BaseRestHandler;
+import org.opensearch.rest.BytesRestResponse;
+import org.opensearch.rest.RestRequest;
+import org.opensearch.transport.client.node.NodeClient;
+
+import java.io.IOException;
+import java.util.List;
+
+import static org.opensearch.flowframework.common.CommonValue.EXPORT_CREDENTIALS;
+import static org.opensearch.flowframework.common.CommonValue.EXPORT_CURSOR;
+import static org.opensearch.flowframework.common.CommonValue.EXPORT_NEXT_CURSOR_HEADER;
+import static org.opensearch.flowframework.common.CommonValue.EXPORT_SIZE;
+import static org.opensearch.flowframework.common.CommonValue.WORKFLOW_URI;
+import static org.opensearch.flowframework.common.FlowFrameworkSettings.FLOW_FRAMEWORK_ENABLED;
+
+/**
+ * Rest Action to facilitate requests to export the workflows and workflow states of a tenant.
+ * Each call returns a page of workflows as newline delimited JSON, and the cursor to the next page in a response header.
+ */
+public class RestExportWorkflowsAction extends BaseRestHandler {
+
+    private static final String EXPORT_WORKFLOWS_ACTION = "export_workflows";
+    private static final String NDJSON_CONTENT_TYPE = "application/x-ndjson";
+    private static final String REDACTED_CREDENTIALS = "redacted";
+    private static final String ENCRYPTED_CREDENTIALS = "encrypted";
+    private static final Logger logger = LogManager.getLogger(RestExportWorkflowsAction.class);
+    private final FlowFrameworkSettings flowFrameworkFeatureEnabledSetting;
+
+    /**
+     * Instantiates a new RestExportWorkflowsAction
+     * @param flowFrameworkFeatureEnabledSetting Whether this API is enabled
+     */
+    public RestExportWorkflowsAction(FlowFrameworkSettings flowFrameworkFeatureEnabledSetting) {
+        this.flowFrameworkFeatureEnabledSetting = flowFrameworkFeatureEnabledSetting;
+    }
+
+    @Override
+    public String getName() {
+        return EXPORT_WORKFLOWS_ACTION;
+    }
+
+    @Override
+    protected BaseRestHandler.RestChannelConsumer prepareRequest(RestRequest request, NodeClient client) throws IOException {
+        int size = request.paramAsInt(EXPORT_SIZE, ExportWorkflowsRequest.DEFAULT_SIZE);
+        String cursor = request.param(EXPORT_CURSOR);
+        String credentials = request.param(EXPORT_CREDENTIALS, REDACTED_CREDENTIALS);
+        try {
+            if (!flowFrameworkFeatureEnabledSetting.isFlowFrameworkEnabled()) {
+                throw new FlowFrameworkException(
+                    "This API is disabled. To enable it, update the setting [" + FLOW_FRAMEWORK_ENABLED.getKey() + "] to true.",
+                    RestStatus.FORBIDDEN
+                );
+            }
+            String tenantId = TenantAwareHelper.getTenantID(flowFrameworkFeatureEnabledSetting.isMultiTenancyEnabled(), request);
+
+            // Validate params
+            if (size < 1 || size > ExportWorkflowsRequest.MAX_SIZE) {
+                throw new FlowFrameworkException(
+                    EXPORT_SIZE + " must be between 1 and " + ExportWorkflowsRequest.MAX_SIZE,
+                    RestStatus.BAD_REQUEST
+                );
+            }
+            if (!REDACTED_CREDENTIALS.equals(credentials) && !ENCRYPTED_CREDENTIALS.equals(credentials)) {
+                throw new FlowFrameworkException(
+                    EXPORT_CREDENTIALS + " must be " + REDACTED_CREDENTIALS + " or " + ENCRYPTED_CREDENTIALS,
+                    RestStatus.BAD_REQUEST
+                );
+            }
+            if (cursor != null) {
+                ExportWorkflowsRequest.decodeCursor(cursor);
+            }
+            boolean encryptedCredentials = ENCRYPTED_CREDENTIALS.equals(credentials);
+            ExportWorkflowsRequest exportRequest = new ExportWorkflowsRequest(tenantId, size, cursor, encryptedCredentials);
+
+            return channel -> client.execute(ExportWorkflowsAction.INSTANCE, exportRequest, ActionListener.wrap(response -> {
+                BytesRestResponse restResponse = new BytesRestResponse(RestStatus.OK, NDJSON_CONTENT_TYPE, response.getContent());
+                if (response.getNextCursor() != null) {
+                    restResponse.addHeader(EXPORT_NEXT_CURSOR_HEADER, response.getNextCursor());
+                }
+                channel.sendResponse(restResponse);
+            }, exception -> {
+                try {
+                    FlowFrameworkException ex = exception instanceof FlowFrameworkException
+                        ? (FlowFrameworkException) exception
+                        : new FlowFrameworkException("Failed to export workflows.", ExceptionsHelper.status(exception));
+                    XContentBuilder exceptionBuilder = ex.toXContent(channel.newErrorBuilder(), ToXContent.EMPTY_PARAMS);
+                    channel.sendResponse(new BytesRestResponse(ex.getRestStatus(), exceptionBuilder));
+                } catch (IOException e) {
+                    String errorMessage = "IOException: Failed to send back export workflows exception";
+                    logger.error(errorMessage, e);
+                    channel.sendResponse(new BytesRestResponse(ExceptionsHelper.status(e), errorMessage));
+                }
+            }));
+        } catch (FlowFrameworkException ex) {
+            return channel -> channel.sendResponse(
+                new BytesRestResponse(ex.getRestStatus(), ex.toXContent(channel.newErrorBuilder(), ToXContent.EMPTY_PARAMS))
+            );
+        }
+    }
+
+    @Override
+    public List<Route> routes() {
+        return List.of(new Route(RestRequest.Method.GET, WORKFLOW_URI + "/_export"));
+    }
+}
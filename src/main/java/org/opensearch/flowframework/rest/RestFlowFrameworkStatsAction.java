@@ -0,0 +1,104 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * The OpenSearch Contributors require contributions made to
+ * this file be licensed under the Apache-2.0 license or a
+ * compatible open source license.
+ */
+package org.opensearch.flowframework.rest;
+
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+import org.opensearch.ExceptionsHelper;
+import org.opensearch.core.action.ActionListener;
+import org.opensearch.core.common.Strings;
+import org.opensearch.core.rest.RestStatus;
+import org.opensearch.core.xcontent.ToXContent;
+import org.opensearch.core.xcontent.XContentBuilder;
+import org.opensearch.flowframework.common.FlowFrameworkSettings;
+import org.opensearch.flowframework.exception.FlowFrameworkException;
+import org.opensearch.flowframework.transport.FlowFrameworkStatsAction;
+import org.opensearch.flowframework.transport.FlowFrameworkStatsRequest;
+import org.opensearch.rest.BaseRestHandler;
+import org.opensearch.rest.BytesRestResponse;
+import org.opensearch.rest.RestRequest;
+import org.opensearch.transport.client.node.NodeClient;
+
+import java.io.IOException;
+import java.util.List;
+import java.util.Locale;
+
+import static org.opensearch.flowframework.common.CommonValue.FLOW_FRAMEWORK_BASE_URI;
+import static org.opensearch.flowframework.common.CommonValue.NODE_ID;
+import static org.opensearch.flowframework.common.CommonValue.STATS_URI;
+import static org.opensearch.flowframework.common.FlowFrameworkSettings.FLOW_FRAMEWORK_ENABLED;
+
+/**
+ * Rest Action to facilitate requests to get the flow framework stats of the cluster or of specific nodes
+ */
+public class RestFlowFrameworkStatsAction extends BaseRestHandler {
+
+    private static final String FLOW_FRAMEWORK_STATS_ACTION = "flow_framework_stats";
+    private static final Logger logger = LogManager.getLogger(RestFlowFrameworkStatsAction.class);
+    private FlowFrameworkSettings flowFrameworkSettings;
+
+    /**
+     * Instantiates a new RestFlowFrameworkStatsAction
+     * @param flowFrameworkSettings Whether this API is enabled
+     */
+    public RestFlowFrameworkStatsAction(FlowFrameworkSettings flowFrameworkSettings) {
+        this.flowFrameworkSettings = flowFrameworkSettings;
+    }
+
+    @Override
+    public String getName() {
+        return FLOW_FRAMEWORK_STATS_ACTION;
+    }
+
+    @Override
+    public List<Route> routes() {
+        return List.of(
+            new Route(RestRequest.Method.GET, STATS_URI),
+            new Route(RestRequest.Method.GET, String.format(Locale.ROOT, "%s/{%s}/%s", FLOW_FRAMEWORK_BASE_URI, NODE_ID, "stats"))
+        );
+    }
+
+    @Override
+    protected RestChannelConsumer prepareRequest(RestRequest request, NodeClient client) throws IOException {
+        try {
+            if (!flowFrameworkSettings.isFlowFrameworkEnabled()) {
+                throw new FlowFrameworkException(
+                    "This API is disabled. To enable it, update the setting [" + FLOW_FRAMEWORK_ENABLED.getKey() + "] to true.",
+                    RestStatus.FORBIDDEN
+                );
+            }
+            // Always consume content to silently ignore it
+            request.content();
+
+            // No node ids fans out to every node, _local limits the request to the coordinating node
+            String[] nodeIds = Strings.splitStringByCommaToArray(request.param(NODE_ID));
+            FlowFrameworkStatsRequest statsRequest = new FlowFrameworkStatsRequest(nodeIds);
+            return channel -> client.execute(FlowFrameworkStatsAction.INSTANCE, statsRequest, ActionListener.wrap(response -> {
+                XContentBuilder builder = response.toXContent(channel.newBuilder(), request);
+                channel.sendResponse(new BytesRestResponse(RestStatus.OK, builder));
+            }, exception -> {
+                try {
+                    FlowFrameworkException ex = exception instanceof FlowFrameworkException
+                        ? (FlowFrameworkException) exception
+                        : new FlowFrameworkException("Failed to get flow framework stats.", ExceptionsHelper.status(exception));
+                    XContentBuilder exceptionBuilder = ex.toXContent(channel.newErrorBuilder(), ToXContent.EMPTY_PARAMS);
+                    channel.sendResponse(new BytesRestResponse(ex.getRestStatus(), exceptionBuilder));
+                } catch (IOException e) {
+                    String errorMessage = "IOException: Failed to send back flow framework stats exception";
+                    logger.error(errorMessage, e);
+                    channel.sendResponse(new BytesRestResponse(ExceptionsHelper.status(e), errorMessage));
+                }
+            }));
+        } catch (FlowFrameworkException ex) {
+            return channel -> channel.sendResponse(
+                new BytesRestResponse(ex.getRestStatus(), ex.toXContent(channel.newErrorBuilder(), ToXContent.EMPTY_PARAMS))
+            );
+        }
+    }
+}
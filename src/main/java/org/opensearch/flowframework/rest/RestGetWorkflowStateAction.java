@@ -11,12 +11,14 @@ package org.opensearch.flowframework.rest;
 import org.apache.logging.log4j.LogManager;
 import org.apache.logging.log4j.Logger;
 import org.opensearch.ExceptionsHelper;
+import org.opensearch.common.unit.TimeValue;
 import org.opensearch.core.action.ActionListener;
 import org.opensearch.core.rest.RestStatus;
 import org.opensearch.core.xcontent.ToXContent;
 import org.opensearch.core.xcontent.XContentBuilder;
 import org.opensearch.flowframework.common.FlowFrameworkSettings;
 import org.opensearch.flowframework.exception.FlowFrameworkException;
+import org.opensearch.flowframework.model.WorkflowState;
 import org.opensearch.flowframework.transport.GetWorkflowStateAction;
 import org.opensearch.flowframework.transport.GetWorkflowStateRequest;
 import org.opensearch.flowframework.util.TenantAwareHelper;
@@ -26,9 +28,15 @@ import org.opensearch.rest.RestRequest;
 import org.opensearch.transport.client.node.NodeClient;
 
 import java.io.IOException;
+import java.util.Arrays;
+import java.util.HashSet;
 import java.util.List;
 import java.util.Locale;
 
+import static org.opensearch.flowframework.common.CommonValue.RESOURCES_CURSOR;
+import static org.opensearch.flowframework.common.CommonValue.RESOURCES_SIZE;
+import static org.opensearch.flowframework.common.CommonValue.STATE_FIELDS;
+import static org.opensearch.flowframework.common.CommonValue.WAIT_FOR_CHANGE_TIMEOUT;
 import static org.opensearch.flowframework.common.CommonValue.WORKFLOW_ID;
 import static org.opensearch.flowframework.common.CommonValue.WORKFLOW_URI;
 import static org.opensearch.flowframework.common.FlowFrameworkSettings.FLOW_FRAMEWORK_ENABLED;
@@ -40,6 +48,8 @@ public class RestGetWorkflowStateAction extends BaseRestHandler {
 
     private static final String GET_WORKFLOW_STATE_ACTION = "get_workflow_state";
     private static final Logger logger = LogManager.getLogger(RestGetWorkflowStateAction.class);
+    /** The longest a get workflow state request may wait for the state to change */
+    static final TimeValue MAX_WAIT_FOR_CHANGE_TIMEOUT = TimeValue.timeValueMinutes(1);
     private FlowFrameworkSettings flowFrameworkFeatureEnabledSetting;
 
     /**
@@ -59,6 +69,10 @@ public class RestGetWorkflowStateAction extends BaseRestHandler {
     protected BaseRestHandler.RestChannelConsumer prepareRequest(RestRequest request, NodeClient client) throws IOException {
         String workflowId = request.param(WORKFLOW_ID);
         boolean all = request.paramAsBoolean("all", false);
+        TimeValue waitForChangeTimeout = request.paramAsTime(WAIT_FOR_CHANGE_TIMEOUT, TimeValue.MINUS_ONE);
+        String[] fields = request.paramAsStringArray(STATE_FIELDS, null);
+        int resourcesSize = request.paramAsInt(RESOURCES_SIZE, -1);
+        String resourcesCursor = request.param(RESOURCES_CURSOR);
         try {
             if (!flowFrameworkFeatureEnabledSetting.isFlowFrameworkEnabled()) {
                 throw new FlowFrameworkException(
@@ -76,8 +90,39 @@ public class RestGetWorkflowStateAction extends BaseRestHandler {
             if (workflowId == null) {
                 throw new FlowFrameworkException("workflow_id cannot be null", RestStatus.BAD_REQUEST);
             }
+            if (waitForChangeTimeout.compareTo(MAX_WAIT_FOR_CHANGE_TIMEOUT) > 0) {
+                throw new FlowFrameworkException(
+                    WAIT_FOR_CHANGE_TIMEOUT + " cannot exceed " + MAX_WAIT_FOR_CHANGE_TIMEOUT.getStringRep(),
+                    RestStatus.BAD_REQUEST
+                );
+            }
+
+            if (fields != null) {
+                for (String field : fields) {
+                    if (!WorkflowState.PROJECTABLE_FIELDS.contains(field)) {
+                        throw new FlowFrameworkException(
+                            "Invalid " + STATE_FIELDS + " [" + field + "], valid fields are " + WorkflowState.PROJECTABLE_FIELDS,
+                            RestStatus.BAD_REQUEST
+                        );
+                    }
+                }
+            }
+            if (request.hasParam(RESOURCES_SIZE) && resourcesSize <= 0) {
+                throw new FlowFrameworkException(RESOURCES_SIZE + " must be a positive number", RestStatus.BAD_REQUEST);
+            }
+            int resourcesFrom = resourcesCursor == null ? 0 : GetWorkflowStateRequest.decodeResourcesCursor(resourcesCursor);
+            String resourcesAfter = resourcesCursor == null ? null : GetWorkflowStateRequest.decodeResourcesCursorKey(resourcesCursor);
 
-            GetWorkflowStateRequest getWorkflowRequest = new GetWorkflowStateRequest(workflowId, all, tenantId);
+            GetWorkflowStateRequest getWorkflowRequest = new GetWorkflowStateRequest(
+                workflowId,
+                all,
+                tenantId,
+                waitForChangeTimeout,
+                fields == null ? null : new HashSet<>(Arrays.asList(fields)),
+                resourcesFrom,
+                resourcesSize,
+                resourcesAfter
+            );
             return channel -> client.execute(GetWorkflowStateAction.INSTANCE, getWorkflowRequest, ActionListener.wrap(response -> {
                 XContentBuilder builder = response.toXContent(channel.newBuilder(), ToXContent.EMPTY_PARAMS);
                 channel.sendResponse(new BytesRestResponse(RestStatus.OK, builder));
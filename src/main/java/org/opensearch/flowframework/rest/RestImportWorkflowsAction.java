@@ -0,0 +1,126 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * The OpenSearch Contributors require contributions made to
+ * this file be licensed under the Apache-2.0 license or a
+ * compatible open source license.
+ */
+package org.opensearch.flowframework.rest;
+
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+import org.opensearch.ExceptionsHelper;
+import org.opensearch.core.action.ActionListener;
+import org.opensearch.core.rest.RestStatus;
+import org.opensearch.core.xcontent.ToXContent;
+import org.opensearch.core.xcontent.XContentBuilder;
+import org.opensearch.flowframework.common.FlowFrameworkSettings;
+import org.opensearch.flowframework.exception.FlowFrameworkException;
+import org.opensearch.flowframework.transport.ImportWorkflowsAction;
+import org.opensearch.flowframework.transport.ImportWorkflowsRequest;
+import org.opensearch.flowframework.util.TenantAwareHelper;
+import org.opensearch.rest.BaseRestHandler;
+import org.opensearch.rest.BytesRestResponse;
+import org.opensearch.rest.RestRequest;
+import org.opensearch.transport.client.node.NodeClient;
+
+import java.io.IOException;
+import java.util.List;
+
+import static org.opensearch.flowframework.common.CommonValue.EXPORT_CREDENTIALS;
+import static org.opensearch.flowframework.common.CommonValue.IMPORT_OVERWRITE;
+import static org.opensearch.flowframework.common.CommonValue.VALIDATION;
+import static org.opensearch.flowframework.common.CommonValue.WORKFLOW_URI;
+import static org.opensearch.flowframework.common.FlowFrameworkSettings.FLOW_FRAMEWORK_ENABLED;
+
+/**
+ * Rest Action to facilitate requests to import workflows and workflow states, as newline delimited JSON in the format
+ * returned by the export API. The outcome of importing each line is returned, as with the bulk API.
+ */
+public class RestImportWorkflowsAction extends BaseRestHandler {
+
+    private static final String IMPORT_WORKFLOWS_ACTION = "import_workflows";
+    private static final String VALIDATE_ALL = "all";
+    private static final String VALIDATE_NONE = "none";
+    private static final String PLAINTEXT_CREDENTIALS = "plaintext";
+    private static final String ENCRYPTED_CREDENTIALS = "encrypted";
+    private static final Logger logger = LogManager.getLogger(RestImportWorkflowsAction.class);
+    private final FlowFrameworkSettings flowFrameworkFeatureEnabledSetting;
+
+    /**
+     * Instantiates a new RestImportWorkflowsAction
+     * @param flowFrameworkFeatureEnabledSetting Whether this API is enabled
+     */
+    public RestImportWorkflowsAction(FlowFrameworkSettings flowFrameworkFeatureEnabledSetting) {
+        this.flowFrameworkFeatureEnabledSetting = flowFrameworkFeatureEnabledSetting;
+    }
+
+    @Override
+    public String getName() {
+        return IMPORT_WORKFLOWS_ACTION;
+    }
+
+    @Override
+    protected BaseRestHandler.RestChannelConsumer prepareRequest(RestRequest request, NodeClient client) throws IOException {
+        String validation = request.param(VALIDATION, VALIDATE_ALL);
+        boolean overwrite = request.paramAsBoolean(IMPORT_OVERWRITE, false);
+        String credentials = request.param(EXPORT_CREDENTIALS, PLAINTEXT_CREDENTIALS);
+        try {
+            if (!flowFrameworkFeatureEnabledSetting.isFlowFrameworkEnabled()) {
+                throw new FlowFrameworkException(
+                    "This API is disabled. To enable it, update the setting [" + FLOW_FRAMEWORK_ENABLED.getKey() + "] to true.",
+                    RestStatus.FORBIDDEN
+                );
+            }
+            String tenantId = TenantAwareHelper.getTenantID(flowFrameworkFeatureEnabledSetting.isMultiTenancyEnabled(), request);
+
+            // Validate params
+            if (!request.hasContent()) {
+                throw new FlowFrameworkException("Request body is required", RestStatus.BAD_REQUEST);
+            }
+            if (!VALIDATE_ALL.equals(validation) && !VALIDATE_NONE.equals(validation)) {
+                throw new FlowFrameworkException(VALIDATION + " must be " + VALIDATE_ALL + " or " + VALIDATE_NONE, RestStatus.BAD_REQUEST);
+            }
+            if (!PLAINTEXT_CREDENTIALS.equals(credentials) && !ENCRYPTED_CREDENTIALS.equals(credentials)) {
+                throw new FlowFrameworkException(
+                    EXPORT_CREDENTIALS + " must be " + PLAINTEXT_CREDENTIALS + " or " + ENCRYPTED_CREDENTIALS,
+                    RestStatus.BAD_REQUEST
+                );
+            }
+            ImportWorkflowsRequest importRequest = new ImportWorkflowsRequest(
+                tenantId,
+                request.content(),
+                VALIDATE_ALL.equals(validation),
+                overwrite,
+                ENCRYPTED_CREDENTIALS.equals(credentials)
+            );
+
+            return channel -> client.execute(ImportWorkflowsAction.INSTANCE, importRequest, ActionListener.wrap(response -> {
+                XContentBuilder builder = response.toXContent(channel.newBuilder(), ToXContent.EMPTY_PARAMS);
+                channel.sendResponse(new BytesRestResponse(RestStatus.OK, builder));
+            }, exception -> {
+                try {
+                    FlowFrameworkException ex = exception instanceof FlowFrameworkException
+                        ? (FlowFrameworkException) exception
+                        : new FlowFrameworkException("Failed to import workflows.", ExceptionsHelper.status(exception));
+                    XContentBuilder exceptionBuilder = ex.toXContent(channel.newErrorBuilder(), ToXContent.EMPTY_PARAMS);
+                    channel.sendResponse(new BytesRestResponse(ex.getRestStatus(), exceptionBuilder));
+                } catch (IOException e) {
+                    String errorMessage = "IOException: Failed to send back import workflows exception";
+                    logger.error(errorMessage, e);
+                    channel.sendResponse(new BytesRestResponse(ExceptionsHelper.status(e), errorMessage));
+                }
+            }));
+        } catch (FlowFrameworkException ex) {
+            return channel -> channel.sendResponse(
+                new BytesRestResponse(ex.getRestStatus(), ex.toXContent(channel.newErrorBuilder(), ToXContent.EMPTY_PARAMS))
+            );
+        }
+    }
+
+    @Override
+    public List<Route> routes() {
+        return List.of(new Route(RestRequest.Method.POST, WORKFLOW_URI + "/_import"));
+    }
+}
@@ -0,0 +1,86 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * The OpenSearch Contributors require contributions made to
+ * this file be licensed under the Apache-2.0 license or a
+ * compatible open source license.
+ */
+package org.opensearch.flowframework.stats;
+
+import org.opensearch.common.metrics.CounterMetric;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Collectors;
+
+import org.HdrHistogram.ConcurrentHistogram;
+
+/**
+ * Node-local execution statistics of workflow steps, recorded by {@link org.opensearch.flowframework.workflow.ProcessNode}
+ */
+public class FlowFrameworkStats {
+
+    /**
+     * The outcome of a step execution
+     */
+    public enum StepOutcome {
+        /** The step completed */
+        SUCCESS,
+        /** The step failed */
+        FAILURE,
+        /** The step did not complete within its timeout */
+        TIMEOUT
+    }
+
+    private final Map<String, StepMetrics> stepMetrics = new ConcurrentHashMap<>();
+
+    /**
+     * Instantiate this class
+     */
+    public FlowFrameworkStats() {}
+
+    /**
+     * Record an execution of a workflow step
+     * @param stepType the workflow step name
+     * @param queueWaitNanos the time the step was queued on its thread pool
+     * @param executionNanos the time the step executed, once all predecessors completed
+     * @param outcome the outcome of the execution
+     */
+    public void recordStep(String stepType, long queueWaitNanos, long executionNanos, StepOutcome outcome) {
+        StepMetrics metrics = stepMetrics.computeIfAbsent(stepType, k -> new StepMetrics());
+        metrics.count.inc();
+        if (outcome == StepOutcome.FAILURE) {
+            metrics.failures.inc();
+        } else if (outcome == StepOutcome.TIMEOUT) {
+            metrics.timeouts.inc();
+        }
+        metrics.queueWaitMillis.recordValue(toMillis(queueWaitNanos));
+        metrics.executionMillis.recordValue(toMillis(executionNanos));
+    }
+
+    /**
+     * Get a snapshot of the statistics of every step type executed on this node
+     * @return a map of step type to its statistics
+     */
+    public Map<String, StepStats> getStepStats() {
+        return stepMetrics.entrySet().stream().collect(Collectors.toMap(Map.Entry::getKey, e -> e.getValue().snapshot()));
+    }
+
+    private static long toMillis(long nanos) {
+        return TimeUnit.NANOSECONDS.toMillis(Math.max(0, nanos));
+    }
+
+    private static final class StepMetrics {
+        private final CounterMetric count = new CounterMetric();
+        private final CounterMetric failures = new CounterMetric();
+        private final CounterMetric timeouts = new CounterMetric();
+        private final ConcurrentHistogram queueWaitMillis = new ConcurrentHistogram(StepStats.SIGNIFICANT_VALUE_DIGITS);
+        private final ConcurrentHistogram executionMillis = new ConcurrentHistogram(StepStats.SIGNIFICANT_VALUE_DIGITS);
+
+        private StepStats snapshot() {
+            return new StepStats(count.count(), failures.count(), timeouts.count(), queueWaitMillis.copy(), executionMillis.copy());
+        }
+    }
+}
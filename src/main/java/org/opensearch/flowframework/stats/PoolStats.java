@@ -0,0 +1,155 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * The OpenSearch Contributors require contributions made to
+ * this file be licensed under the Apache-2.0 license or a
+ * compatible open source license.
+ */
+package org.opensearch.flowframework.stats;
+
+import org.opensearch.core.common.io.stream.StreamInput;
+import org.opensearch.core.common.io.stream.StreamOutput;
+import org.opensearch.core.common.io.stream.Writeable;
+import org.opensearch.core.xcontent.ToXContentFragment;
+import org.opensearch.core.xcontent.XContentBuilder;
+import org.opensearch.threadpool.ThreadPool;
+import org.opensearch.threadpool.ThreadPoolStats;
+
+import java.io.IOException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.ThreadPoolExecutor;
+
+/**
+ * A point in time snapshot of the usage of one of this plugin's thread pools
+ */
+public class PoolStats implements ToXContentFragment, Writeable {
+
+    private final String name;
+    private final int threads;
+    private final int max;
+    private final int active;
+    private final int queue;
+    private final int largest;
+    private final long rejected;
+    private final long completed;
+
+    /**
+     * Instantiate this snapshot
+     * @param name the thread pool name
+     * @param threads the current number of threads
+     * @param max the max number of threads
+     * @param active the number of threads executing a task
+     * @param queue the number of queued tasks
+     * @param largest the largest number of threads the pool has had
+     * @param rejected the number of rejected tasks
+     * @param completed the number of completed tasks
+     */
+    public PoolStats(String name, int threads, int max, int active, int queue, int largest, long rejected, long completed) {
+        this.name = name;
+        this.threads = threads;
+        this.max = max;
+        this.active = active;
+        this.queue = queue;
+        this.largest = largest;
+        this.rejected = rejected;
+        this.completed = completed;
+    }
+
+    /**
+     * Instantiate this snapshot from an input stream
+     * @param in the input stream to read from
+     * @throws IOException if the stream cannot be read
+     */
+    public PoolStats(StreamInput in) throws IOException {
+        this.name = in.readString();
+        this.threads = in.readVInt();
+        this.max = in.readVInt();
+        this.active = in.readVInt();
+        this.queue = in.readVInt();
+        this.largest = in.readVInt();
+        this.rejected = in.readVLong();
+        this.completed = in.readVLong();
+    }
+
+    /**
+     * Take a snapshot of a thread pool
+     * @param threadPool the OpenSearch thread pool
+     * @param name the name of the thread pool
+     * @return the snapshot, or null if there is no such thread pool
+     */
+    public static PoolStats of(ThreadPool threadPool, String name) {
+        ThreadPool.Info info = threadPool.info(name);
+        if (info == null) {
+            return null;
+        }
+        // The max size of the pool may have been changed at runtime
+        ExecutorService executor = threadPool.executor(name);
+        int max = executor instanceof ThreadPoolExecutor ? ((ThreadPoolExecutor) executor).getMaximumPoolSize() : info.getMax();
+        for (ThreadPoolStats.Stats stats : threadPool.stats()) {
+            if (name.equals(stats.getName())) {
+                return new PoolStats(
+                    name,
+                    stats.getThreads(),
+                    max,
+                    stats.getActive(),
+                    stats.getQueue(),
+                    stats.getLargest(),
+                    stats.getRejected(),
+                    stats.getCompleted()
+                );
+            }
+        }
+        return null;
+    }
+
+    @Override
+    public void writeTo(StreamOutput out) throws IOException {
+        out.writeString(name);
+        out.writeVInt(threads);
+        out.writeVInt(max);
+        out.writeVInt(active);
+        out.writeVInt(queue);
+        out.writeVInt(largest);
+        out.writeVLong(rejected);
+        out.writeVLong(completed);
+    }
+
+    /**
+     * Gets the thread pool name
+     * @return the name
+     */
+    public String getName() {
+        return name;
+    }
+
+    /**
+     * Gets the fraction of the max threads executing a task
+     * @return the saturation, between 0 and 1
+     */
+    public double getSaturation() {
+        return max > 0 ? (double) active / max : 0;
+    }
+
+    /**
+     * Gets the number of queued tasks
+     * @return the queue size
+     */
+    public int getQueue() {
+        return queue;
+    }
+
+    @Override
+    public XContentBuilder toXContent(XContentBuilder builder, Params params) throws IOException {
+        builder.startObject(name);
+        builder.field("threads", threads);
+        builder.field("max", max);
+        builder.field("active", active);
+        builder.field("queue", queue);
+        builder.field("largest", largest);
+        builder.field("rejected", rejected);
+        builder.field("completed", completed);
+        builder.field("saturation", getSaturation());
+        return builder.endObject();
+    }
+}
@@ -0,0 +1,180 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * The OpenSearch Contributors require contributions made to
+ * this file be licensed under the Apache-2.0 license or a
+ * compatible open source license.
+ */
+package org.opensearch.flowframework.stats;
+
+import org.opensearch.core.common.io.stream.StreamInput;
+import org.opensearch.core.common.io.stream.StreamOutput;
+import org.opensearch.core.common.io.stream.Writeable;
+import org.opensearch.core.xcontent.ToXContentFragment;
+import org.opensearch.core.xcontent.XContentBuilder;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.util.zip.DataFormatException;
+
+import org.HdrHistogram.AbstractHistogram;
+import org.HdrHistogram.Histogram;
+
+/**
+ * A point in time snapshot of the executions of one workflow step type.
+ * <p>
+ * Latencies are kept in HDR histograms with millisecond values, so snapshots from several nodes merge into exact cluster-wide
+ * percentiles.
+ */
+public class StepStats implements ToXContentFragment, Writeable {
+
+    /** The number of significant value digits kept by the latency histograms */
+    static final int SIGNIFICANT_VALUE_DIGITS = 2;
+
+    private static final double[] PERCENTILES = { 50, 90, 99 };
+
+    private final long count;
+    private final long failures;
+    private final long timeouts;
+    private final AbstractHistogram queueWaitMillis;
+    private final AbstractHistogram executionMillis;
+
+    /**
+     * Instantiate this snapshot
+     * @param count the number of executions, including failures and timeouts
+     * @param failures the number of executions which failed, excluding timeouts
+     * @param timeouts the number of executions which timed out
+     * @param queueWaitMillis the time spent queued on the thread pool before executing
+     * @param executionMillis the time spent executing, once all predecessors completed
+     */
+    public StepStats(long count, long failures, long timeouts, AbstractHistogram queueWaitMillis, AbstractHistogram executionMillis) {
+        this.count = count;
+        this.failures = failures;
+        this.timeouts = timeouts;
+        this.queueWaitMillis = queueWaitMillis;
+        this.executionMillis = executionMillis;
+    }
+
+    /**
+     * Instantiate this snapshot from an input stream
+     * @param in the input stream to read from
+     * @throws IOException if the stream cannot be read
+     */
+    public StepStats(StreamInput in) throws IOException {
+        this.count = in.readVLong();
+        this.failures = in.readVLong();
+        this.timeouts = in.readVLong();
+        this.queueWaitMillis = readHistogram(in);
+        this.executionMillis = readHistogram(in);
+    }
+
+    @Override
+    public void writeTo(StreamOutput out) throws IOException {
+        out.writeVLong(count);
+        out.writeVLong(failures);
+        out.writeVLong(timeouts);
+        writeHistogram(out, queueWaitMillis);
+        writeHistogram(out, executionMillis);
+    }
+
+    /**
+     * Merge the snapshots of the same step type, e.g. from several nodes
+     * @param first a snapshot
+     * @param second another snapshot
+     * @return a snapshot holding the executions of both
+     */
+    public static StepStats merge(StepStats first, StepStats second) {
+        return new StepStats(
+            first.count + second.count,
+            first.failures + second.failures,
+            first.timeouts + second.timeouts,
+            mergeHistograms(first.queueWaitMillis, second.queueWaitMillis),
+            mergeHistograms(first.executionMillis, second.executionMillis)
+        );
+    }
+
+    /**
+     * Gets the number of executions, including failures and timeouts
+     * @return the execution count
+     */
+    public long getCount() {
+        return count;
+    }
+
+    /**
+     * Gets the number of executions which failed, excluding timeouts
+     * @return the failure count
+     */
+    public long getFailures() {
+        return failures;
+    }
+
+    /**
+     * Gets the number of executions which timed out
+     * @return the timeout count
+     */
+    public long getTimeouts() {
+        return timeouts;
+    }
+
+    /**
+     * Gets the distribution of the time spent queued on the thread pool
+     * @return the queue wait histogram, in milliseconds
+     */
+    public AbstractHistogram getQueueWaitMillis() {
+        return queueWaitMillis;
+    }
+
+    /**
+     * Gets the distribution of the time spent executing
+     * @return the execution histogram, in milliseconds
+     */
+    public AbstractHistogram getExecutionMillis() {
+        return executionMillis;
+    }
+
+    @Override
+    public XContentBuilder toXContent(XContentBuilder builder, Params params) throws IOException {
+        builder.field("count", count);
+        builder.field("failures", failures);
+        builder.field("timeouts", timeouts);
+        latencyToXContent(builder, "queue_wait_millis", queueWaitMillis);
+        latencyToXContent(builder, "execution_millis", executionMillis);
+        return builder;
+    }
+
+    private static void latencyToXContent(XContentBuilder builder, String name, AbstractHistogram histogram) throws IOException {
+        builder.startObject(name);
+        for (double percentile : PERCENTILES) {
+            builder.field("p" + (int) percentile, histogram.getValueAtPercentile(percentile));
+        }
+        builder.field("max", histogram.getMaxValue());
+        builder.field("mean", histogram.getMean());
+        builder.endObject();
+    }
+
+    private static AbstractHistogram mergeHistograms(AbstractHistogram first, AbstractHistogram second) {
+        Histogram merged = new Histogram(SIGNIFICANT_VALUE_DIGITS);
+        merged.add(first);
+        merged.add(second);
+        return merged;
+    }
+
+    private static void writeHistogram(StreamOutput out, AbstractHistogram histogram) throws IOException {
+        ByteBuffer buffer = ByteBuffer.allocate(histogram.getNeededByteBufferCapacity());
+        int length = histogram.encodeIntoCompressedByteBuffer(buffer);
+        out.writeVInt(length);
+        out.writeBytes(buffer.array(), 0, length);
+    }
+
+    private static AbstractHistogram readHistogram(StreamInput in) throws IOException {
+        byte[] bytes = new byte[in.readVInt()];
+        in.readBytes(bytes, 0, bytes.length);
+        try {
+            return Histogram.decodeFromCompressedByteBuffer(ByteBuffer.wrap(bytes), 0);
+        } catch (DataFormatException e) {
+            throw new IOException("Failed to read step latency histogram", e);
+        }
+    }
+}
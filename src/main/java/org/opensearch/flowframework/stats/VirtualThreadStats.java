@@ -0,0 +1,97 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * The OpenSearch Contributors require contributions made to
+ * this file be licensed under the Apache-2.0 license or a
+ * compatible open source license.
+ */
+package org.opensearch.flowframework.stats;
+
+import org.opensearch.core.common.io.stream.StreamInput;
+import org.opensearch.core.common.io.stream.StreamOutput;
+import org.opensearch.core.common.io.stream.Writeable;
+import org.opensearch.core.xcontent.ToXContentFragment;
+import org.opensearch.core.xcontent.XContentBuilder;
+
+import java.io.IOException;
+
+/**
+ * A point in time snapshot of the provision and deprovision work executed on virtual threads
+ */
+public class VirtualThreadStats implements ToXContentFragment, Writeable {
+
+    /** The field name for the virtual thread stats */
+    public static final String VIRTUAL_THREADS_FIELD = "virtual_threads";
+
+    private final boolean enabled;
+    private final int active;
+    private final long completed;
+    private final long pinned;
+    private final long pinnedMillis;
+
+    /**
+     * Instantiate this snapshot
+     * @param enabled whether new work runs on virtual threads
+     * @param active the number of tasks running on a virtual thread
+     * @param completed the number of tasks completed on a virtual thread
+     * @param pinned the number of times a virtual thread blocked while pinned to its carrier thread
+     * @param pinnedMillis the total time virtual threads blocked while pinned
+     */
+    public VirtualThreadStats(boolean enabled, int active, long completed, long pinned, long pinnedMillis) {
+        this.enabled = enabled;
+        this.active = active;
+        this.completed = completed;
+        this.pinned = pinned;
+        this.pinnedMillis = pinnedMillis;
+    }
+
+    /**
+     * Instantiate this snapshot from an input stream
+     * @param in the input stream to read from
+     * @throws IOException if the stream cannot be read
+     */
+    public VirtualThreadStats(StreamInput in) throws IOException {
+        this.enabled = in.readBoolean();
+        this.active = in.readVInt();
+        this.completed = in.readVLong();
+        this.pinned = in.readVLong();
+        this.pinnedMillis = in.readVLong();
+    }
+
+    @Override
+    public void writeTo(StreamOutput out) throws IOException {
+        out.writeBoolean(enabled);
+        out.writeVInt(active);
+        out.writeVLong(completed);
+        out.writeVLong(pinned);
+        out.writeVLong(pinnedMillis);
+    }
+
+    /**
+     * Gets the number of tasks running on a virtual thread
+     * @return the active count
+     */
+    public int getActive() {
+        return active;
+    }
+
+    /**
+     * Gets the number of times a virtual thread blocked while pinned to its carrier thread
+     * @return the pinned count
+     */
+    public long getPinned() {
+        return pinned;
+    }
+
+    @Override
+    public XContentBuilder toXContent(XContentBuilder builder, Params params) throws IOException {
+        builder.startObject(VIRTUAL_THREADS_FIELD);
+        builder.field("enabled", enabled);
+        builder.field("active", active);
+        builder.field("completed", completed);
+        builder.field("pinned", pinned);
+        builder.field("pinned_time_in_millis", pinnedMillis);
+        return builder.endObject();
+    }
+}
@@ -0,0 +1,67 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * The OpenSearch Contributors require contributions made to
+ * this file be licensed under the Apache-2.0 license or a
+ * compatible open source license.
+ */
+package org.opensearch.flowframework.transport;
+
+import org.opensearch.core.common.io.stream.StreamInput;
+import org.opensearch.core.common.io.stream.StreamOutput;
+import org.opensearch.transport.TransportRequest;
+
+import java.io.IOException;
+
+/**
+ * Transport Request to cancel the provisioning of a workflow on one node
+ */
+public class CancelWorkflowNodeRequest extends TransportRequest {
+
+    private final String workflowId;
+    private final String tenantId;
+
+    /**
+     * Instantiates a new CancelWorkflowNodeRequest
+     * @param request the cluster wide cancel request
+     */
+    public CancelWorkflowNodeRequest(CancelWorkflowRequest request) {
+        this.workflowId = request.getWorkflowId();
+        this.tenantId = request.getTenantId();
+    }
+
+    /**
+     * Instantiates a new CancelWorkflowNodeRequest from an input stream
+     * @param in the input stream to read from
+     * @throws IOException if the stream cannot be read
+     */
+    public CancelWorkflowNodeRequest(StreamInput in) throws IOException {
+        super(in);
+        this.workflowId = in.readString();
+        this.tenantId = in.readOptionalString();
+    }
+
+    /**
+     * Gets the workflow Id
+     * @return the workflow Id
+     */
+    public String getWorkflowId() {
+        return this.workflowId;
+    }
+
+    /**
+     * Gets the tenant Id
+     * @return the tenant Id
+     */
+    public String getTenantId() {
+        return this.tenantId;
+    }
+
+    @Override
+    public void writeTo(StreamOutput out) throws IOException {
+        super.writeTo(out);
+        out.writeString(workflowId);
+        out.writeOptionalString(tenantId);
+    }
+}
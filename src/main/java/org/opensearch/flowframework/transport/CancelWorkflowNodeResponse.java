@@ -0,0 +1,58 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * The OpenSearch Contributors require contributions made to
+ * this file be licensed under the Apache-2.0 license or a
+ * compatible open source license.
+ */
+package org.opensearch.flowframework.transport;
+
+import org.opensearch.action.support.nodes.BaseNodeResponse;
+import org.opensearch.cluster.node.DiscoveryNode;
+import org.opensearch.core.common.io.stream.StreamInput;
+import org.opensearch.core.common.io.stream.StreamOutput;
+
+import java.io.IOException;
+
+/**
+ * Transport Response of one node to a request to cancel the provisioning of a workflow
+ */
+public class CancelWorkflowNodeResponse extends BaseNodeResponse {
+
+    private final boolean cancelled;
+
+    /**
+     * Instantiates a new CancelWorkflowNodeResponse
+     * @param node the node which handled the request
+     * @param cancelled whether the workflow was being provisioned on the node
+     */
+    public CancelWorkflowNodeResponse(DiscoveryNode node, boolean cancelled) {
+        super(node);
+        this.cancelled = cancelled;
+    }
+
+    /**
+     * Instantiates a new CancelWorkflowNodeResponse from an input stream
+     * @param in the input stream to read from
+     * @throws IOException if the stream cannot be read
+     */
+    public CancelWorkflowNodeResponse(StreamInput in) throws IOException {
+        super(in);
+        this.cancelled = in.readBoolean();
+    }
+
+    @Override
+    public void writeTo(StreamOutput out) throws IOException {
+        super.writeTo(out);
+        out.writeBoolean(cancelled);
+    }
+
+    /**
+     * Gets whether the workflow was being provisioned on the node
+     * @return true if the provisioning was cancelled on the node
+     */
+    public boolean isCancelled() {
+        return cancelled;
+    }
+}
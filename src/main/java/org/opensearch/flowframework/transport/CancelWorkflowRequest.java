@@ -0,0 +1,90 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * The OpenSearch Contributors require contributions made to
+ * this file be licensed under the Apache-2.0 license or a
+ * compatible open source license.
+ */
+package org.opensearch.flowframework.transport;
+
+import org.opensearch.action.DocRequest;
+import org.opensearch.action.support.nodes.BaseNodesRequest;
+import org.opensearch.common.Nullable;
+import org.opensearch.core.common.Strings;
+import org.opensearch.core.common.io.stream.StreamInput;
+import org.opensearch.core.common.io.stream.StreamOutput;
+import org.opensearch.flowframework.common.CommonValue;
+
+import java.io.IOException;
+
+/**
+ * Transport Request to cancel the provisioning of a workflow on every node
+ */
+public class CancelWorkflowRequest extends BaseNodesRequest<CancelWorkflowRequest> implements DocRequest {
+
+    private final String workflowId;
+    @Nullable
+    private final String tenantId;
+
+    /**
+     * Instantiates a new CancelWorkflowRequest
+     * @param workflowId the id of the workflow being provisioned
+     * @param tenantId the tenant id
+     */
+    public CancelWorkflowRequest(String workflowId, @Nullable String tenantId) {
+        super(Strings.EMPTY_ARRAY);
+        this.workflowId = workflowId;
+        this.tenantId = tenantId;
+    }
+
+    /**
+     * Instantiates a new CancelWorkflowRequest from an input stream
+     * @param in the input stream to read from
+     * @throws IOException if the stream cannot be read
+     */
+    public CancelWorkflowRequest(StreamInput in) throws IOException {
+        super(in);
+        this.workflowId = in.readString();
+        this.tenantId = in.readOptionalString();
+    }
+
+    /**
+     * Gets the workflow Id
+     * @return the workflow Id
+     */
+    public String getWorkflowId() {
+        return this.workflowId;
+    }
+
+    /**
+     * Gets the tenant Id
+     * @return the tenant Id
+     */
+    @Nullable
+    public String getTenantId() {
+        return this.tenantId;
+    }
+
+    @Override
+    public void writeTo(StreamOutput out) throws IOException {
+        super.writeTo(out);
+        out.writeString(workflowId);
+        out.writeOptionalString(tenantId);
+    }
+
+    @Override
+    public String index() {
+        return CommonValue.GLOBAL_CONTEXT_INDEX;
+    }
+
+    @Override
+    public String id() {
+        return workflowId;
+    }
+
+    @Override
+    public String type() {
+        return CommonValue.WORKFLOW_RESOURCE_TYPE;
+    }
+}
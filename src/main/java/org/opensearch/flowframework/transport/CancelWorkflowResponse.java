@@ -0,0 +1,94 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * The OpenSearch Contributors require contributions made to
+ * this file be licensed under the Apache-2.0 license or a
+ * compatible open source license.
+ */
+package org.opensearch.flowframework.transport;
+
+import org.opensearch.action.FailedNodeException;
+import org.opensearch.action.support.nodes.BaseNodesResponse;
+import org.opensearch.cluster.ClusterName;
+import org.opensearch.core.common.io.stream.StreamInput;
+import org.opensearch.core.common.io.stream.StreamOutput;
+import org.opensearch.core.xcontent.ToXContentObject;
+import org.opensearch.core.xcontent.XContentBuilder;
+
+import java.io.IOException;
+import java.util.List;
+
+import static org.opensearch.flowframework.common.CommonValue.WORKFLOW_ID;
+
+/**
+ * Transport Response to a request to cancel the provisioning of a workflow
+ */
+public class CancelWorkflowResponse extends BaseNodesResponse<CancelWorkflowNodeResponse> implements ToXContentObject {
+
+    private final String workflowId;
+
+    /**
+     * Instantiates a new CancelWorkflowResponse
+     * @param clusterName the cluster name
+     * @param workflowId the id of the workflow
+     * @param nodes the response of each node which handled the request
+     * @param failures the failures of each node which did not respond
+     */
+    public CancelWorkflowResponse(
+        ClusterName clusterName,
+        String workflowId,
+        List<CancelWorkflowNodeResponse> nodes,
+        List<FailedNodeException> failures
+    ) {
+        super(clusterName, nodes, failures);
+        this.workflowId = workflowId;
+    }
+
+    /**
+     * Instantiates a new CancelWorkflowResponse from an input stream
+     * @param in the input stream to read from
+     * @throws IOException if the stream cannot be read
+     */
+    public CancelWorkflowResponse(StreamInput in) throws IOException {
+        super(in);
+        this.workflowId = in.readString();
+    }
+
+    @Override
+    protected List<CancelWorkflowNodeResponse> readNodesFrom(StreamInput in) throws IOException {
+        return in.readList(CancelWorkflowNodeResponse::new);
+    }
+
+    @Override
+    protected void writeNodesTo(StreamOutput out, List<CancelWorkflowNodeResponse> nodes) throws IOException {
+        out.writeList(nodes);
+    }
+
+    @Override
+    public void writeTo(StreamOutput out) throws IOException {
+        super.writeTo(out);
+        out.writeString(workflowId);
+    }
+
+    /**
+     * Gets the workflow Id
+     * @return the workflow Id
+     */
+    public String getWorkflowId() {
+        return workflowId;
+    }
+
+    /**
+     * Gets whether the workflow was being provisioned on any node
+     * @return true if the provisioning was cancelled
+     */
+    public boolean isCancelled() {
+        return getNodes().stream().anyMatch(CancelWorkflowNodeResponse::isCancelled);
+    }
+
+    @Override
+    public XContentBuilder toXContent(XContentBuilder builder, Params params) throws IOException {
+        return builder.startObject().field(WORKFLOW_ID, workflowId).field("cancelled", isCancelled()).endObject();
+    }
+}
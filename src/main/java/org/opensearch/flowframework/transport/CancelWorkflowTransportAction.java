@@ -0,0 +1,187 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * The OpenSearch Contributors require contributions made to
+ * this file be licensed under the Apache-2.0 license or a
+ * compatible open source license.
+ */
+package org.opensearch.flowframework.transport;
+
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+import org.opensearch.ExceptionsHelper;
+import org.opensearch.action.FailedNodeException;
+import org.opensearch.action.support.ActionFilters;
+import org.opensearch.action.support.nodes.TransportNodesAction;
+import org.opensearch.cluster.service.ClusterService;
+import org.opensearch.common.inject.Inject;
+import org.opensearch.common.settings.Settings;
+import org.opensearch.common.util.concurrent.ThreadContext;
+import org.opensearch.commons.authuser.User;
+import org.opensearch.core.action.ActionListener;
+import org.opensearch.core.common.io.stream.StreamInput;
+import org.opensearch.core.rest.RestStatus;
+import org.opensearch.core.xcontent.NamedXContentRegistry;
+import org.opensearch.flowframework.common.CommonValue;
+import org.opensearch.flowframework.common.FlowFrameworkSettings;
+import org.opensearch.flowframework.exception.FlowFrameworkException;
+import org.opensearch.flowframework.util.TenantAwareHelper;
+import org.opensearch.flowframework.workflow.ActiveProvisionRegistry;
+import org.opensearch.remote.metadata.client.SdkClient;
+import org.opensearch.tasks.Task;
+import org.opensearch.threadpool.ThreadPool;
+import org.opensearch.transport.TransportService;
+import org.opensearch.transport.client.Client;
+
+import java.io.IOException;
+import java.util.List;
+
+import static org.opensearch.flowframework.common.FlowFrameworkSettings.FILTER_BY_BACKEND_ROLES;
+import static org.opensearch.flowframework.util.ParseUtils.getUserContext;
+import static org.opensearch.flowframework.util.ParseUtils.resolveUserAndExecute;
+import static org.opensearch.flowframework.util.ParseUtils.verifyResourceAccessAndProcessRequest;
+
+/**
+ * Transport Action to cancel the provisioning of a workflow on whichever node is executing it
+ */
+public class CancelWorkflowTransportAction extends TransportNodesAction<
+    CancelWorkflowRequest,
+    CancelWorkflowResponse,
+    CancelWorkflowNodeRequest,
+    CancelWorkflowNodeResponse> {
+
+    private final Logger logger = LogManager.getLogger(CancelWorkflowTransportAction.class);
+
+    private final Client client;
+    private final SdkClient sdkClient;
+    private final FlowFrameworkSettings flowFrameworkSettings;
+    private final NamedXContentRegistry xContentRegistry;
+    private final ActiveProvisionRegistry activeProvisionRegistry;
+    private volatile Boolean filterByEnabled;
+
+    /**
+     * Instantiates a new CancelWorkflowTransportAction
+     * @param threadPool the OpenSearch thread pool
+     * @param clusterService the cluster service
+     * @param transportService the transport service
+     * @param actionFilters action filters
+     * @param client the node client to check access to the workflow
+     * @param sdkClient the Multitenant Client
+     * @param flowFrameworkSettings the plugin settings
+     * @param xContentRegistry contentRegister to parse get response
+     * @param settings the plugin settings
+     * @param activeProvisionRegistry the registry of workflows being provisioned on this node
+     */
+    @Inject
+    public CancelWorkflowTransportAction(
+        ThreadPool threadPool,
+        ClusterService clusterService,
+        TransportService transportService,
+        ActionFilters actionFilters,
+        Client client,
+        SdkClient sdkClient,
+        FlowFrameworkSettings flowFrameworkSettings,
+        NamedXContentRegistry xContentRegistry,
+        Settings settings,
+        ActiveProvisionRegistry activeProvisionRegistry
+    ) {
+        super(
+            CancelWorkflowAction.NAME,
+            threadPool,
+            clusterService,
+            transportService,
+            actionFilters,
+            CancelWorkflowRequest::new,
+            CancelWorkflowNodeRequest::new,
+            ThreadPool.Names.MANAGEMENT,
+            CancelWorkflowNodeResponse.class
+        );
+        this.client = client;
+        this.sdkClient = sdkClient;
+        this.flowFrameworkSettings = flowFrameworkSettings;
+        this.xContentRegistry = xContentRegistry;
+        this.activeProvisionRegistry = activeProvisionRegistry;
+        filterByEnabled = FILTER_BY_BACKEND_ROLES.get(settings);
+        clusterService.getClusterSettings().addSettingsUpdateConsumer(FILTER_BY_BACKEND_ROLES, it -> filterByEnabled = it);
+    }
+
+    @Override
+    protected void doExecute(Task task, CancelWorkflowRequest request, ActionListener<CancelWorkflowResponse> listener) {
+        String workflowId = request.getWorkflowId();
+        String tenantId = request.getTenantId();
+        if (!TenantAwareHelper.validateTenantId(flowFrameworkSettings.isMultiTenancyEnabled(), tenantId, listener)) {
+            return;
+        }
+        User user = getUserContext(client);
+
+        // Stash thread context to interact with system index
+        try (ThreadContext.StoredContext context = client.threadPool().getThreadContext().stashContext()) {
+            verifyResourceAccessAndProcessRequest(
+                CommonValue.WORKFLOW_RESOURCE_TYPE,
+                () -> executeCancelRequest(task, request, listener, context),
+                () -> resolveUserAndExecute(
+                    user,
+                    workflowId,
+                    tenantId,
+                    filterByEnabled,
+                    true,
+                    flowFrameworkSettings.isMultiTenancyEnabled(),
+                    listener,
+                    () -> executeCancelRequest(task, request, listener, context),
+                    client,
+                    sdkClient,
+                    clusterService,
+                    xContentRegistry
+                )
+            );
+        } catch (Exception e) {
+            String errorMessage = "Failed to cancel provisioning of workflow " + workflowId;
+            logger.error(errorMessage, e);
+            listener.onFailure(new FlowFrameworkException(errorMessage, ExceptionsHelper.status(e)));
+        }
+    }
+
+    private void executeCancelRequest(
+        Task task,
+        CancelWorkflowRequest request,
+        ActionListener<CancelWorkflowResponse> listener,
+        ThreadContext.StoredContext context
+    ) {
+        context.restore();
+        super.doExecute(task, request, ActionListener.wrap(response -> {
+            if (response.isCancelled()) {
+                listener.onResponse(response);
+            } else {
+                String errorMessage = "The workflow " + request.getWorkflowId() + " is not being provisioned.";
+                logger.info(errorMessage);
+                listener.onFailure(new FlowFrameworkException(errorMessage, RestStatus.NOT_FOUND));
+            }
+        }, listener::onFailure));
+    }
+
+    @Override
+    protected CancelWorkflowResponse newResponse(
+        CancelWorkflowRequest request,
+        List<CancelWorkflowNodeResponse> responses,
+        List<FailedNodeException> failures
+    ) {
+        return new CancelWorkflowResponse(clusterService.getClusterName(), request.getWorkflowId(), responses, failures);
+    }
+
+    @Override
+    protected CancelWorkflowNodeRequest newNodeRequest(CancelWorkflowRequest request) {
+        return new CancelWorkflowNodeRequest(request);
+    }
+
+    @Override
+    protected CancelWorkflowNodeResponse newNodeResponse(StreamInput in) throws IOException {
+        return new CancelWorkflowNodeResponse(in);
+    }
+
+    @Override
+    protected CancelWorkflowNodeResponse nodeOperation(CancelWorkflowNodeRequest request) {
+        boolean cancelled = activeProvisionRegistry.cancel(request.getWorkflowId(), request.getTenantId());
+        return new CancelWorkflowNodeResponse(clusterService.localNode(), cancelled);
+    }
+}
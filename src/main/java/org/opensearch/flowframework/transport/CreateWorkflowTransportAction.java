@@ -29,6 +29,7 @@ import org.opensearch.flowframework.common.CommonValue;
 import org.opensearch.flowframework.common.FlowFrameworkSettings;
 import org.opensearch.flowframework.exception.FlowFrameworkException;
 import org.opensearch.flowframework.indices.FlowFrameworkIndicesHandler;
+import org.opensearch.flowframework.indices.SharedTemplateBodyHandler;
 import org.opensearch.flowframework.model.ProvisioningProgress;
 import org.opensearch.flowframework.model.State;
 import org.opensearch.flowframework.model.Template;
@@ -406,7 +407,24 @@ public class CreateWorkflowTransportAction extends HandledTransportAction<Workfl
                         try {
                             GetResponse getResponse = r.parser() == null ? null : GetResponse.fromXContent(r.parser());
                             if (getResponse.isExists()) {
-                                handleWorkflowExists(request, templateWithUser, getResponse, waitForTimeCompletion, listener);
+                                if (SharedTemplateBodyHandler.hasWorkflowsReference(getResponse)) {
+                                    flowFrameworkIndicesHandler.resolveTemplateReference(
+                                        getResponse,
+                                        tenantId,
+                                        ActionListener.wrap(
+                                            resolved -> handleWorkflowExists(
+                                                request,
+                                                templateWithUser,
+                                                resolved,
+                                                waitForTimeCompletion,
+                                                listener
+                                            ),
+                                            listener::onFailure
+                                        )
+                                    );
+                                } else {
+                                    handleWorkflowExists(request, templateWithUser, getResponse, waitForTimeCompletion, listener);
+                                }
                             } else {
                                 String errorMessage = ParameterizedMessageFactory.INSTANCE.newMessage(
                                     "Failed to retrieve template ({}) from global context.",
@@ -440,7 +458,7 @@ public class CreateWorkflowTransportAction extends HandledTransportAction<Workfl
         TimeValue waitForTimeCompletion,
         ActionListener<WorkflowResponse> listener
     ) throws IOException {
-        Template existingTemplate = Template.parse(getResponse.getSourceAsString());
+        Template existingTemplate = Template.parse(getResponse.getSourceAsBytesRef());
         Template template = request.isUpdateFields()
             ? Template.updateExistingTemplate(existingTemplate, templateWithUser)
             : Template.builder(templateWithUser)
@@ -155,6 +155,7 @@ public class DeleteWorkflowTransportAction extends HandledTransportAction<Workfl
             if (throwable == null) {
                 try {
                     DeleteResponse response = DeleteResponse.fromXContent(r.parser());
+                    flowFrameworkIndicesHandler.invalidateCachedDocuments(workflowId, tenantId);
                     listener.onResponse(response);
                 } catch (Exception e) {
                     logger.error("Failed to parse delete response", e);
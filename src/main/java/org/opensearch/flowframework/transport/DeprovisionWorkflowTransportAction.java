@@ -14,6 +14,7 @@ import org.apache.logging.log4j.message.ParameterizedMessageFactory;
 import org.opensearch.ExceptionsHelper;
 import org.opensearch.OpenSearchStatusException;
 import org.opensearch.action.support.ActionFilters;
+import org.opensearch.action.support.GroupedActionListener;
 import org.opensearch.action.support.HandledTransportAction;
 import org.opensearch.action.support.PlainActionFuture;
 import org.opensearch.cluster.service.ClusterService;
@@ -32,14 +33,15 @@ import org.opensearch.flowframework.indices.FlowFrameworkIndicesHandler;
 import org.opensearch.flowframework.model.ProvisioningProgress;
 import org.opensearch.flowframework.model.ResourceCreated;
 import org.opensearch.flowframework.model.State;
+import org.opensearch.flowframework.stats.FlowFrameworkStats;
 import org.opensearch.flowframework.util.TenantAwareHelper;
 import org.opensearch.flowframework.workflow.ProcessNode;
 import org.opensearch.flowframework.workflow.WorkflowData;
+import org.opensearch.flowframework.workflow.WorkflowExecutors;
 import org.opensearch.flowframework.workflow.WorkflowStep;
 import org.opensearch.flowframework.workflow.WorkflowStepFactory;
 import org.opensearch.remote.metadata.client.SdkClient;
 import org.opensearch.tasks.Task;
-import org.opensearch.threadpool.ThreadPool;
 import org.opensearch.transport.TransportService;
 import org.opensearch.transport.client.Client;
 
@@ -51,7 +53,9 @@ import java.util.List;
 import java.util.Map;
 import java.util.Objects;
 import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.TimeUnit;
+import java.util.function.BiConsumer;
 import java.util.stream.Collectors;
 
 import static org.opensearch.flowframework.common.CommonValue.ALLOW_DELETE;
@@ -74,7 +78,7 @@ public class DeprovisionWorkflowTransportAction extends HandledTransportAction<W
 
     private final Logger logger = LogManager.getLogger(DeprovisionWorkflowTransportAction.class);
 
-    private final ThreadPool threadPool;
+    private final WorkflowExecutors workflowExecutors;
     private final Client client;
     private final SdkClient sdkClient;
     private final WorkflowStepFactory workflowStepFactory;
@@ -83,12 +87,13 @@ public class DeprovisionWorkflowTransportAction extends HandledTransportAction<W
     private volatile Boolean filterByEnabled;
     private final ClusterService clusterService;
     private final NamedXContentRegistry xContentRegistry;
+    private final FlowFrameworkStats flowFrameworkStats;
 
     /**
      * Instantiates a new ProvisionWorkflowTransportAction
      * @param transportService The TransportService
      * @param actionFilters action filters
-     * @param threadPool The OpenSearch thread pool
+     * @param workflowExecutors Resolves the executor to run deprovision steps on
      * @param client The node client to retrieve a stored use case template
      * @param sdkClient the Multitenant Client
      * @param workflowStepFactory The factory instantiating workflow steps
@@ -97,12 +102,13 @@ public class DeprovisionWorkflowTransportAction extends HandledTransportAction<W
      * @param clusterService the cluster service
      * @param xContentRegistry contentRegister to parse get response
      * @param settings the plugin settings
+     * @param flowFrameworkStats the node statistics to record deprovision steps in
      */
     @Inject
     public DeprovisionWorkflowTransportAction(
         TransportService transportService,
         ActionFilters actionFilters,
-        ThreadPool threadPool,
+        WorkflowExecutors workflowExecutors,
         Client client,
         SdkClient sdkClient,
         WorkflowStepFactory workflowStepFactory,
@@ -110,10 +116,11 @@ public class DeprovisionWorkflowTransportAction extends HandledTransportAction<W
         FlowFrameworkSettings flowFrameworkSettings,
         ClusterService clusterService,
         NamedXContentRegistry xContentRegistry,
-        Settings settings
+        Settings settings,
+        FlowFrameworkStats flowFrameworkStats
     ) {
         super(DeprovisionWorkflowAction.NAME, transportService, actionFilters, WorkflowRequest::new);
-        this.threadPool = threadPool;
+        this.workflowExecutors = workflowExecutors;
         this.client = client;
         this.sdkClient = sdkClient;
         this.workflowStepFactory = workflowStepFactory;
@@ -122,6 +129,7 @@ public class DeprovisionWorkflowTransportAction extends HandledTransportAction<W
         filterByEnabled = FILTER_BY_BACKEND_ROLES.get(settings);
         this.xContentRegistry = xContentRegistry;
         this.clusterService = clusterService;
+        this.flowFrameworkStats = flowFrameworkStats;
         clusterService.getClusterSettings().addSettingsUpdateConsumer(FILTER_BY_BACKEND_ROLES, it -> filterByEnabled = it);
     }
 
@@ -184,19 +192,28 @@ public class DeprovisionWorkflowTransportAction extends HandledTransportAction<W
             context.restore();
 
             Set<String> deleteAllowedResources = Strings.tokenizeByCommaToSet(allowDelete);
-            // Retrieve resources from workflow state and deprovision
-            threadPool.executor(DEPROVISION_WORKFLOW_THREAD_POOL)
-                .execute(
-                    () -> executeDeprovisionSequence(
-                        workflowId,
-                        tenantId,
-                        response.getWorkflowState().resourcesCreated(),
-                        response.getWorkflowState().getAllSharedPrincipals(),
-                        deleteAllowedResources,
-                        listener,
-                        user
+            List<ResourceCreated> resourcesCreated = response.getWorkflowState().resourcesCreated();
+            // Release the shared resources first, then retrieve resources from workflow state and deprovision
+            releaseSharedResources(
+                workflowId,
+                tenantId,
+                resourcesCreated,
+                deleteAllowedResources,
+                (keptShared, notReleased) -> workflowExecutors.executor(DEPROVISION_WORKFLOW_THREAD_POOL)
+                    .execute(
+                        () -> executeDeprovisionSequence(
+                            workflowId,
+                            tenantId,
+                            resourcesCreated,
+                            response.getWorkflowState().getAllSharedPrincipals(),
+                            deleteAllowedResources,
+                            keptShared,
+                            notReleased,
+                            listener,
+                            user
+                        )
                     )
-                );
+            );
         }, exception -> {
             String errorMessage = ParameterizedMessageFactory.INSTANCE.newMessage(
                 "Failed to get workflow state for workflow {}",
@@ -207,16 +224,67 @@ public class DeprovisionWorkflowTransportAction extends HandledTransportAction<W
         }));
     }
 
+    /**
+     * Drops the references of this workflow to the resources other workflows reuse, releasing all of them at once rather than
+     * waiting on each release in turn. Resources still used by other workflows are kept rather than deprovisioned, and so are
+     * resources whose release failed, which then remain in the state of this workflow.
+     */
+    private void releaseSharedResources(
+        String workflowId,
+        String tenantId,
+        List<ResourceCreated> resourcesCreated,
+        Set<String> deleteAllowedResources,
+        BiConsumer<Set<ResourceCreated>, Set<ResourceCreated>> onReleased
+    ) {
+        List<ResourceCreated> sharedResources = resourcesCreated.stream()
+            .filter(r -> r.resourceHash() != null)
+            .filter(r -> isDeleteAllowed(r, deleteAllowedResources))
+            .collect(Collectors.toList());
+        Set<ResourceCreated> keptShared = ConcurrentHashMap.newKeySet();
+        Set<ResourceCreated> notReleased = ConcurrentHashMap.newKeySet();
+        if (sharedResources.isEmpty()) {
+            onReleased.accept(keptShared, notReleased);
+            return;
+        }
+        // Failed releases are recorded, so the grouped listener always completes with a response
+        GroupedActionListener<Void> groupedListener = new GroupedActionListener<>(
+            ActionListener.wrap(r -> onReleased.accept(keptShared, notReleased), e -> onReleased.accept(keptShared, notReleased)),
+            sharedResources.size()
+        );
+        for (ResourceCreated resource : sharedResources) {
+            flowFrameworkIndicesHandler.releaseSharedResource(resource, workflowId, tenantId, ActionListener.wrap(kept -> {
+                if (Boolean.TRUE.equals(kept)) {
+                    // Not added to the remaining resources, so it is removed from the state of this workflow
+                    logger.info("Keeping {}, still used by other workflows", getResourceNameAndId(resource));
+                    keptShared.add(resource);
+                }
+                groupedListener.onResponse(null);
+            }, e -> {
+                logger.error("Failed to release {}, keeping it", getResourceNameAndId(resource), e);
+                notReleased.add(resource);
+                groupedListener.onResponse(null);
+            }));
+        }
+    }
+
+    private boolean isDeleteAllowed(ResourceCreated resource, Set<String> deleteAllowedResources) {
+        WorkflowStep deprovisionStep = workflowStepFactory.createStep(getDeprovisionStepByWorkflowStep(resource.workflowStepName()));
+        return !deprovisionStep.allowDeleteRequired() || deleteAllowedResources.contains(resource.resourceId());
+    }
+
     private void executeDeprovisionSequence(
         String workflowId,
         String tenantId,
         List<ResourceCreated> resourcesCreated,
         List<String> allSharedPrincipals,
         Set<String> deleteAllowedResources,
+        Set<ResourceCreated> keptShared,
+        Set<ResourceCreated> releaseFailed,
         ActionListener<WorkflowResponse> listener,
         User user
     ) {
         List<ResourceCreated> deleteNotAllowed = new ArrayList<>();
+        List<ResourceCreated> notReleased = new ArrayList<>();
         // Create a list of ProcessNodes with the corresponding deprovision workflow steps
         List<ProcessNode> deprovisionProcessSequence = new ArrayList<>();
         for (ResourceCreated resource : resourcesCreated) {
@@ -229,6 +297,14 @@ public class DeprovisionWorkflowTransportAction extends HandledTransportAction<W
                 deleteNotAllowed.add(resource);
                 continue;
             }
+            // Skip deleting resources which other workflows reuse, this workflow only dropped its reference
+            if (keptShared.contains(resource)) {
+                continue;
+            }
+            if (releaseFailed.contains(resource)) {
+                notReleased.add(resource);
+                continue;
+            }
             // New ID is old ID with (deprovision step type) prepended
             String deprovisionStepId = "(deprovision_" + stepName + ") " + workflowStepId;
             deprovisionProcessSequence.add(
@@ -239,10 +315,11 @@ public class DeprovisionWorkflowTransportAction extends HandledTransportAction<W
                     Collections.emptyMap(),
                     new WorkflowData(Map.of(getResourceByWorkflowStep(stepName), resource.resourceId()), workflowId, deprovisionStepId),
                     Collections.emptyList(),
-                    this.threadPool,
+                    this.workflowExecutors,
                     DEPROVISION_WORKFLOW_THREAD_POOL,
                     flowFrameworkSettings.getRequestTimeout(),
-                    tenantId
+                    tenantId,
+                    flowFrameworkStats
                 )
             );
         }
@@ -303,10 +380,11 @@ public class DeprovisionWorkflowTransportAction extends HandledTransportAction<W
                         pn.params(),
                         pn.input(),
                         pn.predecessors(),
-                        this.threadPool,
+                        this.workflowExecutors,
                         DEPROVISION_WORKFLOW_THREAD_POOL,
                         pn.nodeTimeout(),
-                        tenantId
+                        tenantId,
+                        flowFrameworkStats
                     );
                 }).collect(Collectors.toList());
                 // Pause briefly before next loop
@@ -324,7 +402,8 @@ public class DeprovisionWorkflowTransportAction extends HandledTransportAction<W
         // Get corresponding resources
         List<ResourceCreated> remainingResources = deprovisionProcessSequence.stream()
             .map(pn -> getResourceFromDeprovisionNode(pn, resourcesCreated))
-            .collect(Collectors.toList());
+            .collect(Collectors.toCollection(ArrayList::new));
+        remainingResources.addAll(notReleased);
         logger.info("Resources remaining: {}.", remainingResources);
         if (!deleteNotAllowed.isEmpty()) {
             logger.info("Resources requiring allow_delete: {}.", deleteNotAllowed);
@@ -0,0 +1,150 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * The OpenSearch Contributors require contributions made to
+ * this file be licensed under the Apache-2.0 license or a
+ * compatible open source license.
+ */
+package org.opensearch.flowframework.transport;
+
+import org.opensearch.action.ActionRequest;
+import org.opensearch.action.ActionRequestValidationException;
+import org.opensearch.common.Nullable;
+import org.opensearch.core.common.io.stream.StreamInput;
+import org.opensearch.core.common.io.stream.StreamOutput;
+import org.opensearch.core.rest.RestStatus;
+import org.opensearch.flowframework.exception.FlowFrameworkException;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.Base64;
+
+import static org.opensearch.action.ValidateActions.addValidationError;
+import static org.opensearch.flowframework.common.CommonValue.EXPORT_CURSOR;
+import static org.opensearch.flowframework.common.CommonValue.EXPORT_SIZE;
+
+/**
+ * Transport Request to export a page of the workflows and workflow states of a tenant
+ */
+public class ExportWorkflowsRequest extends ActionRequest {
+
+    /** The default number of workflows exported by each call */
+    public static final int DEFAULT_SIZE = 500;
+    /** The max number of workflows exported by each call, which bounds the memory used by a call */
+    public static final int MAX_SIZE = 1000;
+
+    @Nullable
+    private final String tenantId;
+    private final int size;
+    @Nullable
+    private final String cursor;
+    private final boolean encryptedCredentials;
+
+    /**
+     * Instantiates a new ExportWorkflowsRequest
+     * @param tenantId the tenant id
+     * @param size the max number of workflows to export
+     * @param cursor the cursor returned by the previous call, or null to start from the first workflow
+     * @param encryptedCredentials whether to export credentials encrypted as stored rather than redacting them
+     */
+    public ExportWorkflowsRequest(@Nullable String tenantId, int size, @Nullable String cursor, boolean encryptedCredentials) {
+        this.tenantId = tenantId;
+        this.size = size;
+        this.cursor = cursor;
+        this.encryptedCredentials = encryptedCredentials;
+    }
+
+    /**
+     * Instantiates a new ExportWorkflowsRequest from an input stream
+     * @param in the input stream to read from
+     * @throws IOException if the stream cannot be read
+     */
+    public ExportWorkflowsRequest(StreamInput in) throws IOException {
+        super(in);
+        this.tenantId = in.readOptionalString();
+        this.size = in.readVInt();
+        this.cursor = in.readOptionalString();
+        this.encryptedCredentials = in.readBoolean();
+    }
+
+    /**
+     * Gets the tenant Id
+     * @return the tenant Id
+     */
+    @Nullable
+    public String getTenantId() {
+        return this.tenantId;
+    }
+
+    /**
+     * Gets the max number of workflows to export
+     * @return the page size
+     */
+    public int getSize() {
+        return this.size;
+    }
+
+    /**
+     * Gets the cursor returned by the previous call
+     * @return the cursor, or null to start from the first workflow
+     */
+    @Nullable
+    public String getCursor() {
+        return this.cursor;
+    }
+
+    /**
+     * Whether to export credentials encrypted as stored rather than redacting them
+     * @return true to export encrypted credentials
+     */
+    public boolean isEncryptedCredentials() {
+        return this.encryptedCredentials;
+    }
+
+    /**
+     * Encodes the id of the last exported workflow as an opaque cursor.
+     * Workflows are exported in order of their id, so the next page starts after it even if workflows are created or deleted.
+     * @param workflowId the id of the last exported workflow
+     * @return the cursor
+     */
+    public static String encodeCursor(String workflowId) {
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(workflowId.getBytes(StandardCharsets.UTF_8));
+    }
+
+    /**
+     * Decodes a cursor created by {@link #encodeCursor(String)}
+     * @param cursor the cursor
+     * @return the id of the last exported workflow
+     * @throws FlowFrameworkException if the cursor is invalid
+     */
+    public static String decodeCursor(String cursor) {
+        try {
+            String workflowId = new String(Base64.getUrlDecoder().decode(cursor), StandardCharsets.UTF_8);
+            if (!workflowId.isEmpty()) {
+                return workflowId;
+            }
+        } catch (IllegalArgumentException e) {
+            // Invalid base64
+        }
+        throw new FlowFrameworkException("Invalid " + EXPORT_CURSOR + ": " + cursor, RestStatus.BAD_REQUEST);
+    }
+
+    @Override
+    public void writeTo(StreamOutput out) throws IOException {
+        super.writeTo(out);
+        out.writeOptionalString(tenantId);
+        out.writeVInt(size);
+        out.writeOptionalString(cursor);
+        out.writeBoolean(encryptedCredentials);
+    }
+
+    @Override
+    public ActionRequestValidationException validate() {
+        ActionRequestValidationException validationException = null;
+        if (size < 1 || size > MAX_SIZE) {
+            validationException = addValidationError(EXPORT_SIZE + " must be between 1 and " + MAX_SIZE, validationException);
+        }
+        return validationException;
+    }
+}
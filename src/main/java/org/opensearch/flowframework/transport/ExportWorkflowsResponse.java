@@ -0,0 +1,91 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * The OpenSearch Contributors require contributions made to
+ * this file be licensed under the Apache-2.0 license or a
+ * compatible open source license.
+ */
+package org.opensearch.flowframework.transport;
+
+import org.opensearch.common.Nullable;
+import org.opensearch.core.action.ActionResponse;
+import org.opensearch.core.common.bytes.BytesReference;
+import org.opensearch.core.common.io.stream.StreamInput;
+import org.opensearch.core.common.io.stream.StreamOutput;
+
+import java.io.IOException;
+
+/**
+ * Transport Response with a page of exported workflows, as newline delimited JSON with one workflow and its state per line
+ */
+public class ExportWorkflowsResponse extends ActionResponse {
+
+    /** The field name for the id of an exported workflow */
+    public static final String WORKFLOW_ID_FIELD = "workflow_id";
+    /** The field name for the template of an exported workflow */
+    public static final String TEMPLATE_FIELD = "template";
+    /** The field name for the state of an exported workflow */
+    public static final String STATE_FIELD = "state";
+
+    private final BytesReference content;
+    private final int count;
+    @Nullable
+    private final String nextCursor;
+
+    /**
+     * Instantiates a new ExportWorkflowsResponse
+     * @param content the exported workflows as newline delimited JSON
+     * @param count the number of exported workflows
+     * @param nextCursor the cursor to the next page, or null if this is the last page
+     */
+    public ExportWorkflowsResponse(BytesReference content, int count, @Nullable String nextCursor) {
+        this.content = content;
+        this.count = count;
+        this.nextCursor = nextCursor;
+    }
+
+    /**
+     * Instantiates a new ExportWorkflowsResponse from an input stream
+     * @param in the input stream to read from
+     * @throws IOException if the stream cannot be read
+     */
+    public ExportWorkflowsResponse(StreamInput in) throws IOException {
+        super(in);
+        this.content = in.readBytesReference();
+        this.count = in.readVInt();
+        this.nextCursor = in.readOptionalString();
+    }
+
+    @Override
+    public void writeTo(StreamOutput out) throws IOException {
+        out.writeBytesReference(content);
+        out.writeVInt(count);
+        out.writeOptionalString(nextCursor);
+    }
+
+    /**
+     * Gets the exported workflows as newline delimited JSON
+     * @return the content
+     */
+    public BytesReference getContent() {
+        return content;
+    }
+
+    /**
+     * Gets the number of exported workflows
+     * @return the count
+     */
+    public int getCount() {
+        return count;
+    }
+
+    /**
+     * Gets the cursor to the next page
+     * @return the cursor, or null if this is the last page
+     */
+    @Nullable
+    public String getNextCursor() {
+        return nextCursor;
+    }
+}
@@ -0,0 +1,271 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * The OpenSearch Contributors require contributions made to
+ * this file be licensed under the Apache-2.0 license or a
+ * compatible open source license.
+ */
+package org.opensearch.flowframework.transport;
+
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+import org.opensearch.ExceptionsHelper;
+import org.opensearch.action.get.GetResponse;
+import org.opensearch.action.search.SearchRequest;
+import org.opensearch.action.search.SearchResponse;
+import org.opensearch.action.support.ActionFilters;
+import org.opensearch.action.support.GroupedActionListener;
+import org.opensearch.action.support.HandledTransportAction;
+import org.opensearch.common.collect.Tuple;
+import org.opensearch.common.inject.Inject;
+import org.opensearch.common.io.stream.BytesStreamOutput;
+import org.opensearch.common.xcontent.LoggingDeprecationHandler;
+import org.opensearch.common.xcontent.XContentFactory;
+import org.opensearch.common.xcontent.XContentType;
+import org.opensearch.commons.authuser.User;
+import org.opensearch.core.action.ActionListener;
+import org.opensearch.core.common.bytes.BytesArray;
+import org.opensearch.core.common.bytes.BytesReference;
+import org.opensearch.core.rest.RestStatus;
+import org.opensearch.core.xcontent.NamedXContentRegistry;
+import org.opensearch.core.xcontent.ToXContent;
+import org.opensearch.core.xcontent.XContentBuilder;
+import org.opensearch.core.xcontent.XContentParser;
+import org.opensearch.flowframework.common.FlowFrameworkSettings;
+import org.opensearch.flowframework.exception.FlowFrameworkException;
+import org.opensearch.flowframework.indices.FlowFrameworkIndicesHandler;
+import org.opensearch.flowframework.model.Template;
+import org.opensearch.flowframework.model.WorkflowState;
+import org.opensearch.flowframework.transport.handler.SearchHandler;
+import org.opensearch.flowframework.util.EncryptorUtils;
+import org.opensearch.flowframework.util.ParseUtils;
+import org.opensearch.index.IndexNotFoundException;
+import org.opensearch.index.get.GetResult;
+import org.opensearch.index.query.QueryBuilders;
+import org.opensearch.search.SearchHit;
+import org.opensearch.search.builder.SearchSourceBuilder;
+import org.opensearch.search.sort.SortOrder;
+import org.opensearch.tasks.Task;
+import org.opensearch.transport.TransportService;
+import org.opensearch.transport.client.Client;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+import static org.opensearch.flowframework.common.CommonValue.GLOBAL_CONTEXT_INDEX;
+import static org.opensearch.flowframework.common.CommonValue.WORKFLOW_ID_FIELD;
+import static org.opensearch.flowframework.common.CommonValue.WORKFLOW_RESOURCE_TYPE;
+import static org.opensearch.flowframework.common.CommonValue.WORKFLOW_STATE_INDEX;
+import static org.opensearch.flowframework.common.CommonValue.WORKFLOW_STATE_RESOURCE_TYPE;
+
+/**
+ * Transport Action to export the workflows and workflow states of a tenant, one page per call.
+ * <p>
+ * Workflow states are paged with search_after on their workflow id, so each page costs the same however deep it is,
+ * and the templates of a page are then fetched by id in a single search. Both searches go through the {@link SearchHandler},
+ * so only the workflows the user may search are exported. Templates referencing a shared workflows section are exported
+ * with the section inline. At most {@link ExportWorkflowsRequest#MAX_SIZE} workflows are held in memory by a call.
+ */
+public class ExportWorkflowsTransportAction extends HandledTransportAction<ExportWorkflowsRequest, ExportWorkflowsResponse> {
+
+    private final Logger logger = LogManager.getLogger(ExportWorkflowsTransportAction.class);
+
+    private final SearchHandler searchHandler;
+    private final FlowFrameworkIndicesHandler flowFrameworkIndicesHandler;
+    private final EncryptorUtils encryptorUtils;
+    private final FlowFrameworkSettings flowFrameworkSettings;
+    private final Client client;
+
+    /**
+     * Instantiates a new ExportWorkflowsTransportAction
+     * @param transportService the TransportService
+     * @param actionFilters action filters
+     * @param searchHandler The SearchHandler
+     * @param flowFrameworkIndicesHandler The Flow Framework indices handler, to resolve shared workflows
+     * @param encryptorUtils Encryptor utils to redact credentials
+     * @param flowFrameworkSettings the plugin settings
+     * @param client the OpenSearch client
+     */
+    @Inject
+    public ExportWorkflowsTransportAction(
+        TransportService transportService,
+        ActionFilters actionFilters,
+        SearchHandler searchHandler,
+        FlowFrameworkIndicesHandler flowFrameworkIndicesHandler,
+        EncryptorUtils encryptorUtils,
+        FlowFrameworkSettings flowFrameworkSettings,
+        Client client
+    ) {
+        super(ExportWorkflowsAction.NAME, transportService, actionFilters, ExportWorkflowsRequest::new);
+        this.searchHandler = searchHandler;
+        this.flowFrameworkIndicesHandler = flowFrameworkIndicesHandler;
+        this.encryptorUtils = encryptorUtils;
+        this.flowFrameworkSettings = flowFrameworkSettings;
+        this.client = client;
+    }
+
+    @Override
+    protected void doExecute(Task task, ExportWorkflowsRequest request, ActionListener<ExportWorkflowsResponse> listener) {
+        try {
+            User user = ParseUtils.getUserContext(client);
+            if (request.isEncryptedCredentials() && user != null && !ParseUtils.isAdmin(user)) {
+                throw new FlowFrameworkException("Only admin users may export encrypted credentials", RestStatus.FORBIDDEN);
+            }
+            SearchSourceBuilder stateSource = new SearchSourceBuilder().query(QueryBuilders.matchAllQuery())
+                .size(request.getSize())
+                .sort(WORKFLOW_ID_FIELD, SortOrder.ASC)
+                .timeout(flowFrameworkSettings.getRequestTimeout());
+            if (request.getCursor() != null) {
+                stateSource.searchAfter(new Object[] { ExportWorkflowsRequest.decodeCursor(request.getCursor()) });
+            }
+            SearchRequest stateSearch = new SearchRequest(WORKFLOW_STATE_INDEX).source(stateSource);
+            ActionListener<FlowFrameworkSearchResponse> stateListener = ActionListener.wrap(stateResponse -> {
+                Map<String, WorkflowState> states = new LinkedHashMap<>();
+                for (SearchHit hit : parseHits(stateResponse)) {
+                    WorkflowState state = WorkflowState.parse(hit.getSourceRef());
+                    states.put(state.getWorkflowId() == null ? hit.getId() : state.getWorkflowId(), state);
+                }
+                if (states.isEmpty()) {
+                    listener.onResponse(new ExportWorkflowsResponse(BytesArray.EMPTY, 0, null));
+                    return;
+                }
+                exportTemplates(request, user, states, listener);
+            }, e -> {
+                if (ExceptionsHelper.unwrap(e, IndexNotFoundException.class) != null) {
+                    // No workflow has been created yet
+                    listener.onResponse(new ExportWorkflowsResponse(BytesArray.EMPTY, 0, null));
+                } else {
+                    onFailure(e, listener);
+                }
+            });
+            searchHandler.search(stateSearch, request.getTenantId(), WORKFLOW_STATE_RESOURCE_TYPE, false, stateListener);
+        } catch (Exception e) {
+            onFailure(e, listener);
+        }
+    }
+
+    private void exportTemplates(
+        ExportWorkflowsRequest request,
+        User user,
+        Map<String, WorkflowState> states,
+        ActionListener<ExportWorkflowsResponse> listener
+    ) {
+        SearchSourceBuilder templateSource = new SearchSourceBuilder().query(
+            QueryBuilders.idsQuery().addIds(states.keySet().toArray(new String[0]))
+        );
+        templateSource.size(states.size()).timeout(flowFrameworkSettings.getRequestTimeout());
+        SearchRequest templateSearch = new SearchRequest(GLOBAL_CONTEXT_INDEX).source(templateSource);
+        boolean encrypted = request.isEncryptedCredentials();
+        ActionListener<FlowFrameworkSearchResponse> templateListener = ActionListener.wrap(templateResponse -> {
+            SearchHit[] hits = parseHits(templateResponse);
+            ActionListener<Collection<Tuple<String, Template>>> resolvedListener = ActionListener.wrap(resolved -> {
+                Map<String, Template> templates = new HashMap<>();
+                for (Tuple<String, Template> template : resolved) {
+                    templates.put(template.v1(), template.v2());
+                }
+                writePage(request, states, templates, listener);
+            }, e -> onFailure(e, listener));
+            if (hits.length == 0) {
+                resolvedListener.onResponse(Collections.emptyList());
+                return;
+            }
+            GroupedActionListener<Tuple<String, Template>> groupedListener = new GroupedActionListener<>(resolvedListener, hits.length);
+            for (SearchHit hit : hits) {
+                resolveTemplate(hit, request.getTenantId(), user, encrypted, groupedListener);
+            }
+        }, e -> onFailure(e, listener));
+        // Secured fields are only returned to admin users, which was checked before exporting encrypted credentials
+        searchHandler.search(templateSearch, request.getTenantId(), WORKFLOW_RESOURCE_TYPE, encrypted, templateListener);
+    }
+
+    /**
+     * Resolves the shared workflows section a template may reference, then redacts its credentials unless exporting them encrypted
+     */
+    private void resolveTemplate(
+        SearchHit hit,
+        String tenantId,
+        User user,
+        boolean encrypted,
+        ActionListener<Tuple<String, Template>> listener
+    ) {
+        GetResponse getResponse = new GetResponse(
+            new GetResult(
+                hit.getIndex(),
+                hit.getId(),
+                hit.getSeqNo(),
+                hit.getPrimaryTerm(),
+                hit.getVersion(),
+                true,
+                hit.getSourceRef(),
+                Collections.emptyMap(),
+                Collections.emptyMap()
+            )
+        );
+        flowFrameworkIndicesHandler.resolveTemplateReference(getResponse, tenantId, ActionListener.wrap(resolved -> {
+            Template template = Template.parse(resolved.getSourceAsBytesRef());
+            if (!encrypted) {
+                template = encryptorUtils.redactTemplateSecuredFields(user, template);
+            }
+            listener.onResponse(new Tuple<>(hit.getId(), template));
+        }, listener::onFailure));
+    }
+
+    private static void writePage(
+        ExportWorkflowsRequest request,
+        Map<String, WorkflowState> states,
+        Map<String, Template> templates,
+        ActionListener<ExportWorkflowsResponse> listener
+    ) throws IOException {
+        String lastWorkflowId = null;
+        BytesStreamOutput out = new BytesStreamOutput();
+        for (Map.Entry<String, WorkflowState> entry : states.entrySet()) {
+            writeLine(out, entry.getKey(), templates.get(entry.getKey()), entry.getValue());
+            lastWorkflowId = entry.getKey();
+        }
+        String nextCursor = states.size() < request.getSize() ? null : ExportWorkflowsRequest.encodeCursor(lastWorkflowId);
+        listener.onResponse(new ExportWorkflowsResponse(out.bytes(), states.size(), nextCursor));
+    }
+
+    private static void writeLine(BytesStreamOutput out, String workflowId, Template template, WorkflowState state) throws IOException {
+        XContentBuilder builder = XContentFactory.jsonBuilder().startObject();
+        builder.field(ExportWorkflowsResponse.WORKFLOW_ID_FIELD, workflowId);
+        if (template != null) {
+            builder.field(ExportWorkflowsResponse.TEMPLATE_FIELD);
+            template.toXContent(builder, ToXContent.EMPTY_PARAMS);
+        }
+        builder.field(ExportWorkflowsResponse.STATE_FIELD);
+        state.toXContent(builder, ToXContent.EMPTY_PARAMS);
+        BytesReference.bytes(builder.endObject()).writeTo(out);
+        out.writeByte((byte) '\n');
+    }
+
+    /**
+     * Reads the hits of a search response, failing if the search timed out as the page could then skip workflows
+     */
+    private static SearchHit[] parseHits(FlowFrameworkSearchResponse searchResponse) throws IOException {
+        if (searchResponse.isTimedOut()) {
+            throw new FlowFrameworkException("Timed out exporting workflows", RestStatus.REQUEST_TIMEOUT);
+        }
+        try (
+            InputStream stream = searchResponse.getContent().streamInput();
+            XContentParser parser = XContentType.JSON.xContent()
+                .createParser(NamedXContentRegistry.EMPTY, LoggingDeprecationHandler.INSTANCE, stream)
+        ) {
+            return SearchResponse.fromXContent(parser).getHits().getHits();
+        }
+    }
+
+    private void onFailure(Exception e, ActionListener<ExportWorkflowsResponse> listener) {
+        String errorMessage = "Failed to export workflows";
+        logger.error(errorMessage, e);
+        listener.onFailure(
+            e instanceof FlowFrameworkException ? e : new FlowFrameworkException(errorMessage, ExceptionsHelper.status(e))
+        );
+    }
+}
@@ -0,0 +1,86 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * The OpenSearch Contributors require contributions made to
+ * this file be licensed under the Apache-2.0 license or a
+ * compatible open source license.
+ */
+package org.opensearch.flowframework.transport;
+
+import org.opensearch.common.xcontent.XContentType;
+import org.opensearch.core.action.ActionResponse;
+import org.opensearch.core.common.bytes.BytesReference;
+import org.opensearch.core.common.io.stream.StreamInput;
+import org.opensearch.core.common.io.stream.StreamOutput;
+import org.opensearch.core.xcontent.ToXContentObject;
+import org.opensearch.core.xcontent.XContentBuilder;
+
+import java.io.IOException;
+import java.io.InputStream;
+
+/**
+ * Transport Response from searching workflows or workflow states.
+ * The search response is held as its serialized JSON content so it can be written to the REST channel without being parsed again.
+ */
+public class FlowFrameworkSearchResponse extends ActionResponse implements ToXContentObject {
+
+    private final BytesReference content;
+    private final boolean timedOut;
+
+    /**
+     * Instantiates a new FlowFrameworkSearchResponse
+     * @param content the JSON content of the search response
+     * @param timedOut whether the search timed out
+     */
+    public FlowFrameworkSearchResponse(BytesReference content, boolean timedOut) {
+        this.content = content;
+        this.timedOut = timedOut;
+    }
+
+    /**
+     * Instantiates a new FlowFrameworkSearchResponse from an input stream
+     * @param in the input stream to read from
+     * @throws IOException if the stream cannot be read
+     */
+    public FlowFrameworkSearchResponse(StreamInput in) throws IOException {
+        super(in);
+        this.content = in.readBytesReference();
+        this.timedOut = in.readBoolean();
+    }
+
+    @Override
+    public void writeTo(StreamOutput out) throws IOException {
+        out.writeBytesReference(content);
+        out.writeBoolean(timedOut);
+    }
+
+    /**
+     * Gets the JSON content of the search response
+     * @return the content
+     */
+    public BytesReference getContent() {
+        return content;
+    }
+
+    /**
+     * Whether the search timed out
+     * @return true if the search timed out
+     */
+    public boolean isTimedOut() {
+        return timedOut;
+    }
+
+    @Override
+    public XContentBuilder toXContent(XContentBuilder builder, Params params) throws IOException {
+        // Copied as is when the builder is unfiltered JSON, otherwise the content is converted token by token
+        try (InputStream stream = content.streamInput()) {
+            return builder.rawValue(stream, XContentType.JSON);
+        }
+    }
+
+    @Override
+    public String toString() {
+        return content.utf8ToString();
+    }
+}
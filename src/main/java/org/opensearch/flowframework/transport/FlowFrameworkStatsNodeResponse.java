@@ -0,0 +1,235 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * The OpenSearch Contributors require contributions made to
+ * this file be licensed under the Apache-2.0 license or a
+ * compatible open source license.
+ */
+package org.opensearch.flowframework.transport;
+
+import org.opensearch.action.support.nodes.BaseNodeResponse;
+import org.opensearch.cluster.node.DiscoveryNode;
+import org.opensearch.core.common.io.stream.StreamInput;
+import org.opensearch.core.common.io.stream.StreamOutput;
+import org.opensearch.core.xcontent.ToXContentFragment;
+import org.opensearch.core.xcontent.XContentBuilder;
+import org.opensearch.flowframework.stats.PoolStats;
+import org.opensearch.flowframework.stats.StepStats;
+import org.opensearch.flowframework.stats.VirtualThreadStats;
+
+import java.io.IOException;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+
+/**
+ * Transport Response holding the flow framework stats of one node
+ */
+public class FlowFrameworkStatsNodeResponse extends BaseNodeResponse implements ToXContentFragment {
+
+    /** The field name for the per step type stats */
+    public static final String STEPS_FIELD = "steps";
+    /** The field name for the workflow state index write stats */
+    public static final String STATE_INDEX_FIELD = "state_index";
+    /** The field name for the active provisions of each tenant */
+    public static final String ACTIVE_PROVISIONS_FIELD = "active_provisions_per_tenant";
+    /** The field name for the active deprovisions of each tenant */
+    public static final String ACTIVE_DEPROVISIONS_FIELD = "active_deprovisions_per_tenant";
+
+    private final Map<String, StepStats> stepStats;
+    private final List<PoolStats> poolStats;
+    private final long stateWriteConflicts;
+    private final long stateWriteRetries;
+    private final Map<String, Integer> activeProvisions;
+    private final Map<String, Integer> activeDeprovisions;
+    private final long documentCacheHits;
+    private final long documentCacheMisses;
+    private final long documentCacheEvictions;
+    private final long documentCacheSizeInBytes;
+    private final int waitingStatusRequests;
+    private final VirtualThreadStats virtualThreadStats;
+
+    /**
+     * Instantiates a new FlowFrameworkStatsNodeResponse
+     * @param node the node the stats belong to
+     * @param stepStats the stats of each workflow step type executed on the node
+     * @param poolStats the usage of the plugin thread pools
+     * @param stateWriteConflicts the number of version conflicts returned to workflow state writes
+     * @param stateWriteRetries the number of workflow state writes retried after a version conflict
+     * @param activeProvisions the number of active provisions of each tenant
+     * @param activeDeprovisions the number of active deprovisions of each tenant
+     * @param documentCacheHits the number of documents served from the document cache
+     * @param documentCacheMisses the number of documents which had to be parsed
+     * @param documentCacheEvictions the number of entries evicted from the document cache
+     * @param documentCacheSizeInBytes the approximate size of the document cache
+     * @param waitingStatusRequests the number of status requests waiting for a state change
+     * @param virtualThreadStats the provision and deprovision work executed on virtual threads
+     */
+    public FlowFrameworkStatsNodeResponse(
+        DiscoveryNode node,
+        Map<String, StepStats> stepStats,
+        List<PoolStats> poolStats,
+        long stateWriteConflicts,
+        long stateWriteRetries,
+        Map<String, Integer> activeProvisions,
+        Map<String, Integer> activeDeprovisions,
+        long documentCacheHits,
+        long documentCacheMisses,
+        long documentCacheEvictions,
+        long documentCacheSizeInBytes,
+        int waitingStatusRequests,
+        VirtualThreadStats virtualThreadStats
+    ) {
+        super(node);
+        this.stepStats = stepStats;
+        this.poolStats = poolStats;
+        this.stateWriteConflicts = stateWriteConflicts;
+        this.stateWriteRetries = stateWriteRetries;
+        this.activeProvisions = activeProvisions;
+        this.activeDeprovisions = activeDeprovisions;
+        this.documentCacheHits = documentCacheHits;
+        this.documentCacheMisses = documentCacheMisses;
+        this.documentCacheEvictions = documentCacheEvictions;
+        this.documentCacheSizeInBytes = documentCacheSizeInBytes;
+        this.waitingStatusRequests = waitingStatusRequests;
+        this.virtualThreadStats = virtualThreadStats;
+    }
+
+    /**
+     * Instantiates a new FlowFrameworkStatsNodeResponse from an input stream
+     * @param in the input stream to read from
+     * @throws IOException if the stream cannot be read
+     */
+    public FlowFrameworkStatsNodeResponse(StreamInput in) throws IOException {
+        super(in);
+        this.stepStats = in.readMap(StreamInput::readString, StepStats::new);
+        this.poolStats = in.readList(PoolStats::new);
+        this.stateWriteConflicts = in.readVLong();
+        this.stateWriteRetries = in.readVLong();
+        this.activeProvisions = in.readMap(StreamInput::readString, StreamInput::readVInt);
+        this.activeDeprovisions = in.readMap(StreamInput::readString, StreamInput::readVInt);
+        this.documentCacheHits = in.readVLong();
+        this.documentCacheMisses = in.readVLong();
+        this.documentCacheEvictions = in.readVLong();
+        this.documentCacheSizeInBytes = in.readVLong();
+        this.waitingStatusRequests = in.readVInt();
+        this.virtualThreadStats = new VirtualThreadStats(in);
+    }
+
+    @Override
+    public void writeTo(StreamOutput out) throws IOException {
+        super.writeTo(out);
+        out.writeMap(stepStats, StreamOutput::writeString, (o, stats) -> stats.writeTo(o));
+        out.writeList(poolStats);
+        out.writeVLong(stateWriteConflicts);
+        out.writeVLong(stateWriteRetries);
+        out.writeMap(activeProvisions, StreamOutput::writeString, StreamOutput::writeVInt);
+        out.writeMap(activeDeprovisions, StreamOutput::writeString, StreamOutput::writeVInt);
+        out.writeVLong(documentCacheHits);
+        out.writeVLong(documentCacheMisses);
+        out.writeVLong(documentCacheEvictions);
+        out.writeVLong(documentCacheSizeInBytes);
+        out.writeVInt(waitingStatusRequests);
+        virtualThreadStats.writeTo(out);
+    }
+
+    /**
+     * Gets the stats of each workflow step type executed on the node
+     * @return a map of step type to its stats
+     */
+    public Map<String, StepStats> getStepStats() {
+        return stepStats;
+    }
+
+    /**
+     * Gets the usage of the plugin thread pools
+     * @return the thread pool stats
+     */
+    public List<PoolStats> getPoolStats() {
+        return poolStats;
+    }
+
+    /**
+     * Gets the number of version conflicts returned to workflow state writes
+     * @return the conflict count
+     */
+    public long getStateWriteConflicts() {
+        return stateWriteConflicts;
+    }
+
+    /**
+     * Gets the number of workflow state writes retried after a version conflict
+     * @return the retry count
+     */
+    public long getStateWriteRetries() {
+        return stateWriteRetries;
+    }
+
+    /**
+     * Gets the provision and deprovision work executed on virtual threads
+     * @return the virtual thread stats
+     */
+    public VirtualThreadStats getVirtualThreadStats() {
+        return virtualThreadStats;
+    }
+
+    /**
+     * Gets the number of active provisions of each tenant
+     * @return a map of tenant ID to its active provision count
+     */
+    public Map<String, Integer> getActiveProvisions() {
+        return activeProvisions;
+    }
+
+    /**
+     * Gets the number of active deprovisions of each tenant
+     * @return a map of tenant ID to its active deprovision count
+     */
+    public Map<String, Integer> getActiveDeprovisions() {
+        return activeDeprovisions;
+    }
+
+    @Override
+    public XContentBuilder toXContent(XContentBuilder builder, Params params) throws IOException {
+        builder.field("name", getNode().getName());
+        builder.startObject(STEPS_FIELD);
+        for (Map.Entry<String, StepStats> entry : new TreeMap<>(stepStats).entrySet()) {
+            builder.startObject(entry.getKey());
+            entry.getValue().toXContent(builder, params);
+            builder.endObject();
+        }
+        builder.endObject();
+        builder.startObject("thread_pools");
+        for (PoolStats pool : poolStats) {
+            pool.toXContent(builder, params);
+        }
+        builder.endObject();
+        stateIndexToXContent(builder, stateWriteConflicts, stateWriteRetries);
+        builder.field(ACTIVE_PROVISIONS_FIELD, new TreeMap<>(activeProvisions));
+        builder.field(ACTIVE_DEPROVISIONS_FIELD, new TreeMap<>(activeDeprovisions));
+        builder.startObject("document_cache");
+        builder.field("hits", documentCacheHits);
+        builder.field("misses", documentCacheMisses);
+        builder.field("evictions", documentCacheEvictions);
+        builder.field("size_in_bytes", documentCacheSizeInBytes);
+        builder.endObject();
+        builder.field("waiting_status_requests", waitingStatusRequests);
+        virtualThreadStats.toXContent(builder, params);
+        return builder;
+    }
+
+    /**
+     * Writes the workflow state index write stats
+     * @param builder the builder to write to
+     * @param conflicts the number of version conflicts
+     * @param retries the number of retries
+     * @throws IOException on failure to write
+     */
+    static void stateIndexToXContent(XContentBuilder builder, long conflicts, long retries) throws IOException {
+        builder.startObject(STATE_INDEX_FIELD);
+        builder.field("write_conflicts", conflicts);
+        builder.field("write_retries", retries);
+        builder.endObject();
+    }
+}
@@ -0,0 +1,37 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * The OpenSearch Contributors require contributions made to
+ * this file be licensed under the Apache-2.0 license or a
+ * compatible open source license.
+ */
+package org.opensearch.flowframework.transport;
+
+import org.opensearch.action.support.nodes.BaseNodesRequest;
+import org.opensearch.core.common.io.stream.StreamInput;
+
+import java.io.IOException;
+
+/**
+ * Transport Request to get the flow framework stats of a set of nodes
+ */
+public class FlowFrameworkStatsRequest extends BaseNodesRequest<FlowFrameworkStatsRequest> {
+
+    /**
+     * Instantiates a new FlowFrameworkStatsRequest
+     * @param nodeIds the ids of the nodes to get stats from, or none for all nodes
+     */
+    public FlowFrameworkStatsRequest(String... nodeIds) {
+        super(nodeIds);
+    }
+
+    /**
+     * Instantiates a new FlowFrameworkStatsRequest from an input stream
+     * @param in the input stream to read from
+     * @throws IOException if the stream cannot be read
+     */
+    public FlowFrameworkStatsRequest(StreamInput in) throws IOException {
+        super(in);
+    }
+}
@@ -0,0 +1,114 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * The OpenSearch Contributors require contributions made to
+ * this file be licensed under the Apache-2.0 license or a
+ * compatible open source license.
+ */
+package org.opensearch.flowframework.transport;
+
+import org.opensearch.action.FailedNodeException;
+import org.opensearch.action.support.nodes.BaseNodesResponse;
+import org.opensearch.cluster.ClusterName;
+import org.opensearch.core.common.io.stream.StreamInput;
+import org.opensearch.core.common.io.stream.StreamOutput;
+import org.opensearch.core.xcontent.ToXContentObject;
+import org.opensearch.core.xcontent.XContentBuilder;
+import org.opensearch.flowframework.stats.StepStats;
+import org.opensearch.rest.action.RestActions;
+
+import java.io.IOException;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+
+/**
+ * Transport Response holding the flow framework stats of a set of nodes, along with their cluster-wide aggregation
+ */
+public class FlowFrameworkStatsResponse extends BaseNodesResponse<FlowFrameworkStatsNodeResponse> implements ToXContentObject {
+
+    /**
+     * Instantiates a new FlowFrameworkStatsResponse
+     * @param clusterName the cluster name
+     * @param nodes the stats of each node which responded
+     * @param failures the failures of each node which did not respond
+     */
+    public FlowFrameworkStatsResponse(
+        ClusterName clusterName,
+        List<FlowFrameworkStatsNodeResponse> nodes,
+        List<FailedNodeException> failures
+    ) {
+        super(clusterName, nodes, failures);
+    }
+
+    /**
+     * Instantiates a new FlowFrameworkStatsResponse from an input stream
+     * @param in the input stream to read from
+     * @throws IOException if the stream cannot be read
+     */
+    public FlowFrameworkStatsResponse(StreamInput in) throws IOException {
+        super(in);
+    }
+
+    @Override
+    protected List<FlowFrameworkStatsNodeResponse> readNodesFrom(StreamInput in) throws IOException {
+        return in.readList(FlowFrameworkStatsNodeResponse::new);
+    }
+
+    @Override
+    protected void writeNodesTo(StreamOutput out, List<FlowFrameworkStatsNodeResponse> nodes) throws IOException {
+        out.writeList(nodes);
+    }
+
+    /**
+     * Merge the step stats of every node which responded
+     * @return a map of step type to its cluster-wide stats
+     */
+    public Map<String, StepStats> getClusterStepStats() {
+        Map<String, StepStats> merged = new TreeMap<>();
+        for (FlowFrameworkStatsNodeResponse node : getNodes()) {
+            node.getStepStats().forEach((stepType, stats) -> merged.merge(stepType, stats, StepStats::merge));
+        }
+        return merged;
+    }
+
+    @Override
+    public XContentBuilder toXContent(XContentBuilder builder, Params params) throws IOException {
+        builder.startObject();
+        RestActions.buildNodesHeader(builder, params, this);
+        builder.field("cluster_name", getClusterName().value());
+
+        long conflicts = 0;
+        long retries = 0;
+        Map<String, Integer> activeProvisions = new TreeMap<>();
+        Map<String, Integer> activeDeprovisions = new TreeMap<>();
+        for (FlowFrameworkStatsNodeResponse node : getNodes()) {
+            conflicts += node.getStateWriteConflicts();
+            retries += node.getStateWriteRetries();
+            node.getActiveProvisions().forEach((tenant, count) -> activeProvisions.merge(tenant, count, Integer::sum));
+            node.getActiveDeprovisions().forEach((tenant, count) -> activeDeprovisions.merge(tenant, count, Integer::sum));
+        }
+        builder.startObject("cluster");
+        builder.startObject(FlowFrameworkStatsNodeResponse.STEPS_FIELD);
+        for (Map.Entry<String, StepStats> entry : getClusterStepStats().entrySet()) {
+            builder.startObject(entry.getKey());
+            entry.getValue().toXContent(builder, params);
+            builder.endObject();
+        }
+        builder.endObject();
+        FlowFrameworkStatsNodeResponse.stateIndexToXContent(builder, conflicts, retries);
+        builder.field(FlowFrameworkStatsNodeResponse.ACTIVE_PROVISIONS_FIELD, activeProvisions);
+        builder.field(FlowFrameworkStatsNodeResponse.ACTIVE_DEPROVISIONS_FIELD, activeDeprovisions);
+        builder.endObject();
+
+        builder.startObject("nodes");
+        for (FlowFrameworkStatsNodeResponse node : getNodes()) {
+            builder.startObject(node.getNode().getId());
+            node.toXContent(builder, params);
+            builder.endObject();
+        }
+        builder.endObject();
+        return builder.endObject();
+    }
+}
@@ -0,0 +1,134 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * The OpenSearch Contributors require contributions made to
+ * this file be licensed under the Apache-2.0 license or a
+ * compatible open source license.
+ */
+package org.opensearch.flowframework.transport;
+
+import org.opensearch.action.FailedNodeException;
+import org.opensearch.action.support.ActionFilters;
+import org.opensearch.action.support.nodes.TransportNodesAction;
+import org.opensearch.cluster.service.ClusterService;
+import org.opensearch.common.inject.Inject;
+import org.opensearch.core.common.io.stream.StreamInput;
+import org.opensearch.flowframework.indices.FlowFrameworkIndicesHandler;
+import org.opensearch.flowframework.indices.WorkflowDocumentCache;
+import org.opensearch.flowframework.stats.FlowFrameworkStats;
+import org.opensearch.flowframework.stats.PoolStats;
+import org.opensearch.flowframework.util.TenantAwareHelper;
+import org.opensearch.flowframework.workflow.WorkflowExecutors;
+import org.opensearch.threadpool.ThreadPool;
+import org.opensearch.transport.TransportService;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.opensearch.flowframework.common.CommonValue.DEPROVISION_WORKFLOW_THREAD_POOL;
+import static org.opensearch.flowframework.common.CommonValue.PROVISION_WORKFLOW_THREAD_POOL;
+import static org.opensearch.flowframework.common.CommonValue.WORKFLOW_THREAD_POOL;
+
+/**
+ * Transport Action to collect the flow framework stats of each node
+ */
+public class FlowFrameworkStatsTransportAction extends TransportNodesAction<
+    FlowFrameworkStatsRequest,
+    FlowFrameworkStatsResponse,
+    FlowFrameworkStatsNodeRequest,
+    FlowFrameworkStatsNodeResponse> {
+
+    private static final List<String> THREAD_POOLS = List.of(
+        WORKFLOW_THREAD_POOL,
+        PROVISION_WORKFLOW_THREAD_POOL,
+        DEPROVISION_WORKFLOW_THREAD_POOL
+    );
+
+    private final FlowFrameworkStats flowFrameworkStats;
+    private final FlowFrameworkIndicesHandler flowFrameworkIndicesHandler;
+    private final WorkflowExecutors workflowExecutors;
+
+    /**
+     * Instantiates a new FlowFrameworkStatsTransportAction
+     * @param threadPool the OpenSearch thread pool
+     * @param clusterService the cluster service
+     * @param transportService the transport service
+     * @param actionFilters action filters
+     * @param flowFrameworkStats the step execution stats of this node
+     * @param flowFrameworkIndicesHandler class to handle all internal system indices actions
+     * @param workflowExecutors the executors of provision and deprovision work
+     */
+    @Inject
+    public FlowFrameworkStatsTransportAction(
+        ThreadPool threadPool,
+        ClusterService clusterService,
+        TransportService transportService,
+        ActionFilters actionFilters,
+        FlowFrameworkStats flowFrameworkStats,
+        FlowFrameworkIndicesHandler flowFrameworkIndicesHandler,
+        WorkflowExecutors workflowExecutors
+    ) {
+        super(
+            FlowFrameworkStatsAction.NAME,
+            threadPool,
+            clusterService,
+            transportService,
+            actionFilters,
+            FlowFrameworkStatsRequest::new,
+            FlowFrameworkStatsNodeRequest::new,
+            ThreadPool.Names.MANAGEMENT,
+            FlowFrameworkStatsNodeResponse.class
+        );
+        this.flowFrameworkStats = flowFrameworkStats;
+        this.flowFrameworkIndicesHandler = flowFrameworkIndicesHandler;
+        this.workflowExecutors = workflowExecutors;
+    }
+
+    @Override
+    protected FlowFrameworkStatsResponse newResponse(
+        FlowFrameworkStatsRequest request,
+        List<FlowFrameworkStatsNodeResponse> responses,
+        List<FailedNodeException> failures
+    ) {
+        return new FlowFrameworkStatsResponse(clusterService.getClusterName(), responses, failures);
+    }
+
+    @Override
+    protected FlowFrameworkStatsNodeRequest newNodeRequest(FlowFrameworkStatsRequest request) {
+        return new FlowFrameworkStatsNodeRequest();
+    }
+
+    @Override
+    protected FlowFrameworkStatsNodeResponse newNodeResponse(StreamInput in) throws IOException {
+        return new FlowFrameworkStatsNodeResponse(in);
+    }
+
+    @Override
+    protected FlowFrameworkStatsNodeResponse nodeOperation(FlowFrameworkStatsNodeRequest request) {
+        List<PoolStats> poolStats = new ArrayList<>();
+        for (String name : THREAD_POOLS) {
+            PoolStats stats = PoolStats.of(threadPool, name);
+            if (stats != null) {
+                poolStats.add(stats);
+            }
+        }
+        WorkflowDocumentCache cache = flowFrameworkIndicesHandler.getDocumentCache();
+        return new FlowFrameworkStatsNodeResponse(
+            clusterService.localNode(),
+            flowFrameworkStats.getStepStats(),
+            poolStats,
+            flowFrameworkIndicesHandler.getStateWriteConflictCount(),
+            flowFrameworkIndicesHandler.getStateWriteRetryCount(),
+            TenantAwareHelper.getActiveProvisionsPerTenant(),
+            TenantAwareHelper.getActiveDeprovisionsPerTenant(),
+            cache == null ? 0 : cache.getHitCount(),
+            cache == null ? 0 : cache.getMissCount(),
+            cache == null ? 0 : cache.getEvictionCount(),
+            cache == null ? 0 : cache.getSizeInBytes(),
+            flowFrameworkIndicesHandler.getStateChangeNotifier().getWaitingCount(),
+            workflowExecutors.stats()
+        );
+    }
+}
@@ -12,17 +12,29 @@ import org.opensearch.action.ActionRequest;
 import org.opensearch.action.ActionRequestValidationException;
 import org.opensearch.action.DocRequest;
 import org.opensearch.common.Nullable;
+import org.opensearch.common.unit.TimeValue;
 import org.opensearch.core.common.io.stream.StreamInput;
 import org.opensearch.core.common.io.stream.StreamOutput;
+import org.opensearch.core.rest.RestStatus;
 import org.opensearch.flowframework.common.CommonValue;
+import org.opensearch.flowframework.exception.FlowFrameworkException;
+import org.opensearch.flowframework.model.ResourceCreated;
 
 import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.Base64;
+import java.util.List;
+import java.util.Set;
+
+import static org.opensearch.flowframework.common.CommonValue.RESOURCES_CURSOR;
 
 /**
  * Transport Request to get a workflow status
  */
 public class GetWorkflowStateRequest extends ActionRequest implements DocRequest {
 
+    private static final String CURSOR_SEPARATOR = ":";
+
     /**
      * The documentId of the workflow entry within the Global Context index
      */
@@ -36,6 +48,33 @@ public class GetWorkflowStateRequest extends ActionRequest implements DocRequest
 
     private String tenantId;
 
+    /**
+     * How long to wait for the state or provisioning progress to change before responding
+     */
+    private TimeValue waitForChangeTimeout = TimeValue.MINUS_ONE;
+
+    /**
+     * The top level workflow state fields to return, or null for the fields selected by the all parameter
+     */
+    @Nullable
+    private Set<String> fields;
+
+    /**
+     * The offset of the first resource created to return
+     */
+    private int resourcesFrom = 0;
+
+    /**
+     * The max number of resources created to return, or -1 to return all of them
+     */
+    private int resourcesSize = -1;
+
+    /**
+     * The key of the last resource created of the previous page, or null to page by offset only
+     */
+    @Nullable
+    private String resourcesAfter;
+
     /**
      * Instantiates a new GetWorkflowStateRequest
      * @param workflowId the documentId of the workflow
@@ -48,6 +87,68 @@ public class GetWorkflowStateRequest extends ActionRequest implements DocRequest
         this.tenantId = tenantId;
     }
 
+    /**
+     * Instantiates a new GetWorkflowStateRequest which waits for the state to change
+     * @param workflowId the documentId of the workflow
+     * @param all whether the get request is looking for all fields in status
+     * @param tenantId the tenant id
+     * @param waitForChangeTimeout how long to wait for the state or provisioning progress to change, MINUS_ONE to respond immediately
+     */
+    public GetWorkflowStateRequest(@Nullable String workflowId, boolean all, String tenantId, TimeValue waitForChangeTimeout) {
+        this(workflowId, all, tenantId);
+        this.waitForChangeTimeout = waitForChangeTimeout;
+    }
+
+    /**
+     * Instantiates a new GetWorkflowStateRequest which projects the state fields and pages the resources created
+     * @param workflowId the documentId of the workflow
+     * @param all whether the get request is looking for all fields in status
+     * @param tenantId the tenant id
+     * @param waitForChangeTimeout how long to wait for the state or provisioning progress to change, MINUS_ONE to respond immediately
+     * @param fields the top level state fields to return, or null for the fields selected by the all parameter
+     * @param resourcesFrom the offset of the first resource created to return
+     * @param resourcesSize the max number of resources created to return, or -1 to return all of them
+     */
+    public GetWorkflowStateRequest(
+        @Nullable String workflowId,
+        boolean all,
+        String tenantId,
+        TimeValue waitForChangeTimeout,
+        @Nullable Set<String> fields,
+        int resourcesFrom,
+        int resourcesSize
+    ) {
+        this(workflowId, all, tenantId, waitForChangeTimeout, fields, resourcesFrom, resourcesSize, null);
+    }
+
+    /**
+     * Instantiates a new GetWorkflowStateRequest which projects the state fields and pages the resources created after a cursor
+     * @param workflowId the documentId of the workflow
+     * @param all whether the get request is looking for all fields in status
+     * @param tenantId the tenant id
+     * @param waitForChangeTimeout how long to wait for the state or provisioning progress to change, MINUS_ONE to respond immediately
+     * @param fields the top level state fields to return, or null for the fields selected by the all parameter
+     * @param resourcesFrom the offset of the first resource created to return, used if the resourcesAfter resource no longer exists
+     * @param resourcesSize the max number of resources created to return, or -1 to return all of them
+     * @param resourcesAfter the key of the last resource created of the previous page, or null to page by offset only
+     */
+    public GetWorkflowStateRequest(
+        @Nullable String workflowId,
+        boolean all,
+        String tenantId,
+        TimeValue waitForChangeTimeout,
+        @Nullable Set<String> fields,
+        int resourcesFrom,
+        int resourcesSize,
+        @Nullable String resourcesAfter
+    ) {
+        this(workflowId, all, tenantId, waitForChangeTimeout);
+        this.fields = fields;
+        this.resourcesFrom = resourcesFrom;
+        this.resourcesSize = resourcesSize;
+        this.resourcesAfter = resourcesAfter;
+    }
+
     /**
      * Instantiates a new GetWorkflowStateRequest request
      * @param in The input stream to read from
@@ -60,6 +161,14 @@ public class GetWorkflowStateRequest extends ActionRequest implements DocRequest
         if (in.getVersion().onOrAfter(CommonValue.VERSION_2_19_0)) {
             this.tenantId = in.readOptionalString();
         }
+        if (in.getVersion().onOrAfter(CommonValue.VERSION_3_6_0)) {
+            this.waitForChangeTimeout = in.readTimeValue();
+            List<String> fieldList = in.readOptionalStringList();
+            this.fields = fieldList == null ? null : Set.copyOf(fieldList);
+            this.resourcesFrom = in.readVInt();
+            this.resourcesSize = in.readInt();
+            this.resourcesAfter = in.readOptionalString();
+        }
     }
 
     /**
@@ -87,6 +196,111 @@ public class GetWorkflowStateRequest extends ActionRequest implements DocRequest
         return this.tenantId;
     }
 
+    /**
+     * Gets how long to wait for the state or provisioning progress to change
+     * @return the wait timeout, or MINUS_ONE to respond immediately
+     */
+    public TimeValue getWaitForChangeTimeout() {
+        return this.waitForChangeTimeout;
+    }
+
+    /**
+     * Gets the top level state fields to return
+     * @return the fields, or null for the fields selected by the all parameter
+     */
+    @Nullable
+    public Set<String> getFields() {
+        return this.fields;
+    }
+
+    /**
+     * Gets the offset of the first resource created to return
+     * @return the offset
+     */
+    public int getResourcesFrom() {
+        return this.resourcesFrom;
+    }
+
+    /**
+     * Gets the max number of resources created to return
+     * @return the page size, or -1 to return all resources created
+     */
+    public int getResourcesSize() {
+        return this.resourcesSize;
+    }
+
+    /**
+     * Gets the key of the last resource created of the previous page
+     * @return the resource key, or null to page by offset only
+     */
+    @Nullable
+    public String getResourcesAfter() {
+        return this.resourcesAfter;
+    }
+
+    /**
+     * Gets the key identifying a resource created within a workflow state
+     * @param resource the resource created
+     * @return the resource key
+     */
+    public static String resourceKey(ResourceCreated resource) {
+        return resource.workflowStepId() + "/" + resource.resourceType() + "/" + resource.resourceId();
+    }
+
+    /**
+     * Encodes the position of the next page of resources created as an opaque cursor.
+     * Deprovisioning removes resources created from a workflow state, shifting the offsets of the later ones, so the cursor
+     * holds the key of the last resource of the page and the next page starts after it. The offset is only used if that
+     * resource was removed in the meantime.
+     * @param resourcesFrom the offset of the first resource created of the next page
+     * @param lastResource the last resource created of the page
+     * @return the cursor
+     */
+    public static String encodeResourcesCursor(int resourcesFrom, ResourceCreated lastResource) {
+        String cursor = resourcesFrom + CURSOR_SEPARATOR + resourceKey(lastResource);
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(cursor.getBytes(StandardCharsets.UTF_8));
+    }
+
+    /**
+     * Decodes the offset of a cursor created by {@link #encodeResourcesCursor(int, ResourceCreated)}
+     * @param cursor the cursor
+     * @return the offset of the first resource created of the page
+     * @throws FlowFrameworkException if the cursor is invalid
+     */
+    public static int decodeResourcesCursor(String cursor) {
+        try {
+            String decoded = decodeCursor(cursor);
+            int separator = decoded.indexOf(CURSOR_SEPARATOR);
+            int resourcesFrom = Integer.parseInt(separator < 0 ? decoded : decoded.substring(0, separator));
+            if (resourcesFrom >= 0) {
+                return resourcesFrom;
+            }
+        } catch (IllegalArgumentException e) {
+            // Invalid base64 or number, NumberFormatException is an IllegalArgumentException
+        }
+        throw new FlowFrameworkException("Invalid " + RESOURCES_CURSOR + ": " + cursor, RestStatus.BAD_REQUEST);
+    }
+
+    /**
+     * Decodes the key of the last resource created of the previous page from a cursor created by
+     * {@link #encodeResourcesCursor(int, ResourceCreated)}
+     * @param cursor the cursor
+     * @return the resource key, or null if the cursor only holds an offset
+     * @throws FlowFrameworkException if the cursor is invalid
+     */
+    @Nullable
+    public static String decodeResourcesCursorKey(String cursor) {
+        // Validates the cursor
+        decodeResourcesCursor(cursor);
+        String decoded = decodeCursor(cursor);
+        int separator = decoded.indexOf(CURSOR_SEPARATOR);
+        return separator < 0 ? null : decoded.substring(separator + 1);
+    }
+
+    private static String decodeCursor(String cursor) {
+        return new String(Base64.getUrlDecoder().decode(cursor), StandardCharsets.UTF_8);
+    }
+
     @Override
     public void writeTo(StreamOutput out) throws IOException {
         super.writeTo(out);
@@ -95,6 +309,13 @@ public class GetWorkflowStateRequest extends ActionRequest implements DocRequest
         if (out.getVersion().onOrAfter(CommonValue.VERSION_2_19_0)) {
             out.writeOptionalString(tenantId);
         }
+        if (out.getVersion().onOrAfter(CommonValue.VERSION_3_6_0)) {
+            out.writeTimeValue(waitForChangeTimeout);
+            out.writeOptionalStringCollection(fields);
+            out.writeVInt(resourcesFrom);
+            out.writeInt(resourcesSize);
+            out.writeOptionalString(resourcesAfter);
+        }
     }
 
     @Override
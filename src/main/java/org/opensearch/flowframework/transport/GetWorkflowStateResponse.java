@@ -8,15 +8,19 @@
  */
 package org.opensearch.flowframework.transport;
 
+import org.opensearch.common.Nullable;
 import org.opensearch.core.action.ActionResponse;
 import org.opensearch.core.common.io.stream.StreamInput;
 import org.opensearch.core.common.io.stream.StreamOutput;
 import org.opensearch.core.xcontent.ToXContentObject;
 import org.opensearch.core.xcontent.XContentBuilder;
+import org.opensearch.flowframework.common.CommonValue;
 import org.opensearch.flowframework.model.WorkflowState;
 
 import java.io.IOException;
 
+import static org.opensearch.flowframework.common.CommonValue.NEXT_RESOURCES_CURSOR_FIELD;
+
 /**
  * Transport Response from getting a workflow status
  */
@@ -26,6 +30,9 @@ public class GetWorkflowStateResponse extends ActionResponse implements ToXConte
     private final WorkflowState workflowState;
     /** Flag to indicate if the entire state should be returned */
     private final boolean allStatus;
+    /** The cursor to the next page of resources created, if there is one */
+    @Nullable
+    private final String nextResourcesCursor;
 
     /**
      * Instantiates a new GetWorkflowStateResponse from an input stream
@@ -36,6 +43,7 @@ public class GetWorkflowStateResponse extends ActionResponse implements ToXConte
         super(in);
         workflowState = new WorkflowState(in);
         allStatus = in.readBoolean();
+        nextResourcesCursor = in.getVersion().onOrAfter(CommonValue.VERSION_3_6_0) ? in.readOptionalString() : null;
     }
 
     /**
@@ -44,7 +52,18 @@ public class GetWorkflowStateResponse extends ActionResponse implements ToXConte
      * @param allStatus whether to return all fields in state index
      */
     public GetWorkflowStateResponse(WorkflowState workflowState, boolean allStatus) {
+        this(workflowState, allStatus, null);
+    }
+
+    /**
+     * Instatiates a new GetWorkflowStateResponse holding a page of the resources created
+     * @param workflowState the workflow state object
+     * @param allStatus whether to return all fields in state index
+     * @param nextResourcesCursor the cursor to the next page of resources created, or null if this is the last page
+     */
+    public GetWorkflowStateResponse(WorkflowState workflowState, boolean allStatus, @Nullable String nextResourcesCursor) {
         this.allStatus = allStatus;
+        this.nextResourcesCursor = nextResourcesCursor;
         if (allStatus) {
             this.workflowState = workflowState;
         } else {
@@ -61,11 +80,20 @@ public class GetWorkflowStateResponse extends ActionResponse implements ToXConte
     public void writeTo(StreamOutput out) throws IOException {
         workflowState.writeTo(out);
         out.writeBoolean(allStatus);
+        if (out.getVersion().onOrAfter(CommonValue.VERSION_3_6_0)) {
+            out.writeOptionalString(nextResourcesCursor);
+        }
     }
 
     @Override
     public XContentBuilder toXContent(XContentBuilder xContentBuilder, Params params) throws IOException {
-        return workflowState.toXContent(xContentBuilder, params);
+        if (nextResourcesCursor == null) {
+            return workflowState.toXContent(xContentBuilder, params);
+        }
+        xContentBuilder.startObject();
+        workflowState.innerToXContent(xContentBuilder, params);
+        xContentBuilder.field(NEXT_RESOURCES_CURSOR_FIELD, nextResourcesCursor);
+        return xContentBuilder.endObject();
     }
 
     /**
@@ -83,4 +111,13 @@ public class GetWorkflowStateResponse extends ActionResponse implements ToXConte
     public boolean isAllStatus() {
         return allStatus;
     }
+
+    /**
+     * Gets the cursor to the next page of resources created.
+     * @return the cursor, or null if all remaining resources created are included
+     */
+    @Nullable
+    public String getNextResourcesCursor() {
+        return nextResourcesCursor;
+    }
 }
@@ -17,6 +17,7 @@ import org.opensearch.action.support.HandledTransportAction;
 import org.opensearch.cluster.service.ClusterService;
 import org.opensearch.common.inject.Inject;
 import org.opensearch.common.settings.Settings;
+import org.opensearch.common.unit.TimeValue;
 import org.opensearch.common.util.concurrent.ThreadContext;
 import org.opensearch.commons.authuser.User;
 import org.opensearch.core.action.ActionListener;
@@ -25,13 +26,29 @@ import org.opensearch.flowframework.common.CommonValue;
 import org.opensearch.flowframework.common.FlowFrameworkSettings;
 import org.opensearch.flowframework.exception.FlowFrameworkException;
 import org.opensearch.flowframework.indices.FlowFrameworkIndicesHandler;
+import org.opensearch.flowframework.indices.WorkflowStateChangeNotifier;
+import org.opensearch.flowframework.model.ResourceCreated;
+import org.opensearch.flowframework.model.WorkflowState;
 import org.opensearch.flowframework.util.ParseUtils;
 import org.opensearch.flowframework.util.TenantAwareHelper;
 import org.opensearch.remote.metadata.client.SdkClient;
 import org.opensearch.tasks.Task;
+import org.opensearch.threadpool.Scheduler;
+import org.opensearch.threadpool.ThreadPool;
 import org.opensearch.transport.TransportService;
 import org.opensearch.transport.client.Client;
 
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Objects;
+import java.util.Set;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicReference;
+
+import static org.opensearch.flowframework.common.CommonValue.PROVISIONING_PROGRESS_FIELD;
+import static org.opensearch.flowframework.common.CommonValue.STATE_FIELD;
+import static org.opensearch.flowframework.common.CommonValue.WORKFLOW_ID_FIELD;
 import static org.opensearch.flowframework.common.FlowFrameworkSettings.FILTER_BY_BACKEND_ROLES;
 import static org.opensearch.flowframework.util.ParseUtils.resolveUserAndExecute;
 import static org.opensearch.flowframework.util.ParseUtils.verifyResourceAccessAndProcessRequest;
@@ -46,6 +63,9 @@ public class GetWorkflowStateTransportAction extends HandledTransportAction<GetW
 
     private final Logger logger = LogManager.getLogger(GetWorkflowStateTransportAction.class);
 
+    /** How often a waiting request polls the state, to observe changes written by other nodes before the timeout */
+    static final TimeValue WAIT_FOR_CHANGE_POLL_INTERVAL = TimeValue.timeValueSeconds(1);
+
     private final FlowFrameworkIndicesHandler flowFrameworkIndicesHandler;
     private final FlowFrameworkSettings flowFrameworkSettings;
     private final Client client;
@@ -140,9 +160,243 @@ public class GetWorkflowStateTransportAction extends HandledTransportAction<GetW
         ThreadContext.StoredContext context
     ) {
         String workflowId = request.getWorkflowId();
-        flowFrameworkIndicesHandler.getWorkflowState(workflowId, tenantId, ActionListener.wrap(workflowState -> {
-            GetWorkflowStateResponse workflowStateResponse = new GetWorkflowStateResponse(workflowState, request.getAll());
-            listener.onResponse(workflowStateResponse);
-        }, listener::onFailure), context);
+        Set<String> includes = getSourceIncludes(request);
+        if (request.getWaitForChangeTimeout().millis() <= 0) {
+            flowFrameworkIndicesHandler.getWorkflowState(
+                workflowId,
+                tenantId,
+                includes,
+                ActionListener.wrap(workflowState -> listener.onResponse(createResponse(request, workflowState)), listener::onFailure),
+                context
+            );
+            return;
+        }
+        StateChangeWaiter waiter = new StateChangeWaiter(request, tenantId, includes, listener);
+        waiter.register();
+        flowFrameworkIndicesHandler.getWorkflowState(workflowId, tenantId, includes, ActionListener.wrap(waiter::start, exception -> {
+            waiter.unregister();
+            listener.onFailure(exception);
+        }), context);
+    }
+
+    /**
+     * Get the state fields to fetch for a request, so that unused fields are filtered out of the document source
+     * @param request the get workflow state request
+     * @return the fields to fetch, or null to fetch the whole document
+     */
+    private static Set<String> getSourceIncludes(GetWorkflowStateRequest request) {
+        if (request.getFields() == null) {
+            return null;
+        }
+        Set<String> includes = new HashSet<>(request.getFields());
+        includes.add(WORKFLOW_ID_FIELD);
+        if (request.getWaitForChangeTimeout().millis() > 0) {
+            // Needed to detect a change
+            includes.add(STATE_FIELD);
+            includes.add(PROVISIONING_PROGRESS_FIELD);
+        }
+        return includes;
+    }
+
+    /**
+     * Create the response holding the requested fields and page of resources created
+     * @param request the get workflow state request
+     * @param workflowState the fetched workflow state
+     * @return the response
+     */
+    static GetWorkflowStateResponse createResponse(GetWorkflowStateRequest request, WorkflowState workflowState) {
+        WorkflowState projectedState = request.getFields() == null ? workflowState : workflowState.project(request.getFields());
+        // A projection already selects the fields to return
+        boolean allStatus = request.getAll() || request.getFields() != null;
+        if (request.getResourcesFrom() == 0 && request.getResourcesAfter() == null && request.getResourcesSize() < 0) {
+            return new GetWorkflowStateResponse(projectedState, allStatus);
+        }
+        List<ResourceCreated> resourcesCreated = projectedState.resourcesCreated() == null
+            ? Collections.emptyList()
+            : projectedState.resourcesCreated();
+        int from = resolveResourcesFrom(request, resourcesCreated);
+        int to = request.getResourcesSize() < 0
+            ? resourcesCreated.size()
+            : (int) Math.min((long) from + request.getResourcesSize(), resourcesCreated.size());
+        String nextResourcesCursor = to < resourcesCreated.size() && to > from
+            ? GetWorkflowStateRequest.encodeResourcesCursor(to, resourcesCreated.get(to - 1))
+            : null;
+        WorkflowState page = WorkflowState.builder(projectedState).resourcesCreated(resourcesCreated.subList(from, to)).build();
+        return new GetWorkflowStateResponse(page, allStatus, nextResourcesCursor);
+    }
+
+    /**
+     * Find the offset of the first resource created of a page. Deprovisioning removes resources created, so the page starts
+     * after the last resource of the previous page wherever it is now. If that resource was removed too, the offset of the
+     * cursor is used, which may skip resources shifted back by the removal.
+     * @param request the get workflow state request
+     * @param resourcesCreated the resources created of the workflow state
+     * @return the offset of the first resource created to return
+     */
+    private static int resolveResourcesFrom(GetWorkflowStateRequest request, List<ResourceCreated> resourcesCreated) {
+        if (request.getResourcesAfter() != null) {
+            for (int i = 0; i < resourcesCreated.size(); i++) {
+                if (request.getResourcesAfter().equals(GetWorkflowStateRequest.resourceKey(resourcesCreated.get(i)))) {
+                    return i + 1;
+                }
+            }
+        }
+        return Math.min(request.getResourcesFrom(), resourcesCreated.size());
+    }
+
+    /**
+     * Waits until the state or provisioning progress of a workflow changes, or the timeout passes.
+     * <p>
+     * The waiter registers with the local notifier before the initial state is fetched, so a local write racing with the
+     * fetch is not missed. Changes written by other nodes are not notified here, so the state is also polled at
+     * {@link #WAIT_FOR_CHANGE_POLL_INTERVAL}, and fetched once more when the timeout passes.
+     */
+    private class StateChangeWaiter implements Runnable {
+        private final GetWorkflowStateRequest request;
+        private final String tenantId;
+        private final Set<String> includes;
+        private final ActionListener<GetWorkflowStateResponse> listener;
+        private final WorkflowStateChangeNotifier notifier;
+        private final AtomicReference<WorkflowState> initialState = new AtomicReference<>();
+        private final AtomicBoolean changedBeforeInitialState = new AtomicBoolean(false);
+        private final AtomicBoolean isResponseSent = new AtomicBoolean(false);
+        private final AtomicReference<Scheduler.ScheduledCancellable> timeoutTask = new AtomicReference<>();
+        private final AtomicReference<Scheduler.ScheduledCancellable> pollTask = new AtomicReference<>();
+
+        StateChangeWaiter(
+            GetWorkflowStateRequest request,
+            String tenantId,
+            Set<String> includes,
+            ActionListener<GetWorkflowStateResponse> listener
+        ) {
+            this.request = request;
+            this.tenantId = tenantId;
+            this.includes = includes;
+            this.listener = listener;
+            this.notifier = flowFrameworkIndicesHandler.getStateChangeNotifier();
+        }
+
+        /**
+         * Register for local changes before the initial state is fetched
+         */
+        void register() {
+            notifier.addListener(request.getWorkflowId(), tenantId, this);
+        }
+
+        /**
+         * Unregister when the initial state could not be fetched
+         */
+        void unregister() {
+            notifier.removeListener(request.getWorkflowId(), tenantId, this);
+        }
+
+        /**
+         * Start waiting for a change from the initial state
+         * @param state the state fetched after registering
+         */
+        void start(WorkflowState state) {
+            initialState.set(state);
+            schedulePoll();
+            timeoutTask.set(client.threadPool().schedule(this::onTimeout, request.getWaitForChangeTimeout(), ThreadPool.Names.GENERIC));
+            if (changedBeforeInitialState.get()) {
+                // The write may have landed before or after the initial fetch, so compare against a fresh state
+                checkForChange();
+            }
+        }
+
+        /**
+         * Called by the notifier on a local write to the workflow state
+         */
+        @Override
+        public void run() {
+            if (initialState.get() == null) {
+                changedBeforeInitialState.set(true);
+                if (!isResponseSent.get()) {
+                    notifier.addListener(request.getWorkflowId(), tenantId, this);
+                }
+                return;
+            }
+            checkForChange();
+        }
+
+        private void checkForChange() {
+            if (isResponseSent.get()) {
+                return;
+            }
+            fetchWorkflowState(request.getWorkflowId(), tenantId, includes, ActionListener.wrap(workflowState -> {
+                if (!hasChanged(initialState.get(), workflowState)) {
+                    if (!isResponseSent.get()) {
+                        notifier.addListener(request.getWorkflowId(), tenantId, this);
+                    }
+                } else if (isResponseSent.compareAndSet(false, true)) {
+                    finish();
+                    listener.onResponse(createResponse(request, workflowState));
+                }
+            }, exception -> {
+                if (isResponseSent.compareAndSet(false, true)) {
+                    finish();
+                    listener.onFailure(exception);
+                }
+            }));
+        }
+
+        private void schedulePoll() {
+            pollTask.set(client.threadPool().schedule(() -> {
+                if (isResponseSent.get()) {
+                    return;
+                }
+                fetchWorkflowState(request.getWorkflowId(), tenantId, includes, ActionListener.wrap(workflowState -> {
+                    if (!hasChanged(initialState.get(), workflowState)) {
+                        if (!isResponseSent.get()) {
+                            schedulePoll();
+                        }
+                    } else if (isResponseSent.compareAndSet(false, true)) {
+                        finish();
+                        listener.onResponse(createResponse(request, workflowState));
+                    }
+                }, exception -> {
+                    // A failed poll is retried at the next interval, the timeout still bounds the wait
+                    logger.debug("Failed to poll state of workflow {}", request.getWorkflowId(), exception);
+                    if (!isResponseSent.get()) {
+                        schedulePoll();
+                    }
+                }));
+            }, WAIT_FOR_CHANGE_POLL_INTERVAL, ThreadPool.Names.GENERIC));
+        }
+
+        private void onTimeout() {
+            if (isResponseSent.compareAndSet(false, true)) {
+                finish();
+                fetchWorkflowState(
+                    request.getWorkflowId(),
+                    tenantId,
+                    includes,
+                    ActionListener.wrap(workflowState -> listener.onResponse(createResponse(request, workflowState)), listener::onFailure)
+                );
+            }
+        }
+
+        private void finish() {
+            notifier.removeListener(request.getWorkflowId(), tenantId, this);
+            cancel(timeoutTask.get());
+            cancel(pollTask.get());
+        }
+
+        private void cancel(Scheduler.ScheduledCancellable scheduled) {
+            if (scheduled != null) {
+                scheduled.cancel();
+            }
+        }
+    }
+
+    private void fetchWorkflowState(String workflowId, String tenantId, Set<String> includes, ActionListener<WorkflowState> listener) {
+        try (ThreadContext.StoredContext context = client.threadPool().getThreadContext().stashContext()) {
+            flowFrameworkIndicesHandler.getWorkflowState(workflowId, tenantId, includes, listener, context);
+        }
+    }
+
+    private static boolean hasChanged(WorkflowState initialState, WorkflowState currentState) {
+        return !Objects.equals(initialState.getState(), currentState.getState())
+            || !Objects.equals(initialState.getProvisioningProgress(), currentState.getProvisioningProgress());
     }
 }
@@ -167,7 +167,10 @@ public class GetWorkflowTransportAction extends HandledTransportAction<WorkflowR
             } else {
                 // Remove any secured field from response
                 User user = ParseUtils.getUserContext(client);
-                Template template = encryptorUtils.redactTemplateSecuredFields(user, Template.parse(response.getSourceAsString()));
+                Template template = encryptorUtils.redactTemplateSecuredFields(
+                    user,
+                    flowFrameworkIndicesHandler.parseTemplate(response, tenantId)
+                );
                 listener.onResponse(new GetWorkflowResponse(template));
             }
         }, exception -> {
@@ -0,0 +1,132 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * The OpenSearch Contributors require contributions made to
+ * this file be licensed under the Apache-2.0 license or a
+ * compatible open source license.
+ */
+package org.opensearch.flowframework.transport;
+
+import org.opensearch.action.ActionRequest;
+import org.opensearch.action.ActionRequestValidationException;
+import org.opensearch.common.Nullable;
+import org.opensearch.core.common.bytes.BytesReference;
+import org.opensearch.core.common.io.stream.StreamInput;
+import org.opensearch.core.common.io.stream.StreamOutput;
+
+import java.io.IOException;
+
+import static org.opensearch.action.ValidateActions.addValidationError;
+
+/**
+ * Transport Request to import workflows and workflow states, as newline delimited JSON in the format written by the export API
+ */
+public class ImportWorkflowsRequest extends ActionRequest {
+
+    /** The max number of workflows imported by each call, which bounds the memory used by a call */
+    public static final int MAX_SIZE = 1000;
+
+    @Nullable
+    private final String tenantId;
+    private final BytesReference content;
+    private final boolean validate;
+    private final boolean overwrite;
+    private final boolean encryptedCredentials;
+
+    /**
+     * Instantiates a new ImportWorkflowsRequest
+     * @param tenantId the tenant id
+     * @param content the newline delimited workflows to import
+     * @param validate whether to validate the workflows of each template before importing it
+     * @param overwrite whether to replace existing workflows with the same workflow id
+     * @param encryptedCredentials whether credentials are already encrypted for the tenant, as exported, rather than plaintext
+     */
+    public ImportWorkflowsRequest(
+        @Nullable String tenantId,
+        BytesReference content,
+        boolean validate,
+        boolean overwrite,
+        boolean encryptedCredentials
+    ) {
+        this.tenantId = tenantId;
+        this.content = content;
+        this.validate = validate;
+        this.overwrite = overwrite;
+        this.encryptedCredentials = encryptedCredentials;
+    }
+
+    /**
+     * Instantiates a new ImportWorkflowsRequest from an input stream
+     * @param in the input stream to read from
+     * @throws IOException if the stream cannot be read
+     */
+    public ImportWorkflowsRequest(StreamInput in) throws IOException {
+        super(in);
+        this.tenantId = in.readOptionalString();
+        this.content = in.readBytesReference();
+        this.validate = in.readBoolean();
+        this.overwrite = in.readBoolean();
+        this.encryptedCredentials = in.readBoolean();
+    }
+
+    /**
+     * Gets the tenant Id
+     * @return the tenant Id
+     */
+    @Nullable
+    public String getTenantId() {
+        return this.tenantId;
+    }
+
+    /**
+     * Gets the newline delimited workflows to import
+     * @return the content
+     */
+    public BytesReference getContent() {
+        return this.content;
+    }
+
+    /**
+     * Whether to validate the workflows of each template before importing it
+     * @return true to validate
+     */
+    public boolean isValidate() {
+        return this.validate;
+    }
+
+    /**
+     * Whether to replace existing workflows with the same workflow id
+     * @return true to overwrite
+     */
+    public boolean isOverwrite() {
+        return this.overwrite;
+    }
+
+    /**
+     * Whether credentials are already encrypted for the tenant, as exported, rather than plaintext
+     * @return true if the credentials are encrypted
+     */
+    public boolean isEncryptedCredentials() {
+        return this.encryptedCredentials;
+    }
+
+    @Override
+    public void writeTo(StreamOutput out) throws IOException {
+        super.writeTo(out);
+        out.writeOptionalString(tenantId);
+        out.writeBytesReference(content);
+        out.writeBoolean(validate);
+        out.writeBoolean(overwrite);
+        out.writeBoolean(encryptedCredentials);
+    }
+
+    @Override
+    public ActionRequestValidationException validate() {
+        ActionRequestValidationException validationException = null;
+        if (content == null || content.length() == 0) {
+            validationException = addValidationError("request body is required", validationException);
+        }
+        return validationException;
+    }
+}
@@ -0,0 +1,173 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * The OpenSearch Contributors require contributions made to
+ * this file be licensed under the Apache-2.0 license or a
+ * compatible open source license.
+ */
+package org.opensearch.flowframework.transport;
+
+import org.opensearch.common.Nullable;
+import org.opensearch.core.action.ActionResponse;
+import org.opensearch.core.common.io.stream.StreamInput;
+import org.opensearch.core.common.io.stream.StreamOutput;
+import org.opensearch.core.common.io.stream.Writeable;
+import org.opensearch.core.rest.RestStatus;
+import org.opensearch.core.xcontent.ToXContentObject;
+import org.opensearch.core.xcontent.XContentBuilder;
+
+import java.io.IOException;
+import java.util.List;
+
+/**
+ * Transport Response with the outcome of importing each workflow, in the order of the imported lines
+ */
+public class ImportWorkflowsResponse extends ActionResponse implements ToXContentObject {
+
+    private final long tookInMillis;
+    private final List<ImportItem> items;
+
+    /**
+     * Instantiates a new ImportWorkflowsResponse
+     * @param tookInMillis how long the import took
+     * @param items the outcome of importing each workflow
+     */
+    public ImportWorkflowsResponse(long tookInMillis, List<ImportItem> items) {
+        this.tookInMillis = tookInMillis;
+        this.items = items;
+    }
+
+    /**
+     * Instantiates a new ImportWorkflowsResponse from an input stream
+     * @param in the input stream to read from
+     * @throws IOException if the stream cannot be read
+     */
+    public ImportWorkflowsResponse(StreamInput in) throws IOException {
+        super(in);
+        this.tookInMillis = in.readVLong();
+        this.items = in.readList(ImportItem::new);
+    }
+
+    @Override
+    public void writeTo(StreamOutput out) throws IOException {
+        out.writeVLong(tookInMillis);
+        out.writeList(items);
+    }
+
+    /**
+     * Gets the outcome of importing each workflow
+     * @return the items
+     */
+    public List<ImportItem> getItems() {
+        return items;
+    }
+
+    /**
+     * Whether any workflow failed to import
+     * @return true if an item failed
+     */
+    public boolean hasErrors() {
+        return items.stream().anyMatch(item -> item.getError() != null);
+    }
+
+    @Override
+    public XContentBuilder toXContent(XContentBuilder builder, Params params) throws IOException {
+        builder.startObject();
+        builder.field("took", tookInMillis);
+        builder.field("errors", hasErrors());
+        builder.startArray("items");
+        for (ImportItem item : items) {
+            item.toXContent(builder, params);
+        }
+        builder.endArray();
+        return builder.endObject();
+    }
+
+    /**
+     * The outcome of importing one line
+     */
+    public static class ImportItem implements Writeable, ToXContentObject {
+
+        private final int line;
+        @Nullable
+        private final String workflowId;
+        private final RestStatus status;
+        @Nullable
+        private final String error;
+
+        /**
+         * Instantiates a new ImportItem
+         * @param line the line number, starting from 1
+         * @param workflowId the workflow id, or null if the line could not be parsed
+         * @param status the status of importing the workflow
+         * @param error the reason the workflow was not imported, or null if it was imported
+         */
+        public ImportItem(int line, @Nullable String workflowId, RestStatus status, @Nullable String error) {
+            this.line = line;
+            this.workflowId = workflowId;
+            this.status = status;
+            this.error = error;
+        }
+
+        /**
+         * Instantiates a new ImportItem from an input stream
+         * @param in the input stream to read from
+         * @throws IOException if the stream cannot be read
+         */
+        public ImportItem(StreamInput in) throws IOException {
+            this.line = in.readVInt();
+            this.workflowId = in.readOptionalString();
+            this.status = RestStatus.readFrom(in);
+            this.error = in.readOptionalString();
+        }
+
+        @Override
+        public void writeTo(StreamOutput out) throws IOException {
+            out.writeVInt(line);
+            out.writeOptionalString(workflowId);
+            RestStatus.writeTo(out, status);
+            out.writeOptionalString(error);
+        }
+
+        /**
+         * Gets the workflow id
+         * @return the workflow id, or null if the line could not be parsed
+         */
+        @Nullable
+        public String getWorkflowId() {
+            return workflowId;
+        }
+
+        /**
+         * Gets the status of importing the workflow
+         * @return the status
+         */
+        public RestStatus getStatus() {
+            return status;
+        }
+
+        /**
+         * Gets the reason the workflow was not imported
+         * @return the error, or null if the workflow was imported
+         */
+        @Nullable
+        public String getError() {
+            return error;
+        }
+
+        @Override
+        public XContentBuilder toXContent(XContentBuilder builder, Params params) throws IOException {
+            builder.startObject();
+            builder.field("line", line);
+            if (workflowId != null) {
+                builder.field("workflow_id", workflowId);
+            }
+            builder.field("status", status.getStatus());
+            if (error != null) {
+                builder.field("error", error);
+            }
+            return builder.endObject();
+        }
+    }
+}
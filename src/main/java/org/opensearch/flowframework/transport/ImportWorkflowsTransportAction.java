@@ -0,0 +1,441 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * The OpenSearch Contributors require contributions made to
+ * this file be licensed under the Apache-2.0 license or a
+ * compatible open source license.
+ */
+package org.opensearch.flowframework.transport;
+
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+import org.opensearch.ExceptionsHelper;
+import org.opensearch.action.support.ActionFilters;
+import org.opensearch.action.support.GroupedActionListener;
+import org.opensearch.action.support.HandledTransportAction;
+import org.opensearch.cluster.service.ClusterService;
+import org.opensearch.common.UUIDs;
+import org.opensearch.common.inject.Inject;
+import org.opensearch.common.settings.Settings;
+import org.opensearch.common.util.concurrent.OpenSearchExecutors;
+import org.opensearch.commons.authuser.User;
+import org.opensearch.core.action.ActionListener;
+import org.opensearch.core.common.bytes.BytesReference;
+import org.opensearch.core.rest.RestStatus;
+import org.opensearch.core.xcontent.NamedXContentRegistry;
+import org.opensearch.core.xcontent.XContentParser;
+import org.opensearch.flowframework.common.FlowFrameworkSettings;
+import org.opensearch.flowframework.exception.FlowFrameworkException;
+import org.opensearch.flowframework.indices.FlowFrameworkIndicesHandler;
+import org.opensearch.flowframework.model.ProvisioningProgress;
+import org.opensearch.flowframework.model.State;
+import org.opensearch.flowframework.model.Template;
+import org.opensearch.flowframework.model.Workflow;
+import org.opensearch.flowframework.model.WorkflowState;
+import org.opensearch.flowframework.transport.ImportWorkflowsResponse.ImportItem;
+import org.opensearch.flowframework.util.EncryptorUtils;
+import org.opensearch.flowframework.util.ParseUtils;
+import org.opensearch.flowframework.util.TenantAwareHelper;
+import org.opensearch.flowframework.workflow.ProcessNode;
+import org.opensearch.flowframework.workflow.WorkflowProcessSorter;
+import org.opensearch.plugins.PluginsService;
+import org.opensearch.tasks.Task;
+import org.opensearch.threadpool.ThreadPool;
+import org.opensearch.transport.TransportService;
+import org.opensearch.transport.client.Client;
+
+import java.io.IOException;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+
+import static org.opensearch.core.xcontent.XContentParserUtils.ensureExpectedToken;
+import static org.opensearch.flowframework.common.CommonValue.GLOBAL_CONTEXT_INDEX;
+import static org.opensearch.flowframework.common.CommonValue.WORKFLOW_STATE_INDEX;
+import static org.opensearch.flowframework.common.CommonValue.WORKFLOW_THREAD_POOL;
+import static org.opensearch.flowframework.common.FlowFrameworkSettings.FILTER_BY_BACKEND_ROLES;
+import static org.opensearch.flowframework.util.ParseUtils.checkFilterByBackendRoles;
+
+/**
+ * Transport Action to import workflows and their states, as exported by the {@link ExportWorkflowsTransportAction}.
+ * <p>
+ * Rather than creating each workflow as the create workflow API does, the lines are parsed up front and then split into
+ * one chunk per allocated processor. The chunks are validated, and their credentials encrypted as a batch, in parallel on
+ * the workflow thread pool. The templates and then the states are written with one bulk request each. A line which fails
+ * to parse, validate or write is reported in the response with its status, and does not fail the other lines.
+ */
+public class ImportWorkflowsTransportAction extends HandledTransportAction<ImportWorkflowsRequest, ImportWorkflowsResponse> {
+
+    private final Logger logger = LogManager.getLogger(ImportWorkflowsTransportAction.class);
+
+    private final FlowFrameworkIndicesHandler flowFrameworkIndicesHandler;
+    private final WorkflowProcessSorter workflowProcessSorter;
+    private final EncryptorUtils encryptorUtils;
+    private final FlowFrameworkSettings flowFrameworkSettings;
+    private final PluginsService pluginsService;
+    private final ThreadPool threadPool;
+    private final ClusterService clusterService;
+    private final Client client;
+    private final int allocatedProcessors;
+
+    /**
+     * Instantiates a new ImportWorkflowsTransportAction
+     * @param transportService the TransportService
+     * @param actionFilters action filters
+     * @param flowFrameworkIndicesHandler The Flow Framework indices handler
+     * @param workflowProcessSorter the workflow process sorter, to validate templates
+     * @param encryptorUtils Encryptor utils to encrypt credentials
+     * @param flowFrameworkSettings the plugin settings
+     * @param pluginsService The plugin service
+     * @param threadPool the OpenSearch thread pool
+     * @param clusterService the cluster service
+     * @param client the OpenSearch client
+     * @param settings the node settings
+     */
+    @Inject
+    public ImportWorkflowsTransportAction(
+        TransportService transportService,
+        ActionFilters actionFilters,
+        FlowFrameworkIndicesHandler flowFrameworkIndicesHandler,
+        WorkflowProcessSorter workflowProcessSorter,
+        EncryptorUtils encryptorUtils,
+        FlowFrameworkSettings flowFrameworkSettings,
+        PluginsService pluginsService,
+        ThreadPool threadPool,
+        ClusterService clusterService,
+        Client client,
+        Settings settings
+    ) {
+        super(ImportWorkflowsAction.NAME, transportService, actionFilters, ImportWorkflowsRequest::new);
+        this.flowFrameworkIndicesHandler = flowFrameworkIndicesHandler;
+        this.workflowProcessSorter = workflowProcessSorter;
+        this.encryptorUtils = encryptorUtils;
+        this.flowFrameworkSettings = flowFrameworkSettings;
+        this.pluginsService = pluginsService;
+        this.threadPool = threadPool;
+        this.clusterService = clusterService;
+        this.client = client;
+        this.allocatedProcessors = OpenSearchExecutors.allocatedProcessors(settings);
+    }
+
+    @Override
+    protected void doExecute(Task task, ImportWorkflowsRequest request, ActionListener<ImportWorkflowsResponse> listener) {
+        long startNanos = System.nanoTime();
+        String tenantId = request.getTenantId();
+        if (!TenantAwareHelper.validateTenantId(flowFrameworkSettings.isMultiTenancyEnabled(), tenantId, listener)) {
+            return;
+        }
+        try {
+            User user = ParseUtils.getUserContext(client);
+            boolean admin = user == null || ParseUtils.isAdmin(user);
+            if (request.isEncryptedCredentials() && !admin) {
+                throw new FlowFrameworkException("Only admin users may import encrypted credentials", RestStatus.FORBIDDEN);
+            }
+            if (request.isOverwrite() && !admin) {
+                throw new FlowFrameworkException("Only admin users may overwrite existing workflows", RestStatus.FORBIDDEN);
+            }
+            if (Boolean.TRUE.equals(clusterService.getClusterSettings().get(FILTER_BY_BACKEND_ROLES))) {
+                checkFilterByBackendRoles(user);
+            }
+            List<ImportEntry> entries = parseEntries(request.getContent(), tenantId, user, admin);
+            ActionListener<Void> writtenListener = ActionListener.wrap(v -> {
+                List<ImportItem> items = new ArrayList<>(entries.size());
+                for (ImportEntry entry : entries) {
+                    items.add(entry.toItem());
+                }
+                long tookInMillis = TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - startNanos);
+                listener.onResponse(new ImportWorkflowsResponse(tookInMillis, items));
+            }, e -> onFailure(e, listener));
+            ActionListener<Collection<Void>> preparedListener = ActionListener.wrap(
+                prepared -> writeEntries(request, entries, writtenListener),
+                e -> onFailure(e, listener)
+            );
+            initializeIndices(tenantId, ActionListener.wrap(initialized -> {
+                if (!Boolean.TRUE.equals(initialized)) {
+                    throw new FlowFrameworkException("Failed to initialize flow framework indices", RestStatus.INTERNAL_SERVER_ERROR);
+                }
+                prepareEntries(request, entries, preparedListener);
+            }, e -> onFailure(e, listener)));
+        } catch (Exception e) {
+            onFailure(e, listener);
+        }
+    }
+
+    /**
+     * Parses each line into an entry. A line which fails to parse is kept as a failed entry so it is reported in the response.
+     */
+    private List<ImportEntry> parseEntries(BytesReference content, String tenantId, User user, boolean admin) {
+        List<ImportEntry> entries = new ArrayList<>();
+        Set<String> workflowIds = new HashSet<>();
+        Instant now = Instant.now();
+        int line = 0;
+        int from = 0;
+        while (from < content.length()) {
+            int end = content.indexOf((byte) '\n', from);
+            if (end < 0) {
+                end = content.length();
+            }
+            line++;
+            BytesReference lineContent = content.slice(from, end - from);
+            from = end + 1;
+            if (lineContent.utf8ToString().isBlank()) {
+                continue;
+            }
+            if (entries.size() == ImportWorkflowsRequest.MAX_SIZE) {
+                throw new FlowFrameworkException(
+                    "At most " + ImportWorkflowsRequest.MAX_SIZE + " workflows may be imported by each request",
+                    RestStatus.BAD_REQUEST
+                );
+            }
+            ImportEntry entry = new ImportEntry(line);
+            entries.add(entry);
+            try {
+                parseEntry(entry, lineContent);
+            } catch (Exception e) {
+                entry.fail(RestStatus.BAD_REQUEST, "Failed to parse workflow: " + e.getMessage());
+                continue;
+            }
+            if (!workflowIds.add(entry.workflowId)) {
+                entry.fail(RestStatus.CONFLICT, "Duplicate workflow id in request");
+                continue;
+            }
+            // Only admin users may import workflows on behalf of the users who created them
+            User owner = admin && entry.template.getUser() != null ? entry.template.getUser() : user;
+            entry.template = Template.builder(entry.template)
+                .user(owner)
+                .tenantId(tenantId)
+                .createdTime(entry.template.createdTime() == null ? now : entry.template.createdTime())
+                .lastUpdatedTime(now)
+                .build();
+            WorkflowState.Builder state = entry.state == null
+                ? WorkflowState.builder()
+                    .state(State.NOT_STARTED.name())
+                    .provisioningProgress(ProvisioningProgress.NOT_STARTED.name())
+                    .resourcesCreated(Collections.emptyList())
+                    .userOutputs(Collections.emptyMap())
+                    .allSharedPrincipals(entry.template.allSharedPrincipals())
+                : WorkflowState.builder(entry.state);
+            entry.state = state.workflowId(entry.workflowId).user(owner).tenantId(tenantId).build();
+        }
+        return entries;
+    }
+
+    private static void parseEntry(ImportEntry entry, BytesReference lineContent) throws IOException {
+        try (XContentParser parser = ParseUtils.createXContentParserFromRegistry(NamedXContentRegistry.EMPTY, lineContent)) {
+            ensureExpectedToken(XContentParser.Token.START_OBJECT, parser.nextToken(), parser);
+            while (parser.nextToken() != XContentParser.Token.END_OBJECT) {
+                String fieldName = parser.currentName();
+                parser.nextToken();
+                switch (fieldName) {
+                    case ExportWorkflowsResponse.WORKFLOW_ID_FIELD:
+                        entry.workflowId = parser.text();
+                        break;
+                    case ExportWorkflowsResponse.TEMPLATE_FIELD:
+                        entry.template = Template.parse(parser);
+                        break;
+                    case ExportWorkflowsResponse.STATE_FIELD:
+                        entry.state = WorkflowState.parse(parser);
+                        break;
+                    default:
+                        parser.skipChildren();
+                        break;
+                }
+            }
+        }
+        if (entry.template == null) {
+            String errorMessage = "The " + ExportWorkflowsResponse.TEMPLATE_FIELD + " field is required";
+            throw new FlowFrameworkException(errorMessage, RestStatus.BAD_REQUEST);
+        }
+        if (entry.workflowId == null || entry.workflowId.isBlank()) {
+            entry.workflowId = UUIDs.randomBase64UUID();
+        }
+    }
+
+    /**
+     * Initializes the config index and master key, then the global context and workflow state indices
+     */
+    private void initializeIndices(String tenantId, ActionListener<Boolean> listener) {
+        flowFrameworkIndicesHandler.initializeConfigIndex(tenantId, ActionListener.wrap(configInitialized -> {
+            if (!Boolean.TRUE.equals(configInitialized)) {
+                listener.onResponse(false);
+                return;
+            }
+            flowFrameworkIndicesHandler.initGlobalContextIndexIfAbsent(ActionListener.wrap(globalContextCreated -> {
+                if (!Boolean.TRUE.equals(globalContextCreated)) {
+                    listener.onResponse(false);
+                    return;
+                }
+                flowFrameworkIndicesHandler.initWorkflowStateIndexIfAbsent(listener);
+            }, listener::onFailure));
+        }, listener::onFailure));
+    }
+
+    /**
+     * Validates the templates if requested and encrypts their credentials, one chunk of entries per allocated processor in parallel
+     */
+    private void prepareEntries(ImportWorkflowsRequest request, List<ImportEntry> entries, ActionListener<Collection<Void>> listener) {
+        List<ImportEntry> pending = new ArrayList<>();
+        for (ImportEntry entry : entries) {
+            if (entry.status == null) {
+                pending.add(entry);
+            }
+        }
+        if (pending.isEmpty()) {
+            listener.onResponse(Collections.emptyList());
+            return;
+        }
+        int chunks = Math.max(1, Math.min(allocatedProcessors, pending.size()));
+        int chunkSize = (pending.size() + chunks - 1) / chunks;
+        List<List<ImportEntry>> chunkedEntries = new ArrayList<>();
+        for (int i = 0; i < pending.size(); i += chunkSize) {
+            chunkedEntries.add(pending.subList(i, Math.min(pending.size(), i + chunkSize)));
+        }
+        GroupedActionListener<Void> groupedListener = new GroupedActionListener<>(listener, chunkedEntries.size());
+        for (List<ImportEntry> chunk : chunkedEntries) {
+            try {
+                threadPool.executor(WORKFLOW_THREAD_POOL).execute(() -> {
+                    try {
+                        prepareChunk(request, chunk);
+                        groupedListener.onResponse(null);
+                    } catch (Exception e) {
+                        groupedListener.onFailure(e);
+                    }
+                });
+            } catch (Exception e) {
+                groupedListener.onFailure(e);
+            }
+        }
+    }
+
+    private void prepareChunk(ImportWorkflowsRequest request, List<ImportEntry> chunk) {
+        List<ImportEntry> valid = new ArrayList<>(chunk.size());
+        for (ImportEntry entry : chunk) {
+            if (request.isValidate()) {
+                try {
+                    validateWorkflows(entry.template);
+                } catch (Exception e) {
+                    entry.fail(RestStatus.BAD_REQUEST, "Workflow validation failed: " + e.getMessage());
+                    continue;
+                }
+            }
+            valid.add(entry);
+        }
+        if (request.isEncryptedCredentials() || valid.isEmpty()) {
+            return;
+        }
+        List<Template> templates = new ArrayList<>(valid.size());
+        for (ImportEntry entry : valid) {
+            templates.add(entry.template);
+        }
+        try {
+            List<Template> encrypted = encryptorUtils.encryptTemplateCredentials(templates, request.getTenantId());
+            for (int i = 0; i < valid.size(); i++) {
+                valid.get(i).template = encrypted.get(i);
+            }
+        } catch (Exception e) {
+            logger.error("Failed to encrypt credentials of imported workflows", e);
+            for (ImportEntry entry : valid) {
+                entry.fail(ExceptionsHelper.status(e), "Failed to encrypt credentials: " + e.getMessage());
+            }
+        }
+    }
+
+    private void validateWorkflows(Template template) throws Exception {
+        for (Workflow workflow : template.workflows().values()) {
+            List<ProcessNode> sortedNodes = workflowProcessSorter.sortProcessNodes(
+                workflow,
+                null,
+                Collections.emptyMap(),
+                template.getTenantId()
+            );
+            workflowProcessSorter.validate(sortedNodes, pluginsService);
+        }
+    }
+
+    /**
+     * Writes the templates with a bulk request, then the states of the workflows whose template was written
+     */
+    private void writeEntries(ImportWorkflowsRequest request, List<ImportEntry> entries, ActionListener<Void> listener) {
+        Map<String, ImportEntry> pending = new LinkedHashMap<>();
+        Map<String, Template> templates = new LinkedHashMap<>();
+        for (ImportEntry entry : entries) {
+            if (entry.status == null) {
+                pending.put(entry.workflowId, entry);
+                templates.put(entry.workflowId, entry.template);
+            }
+        }
+        String tenantId = request.getTenantId();
+        ActionListener<Map<String, Exception>> templatesListener = ActionListener.wrap(templateFailures -> {
+            Map<String, WorkflowState> states = new LinkedHashMap<>();
+            for (ImportEntry entry : pending.values()) {
+                Exception failure = templateFailures.get(entry.workflowId);
+                if (failure == null) {
+                    states.put(entry.workflowId, entry.state);
+                } else {
+                    entry.fail(ExceptionsHelper.status(failure), failure.getMessage());
+                }
+            }
+            flowFrameworkIndicesHandler.bulkPutWorkflowDocuments(
+                WORKFLOW_STATE_INDEX,
+                tenantId,
+                states,
+                request.isOverwrite(),
+                ActionListener.wrap(stateFailures -> {
+                    for (String workflowId : states.keySet()) {
+                        Exception failure = stateFailures.get(workflowId);
+                        if (failure == null) {
+                            pending.get(workflowId).status = RestStatus.CREATED;
+                        } else {
+                            String error = "Imported template but failed to write state: " + failure.getMessage();
+                            pending.get(workflowId).fail(ExceptionsHelper.status(failure), error);
+                        }
+                    }
+                    listener.onResponse(null);
+                }, listener::onFailure)
+            );
+        }, listener::onFailure);
+        boolean overwrite = request.isOverwrite();
+        flowFrameworkIndicesHandler.bulkPutWorkflowDocuments(GLOBAL_CONTEXT_INDEX, tenantId, templates, overwrite, templatesListener);
+    }
+
+    private void onFailure(Exception e, ActionListener<ImportWorkflowsResponse> listener) {
+        String errorMessage = "Failed to import workflows";
+        logger.error(errorMessage, e);
+        listener.onFailure(
+            e instanceof FlowFrameworkException ? e : new FlowFrameworkException(errorMessage, ExceptionsHelper.status(e))
+        );
+    }
+
+    /**
+     * A workflow being imported, and the outcome of importing it once known
+     */
+    private static class ImportEntry {
+        private final int line;
+        private String workflowId;
+        private Template template;
+        private WorkflowState state;
+        private RestStatus status;
+        private String error;
+
+        ImportEntry(int line) {
+            this.line = line;
+        }
+
+        void fail(RestStatus status, String error) {
+            this.status = status;
+            this.error = error;
+        }
+
+        ImportItem toItem() {
+            return new ImportItem(line, workflowId, status, error);
+        }
+    }
+}
@@ -30,12 +30,15 @@ import org.opensearch.flowframework.exception.FlowFrameworkException;
 import org.opensearch.flowframework.indices.FlowFrameworkIndicesHandler;
 import org.opensearch.flowframework.model.ProvisioningProgress;
 import org.opensearch.flowframework.model.State;
+import org.opensearch.flowframework.model.StepTimeline;
 import org.opensearch.flowframework.model.Template;
 import org.opensearch.flowframework.model.Workflow;
 import org.opensearch.flowframework.util.EncryptorUtils;
 import org.opensearch.flowframework.util.TenantAwareHelper;
 import org.opensearch.flowframework.util.WorkflowTimeoutUtility;
+import org.opensearch.flowframework.workflow.ActiveProvisionRegistry;
 import org.opensearch.flowframework.workflow.ProcessNode;
+import org.opensearch.flowframework.workflow.WorkflowExecutors;
 import org.opensearch.flowframework.workflow.WorkflowProcessSorter;
 import org.opensearch.plugins.PluginsService;
 import org.opensearch.remote.metadata.client.SdkClient;
@@ -61,6 +64,7 @@ import static org.opensearch.flowframework.common.CommonValue.PROVISION_WORKFLOW
 import static org.opensearch.flowframework.common.CommonValue.PROVISION_WORKFLOW_THREAD_POOL;
 import static org.opensearch.flowframework.common.CommonValue.RESOURCES_CREATED_FIELD;
 import static org.opensearch.flowframework.common.CommonValue.STATE_FIELD;
+import static org.opensearch.flowframework.common.CommonValue.STEP_TIMELINE_FIELD;
 import static org.opensearch.flowframework.common.FlowFrameworkSettings.FILTER_BY_BACKEND_ROLES;
 import static org.opensearch.flowframework.util.ParseUtils.getUserContext;
 import static org.opensearch.flowframework.util.ParseUtils.resolveUserAndExecute;
@@ -83,6 +87,8 @@ public class ProvisionWorkflowTransportAction extends HandledTransportAction<Wor
     private volatile Boolean filterByEnabled;
     private final ClusterService clusterService;
     private final NamedXContentRegistry xContentRegistry;
+    private final ActiveProvisionRegistry activeProvisionRegistry;
+    private final WorkflowExecutors workflowExecutors;
 
     /**
      * Instantiates a new ProvisionWorkflowTransportAction
@@ -98,6 +104,8 @@ public class ProvisionWorkflowTransportAction extends HandledTransportAction<Wor
      * @param clusterService the cluster service
      * @param xContentRegistry the named content registry
      * @param settings the plugin settings
+     * @param activeProvisionRegistry the registry of workflows being provisioned on this node
+     * @param workflowExecutors Resolves the executor to run the workflow on
      */
     @Inject
     public ProvisionWorkflowTransportAction(
@@ -112,7 +120,9 @@ public class ProvisionWorkflowTransportAction extends HandledTransportAction<Wor
         PluginsService pluginsService,
         ClusterService clusterService,
         NamedXContentRegistry xContentRegistry,
-        Settings settings
+        Settings settings,
+        ActiveProvisionRegistry activeProvisionRegistry,
+        WorkflowExecutors workflowExecutors
     ) {
         super(ProvisionWorkflowAction.NAME, transportService, actionFilters, WorkflowRequest::new);
         this.client = client;
@@ -125,6 +135,8 @@ public class ProvisionWorkflowTransportAction extends HandledTransportAction<Wor
         filterByEnabled = FILTER_BY_BACKEND_ROLES.get(settings);
         this.xContentRegistry = xContentRegistry;
         this.clusterService = clusterService;
+        this.activeProvisionRegistry = activeProvisionRegistry;
+        this.workflowExecutors = workflowExecutors;
         clusterService.getClusterSettings().addSettingsUpdateConsumer(FILTER_BY_BACKEND_ROLES, it -> filterByEnabled = it);
     }
 
@@ -209,7 +221,7 @@ public class ProvisionWorkflowTransportAction extends HandledTransportAction<Wor
             }
 
             // Parse template from document source
-            Template parsedTemplate = Template.parse(response.getSourceAsString());
+            Template parsedTemplate = flowFrameworkIndicesHandler.parseTemplate(response, tenantId);
 
             // Decrypt template
             final Template template = encryptorUtils.decryptTemplateCredentials(parsedTemplate);
@@ -234,7 +246,8 @@ public class ProvisionWorkflowTransportAction extends HandledTransportAction<Wor
                             Map.entry(STATE_FIELD, State.PROVISIONING),
                             Map.entry(PROVISIONING_PROGRESS_FIELD, ProvisioningProgress.IN_PROGRESS),
                             Map.entry(PROVISION_START_TIME_FIELD, Instant.now().toEpochMilli()),
-                            Map.entry(RESOURCES_CREATED_FIELD, Collections.emptyList())
+                            Map.entry(RESOURCES_CREATED_FIELD, Collections.emptyList()),
+                            Map.entry(STEP_TIMELINE_FIELD, Collections.emptyList())
                         ),
                         ActionListener.wrap(updateResponse -> {
                             logger.info("updated workflow {} state to {}", request.getWorkflowId(), State.PROVISIONING);
@@ -322,7 +335,7 @@ public class ProvisionWorkflowTransportAction extends HandledTransportAction<Wor
         ActionListener<WorkflowResponse> listener
     ) {
         try {
-            client.threadPool().executor(PROVISION_WORKFLOW_THREAD_POOL).execute(() -> {
+            workflowExecutors.executor(PROVISION_WORKFLOW_THREAD_POOL).execute(() -> {
                 executeWorkflow(workflowSequence, workflowId, tenantId, listener, false);
             });
         } catch (Exception exception) {
@@ -364,7 +377,7 @@ public class ProvisionWorkflowTransportAction extends HandledTransportAction<Wor
             } catch (Exception ex) {
                 WorkflowTimeoutUtility.handleFailure(workflowId, ex, listener);
             }
-        }, client.threadPool().executor(PROVISION_WORKFLOW_THREAD_POOL));
+        }, workflowExecutors.executor(PROVISION_WORKFLOW_THREAD_POOL));
 
         WorkflowTimeoutUtility.scheduleTimeoutHandler(client, client.threadPool(), workflowId, tenantId, listener, timeout, isResponseSent);
     }
@@ -385,6 +398,7 @@ public class ProvisionWorkflowTransportAction extends HandledTransportAction<Wor
         boolean isSyncExecution
     ) {
         String currentStepId = "";
+        activeProvisionRegistry.register(workflowId, tenantId, workflowSequence);
         try {
             Map<String, PlainActionFuture<?>> workflowFutureMap = new LinkedHashMap<>();
             for (ProcessNode processNode : workflowSequence) {
@@ -419,7 +433,8 @@ public class ProvisionWorkflowTransportAction extends HandledTransportAction<Wor
                 Map.ofEntries(
                     Map.entry(STATE_FIELD, State.COMPLETED),
                     Map.entry(PROVISIONING_PROGRESS_FIELD, ProvisioningProgress.DONE),
-                    Map.entry(PROVISION_END_TIME_FIELD, Instant.now().toEpochMilli())
+                    Map.entry(PROVISION_END_TIME_FIELD, Instant.now().toEpochMilli()),
+                    Map.entry(STEP_TIMELINE_FIELD, getStepTimeline(workflowId, workflowSequence))
                 ),
                 ActionListener.wrap(updateResponse -> {
                     logger.info("updated workflow {} state to {}", workflowId, State.COMPLETED);
@@ -469,36 +484,58 @@ public class ProvisionWorkflowTransportAction extends HandledTransportAction<Wor
                 + message
                 + ", restStatus: "
                 + status.toString();
-            flowFrameworkIndicesHandler.updateFlowFrameworkSystemIndexDoc(
+            // Stop the steps still running after a timeout or cancellation before recording what was created
+            activeProvisionRegistry.cancelOutstandingSteps(
                 workflowId,
-                tenantId,
-                Map.ofEntries(
-                    Map.entry(STATE_FIELD, State.FAILED),
-                    Map.entry(ERROR_FIELD, errorMessage),
-                    Map.entry(PROVISIONING_PROGRESS_FIELD, ProvisioningProgress.FAILED),
-                    Map.entry(PROVISION_END_TIME_FIELD, Instant.now().toEpochMilli())
-                ),
-                ActionListener.wrap(updateResponse -> {
-                    logger.info("updated workflow {} state to {}", workflowId, State.FAILED);
-                    if (isSyncExecution) {
-                        listener.onFailure(new FlowFrameworkException(errorMessage, status));
-                    } else {
-                        TenantAwareHelper.releaseProvision(tenantId);
-                    }
-                }, exceptionState -> {
-                    logger.error("Failed to update workflow state for workflow {}", workflowId, exceptionState);
-                    if (isSyncExecution) {
-                        listener.onFailure(
-                            new FlowFrameworkException(
-                                errorMessage + ". Failed to update workflow state after execution failure.",
-                                RestStatus.INTERNAL_SERVER_ERROR
-                            )
-                        );
-                    } else {
-                        TenantAwareHelper.releaseProvision(tenantId);
-                    }
-                })
+                workflowSequence,
+                ex,
+                () -> flowFrameworkIndicesHandler.updateFlowFrameworkSystemIndexDoc(
+                    workflowId,
+                    tenantId,
+                    Map.ofEntries(
+                        Map.entry(STATE_FIELD, State.FAILED),
+                        Map.entry(ERROR_FIELD, errorMessage),
+                        Map.entry(PROVISIONING_PROGRESS_FIELD, ProvisioningProgress.FAILED),
+                        Map.entry(PROVISION_END_TIME_FIELD, Instant.now().toEpochMilli()),
+                        Map.entry(STEP_TIMELINE_FIELD, getStepTimeline(workflowId, workflowSequence))
+                    ),
+                    ActionListener.wrap(updateResponse -> {
+                        logger.info("updated workflow {} state to {}", workflowId, State.FAILED);
+                        if (isSyncExecution) {
+                            listener.onFailure(new FlowFrameworkException(errorMessage, status));
+                        } else {
+                            TenantAwareHelper.releaseProvision(tenantId);
+                        }
+                    }, exceptionState -> {
+                        logger.error("Failed to update workflow state for workflow {}", workflowId, exceptionState);
+                        if (isSyncExecution) {
+                            listener.onFailure(
+                                new FlowFrameworkException(
+                                    errorMessage + ". Failed to update workflow state after execution failure.",
+                                    RestStatus.INTERNAL_SERVER_ERROR
+                                )
+                            );
+                        } else {
+                            TenantAwareHelper.releaseProvision(tenantId);
+                        }
+                    })
+                )
             );
+        } finally {
+            activeProvisionRegistry.unregister(workflowId, workflowSequence);
         }
     }
+
+    /**
+     * Collects the execution timeline of each step of the given workflow sequence
+     * @param workflowId The workflowId associated with the workflow that is executing
+     * @param workflowSequence The topologically sorted workflow being executed
+     * @return the timeline of each step, in execution order
+     */
+    private List<StepTimeline> getStepTimeline(String workflowId, List<ProcessNode> workflowSequence) {
+        Map<String, Integer> stateWriteRetries = flowFrameworkIndicesHandler.removeStepStateWriteRetries(workflowId);
+        return workflowSequence.stream()
+            .map(node -> node.timeline(stateWriteRetries.getOrDefault(node.id(), 0)))
+            .collect(Collectors.toList());
+    }
 }
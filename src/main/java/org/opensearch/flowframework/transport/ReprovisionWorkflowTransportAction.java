@@ -31,13 +31,16 @@ import org.opensearch.flowframework.indices.FlowFrameworkIndicesHandler;
 import org.opensearch.flowframework.model.ProvisioningProgress;
 import org.opensearch.flowframework.model.ResourceCreated;
 import org.opensearch.flowframework.model.State;
+import org.opensearch.flowframework.model.StepTimeline;
 import org.opensearch.flowframework.model.Template;
 import org.opensearch.flowframework.model.Workflow;
 import org.opensearch.flowframework.model.WorkflowState;
 import org.opensearch.flowframework.util.EncryptorUtils;
 import org.opensearch.flowframework.util.TenantAwareHelper;
 import org.opensearch.flowframework.util.WorkflowTimeoutUtility;
+import org.opensearch.flowframework.workflow.ActiveProvisionRegistry;
 import org.opensearch.flowframework.workflow.ProcessNode;
+import org.opensearch.flowframework.workflow.WorkflowExecutors;
 import org.opensearch.flowframework.workflow.WorkflowProcessSorter;
 import org.opensearch.flowframework.workflow.WorkflowStepFactory;
 import org.opensearch.plugins.PluginsService;
@@ -65,6 +68,7 @@ import static org.opensearch.flowframework.common.CommonValue.PROVISION_WORKFLOW
 import static org.opensearch.flowframework.common.CommonValue.PROVISION_WORKFLOW_THREAD_POOL;
 import static org.opensearch.flowframework.common.CommonValue.RESOURCES_CREATED_FIELD;
 import static org.opensearch.flowframework.common.CommonValue.STATE_FIELD;
+import static org.opensearch.flowframework.common.CommonValue.STEP_TIMELINE_FIELD;
 import static org.opensearch.flowframework.common.FlowFrameworkSettings.FILTER_BY_BACKEND_ROLES;
 import static org.opensearch.flowframework.util.ParseUtils.getUserContext;
 import static org.opensearch.flowframework.util.ParseUtils.resolveUserAndExecute;
@@ -88,6 +92,8 @@ public class ReprovisionWorkflowTransportAction extends HandledTransportAction<R
     private volatile Boolean filterByEnabled;
     private final ClusterService clusterService;
     private final NamedXContentRegistry xContentRegistry;
+    private final ActiveProvisionRegistry activeProvisionRegistry;
+    private final WorkflowExecutors workflowExecutors;
 
     /**
      * Instantiates a new ReprovisionWorkflowTransportAction
@@ -105,6 +111,7 @@ public class ReprovisionWorkflowTransportAction extends HandledTransportAction<R
      * @param clusterService The Cluster Service
      * @param xContentRegistry The XContent Registry
      * @param settings  The plugin settings
+     * @param activeProvisionRegistry The registry of workflows being provisioned on this node
      */
     @Inject
     public ReprovisionWorkflowTransportAction(
@@ -121,7 +128,9 @@ public class ReprovisionWorkflowTransportAction extends HandledTransportAction<R
         PluginsService pluginsService,
         ClusterService clusterService,
         NamedXContentRegistry xContentRegistry,
-        Settings settings
+        Settings settings,
+        ActiveProvisionRegistry activeProvisionRegistry,
+        WorkflowExecutors workflowExecutors
     ) {
         super(ReprovisionWorkflowAction.NAME, transportService, actionFilters, ReprovisionWorkflowRequest::new);
         this.threadPool = threadPool;
@@ -135,6 +144,8 @@ public class ReprovisionWorkflowTransportAction extends HandledTransportAction<R
         filterByEnabled = FILTER_BY_BACKEND_ROLES.get(settings);
         this.xContentRegistry = xContentRegistry;
         this.clusterService = clusterService;
+        this.activeProvisionRegistry = activeProvisionRegistry;
+        this.workflowExecutors = workflowExecutors;
         clusterService.getClusterSettings().addSettingsUpdateConsumer(FILTER_BY_BACKEND_ROLES, it -> filterByEnabled = it);
     }
 
@@ -270,7 +281,8 @@ public class ReprovisionWorkflowTransportAction extends HandledTransportAction<R
                     Map.entry(STATE_FIELD, State.PROVISIONING),
                     Map.entry(PROVISIONING_PROGRESS_FIELD, ProvisioningProgress.IN_PROGRESS),
                     Map.entry(PROVISION_START_TIME_FIELD, Instant.now().toEpochMilli()),
-                    Map.entry(RESOURCES_CREATED_FIELD, resourceCreated)
+                    Map.entry(RESOURCES_CREATED_FIELD, resourceCreated),
+                    Map.entry(STEP_TIMELINE_FIELD, Collections.emptyList())
                 ),
                 ActionListener.wrap(updateResponse -> {
 
@@ -333,7 +345,7 @@ public class ReprovisionWorkflowTransportAction extends HandledTransportAction<R
         ActionListener<WorkflowResponse> listener
     ) {
         try {
-            threadPool.executor(PROVISION_WORKFLOW_THREAD_POOL).execute(() -> {
+            workflowExecutors.executor(PROVISION_WORKFLOW_THREAD_POOL).execute(() -> {
                 updateTemplate(template, workflowId);
                 executeWorkflow(template, workflowSequence, workflowId, listener, false);
             });
@@ -367,7 +379,7 @@ public class ReprovisionWorkflowTransportAction extends HandledTransportAction<R
             } catch (Exception ex) {
                 WorkflowTimeoutUtility.handleFailure(workflowId, ex, listener);
             }
-        }, threadPool.executor(PROVISION_WORKFLOW_THREAD_POOL));
+        }, workflowExecutors.executor(PROVISION_WORKFLOW_THREAD_POOL));
         WorkflowTimeoutUtility.scheduleTimeoutHandler(
             client,
             threadPool,
@@ -406,6 +418,7 @@ public class ReprovisionWorkflowTransportAction extends HandledTransportAction<R
         boolean isSyncExecution
     ) {
         String currentStepId = "";
+        activeProvisionRegistry.register(workflowId, template.getTenantId(), workflowSequence);
         try {
             Map<String, PlainActionFuture<?>> workflowFutureMap = new LinkedHashMap<>();
             for (ProcessNode processNode : workflowSequence) {
@@ -441,7 +454,8 @@ public class ReprovisionWorkflowTransportAction extends HandledTransportAction<R
                 Map.ofEntries(
                     Map.entry(STATE_FIELD, State.COMPLETED),
                     Map.entry(PROVISIONING_PROGRESS_FIELD, ProvisioningProgress.DONE),
-                    Map.entry(PROVISION_END_TIME_FIELD, Instant.now().toEpochMilli())
+                    Map.entry(PROVISION_END_TIME_FIELD, Instant.now().toEpochMilli()),
+                    Map.entry(STEP_TIMELINE_FIELD, getStepTimeline(workflowId, workflowSequence))
                 ),
                 ActionListener.wrap(updateResponse -> {
 
@@ -487,37 +501,58 @@ public class ReprovisionWorkflowTransportAction extends HandledTransportAction<R
                 + currentStepId
                 + ", restStatus: "
                 + status.toString();
-            flowFrameworkIndicesHandler.updateFlowFrameworkSystemIndexDoc(
+            // Stop the steps still running after a timeout or cancellation before recording what was created
+            activeProvisionRegistry.cancelOutstandingSteps(
                 workflowId,
-                template.getTenantId(),
-                Map.ofEntries(
-                    Map.entry(STATE_FIELD, State.FAILED),
-                    Map.entry(ERROR_FIELD, errorMessage),
-                    Map.entry(PROVISIONING_PROGRESS_FIELD, ProvisioningProgress.FAILED),
-                    Map.entry(PROVISION_END_TIME_FIELD, Instant.now().toEpochMilli())
-                ),
-                ActionListener.wrap(updateResponse -> {
-                    logger.info("updated workflow {} state to {}", workflowId, State.FAILED);
-                    if (isSyncExecution) {
-                        listener.onFailure(new FlowFrameworkException(errorMessage, status));
-                    } else {
-                        TenantAwareHelper.releaseProvision(template.getTenantId());
-                    }
-                }, exceptionState -> {
-                    logger.error("Failed to update workflow state for workflow {}", workflowId, exceptionState);
-                    if (isSyncExecution) {
-                        listener.onFailure(
-                            new FlowFrameworkException(
-                                errorMessage + ". Failed to update workflow state after execution failure.",
-                                RestStatus.INTERNAL_SERVER_ERROR
-                            )
-                        );
-                    } else {
-                        TenantAwareHelper.releaseProvision(template.getTenantId());
-                    }
-                })
+                workflowSequence,
+                ex,
+                () -> flowFrameworkIndicesHandler.updateFlowFrameworkSystemIndexDoc(
+                    workflowId,
+                    template.getTenantId(),
+                    Map.ofEntries(
+                        Map.entry(STATE_FIELD, State.FAILED),
+                        Map.entry(ERROR_FIELD, errorMessage),
+                        Map.entry(PROVISIONING_PROGRESS_FIELD, ProvisioningProgress.FAILED),
+                        Map.entry(PROVISION_END_TIME_FIELD, Instant.now().toEpochMilli()),
+                        Map.entry(STEP_TIMELINE_FIELD, getStepTimeline(workflowId, workflowSequence))
+                    ),
+                    ActionListener.wrap(updateResponse -> {
+                        logger.info("updated workflow {} state to {}", workflowId, State.FAILED);
+                        if (isSyncExecution) {
+                            listener.onFailure(new FlowFrameworkException(errorMessage, status));
+                        } else {
+                            TenantAwareHelper.releaseProvision(template.getTenantId());
+                        }
+                    }, exceptionState -> {
+                        logger.error("Failed to update workflow state for workflow {}", workflowId, exceptionState);
+                        if (isSyncExecution) {
+                            listener.onFailure(
+                                new FlowFrameworkException(
+                                    errorMessage + ". Failed to update workflow state after execution failure.",
+                                    RestStatus.INTERNAL_SERVER_ERROR
+                                )
+                            );
+                        } else {
+                            TenantAwareHelper.releaseProvision(template.getTenantId());
+                        }
+                    })
+                )
             );
+        } finally {
+            activeProvisionRegistry.unregister(workflowId, workflowSequence);
         }
     }
 
+    /**
+     * Collects the execution timeline of each step of the given workflow sequence
+     * @param workflowId The workflowId associated with the workflow that is executing
+     * @param workflowSequence The topologically sorted workflow being executed
+     * @return the timeline of each step, in execution order
+     */
+    private List<StepTimeline> getStepTimeline(String workflowId, List<ProcessNode> workflowSequence) {
+        Map<String, Integer> stateWriteRetries = flowFrameworkIndicesHandler.removeStepStateWriteRetries(workflowId);
+        return workflowSequence.stream()
+            .map(node -> node.timeline(stateWriteRetries.getOrDefault(node.id(), 0)))
+            .collect(Collectors.toList());
+    }
 }
@@ -9,14 +9,13 @@
 package org.opensearch.flowframework.transport;
 
 import org.opensearch.action.ActionType;
-import org.opensearch.action.search.SearchResponse;
 
 import static org.opensearch.flowframework.common.CommonValue.TRANSPORT_ACTION_NAME_PREFIX;
 
 /**
  * External Action for public facing RestSearchWorkflowAction
  */
-public class SearchWorkflowAction extends ActionType<SearchResponse> {
+public class SearchWorkflowAction extends ActionType<FlowFrameworkSearchResponse> {
 
     /** The name of this action */
     public static final String NAME = TRANSPORT_ACTION_NAME_PREFIX + "workflow/search";
@@ -24,6 +23,6 @@ public class SearchWorkflowAction extends ActionType<SearchResponse> {
     public static final SearchWorkflowAction INSTANCE = new SearchWorkflowAction();
 
     private SearchWorkflowAction() {
-        super(NAME, SearchResponse::new);
+        super(NAME, FlowFrameworkSearchResponse::new);
     }
 }
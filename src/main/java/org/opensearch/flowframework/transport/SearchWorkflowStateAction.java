@@ -9,14 +9,13 @@
 package org.opensearch.flowframework.transport;
 
 import org.opensearch.action.ActionType;
-import org.opensearch.action.search.SearchResponse;
 
 import static org.opensearch.flowframework.common.CommonValue.TRANSPORT_ACTION_NAME_PREFIX;
 
 /**
  * External Action for public facing RestSearchWorkflowStateAction
  */
-public class SearchWorkflowStateAction extends ActionType<SearchResponse> {
+public class SearchWorkflowStateAction extends ActionType<FlowFrameworkSearchResponse> {
 
     /** The name of this action */
     public static final String NAME = TRANSPORT_ACTION_NAME_PREFIX + "workflow_state/search";
@@ -24,6 +23,6 @@ public class SearchWorkflowStateAction extends ActionType<SearchResponse> {
     public static final SearchWorkflowStateAction INSTANCE = new SearchWorkflowStateAction();
 
     private SearchWorkflowStateAction() {
-        super(NAME, SearchResponse::new);
+        super(NAME, FlowFrameworkSearchResponse::new);
     }
 }
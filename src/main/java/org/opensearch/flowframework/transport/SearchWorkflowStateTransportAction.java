@@ -12,7 +12,6 @@ import org.apache.logging.log4j.LogManager;
 import org.apache.logging.log4j.Logger;
 import org.opensearch.ExceptionsHelper;
 import org.opensearch.action.search.SearchRequest;
-import org.opensearch.action.search.SearchResponse;
 import org.opensearch.action.support.ActionFilters;
 import org.opensearch.action.support.HandledTransportAction;
 import org.opensearch.common.inject.Inject;
@@ -26,7 +25,7 @@ import org.opensearch.transport.TransportService;
 /**
  * Transport Action to search workflow states
  */
-public class SearchWorkflowStateTransportAction extends HandledTransportAction<SearchRequest, SearchResponse> {
+public class SearchWorkflowStateTransportAction extends HandledTransportAction<SearchRequest, FlowFrameworkSearchResponse> {
 
     private final Logger logger = LogManager.getLogger(SearchWorkflowStateTransportAction.class);
 
@@ -45,7 +44,7 @@ public class SearchWorkflowStateTransportAction extends HandledTransportAction<S
     }
 
     @Override
-    protected void doExecute(Task task, SearchRequest request, ActionListener<SearchResponse> actionListener) {
+    protected void doExecute(Task task, SearchRequest request, ActionListener<FlowFrameworkSearchResponse> actionListener) {
         try {
             // We used the SearchRequest preference field to convey a tenant id if any
             String tenantId = null;
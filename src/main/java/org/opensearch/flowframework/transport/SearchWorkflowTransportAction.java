@@ -8,44 +8,58 @@
  */
 package org.opensearch.flowframework.transport;
 
+import org.apache.commons.lang3.ArrayUtils;
 import org.apache.logging.log4j.LogManager;
 import org.apache.logging.log4j.Logger;
 import org.opensearch.ExceptionsHelper;
 import org.opensearch.action.search.SearchRequest;
-import org.opensearch.action.search.SearchResponse;
 import org.opensearch.action.support.ActionFilters;
 import org.opensearch.action.support.HandledTransportAction;
 import org.opensearch.common.inject.Inject;
 import org.opensearch.core.action.ActionListener;
+import org.opensearch.core.common.Strings;
 import org.opensearch.flowframework.common.CommonValue;
 import org.opensearch.flowframework.exception.FlowFrameworkException;
+import org.opensearch.flowframework.indices.FlowFrameworkIndicesHandler;
 import org.opensearch.flowframework.transport.handler.SearchHandler;
+import org.opensearch.search.fetch.subphase.FetchSourceContext;
 import org.opensearch.tasks.Task;
 import org.opensearch.transport.TransportService;
 
+import static org.opensearch.flowframework.common.CommonValue.WORKFLOWS_HASH_FIELD;
+import static org.opensearch.flowframework.common.CommonValue.WORKFLOWS_PARAMS_FIELD;
+
 /**
  * Transport Action to search workflows created
  */
-public class SearchWorkflowTransportAction extends HandledTransportAction<SearchRequest, SearchResponse> {
+public class SearchWorkflowTransportAction extends HandledTransportAction<SearchRequest, FlowFrameworkSearchResponse> {
 
     private final Logger logger = LogManager.getLogger(SearchWorkflowTransportAction.class);
 
     private SearchHandler searchHandler;
+    private final FlowFrameworkIndicesHandler flowFrameworkIndicesHandler;
 
     /**
      * Instantiates a new CreateWorkflowTransportAction
      * @param transportService the TransportService
      * @param actionFilters action filters
      * @param searchHandler the Search Handler
+     * @param flowFrameworkIndicesHandler the flow framework indices handler, resolving shared workflows references
      */
     @Inject
-    public SearchWorkflowTransportAction(TransportService transportService, ActionFilters actionFilters, SearchHandler searchHandler) {
+    public SearchWorkflowTransportAction(
+        TransportService transportService,
+        ActionFilters actionFilters,
+        SearchHandler searchHandler,
+        FlowFrameworkIndicesHandler flowFrameworkIndicesHandler
+    ) {
         super(SearchWorkflowAction.NAME, transportService, actionFilters, SearchRequest::new);
         this.searchHandler = searchHandler;
+        this.flowFrameworkIndicesHandler = flowFrameworkIndicesHandler;
     }
 
     @Override
-    protected void doExecute(Task task, SearchRequest request, ActionListener<SearchResponse> actionListener) {
+    protected void doExecute(Task task, SearchRequest request, ActionListener<FlowFrameworkSearchResponse> actionListener) {
         try {
             // We used the SearchRequest preference field to convey a tenant id if any
             String tenantId = null;
@@ -53,7 +67,30 @@ public class SearchWorkflowTransportAction extends HandledTransportAction<Search
                 tenantId = request.preference();
                 request.preference(null);
             }
-            searchHandler.search(request, tenantId, CommonValue.WORKFLOW_RESOURCE_TYPE, actionListener);
+            // Documents referencing a shared workflows section must keep the reference through any includes of the request
+            FetchSourceContext requested = request.source() == null ? null : request.source().fetchSource();
+            String[] requestedIncludes = requested == null ? Strings.EMPTY_ARRAY : requested.includes();
+            if (requestedIncludes.length > 0) {
+                String[] includes = ArrayUtils.addAll(requestedIncludes, WORKFLOWS_HASH_FIELD, WORKFLOWS_PARAMS_FIELD);
+                request.source().fetchSource(new FetchSourceContext(requested.fetchSource(), includes, requested.excludes()));
+            }
+            String searchTenantId = tenantId;
+            searchHandler.search(request, tenantId, CommonValue.WORKFLOW_RESOURCE_TYPE, ActionListener.wrap(response -> {
+                // The source filtering applied by the search, including the excludes of secured fields
+                FetchSourceContext applied = request.source() == null ? null : request.source().fetchSource();
+                FetchSourceContext resolvedFilter = applied == null
+                    ? null
+                    : new FetchSourceContext(true, requestedIncludes, applied.excludes());
+                flowFrameworkIndicesHandler.resolveSearchResponseReferences(
+                    response.getContent(),
+                    resolvedFilter,
+                    searchTenantId,
+                    ActionListener.wrap(
+                        content -> actionListener.onResponse(new FlowFrameworkSearchResponse(content, response.isTimedOut())),
+                        actionListener::onFailure
+                    )
+                );
+            }, actionListener::onFailure));
         } catch (Exception e) {
             String errorMessage = "Failed to search workflows in global context";
             logger.error(errorMessage, e);
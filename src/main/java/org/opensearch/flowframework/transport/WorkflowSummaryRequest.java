@@ -0,0 +1,80 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * The OpenSearch Contributors require contributions made to
+ * this file be licensed under the Apache-2.0 license or a
+ * compatible open source license.
+ */
+package org.opensearch.flowframework.transport;
+
+import org.opensearch.action.ActionRequest;
+import org.opensearch.action.ActionRequestValidationException;
+import org.opensearch.common.Nullable;
+import org.opensearch.core.common.io.stream.StreamInput;
+import org.opensearch.core.common.io.stream.StreamOutput;
+
+import java.io.IOException;
+
+/**
+ * Transport Request to summarize the workflows and workflow states
+ */
+public class WorkflowSummaryRequest extends ActionRequest {
+
+    /** The default date histogram interval of the summary */
+    public static final String DEFAULT_INTERVAL = "1d";
+
+    @Nullable
+    private final String tenantId;
+    private final String interval;
+
+    /**
+     * Instantiates a new WorkflowSummaryRequest
+     * @param tenantId the tenant id
+     * @param interval the calendar interval to bucket provisioning times by
+     */
+    public WorkflowSummaryRequest(@Nullable String tenantId, String interval) {
+        this.tenantId = tenantId;
+        this.interval = interval;
+    }
+
+    /**
+     * Instantiates a new WorkflowSummaryRequest from an input stream
+     * @param in the input stream to read from
+     * @throws IOException if the stream cannot be read
+     */
+    public WorkflowSummaryRequest(StreamInput in) throws IOException {
+        super(in);
+        this.tenantId = in.readOptionalString();
+        this.interval = in.readString();
+    }
+
+    /**
+     * Gets the tenant Id
+     * @return the tenant Id
+     */
+    @Nullable
+    public String getTenantId() {
+        return this.tenantId;
+    }
+
+    /**
+     * Gets the calendar interval to bucket provisioning times by
+     * @return the interval
+     */
+    public String getInterval() {
+        return this.interval;
+    }
+
+    @Override
+    public void writeTo(StreamOutput out) throws IOException {
+        super.writeTo(out);
+        out.writeOptionalString(tenantId);
+        out.writeString(interval);
+    }
+
+    @Override
+    public ActionRequestValidationException validate() {
+        return null;
+    }
+}
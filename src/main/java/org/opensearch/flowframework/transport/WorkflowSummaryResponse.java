@@ -0,0 +1,179 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * The OpenSearch Contributors require contributions made to
+ * this file be licensed under the Apache-2.0 license or a
+ * compatible open source license.
+ */
+package org.opensearch.flowframework.transport;
+
+import org.opensearch.core.action.ActionResponse;
+import org.opensearch.core.common.io.stream.StreamInput;
+import org.opensearch.core.common.io.stream.StreamOutput;
+import org.opensearch.core.xcontent.ToXContentObject;
+import org.opensearch.core.xcontent.XContentBuilder;
+
+import java.io.IOException;
+import java.util.Map;
+
+/**
+ * Transport Response with the counts of workflows and workflow states, grouped by the fields dashboards chart
+ */
+public class WorkflowSummaryResponse extends ActionResponse implements ToXContentObject {
+
+    /** The field name for the summary of the workflow states */
+    public static final String WORKFLOW_STATES_FIELD = "workflow_states";
+    /** The field name for the summary of the workflows */
+    public static final String WORKFLOWS_FIELD = "workflows";
+    /** The field name for the number of documents summarized */
+    public static final String TOTAL_FIELD = "total";
+    /** The field name for the number of workflow states with an error */
+    public static final String FAILED_FIELD = "failed";
+
+    /** The field name for whether the aggregations timed out */
+    public static final String TIMED_OUT_FIELD = "timed_out";
+
+    private final WorkflowCounts workflowStates;
+    private final WorkflowCounts workflows;
+    private final boolean timedOut;
+
+    /**
+     * Instantiates a new WorkflowSummaryResponse
+     * @param workflowStates the counts of workflow states
+     * @param workflows the counts of workflows
+     * @param timedOut whether either aggregation timed out, in which case the counts may be partial
+     */
+    public WorkflowSummaryResponse(WorkflowCounts workflowStates, WorkflowCounts workflows, boolean timedOut) {
+        this.workflowStates = workflowStates;
+        this.workflows = workflows;
+        this.timedOut = timedOut;
+    }
+
+    /**
+     * Instantiates a new WorkflowSummaryResponse from an input stream
+     * @param in the input stream to read from
+     * @throws IOException if the stream cannot be read
+     */
+    public WorkflowSummaryResponse(StreamInput in) throws IOException {
+        super(in);
+        this.workflowStates = new WorkflowCounts(in);
+        this.workflows = new WorkflowCounts(in);
+        this.timedOut = in.readBoolean();
+    }
+
+    @Override
+    public void writeTo(StreamOutput out) throws IOException {
+        workflowStates.writeTo(out);
+        workflows.writeTo(out);
+        out.writeBoolean(timedOut);
+    }
+
+    /**
+     * Gets the counts of workflow states
+     * @return the workflow state counts
+     */
+    public WorkflowCounts getWorkflowStates() {
+        return workflowStates;
+    }
+
+    /**
+     * Gets the counts of workflows
+     * @return the workflow counts
+     */
+    public WorkflowCounts getWorkflows() {
+        return workflows;
+    }
+
+    /**
+     * Whether either aggregation timed out
+     * @return true if the counts may be partial
+     */
+    public boolean isTimedOut() {
+        return timedOut;
+    }
+
+    @Override
+    public XContentBuilder toXContent(XContentBuilder builder, Params params) throws IOException {
+        builder.startObject();
+        builder.field(TIMED_OUT_FIELD, timedOut);
+        builder.field(WORKFLOW_STATES_FIELD);
+        workflowStates.toXContent(builder);
+        builder.field(WORKFLOWS_FIELD);
+        workflows.toXContent(builder);
+        return builder.endObject();
+    }
+
+    /**
+     * The counts of the documents of one index, in total and grouped by the values of some of their fields
+     */
+    public static class WorkflowCounts {
+
+        private final long total;
+        private final long failed;
+        private final Map<String, Map<String, Long>> groups;
+
+        /**
+         * Instantiates a new WorkflowCounts
+         * @param total the number of documents
+         * @param failed the number of documents with an error, or -1 if not applicable
+         * @param groups the document counts of each value, keyed by the name of the grouped field
+         */
+        public WorkflowCounts(long total, long failed, Map<String, Map<String, Long>> groups) {
+            this.total = total;
+            this.failed = failed;
+            this.groups = groups;
+        }
+
+        private WorkflowCounts(StreamInput in) throws IOException {
+            this.total = in.readVLong();
+            this.failed = in.readLong();
+            this.groups = in.readOrderedMap(
+                StreamInput::readString,
+                i -> i.readOrderedMap(StreamInput::readString, StreamInput::readVLong)
+            );
+        }
+
+        private void writeTo(StreamOutput out) throws IOException {
+            out.writeVLong(total);
+            out.writeLong(failed);
+            out.writeMap(groups, StreamOutput::writeString, (o, m) -> o.writeMap(m, StreamOutput::writeString, StreamOutput::writeVLong));
+        }
+
+        /**
+         * Gets the number of documents
+         * @return the total count
+         */
+        public long getTotal() {
+            return total;
+        }
+
+        /**
+         * Gets the number of documents with an error
+         * @return the failed count, or -1 if not applicable
+         */
+        public long getFailed() {
+            return failed;
+        }
+
+        /**
+         * Gets the document counts of each value of the grouped fields
+         * @return the counts, keyed by the name of the grouped field
+         */
+        public Map<String, Map<String, Long>> getGroups() {
+            return groups;
+        }
+
+        private void toXContent(XContentBuilder builder) throws IOException {
+            builder.startObject();
+            builder.field(TOTAL_FIELD, total);
+            if (failed >= 0) {
+                builder.field(FAILED_FIELD, failed);
+            }
+            for (Map.Entry<String, Map<String, Long>> group : groups.entrySet()) {
+                builder.field(group.getKey(), group.getValue());
+            }
+            builder.endObject();
+        }
+    }
+}
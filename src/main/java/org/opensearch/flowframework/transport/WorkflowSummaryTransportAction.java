@@ -0,0 +1,234 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * The OpenSearch Contributors require contributions made to
+ * this file be licensed under the Apache-2.0 license or a
+ * compatible open source license.
+ */
+package org.opensearch.flowframework.transport;
+
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+import org.opensearch.ExceptionsHelper;
+import org.opensearch.action.search.SearchRequest;
+import org.opensearch.action.support.ActionFilters;
+import org.opensearch.action.support.HandledTransportAction;
+import org.opensearch.common.cache.Cache;
+import org.opensearch.common.cache.CacheBuilder;
+import org.opensearch.common.inject.Inject;
+import org.opensearch.common.xcontent.XContentHelper;
+import org.opensearch.common.xcontent.XContentType;
+import org.opensearch.commons.authuser.User;
+import org.opensearch.core.action.ActionListener;
+import org.opensearch.flowframework.common.FlowFrameworkSettings;
+import org.opensearch.flowframework.exception.FlowFrameworkException;
+import org.opensearch.flowframework.transport.WorkflowSummaryResponse.WorkflowCounts;
+import org.opensearch.flowframework.transport.handler.SearchHandler;
+import org.opensearch.flowframework.util.ParseUtils;
+import org.opensearch.index.IndexNotFoundException;
+import org.opensearch.index.query.QueryBuilders;
+import org.opensearch.search.aggregations.AggregationBuilders;
+import org.opensearch.search.aggregations.bucket.histogram.DateHistogramAggregationBuilder;
+import org.opensearch.search.aggregations.bucket.histogram.DateHistogramInterval;
+import org.opensearch.search.aggregations.bucket.terms.TermsAggregationBuilder;
+import org.opensearch.search.builder.SearchSourceBuilder;
+import org.opensearch.tasks.Task;
+import org.opensearch.transport.TransportService;
+import org.opensearch.transport.client.Client;
+
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+import static org.opensearch.flowframework.common.CommonValue.ERROR_FIELD;
+import static org.opensearch.flowframework.common.CommonValue.GLOBAL_CONTEXT_INDEX;
+import static org.opensearch.flowframework.common.CommonValue.LAST_PROVISIONED_TIME_FIELD;
+import static org.opensearch.flowframework.common.CommonValue.PROVISIONING_PROGRESS_FIELD;
+import static org.opensearch.flowframework.common.CommonValue.PROVISION_START_TIME_FIELD;
+import static org.opensearch.flowframework.common.CommonValue.STATE_FIELD;
+import static org.opensearch.flowframework.common.CommonValue.TENANT_ID_FIELD;
+import static org.opensearch.flowframework.common.CommonValue.USE_CASE;
+import static org.opensearch.flowframework.common.CommonValue.WORKFLOW_RESOURCE_TYPE;
+import static org.opensearch.flowframework.common.CommonValue.WORKFLOW_STATE_INDEX;
+import static org.opensearch.flowframework.common.CommonValue.WORKFLOW_STATE_RESOURCE_TYPE;
+import static org.opensearch.flowframework.transport.WorkflowSummaryResponse.FAILED_FIELD;
+
+/**
+ * Transport Action to summarize the workflows and workflow states.
+ * <p>
+ * The counts are computed by size zero aggregations in the indices, through the {@link SearchHandler} so that the same
+ * backend role filtering applies as when searching, and no document is returned. Summaries are cached per user, tenant
+ * and interval for a few seconds, as dashboards poll them.
+ */
+public class WorkflowSummaryTransportAction extends HandledTransportAction<WorkflowSummaryRequest, WorkflowSummaryResponse> {
+
+    private final Logger logger = LogManager.getLogger(WorkflowSummaryTransportAction.class);
+
+    /** The max number of values counted for each grouped field */
+    static final int TERMS_SIZE = 100;
+    /** The max number of cached summaries */
+    static final int MAX_CACHED_SUMMARIES = 1000;
+    private static final String AGGREGATIONS_FIELD = "aggregations";
+    private static final String BUCKETS_FIELD = "buckets";
+
+    private final SearchHandler searchHandler;
+    private final FlowFrameworkSettings flowFrameworkSettings;
+    private final Client client;
+    private final Cache<String, CachedSummary> cache = CacheBuilder.<String, CachedSummary>builder()
+        .setMaximumWeight(MAX_CACHED_SUMMARIES)
+        .build();
+
+    /**
+     * Instantiates a new WorkflowSummaryTransportAction
+     * @param transportService the TransportService
+     * @param actionFilters action filters
+     * @param searchHandler The SearchHandler
+     * @param flowFrameworkSettings the plugin settings
+     * @param client the OpenSearch client
+     */
+    @Inject
+    public WorkflowSummaryTransportAction(
+        TransportService transportService,
+        ActionFilters actionFilters,
+        SearchHandler searchHandler,
+        FlowFrameworkSettings flowFrameworkSettings,
+        Client client
+    ) {
+        super(WorkflowSummaryAction.NAME, transportService, actionFilters, WorkflowSummaryRequest::new);
+        this.searchHandler = searchHandler;
+        this.flowFrameworkSettings = flowFrameworkSettings;
+        this.client = client;
+    }
+
+    @Override
+    protected void doExecute(Task task, WorkflowSummaryRequest request, ActionListener<WorkflowSummaryResponse> listener) {
+        try {
+            String key = cacheKey(ParseUtils.getUserContext(client), request);
+            CachedSummary cached = cache.get(key);
+            if (cached != null && System.nanoTime() - cached.cachedAtNanos < flowFrameworkSettings.getSummaryCacheTtl().nanos()) {
+                listener.onResponse(cached.response);
+                return;
+            }
+            SearchSourceBuilder stateSource = summarySource();
+            stateSource.aggregation(terms(STATE_FIELD));
+            stateSource.aggregation(terms(PROVISIONING_PROGRESS_FIELD));
+            stateSource.aggregation(terms(TENANT_ID_FIELD));
+            stateSource.aggregation(dateHistogram(PROVISION_START_TIME_FIELD, request.getInterval()));
+            stateSource.aggregation(AggregationBuilders.filter(FAILED_FIELD, QueryBuilders.existsQuery(ERROR_FIELD)));
+            SearchRequest stateSearch = new SearchRequest(WORKFLOW_STATE_INDEX).source(stateSource);
+
+            SearchSourceBuilder workflowSource = summarySource();
+            workflowSource.aggregation(terms(USE_CASE));
+            workflowSource.aggregation(terms(TENANT_ID_FIELD));
+            workflowSource.aggregation(dateHistogram(LAST_PROVISIONED_TIME_FIELD, request.getInterval()));
+            SearchRequest workflowSearch = new SearchRequest(GLOBAL_CONTEXT_INDEX).source(workflowSource);
+
+            String tenantId = request.getTenantId();
+            searchHandler.search(stateSearch, tenantId, WORKFLOW_STATE_RESOURCE_TYPE, ActionListener.wrap(stateResponse -> {
+                WorkflowCounts stateCounts = parseCounts(stateResponse, true);
+                searchHandler.search(workflowSearch, tenantId, WORKFLOW_RESOURCE_TYPE, ActionListener.wrap(workflowResponse -> {
+                    boolean timedOut = stateResponse.isTimedOut() || workflowResponse.isTimedOut();
+                    WorkflowSummaryResponse response = new WorkflowSummaryResponse(
+                        stateCounts,
+                        parseCounts(workflowResponse, false),
+                        timedOut
+                    );
+                    if (!timedOut) {
+                        cache.put(key, new CachedSummary(response, System.nanoTime()));
+                    }
+                    listener.onResponse(response);
+                }, e -> onSearchFailure(e, stateCounts, listener)));
+            }, e -> onSearchFailure(e, null, listener)));
+        } catch (Exception e) {
+            String errorMessage = "Failed to summarize workflows";
+            logger.error(errorMessage, e);
+            listener.onFailure(new FlowFrameworkException(errorMessage, ExceptionsHelper.status(e)));
+        }
+    }
+
+    /**
+     * A missing index has nothing to count, so the summary of a cluster without workflows is all zeros rather than an error
+     */
+    private void onSearchFailure(Exception e, WorkflowCounts stateCounts, ActionListener<WorkflowSummaryResponse> listener) {
+        if (ExceptionsHelper.unwrap(e, IndexNotFoundException.class) == null) {
+            String errorMessage = "Failed to summarize workflows";
+            logger.error(errorMessage, e);
+            listener.onFailure(new FlowFrameworkException(errorMessage, ExceptionsHelper.status(e)));
+            return;
+        }
+        WorkflowCounts empty = new WorkflowCounts(0, -1, Collections.emptyMap());
+        if (stateCounts == null) {
+            // A state is created with each workflow, so without a state index there are no workflows to count
+            listener.onResponse(new WorkflowSummaryResponse(new WorkflowCounts(0, 0, Collections.emptyMap()), empty, false));
+        } else {
+            listener.onResponse(new WorkflowSummaryResponse(stateCounts, empty, false));
+        }
+    }
+
+    private SearchSourceBuilder summarySource() {
+        return new SearchSourceBuilder().size(0).trackTotalHits(true).timeout(flowFrameworkSettings.getRequestTimeout());
+    }
+
+    private static TermsAggregationBuilder terms(String field) {
+        return AggregationBuilders.terms(field).field(field).size(TERMS_SIZE);
+    }
+
+    private static DateHistogramAggregationBuilder dateHistogram(String field, String interval) {
+        return AggregationBuilders.dateHistogram(field).field(field).calendarInterval(new DateHistogramInterval(interval)).minDocCount(1);
+    }
+
+    /**
+     * Reads the counts out of the aggregations of a search response
+     * @param searchResponse the size zero search response
+     * @param countFailed whether the response has a failed count
+     * @return the counts
+     */
+    @SuppressWarnings("unchecked")
+    static WorkflowCounts parseCounts(FlowFrameworkSearchResponse searchResponse, boolean countFailed) {
+        Map<String, Object> content = XContentHelper.convertToMap(searchResponse.getContent(), true, XContentType.JSON).v2();
+        Map<String, Object> hits = (Map<String, Object>) content.getOrDefault("hits", Collections.emptyMap());
+        Object total = hits.get("total");
+        long totalCount = total instanceof Map ? toLong(((Map<String, Object>) total).get("value")) : toLong(total);
+        Map<String, Object> aggregations = (Map<String, Object>) content.getOrDefault(AGGREGATIONS_FIELD, Collections.emptyMap());
+        long failed = -1;
+        Map<String, Map<String, Long>> groups = new LinkedHashMap<>();
+        for (Map.Entry<String, Object> aggregation : aggregations.entrySet()) {
+            Map<String, Object> result = (Map<String, Object>) aggregation.getValue();
+            if (FAILED_FIELD.equals(aggregation.getKey())) {
+                failed = toLong(result.get("doc_count"));
+                continue;
+            }
+            Map<String, Long> counts = new LinkedHashMap<>();
+            for (Map<String, Object> bucket : (List<Map<String, Object>>) result.getOrDefault(BUCKETS_FIELD, Collections.emptyList())) {
+                Object key = bucket.containsKey("key_as_string") ? bucket.get("key_as_string") : bucket.get("key");
+                counts.put(String.valueOf(key), toLong(bucket.get("doc_count")));
+            }
+            groups.put(aggregation.getKey(), counts);
+        }
+        return new WorkflowCounts(totalCount, countFailed ? Math.max(failed, 0) : -1, groups);
+    }
+
+    private static long toLong(Object value) {
+        return value instanceof Number ? ((Number) value).longValue() : 0;
+    }
+
+    /**
+     * Summaries are filtered by the backend roles of the user, so they are only shared between requests of the same identity
+     */
+    private static String cacheKey(User user, WorkflowSummaryRequest request) {
+        String identity = user == null ? "" : user.getName() + "|" + user.getBackendRoles() + "|" + user.getRoles();
+        return (request.getTenantId() == null ? "" : request.getTenantId()) + "/" + request.getInterval() + "/" + identity;
+    }
+
+    private static final class CachedSummary {
+        private final WorkflowSummaryResponse response;
+        private final long cachedAtNanos;
+
+        private CachedSummary(WorkflowSummaryResponse response, long cachedAtNanos) {
+            this.response = response;
+            this.cachedAtNanos = cachedAtNanos;
+        }
+    }
+}
@@ -8,27 +8,47 @@
  */
 package org.opensearch.flowframework.transport.handler;
 
+import org.apache.commons.lang3.ArrayUtils;
 import org.apache.logging.log4j.LogManager;
 import org.apache.logging.log4j.Logger;
 import org.opensearch.action.search.SearchRequest;
-import org.opensearch.action.search.SearchResponse;
 import org.opensearch.cluster.service.ClusterService;
+import org.opensearch.common.io.stream.BytesStreamOutput;
 import org.opensearch.common.settings.Setting;
 import org.opensearch.common.settings.Settings;
 import org.opensearch.common.util.concurrent.ThreadContext;
+import org.opensearch.common.xcontent.XContentHelper;
+import org.opensearch.common.xcontent.XContentType;
+import org.opensearch.common.xcontent.support.XContentMapValues;
 import org.opensearch.commons.authuser.User;
 import org.opensearch.core.action.ActionListener;
+import org.opensearch.core.common.Strings;
+import org.opensearch.core.common.bytes.BytesReference;
+import org.opensearch.core.xcontent.NamedXContentRegistry;
+import org.opensearch.core.xcontent.XContentBuilder;
+import org.opensearch.core.xcontent.XContentParser;
 import org.opensearch.flowframework.exception.FlowFrameworkException;
+import org.opensearch.flowframework.transport.FlowFrameworkSearchResponse;
 import org.opensearch.flowframework.util.ParseUtils;
 import org.opensearch.remote.metadata.client.SdkClient;
 import org.opensearch.remote.metadata.client.SearchDataObjectRequest;
 import org.opensearch.remote.metadata.common.SdkClientUtils;
 import org.opensearch.search.builder.SearchSourceBuilder;
+import org.opensearch.search.fetch.subphase.FetchSourceContext;
 import org.opensearch.transport.client.Client;
 
+import java.io.IOException;
 import java.util.Arrays;
+import java.util.Base64;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Set;
 
 import static org.opensearch.core.rest.RestStatus.INTERNAL_SERVER_ERROR;
+import static org.opensearch.core.xcontent.XContentParserUtils.ensureExpectedToken;
+import static org.opensearch.flowframework.common.CommonValue.ENCODED_BODY_FIELD;
+import static org.opensearch.flowframework.common.FlowFrameworkSettings.DOCUMENT_BODY_ENCODING;
 import static org.opensearch.flowframework.util.ParseUtils.isAdmin;
 import static org.opensearch.flowframework.util.ParseUtils.shouldUseResourceAuthz;
 import static org.opensearch.flowframework.util.RestHandlerUtils.getSourceContext;
@@ -37,10 +57,16 @@ import static org.opensearch.flowframework.util.RestHandlerUtils.getSourceContex
  * Handle general search request, check user role and return search response.
  */
 public class SearchHandler {
+    /** The path of the source of the hits in a search response */
+    private static final String HITS_SOURCE_PATH = "hits.hits._source.";
+    private static final String TIMED_OUT_FIELD = "timed_out";
+    private static final String HITS_FIELD = "hits";
+    private static final String SOURCE_FIELD = "_source";
     private final Logger logger = LogManager.getLogger(SearchHandler.class);
     private final Client client;
     private final SdkClient sdkClient;
     private volatile Boolean filterByBackendRole;
+    private volatile String documentBodyEncoding;
 
     /**
      * Instantiates a new SearchHandler
@@ -61,6 +87,8 @@ public class SearchHandler {
         this.sdkClient = sdkClient;
         filterByBackendRole = filterByBackendRoleSetting.get(settings);
         clusterService.getClusterSettings().addSettingsUpdateConsumer(filterByBackendRoleSetting, it -> filterByBackendRole = it);
+        documentBodyEncoding = DOCUMENT_BODY_ENCODING.get(settings);
+        clusterService.getClusterSettings().addSettingsUpdateConsumer(DOCUMENT_BODY_ENCODING, it -> documentBodyEncoding = it);
     }
 
     /**
@@ -71,13 +99,50 @@ public class SearchHandler {
      * @param resourceType   the resource type
      * @param actionListener ActionListener
      */
-    public void search(SearchRequest request, String tenantId, String resourceType, ActionListener<SearchResponse> actionListener) {
+    public void search(
+        SearchRequest request,
+        String tenantId,
+        String resourceType,
+        ActionListener<FlowFrameworkSearchResponse> actionListener
+    ) {
+        search(request, tenantId, resourceType, false, actionListener);
+    }
+
+    /**
+     * Search workflows in global context, optionally returning the secured fields of the documents
+     *
+     * @param request        SearchRequest
+     * @param tenantId       the tenant ID
+     * @param resourceType   the resource type
+     * @param securedFields  whether to return the secured fields such as encrypted credentials, only honored for admin users
+     * @param actionListener ActionListener
+     */
+    public void search(
+        SearchRequest request,
+        String tenantId,
+        String resourceType,
+        boolean securedFields,
+        ActionListener<FlowFrameworkSearchResponse> actionListener
+    ) {
         // AccessController should take care of letting the user with right permission to view the workflow
         User user = ParseUtils.getUserContext(client);
         try (ThreadContext.StoredContext context = client.threadPool().getThreadContext().stashContext()) {
             logger.info("Searching workflows in global context");
             SearchSourceBuilder searchSourceBuilder = request.source();
-            searchSourceBuilder.fetchSource(getSourceContext(user, searchSourceBuilder));
+            if (!securedFields || (user != null && !isAdmin(user))) {
+                searchSourceBuilder.fetchSource(getSourceContext(user, searchSourceBuilder));
+            }
+            // Fields moved into the encoded body are only filtered once it is decoded, so it must survive the includes
+            FetchSourceContext fetchSource = searchSourceBuilder.fetchSource();
+            if (fetchSource != null && fetchSource.includes().length > 0) {
+                searchSourceBuilder.fetchSource(
+                    new FetchSourceContext(
+                        fetchSource.fetchSource(),
+                        ArrayUtils.add(fetchSource.includes(), ENCODED_BODY_FIELD),
+                        fetchSource.excludes()
+                    )
+                );
+            }
             validateRole(request, tenantId, user, resourceType, actionListener, context);
         } catch (Exception e) {
             logger.error("Failed to search workflows in global context", e);
@@ -99,7 +164,7 @@ public class SearchHandler {
         String tenantId,
         User user,
         String resourceType,
-        ActionListener<SearchResponse> listener,
+        ActionListener<FlowFrameworkSearchResponse> listener,
         ThreadContext.StoredContext context
     ) {
         if (shouldUseResourceAuthz(resourceType)) {
@@ -124,7 +189,14 @@ public class SearchHandler {
         }
     }
 
-    private void doSearch(SearchRequest request, String tenantId, ActionListener<SearchResponse> listener) {
+    /**
+     * Whether document bodies are written in a binary encoding, and so must be decoded in search results
+     */
+    private boolean isBodyEncoded() {
+        return documentBodyEncoding != null && !"json".equals(documentBodyEncoding);
+    }
+
+    private void doSearch(SearchRequest request, String tenantId, ActionListener<FlowFrameworkSearchResponse> listener) {
         SearchDataObjectRequest searchRequest = SearchDataObjectRequest.builder()
             .indices(request.indices())
             .tenantId(tenantId)
@@ -133,8 +205,12 @@ public class SearchHandler {
         sdkClient.searchDataObjectAsync(searchRequest).whenComplete((r, throwable) -> {
             if (throwable == null) {
                 try {
-                    SearchResponse searchResponse = SearchResponse.fromXContent(r.parser());
-                    logger.info(Arrays.toString(request.indices()) + " search complete: {}", searchResponse.getHits().getTotalHits());
+                    FlowFrameworkSearchResponse searchResponse = copySearchResponse(
+                        r.parser(),
+                        request.source() == null ? null : request.source().fetchSource(),
+                        isBodyEncoded()
+                    );
+                    logger.info(Arrays.toString(request.indices()) + " search complete: {} bytes", searchResponse.getContent().length());
                     listener.onResponse(searchResponse);
                 } catch (Exception e) {
                     logger.error("Failed to parse search response", e);
@@ -147,4 +223,107 @@ public class SearchHandler {
             }
         });
     }
+
+    /**
+     * Copies a search response token by token, without building its hits, into the content of the response to return.
+     * Fields excluded from the source of the hits are redacted from the stream, in case the data store did not apply them.
+     * @param parser the parser of the search response
+     * @param fetchSource the source filtering of the request, may be null
+     * @param decodeEncodedBodies whether to decode the encoded body of the hits back into their source
+     * @return the search response
+     * @throws IOException if the response cannot be read
+     */
+    static FlowFrameworkSearchResponse copySearchResponse(
+        XContentParser parser,
+        FetchSourceContext fetchSource,
+        boolean decodeEncodedBodies
+    ) throws IOException {
+        String[] includes = fetchSource == null ? Strings.EMPTY_ARRAY : fetchSource.includes();
+        String[] sourceExcludes = fetchSource == null ? Strings.EMPTY_ARRAY : fetchSource.excludes();
+        Set<String> excludes = new HashSet<>();
+        for (String exclude : sourceExcludes) {
+            excludes.add(HITS_SOURCE_PATH + exclude);
+        }
+        if (!decodeEncodedBodies) {
+            // A body encoded under an earlier setting may hold excluded fields, so it is never returned undecoded
+            excludes.add(HITS_SOURCE_PATH + ENCODED_BODY_FIELD);
+        }
+        boolean timedOut = false;
+        try (
+            XContentParser p = parser;
+            XContentBuilder builder = new XContentBuilder(XContentType.JSON.xContent(), new BytesStreamOutput(), Set.of(), excludes)
+        ) {
+            ensureExpectedToken(XContentParser.Token.START_OBJECT, p.nextToken(), p);
+            builder.startObject();
+            while (p.nextToken() == XContentParser.Token.FIELD_NAME) {
+                String fieldName = p.currentName();
+                p.nextToken();
+                if (TIMED_OUT_FIELD.equals(fieldName)) {
+                    timedOut = p.booleanValue();
+                }
+                builder.field(fieldName);
+                if (decodeEncodedBodies && HITS_FIELD.equals(fieldName) && p.currentToken() == XContentParser.Token.START_OBJECT) {
+                    copyHits(p, builder, includes, sourceExcludes);
+                } else {
+                    builder.copyCurrentStructure(p);
+                }
+            }
+            builder.endObject();
+            return new FlowFrameworkSearchResponse(BytesReference.bytes(builder), timedOut);
+        }
+    }
+
+    /**
+     * Copies the hits section of a search response, decoding the source of each hit holding an encoded body
+     */
+    private static void copyHits(XContentParser p, XContentBuilder builder, String[] includes, String[] excludes) throws IOException {
+        builder.startObject();
+        while (p.nextToken() == XContentParser.Token.FIELD_NAME) {
+            String fieldName = p.currentName();
+            p.nextToken();
+            builder.field(fieldName);
+            if (!HITS_FIELD.equals(fieldName) || p.currentToken() != XContentParser.Token.START_ARRAY) {
+                builder.copyCurrentStructure(p);
+                continue;
+            }
+            builder.startArray();
+            while (p.nextToken() == XContentParser.Token.START_OBJECT) {
+                builder.startObject();
+                while (p.nextToken() == XContentParser.Token.FIELD_NAME) {
+                    String hitFieldName = p.currentName();
+                    p.nextToken();
+                    builder.field(hitFieldName);
+                    if (SOURCE_FIELD.equals(hitFieldName) && p.currentToken() == XContentParser.Token.START_OBJECT) {
+                        builder.map(decodeEncodedBody(p.mapOrdered(), includes, excludes));
+                    } else {
+                        builder.copyCurrentStructure(p);
+                    }
+                }
+                builder.endObject();
+            }
+            builder.endArray();
+        }
+        builder.endObject();
+    }
+
+    /**
+     * Decodes the encoded body of the source of a hit back into the source, then applies the source filtering of the request
+     * to it, so that excluded fields such as credentials are never returned inside the body.
+     * @param source the source of the hit
+     * @param includes the fields included in the source of the hits
+     * @param excludes the fields excluded from the source of the hits
+     * @return the decoded source, or the source itself if it holds no encoded body
+     * @throws IOException if the encoded body cannot be read
+     */
+    static Map<String, Object> decodeEncodedBody(Map<String, Object> source, String[] includes, String[] excludes) throws IOException {
+        if (!(source.get(ENCODED_BODY_FIELD) instanceof String)) {
+            return source;
+        }
+        Map<String, Object> decoded = new LinkedHashMap<>(source);
+        byte[] encodedBody = Base64.getDecoder().decode((String) decoded.remove(ENCODED_BODY_FIELD));
+        try (XContentParser parser = ParseUtils.createEncodedBodyParser(NamedXContentRegistry.EMPTY, encodedBody)) {
+            XContentHelper.update(decoded, parser.map(), false);
+        }
+        return XContentMapValues.filter(decoded, includes, excludes);
+    }
 }
@@ -0,0 +1,310 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * The OpenSearch Contributors require contributions made to
+ * this file be licensed under the Apache-2.0 license or a
+ * compatible open source license.
+ */
+package org.opensearch.flowframework.util;
+
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+import org.opensearch.common.settings.Settings;
+import org.opensearch.common.util.concurrent.OpenSearchExecutors;
+import org.opensearch.flowframework.common.FlowFrameworkSettings;
+import org.opensearch.monitor.jvm.JvmStats;
+import org.opensearch.monitor.process.ProcessProbe;
+import org.opensearch.threadpool.Scheduler;
+import org.opensearch.threadpool.ThreadPool;
+
+import java.lang.management.ManagementFactory;
+import java.lang.management.ThreadInfo;
+import java.lang.management.ThreadMXBean;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.IntSupplier;
+import java.util.function.Supplier;
+
+import static org.opensearch.flowframework.common.CommonValue.DEPROVISION_WORKFLOW_THREAD_POOL;
+import static org.opensearch.flowframework.common.CommonValue.PROVISION_WORKFLOW_THREAD_POOL;
+import static org.opensearch.flowframework.common.CommonValue.WORKFLOW_THREAD_POOL;
+
+/**
+ * Periodically resizes the max size of this plugin's thread pools based on their load and the resource pressure of the node.
+ * <p>
+ * A pool grows when its tasks wait longer than the target queue latency and either most of its busy threads are blocked
+ * waiting on remote calls, or the node has CPU to spare. It shrinks under CPU or heap pressure, or when it is mostly idle.
+ * The max size always stays between the configured min size and the configured size of the pool.
+ */
+public class AdaptiveThreadPoolSizer {
+
+    private static final Logger logger = LogManager.getLogger(AdaptiveThreadPoolSizer.class);
+
+    /** CPU percent at or above which the pools shrink */
+    static final int CPU_HIGH_WATERMARK = 90;
+    /** CPU percent below which the pools may grow even if their threads are not blocked */
+    static final int CPU_LOW_WATERMARK = 75;
+    /** Heap used percent at or above which the pools shrink */
+    static final int HEAP_HIGH_WATERMARK = 85;
+    /** Fraction of busy threads which must be waiting for the pools to grow regardless of CPU */
+    static final double BLOCKED_RATIO_THRESHOLD = 0.5;
+
+    private final ThreadPool threadPool;
+    private final FlowFrameworkSettings flowFrameworkSettings;
+    private final int allocatedProcessors;
+    private final IntSupplier cpuPercent;
+    private final IntSupplier heapUsedPercent;
+    private final ThreadMXBean threadMXBean = ManagementFactory.getThreadMXBean();
+    /** Start time of the pending latency probe of each pool, or -1 once the probe ran */
+    private final Map<String, AtomicLong> probeStartNanos = new ConcurrentHashMap<>();
+    /** Latest measured queue latency of each pool */
+    private final Map<String, Long> queueLatencyNanos = new ConcurrentHashMap<>();
+    /** Ids of the live threads of each pool, so that only those threads are sampled */
+    private final Map<String, Set<Long>> poolThreadIds = new ConcurrentHashMap<>();
+    private volatile Scheduler.Cancellable scheduled;
+
+    /**
+     * Instantiates a new AdaptiveThreadPoolSizer
+     * @param threadPool the OpenSearch thread pool
+     * @param flowFrameworkSettings the plugin settings
+     * @param settings the node settings
+     */
+    public AdaptiveThreadPoolSizer(ThreadPool threadPool, FlowFrameworkSettings flowFrameworkSettings, Settings settings) {
+        this(
+            threadPool,
+            flowFrameworkSettings,
+            settings,
+            () -> ProcessProbe.getInstance().getProcessCpuPercent(),
+            () -> JvmStats.jvmStats().getMem().getHeapUsedPercent()
+        );
+    }
+
+    AdaptiveThreadPoolSizer(
+        ThreadPool threadPool,
+        FlowFrameworkSettings flowFrameworkSettings,
+        Settings settings,
+        IntSupplier cpuPercent,
+        IntSupplier heapUsedPercent
+    ) {
+        this.threadPool = threadPool;
+        this.flowFrameworkSettings = flowFrameworkSettings;
+        this.allocatedProcessors = OpenSearchExecutors.allocatedProcessors(settings);
+        this.cpuPercent = cpuPercent;
+        this.heapUsedPercent = heapUsedPercent;
+    }
+
+    /**
+     * Computes the max size of one of this plugin's thread pools
+     * @param configuredSize the configured size of the pool
+     * @param allocatedProcessors the number of processors allocated to the node
+     * @return the max size of the pool
+     */
+    public static int maxPoolSize(int configuredSize, int allocatedProcessors) {
+        return Math.max(configuredSize, allocatedProcessors - 1);
+    }
+
+    /**
+     * Starts resizing the thread pools periodically
+     */
+    public void start() {
+        if (scheduled == null) {
+            scheduled = threadPool.scheduleWithFixedDelay(
+                this::resizeAll,
+                flowFrameworkSettings.getThreadPoolAutosizeInterval(),
+                ThreadPool.Names.GENERIC
+            );
+        }
+    }
+
+    /**
+     * Stops resizing the thread pools
+     */
+    public void stop() {
+        if (scheduled != null) {
+            scheduled.cancel();
+            scheduled = null;
+        }
+    }
+
+    /**
+     * Resizes each of this plugin's thread pools once
+     */
+    void resizeAll() {
+        try {
+            resize(WORKFLOW_THREAD_POOL, flowFrameworkSettings::getWorkflowThreadPoolSize);
+            resize(PROVISION_WORKFLOW_THREAD_POOL, flowFrameworkSettings::getProvisionThreadPoolSize);
+            resize(DEPROVISION_WORKFLOW_THREAD_POOL, flowFrameworkSettings::getDeprovisionThreadPoolSize);
+        } catch (Exception e) {
+            logger.warn("Failed to resize the flow framework thread pools", e);
+        }
+    }
+
+    private void resize(String name, Supplier<Integer> configuredSize) {
+        if (threadPool.info(name) == null) {
+            return;
+        }
+        ExecutorService executorService = threadPool.executor(name);
+        if (!(executorService instanceof ThreadPoolExecutor)) {
+            return;
+        }
+        ThreadPoolExecutor executor = (ThreadPoolExecutor) executorService;
+        int upperBound = maxPoolSize(configuredSize.get(), allocatedProcessors);
+        int current = executor.getMaximumPoolSize();
+        int target;
+        if (flowFrameworkSettings.isThreadPoolAutosizeEnabled()) {
+            long latencyMillis = TimeUnit.NANOSECONDS.toMillis(measureQueueLatency(name, executor));
+            int active = executor.getActiveCount();
+            target = nextMaxSize(
+                current,
+                Math.min(flowFrameworkSettings.getThreadPoolMinSize(), upperBound),
+                upperBound,
+                latencyMillis,
+                flowFrameworkSettings.getThreadPoolTargetQueueLatency().millis(),
+                executor.getQueue().size(),
+                active,
+                blockedRatio(name, executor.getPoolSize(), active),
+                cpuPercent.getAsInt(),
+                heapUsedPercent.getAsInt()
+            );
+        } else {
+            target = upperBound;
+        }
+        target = Math.max(target, executor.getCorePoolSize());
+        if (target != current) {
+            logger.debug("Resizing thread pool [{}] from {} to {} threads", name, current, target);
+            executor.setMaximumPoolSize(target);
+        }
+    }
+
+    /**
+     * Computes the next max size of a thread pool
+     * @param current the current max size
+     * @param min the smallest allowed max size
+     * @param max the largest allowed max size
+     * @param queueLatencyMillis how long tasks wait in the queue before they run
+     * @param targetQueueLatencyMillis the queue latency above which the pool grows
+     * @param queued the number of queued tasks
+     * @param active the number of threads executing a task
+     * @param blockedRatio the fraction of active threads which are waiting or blocked
+     * @param cpuPercent the CPU usage of the process
+     * @param heapUsedPercent the heap usage of the JVM
+     * @return the next max size, between min and max
+     */
+    static int nextMaxSize(
+        int current,
+        int min,
+        int max,
+        long queueLatencyMillis,
+        long targetQueueLatencyMillis,
+        int queued,
+        int active,
+        double blockedRatio,
+        int cpuPercent,
+        int heapUsedPercent
+    ) {
+        int step = Math.max(1, current / 4);
+        boolean underPressure = cpuPercent >= CPU_HIGH_WATERMARK || heapUsedPercent >= HEAP_HIGH_WATERMARK;
+        boolean canGrow = blockedRatio >= BLOCKED_RATIO_THRESHOLD || cpuPercent < CPU_LOW_WATERMARK;
+        int next = current;
+        if (underPressure) {
+            next = current - step;
+        } else if (queueLatencyMillis >= targetQueueLatencyMillis && canGrow) {
+            next = current + step;
+        } else if (queued == 0 && active * 2 < current) {
+            next = current - 1;
+        }
+        return Math.max(min, Math.min(max, next));
+    }
+
+    /**
+     * Measures how long tasks wait in the queue of a pool, by submitting a probe task and timing when it runs.
+     * If the previous probe is still pending, its wait so far is a lower bound of the latency.
+     */
+    private long measureQueueLatency(String name, ThreadPoolExecutor executor) {
+        AtomicLong pending = probeStartNanos.computeIfAbsent(name, n -> new AtomicLong(-1));
+        long start = pending.get();
+        if (start >= 0) {
+            return Math.max(queueLatencyNanos.getOrDefault(name, 0L), System.nanoTime() - start);
+        }
+        long submitted = System.nanoTime();
+        pending.set(submitted);
+        try {
+            executor.execute(() -> {
+                queueLatencyNanos.put(name, System.nanoTime() - submitted);
+                pending.set(-1);
+            });
+        } catch (RejectedExecutionException e) {
+            pending.set(-1);
+        }
+        return queueLatencyNanos.getOrDefault(name, 0L);
+    }
+
+    /**
+     * Computes the fraction of the busy threads of a pool which are waiting or blocked, e.g. on a remote call.
+     * Idle threads park waiting for a task, so they are not counted.
+     */
+    private double blockedRatio(String name, int poolSize, int active) {
+        if (active == 0) {
+            return 0;
+        }
+        int waiting = 0;
+        for (ThreadInfo info : poolThreadInfos(name, poolSize)) {
+            switch (info.getThreadState()) {
+                case BLOCKED:
+                case WAITING:
+                case TIMED_WAITING:
+                    waiting++;
+                    break;
+                default:
+                    break;
+            }
+        }
+        int idle = Math.max(0, poolSize - active);
+        return Math.min(1.0, Math.max(0, waiting - idle) / (double) active);
+    }
+
+    /**
+     * Samples the threads of a pool. The ids of the pool's threads are remembered, and all the threads of the JVM are only
+     * scanned again when the pool has more threads than are known, i.e. when it started new threads.
+     */
+    private List<ThreadInfo> poolThreadInfos(String name, int poolSize) {
+        Set<Long> threadIds = poolThreadIds.computeIfAbsent(name, n -> ConcurrentHashMap.newKeySet());
+        List<ThreadInfo> infos = liveThreadInfos(threadIds);
+        if (infos.size() < poolSize) {
+            String threadNameMarker = "[" + name + "]";
+            for (ThreadInfo info : threadMXBean.getThreadInfo(threadMXBean.getAllThreadIds())) {
+                if (info != null && info.getThreadName().contains(threadNameMarker)) {
+                    threadIds.add(info.getThreadId());
+                }
+            }
+            infos = liveThreadInfos(threadIds);
+        }
+        return infos;
+    }
+
+    /**
+     * Samples the given threads, and forgets those which have terminated
+     */
+    private List<ThreadInfo> liveThreadInfos(Set<Long> threadIds) {
+        long[] ids = threadIds.stream().mapToLong(Long::longValue).toArray();
+        List<ThreadInfo> infos = new ArrayList<>(ids.length);
+        ThreadInfo[] sampled = threadMXBean.getThreadInfo(ids);
+        for (int i = 0; i < ids.length; i++) {
+            if (sampled[i] == null) {
+                threadIds.remove(ids[i]);
+            } else {
+                infos.add(sampled[i]);
+            }
+        }
+        return infos;
+    }
+}
@@ -207,6 +207,41 @@ public class EncryptorUtils {
      * @return the encrypted credential
      */
     String encrypt(final String credential, @Nullable String tenantId) {
+        awaitMasterKey(tenantId);
+        final AwsCrypto crypto = AwsCrypto.builder().withCommitmentPolicy(CommitmentPolicy.RequireEncryptRequireDecrypt).build();
+        return encrypt(crypto, jceMasterKey(tenantId), credential);
+    }
+
+    private static String encrypt(AwsCrypto crypto, JceMasterKey jceMasterKey, String credential) {
+        final CryptoResult<byte[], JceMasterKey> encryptResult = crypto.encryptData(
+            jceMasterKey,
+            credential.getBytes(StandardCharsets.UTF_8)
+        );
+        return Base64.getEncoder().encodeToString(encryptResult.getResult());
+    }
+
+    /**
+     * Encrypts the credentials of a batch of templates of one tenant.
+     * The master key is fetched and the cipher is built once for the batch, rather than once per credential.
+     * @param templates the templates to encrypt
+     * @param tenantId The tenant id. If null, encrypts for the default tenant id.
+     * @return the templates with encrypted credentials, in the same order
+     */
+    public List<Template> encryptTemplateCredentials(List<Template> templates, @Nullable String tenantId) {
+        if (templates.isEmpty()) {
+            return templates;
+        }
+        awaitMasterKey(tenantId);
+        final AwsCrypto crypto = AwsCrypto.builder().withCommitmentPolicy(CommitmentPolicy.RequireEncryptRequireDecrypt).build();
+        JceMasterKey jceMasterKey = jceMasterKey(tenantId);
+        List<Template> encryptedTemplates = new ArrayList<>(templates.size());
+        for (Template template : templates) {
+            encryptedTemplates.add(processTemplateCredentials(template, (credential, t) -> encrypt(crypto, jceMasterKey, credential)));
+        }
+        return encryptedTemplates;
+    }
+
+    private void awaitMasterKey(@Nullable String tenantId) {
         CountDownLatch latch = new CountDownLatch(1);
         initializeMasterKeyIfAbsent(tenantId).whenComplete((v, throwable) -> latch.countDown());
         try {
@@ -217,15 +252,11 @@ public class EncryptorUtils {
             Thread.currentThread().interrupt();
             throw new FlowFrameworkException("Interrupted while initializing master key", RestStatus.REQUEST_TIMEOUT);
         }
+    }
 
-        final AwsCrypto crypto = AwsCrypto.builder().withCommitmentPolicy(CommitmentPolicy.RequireEncryptRequireDecrypt).build();
+    private JceMasterKey jceMasterKey(@Nullable String tenantId) {
         byte[] bytes = Base64.getDecoder().decode(getMasterKey(tenantId));
-        JceMasterKey jceMasterKey = JceMasterKey.getInstance(new SecretKeySpec(bytes, ALGORITHM), PROVIDER, "", WRAPPING_ALGORITHM);
-        final CryptoResult<byte[], JceMasterKey> encryptResult = crypto.encryptData(
-            jceMasterKey,
-            credential.getBytes(StandardCharsets.UTF_8)
-        );
-        return Base64.getEncoder().encodeToString(encryptResult.getResult());
+        return JceMasterKey.getInstance(new SecretKeySpec(bytes, ALGORITHM), PROVIDER, "", WRAPPING_ALGORITHM);
     }
 
     /**
@@ -235,19 +266,9 @@ public class EncryptorUtils {
      * @return the decrypted credential
      */
     String decrypt(final String encryptedCredential, @Nullable String tenantId) {
-        CountDownLatch latch = new CountDownLatch(1);
-        initializeMasterKeyIfAbsent(tenantId).whenComplete((v, throwable) -> latch.countDown());
-        try {
-            if (!latch.await(5, TimeUnit.SECONDS)) {
-                throw new FlowFrameworkException("Timeout while initializing master key", RestStatus.INTERNAL_SERVER_ERROR);
-            }
-        } catch (InterruptedException e) {
-            Thread.currentThread().interrupt();
-            throw new FlowFrameworkException("Interrupted while initializing master key", RestStatus.REQUEST_TIMEOUT);
-        }
+        awaitMasterKey(tenantId);
         final AwsCrypto crypto = AwsCrypto.builder().withCommitmentPolicy(CommitmentPolicy.RequireEncryptRequireDecrypt).build();
-        byte[] bytes = Base64.getDecoder().decode(getMasterKey(tenantId));
-        JceMasterKey jceMasterKey = JceMasterKey.getInstance(new SecretKeySpec(bytes, ALGORITHM), PROVIDER, "", WRAPPING_ALGORITHM);
+        JceMasterKey jceMasterKey = jceMasterKey(tenantId);
 
         final CryptoResult<byte[], JceMasterKey> decryptedResult = crypto.decryptData(
             jceMasterKey,
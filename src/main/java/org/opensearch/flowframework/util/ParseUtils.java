@@ -17,9 +17,11 @@ import org.apache.lucene.search.join.ScoreMode;
 import org.opensearch.action.get.GetResponse;
 import org.opensearch.cluster.service.ClusterService;
 import org.opensearch.common.Booleans;
+import org.opensearch.common.CheckedConsumer;
 import org.opensearch.common.io.Streams;
 import org.opensearch.common.util.concurrent.ThreadContext;
 import org.opensearch.common.xcontent.LoggingDeprecationHandler;
+import org.opensearch.common.xcontent.XContentFactory;
 import org.opensearch.common.xcontent.XContentHelper;
 import org.opensearch.common.xcontent.XContentType;
 import org.opensearch.common.xcontent.json.JsonXContent;
@@ -27,9 +29,14 @@ import org.opensearch.commons.ConfigConstants;
 import org.opensearch.commons.authuser.User;
 import org.opensearch.core.action.ActionListener;
 import org.opensearch.core.action.ActionResponse;
+import org.opensearch.core.common.bytes.BytesArray;
 import org.opensearch.core.common.bytes.BytesReference;
+import org.opensearch.core.compress.CompressorRegistry;
 import org.opensearch.core.rest.RestStatus;
+import org.opensearch.core.xcontent.MediaType;
+import org.opensearch.core.xcontent.MediaTypeRegistry;
 import org.opensearch.core.xcontent.NamedXContentRegistry;
+import org.opensearch.core.xcontent.ToXContent;
 import org.opensearch.core.xcontent.XContentBuilder;
 import org.opensearch.core.xcontent.XContentParser;
 import org.opensearch.flowframework.common.CommonValue;
@@ -53,12 +60,15 @@ import org.opensearch.transport.client.Client;
 import java.io.FileNotFoundException;
 import java.io.IOException;
 import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
 import java.time.Instant;
 import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.HashMap;
 import java.util.HashSet;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Locale;
 import java.util.Map;
 import java.util.Map.Entry;
 import java.util.Objects;
@@ -72,6 +82,8 @@ import jakarta.json.bind.Jsonb;
 import jakarta.json.bind.JsonbBuilder;
 
 import static org.opensearch.core.xcontent.XContentParserUtils.ensureExpectedToken;
+import static org.opensearch.flowframework.common.CommonValue.BODY_ENCODING_PARAM;
+import static org.opensearch.flowframework.common.CommonValue.CONFIGURATIONS;
 import static org.opensearch.flowframework.common.CommonValue.GLOBAL_CONTEXT_INDEX;
 import static org.opensearch.flowframework.common.CommonValue.WORKFLOW_STATE_INDEX;
 
@@ -562,6 +574,65 @@ public class ParseUtils {
         }
     }
 
+    /**
+     * Get the binary content type requested for the encoded body of a system index document
+     *
+     * @param params the params passed to toXContent
+     * @return the binary content type, or null if the body should be written inline
+     */
+    public static XContentType getBodyEncoding(ToXContent.Params params) {
+        String encoding = params == null ? null : params.param(BODY_ENCODING_PARAM);
+        if (encoding == null) {
+            return null;
+        }
+        switch (encoding.toLowerCase(Locale.ROOT)) {
+            case "smile":
+                return XContentType.SMILE;
+            case "cbor":
+                return XContentType.CBOR;
+            default:
+                return null;
+        }
+    }
+
+    /**
+     * Writes the encoded body field of a system index document. The body is written in the given binary content type
+     * and compressed, since the JSON source of the document stores binary values base64 encoded.
+     *
+     * @param builder the builder of the document
+     * @param encoding the binary content type of the body
+     * @param body writes the fields of the body into an object which has already been started
+     * @throws IOException if the body cannot be written
+     */
+    public static void writeEncodedBody(
+        XContentBuilder builder,
+        XContentType encoding,
+        CheckedConsumer<XContentBuilder, IOException> body
+    ) throws IOException {
+        XContentBuilder bodyBuilder = XContentBuilder.builder(encoding.xContent()).startObject();
+        body.accept(bodyBuilder);
+        bodyBuilder.endObject();
+        BytesReference compressed = CompressorRegistry.defaultCompressor().compress(BytesReference.bytes(bodyBuilder));
+        builder.field(CommonValue.ENCODED_BODY_FIELD, BytesReference.toBytes(compressed));
+    }
+
+    /**
+     * Creates a XContentParser over the encoded body of a system index document, detecting its binary content type
+     *
+     * @param xContentRegistry main registry for serializable content
+     * @param encodedBody the encoded body bytes, optionally compressed
+     * @return a parser positioned before the start of the encoded body
+     * @throws IOException if the content type cannot be detected or the parser cannot be created
+     */
+    public static XContentParser createEncodedBodyParser(NamedXContentRegistry xContentRegistry, byte[] encodedBody) throws IOException {
+        BytesReference bytes = CompressorRegistry.uncompressIfNeeded(new BytesArray(encodedBody));
+        MediaType mediaType = MediaTypeRegistry.xContentType(bytes);
+        if (mediaType == null) {
+            throw new FlowFrameworkException("Unable to detect the content type of an encoded body", RestStatus.INTERNAL_SERVER_ERROR);
+        }
+        return XContentHelper.createParser(xContentRegistry, LoggingDeprecationHandler.INSTANCE, bytes, mediaType);
+    }
+
     /**
      * Creates a XContentParser from a given Registry
      *
@@ -656,7 +727,10 @@ public class ParseUtils {
             }
             if (value != null) {
                 // Check for any substitution(s) in value, list, or map
-                if (value instanceof Map) {
+                if (CONFIGURATIONS.equals(key) && value instanceof Map) {
+                    // Structured configurations are substituted in place rather than as an encoded string
+                    value = substituteLeaves(value, outputs, params);
+                } else if (value instanceof Map) {
                     @SuppressWarnings("unchecked")
                     Map<String, Object> valueMap = (Map<String, Object>) value;
                     value = valueMap.entrySet()
@@ -699,38 +773,73 @@ public class ParseUtils {
      */
     public static Object conditionallySubstitute(Object value, Map<String, WorkflowData> outputs, Map<String, String> params) {
         if (value instanceof String) {
-            Matcher m = SUBSTITUTION_PATTERN.matcher((String) value);
-            StringBuilder result = new StringBuilder();
-            while (m.find() && outputs != null) {
-                // outputs content map contains values for previous node input (e.g: deploy_openai_model.model_id)
-                // Check first if the substitution is looking for the same key, value pair and if yes
-                // then replace it with the key value pair in the inputs map
-                String replacement = m.group(0);
-                if (outputs.containsKey(m.group(1)) && outputs.get(m.group(1)).getContent().containsKey(m.group(2))) {
-                    // Extract the key for the inputs (e.g., "model_id" from ${{deploy_openai_model.model_id}})
-                    String key = m.group(2);
-                    if (outputs.get(m.group(1)).getContent().get(key) instanceof String) {
-                        replacement = (String) outputs.get(m.group(1)).getContent().get(key);
-                        // Replace the whole sequence with the value from the map
-                        m.appendReplacement(result, Matcher.quoteReplacement(replacement));
-                    }
+            return substitute((String) value, outputs, params, true);
+        }
+        return value;
+    }
+
+    /**
+     * Executes substitution on the string leaves of a structured value, such as parsed configurations. Substituted values
+     * are not escaped as they are never embedded in a JSON string.
+     *
+     * @param value   the map, list or leaf value that will have the substitution done on
+     * @param outputs potential location of values to be substituted in
+     * @param params  potential location of values to be subsituted in
+     * @return a copy of the value with its leaves substituted
+     */
+    public static Object substituteLeaves(Object value, Map<String, WorkflowData> outputs, Map<String, String> params) {
+        if (value instanceof Map) {
+            Map<String, Object> substituted = new LinkedHashMap<>();
+            for (Map.Entry<?, ?> e : ((Map<?, ?>) value).entrySet()) {
+                substituted.put(e.getKey().toString(), substituteLeaves(e.getValue(), outputs, params));
+            }
+            return substituted;
+        } else if (value instanceof List) {
+            return ((List<?>) value).stream().map(v -> substituteLeaves(v, outputs, params)).collect(Collectors.toList());
+        } else if (value instanceof String) {
+            return substitute((String) value, outputs, params, false);
+        }
+        return value;
+    }
+
+    private static String substitute(String value, Map<String, WorkflowData> outputs, Map<String, String> params, boolean escapeJson) {
+        // Both output and param substitutions start with this sequence
+        if (!value.contains("${{")) {
+            return value;
+        }
+        Matcher m = SUBSTITUTION_PATTERN.matcher(value);
+        StringBuilder result = new StringBuilder();
+        while (m.find() && outputs != null) {
+            // outputs content map contains values for previous node input (e.g: deploy_openai_model.model_id)
+            // Check first if the substitution is looking for the same key, value pair and if yes
+            // then replace it with the key value pair in the inputs map
+            String replacement = m.group(0);
+            if (outputs.containsKey(m.group(1)) && outputs.get(m.group(1)).getContent().containsKey(m.group(2))) {
+                // Extract the key for the inputs (e.g., "model_id" from ${{deploy_openai_model.model_id}})
+                String key = m.group(2);
+                if (outputs.get(m.group(1)).getContent().get(key) instanceof String) {
+                    replacement = (String) outputs.get(m.group(1)).getContent().get(key);
+                    // Replace the whole sequence with the value from the map
+                    m.appendReplacement(result, Matcher.quoteReplacement(replacement));
                 }
             }
-            m.appendTail(result);
-            value = result.toString();
+        }
+        m.appendTail(result);
+        value = result.toString();
 
-            if (params != null) {
-                for (Map.Entry<String, String> e : params.entrySet()) {
-                    String regex = "\\$\\{\\{\\s*" + Pattern.quote(e.getKey()) + "\\s*\\}\\}";
-                    String replacement = e.getValue();
+        if (params != null) {
+            for (Map.Entry<String, String> e : params.entrySet()) {
+                String regex = "\\$\\{\\{\\s*" + Pattern.quote(e.getKey()) + "\\s*\\}\\}";
+                String replacement = e.getValue();
 
+                if (escapeJson) {
                     // Correctly escape backslashes, newlines, and quotes for JSON compatibility
                     replacement = replacement.replace("\\", "\\\\").replace("\"", "\\\"").replace("\n", "\\n");
-
-                    // Use Matcher.quoteReplacement to handle special replacement characters like $ and \ that weren't previously handled
-                    replacement = Matcher.quoteReplacement(replacement);
-                    value = ((String) value).replaceAll(regex, replacement);
                 }
+
+                // Use Matcher.quoteReplacement to handle special replacement characters like $ and \ that weren't previously handled
+                replacement = Matcher.quoteReplacement(replacement);
+                value = value.replaceAll(regex, replacement);
             }
         }
         return value;
@@ -788,6 +897,41 @@ public class ParseUtils {
         return result.toString();
     }
 
+    /**
+     * Gets the configurations input of a step as a map, whether given as a structured object or as a JSON string
+     *
+     * @param configurations the configurations input
+     * @return the configurations map, empty if given an empty string
+     */
+    @SuppressWarnings("unchecked")
+    public static Map<String, Object> configurationsToMap(Object configurations) {
+        if (configurations instanceof Map) {
+            return (Map<String, Object>) configurations;
+        }
+        String configurationsString = configurations.toString();
+        if (configurationsString.isEmpty()) {
+            return new HashMap<>();
+        }
+        return XContentHelper.convertToMap(new BytesArray(configurationsString), false, MediaTypeRegistry.JSON).v2();
+    }
+
+    /**
+     * Gets the configurations input of a pipeline step as a JSON request body. Structured configurations are encoded once,
+     * while JSON strings have the quotes and backslashes around string arrays removed.
+     *
+     * @param configurations the configurations input
+     * @return the request body
+     * @throws IOException if the configurations cannot be encoded
+     */
+    @SuppressWarnings("unchecked")
+    public static BytesReference configurationsToBytes(Object configurations) throws IOException {
+        if (configurations instanceof Map) {
+            return BytesReference.bytes(XContentFactory.jsonBuilder().map((Map<String, Object>) configurations));
+        }
+        String transformed = removingBackslashesAndQuotesInArrayInJsonString(configurations.toString());
+        return new BytesArray(transformed.getBytes(StandardCharsets.UTF_8));
+    }
+
     /**
      * Takes a String to json object map and converts this to a String to String map
      * @param stringToObjectMap The string to object map to be transformed
@@ -835,20 +979,46 @@ public class ParseUtils {
     }
 
     /**
-     * Compares workflow node user inputs
+     * Compares workflow node user inputs. Configurations are compared as maps, as templates stored before structured
+     * configurations were supported hold them as encoded strings.
      * @param originalInputs the original node user inputs
      * @param updatedInputs the updated node user inputs
      * @throws Exception for issues processing map
      * @return boolean if equivalent
      */
     public static boolean userInputsEquals(Map<String, Object> originalInputs, Map<String, Object> updatedInputs) throws Exception {
-        String originalInputsJson = parseArbitraryStringToObjectMapToString(originalInputs);
-        String updatedInputsJson = parseArbitraryStringToObjectMapToString(updatedInputs);
+        String originalInputsJson = parseArbitraryStringToObjectMapToString(withStructuredConfigurations(originalInputs));
+        String updatedInputsJson = parseArbitraryStringToObjectMapToString(withStructuredConfigurations(updatedInputs));
         JsonElement elem1 = JsonParser.parseString(originalInputsJson);
         JsonElement elem2 = JsonParser.parseString(updatedInputsJson);
         return elem1.equals(elem2);
     }
 
+    /**
+     * Gets a copy of user inputs with encoded string configurations parsed to a map
+     * @param userInputs the node user inputs
+     * @return the user inputs, with configurations as a map if they could be parsed
+     */
+    private static Map<String, Object> withStructuredConfigurations(Map<String, Object> userInputs) {
+        Object configurations = userInputs.get(CONFIGURATIONS);
+        if (configurations == null || configurations instanceof Map) {
+            return userInputs;
+        }
+        Map<String, Object> inputs = new HashMap<>(userInputs);
+        try {
+            inputs.put(
+                CONFIGURATIONS,
+                configurations.toString().isEmpty()
+                    ? new HashMap<>()
+                    : XContentHelper.convertToMap(configurationsToBytes(configurations), false, MediaTypeRegistry.JSON).v2()
+            );
+        } catch (Exception e) {
+            // Not valid JSON, compared as a string
+            logger.debug("Failed to parse configurations, comparing them as a string", e);
+        }
+        return inputs;
+    }
+
     /**
      * Flattens a nested map of settings, delimitted by a period
      * @param prefix the setting prefix
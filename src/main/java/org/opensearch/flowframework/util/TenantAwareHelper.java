@@ -15,6 +15,7 @@ import org.opensearch.flowframework.exception.FlowFrameworkException;
 import org.opensearch.flowframework.transport.WorkflowResponse;
 import org.opensearch.rest.RestRequest;
 
+import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Objects;
@@ -155,6 +156,30 @@ public class TenantAwareHelper {
         release(tenantId, activeDeprovisionsPerTenant);
     }
 
+    /**
+     * Gets the number of active provisions of each tenant on this node.
+     *
+     * @return a snapshot of the active provision count per tenant ID
+     */
+    public static Map<String, Integer> getActiveProvisionsPerTenant() {
+        return snapshot(activeProvisionsPerTenant);
+    }
+
+    /**
+     * Gets the number of active deprovisions of each tenant on this node.
+     *
+     * @return a snapshot of the active deprovision count per tenant ID
+     */
+    public static Map<String, Integer> getActiveDeprovisionsPerTenant() {
+        return snapshot(activeDeprovisionsPerTenant);
+    }
+
+    private static Map<String, Integer> snapshot(ConcurrentHashMap<String, AtomicInteger> executionsMap) {
+        Map<String, Integer> snapshot = new HashMap<>();
+        executionsMap.forEach((tenantId, count) -> snapshot.put(tenantId, count.get()));
+        return snapshot;
+    }
+
     /**
      * Attempts to acquire an execution slot for the given tenant.
      *
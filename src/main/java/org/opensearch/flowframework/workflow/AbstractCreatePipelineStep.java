@@ -18,7 +18,6 @@ import org.opensearch.action.support.PlainActionFuture;
 import org.opensearch.action.support.clustermanager.AcknowledgedResponse;
 import org.opensearch.common.xcontent.XContentType;
 import org.opensearch.core.action.ActionListener;
-import org.opensearch.core.common.bytes.BytesArray;
 import org.opensearch.core.common.bytes.BytesReference;
 import org.opensearch.flowframework.exception.FlowFrameworkException;
 import org.opensearch.flowframework.exception.WorkflowStepException;
@@ -27,7 +26,7 @@ import org.opensearch.flowframework.util.ParseUtils;
 import org.opensearch.transport.client.Client;
 import org.opensearch.transport.client.ClusterAdminClient;
 
-import java.nio.charset.StandardCharsets;
+import java.io.IOException;
 import java.util.Map;
 import java.util.Set;
 
@@ -85,14 +84,7 @@ public abstract class AbstractCreatePipelineStep implements WorkflowStep {
             );
 
             String pipelineId = (String) inputs.get(PIPELINE_ID);
-            String configurations = (String) inputs.get(CONFIGURATIONS);
-
-            // Special case for processors that have arrays that need to have the quotes around or
-            // backslashes around strings in array removed
-            String transformedJsonStringForStringArray = ParseUtils.removingBackslashesAndQuotesInArrayInJsonString(configurations);
-
-            byte[] byteArr = transformedJsonStringForStringArray.getBytes(StandardCharsets.UTF_8);
-            BytesReference configurationsBytes = new BytesArray(byteArr);
+            BytesReference configurationsBytes = ParseUtils.configurationsToBytes(inputs.get(CONFIGURATIONS));
 
             String pipelineToBeCreated = this.getName();
             ActionListener<AcknowledgedResponse> putPipelineActionListener = new ActionListener<>() {
@@ -134,7 +126,7 @@ public abstract class AbstractCreatePipelineStep implements WorkflowStep {
                 clusterAdminClient.putPipeline(putPipelineRequest, putPipelineActionListener);
             }
 
-        } catch (FlowFrameworkException e) {
+        } catch (FlowFrameworkException | IOException e) {
             createPipelineFuture.onFailure(e);
         }
         return createPipelineFuture;
@@ -12,24 +12,17 @@ import org.apache.logging.log4j.LogManager;
 import org.apache.logging.log4j.Logger;
 import org.apache.logging.log4j.message.ParameterizedMessageFactory;
 import org.opensearch.action.support.PlainActionFuture;
-import org.opensearch.common.unit.TimeValue;
-import org.opensearch.common.util.concurrent.FutureUtils;
 import org.opensearch.core.action.ActionListener;
 import org.opensearch.core.rest.RestStatus;
-import org.opensearch.flowframework.common.FlowFrameworkSettings;
 import org.opensearch.flowframework.exception.FlowFrameworkException;
 import org.opensearch.flowframework.exception.WorkflowStepException;
 import org.opensearch.flowframework.indices.FlowFrameworkIndicesHandler;
-import org.opensearch.ml.client.MachineLearningNodeClient;
 import org.opensearch.ml.common.MLTask;
-import org.opensearch.threadpool.ThreadPool;
 
 import java.util.HashMap;
 import java.util.Map;
-import java.util.concurrent.CompletableFuture;
 
 import static org.opensearch.flowframework.common.CommonValue.REGISTER_MODEL_STATUS;
-import static org.opensearch.flowframework.common.CommonValue.WORKFLOW_THREAD_POOL;
 import static org.opensearch.flowframework.common.WorkflowResources.getResourceByWorkflowStep;
 
 /**
@@ -37,28 +30,17 @@ import static org.opensearch.flowframework.common.WorkflowResources.getResourceB
  */
 public abstract class AbstractRetryableWorkflowStep implements WorkflowStep {
     private static final Logger logger = LogManager.getLogger(AbstractRetryableWorkflowStep.class);
-    private TimeValue retryDuration;
-    private final MachineLearningNodeClient mlClient;
     private final FlowFrameworkIndicesHandler flowFrameworkIndicesHandler;
-    private ThreadPool threadPool;
+    private final MLTaskPoller mlTaskPoller;
 
     /**
      * Instantiates a new Retryable workflow step
-     * @param threadPool The OpenSearch thread pool
-     * @param mlClient machine learning client
      * @param flowFrameworkIndicesHandler FlowFrameworkIndicesHandler class to update system indices
-     * @param flowFrameworkSettings settings of flow framework
+     * @param mlTaskPoller the poller shared by the steps waiting on ml tasks
      */
-    protected AbstractRetryableWorkflowStep(
-        ThreadPool threadPool,
-        MachineLearningNodeClient mlClient,
-        FlowFrameworkIndicesHandler flowFrameworkIndicesHandler,
-        FlowFrameworkSettings flowFrameworkSettings
-    ) {
-        this.threadPool = threadPool;
-        this.retryDuration = flowFrameworkSettings.getRetryDuration();
-        this.mlClient = mlClient;
+    protected AbstractRetryableWorkflowStep(FlowFrameworkIndicesHandler flowFrameworkIndicesHandler, MLTaskPoller mlTaskPoller) {
         this.flowFrameworkIndicesHandler = flowFrameworkIndicesHandler;
+        this.mlTaskPoller = mlTaskPoller;
     }
 
     /**
@@ -80,60 +62,48 @@ public abstract class AbstractRetryableWorkflowStep implements WorkflowStep {
         String tenantId,
         ActionListener<WorkflowData> mlTaskListener
     ) {
-        CompletableFuture.runAsync(() -> {
-            do {
-                mlClient.getTask(taskId, tenantId, ActionListener.wrap(response -> {
-                    String resourceName = getResourceByWorkflowStep(getName());
-                    String id = getResourceId(response);
-                    switch (response.getState()) {
-                        case COMPLETED:
-                            logger.info("{} successful for {} and {} {}", workflowStep, currentNodeInputs, resourceName, id);
-                            ActionListener<WorkflowData> resourceListener = ActionListener.wrap(r -> {
-                                Map<String, Object> content = new HashMap<>(r.getContent());
-                                content.put(REGISTER_MODEL_STATUS, response.getState().toString());
-                                mlTaskListener.onResponse(new WorkflowData(content, r.getWorkflowId(), r.getNodeId()));
-                            }, mlTaskListener::onFailure);
-                            flowFrameworkIndicesHandler.addResourceToStateIndex(
-                                currentNodeInputs,
-                                nodeId,
-                                getName(),
-                                id,
-                                tenantId,
-                                resourceListener
-                            );
-                            break;
-                        case FAILED:
-                        case COMPLETED_WITH_ERROR:
-                            String errorMessage = ParameterizedMessageFactory.INSTANCE.newMessage(
-                                "{} failed with error : {}",
-                                workflowStep,
-                                response.getError()
-                            ).getFormattedMessage();
-                            logger.error(errorMessage);
-                            mlTaskListener.onFailure(new FlowFrameworkException(errorMessage, RestStatus.BAD_REQUEST));
-                            break;
-                        case CANCELLED:
-                            errorMessage = ParameterizedMessageFactory.INSTANCE.newMessage("{} task was cancelled.", workflowStep)
-                                .getFormattedMessage();
-                            logger.error(errorMessage);
-                            mlTaskListener.onFailure(new FlowFrameworkException(errorMessage, RestStatus.REQUEST_TIMEOUT));
-                            break;
-                        default:
-                            // Task started or running, do nothing
-                    }
-                }, exception -> {
-                    String errorMessage = ParameterizedMessageFactory.INSTANCE.newMessage("{} failed", workflowStep).getFormattedMessage();
-                    logger.error(errorMessage, exception);
-                    mlTaskListener.onFailure(new WorkflowStepException(errorMessage, RestStatus.BAD_REQUEST));
-                }));
-                try {
-                    Thread.sleep(this.retryDuration.getMillis());
-                } catch (InterruptedException e) {
-                    FutureUtils.cancel(future);
-                    Thread.currentThread().interrupt();
-                }
-            } while (!future.isDone());
-        }, threadPool.executor(WORKFLOW_THREAD_POOL));
+        mlTaskPoller.poll(taskId, tenantId, future, ActionListener.wrap(response -> {
+            String resourceName = getResourceByWorkflowStep(getName());
+            String id = getResourceId(response);
+            switch (response.getState()) {
+                case COMPLETED:
+                    logger.info("{} successful for {} and {} {}", workflowStep, currentNodeInputs, resourceName, id);
+                    ActionListener<WorkflowData> resourceListener = ActionListener.wrap(r -> {
+                        Map<String, Object> content = new HashMap<>(r.getContent());
+                        content.put(REGISTER_MODEL_STATUS, response.getState().toString());
+                        mlTaskListener.onResponse(new WorkflowData(content, r.getWorkflowId(), r.getNodeId()));
+                    }, mlTaskListener::onFailure);
+                    flowFrameworkIndicesHandler.addResourceToStateIndex(
+                        currentNodeInputs,
+                        nodeId,
+                        getName(),
+                        id,
+                        tenantId,
+                        resourceListener
+                    );
+                    break;
+                case FAILED:
+                case COMPLETED_WITH_ERROR:
+                    String errorMessage = ParameterizedMessageFactory.INSTANCE.newMessage(
+                        "{} failed with error : {}",
+                        workflowStep,
+                        response.getError()
+                    ).getFormattedMessage();
+                    logger.error(errorMessage);
+                    mlTaskListener.onFailure(new FlowFrameworkException(errorMessage, RestStatus.BAD_REQUEST));
+                    break;
+                default:
+                    // The only other finished state
+                    errorMessage = ParameterizedMessageFactory.INSTANCE.newMessage("{} task was cancelled.", workflowStep)
+                        .getFormattedMessage();
+                    logger.error(errorMessage);
+                    mlTaskListener.onFailure(new FlowFrameworkException(errorMessage, RestStatus.REQUEST_TIMEOUT));
+            }
+        }, exception -> {
+            String errorMessage = ParameterizedMessageFactory.INSTANCE.newMessage("{} failed", workflowStep).getFormattedMessage();
+            logger.error(errorMessage, exception);
+            mlTaskListener.onFailure(new WorkflowStepException(errorMessage, RestStatus.BAD_REQUEST));
+        }));
     }
 
     /**
@@ -15,7 +15,6 @@ import org.opensearch.ExceptionsHelper;
 import org.opensearch.action.support.PlainActionFuture;
 import org.opensearch.action.support.clustermanager.AcknowledgedResponse;
 import org.opensearch.core.action.ActionListener;
-import org.opensearch.core.common.bytes.BytesArray;
 import org.opensearch.core.common.bytes.BytesReference;
 import org.opensearch.flowframework.exception.FlowFrameworkException;
 import org.opensearch.flowframework.exception.WorkflowStepException;
@@ -23,7 +22,7 @@ import org.opensearch.flowframework.util.ParseUtils;
 import org.opensearch.transport.client.Client;
 import org.opensearch.transport.client.ClusterAdminClient;
 
-import java.nio.charset.StandardCharsets;
+import java.io.IOException;
 import java.util.Map;
 import java.util.Set;
 
@@ -91,14 +90,7 @@ public abstract class AbstractUpdatePipelineStep implements WorkflowStep {
             );
 
             String pipelineId = (String) inputs.get(PIPELINE_ID);
-            String configurations = (String) inputs.get(CONFIGURATIONS);
-
-            // Special case for processors that have arrays that need to have the quotes around or
-            // backslashes around strings in array removed
-            String transformedJsonStringForStringArray = ParseUtils.removingBackslashesAndQuotesInArrayInJsonString(configurations);
-
-            byte[] byteArr = transformedJsonStringForStringArray.getBytes(StandardCharsets.UTF_8);
-            BytesReference configurationsBytes = new BytesArray(byteArr);
+            BytesReference configurationsBytes = ParseUtils.configurationsToBytes(inputs.get(CONFIGURATIONS));
 
             String pipelineToBeCreated = this.getName();
             ActionListener<AcknowledgedResponse> putPipelineActionListener = new ActionListener<>() {
@@ -128,7 +120,7 @@ public abstract class AbstractUpdatePipelineStep implements WorkflowStep {
 
             executePutPipelineRequest(pipelineId, configurationsBytes, clusterAdminClient, putPipelineActionListener);
 
-        } catch (FlowFrameworkException e) {
+        } catch (FlowFrameworkException | IOException e) {
             createPipelineFuture.onFailure(e);
         }
         return createPipelineFuture;
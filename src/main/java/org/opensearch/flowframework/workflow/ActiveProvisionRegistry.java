@@ -0,0 +1,119 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * The OpenSearch Contributors require contributions made to
+ * this file be licensed under the Apache-2.0 license or a
+ * compatible open source license.
+ */
+package org.opensearch.flowframework.workflow;
+
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+import org.opensearch.ExceptionsHelper;
+import org.opensearch.OpenSearchTimeoutException;
+import org.opensearch.action.support.GroupedActionListener;
+import org.opensearch.core.action.ActionListener;
+
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Tracks the workflows being provisioned on this node so that their execution can be cancelled,
+ * either on request or when one of their steps times out.
+ */
+public class ActiveProvisionRegistry {
+
+    private static final Logger logger = LogManager.getLogger(ActiveProvisionRegistry.class);
+
+    private final Map<String, ActiveProvision> activeProvisions = new ConcurrentHashMap<>();
+
+    /**
+     * Instantiates a new ActiveProvisionRegistry
+     */
+    public ActiveProvisionRegistry() {}
+
+    /**
+     * Registers a workflow sequence which is about to be executed
+     * @param workflowId the workflow id
+     * @param tenantId the tenant id
+     * @param workflowSequence the topologically sorted workflow to execute
+     */
+    public void register(String workflowId, String tenantId, List<ProcessNode> workflowSequence) {
+        activeProvisions.put(workflowId, new ActiveProvision(tenantId, workflowSequence));
+    }
+
+    /**
+     * Removes a workflow sequence once its execution has ended
+     * @param workflowId the workflow id
+     * @param workflowSequence the workflow sequence which was registered, so that a newer registration is not removed
+     */
+    public void unregister(String workflowId, List<ProcessNode> workflowSequence) {
+        activeProvisions.computeIfPresent(workflowId, (id, provision) -> provision.workflowSequence == workflowSequence ? null : provision);
+    }
+
+    /**
+     * Cancels the provisioning of a workflow on this node
+     * @param workflowId the workflow id
+     * @param tenantId the tenant id, which must match the tenant of the provisioning
+     * @return true if the workflow was being provisioned on this node
+     */
+    public boolean cancel(String workflowId, String tenantId) {
+        ActiveProvision provision = activeProvisions.get(workflowId);
+        if (provision == null || !Objects.equals(tenantId, provision.tenantId)) {
+            return false;
+        }
+        logger.info("Cancelling provisioning of workflow {}", workflowId);
+        provision.workflowSequence.forEach(ProcessNode::cancel);
+        return true;
+    }
+
+    /**
+     * Handles a failed workflow execution. If it failed because a step timed out or the provisioning was cancelled,
+     * the outstanding steps are cancelled and every step is awaited, so that the resources created and the step
+     * timeline are final when the failure is recorded. Other failures leave the remaining steps running.
+     * <p>
+     * The steps are awaited together without blocking, each one completes within its node timeout once cancelled.
+     * @param workflowId the workflow id
+     * @param workflowSequence the workflow sequence which failed
+     * @param failure the failure of the execution
+     * @param onSettled run once every cancelled step has completed, or right away if no step was cancelled
+     */
+    public void cancelOutstandingSteps(String workflowId, List<ProcessNode> workflowSequence, Exception failure, Runnable onSettled) {
+        boolean cancelled = workflowSequence.stream().anyMatch(ProcessNode::isCancelled);
+        if (workflowSequence.isEmpty() || (!cancelled && ExceptionsHelper.unwrap(failure, OpenSearchTimeoutException.class) == null)) {
+            onSettled.run();
+            return;
+        }
+        logger.info("Cancelling outstanding steps of workflow {}", workflowId);
+        GroupedActionListener<Void> settledListener = new GroupedActionListener<>(
+            ActionListener.wrap(settled -> onSettled.run(), e -> onSettled.run()),
+            workflowSequence.size()
+        );
+        workflowSequence.forEach(ProcessNode::cancel);
+        for (ProcessNode node : workflowSequence) {
+            // The step failed or was cancelled if it was still running, either way it has settled
+            node.addCompletionListener(() -> settledListener.onResponse(null));
+        }
+    }
+
+    /**
+     * Returns the number of workflows being provisioned on this node
+     * @return the number of active provisions
+     */
+    public int size() {
+        return activeProvisions.size();
+    }
+
+    private static final class ActiveProvision {
+        private final String tenantId;
+        private final List<ProcessNode> workflowSequence;
+
+        private ActiveProvision(String tenantId, List<ProcessNode> workflowSequence) {
+            this.tenantId = tenantId;
+            this.workflowSequence = workflowSequence;
+        }
+    }
+}
@@ -0,0 +1,151 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * The OpenSearch Contributors require contributions made to
+ * this file be licensed under the Apache-2.0 license or a
+ * compatible open source license.
+ */
+package org.opensearch.flowframework.workflow;
+
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+import org.opensearch.action.admin.cluster.health.ClusterHealthRequest;
+import org.opensearch.action.admin.indices.forcemerge.ForceMergeRequest;
+import org.opensearch.action.admin.indices.settings.get.GetSettingsRequest;
+import org.opensearch.action.admin.indices.settings.put.UpdateSettingsRequest;
+import org.opensearch.cluster.health.ClusterHealthStatus;
+import org.opensearch.common.settings.Settings;
+import org.opensearch.common.unit.TimeValue;
+import org.opensearch.core.action.ActionListener;
+import org.opensearch.core.rest.RestStatus;
+import org.opensearch.flowframework.exception.WorkflowStepException;
+import org.opensearch.transport.client.Client;
+
+import java.util.Locale;
+
+import static org.opensearch.cluster.metadata.IndexMetadata.INDEX_NUMBER_OF_REPLICAS_SETTING;
+import static org.opensearch.cluster.metadata.IndexMetadata.SETTING_NUMBER_OF_REPLICAS;
+import static org.opensearch.index.IndexSettings.INDEX_REFRESH_INTERVAL_SETTING;
+
+/**
+ * Applies index settings suited to loading documents in bulk for the duration of a load, then restores the configured settings.
+ * <p>
+ * During the load, refresh is disabled and the index has no replicas. Afterwards the refresh interval and replica count the
+ * index was configured with are restored, or reset to their defaults if they were not configured, the index is optionally
+ * force merged, and the index is awaited to turn green so its replicas are allocated before the load is reported complete.
+ * When the cluster has fewer data nodes than copies of each shard, the replicas can never all be allocated, so the index is
+ * only awaited to turn yellow. The wait is bounded by the time left of the timeout of the loading step.
+ */
+class BulkLoadIndexSettings {
+
+    private static final Logger logger = LogManager.getLogger(BulkLoadIndexSettings.class);
+
+    /** The number of segments to force merge the index to by default */
+    static final int DEFAULT_MAX_NUM_SEGMENTS = 1;
+
+    private static final String REFRESH_INTERVAL = INDEX_REFRESH_INTERVAL_SETTING.getKey();
+    private static final String NUMBER_OF_REPLICAS = SETTING_NUMBER_OF_REPLICAS;
+
+    private final Client client;
+    private final String indexName;
+    private final long deadlineNanos;
+    private volatile String configuredRefreshInterval;
+    private volatile String configuredReplicas;
+
+    /**
+     * Instantiate this class
+     * @param client the client to update the index with
+     * @param indexName the index to load
+     * @param timeout the timeout of the loading step, which the load and the wait for the index to be ready must complete within
+     */
+    BulkLoadIndexSettings(Client client, String indexName, TimeValue timeout) {
+        this.client = client;
+        this.indexName = indexName;
+        this.deadlineNanos = System.nanoTime() + timeout.nanos();
+    }
+
+    /**
+     * Records the configured refresh interval and replica count of the index, then applies the bulk load settings
+     * @param listener notified once the bulk load settings are applied
+     */
+    void apply(ActionListener<Void> listener) {
+        GetSettingsRequest getSettingsRequest = new GetSettingsRequest().indices(indexName).names(REFRESH_INTERVAL, NUMBER_OF_REPLICAS);
+        client.admin().indices().getSettings(getSettingsRequest, ActionListener.wrap(response -> {
+            configuredRefreshInterval = response.getSetting(indexName, REFRESH_INTERVAL);
+            configuredReplicas = response.getSetting(indexName, NUMBER_OF_REPLICAS);
+            Settings bulkLoadSettings = Settings.builder().put(REFRESH_INTERVAL, "-1").put(NUMBER_OF_REPLICAS, 0).build();
+            client.admin().indices().updateSettings(new UpdateSettingsRequest(bulkLoadSettings, indexName), ActionListener.wrap(r -> {
+                logger.info("Applied bulk load settings to index {}", indexName);
+                listener.onResponse(null);
+            }, listener::onFailure));
+        }, listener::onFailure));
+    }
+
+    /**
+     * Restores the configured refresh interval and replica count of the index
+     * @param listener notified once the settings are restored
+     */
+    void restore(ActionListener<Void> listener) {
+        Settings.Builder restoredSettings = Settings.builder();
+        if (configuredRefreshInterval == null) {
+            restoredSettings.putNull(REFRESH_INTERVAL);
+        } else {
+            restoredSettings.put(REFRESH_INTERVAL, configuredRefreshInterval);
+        }
+        if (configuredReplicas == null) {
+            restoredSettings.putNull(NUMBER_OF_REPLICAS);
+        } else {
+            restoredSettings.put(NUMBER_OF_REPLICAS, configuredReplicas);
+        }
+        client.admin().indices().updateSettings(new UpdateSettingsRequest(restoredSettings.build(), indexName), ActionListener.wrap(r -> {
+            logger.info("Restored the configured settings of index {}", indexName);
+            listener.onResponse(null);
+        }, listener::onFailure));
+    }
+
+    /**
+     * Restores the configured settings, optionally force merges the index, then waits for the index to be ready
+     * @param forceMerge whether to force merge the index
+     * @param maxNumSegments the number of segments to force merge the index to
+     * @param listener notified once the index is ready
+     */
+    void complete(boolean forceMerge, int maxNumSegments, ActionListener<Void> listener) {
+        restore(ActionListener.wrap(restored -> {
+            if (forceMerge) {
+                ForceMergeRequest forceMergeRequest = new ForceMergeRequest(indexName).maxNumSegments(maxNumSegments);
+                client.admin()
+                    .indices()
+                    .forceMerge(forceMergeRequest, ActionListener.wrap(r -> waitForReady(listener), listener::onFailure));
+            } else {
+                waitForReady(listener);
+            }
+        }, listener::onFailure));
+    }
+
+    private void waitForReady(ActionListener<Void> listener) {
+        int replicas = configuredReplicas == null
+            ? INDEX_NUMBER_OF_REPLICAS_SETTING.getDefault(Settings.EMPTY)
+            : Integer.parseInt(configuredReplicas);
+        client.admin().cluster().health(new ClusterHealthRequest(indexName), ActionListener.wrap(cluster -> {
+            // Replicas are never allocated on the node holding their primary, so green may be out of reach
+            ClusterHealthStatus status = cluster.getNumberOfDataNodes() <= replicas
+                ? ClusterHealthStatus.YELLOW
+                : ClusterHealthStatus.GREEN;
+            TimeValue timeout = TimeValue.timeValueNanos(Math.max(0, deadlineNanos - System.nanoTime()));
+            ClusterHealthRequest healthRequest = new ClusterHealthRequest(indexName).waitForStatus(status).timeout(timeout);
+            client.admin().cluster().health(healthRequest, ActionListener.wrap(health -> {
+                if (health.isTimedOut()) {
+                    listener.onFailure(
+                        new WorkflowStepException(
+                            "Index " + indexName + " did not turn " + status.name().toLowerCase(Locale.ROOT) + " within the step timeout",
+                            RestStatus.REQUEST_TIMEOUT
+                        )
+                    );
+                } else {
+                    listener.onResponse(null);
+                }
+            }, listener::onFailure));
+        }, listener::onFailure));
+    }
+}
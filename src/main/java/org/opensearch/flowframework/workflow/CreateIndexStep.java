@@ -15,19 +15,14 @@ import org.opensearch.ExceptionsHelper;
 import org.opensearch.action.admin.indices.create.CreateIndexRequest;
 import org.opensearch.action.support.PlainActionFuture;
 import org.opensearch.common.xcontent.LoggingDeprecationHandler;
-import org.opensearch.common.xcontent.XContentHelper;
 import org.opensearch.core.action.ActionListener;
-import org.opensearch.core.common.bytes.BytesArray;
-import org.opensearch.core.common.bytes.BytesReference;
 import org.opensearch.core.rest.RestStatus;
-import org.opensearch.core.xcontent.MediaTypeRegistry;
 import org.opensearch.flowframework.exception.WorkflowStepException;
 import org.opensearch.flowframework.indices.FlowFrameworkIndicesHandler;
 import org.opensearch.flowframework.util.ParseUtils;
 import org.opensearch.index.mapper.MapperService;
 import org.opensearch.transport.client.Client;
 
-import java.nio.charset.StandardCharsets;
 import java.util.Collections;
 import java.util.HashMap;
 import java.util.Map;
@@ -90,15 +85,11 @@ public class CreateIndexStep implements WorkflowStep {
 
             String indexName = (String) inputs.get(INDEX_NAME);
 
-            String configurations = (String) inputs.get(CONFIGURATIONS);
-
-            byte[] byteArr = configurations.getBytes(StandardCharsets.UTF_8);
-            BytesReference configurationsBytes = new BytesArray(byteArr);
             CreateIndexRequest createIndexRequest = new CreateIndexRequest(indexName);
 
             try {
-                if (!configurations.isEmpty()) {
-                    Map<String, Object> sourceAsMap = XContentHelper.convertToMap(configurationsBytes, false, MediaTypeRegistry.JSON).v2();
+                Map<String, Object> sourceAsMap = ParseUtils.configurationsToMap(inputs.get(CONFIGURATIONS));
+                if (!sourceAsMap.isEmpty()) {
                     sourceAsMap = prepareMappings(sourceAsMap);
                     createIndexRequest.source(sourceAsMap, LoggingDeprecationHandler.INSTANCE);
                 }
@@ -0,0 +1,363 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * The OpenSearch Contributors require contributions made to
+ * this file be licensed under the Apache-2.0 license or a
+ * compatible open source license.
+ */
+package org.opensearch.flowframework.workflow;
+
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+import org.opensearch.ExceptionsHelper;
+import org.opensearch.action.DocWriteRequest;
+import org.opensearch.action.bulk.BulkItemResponse;
+import org.opensearch.action.bulk.BulkRequest;
+import org.opensearch.action.bulk.BulkResponse;
+import org.opensearch.action.index.IndexRequest;
+import org.opensearch.common.Nullable;
+import org.opensearch.common.unit.TimeValue;
+import org.opensearch.common.xcontent.XContentType;
+import org.opensearch.core.action.ActionListener;
+import org.opensearch.core.common.bytes.BytesReference;
+import org.opensearch.core.rest.RestStatus;
+import org.opensearch.threadpool.Scheduler;
+import org.opensearch.threadpool.ThreadPool;
+import org.opensearch.transport.client.Client;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.util.HashMap;
+import java.util.Locale;
+import java.util.Map;
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.function.Consumer;
+
+/**
+ * Streams documents into an index in bulk batches bounded by document count and size.
+ * <p>
+ * At most a limited number of bulk requests are in flight at once. When the cluster rejects documents with
+ * {@link RestStatus#TOO_MANY_REQUESTS}, the rejected documents are retried after an exponentially growing delay and the
+ * number of batches in flight is halved, then grown again by one with each batch accepted in full, up to the limit.
+ * Documents still rejected after {@link #MAX_RETRIES} retries are counted as failed. Once stopped, no further batches or
+ * retries are sent and the ingest is reported as cancelled.
+ * Documents are read from the source on the given executor, never on the thread completing a bulk request.
+ */
+class DocumentBulkIngester {
+
+    private static final Logger logger = LogManager.getLogger(DocumentBulkIngester.class);
+
+    /** The delay before the first retry of rejected documents */
+    static final TimeValue INITIAL_BACKOFF = TimeValue.timeValueMillis(100);
+    /** The longest delay between retries of rejected documents */
+    static final TimeValue MAX_BACKOFF = TimeValue.timeValueSeconds(30);
+    /** The number of times rejected documents are retried before they are counted as failed */
+    static final int MAX_RETRIES = 8;
+    /** How often the progress of the ingest is reported */
+    static final TimeValue PROGRESS_INTERVAL = TimeValue.timeValueSeconds(10);
+
+    /**
+     * A source of documents to ingest, read sequentially
+     */
+    interface DocumentSource extends Closeable {
+        /**
+         * Reads the next document
+         * @return the JSON source of the next document, or null once all documents are read
+         * @throws IOException if the source cannot be read
+         */
+        BytesReference next() throws IOException;
+    }
+
+    /**
+     * A snapshot of the progress of an ingest
+     */
+    static class Progress {
+        private final long ingested;
+        private final long failed;
+        private final long retried;
+        private final double docsPerSecond;
+        private final String firstFailure;
+
+        Progress(long ingested, long failed, long retried, double docsPerSecond, @Nullable String firstFailure) {
+            this.ingested = ingested;
+            this.failed = failed;
+            this.retried = retried;
+            this.docsPerSecond = docsPerSecond;
+            this.firstFailure = firstFailure;
+        }
+
+        long getIngested() {
+            return ingested;
+        }
+
+        long getFailed() {
+            return failed;
+        }
+
+        String getFirstFailure() {
+            return firstFailure;
+        }
+
+        /**
+         * Gets this progress as the string values of the workflow state user outputs
+         * @return the progress fields
+         */
+        Map<String, String> toStringMap() {
+            Map<String, String> map = new HashMap<>();
+            map.put("ingested", Long.toString(ingested));
+            map.put("failed", Long.toString(failed));
+            map.put("retried", Long.toString(retried));
+            map.put("docs_per_second", String.format(Locale.ROOT, "%.1f", docsPerSecond));
+            if (firstFailure != null) {
+                map.put("first_failure", firstFailure);
+            }
+            return map;
+        }
+    }
+
+    private final Client client;
+    private final ThreadPool threadPool;
+    private final String executorName;
+    private final DocumentSource source;
+    private final String index;
+    private final String pipeline;
+    private final int batchSize;
+    private final long batchBytes;
+    private final int maxInFlight;
+    private final Consumer<Progress> progressConsumer;
+
+    private final AtomicInteger pumpRequests = new AtomicInteger();
+    private final AtomicInteger inFlight = new AtomicInteger();
+    private final AtomicInteger inFlightLimit;
+    private final AtomicLong ingested = new AtomicLong();
+    private final AtomicLong failed = new AtomicLong();
+    private final AtomicLong retried = new AtomicLong();
+    private final AtomicReference<String> firstFailure = new AtomicReference<>();
+    private final AtomicReference<Exception> fatal = new AtomicReference<>();
+    private final long startNanos = System.nanoTime();
+    private volatile boolean exhausted;
+    private volatile boolean stopped;
+    private volatile boolean completed;
+    private volatile Scheduler.Cancellable progressReporter;
+    private ActionListener<Progress> listener;
+
+    /**
+     * Instantiate this class
+     * @param client the client to send bulk requests with
+     * @param threadPool the thread pool to schedule retries and progress reports on
+     * @param executorName the executor to read documents on
+     * @param source the documents to ingest
+     * @param index the index to ingest into
+     * @param pipeline the ingest pipeline to ingest through, or null for the default pipeline of the index
+     * @param batchSize the maximum number of documents in a bulk request
+     * @param batchBytes the maximum size of the documents in a bulk request
+     * @param maxInFlight the maximum number of bulk requests in flight
+     * @param progressConsumer notified of the progress of the ingest periodically
+     */
+    DocumentBulkIngester(
+        Client client,
+        ThreadPool threadPool,
+        String executorName,
+        DocumentSource source,
+        String index,
+        @Nullable String pipeline,
+        int batchSize,
+        long batchBytes,
+        int maxInFlight,
+        Consumer<Progress> progressConsumer
+    ) {
+        this.client = client;
+        this.threadPool = threadPool;
+        this.executorName = executorName;
+        this.source = source;
+        this.index = index;
+        this.pipeline = pipeline;
+        this.batchSize = batchSize;
+        this.batchBytes = batchBytes;
+        this.maxInFlight = maxInFlight;
+        this.inFlightLimit = new AtomicInteger(maxInFlight);
+        this.progressConsumer = progressConsumer;
+    }
+
+    /**
+     * Starts ingesting the documents
+     * @param listener notified of the final progress once every document is ingested or has failed, or of a failure to read the source,
+     *                 or of a {@link CancellationException} once the ingest is stopped
+     */
+    void start(ActionListener<Progress> listener) {
+        this.listener = listener;
+        progressReporter = threadPool.scheduleWithFixedDelay(() -> progressConsumer.accept(progress()), PROGRESS_INTERVAL, executorName);
+        schedulePump();
+    }
+
+    /**
+     * Stops sending further batches and retries, e.g. once the step is cancelled. Batches in flight still complete.
+     */
+    void stop() {
+        stopped = true;
+        schedulePump();
+    }
+
+    /**
+     * Gets the current progress of the ingest
+     * @return the progress
+     */
+    Progress progress() {
+        long processed = ingested.get() + failed.get();
+        double seconds = (System.nanoTime() - startNanos) / (double) TimeUnit.SECONDS.toNanos(1);
+        return new Progress(ingested.get(), failed.get(), retried.get(), seconds > 0 ? processed / seconds : 0d, firstFailure.get());
+    }
+
+    /**
+     * Gets the current limit of bulk requests in flight, lowered while the cluster rejects documents
+     * @return the in flight limit
+     */
+    int getInFlightLimit() {
+        return inFlightLimit.get();
+    }
+
+    private void schedulePump() {
+        threadPool.executor(executorName).execute(this::pump);
+    }
+
+    /**
+     * Sends batches until the in flight limit is reached or the source is exhausted. Requests to pump made while pumping
+     * are drained by the pumping thread, so only one thread reads the source at a time.
+     */
+    private void pump() {
+        if (pumpRequests.getAndIncrement() != 0) {
+            return;
+        }
+        do {
+            try {
+                while (!stopped && !exhausted && fatal.get() == null && inFlight.get() < inFlightLimit.get()) {
+                    BulkRequest batch = nextBatch();
+                    if (batch.numberOfActions() == 0) {
+                        break;
+                    }
+                    inFlight.incrementAndGet();
+                    send(batch, 0);
+                }
+            } catch (Exception e) {
+                fatal.compareAndSet(null, e);
+            }
+            if (inFlight.get() == 0 && (exhausted || stopped || fatal.get() != null)) {
+                complete();
+            }
+        } while (pumpRequests.decrementAndGet() != 0);
+    }
+
+    private BulkRequest nextBatch() throws IOException {
+        BulkRequest batch = new BulkRequest();
+        long bytes = 0;
+        while (batch.numberOfActions() < batchSize && bytes < batchBytes) {
+            BytesReference document = source.next();
+            if (document == null) {
+                exhausted = true;
+                break;
+            }
+            IndexRequest indexRequest = new IndexRequest(index).source(document, XContentType.JSON);
+            if (pipeline != null) {
+                indexRequest.setPipeline(pipeline);
+            }
+            batch.add(indexRequest);
+            bytes += document.length();
+        }
+        return batch;
+    }
+
+    private void send(BulkRequest batch, int attempt) {
+        client.bulk(batch, ActionListener.wrap(response -> onBulkResponse(batch, response, attempt), e -> {
+            if (ExceptionsHelper.status(e) == RestStatus.TOO_MANY_REQUESTS) {
+                retry(batch, attempt);
+            } else {
+                // The whole batch failed, e.g. the index does not exist
+                failed.addAndGet(batch.numberOfActions());
+                firstFailure.compareAndSet(null, e.getMessage());
+                fatal.compareAndSet(null, e);
+                batchDone();
+            }
+        }));
+    }
+
+    private void onBulkResponse(BulkRequest batch, BulkResponse response, int attempt) {
+        BulkRequest rejected = new BulkRequest();
+        BulkItemResponse[] items = response.getItems();
+        for (int i = 0; i < items.length; i++) {
+            BulkItemResponse item = items[i];
+            if (!item.isFailed()) {
+                ingested.incrementAndGet();
+            } else if (item.status() == RestStatus.TOO_MANY_REQUESTS) {
+                DocWriteRequest<?> request = batch.requests().get(i);
+                rejected.add(request);
+            } else {
+                failed.incrementAndGet();
+                firstFailure.compareAndSet(null, item.getFailureMessage());
+            }
+        }
+        if (rejected.numberOfActions() > 0) {
+            retry(rejected, attempt);
+        } else {
+            // Grow the in flight limit back towards the configured maximum once batches are accepted again
+            inFlightLimit.getAndUpdate(limit -> Math.min(maxInFlight, limit + 1));
+            batchDone();
+        }
+    }
+
+    private void retry(BulkRequest rejected, int attempt) {
+        if (stopped) {
+            batchDone();
+            return;
+        }
+        if (attempt >= MAX_RETRIES) {
+            failed.addAndGet(rejected.numberOfActions());
+            firstFailure.compareAndSet(null, "documents still rejected after " + MAX_RETRIES + " retries");
+            batchDone();
+            return;
+        }
+        inFlightLimit.getAndUpdate(limit -> Math.max(1, limit / 2));
+        retried.addAndGet(rejected.numberOfActions());
+        long delayMillis = Math.min(MAX_BACKOFF.millis(), INITIAL_BACKOFF.millis() << Math.min(attempt, 16));
+        logger.debug("Retrying {} rejected documents for index {} in {}ms", rejected.numberOfActions(), index, delayMillis);
+        threadPool.schedule(() -> {
+            if (stopped) {
+                batchDone();
+            } else {
+                send(rejected, attempt + 1);
+            }
+        }, TimeValue.timeValueMillis(delayMillis), executorName);
+    }
+
+    private void batchDone() {
+        inFlight.decrementAndGet();
+        schedulePump();
+    }
+
+    private synchronized void complete() {
+        if (completed) {
+            return;
+        }
+        completed = true;
+        if (progressReporter != null) {
+            progressReporter.cancel();
+        }
+        try {
+            source.close();
+        } catch (IOException e) {
+            logger.warn("Failed to close the document source for index {}", index, e);
+        }
+        Exception e = fatal.get();
+        if (stopped) {
+            listener.onFailure(new CancellationException("Ingest into index " + index + " was cancelled"));
+        } else if (e != null) {
+            listener.onFailure(e);
+        } else {
+            listener.onResponse(progress());
+        }
+    }
+}
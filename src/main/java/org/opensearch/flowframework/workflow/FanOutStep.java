@@ -0,0 +1,314 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * The OpenSearch Contributors require contributions made to
+ * this file be licensed under the Apache-2.0 license or a
+ * compatible open source license.
+ */
+package org.opensearch.flowframework.workflow;
+
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+import org.opensearch.action.support.PlainActionFuture;
+import org.opensearch.core.action.ActionListener;
+import org.opensearch.core.rest.RestStatus;
+import org.opensearch.flowframework.exception.FlowFrameworkException;
+import org.opensearch.flowframework.indices.FlowFrameworkIndicesHandler;
+import org.opensearch.threadpool.ThreadPool;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicReference;
+
+import static org.opensearch.flowframework.common.CommonValue.FAN_OUT_CONCURRENCY_FIELD;
+import static org.opensearch.flowframework.common.CommonValue.FAN_OUT_FIELD;
+
+/**
+ * Executes a step once for each entry of the {@code fan_out} user input, so that a single node creates several similar
+ * resources such as indices or pipelines.
+ * <p>
+ * Each execution takes the inputs of the node overridden by its entry. At most {@code fan_out_concurrency} executions run at
+ * once, and the resources they create are recorded in the workflow state with a single update. The outputs of the execution
+ * of entry {@code i} are returned under their key suffixed with {@code _i}, and the outputs of all the executions as lists
+ * under their key.
+ */
+public class FanOutStep implements WorkflowStep {
+
+    private static final Logger logger = LogManager.getLogger(FanOutStep.class);
+
+    /** The steps which may be executed once for each entry of a list */
+    public static final Set<String> FAN_OUT_STEPS = Set.of(
+        CreateIndexStep.NAME,
+        CreateIngestPipelineStep.NAME,
+        CreateSearchPipelineStep.NAME
+    );
+    /** The number of executions running at once if not given */
+    public static final int DEFAULT_CONCURRENCY = 4;
+
+    private final WorkflowStep delegate;
+    private final ThreadPool threadPool;
+    private final FlowFrameworkIndicesHandler flowFrameworkIndicesHandler;
+
+    /**
+     * Instantiate this class
+     * @param delegate the step to execute for each entry
+     * @param threadPool The OpenSearch thread pool
+     * @param flowFrameworkIndicesHandler FlowFrameworkIndicesHandler class to record the resources created
+     */
+    public FanOutStep(WorkflowStep delegate, ThreadPool threadPool, FlowFrameworkIndicesHandler flowFrameworkIndicesHandler) {
+        this.delegate = delegate;
+        this.threadPool = threadPool;
+        this.flowFrameworkIndicesHandler = flowFrameworkIndicesHandler;
+    }
+
+    /**
+     * Whether a workflow node is executed once for each entry of a list
+     * @param userInputs the user inputs of the node
+     * @return true if the node fans out
+     */
+    public static boolean isFanOut(Map<String, Object> userInputs) {
+        return userInputs.containsKey(FAN_OUT_FIELD);
+    }
+
+    @Override
+    public PlainActionFuture<WorkflowData> execute(
+        String currentNodeId,
+        WorkflowData currentNodeInputs,
+        Map<String, WorkflowData> outputs,
+        Map<String, String> previousNodeInputs,
+        Map<String, String> params,
+        String tenantId
+    ) {
+        PlainActionFuture<WorkflowData> fanOutFuture = PlainActionFuture.newFuture();
+        List<Map<String, Object>> entries;
+        int concurrency;
+        try {
+            entries = fanOutEntries(currentNodeInputs.getContent());
+            concurrency = concurrency(currentNodeInputs.getContent());
+        } catch (FlowFrameworkException e) {
+            fanOutFuture.onFailure(e);
+            return fanOutFuture;
+        }
+        String workflowId = currentNodeInputs.getWorkflowId();
+        Map<String, Object> nodeInputs = new HashMap<>(currentNodeInputs.getContent());
+        nodeInputs.remove(FAN_OUT_FIELD);
+        nodeInputs.remove(FAN_OUT_CONCURRENCY_FIELD);
+
+        WorkflowData[] results = new WorkflowData[entries.size()];
+        AtomicReference<Exception> failure = new AtomicReference<>();
+        // The resources of failed executions are recorded too, so that deprovisioning deletes them
+        ActionListener<WorkflowData> flushListener = ActionListener.wrap(r -> {
+            if (fanOutFuture.isDone()) {
+                // Cancelled or timed out, some entries were not executed
+                logger.info("Stopped executing {} for {}", getName(), currentNodeId);
+            } else if (failure.get() != null) {
+                fanOutFuture.onFailure(failure.get());
+            } else {
+                logger.info("Executed {} {} times for {}", getName(), results.length, currentNodeId);
+                fanOutFuture.onResponse(combinedOutputs(results, workflowId, currentNodeId));
+            }
+        }, e -> fanOutFuture.onFailure(failure.get() == null ? e : failure.get()));
+        FanOutExecution execution = new FanOutExecution(
+            currentNodeId,
+            currentNodeInputs,
+            nodeInputs,
+            entries,
+            outputs,
+            previousNodeInputs,
+            params,
+            tenantId,
+            results,
+            failure,
+            Math.min(concurrency, entries.size()),
+            fanOutFuture,
+            () -> flowFrameworkIndicesHandler.flushResources(workflowId, currentNodeId, tenantId, flushListener)
+        );
+
+        flowFrameworkIndicesHandler.bufferResources(workflowId, currentNodeId);
+        execution.start();
+        return fanOutFuture;
+    }
+
+    /**
+     * The executions of a step for the entries of a fan out list. Each of the concurrent chains executes the next remaining
+     * entry once its previous execution completes, without blocking a thread while the step runs.
+     */
+    private class FanOutExecution {
+        private final String currentNodeId;
+        private final WorkflowData currentNodeInputs;
+        private final Map<String, Object> nodeInputs;
+        private final List<Map<String, Object>> entries;
+        private final Map<String, WorkflowData> outputs;
+        private final Map<String, String> previousNodeInputs;
+        private final Map<String, String> params;
+        private final String tenantId;
+        private final WorkflowData[] results;
+        private final AtomicReference<Exception> failure;
+        private final int chains;
+        private final PlainActionFuture<WorkflowData> fanOutFuture;
+        private final Runnable complete;
+        private final AtomicInteger next = new AtomicInteger();
+        private final AtomicInteger running;
+
+        FanOutExecution(
+            String currentNodeId,
+            WorkflowData currentNodeInputs,
+            Map<String, Object> nodeInputs,
+            List<Map<String, Object>> entries,
+            Map<String, WorkflowData> outputs,
+            Map<String, String> previousNodeInputs,
+            Map<String, String> params,
+            String tenantId,
+            WorkflowData[] results,
+            AtomicReference<Exception> failure,
+            int chains,
+            PlainActionFuture<WorkflowData> fanOutFuture,
+            Runnable complete
+        ) {
+            this.currentNodeId = currentNodeId;
+            this.currentNodeInputs = currentNodeInputs;
+            this.nodeInputs = nodeInputs;
+            this.entries = entries;
+            this.outputs = outputs;
+            this.previousNodeInputs = previousNodeInputs;
+            this.params = params;
+            this.tenantId = tenantId;
+            this.results = results;
+            this.failure = failure;
+            this.chains = chains;
+            this.fanOutFuture = fanOutFuture;
+            this.complete = complete;
+            this.running = new AtomicInteger(chains);
+        }
+
+        void start() {
+            for (int c = 0; c < chains; c++) {
+                executeNext();
+            }
+        }
+
+        private void executeNext() {
+            // Stop after a failure, or once the node was cancelled or timed out
+            boolean stopped = failure.get() != null || fanOutFuture.isDone();
+            int i = stopped ? entries.size() : next.getAndIncrement();
+            if (i >= entries.size()) {
+                if (running.decrementAndGet() == 0) {
+                    complete.run();
+                }
+                return;
+            }
+            Map<String, Object> entryInputs = new HashMap<>(nodeInputs);
+            entryInputs.putAll(entries.get(i));
+            PlainActionFuture<WorkflowData> entryFuture;
+            try {
+                entryFuture = delegate.execute(
+                    currentNodeId,
+                    new WorkflowData(entryInputs, currentNodeInputs.getParams(), currentNodeInputs.getWorkflowId(), currentNodeId),
+                    outputs,
+                    previousNodeInputs,
+                    params,
+                    tenantId
+                );
+            } catch (Exception e) {
+                onEntryFailure(i, e);
+                return;
+            }
+            StepFutures.whenComplete(entryFuture, threadPool, ActionListener.wrap(output -> {
+                results[i] = output;
+                executeNext();
+            }, e -> onEntryFailure(i, e)));
+        }
+
+        private void onEntryFailure(int i, Exception e) {
+            logger.error("Failed to execute {} for entry {} of {}", getName(), i, currentNodeId, e);
+            failure.compareAndSet(null, e);
+            executeNext();
+        }
+    }
+
+    /**
+     * Gets the entries of the fan out list of a node
+     * @param content the inputs of the node
+     * @return the entries
+     */
+    static List<Map<String, Object>> fanOutEntries(Map<String, Object> content) {
+        Object fanOut = content.get(FAN_OUT_FIELD);
+        List<?> values = List.of();
+        if (fanOut instanceof Object[]) {
+            values = Arrays.asList((Object[]) fanOut);
+        } else if (fanOut instanceof List) {
+            values = (List<?>) fanOut;
+        }
+        if (values.isEmpty() || !values.stream().allMatch(v -> v instanceof Map)) {
+            throw new FlowFrameworkException("The " + FAN_OUT_FIELD + " input must be a non-empty list of objects", RestStatus.BAD_REQUEST);
+        }
+        List<Map<String, Object>> entries = new ArrayList<>();
+        for (Object value : values) {
+            Map<String, Object> entry = new HashMap<>();
+            ((Map<?, ?>) value).forEach((k, v) -> entry.put(k.toString(), v));
+            entries.add(entry);
+        }
+        return entries;
+    }
+
+    /**
+     * Gets the inputs given by every entry of the fan out list of a node, which the node need not give itself
+     * @param content the inputs of the node
+     * @return the input keys common to all entries, or an empty set if the list is invalid
+     */
+    static Set<String> entryInputKeys(Map<String, Object> content) {
+        try {
+            List<Map<String, Object>> entries = fanOutEntries(content);
+            Set<String> keys = new HashSet<>(entries.get(0).keySet());
+            entries.forEach(entry -> keys.retainAll(entry.keySet()));
+            return keys;
+        } catch (FlowFrameworkException e) {
+            return Set.of();
+        }
+    }
+
+    private static int concurrency(Map<String, Object> content) {
+        if (!content.containsKey(FAN_OUT_CONCURRENCY_FIELD)) {
+            return DEFAULT_CONCURRENCY;
+        }
+        try {
+            int concurrency = Integer.parseInt(content.get(FAN_OUT_CONCURRENCY_FIELD).toString());
+            if (concurrency > 0) {
+                return concurrency;
+            }
+        } catch (NumberFormatException e) {
+            // fall through to the error below
+        }
+        throw new FlowFrameworkException("The " + FAN_OUT_CONCURRENCY_FIELD + " input must be a positive integer", RestStatus.BAD_REQUEST);
+    }
+
+    private static WorkflowData combinedOutputs(WorkflowData[] results, String workflowId, String currentNodeId) {
+        Map<String, Object> content = new HashMap<>();
+        Map<String, List<Object>> outputLists = new HashMap<>();
+        for (int i = 0; i < results.length; i++) {
+            for (Map.Entry<String, Object> e : results[i].getContent().entrySet()) {
+                content.put(e.getKey() + "_" + i, e.getValue());
+                outputLists.computeIfAbsent(e.getKey(), k -> new ArrayList<>()).add(e.getValue());
+            }
+        }
+        content.putAll(outputLists);
+        return new WorkflowData(content, workflowId, currentNodeId);
+    }
+
+    @Override
+    public boolean allowDeleteRequired() {
+        return delegate.allowDeleteRequired();
+    }
+
+    @Override
+    public String getName() {
+        return delegate.getName();
+    }
+}
@@ -0,0 +1,138 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * The OpenSearch Contributors require contributions made to
+ * this file be licensed under the Apache-2.0 license or a
+ * compatible open source license.
+ */
+package org.opensearch.flowframework.workflow;
+
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+import org.opensearch.action.admin.indices.settings.get.GetSettingsRequest;
+import org.opensearch.action.support.IndicesOptions;
+import org.opensearch.common.settings.Settings;
+import org.opensearch.core.action.ActionListener;
+import org.opensearch.transport.client.Client;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * A snapshot of the current settings of the indices updated by one workflow execution.
+ * <p>
+ * The settings of all the indices known when the workflow is sorted are fetched with a single request on first use, which
+ * concurrent steps wait on. Indices only known at execution time, such as those named by a substitution, and indices missing
+ * from the snapshot are fetched individually.
+ */
+public class IndexSettingsSnapshot {
+
+    private static final Logger logger = LogManager.getLogger(IndexSettingsSnapshot.class);
+
+    private final Client client;
+    private final Set<String> indices;
+    private final Map<String, Settings> indexToSettings = new ConcurrentHashMap<>();
+    // Steps waiting on the snapshot while it is fetched
+    private List<Runnable> waiting = null;
+    private boolean fetched = false;
+
+    /**
+     * Instantiate this class
+     *
+     * @param client Client to get the index settings
+     * @param indices the names of the indices to fetch in the snapshot
+     */
+    public IndexSettingsSnapshot(Client client, Set<String> indices) {
+        this.client = client;
+        this.indices = Set.copyOf(indices);
+    }
+
+    /**
+     * Get the current settings of an index
+     *
+     * @param indexName the index name
+     * @param listener listener for the settings of the index
+     */
+    public void getSettings(String indexName, ActionListener<Settings> listener) {
+        if (!indices.contains(indexName)) {
+            fetchSettings(indexName, listener);
+            return;
+        }
+        Runnable respond = () -> {
+            Settings settings = indexToSettings.get(indexName);
+            if (settings == null) {
+                // Fetch the index alone to report its own failure
+                fetchSettings(indexName, listener);
+            } else {
+                listener.onResponse(settings);
+            }
+        };
+        boolean queued;
+        boolean fetch = false;
+        synchronized (this) {
+            queued = !fetched;
+            if (queued) {
+                fetch = waiting == null;
+                if (fetch) {
+                    waiting = new ArrayList<>();
+                }
+                waiting.add(respond);
+            }
+        }
+        if (fetch) {
+            fetchSnapshot();
+        } else if (!queued) {
+            respond.run();
+        }
+    }
+
+    /**
+     * Record settings applied to an index, so that later steps of the workflow compare against them
+     *
+     * @param indexName the index name
+     * @param updatedSettings the flattened settings applied to the index
+     */
+    public void update(String indexName, Map<String, Object> updatedSettings) {
+        indexToSettings.computeIfPresent(indexName, (name, settings) -> {
+            Settings.Builder builder = Settings.builder().put(settings);
+            updatedSettings.forEach((key, value) -> builder.put(key, value.toString()));
+            return builder.build();
+        });
+    }
+
+    private void fetchSnapshot() {
+        GetSettingsRequest getSettingsRequest = new GetSettingsRequest().indices(indices.toArray(new String[0]))
+            // Missing indices are left out rather than failing the snapshot
+            .indicesOptions(IndicesOptions.lenientExpandOpen());
+        client.admin().indices().getSettings(getSettingsRequest, ActionListener.wrap(response -> {
+            indexToSettings.putAll(response.getIndexToSettings());
+            complete();
+        }, e -> {
+            logger.warn("Failed to get the settings of indices {}, fetching them individually", indices, e);
+            complete();
+        }));
+    }
+
+    private void complete() {
+        List<Runnable> toRespond;
+        synchronized (this) {
+            fetched = true;
+            toRespond = waiting;
+            waiting = null;
+        }
+        toRespond.forEach(Runnable::run);
+    }
+
+    private void fetchSettings(String indexName, ActionListener<Settings> listener) {
+        GetSettingsRequest getSettingsRequest = new GetSettingsRequest().indices(indexName);
+        client.admin().indices().getSettings(getSettingsRequest, ActionListener.wrap(response -> {
+            Settings settings = response.getIndexToSettings().getOrDefault(indexName, Settings.EMPTY);
+            indexToSettings.put(indexName, settings);
+            listener.onResponse(settings);
+        }, listener::onFailure));
+    }
+}
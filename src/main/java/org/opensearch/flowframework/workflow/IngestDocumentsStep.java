@@ -0,0 +1,452 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * The OpenSearch Contributors require contributions made to
+ * this file be licensed under the Apache-2.0 license or a
+ * compatible open source license.
+ */
+package org.opensearch.flowframework.workflow;
+
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+import org.opensearch.ExceptionsHelper;
+import org.opensearch.action.search.ClearScrollRequest;
+import org.opensearch.action.search.SearchRequest;
+import org.opensearch.action.search.SearchResponse;
+import org.opensearch.action.search.SearchScrollRequest;
+import org.opensearch.action.support.PlainActionFuture;
+import org.opensearch.common.Nullable;
+import org.opensearch.common.unit.TimeValue;
+import org.opensearch.common.xcontent.XContentFactory;
+import org.opensearch.common.xcontent.XContentHelper;
+import org.opensearch.core.action.ActionListener;
+import org.opensearch.core.common.Strings;
+import org.opensearch.core.common.bytes.BytesArray;
+import org.opensearch.core.common.bytes.BytesReference;
+import org.opensearch.core.common.unit.ByteSizeValue;
+import org.opensearch.core.rest.RestStatus;
+import org.opensearch.core.xcontent.MediaTypeRegistry;
+import org.opensearch.flowframework.exception.WorkflowStepException;
+import org.opensearch.flowframework.indices.FlowFrameworkIndicesHandler;
+import org.opensearch.flowframework.util.ParseUtils;
+import org.opensearch.search.SearchHit;
+import org.opensearch.search.builder.SearchSourceBuilder;
+import org.opensearch.threadpool.ThreadPool;
+import org.opensearch.transport.client.Client;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.StringReader;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Deque;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.atomic.AtomicReference;
+
+import static org.opensearch.flowframework.common.CommonValue.PROVISION_WORKFLOW_THREAD_POOL;
+import static org.opensearch.flowframework.common.CommonValue.SOURCE_INDEX;
+import static org.opensearch.flowframework.common.CommonValue.USER_OUTPUTS_FIELD;
+import static org.opensearch.flowframework.common.WorkflowResources.INDEX_NAME;
+
+/**
+ * Step to ingest documents into an index, optionally through an ingest pipeline.
+ * <p>
+ * Documents are read from exactly one of a file of newline delimited JSON in the ingest data directory of the node, an
+ * inline {@code documents} payload of newline delimited JSON or a JSON array, or a {@code source_index} which is scrolled.
+ * They are sent in bulk batches bounded by {@code batch_size} documents and {@code batch_bytes}, with at most
+ * {@code max_in_flight_batches} in flight, backing off when the cluster rejects documents. See {@link DocumentBulkIngester}.
+ * The progress of the ingest is recorded in the user outputs of the workflow state under the id of this workflow node.
+ */
+public class IngestDocumentsStep implements WorkflowStep {
+
+    private static final Logger logger = LogManager.getLogger(IngestDocumentsStep.class);
+
+    /** The name of this step, used as a key in the template and the {@link WorkflowStepFactory} */
+    public static final String NAME = "ingest_documents";
+    /** The file_path field, a file of newline delimited JSON documents in the ingest data directory */
+    static final String FILE_PATH = "file_path";
+    /** The documents field, an inline payload of newline delimited JSON documents or a JSON array of documents */
+    static final String DOCUMENTS = "documents";
+    /** The pipeline field, the ingest pipeline to ingest the documents through */
+    static final String PIPELINE = "pipeline";
+    /** The batch_size field, the maximum number of documents in a bulk request */
+    static final String BATCH_SIZE = "batch_size";
+    /** The batch_bytes field, the maximum size of the documents in a bulk request */
+    static final String BATCH_BYTES = "batch_bytes";
+    /** The max_in_flight_batches field, the maximum number of bulk requests in flight */
+    static final String MAX_IN_FLIGHT_BATCHES = "max_in_flight_batches";
+    /** The status field of the ingest progress */
+    static final String STATUS = "status";
+    private static final String RUNNING = "RUNNING";
+    private static final String COMPLETED = "COMPLETED";
+    private static final String FAILED = "FAILED";
+    private static final String CANCELLED = "CANCELLED";
+
+    private static final int DEFAULT_BATCH_SIZE = 500;
+    private static final ByteSizeValue DEFAULT_BATCH_BYTES = ByteSizeValue.parseBytesSizeValue("5mb", BATCH_BYTES);
+    private static final int DEFAULT_MAX_IN_FLIGHT_BATCHES = 2;
+    private static final TimeValue SCROLL_KEEP_ALIVE = TimeValue.timeValueMinutes(5);
+
+    /** Required input keys */
+    public static final Set<String> REQUIRED_INPUTS = Set.of(INDEX_NAME);
+    /** Optional input keys */
+    public static final Set<String> OPTIONAL_INPUTS = Set.of(
+        FILE_PATH,
+        DOCUMENTS,
+        SOURCE_INDEX,
+        PIPELINE,
+        BATCH_SIZE,
+        BATCH_BYTES,
+        MAX_IN_FLIGHT_BATCHES
+    );
+    /** Provided output keys */
+    public static final Set<String> PROVIDED_OUTPUTS = Set.of(INDEX_NAME);
+
+    private final Client client;
+    private final ThreadPool threadPool;
+    private final FlowFrameworkIndicesHandler flowFrameworkIndicesHandler;
+    private final Path ingestDataPath;
+
+    /**
+     * Instantiate this class
+     *
+     * @param client the client to ingest documents with
+     * @param threadPool the OpenSearch thread pool
+     * @param flowFrameworkIndicesHandler FlowFrameworkIndicesHandler class to record the progress in the workflow state
+     * @param ingestDataPath the directory files may be ingested from, or null if files may not be ingested
+     */
+    public IngestDocumentsStep(
+        Client client,
+        ThreadPool threadPool,
+        FlowFrameworkIndicesHandler flowFrameworkIndicesHandler,
+        @Nullable Path ingestDataPath
+    ) {
+        this.client = client;
+        this.threadPool = threadPool;
+        this.flowFrameworkIndicesHandler = flowFrameworkIndicesHandler;
+        this.ingestDataPath = ingestDataPath;
+    }
+
+    @Override
+    public PlainActionFuture<WorkflowData> execute(
+        String currentNodeId,
+        WorkflowData currentNodeInputs,
+        Map<String, WorkflowData> outputs,
+        Map<String, String> previousNodeInputs,
+        Map<String, String> params,
+        String tenantId
+    ) {
+        AtomicReference<DocumentBulkIngester> ingester = new AtomicReference<>();
+        PlainActionFuture<WorkflowData> ingestFuture = new PlainActionFuture<>() {
+            @Override
+            public boolean cancel(boolean mayInterruptIfRunning) {
+                boolean cancelled = super.cancel(mayInterruptIfRunning);
+                if (cancelled && ingester.get() != null) {
+                    ingester.get().stop();
+                }
+                return cancelled;
+            }
+        };
+
+        try {
+            Map<String, Object> inputs = ParseUtils.getInputsFromPreviousSteps(
+                REQUIRED_INPUTS,
+                OPTIONAL_INPUTS,
+                currentNodeInputs,
+                outputs,
+                previousNodeInputs,
+                params
+            );
+
+            String indexName = inputs.get(INDEX_NAME).toString();
+            String pipeline = inputs.containsKey(PIPELINE) ? inputs.get(PIPELINE).toString() : null;
+            int batchSize = inputs.containsKey(BATCH_SIZE) ? Integer.parseInt(inputs.get(BATCH_SIZE).toString()) : DEFAULT_BATCH_SIZE;
+            long batchBytes = inputs.containsKey(BATCH_BYTES)
+                ? ByteSizeValue.parseBytesSizeValue(inputs.get(BATCH_BYTES).toString(), BATCH_BYTES).getBytes()
+                : DEFAULT_BATCH_BYTES.getBytes();
+            int maxInFlight = inputs.containsKey(MAX_IN_FLIGHT_BATCHES)
+                ? Integer.parseInt(inputs.get(MAX_IN_FLIGHT_BATCHES).toString())
+                : DEFAULT_MAX_IN_FLIGHT_BATCHES;
+            if (batchSize < 1 || batchBytes < 1 || maxInFlight < 1) {
+                throw new IllegalArgumentException(BATCH_SIZE + ", " + BATCH_BYTES + " and " + MAX_IN_FLIGHT_BATCHES + " must be positive");
+            }
+
+            DocumentBulkIngester.DocumentSource source = openSource(inputs, batchSize);
+            String workflowId = currentNodeInputs.getWorkflowId();
+            ActionListener<Void> runningListener = ActionListener.wrap(r -> {}, e -> {
+                // Logged when recording, and recorded again with the next report
+            });
+            DocumentBulkIngester bulkIngester = new DocumentBulkIngester(
+                client,
+                threadPool,
+                PROVISION_WORKFLOW_THREAD_POOL,
+                source,
+                indexName,
+                pipeline,
+                batchSize,
+                batchBytes,
+                maxInFlight,
+                progress -> recordProgress(workflowId, currentNodeId, tenantId, indexName, RUNNING, progress, runningListener)
+            );
+            ingester.set(bulkIngester);
+            bulkIngester.start(ActionListener.wrap(progress -> {
+                Runnable complete = () -> {
+                    if (progress.getFailed() == 0) {
+                        logger.info("Ingested {} documents into index {}", progress.getIngested(), indexName);
+                        ingestFuture.onResponse(new WorkflowData(Map.of(INDEX_NAME, indexName), workflowId, currentNodeId));
+                    } else {
+                        String errorMessage = "Failed to ingest "
+                            + progress.getFailed()
+                            + " of "
+                            + (progress.getIngested() + progress.getFailed())
+                            + " documents into index "
+                            + indexName
+                            + ": "
+                            + progress.getFirstFailure();
+                        logger.error(errorMessage);
+                        ingestFuture.onFailure(new WorkflowStepException(errorMessage, RestStatus.BAD_REQUEST));
+                    }
+                };
+                String status = progress.getFailed() == 0 ? COMPLETED : FAILED;
+                // The outcome of the ingest does not depend on recording it
+                recordProgress(
+                    workflowId,
+                    currentNodeId,
+                    tenantId,
+                    indexName,
+                    status,
+                    progress,
+                    ActionListener.wrap(r -> complete.run(), ex -> complete.run())
+                );
+            }, e -> {
+                boolean cancelled = e instanceof CancellationException;
+                String errorMessage = (cancelled ? "Cancelled ingesting" : "Failed to ingest") + " documents into index " + indexName;
+                if (cancelled) {
+                    logger.info(errorMessage);
+                } else {
+                    logger.error(errorMessage, e);
+                }
+                Runnable fail = () -> ingestFuture.onFailure(new WorkflowStepException(errorMessage, ExceptionsHelper.status(e)));
+                recordProgress(
+                    workflowId,
+                    currentNodeId,
+                    tenantId,
+                    indexName,
+                    cancelled ? CANCELLED : FAILED,
+                    bulkIngester.progress(),
+                    ActionListener.wrap(r -> fail.run(), ex -> fail.run())
+                );
+            }));
+        } catch (IllegalArgumentException iae) {
+            ingestFuture.onFailure(new WorkflowStepException("Failed to ingest documents " + iae.getMessage(), RestStatus.BAD_REQUEST));
+        } catch (Exception e) {
+            ingestFuture.onFailure(new WorkflowStepException(e.getMessage(), ExceptionsHelper.status(e)));
+        }
+        return ingestFuture;
+    }
+
+    /**
+     * Opens the single source of documents given in the inputs
+     */
+    private DocumentBulkIngester.DocumentSource openSource(Map<String, Object> inputs, int batchSize) throws IOException {
+        List<String> given = new ArrayList<>();
+        for (String key : List.of(FILE_PATH, DOCUMENTS, SOURCE_INDEX)) {
+            if (inputs.containsKey(key)) {
+                given.add(key);
+            }
+        }
+        if (given.size() != 1) {
+            throw new IllegalArgumentException("exactly one of " + FILE_PATH + ", " + DOCUMENTS + " or " + SOURCE_INDEX + " is required");
+        }
+        switch (given.get(0)) {
+            case FILE_PATH:
+                Path file = resolveFile(inputs.get(FILE_PATH).toString());
+                return new LineDocumentSource(Files.newBufferedReader(file, StandardCharsets.UTF_8));
+            case DOCUMENTS:
+                return inlineSource(inputs.get(DOCUMENTS));
+            default:
+                return new IndexDocumentSource(client, inputs.get(SOURCE_INDEX).toString(), batchSize);
+        }
+    }
+
+    /**
+     * Resolves a file to ingest, which must be within the ingest data directory
+     */
+    private Path resolveFile(String filePath) {
+        if (ingestDataPath == null) {
+            throw new IllegalArgumentException("ingesting files is not supported on this node");
+        }
+        String errorMessage = "file " + filePath + " is not a file in the ingest data directory " + ingestDataPath;
+        Path dataPath;
+        Path file;
+        try {
+            // Symbolic links are resolved on both paths, so a link within the directory can't lead outside of it
+            dataPath = ingestDataPath.toRealPath();
+            file = dataPath.resolve(filePath).toRealPath();
+        } catch (IOException e) {
+            throw new IllegalArgumentException(errorMessage, e);
+        }
+        if (!file.startsWith(dataPath) || !Files.isRegularFile(file)) {
+            throw new IllegalArgumentException(errorMessage);
+        }
+        return file;
+    }
+
+    /**
+     * Creates a source for an inline payload, either a JSON array of documents, a list of documents, or newline delimited JSON
+     */
+    private static DocumentBulkIngester.DocumentSource inlineSource(Object documents) throws IOException {
+        if (documents instanceof List) {
+            return new ListDocumentSource((List<?>) documents);
+        }
+        String payload = documents.toString().trim();
+        if (payload.startsWith("[")) {
+            // Wrapped in an object as only objects are parsed to maps
+            String wrapped = "{\"" + DOCUMENTS + "\":" + payload + "}";
+            Object parsed = XContentHelper.convertToMap(MediaTypeRegistry.JSON.xContent(), wrapped, false).get(DOCUMENTS);
+            return new ListDocumentSource((List<?>) parsed);
+        }
+        return new LineDocumentSource(new BufferedReader(new StringReader(payload)));
+    }
+
+    private void recordProgress(
+        String workflowId,
+        String nodeId,
+        String tenantId,
+        String indexName,
+        String status,
+        DocumentBulkIngester.Progress progress,
+        ActionListener<Void> listener
+    ) {
+        Map<String, String> fields = progress.toStringMap();
+        fields.put(INDEX_NAME, indexName);
+        fields.put(STATUS, status);
+        flowFrameworkIndicesHandler.updateFlowFrameworkSystemIndexDoc(
+            workflowId,
+            tenantId,
+            Map.of(USER_OUTPUTS_FIELD, Map.of(nodeId, fields)),
+            ActionListener.wrap(r -> listener.onResponse(null), e -> {
+                logger.error("Failed to record the ingest progress of workflow {}", workflowId, e);
+                listener.onFailure(e);
+            })
+        );
+    }
+
+    @Override
+    public String getName() {
+        return NAME;
+    }
+
+    /**
+     * Reads a document from each non blank line
+     */
+    static class LineDocumentSource implements DocumentBulkIngester.DocumentSource {
+        private final BufferedReader reader;
+
+        LineDocumentSource(BufferedReader reader) {
+            this.reader = reader;
+        }
+
+        @Override
+        public BytesReference next() throws IOException {
+            String line;
+            while ((line = reader.readLine()) != null) {
+                if (!line.isBlank()) {
+                    return new BytesArray(line);
+                }
+            }
+            return null;
+        }
+
+        @Override
+        public void close() throws IOException {
+            reader.close();
+        }
+    }
+
+    /**
+     * Reads a document from each element of a list, either a map or a JSON string
+     */
+    static class ListDocumentSource implements DocumentBulkIngester.DocumentSource {
+        private final Iterator<?> documents;
+
+        ListDocumentSource(List<?> documents) {
+            this.documents = documents.iterator();
+        }
+
+        @Override
+        @SuppressWarnings("unchecked")
+        public BytesReference next() throws IOException {
+            if (!documents.hasNext()) {
+                return null;
+            }
+            Object document = documents.next();
+            if (document instanceof Map) {
+                return BytesReference.bytes(XContentFactory.jsonBuilder().map((Map<String, ?>) document));
+            }
+            return new BytesArray(document.toString());
+        }
+
+        @Override
+        public void close() {}
+    }
+
+    /**
+     * Reads the documents of an index with a scroll, a page at a time
+     */
+    static class IndexDocumentSource implements DocumentBulkIngester.DocumentSource {
+        private final Client client;
+        private final String sourceIndices;
+        private final int pageSize;
+        private final Deque<SearchHit> page = new ArrayDeque<>();
+        private String scrollId;
+        private boolean exhausted;
+
+        IndexDocumentSource(Client client, String sourceIndices, int pageSize) {
+            this.client = client;
+            this.sourceIndices = sourceIndices;
+            this.pageSize = pageSize;
+        }
+
+        @Override
+        public BytesReference next() {
+            while (page.isEmpty() && !exhausted) {
+                SearchResponse response;
+                if (scrollId == null) {
+                    SearchRequest searchRequest = new SearchRequest(Strings.splitStringByCommaToArray(sourceIndices));
+                    searchRequest.scroll(SCROLL_KEEP_ALIVE).source(new SearchSourceBuilder().size(pageSize).sort("_doc"));
+                    response = client.search(searchRequest).actionGet();
+                } else {
+                    response = client.searchScroll(new SearchScrollRequest(scrollId).scroll(SCROLL_KEEP_ALIVE)).actionGet();
+                }
+                scrollId = response.getScrollId();
+                SearchHit[] hits = response.getHits().getHits();
+                exhausted = hits.length == 0;
+                Collections.addAll(page, hits);
+            }
+            SearchHit hit = page.poll();
+            return hit == null ? null : hit.getSourceRef();
+        }
+
+        @Override
+        public void close() {
+            if (scrollId != null) {
+                ClearScrollRequest clearScrollRequest = new ClearScrollRequest();
+                clearScrollRequest.addScrollId(scrollId);
+                client.clearScroll(
+                    clearScrollRequest,
+                    ActionListener.wrap(r -> {}, e -> logger.debug("Failed to clear the scroll of index {}", sourceIndices, e))
+                );
+            }
+        }
+    }
+}
@@ -0,0 +1,60 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * The OpenSearch Contributors require contributions made to
+ * this file be licensed under the Apache-2.0 license or a
+ * compatible open source license.
+ */
+package org.opensearch.flowframework.workflow;
+
+import java.util.Arrays;
+import java.util.concurrent.atomic.AtomicLongArray;
+
+/**
+ * A fixed number of latency samples, each recorded once by the request it measures, and their percentiles.
+ */
+class LatencySamples {
+
+    private final AtomicLongArray latencies;
+
+    /**
+     * Instantiate this class
+     * @param size the number of samples
+     */
+    LatencySamples(int size) {
+        this.latencies = new AtomicLongArray(size);
+    }
+
+    /**
+     * Records the latency of a request
+     * @param sample the index of the request
+     * @param latencyMillis the latency of the request in milliseconds
+     */
+    void record(int sample, long latencyMillis) {
+        latencies.set(sample, latencyMillis);
+    }
+
+    /**
+     * Gets the number of samples
+     * @return the number of samples
+     */
+    int size() {
+        return latencies.length();
+    }
+
+    /**
+     * Gets a percentile of the recorded latencies by the nearest rank
+     * @param percentile the percentile, between 0 and 100
+     * @return the latency in milliseconds at the percentile
+     */
+    long percentile(double percentile) {
+        long[] sorted = new long[latencies.length()];
+        for (int i = 0; i < sorted.length; i++) {
+            sorted[i] = latencies.get(i);
+        }
+        Arrays.sort(sorted);
+        int rank = (int) Math.ceil(percentile / 100.0 * sorted.length);
+        return sorted[Math.max(0, rank - 1)];
+    }
+}
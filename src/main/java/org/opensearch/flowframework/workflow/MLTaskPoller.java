@@ -0,0 +1,166 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * The OpenSearch Contributors require contributions made to
+ * this file be licensed under the Apache-2.0 license or a
+ * compatible open source license.
+ */
+package org.opensearch.flowframework.workflow;
+
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+import org.opensearch.action.support.PlainActionFuture;
+import org.opensearch.core.action.ActionListener;
+import org.opensearch.flowframework.common.FlowFrameworkSettings;
+import org.opensearch.ml.client.MachineLearningNodeClient;
+import org.opensearch.ml.common.MLTask;
+import org.opensearch.ml.common.MLTaskState;
+import org.opensearch.threadpool.ThreadPool;
+
+import java.util.EnumSet;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+import static org.opensearch.flowframework.common.CommonValue.WORKFLOW_THREAD_POOL;
+
+/**
+ * Polls the ML tasks started by workflow steps until they finish.
+ * <p>
+ * All the pending tasks are polled by a single loop every retry duration, rather than one loop per step, so that a
+ * workflow registering and deploying several models at once keeps one poller busy. A task is only polled again once its
+ * previous poll returned.
+ */
+public class MLTaskPoller {
+
+    private static final Logger logger = LogManager.getLogger(MLTaskPoller.class);
+
+    /** The states in which a task is finished */
+    static final Set<MLTaskState> FINISHED_STATES = EnumSet.of(
+        MLTaskState.COMPLETED,
+        MLTaskState.FAILED,
+        MLTaskState.COMPLETED_WITH_ERROR,
+        MLTaskState.CANCELLED
+    );
+
+    private final ThreadPool threadPool;
+    private final MachineLearningNodeClient mlClient;
+    private final FlowFrameworkSettings flowFrameworkSettings;
+    private final Set<PendingTask> pending = ConcurrentHashMap.newKeySet();
+    private boolean polling = false;
+
+    /**
+     * Instantiate this class
+     * @param threadPool The OpenSearch thread pool
+     * @param mlClient machine learning client
+     * @param flowFrameworkSettings settings of flow framework, giving the interval between polls
+     */
+    public MLTaskPoller(ThreadPool threadPool, MachineLearningNodeClient mlClient, FlowFrameworkSettings flowFrameworkSettings) {
+        this.threadPool = threadPool;
+        this.mlClient = mlClient;
+        this.flowFrameworkSettings = flowFrameworkSettings;
+    }
+
+    /**
+     * Polls a task until it finishes
+     * @param taskId the ml task id
+     * @param tenantId the tenant ID
+     * @param future the future of the step waiting on the task. Once it is cancelled the task is polled a last time.
+     * @param listener notified with the finished task, or the failure to get it
+     */
+    public void poll(String taskId, String tenantId, PlainActionFuture<WorkflowData> future, ActionListener<MLTask> listener) {
+        pending.add(new PendingTask(taskId, tenantId, future, listener));
+        boolean start;
+        synchronized (this) {
+            start = !polling;
+            polling = true;
+        }
+        if (start) {
+            try {
+                threadPool.executor(WORKFLOW_THREAD_POOL).execute(this::pollAll);
+            } catch (Exception e) {
+                stopPolling(e);
+            }
+        }
+    }
+
+    /**
+     * Polls each pending task once, and schedules the next round while tasks remain
+     */
+    void pollAll() {
+        logger.debug("Polling {} ML tasks", pending.size());
+        pending.forEach(this::pollTask);
+        synchronized (this) {
+            if (pending.isEmpty()) {
+                polling = false;
+                return;
+            }
+        }
+        try {
+            threadPool.schedule(this::pollAll, flowFrameworkSettings.getRetryDuration(), WORKFLOW_THREAD_POOL);
+        } catch (Exception e) {
+            stopPolling(e);
+        }
+    }
+
+    /**
+     * Number of tasks being polled
+     * @return the number of pending tasks
+     */
+    int pendingTasks() {
+        return pending.size();
+    }
+
+    private void pollTask(PendingTask task) {
+        if (!task.inFlight.compareAndSet(false, true)) {
+            return;
+        }
+        // A step which timed out still gets the outcome of a task that finished meanwhile, so that its resource is recorded
+        boolean last = task.future.isDone();
+        ActionListener<MLTask> taskListener = ActionListener.wrap(response -> {
+            if (FINISHED_STATES.contains(response.getState())) {
+                pending.remove(task);
+                task.listener.onResponse(response);
+            } else if (last) {
+                pending.remove(task);
+            }
+            task.inFlight.set(false);
+        }, e -> {
+            pending.remove(task);
+            task.listener.onFailure(e);
+        });
+        try {
+            mlClient.getTask(task.taskId, task.tenantId, taskListener);
+        } catch (Exception e) {
+            taskListener.onFailure(e);
+        }
+    }
+
+    private void stopPolling(Exception e) {
+        logger.error("Failed to poll ML tasks", e);
+        synchronized (this) {
+            polling = false;
+        }
+        for (PendingTask task : pending) {
+            if (pending.remove(task)) {
+                task.listener.onFailure(e);
+            }
+        }
+    }
+
+    private static class PendingTask {
+        private final String taskId;
+        private final String tenantId;
+        private final PlainActionFuture<WorkflowData> future;
+        private final ActionListener<MLTask> listener;
+        private final AtomicBoolean inFlight = new AtomicBoolean();
+
+        PendingTask(String taskId, String tenantId, PlainActionFuture<WorkflowData> future, ActionListener<MLTask> listener) {
+            this.taskId = taskId;
+            this.tenantId = tenantId;
+            this.future = future;
+            this.listener = listener;
+        }
+    }
+}
@@ -10,14 +10,23 @@ package org.opensearch.flowframework.workflow;
 
 import org.apache.logging.log4j.LogManager;
 import org.apache.logging.log4j.Logger;
+import org.opensearch.OpenSearchTimeoutException;
 import org.opensearch.action.support.PlainActionFuture;
 import org.opensearch.common.unit.TimeValue;
-import org.opensearch.threadpool.ThreadPool;
+import org.opensearch.core.rest.RestStatus;
+import org.opensearch.flowframework.exception.FlowFrameworkException;
+import org.opensearch.flowframework.model.StepStatus;
+import org.opensearch.flowframework.model.StepTimeline;
+import org.opensearch.flowframework.stats.FlowFrameworkStats;
+import org.opensearch.flowframework.stats.FlowFrameworkStats.StepOutcome;
 
+import java.time.Instant;
+import java.util.ArrayList;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
 
 /**
  * Representation of a process node in a workflow graph.
@@ -33,13 +42,23 @@ public class ProcessNode {
     private final Map<String, String> params;
     private final WorkflowData input;
     private final List<ProcessNode> predecessors;
-    private final ThreadPool threadPool;
+    private final WorkflowExecutors workflowExecutors;
     private final String threadPoolName;
     private final TimeValue nodeTimeout;
     private final String tenantId;
+    private final FlowFrameworkStats stats;
 
     private final PlainActionFuture<WorkflowData> future = PlainActionFuture.newFuture();
 
+    private volatile StepStatus status = StepStatus.QUEUED;
+    private volatile Instant enqueueTime = null;
+    private volatile Instant startTime = null;
+    private volatile Instant endTime = null;
+    private volatile long predecessorWaitMillis = 0;
+    private volatile boolean cancelled = false;
+    private PlainActionFuture<WorkflowData> stepFuture = null;
+    private final List<Runnable> completionListeners = new ArrayList<>();
+
     /**
      * Create this node linked to its executing process, including input data and any predecessor nodes.
      *
@@ -49,10 +68,11 @@ public class ProcessNode {
      * @param params Params passed on the REST path
      * @param input Input required by the node encoded in a {@link WorkflowData} instance.
      * @param predecessors Nodes preceding this one in the workflow
-     * @param threadPool The OpenSearch thread pool
+     * @param workflowExecutors Resolves the executor of the thread pool
      * @param threadPoolName The thread pool to use
      * @param nodeTimeout The timeout value for executing on this node
      * @param tenantId The tenantId
+     * @param stats The node statistics to record this node's execution in
      */
     public ProcessNode(
         String id,
@@ -61,10 +81,11 @@ public class ProcessNode {
         Map<String, String> params,
         WorkflowData input,
         List<ProcessNode> predecessors,
-        ThreadPool threadPool,
+        WorkflowExecutors workflowExecutors,
         String threadPoolName,
         TimeValue nodeTimeout,
-        String tenantId
+        String tenantId,
+        FlowFrameworkStats stats
     ) {
         this.id = id;
         this.workflowStep = workflowStep;
@@ -72,10 +93,11 @@ public class ProcessNode {
         this.params = params;
         this.input = input;
         this.predecessors = predecessors;
-        this.threadPool = threadPool;
+        this.workflowExecutors = workflowExecutors;
         this.threadPoolName = threadPoolName;
         this.nodeTimeout = nodeTimeout;
         this.tenantId = tenantId;
+        this.stats = stats;
     }
 
     /**
@@ -156,6 +178,24 @@ public class ProcessNode {
         return tenantId;
     }
 
+    /**
+     * Returns the execution timeline of this node so far
+     * @param retryCount the number of retries made while recording this node's resources
+     * @return the timeline of this node
+     */
+    public StepTimeline timeline(int retryCount) {
+        return new StepTimeline(
+            this.id,
+            this.workflowStep.getName(),
+            this.enqueueTime,
+            this.startTime,
+            this.endTime,
+            this.predecessorWaitMillis,
+            retryCount,
+            this.status
+        );
+    }
+
     /**
      * Execute this node in the sequence.
      * Initializes the node's {@link CompletableFuture} and completes it when the process completes.
@@ -164,11 +204,21 @@ public class ProcessNode {
      * This is returned immediately, while process execution continues asynchronously.
      */
     public PlainActionFuture<WorkflowData> execute() {
+        if (this.cancelled) {
+            return this.future;
+        }
         if (this.future.isDone()) {
             throw new IllegalStateException("Process Node [" + this.id + "] already executed.");
         }
 
+        this.enqueueTime = Instant.now();
+        long submittedNanos = System.nanoTime();
         CompletableFuture.runAsync(() -> {
+            long dequeuedNanos = System.nanoTime();
+            long queueWaitNanos = dequeuedNanos - submittedNanos;
+            this.status = StepStatus.WAITING;
+            long startedNanos = 0;
+            boolean started = false;
             try {
                 // get the input data from predecessor(s)
                 Map<String, WorkflowData> inputMap = new HashMap<>();
@@ -178,7 +228,14 @@ public class ProcessNode {
                 }
 
                 // record start time for this step.
+                if (!tryStart()) {
+                    throw cancelledException();
+                }
                 logger.info("Starting {}.", this.id);
+                startedNanos = System.nanoTime();
+                started = true;
+                this.predecessorWaitMillis = TimeUnit.NANOSECONDS.toMillis(startedNanos - dequeuedNanos);
+                this.startTime = Instant.now();
                 PlainActionFuture<WorkflowData> stepFuture = this.workflowStep.execute(
                     this.id,
                     this.input,
@@ -187,17 +244,123 @@ public class ProcessNode {
                     this.params,
                     this.tenantId
                 );
+                setStepFuture(stepFuture);
+                WorkflowData output;
+                try {
+                    output = stepFuture.actionGet(this.nodeTimeout);
+                } catch (OpenSearchTimeoutException e) {
+                    // Stop the step's outstanding work rather than letting it run on unobserved
+                    stepFuture.cancel(true);
+                    throw e;
+                }
+                stats.recordStep(workflowStep.getName(), queueWaitNanos, System.nanoTime() - startedNanos, StepOutcome.SUCCESS);
+                this.endTime = Instant.now();
+                this.status = StepStatus.COMPLETED;
                 // If completed exceptionally, this is a no-op
-                future.onResponse(stepFuture.actionGet(this.nodeTimeout));
+                future.onResponse(output);
+                notifyCompletion();
                 // record end time passing workflow steps
                 logger.info("Finished {}.", this.id);
             } catch (Exception e) {
-                this.future.onFailure(e);
+                // A failed predecessor is not an execution of this step
+                if (started) {
+                    StepOutcome outcome = e instanceof OpenSearchTimeoutException ? StepOutcome.TIMEOUT : StepOutcome.FAILURE;
+                    stats.recordStep(workflowStep.getName(), queueWaitNanos, System.nanoTime() - startedNanos, outcome);
+                    this.endTime = Instant.now();
+                    if (outcome == StepOutcome.TIMEOUT) {
+                        this.status = StepStatus.TIMED_OUT;
+                    } else {
+                        this.status = this.cancelled ? StepStatus.CANCELLED : StepStatus.FAILED;
+                    }
+                } else {
+                    this.status = StepStatus.SKIPPED;
+                }
+                this.future.onFailure(this.cancelled ? cancelledException() : e);
+                notifyCompletion();
             }
-        }, threadPool.executor(this.threadPoolName));
+        }, workflowExecutors.executor(this.threadPoolName));
         return this.future;
     }
 
+    /**
+     * Cooperatively cancels this node.
+     * A node which has not started is skipped and fails immediately so its successors stop waiting on it.
+     * A running node has its step future cancelled, which stops any polling of the step and lets the step release what it holds.
+     * A completed node is left unchanged.
+     */
+    public void cancel() {
+        synchronized (this) {
+            if (this.cancelled || this.future.isDone()) {
+                return;
+            }
+            this.cancelled = true;
+            if (this.status == StepStatus.RUNNING) {
+                if (this.stepFuture != null) {
+                    this.stepFuture.cancel(true);
+                }
+                return;
+            }
+            if (this.status != StepStatus.QUEUED && this.status != StepStatus.WAITING) {
+                return;
+            }
+            this.status = StepStatus.SKIPPED;
+            this.future.onFailure(cancelledException());
+        }
+        // Notified outside the lock, as the listeners may go on to record the workflow state
+        notifyCompletion();
+    }
+
+    /**
+     * Runs a listener once this node's future has completed, right away if it already has
+     * @param listener the listener to run
+     */
+    public void addCompletionListener(Runnable listener) {
+        synchronized (this) {
+            if (!this.future.isDone()) {
+                this.completionListeners.add(listener);
+                return;
+            }
+        }
+        listener.run();
+    }
+
+    private void notifyCompletion() {
+        List<Runnable> listeners;
+        synchronized (this) {
+            listeners = new ArrayList<>(this.completionListeners);
+            this.completionListeners.clear();
+        }
+        listeners.forEach(Runnable::run);
+    }
+
+    /**
+     * Returns whether this node has been cancelled
+     * @return true if {@link #cancel()} was called before this node completed
+     */
+    public boolean isCancelled() {
+        return this.cancelled;
+    }
+
+    private synchronized boolean tryStart() {
+        if (this.cancelled) {
+            return false;
+        }
+        this.status = StepStatus.RUNNING;
+        return true;
+    }
+
+    private synchronized void setStepFuture(PlainActionFuture<WorkflowData> stepFuture) {
+        this.stepFuture = stepFuture;
+        // Cancelled while the step was being started
+        if (this.cancelled) {
+            stepFuture.cancel(true);
+        }
+    }
+
+    private FlowFrameworkException cancelledException() {
+        return new FlowFrameworkException("Workflow step [" + this.id + "] was cancelled.", RestStatus.REQUEST_TIMEOUT);
+    }
+
     @Override
     public String toString() {
         return this.id;
@@ -50,7 +50,21 @@ public class RegisterLocalCustomModelStep extends AbstractRegisterLocalModelStep
         FlowFrameworkIndicesHandler flowFrameworkIndicesHandler,
         FlowFrameworkSettings flowFrameworkSettings
     ) {
-        super(threadPool, mlClient, flowFrameworkIndicesHandler, flowFrameworkSettings);
+        this(mlClient, flowFrameworkIndicesHandler, new MLTaskPoller(threadPool, mlClient, flowFrameworkSettings));
+    }
+
+    /**
+     * Instantiate this class
+     * @param mlClient client to instantiate MLClient
+     * @param flowFrameworkIndicesHandler FlowFrameworkIndicesHandler class to update system indices
+     * @param mlTaskPoller the poller shared by the steps waiting on ml tasks
+     */
+    public RegisterLocalCustomModelStep(
+        MachineLearningNodeClient mlClient,
+        FlowFrameworkIndicesHandler flowFrameworkIndicesHandler,
+        MLTaskPoller mlTaskPoller
+    ) {
+        super(mlClient, flowFrameworkIndicesHandler, mlTaskPoller);
     }
 
     @Override
@@ -47,7 +47,21 @@ public class RegisterLocalSparseEncodingModelStep extends AbstractRegisterLocalM
         FlowFrameworkIndicesHandler flowFrameworkIndicesHandler,
         FlowFrameworkSettings flowFrameworkSettings
     ) {
-        super(threadPool, mlClient, flowFrameworkIndicesHandler, flowFrameworkSettings);
+        this(mlClient, flowFrameworkIndicesHandler, new MLTaskPoller(threadPool, mlClient, flowFrameworkSettings));
+    }
+
+    /**
+     * Instantiate this class
+     * @param mlClient client to instantiate MLClient
+     * @param flowFrameworkIndicesHandler FlowFrameworkIndicesHandler class to update system indices
+     * @param mlTaskPoller the poller shared by the steps waiting on ml tasks
+     */
+    public RegisterLocalSparseEncodingModelStep(
+        MachineLearningNodeClient mlClient,
+        FlowFrameworkIndicesHandler flowFrameworkIndicesHandler,
+        MLTaskPoller mlTaskPoller
+    ) {
+        super(mlClient, flowFrameworkIndicesHandler, mlTaskPoller);
     }
 
     @Override
@@ -12,33 +12,61 @@ import org.apache.logging.log4j.LogManager;
 import org.apache.logging.log4j.Logger;
 import org.apache.logging.log4j.message.ParameterizedMessageFactory;
 import org.opensearch.ExceptionsHelper;
+import org.opensearch.action.admin.cluster.node.tasks.cancel.CancelTasksRequest;
+import org.opensearch.action.admin.cluster.node.tasks.get.GetTaskRequest;
 import org.opensearch.action.support.PlainActionFuture;
 import org.opensearch.common.Booleans;
+import org.opensearch.common.unit.TimeValue;
+import org.opensearch.common.util.concurrent.ThreadContext;
 import org.opensearch.core.action.ActionListener;
 import org.opensearch.core.common.Strings;
 import org.opensearch.core.rest.RestStatus;
+import org.opensearch.core.tasks.TaskId;
 import org.opensearch.flowframework.exception.FlowFrameworkException;
 import org.opensearch.flowframework.exception.WorkflowStepException;
 import org.opensearch.flowframework.indices.FlowFrameworkIndicesHandler;
+import org.opensearch.flowframework.model.WorkflowState;
 import org.opensearch.flowframework.util.ParseUtils;
+import org.opensearch.index.reindex.AbstractBulkByScrollRequest;
 import org.opensearch.index.reindex.BulkByScrollResponse;
 import org.opensearch.index.reindex.ReindexAction;
 import org.opensearch.index.reindex.ReindexRequest;
+import org.opensearch.tasks.Task;
+import org.opensearch.tasks.TaskResult;
 import org.opensearch.transport.client.Client;
+import org.opensearch.transport.client.node.NodeClient;
 
 import java.util.Map;
+import java.util.Objects;
 import java.util.Set;
+import java.util.concurrent.atomic.AtomicReference;
 
 import static org.opensearch.flowframework.common.CommonValue.DESTINATION_INDEX;
 import static org.opensearch.flowframework.common.CommonValue.SOURCE_INDEX;
+import static org.opensearch.flowframework.common.CommonValue.TASK_ID;
+import static org.opensearch.flowframework.common.CommonValue.USER_OUTPUTS_FIELD;
+import static org.opensearch.flowframework.model.WorkflowNode.NODE_TIMEOUT_DEFAULT_VALUE;
+import static org.opensearch.flowframework.model.WorkflowNode.NODE_TIMEOUT_FIELD;
 
 /**
  * Step to reindex
+ * <p>
+ * With {@code wait_for_completion} set to false, the reindex runs in the background: the step completes as soon as the
+ * reindex task is started, and its task id and progress are recorded in the user outputs of the workflow state under
+ * the id of this workflow node. The task id may be used with the reindex rethrottle API. Slices default to one per
+ * shard of the source indices. When the step is executed again, e.g. on reprovisioning, it reattaches to the recorded
+ * reindex of the same indices if that is still running or has completed, rather than starting it over.
+ * <p>
+ * With {@code bulk_load} set to true, refresh is disabled and replicas are removed from the destination index while the
+ * reindex runs. The configured settings are then restored, the index is force merged to {@code max_num_segments} segments,
+ * one by default, if {@code force_merge} is true, and the step completes once the index is ready, within the node timeout.
+ * See {@link BulkLoadIndexSettings}.
  */
 public class ReindexStep implements WorkflowStep {
 
     private static final Logger logger = LogManager.getLogger(ReindexStep.class);
     private final Client client;
+    private final FlowFrameworkIndicesHandler flowFrameworkIndicesHandler;
     /** The name of this step, used as a key in the template and the {@link WorkflowStepFactory} */
     public static final String NAME = "reindex";
     /** The refresh field for reindex */
@@ -51,10 +79,28 @@ public class ReindexStep implements WorkflowStep {
     private static final String SLICES = "slices";
     /** The max_docs field for reindex */
     private static final String MAX_DOCS = "max_docs";
+    /** The wait_for_completion field for reindex, false to run the reindex in the background */
+    private static final String WAIT_FOR_COMPLETION = "wait_for_completion";
+    /** The bulk_load field for reindex, true to apply bulk load settings to the destination index during the reindex */
+    private static final String BULK_LOAD = "bulk_load";
+    /** The force_merge field for reindex, true to force merge the destination index after a bulk load */
+    private static final String FORCE_MERGE = "force_merge";
+    /** The max_num_segments field for reindex, the number of segments to force merge the destination index to */
+    private static final String MAX_NUM_SEGMENTS = "max_num_segments";
     /** Required input keys **/
     public static final Set<String> REQUIRED_INPUTS = Set.of(SOURCE_INDEX, DESTINATION_INDEX);
     /** Optional input keys */
-    public static final Set<String> OPTIONAL_INPUTS = Set.of(REFRESH, REQUESTS_PER_SECOND, REQUIRE_ALIAS, SLICES, MAX_DOCS);
+    public static final Set<String> OPTIONAL_INPUTS = Set.of(
+        REFRESH,
+        REQUESTS_PER_SECOND,
+        REQUIRE_ALIAS,
+        SLICES,
+        MAX_DOCS,
+        WAIT_FOR_COMPLETION,
+        BULK_LOAD,
+        FORCE_MERGE,
+        MAX_NUM_SEGMENTS
+    );
     /** Provided output keys */
     public static final Set<String> PROVIDED_OUTPUTS = Set.of(NAME);
 
@@ -66,6 +112,7 @@ public class ReindexStep implements WorkflowStep {
      */
     public ReindexStep(Client client, FlowFrameworkIndicesHandler flowFrameworkIndicesHandler) {
         this.client = client;
+        this.flowFrameworkIndicesHandler = flowFrameworkIndicesHandler;
     }
 
     @Override
@@ -78,7 +125,17 @@ public class ReindexStep implements WorkflowStep {
         String tenantId
     ) {
 
-        PlainActionFuture<WorkflowData> reIndexFuture = PlainActionFuture.newFuture();
+        AtomicReference<TaskId> reindexTaskId = new AtomicReference<>();
+        PlainActionFuture<WorkflowData> reIndexFuture = new PlainActionFuture<>() {
+            @Override
+            public boolean cancel(boolean mayInterruptIfRunning) {
+                boolean cancelled = super.cancel(mayInterruptIfRunning);
+                if (cancelled) {
+                    cancelReindexTask(reindexTaskId.get());
+                }
+                return cancelled;
+            }
+        };
 
         try {
             Map<String, Object> inputs = ParseUtils.getInputsFromPreviousSteps(
@@ -96,11 +153,25 @@ public class ReindexStep implements WorkflowStep {
             Float requestsPerSecond = inputs.containsKey(REQUESTS_PER_SECOND)
                 ? Float.parseFloat(inputs.get(REQUESTS_PER_SECOND).toString())
                 : null;
-            requestsPerSecond = requestsPerSecond < 0 ? Float.POSITIVE_INFINITY : requestsPerSecond;
+            if (requestsPerSecond != null && requestsPerSecond < 0) {
+                requestsPerSecond = Float.POSITIVE_INFINITY;
+            }
             Boolean requireAlias = inputs.containsKey(REQUIRE_ALIAS) ? Booleans.parseBoolean(inputs.get(REQUIRE_ALIAS).toString()) : null;
             Integer slices;
             Integer maxDocs;
-            if (inputs.get(SLICES) != null) {
+            boolean waitForCompletion = !inputs.containsKey(WAIT_FOR_COMPLETION)
+                || Booleans.parseBoolean(inputs.get(WAIT_FOR_COMPLETION).toString());
+            boolean bulkLoad = inputs.containsKey(BULK_LOAD) && Booleans.parseBoolean(inputs.get(BULK_LOAD).toString());
+            boolean forceMerge = inputs.containsKey(FORCE_MERGE) && Booleans.parseBoolean(inputs.get(FORCE_MERGE).toString());
+            int maxNumSegments = inputs.containsKey(MAX_NUM_SEGMENTS)
+                ? Integer.parseInt(inputs.get(MAX_NUM_SEGMENTS).toString())
+                : BulkLoadIndexSettings.DEFAULT_MAX_NUM_SEGMENTS;
+            if (bulkLoad && !waitForCompletion) {
+                throw new IllegalArgumentException("bulk load settings can only be applied when waiting for completion");
+            }
+            if (AbstractBulkByScrollRequest.AUTO_SLICES_VALUE.equals(inputs.get(SLICES))) {
+                slices = AbstractBulkByScrollRequest.AUTO_SLICES;
+            } else if (inputs.get(SLICES) != null) {
                 slices = Integer.parseInt(String.valueOf(inputs.get(SLICES)));
             } else {
                 slices = (Integer) inputs.get(SLICES);
@@ -127,8 +198,23 @@ public class ReindexStep implements WorkflowStep {
             }
             if (slices != null) {
                 reindexRequest.setSlices(slices);
+            } else if (!waitForCompletion) {
+                // Background reindexes are large, so slice them by the shards of the source indices
+                reindexRequest.setSlices(AbstractBulkByScrollRequest.AUTO_SLICES);
+            }
+
+            if (!waitForCompletion) {
+                executeInBackground(reindexRequest, currentNodeInputs, sourceIndices, destinationIndex, tenantId, reIndexFuture);
+                return reIndexFuture;
             }
 
+            BulkLoadIndexSettings bulkLoadSettings = bulkLoad
+                ? new BulkLoadIndexSettings(client, destinationIndex, parseNodeTimeout(currentNodeInputs))
+                : null;
+            ActionListener<WorkflowData> resultListener = bulkLoadSettings == null
+                ? reIndexFuture
+                : completeBulkLoad(bulkLoadSettings, forceMerge, maxNumSegments, destinationIndex, reIndexFuture);
+
             ActionListener<BulkByScrollResponse> actionListener = new ActionListener<>() {
 
                 @Override
@@ -136,7 +222,7 @@ public class ReindexStep implements WorkflowStep {
                     logger.info("Reindex from source: {} to destination {}", sourceIndices, destinationIndex);
                     try {
                         if (bulkByScrollResponse.getBulkFailures().isEmpty() && bulkByScrollResponse.getSearchFailures().isEmpty()) {
-                            reIndexFuture.onResponse(
+                            resultListener.onResponse(
                                 new WorkflowData(
                                     Map.of(
                                         NAME,
@@ -151,12 +237,12 @@ public class ReindexStep implements WorkflowStep {
                             );
                         } else {
                             String errorMessage = "Failed to get bulk response " + bulkByScrollResponse.getBulkFailures();
-                            reIndexFuture.onFailure(new FlowFrameworkException(errorMessage, RestStatus.BAD_REQUEST));
+                            resultListener.onFailure(new FlowFrameworkException(errorMessage, RestStatus.BAD_REQUEST));
                         }
                     } catch (Exception e) {
                         String errorMessage = "Failed to parse and update new created resource";
                         logger.error(errorMessage, e);
-                        reIndexFuture.onFailure(new FlowFrameworkException(errorMessage, ExceptionsHelper.status(e)));
+                        resultListener.onFailure(new FlowFrameworkException(errorMessage, ExceptionsHelper.status(e)));
                     }
                 }
 
@@ -168,11 +254,21 @@ public class ReindexStep implements WorkflowStep {
                         destinationIndex
                     ).getFormattedMessage();
                     logger.error(errorMessage, e);
-                    reIndexFuture.onFailure(new WorkflowStepException(errorMessage, ExceptionsHelper.status(e)));
+                    resultListener.onFailure(new WorkflowStepException(errorMessage, ExceptionsHelper.status(e)));
                 }
             };
 
-            client.execute(ReindexAction.INSTANCE, reindexRequest, actionListener);
+            if (bulkLoadSettings == null) {
+                executeReindex(reindexRequest, reindexTaskId, reIndexFuture, actionListener);
+            } else {
+                bulkLoadSettings.apply(
+                    ActionListener.wrap(applied -> executeReindex(reindexRequest, reindexTaskId, reIndexFuture, actionListener), e -> {
+                        String errorMessage = "Failed to apply bulk load settings to index " + destinationIndex;
+                        logger.error(errorMessage, e);
+                        reIndexFuture.onFailure(new WorkflowStepException(errorMessage, ExceptionsHelper.status(e)));
+                    })
+                );
+            }
 
         } catch (IllegalArgumentException iae) {
             String error = "Failed to reindex " + iae.getMessage();
@@ -184,6 +280,222 @@ public class ReindexStep implements WorkflowStep {
         return reIndexFuture;
     }
 
+    private void executeReindex(
+        ReindexRequest reindexRequest,
+        AtomicReference<TaskId> reindexTaskId,
+        PlainActionFuture<WorkflowData> reIndexFuture,
+        ActionListener<BulkByScrollResponse> actionListener
+    ) {
+        if (client instanceof NodeClient) {
+            // Keep track of the reindex task so it can be cancelled along with this step
+            Task task = ((NodeClient) client).executeLocally(ReindexAction.INSTANCE, reindexRequest, actionListener);
+            reindexTaskId.set(new TaskId(((NodeClient) client).getLocalNodeId(), task.getId()));
+            if (reIndexFuture.isCancelled()) {
+                cancelReindexTask(reindexTaskId.get());
+            }
+        } else {
+            client.execute(ReindexAction.INSTANCE, reindexRequest, actionListener);
+        }
+    }
+
+    /**
+     * The node timeout this step is executed with, which its process node parsed from the same user inputs
+     */
+    private static TimeValue parseNodeTimeout(WorkflowData currentNodeInputs) {
+        Object nodeTimeout = currentNodeInputs.getContent().get(NODE_TIMEOUT_FIELD);
+        return nodeTimeout == null
+            ? NODE_TIMEOUT_DEFAULT_VALUE
+            : TimeValue.parseTimeValue(nodeTimeout.toString(), String.join(".", currentNodeInputs.getNodeId(), NODE_TIMEOUT_FIELD));
+    }
+
+    /**
+     * Restores the settings of a bulk loaded index whether or not the reindex succeeded, and on success waits for the index
+     * to be ready before completing the step
+     */
+    private static ActionListener<WorkflowData> completeBulkLoad(
+        BulkLoadIndexSettings bulkLoadSettings,
+        boolean forceMerge,
+        int maxNumSegments,
+        String destinationIndex,
+        PlainActionFuture<WorkflowData> reIndexFuture
+    ) {
+        return new ActionListener<>() {
+            @Override
+            public void onResponse(WorkflowData workflowData) {
+                ActionListener<Void> completedListener = ActionListener.wrap(r -> reIndexFuture.onResponse(workflowData), e -> {
+                    String errorMessage = "Failed to complete bulk load of index " + destinationIndex;
+                    logger.error(errorMessage, e);
+                    reIndexFuture.onFailure(new WorkflowStepException(errorMessage, ExceptionsHelper.status(e)));
+                });
+                bulkLoadSettings.complete(forceMerge, maxNumSegments, completedListener);
+            }
+
+            @Override
+            public void onFailure(Exception reindexException) {
+                bulkLoadSettings.restore(ActionListener.wrap(r -> reIndexFuture.onFailure(reindexException), e -> {
+                    logger.error("Failed to restore the settings of index {} after a failed bulk load", destinationIndex, e);
+                    reIndexFuture.onFailure(reindexException);
+                }));
+            }
+        };
+    }
+
+    /**
+     * Starts the reindex as a background task, or reattaches to the reindex recorded by an earlier execution of this step
+     */
+    private void executeInBackground(
+        ReindexRequest reindexRequest,
+        WorkflowData currentNodeInputs,
+        String sourceIndices,
+        String destinationIndex,
+        String tenantId,
+        PlainActionFuture<WorkflowData> reIndexFuture
+    ) {
+        if (!(client instanceof NodeClient)) {
+            reIndexFuture.onFailure(new WorkflowStepException("Background reindex must be started on a node", RestStatus.BAD_REQUEST));
+            return;
+        }
+        String workflowId = currentNodeInputs.getWorkflowId();
+        String nodeId = currentNodeInputs.getNodeId();
+        ActionListener<TaskId> startedListener = ActionListener.wrap(taskId -> {
+            ReindexTaskMonitor monitor = new ReindexTaskMonitor(
+                client,
+                flowFrameworkIndicesHandler,
+                workflowId,
+                nodeId,
+                tenantId,
+                taskId,
+                sourceIndices,
+                destinationIndex
+            );
+            monitor.start(ActionListener.wrap(r -> {
+                logger.info("Started background reindex task {} from source {} to destination {}", taskId, sourceIndices, destinationIndex);
+                reIndexFuture.onResponse(
+                    new WorkflowData(
+                        Map.of(
+                            NAME,
+                            Map.ofEntries(
+                                Map.entry(DESTINATION_INDEX, destinationIndex),
+                                Map.entry(SOURCE_INDEX, sourceIndices),
+                                Map.entry(TASK_ID, taskId.toString())
+                            )
+                        ),
+                        workflowId,
+                        nodeId
+                    )
+                );
+            }, e -> {
+                monitor.stop();
+                String errorMessage = "Failed to record background reindex task " + taskId;
+                logger.error(errorMessage, e);
+                reIndexFuture.onFailure(new WorkflowStepException(errorMessage, ExceptionsHelper.status(e)));
+            }));
+        }, reIndexFuture::onFailure);
+
+        try (ThreadContext.StoredContext context = client.threadPool().getThreadContext().stashContext()) {
+            flowFrameworkIndicesHandler.getWorkflowState(workflowId, tenantId, Set.of(USER_OUTPUTS_FIELD), ActionListener.wrap(state -> {
+                TaskId recordedTaskId = recordedTaskId(state, nodeId, sourceIndices, destinationIndex);
+                if (recordedTaskId == null) {
+                    startBackgroundReindex(reindexRequest, sourceIndices, destinationIndex, startedListener);
+                } else {
+                    reattachOrStart(recordedTaskId, reindexRequest, sourceIndices, destinationIndex, startedListener);
+                }
+            }, e -> startBackgroundReindex(reindexRequest, sourceIndices, destinationIndex, startedListener)), context);
+        } catch (Exception e) {
+            reIndexFuture.onFailure(e);
+        }
+    }
+
+    /**
+     * Gets the reindex task of the same indices recorded in the workflow state by an earlier execution of this step
+     * @return the recorded task id, or null if there is none
+     */
+    private static TaskId recordedTaskId(WorkflowState state, String nodeId, String sourceIndices, String destinationIndex) {
+        Object recorded = state.userOutputs() == null ? null : state.userOutputs().get(nodeId);
+        if (!(recorded instanceof Map)) {
+            return null;
+        }
+        Map<?, ?> progress = (Map<?, ?>) recorded;
+        if (progress.get(TASK_ID) == null
+            || !Objects.equals(sourceIndices, progress.get(SOURCE_INDEX))
+            || !Objects.equals(destinationIndex, progress.get(DESTINATION_INDEX))) {
+            return null;
+        }
+        return new TaskId(progress.get(TASK_ID).toString());
+    }
+
+    /**
+     * Reattaches to a recorded reindex task which is still running or completed successfully, otherwise starts the reindex again
+     */
+    private void reattachOrStart(
+        TaskId recordedTaskId,
+        ReindexRequest reindexRequest,
+        String sourceIndices,
+        String destinationIndex,
+        ActionListener<TaskId> listener
+    ) {
+        client.admin().cluster().getTask(new GetTaskRequest().setTaskId(recordedTaskId), ActionListener.wrap(response -> {
+            TaskResult result = response.getTask();
+            if (!result.isCompleted() || result.getError() == null) {
+                logger.info("Reattaching to reindex task {} from source {} to {}", recordedTaskId, sourceIndices, destinationIndex);
+                listener.onResponse(recordedTaskId);
+            } else {
+                startBackgroundReindex(reindexRequest, sourceIndices, destinationIndex, listener);
+            }
+        }, e -> {
+            // The task is gone without a stored result, e.g. its node was restarted
+            logger.info("Reindex task {} no longer exists, starting the reindex again", recordedTaskId);
+            startBackgroundReindex(reindexRequest, sourceIndices, destinationIndex, listener);
+        }));
+    }
+
+    /**
+     * Starts the reindex on this node, storing its result in the tasks index so it remains available once the task completes
+     */
+    private void startBackgroundReindex(
+        ReindexRequest reindexRequest,
+        String sourceIndices,
+        String destinationIndex,
+        ActionListener<TaskId> listener
+    ) {
+        TaskId taskId;
+        try {
+            NodeClient nodeClient = (NodeClient) client;
+            reindexRequest.setShouldStoreResult(true);
+            Task task = nodeClient.executeLocally(
+                ReindexAction.INSTANCE,
+                reindexRequest,
+                ActionListener.wrap(
+                    response -> logger.info("Background reindex from source {} to {} completed", sourceIndices, destinationIndex),
+                    e -> logger.error("Background reindex from source {} to {} failed", sourceIndices, destinationIndex, e)
+                )
+            );
+            taskId = new TaskId(nodeClient.getLocalNodeId(), task.getId());
+        } catch (Exception e) {
+            String errorMessage = "Failed to start background reindex " + e.getMessage();
+            listener.onFailure(new WorkflowStepException(errorMessage, ExceptionsHelper.status(e)));
+            return;
+        }
+        listener.onResponse(taskId);
+    }
+
+    /**
+     * Cancels a running reindex task, once the step was cancelled or timed out
+     * @param taskId the id of the reindex task, or null if it was not started
+     */
+    private void cancelReindexTask(TaskId taskId) {
+        if (taskId == null) {
+            return;
+        }
+        CancelTasksRequest cancelTasksRequest = new CancelTasksRequest().setTaskId(taskId).setReason("workflow step cancelled");
+        // Stash thread context so the task is cancelled by the plugin
+        try (ThreadContext.StoredContext context = client.threadPool().getThreadContext().stashContext()) {
+            client.admin().cluster().cancelTasks(cancelTasksRequest, ActionListener.wrap(response -> {
+                logger.info("Cancelled reindex task {}", taskId);
+            }, exception -> { logger.error("Failed to cancel reindex task {}", taskId, exception); }));
+        }
+    }
+
     @Override
     public String getName() {
         return NAME;
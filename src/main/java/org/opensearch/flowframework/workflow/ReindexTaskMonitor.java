@@ -0,0 +1,231 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * The OpenSearch Contributors require contributions made to
+ * this file be licensed under the Apache-2.0 license or a
+ * compatible open source license.
+ */
+package org.opensearch.flowframework.workflow;
+
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+import org.opensearch.action.admin.cluster.node.tasks.get.GetTaskRequest;
+import org.opensearch.common.unit.TimeValue;
+import org.opensearch.core.action.ActionListener;
+import org.opensearch.core.tasks.TaskId;
+import org.opensearch.flowframework.indices.FlowFrameworkIndicesHandler;
+import org.opensearch.index.reindex.BulkByScrollTask;
+import org.opensearch.tasks.TaskInfo;
+import org.opensearch.tasks.TaskResult;
+import org.opensearch.threadpool.Scheduler;
+import org.opensearch.threadpool.ThreadPool;
+import org.opensearch.transport.client.Client;
+
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.Locale;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+import static org.opensearch.flowframework.common.CommonValue.DESTINATION_INDEX;
+import static org.opensearch.flowframework.common.CommonValue.HAS_BACKGROUND_TASKS_FIELD;
+import static org.opensearch.flowframework.common.CommonValue.SOURCE_INDEX;
+import static org.opensearch.flowframework.common.CommonValue.TASK_ID;
+import static org.opensearch.flowframework.common.CommonValue.USER_OUTPUTS_FIELD;
+
+/**
+ * Records the progress of a background reindex in the user outputs of the workflow state, keyed by the id of the
+ * workflow node which started it, until the reindex task completes.
+ */
+class ReindexTaskMonitor {
+
+    private static final Logger logger = LogManager.getLogger(ReindexTaskMonitor.class);
+
+    /** How often the reindex task is polled */
+    static final TimeValue POLL_INTERVAL = TimeValue.timeValueSeconds(10);
+
+    /** The status field of a background reindex */
+    static final String STATUS = "status";
+    /** The status of a running reindex */
+    static final String RUNNING = "RUNNING";
+    /** The status of a reindex which completed without failures */
+    static final String COMPLETED = "COMPLETED";
+    /** The status of a reindex which failed, or whose task was lost */
+    static final String FAILED = "FAILED";
+    private static final String TOTAL = "total";
+    private static final String CREATED = "created";
+    private static final String UPDATED = "updated";
+    private static final String DELETED = "deleted";
+    private static final String DOCS_PER_SECOND = "docs_per_second";
+    private static final String REQUESTS_PER_SECOND = "requests_per_second";
+    private static final String ERROR = "error";
+    private static final String FAILURES = "failures";
+
+    private final Client client;
+    private final FlowFrameworkIndicesHandler flowFrameworkIndicesHandler;
+    private final String workflowId;
+    private final String nodeId;
+    private final String tenantId;
+    private final TaskId taskId;
+    private final String sourceIndices;
+    private final String destinationIndex;
+    private final AtomicBoolean polling = new AtomicBoolean();
+    private volatile Scheduler.Cancellable scheduled;
+
+    /**
+     * Instantiate this class
+     * @param client the client to get the reindex task with
+     * @param flowFrameworkIndicesHandler the handler to update the workflow state with
+     * @param workflowId the workflow id
+     * @param nodeId the id of the workflow node which started the reindex
+     * @param tenantId the tenant id
+     * @param taskId the id of the reindex task
+     * @param sourceIndices the source indices of the reindex
+     * @param destinationIndex the destination index of the reindex
+     */
+    ReindexTaskMonitor(
+        Client client,
+        FlowFrameworkIndicesHandler flowFrameworkIndicesHandler,
+        String workflowId,
+        String nodeId,
+        String tenantId,
+        TaskId taskId,
+        String sourceIndices,
+        String destinationIndex
+    ) {
+        this.client = client;
+        this.flowFrameworkIndicesHandler = flowFrameworkIndicesHandler;
+        this.workflowId = workflowId;
+        this.nodeId = nodeId;
+        this.tenantId = tenantId;
+        this.taskId = taskId;
+        this.sourceIndices = sourceIndices;
+        this.destinationIndex = destinationIndex;
+    }
+
+    /**
+     * Records the reindex as running and starts polling its task.
+     * The workflow state is flagged so that {@link ReindexTaskRecovery} finds the reindex if this node restarts.
+     * @param listener notified once the running reindex is recorded in the workflow state
+     */
+    void start(ActionListener<Void> listener) {
+        Map<String, String> progress = progress(RUNNING);
+        flowFrameworkIndicesHandler.updateFlowFrameworkSystemIndexDoc(
+            workflowId,
+            tenantId,
+            Map.of(USER_OUTPUTS_FIELD, Map.of(nodeId, progress), HAS_BACKGROUND_TASKS_FIELD, true),
+            ActionListener.wrap(r -> {
+                scheduled = client.threadPool().scheduleWithFixedDelay(this::poll, POLL_INTERVAL, ThreadPool.Names.GENERIC);
+                listener.onResponse(null);
+            }, listener::onFailure)
+        );
+    }
+
+    /**
+     * Polls a reindex recorded as running by an earlier run of this node, and keeps polling it while it runs.
+     * A task lost with the restart has no stored result, so it is recorded as failed by the first poll.
+     */
+    void resume() {
+        scheduled = client.threadPool().scheduleWithFixedDelay(this::poll, POLL_INTERVAL, ThreadPool.Names.GENERIC);
+        poll();
+    }
+
+    /**
+     * Gets the reindex task and records its progress, stopping once it completes
+     */
+    void poll() {
+        if (!polling.compareAndSet(false, true)) {
+            return;
+        }
+        client.admin().cluster().getTask(new GetTaskRequest().setTaskId(taskId), ActionListener.wrap(response -> {
+            TaskResult result = response.getTask();
+            Map<String, String> progress = result.isCompleted() ? completed(result) : running(result.getTask());
+            if (!RUNNING.equals(progress.get(STATUS))) {
+                stop();
+                logger.info("Reindex task {} of workflow {} finished as {}", taskId, workflowId, progress.get(STATUS));
+            }
+            record(progress);
+        }, e -> {
+            // The task is gone without a stored result, e.g. its node left the cluster
+            stop();
+            logger.warn("Lost track of reindex task {} of workflow {}", taskId, workflowId, e);
+            Map<String, String> progress = progress(FAILED);
+            progress.put(ERROR, e.getMessage());
+            record(progress);
+        }));
+    }
+
+    /**
+     * Stops polling the reindex task
+     */
+    void stop() {
+        Scheduler.Cancellable cancellable = scheduled;
+        if (cancellable != null) {
+            cancellable.cancel();
+        }
+    }
+
+    private Map<String, String> running(TaskInfo taskInfo) {
+        Map<String, String> progress = progress(RUNNING);
+        if (taskInfo.getStatus() instanceof BulkByScrollTask.Status) {
+            BulkByScrollTask.Status status = (BulkByScrollTask.Status) taskInfo.getStatus();
+            long processed = status.getCreated() + status.getUpdated() + status.getDeleted() + status.getNoops();
+            double seconds = taskInfo.getRunningTimeNanos() / (double) TimeUnit.SECONDS.toNanos(1);
+            progress.put(TOTAL, Long.toString(status.getTotal()));
+            progress.put(CREATED, Long.toString(status.getCreated()));
+            progress.put(UPDATED, Long.toString(status.getUpdated()));
+            progress.put(DELETED, Long.toString(status.getDeleted()));
+            progress.put(DOCS_PER_SECOND, String.format(Locale.ROOT, "%.1f", seconds > 0 ? processed / seconds : 0d));
+            progress.put(REQUESTS_PER_SECOND, Float.toString(status.getRequestsPerSecond()));
+        }
+        return progress;
+    }
+
+    private Map<String, String> completed(TaskResult result) {
+        if (result.getError() != null) {
+            Map<String, String> progress = progress(FAILED);
+            progress.put(ERROR, String.valueOf(result.getErrorAsMap().get("reason")));
+            return progress;
+        }
+        Map<String, Object> response = result.getResponseAsMap();
+        Object failures = response.get(FAILURES);
+        boolean failed = failures instanceof Collection && !((Collection<?>) failures).isEmpty();
+        Map<String, String> progress = progress(failed ? FAILED : COMPLETED);
+        for (String field : new String[] { TOTAL, CREATED, UPDATED, DELETED }) {
+            if (response.containsKey(field)) {
+                progress.put(field, String.valueOf(response.get(field)));
+            }
+        }
+        if (failed) {
+            progress.put(ERROR, "Reindex completed with " + ((Collection<?>) failures).size() + " failures");
+        }
+        return progress;
+    }
+
+    private Map<String, String> progress(String status) {
+        Map<String, String> progress = new HashMap<>();
+        progress.put(TASK_ID, taskId.toString());
+        progress.put(SOURCE_INDEX, sourceIndices);
+        progress.put(DESTINATION_INDEX, destinationIndex);
+        progress.put(STATUS, status);
+        return progress;
+    }
+
+    private void record(Map<String, String> progress) {
+        // Running reindexes keep the workflow flagged, so that another reindex finishing does not hide them from recovery
+        flowFrameworkIndicesHandler.updateFlowFrameworkSystemIndexDoc(
+            workflowId,
+            tenantId,
+            Map.of(USER_OUTPUTS_FIELD, Map.of(nodeId, progress), HAS_BACKGROUND_TASKS_FIELD, RUNNING.equals(progress.get(STATUS))),
+            ActionListener.wrap(
+                r -> polling.set(false),
+                e -> {
+                    polling.set(false);
+                    logger.error("Failed to record the progress of reindex task {} of workflow {}", taskId, workflowId, e);
+                }
+            )
+        );
+    }
+}
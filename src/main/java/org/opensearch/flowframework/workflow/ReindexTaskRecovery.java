@@ -0,0 +1,210 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * The OpenSearch Contributors require contributions made to
+ * this file be licensed under the Apache-2.0 license or a
+ * compatible open source license.
+ */
+package org.opensearch.flowframework.workflow;
+
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+import org.opensearch.action.search.SearchRequest;
+import org.opensearch.cluster.ClusterChangedEvent;
+import org.opensearch.cluster.ClusterState;
+import org.opensearch.cluster.ClusterStateListener;
+import org.opensearch.cluster.routing.IndexRoutingTable;
+import org.opensearch.cluster.service.ClusterService;
+import org.opensearch.common.unit.TimeValue;
+import org.opensearch.common.util.concurrent.ThreadContext;
+import org.opensearch.core.action.ActionListener;
+import org.opensearch.core.tasks.TaskId;
+import org.opensearch.flowframework.indices.FlowFrameworkIndicesHandler;
+import org.opensearch.flowframework.model.WorkflowState;
+import org.opensearch.gateway.GatewayService;
+import org.opensearch.index.query.QueryBuilders;
+import org.opensearch.search.SearchHit;
+import org.opensearch.search.builder.SearchSourceBuilder;
+import org.opensearch.search.sort.SortOrder;
+import org.opensearch.threadpool.ThreadPool;
+import org.opensearch.transport.client.Client;
+
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+import static org.opensearch.flowframework.common.CommonValue.DESTINATION_INDEX;
+import static org.opensearch.flowframework.common.CommonValue.HAS_BACKGROUND_TASKS_FIELD;
+import static org.opensearch.flowframework.common.CommonValue.SOURCE_INDEX;
+import static org.opensearch.flowframework.common.CommonValue.TASK_ID;
+import static org.opensearch.flowframework.common.CommonValue.WORKFLOW_ID_FIELD;
+import static org.opensearch.flowframework.common.CommonValue.WORKFLOW_STATE_INDEX;
+
+/**
+ * Resumes monitoring the background reindexes started by this node before it restarted.
+ * <p>
+ * A {@link ReindexTaskMonitor} only lives in memory, so after a restart the reindexes it monitored would stay recorded as running.
+ * Once the primary shards of the workflow state index are active, the workflow states flagged with background tasks are searched,
+ * and each reindex recorded as running on a task of this node is polled again: a task lost with the restart is recorded as failed,
+ * and a task whose result was stored is recorded as completed. Flags of workflows without running reindexes are cleared.
+ * With multitenancy the workflow states may not be stored in a local index, so they are not searched.
+ */
+public class ReindexTaskRecovery implements ClusterStateListener {
+
+    private static final Logger logger = LogManager.getLogger(ReindexTaskRecovery.class);
+
+    /** The number of workflow states fetched per search */
+    static final int PAGE_SIZE = 100;
+    /** The delay before retrying a failed search, doubled on each retry */
+    static final TimeValue INITIAL_RETRY_DELAY = TimeValue.timeValueSeconds(1);
+    /** The number of times a failed search is retried */
+    static final int MAX_RETRIES = 6;
+
+    private final Client client;
+    private final FlowFrameworkIndicesHandler flowFrameworkIndicesHandler;
+    private final ClusterService clusterService;
+    private final ThreadPool threadPool;
+    private final boolean multiTenancyEnabled;
+    private final AtomicBoolean started = new AtomicBoolean(false);
+
+    /**
+     * Instantiates a new ReindexTaskRecovery
+     * @param client the client to search the workflow states and get the reindex tasks with
+     * @param flowFrameworkIndicesHandler the handler to update the workflow states with
+     * @param clusterService the cluster service
+     * @param threadPool the OpenSearch thread pool
+     * @param multiTenancyEnabled whether multitenancy is enabled
+     */
+    public ReindexTaskRecovery(
+        Client client,
+        FlowFrameworkIndicesHandler flowFrameworkIndicesHandler,
+        ClusterService clusterService,
+        ThreadPool threadPool,
+        boolean multiTenancyEnabled
+    ) {
+        this.client = client;
+        this.flowFrameworkIndicesHandler = flowFrameworkIndicesHandler;
+        this.clusterService = clusterService;
+        this.threadPool = threadPool;
+        this.multiTenancyEnabled = multiTenancyEnabled;
+    }
+
+    /**
+     * Starts recovering the background reindexes once the workflow state index can be searched
+     */
+    public void start() {
+        if (!multiTenancyEnabled) {
+            clusterService.addListener(this);
+        }
+    }
+
+    @Override
+    public void clusterChanged(ClusterChangedEvent event) {
+        ClusterState state = event.state();
+        if (state.blocks().hasGlobalBlock(GatewayService.STATE_NOT_RECOVERED_BLOCK)) {
+            return;
+        }
+        if (!state.metadata().hasIndex(WORKFLOW_STATE_INDEX)) {
+            // No workflow was ever provisioned, so no reindex was started
+            clusterService.removeListener(this);
+            return;
+        }
+        IndexRoutingTable routingTable = state.routingTable().index(WORKFLOW_STATE_INDEX);
+        if (routingTable == null || !routingTable.allPrimaryShardsActive()) {
+            // Searching before the primaries are active would fail, so wait for a later cluster state
+            return;
+        }
+        if (started.compareAndSet(false, true)) {
+            clusterService.removeListener(this);
+            String localNodeId = state.nodes().getLocalNodeId();
+            threadPool.generic().execute(() -> recoverPage(localNodeId, null, 0));
+        }
+    }
+
+    /**
+     * Searches a page of the workflow states flagged with background tasks and resumes their reindexes.
+     * A failed search is retried with an exponential backoff, as the index may still be recovering.
+     * @param localNodeId the id of this node
+     * @param searchAfter the sort values of the last state of the previous page, or null for the first page
+     * @param retries the number of times the search of this page was retried
+     */
+    void recoverPage(String localNodeId, Object[] searchAfter, int retries) {
+        SearchSourceBuilder source = new SearchSourceBuilder().query(QueryBuilders.termQuery(HAS_BACKGROUND_TASKS_FIELD, true))
+            .size(PAGE_SIZE)
+            .sort(WORKFLOW_ID_FIELD, SortOrder.ASC);
+        if (searchAfter != null) {
+            source.searchAfter(searchAfter);
+        }
+        try (ThreadContext.StoredContext context = client.threadPool().getThreadContext().stashContext()) {
+            client.search(new SearchRequest(WORKFLOW_STATE_INDEX).source(source), ActionListener.wrap(response -> {
+                SearchHit[] hits = response.getHits().getHits();
+                for (SearchHit hit : hits) {
+                    try {
+                        recover(localNodeId, WorkflowState.parse(hit.getSourceRef()));
+                    } catch (Exception e) {
+                        logger.warn("Failed to recover the background reindexes of workflow {}", hit.getId(), e);
+                    }
+                }
+                if (hits.length == PAGE_SIZE) {
+                    recoverPage(localNodeId, hits[hits.length - 1].getSortValues(), 0);
+                }
+            }, e -> {
+                if (retries >= MAX_RETRIES) {
+                    logger.warn("Failed to search for background reindexes to recover", e);
+                    return;
+                }
+                TimeValue delay = TimeValue.timeValueMillis(INITIAL_RETRY_DELAY.millis() << retries);
+                logger.debug("Failed to search for background reindexes to recover, retrying in {}", delay, e);
+                threadPool.schedule(() -> recoverPage(localNodeId, searchAfter, retries + 1), delay, ThreadPool.Names.GENERIC);
+            }));
+        }
+    }
+
+    /**
+     * Resumes the reindexes of a workflow recorded as running on a task of this node, or clears the flag of the workflow
+     * if none of its reindexes is running anymore
+     * @param localNodeId the id of this node
+     * @param state the workflow state
+     */
+    void recover(String localNodeId, WorkflowState state) {
+        boolean running = false;
+        if (state.userOutputs() != null) {
+            for (Map.Entry<String, Object> output : state.userOutputs().entrySet()) {
+                if (!(output.getValue() instanceof Map)) {
+                    continue;
+                }
+                Map<?, ?> progress = (Map<?, ?>) output.getValue();
+                if (!ReindexTaskMonitor.RUNNING.equals(progress.get(ReindexTaskMonitor.STATUS)) || progress.get(TASK_ID) == null) {
+                    continue;
+                }
+                running = true;
+                TaskId taskId = new TaskId(progress.get(TASK_ID).toString());
+                // Reindexes of other nodes are still monitored there
+                if (localNodeId.equals(taskId.getNodeId())) {
+                    logger.info("Resuming background reindex task {} of workflow {}", taskId, state.getWorkflowId());
+                    new ReindexTaskMonitor(
+                        client,
+                        flowFrameworkIndicesHandler,
+                        state.getWorkflowId(),
+                        output.getKey(),
+                        state.getTenantId(),
+                        taskId,
+                        String.valueOf(progress.get(SOURCE_INDEX)),
+                        String.valueOf(progress.get(DESTINATION_INDEX))
+                    ).resume();
+                }
+            }
+        }
+        if (!running) {
+            flowFrameworkIndicesHandler.updateFlowFrameworkSystemIndexDoc(
+                state.getWorkflowId(),
+                state.getTenantId(),
+                Map.of(HAS_BACKGROUND_TASKS_FIELD, false),
+                ActionListener.wrap(
+                    r -> logger.debug("Cleared the background tasks flag of workflow {}", state.getWorkflowId()),
+                    e -> logger.warn("Failed to clear the background tasks flag of workflow {}", state.getWorkflowId(), e)
+                )
+            );
+        }
+    }
+}
@@ -0,0 +1,398 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * The OpenSearch Contributors require contributions made to
+ * this file be licensed under the Apache-2.0 license or a
+ * compatible open source license.
+ */
+package org.opensearch.flowframework.workflow;
+
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+import org.opensearch.ExceptionsHelper;
+import org.opensearch.action.search.SearchRequest;
+import org.opensearch.action.search.SearchResponse;
+import org.opensearch.action.support.PlainActionFuture;
+import org.opensearch.common.unit.TimeValue;
+import org.opensearch.common.xcontent.XContentHelper;
+import org.opensearch.core.action.ActionListener;
+import org.opensearch.core.common.Strings;
+import org.opensearch.core.common.bytes.BytesArray;
+import org.opensearch.core.rest.RestStatus;
+import org.opensearch.core.xcontent.MediaTypeRegistry;
+import org.opensearch.core.xcontent.NamedXContentRegistry;
+import org.opensearch.core.xcontent.XContentParser;
+import org.opensearch.flowframework.exception.FlowFrameworkException;
+import org.opensearch.flowframework.exception.WorkflowStepException;
+import org.opensearch.flowframework.indices.FlowFrameworkIndicesHandler;
+import org.opensearch.flowframework.util.ParseUtils;
+import org.opensearch.search.builder.SearchSourceBuilder;
+import org.opensearch.threadpool.ThreadPool;
+import org.opensearch.transport.client.Client;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicReference;
+
+import static org.opensearch.flowframework.common.CommonValue.PIPELINE_ID;
+import static org.opensearch.flowframework.common.CommonValue.PROVISION_WORKFLOW_THREAD_POOL;
+import static org.opensearch.flowframework.common.CommonValue.USER_OUTPUTS_FIELD;
+import static org.opensearch.flowframework.common.WorkflowResources.INDEX_NAME;
+
+/**
+ * Step to smoke test the search performance of an index, optionally through a search pipeline.
+ * <p>
+ * Each of the {@code queries} is searched {@code iterations} times, with {@code concurrency} searches in flight. The
+ * throughput and the p50, p90 and p99 latency are recorded in the user outputs of the workflow state under the id of this
+ * workflow node. If {@code max_p50_latency}, {@code max_p99_latency} or {@code min_throughput} are given, the step fails
+ * when they are not met, as it does when any search fails.
+ */
+public class SearchSmokeTestStep implements WorkflowStep {
+
+    private static final Logger logger = LogManager.getLogger(SearchSmokeTestStep.class);
+
+    /** The name of this step, used as a key in the template and the {@link WorkflowStepFactory} */
+    public static final String NAME = "search_smoke_test";
+    /** The queries field, a search request body or an array of search request bodies */
+    static final String QUERIES = "queries";
+    /** The iterations field, the number of times each query is searched */
+    static final String ITERATIONS = "iterations";
+    /** The concurrency field, the number of searches in flight */
+    static final String CONCURRENCY = "concurrency";
+    /** The max_p50_latency field, the p50 latency above which the step fails */
+    static final String MAX_P50_LATENCY = "max_p50_latency";
+    /** The max_p99_latency field, the p99 latency above which the step fails */
+    static final String MAX_P99_LATENCY = "max_p99_latency";
+    /** The min_throughput field, the searches per second below which the step fails */
+    static final String MIN_THROUGHPUT = "min_throughput";
+    /** The searches output, the number of searches made */
+    static final String SEARCHES = "searches";
+    /** The throughput output, the searches per second */
+    static final String THROUGHPUT = "throughput";
+    /** The latency_p50_ms output */
+    static final String LATENCY_P50_MS = "latency_p50_ms";
+    /** The latency_p90_ms output */
+    static final String LATENCY_P90_MS = "latency_p90_ms";
+    /** The latency_p99_ms output */
+    static final String LATENCY_P99_MS = "latency_p99_ms";
+
+    private static final int DEFAULT_ITERATIONS = 10;
+    private static final int DEFAULT_CONCURRENCY = 1;
+    private static final int MAX_CONCURRENCY = 32;
+    private static final int MAX_SEARCHES = 10_000;
+
+    /** Required input keys */
+    public static final Set<String> REQUIRED_INPUTS = Set.of(INDEX_NAME, QUERIES);
+    /** Optional input keys */
+    public static final Set<String> OPTIONAL_INPUTS = Set.of(
+        PIPELINE_ID,
+        ITERATIONS,
+        CONCURRENCY,
+        MAX_P50_LATENCY,
+        MAX_P99_LATENCY,
+        MIN_THROUGHPUT
+    );
+    /** Provided output keys */
+    public static final Set<String> PROVIDED_OUTPUTS = Set.of(INDEX_NAME);
+
+    private final Client client;
+    private final ThreadPool threadPool;
+    private final FlowFrameworkIndicesHandler flowFrameworkIndicesHandler;
+    private final NamedXContentRegistry xContentRegistry;
+
+    /**
+     * Instantiate this class
+     * @param client the client to search with
+     * @param threadPool the OpenSearch thread pool
+     * @param flowFrameworkIndicesHandler FlowFrameworkIndicesHandler class to record the results in the workflow state
+     * @param xContentRegistry the registry to parse the queries with
+     */
+    public SearchSmokeTestStep(
+        Client client,
+        ThreadPool threadPool,
+        FlowFrameworkIndicesHandler flowFrameworkIndicesHandler,
+        NamedXContentRegistry xContentRegistry
+    ) {
+        this.client = client;
+        this.threadPool = threadPool;
+        this.flowFrameworkIndicesHandler = flowFrameworkIndicesHandler;
+        this.xContentRegistry = xContentRegistry;
+    }
+
+    @Override
+    public PlainActionFuture<WorkflowData> execute(
+        String currentNodeId,
+        WorkflowData currentNodeInputs,
+        Map<String, WorkflowData> outputs,
+        Map<String, String> previousNodeInputs,
+        Map<String, String> params,
+        String tenantId
+    ) {
+        PlainActionFuture<WorkflowData> smokeTestFuture = PlainActionFuture.newFuture();
+
+        try {
+            Map<String, Object> inputs = ParseUtils.getInputsFromPreviousSteps(
+                REQUIRED_INPUTS,
+                OPTIONAL_INPUTS,
+                currentNodeInputs,
+                outputs,
+                previousNodeInputs,
+                params
+            );
+
+            String indexName = inputs.get(INDEX_NAME).toString();
+            String pipelineId = inputs.containsKey(PIPELINE_ID) ? inputs.get(PIPELINE_ID).toString() : null;
+            int iterations = inputs.containsKey(ITERATIONS) ? Integer.parseInt(inputs.get(ITERATIONS).toString()) : DEFAULT_ITERATIONS;
+            int concurrency = inputs.containsKey(CONCURRENCY)
+                ? Integer.parseInt(inputs.get(CONCURRENCY).toString())
+                : DEFAULT_CONCURRENCY;
+            if (concurrency < 1 || concurrency > MAX_CONCURRENCY) {
+                throw new IllegalArgumentException(CONCURRENCY + " must be between 1 and " + MAX_CONCURRENCY);
+            }
+            TimeValue maxP50Latency = parseLatency(inputs, MAX_P50_LATENCY);
+            TimeValue maxP99Latency = parseLatency(inputs, MAX_P99_LATENCY);
+            Double minThroughput = inputs.containsKey(MIN_THROUGHPUT) ? Double.parseDouble(inputs.get(MIN_THROUGHPUT).toString()) : null;
+            List<String> queries = parseQueries(inputs.get(QUERIES));
+            int searches = queries.size() * iterations;
+            if (iterations < 1 || searches > MAX_SEARCHES) {
+                throw new IllegalArgumentException(ITERATIONS + " must be positive and at most " + MAX_SEARCHES + " searches made");
+            }
+            // Parse every query up front so an invalid query fails before any search is made
+            for (String query : queries) {
+                parseSource(query);
+            }
+
+            SearchRun run = new SearchRun(indexName, pipelineId, queries, searches, smokeTestFuture, ActionListener.wrap(latencies -> {
+                double seconds = (System.nanoTime() - latencies.startNanos) / (double) TimeUnit.SECONDS.toNanos(1);
+                double throughput = seconds > 0 ? searches / seconds : 0d;
+                long p50 = latencies.samples.percentile(50);
+                long p99 = latencies.samples.percentile(99);
+                logger.info("Smoke tested index {} with {} searches, p50 {}ms, p99 {}ms", indexName, searches, p50, p99);
+
+                Map<String, String> results = new HashMap<>();
+                results.put(INDEX_NAME, indexName);
+                if (pipelineId != null) {
+                    results.put(PIPELINE_ID, pipelineId);
+                }
+                results.put(SEARCHES, Integer.toString(searches));
+                results.put(CONCURRENCY, Integer.toString(concurrency));
+                results.put(THROUGHPUT, String.format(Locale.ROOT, "%.1f", throughput));
+                results.put(LATENCY_P50_MS, Long.toString(p50));
+                results.put(LATENCY_P90_MS, Long.toString(latencies.samples.percentile(90)));
+                results.put(LATENCY_P99_MS, Long.toString(p99));
+
+                List<String> violations = new ArrayList<>();
+                if (maxP50Latency != null && p50 > maxP50Latency.millis()) {
+                    violations.add("p50 latency " + p50 + "ms exceeds " + maxP50Latency);
+                }
+                if (maxP99Latency != null && p99 > maxP99Latency.millis()) {
+                    violations.add("p99 latency " + p99 + "ms exceeds " + maxP99Latency);
+                }
+                if (minThroughput != null && throughput < minThroughput) {
+                    violations.add(String.format(Locale.ROOT, "throughput %.1f per second is below %s", throughput, minThroughput));
+                }
+                Runnable complete = () -> {
+                    if (violations.isEmpty()) {
+                        smokeTestFuture.onResponse(
+                            new WorkflowData(Map.of(INDEX_NAME, indexName), currentNodeInputs.getWorkflowId(), currentNodeId)
+                        );
+                    } else {
+                        String errorMessage = "Search smoke test of index " + indexName + " failed: " + String.join(", ", violations);
+                        logger.error(errorMessage);
+                        smokeTestFuture.onFailure(new WorkflowStepException(errorMessage, RestStatus.SERVICE_UNAVAILABLE));
+                    }
+                };
+                // The outcome of the smoke test does not depend on recording its results
+                flowFrameworkIndicesHandler.updateFlowFrameworkSystemIndexDoc(
+                    currentNodeInputs.getWorkflowId(),
+                    tenantId,
+                    Map.of(USER_OUTPUTS_FIELD, Map.of(currentNodeId, results)),
+                    ActionListener.wrap(updateResponse -> complete.run(), e -> {
+                        logger.error("Failed to record the search smoke test of index {}", indexName, e);
+                        complete.run();
+                    })
+                );
+            }, e -> {
+                String errorMessage = "Search smoke test of index " + indexName + " failed: " + e.getMessage();
+                logger.error(errorMessage, e);
+                smokeTestFuture.onFailure(new WorkflowStepException(errorMessage, ExceptionsHelper.status(e)));
+            }));
+            for (int i = 0; i < Math.min(concurrency, searches); i++) {
+                threadPool.executor(PROVISION_WORKFLOW_THREAD_POOL).execute(run::searchNext);
+            }
+        } catch (FlowFrameworkException e) {
+            smokeTestFuture.onFailure(e);
+        } catch (Exception e) {
+            smokeTestFuture.onFailure(new WorkflowStepException("Failed to smoke test search " + e.getMessage(), RestStatus.BAD_REQUEST));
+        }
+        return smokeTestFuture;
+    }
+
+    private static TimeValue parseLatency(Map<String, Object> inputs, String key) {
+        return inputs.containsKey(key) ? TimeValue.parseTimeValue(inputs.get(key).toString(), key) : null;
+    }
+
+    /**
+     * Gets the JSON of each query, from a list of queries or a single query, given as maps or JSON strings
+     */
+    private static List<String> parseQueries(Object queries) throws Exception {
+        List<?> queryList;
+        if (queries instanceof List) {
+            queryList = (List<?>) queries;
+        } else {
+            String json = queries instanceof Map
+                ? ParseUtils.parseArbitraryStringToObjectMapToString(toStringObjectMap(queries))
+                : queries.toString().trim();
+            if (!json.startsWith("[")) {
+                return List.of(json);
+            }
+            // Wrapped in an object as only objects are parsed to maps
+            String wrapped = "{\"" + QUERIES + "\":" + json + "}";
+            queryList = (List<?>) XContentHelper.convertToMap(MediaTypeRegistry.JSON.xContent(), wrapped, false).get(QUERIES);
+        }
+        if (queryList.isEmpty()) {
+            throw new IllegalArgumentException(QUERIES + " must not be empty");
+        }
+        List<String> queryJson = new ArrayList<>();
+        for (Object query : queryList) {
+            queryJson.add(
+                query instanceof Map ? ParseUtils.parseArbitraryStringToObjectMapToString(toStringObjectMap(query)) : query.toString()
+            );
+        }
+        return queryJson;
+    }
+
+    @SuppressWarnings("unchecked")
+    private static Map<String, Object> toStringObjectMap(Object map) {
+        return (Map<String, Object>) map;
+    }
+
+    /**
+     * Parses a search request body. Each search parses its own source, as search pipelines may modify it.
+     */
+    private SearchSourceBuilder parseSource(String query) throws IOException {
+        try (XContentParser parser = ParseUtils.createXContentParserFromRegistry(xContentRegistry, new BytesArray(query))) {
+            return SearchSourceBuilder.fromXContent(parser);
+        }
+    }
+
+    /**
+     * The latencies of a search run and when it started
+     */
+    private static class Latencies {
+        private final LatencySamples samples;
+        private final long startNanos = System.nanoTime();
+
+        Latencies(int searches) {
+            this.samples = new LatencySamples(searches);
+        }
+    }
+
+    /**
+     * Searches the queries in turn until every search is made, each search in flight starting the next when it completes
+     */
+    private class SearchRun {
+        private final String[] indices;
+        private final String pipelineId;
+        private final List<String> queries;
+        private final int searches;
+        private final PlainActionFuture<WorkflowData> smokeTestFuture;
+        private final ActionListener<Latencies> listener;
+        private final Latencies latencies;
+        private final AtomicInteger next = new AtomicInteger();
+        private final AtomicInteger remaining;
+        private final AtomicReference<Exception> failure = new AtomicReference<>();
+
+        SearchRun(
+            String indexName,
+            String pipelineId,
+            List<String> queries,
+            int searches,
+            PlainActionFuture<WorkflowData> smokeTestFuture,
+            ActionListener<Latencies> listener
+        ) {
+            this.indices = Strings.splitStringByCommaToArray(indexName);
+            this.pipelineId = pipelineId;
+            this.queries = queries;
+            this.searches = searches;
+            this.smokeTestFuture = smokeTestFuture;
+            this.listener = listener;
+            this.latencies = new Latencies(searches);
+            this.remaining = new AtomicInteger(searches);
+        }
+
+        void searchNext() {
+            if (smokeTestFuture.isDone() || failure.get() != null) {
+                // Timed out, cancelled or failed, claim the searches not yet made as done
+                int first = next.getAndSet(searches);
+                if (first < searches) {
+                    done(searches - first);
+                }
+                return;
+            }
+            int search = next.getAndIncrement();
+            if (search >= searches) {
+                return;
+            }
+            SearchRequest searchRequest;
+            try {
+                searchRequest = new SearchRequest(indices).source(parseSource(queries.get(search % queries.size())));
+            } catch (IOException e) {
+                failure.compareAndSet(null, e);
+                done(1);
+                return;
+            }
+            if (pipelineId != null) {
+                searchRequest.pipeline(pipelineId);
+            }
+            long startNanos = System.nanoTime();
+            client.search(searchRequest, ActionListener.wrap(response -> {
+                latencies.samples.record(search, TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - startNanos));
+                if (response.getFailedShards() > 0) {
+                    failure.compareAndSet(null, new WorkflowStepException(shardFailure(response), RestStatus.INTERNAL_SERVER_ERROR));
+                }
+                done(1);
+            }, e -> {
+                failure.compareAndSet(null, e);
+                done(1);
+            }));
+        }
+
+        private void done(int count) {
+            int left = remaining.addAndGet(-count);
+            if (left > 0) {
+                if (count == 1) {
+                    threadPool.executor(PROVISION_WORKFLOW_THREAD_POOL).execute(this::searchNext);
+                }
+            } else if (left == 0) {
+                Exception e = failure.get();
+                if (e != null) {
+                    listener.onFailure(e);
+                } else {
+                    listener.onResponse(latencies);
+                }
+            }
+        }
+
+        private String shardFailure(SearchResponse response) {
+            return response.getFailedShards()
+                + " of "
+                + response.getTotalShards()
+                + " shards failed: "
+                + response.getShardFailures()[0].reason();
+        }
+    }
+
+    @Override
+    public String getName() {
+        return NAME;
+    }
+}
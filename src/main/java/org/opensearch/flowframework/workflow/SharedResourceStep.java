@@ -0,0 +1,350 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * The OpenSearch Contributors require contributions made to
+ * this file be licensed under the Apache-2.0 license or a
+ * compatible open source license.
+ */
+package org.opensearch.flowframework.workflow;
+
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+import org.opensearch.action.support.PlainActionFuture;
+import org.opensearch.common.util.concurrent.ThreadContext;
+import org.opensearch.core.action.ActionListener;
+import org.opensearch.flowframework.indices.FlowFrameworkIndicesHandler;
+import org.opensearch.flowframework.indices.SharedResourceHandler;
+import org.opensearch.flowframework.model.ResourceCreated;
+import org.opensearch.flowframework.model.WorkflowState;
+import org.opensearch.flowframework.util.ParseUtils;
+import org.opensearch.threadpool.ThreadPool;
+
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.stream.Collectors;
+
+import static org.opensearch.flowframework.common.CommonValue.RESOURCES_CREATED_FIELD;
+import static org.opensearch.flowframework.common.CommonValue.RESOURCE_ID;
+import static org.opensearch.flowframework.common.CommonValue.RESOURCE_TYPE;
+import static org.opensearch.flowframework.common.CommonValue.REUSE_EXISTING_FIELD;
+import static org.opensearch.flowframework.common.CommonValue.STEP_OUTPUTS_FIELD;
+import static org.opensearch.flowframework.common.CommonValue.USER_FIELD;
+import static org.opensearch.flowframework.common.CommonValue.WORKFLOW_STEP_ID;
+import static org.opensearch.flowframework.common.CommonValue.WORKFLOW_STEP_NAME;
+
+/**
+ * Wraps a step creating a connector or model so that it reuses the resources of an identical step of another workflow.
+ * <p>
+ * Steps opt in with the {@code reuse_existing} user input. The resolved inputs of the step are hashed and looked up in the
+ * shared resource index: on a match the workflow takes a reference to the existing resources, records them in its own
+ * state and returns the stored outputs without calling the wrapped step. Otherwise the wrapped step runs and the resources
+ * it created are stored for later workflows. Deprovisioning a workflow releases its references, and only the last
+ * workflow referencing a resource deletes it.
+ */
+public class SharedResourceStep implements WorkflowStep {
+
+    private static final Logger logger = LogManager.getLogger(SharedResourceStep.class);
+
+    /** The steps whose resources may be reused by identical steps of other workflows */
+    public static final Set<String> SHAREABLE_STEPS = Set.of(CreateConnectorStep.NAME, RegisterRemoteModelStep.NAME, DeployModelStep.NAME);
+
+    private final WorkflowStep delegate;
+    private final ThreadPool threadPool;
+    private final FlowFrameworkIndicesHandler flowFrameworkIndicesHandler;
+
+    /**
+     * Instantiate this class
+     * @param delegate the step creating the resources
+     * @param threadPool The OpenSearch thread pool
+     * @param flowFrameworkIndicesHandler FlowFrameworkIndicesHandler class to look up and store shared resources
+     */
+    public SharedResourceStep(WorkflowStep delegate, ThreadPool threadPool, FlowFrameworkIndicesHandler flowFrameworkIndicesHandler) {
+        this.delegate = delegate;
+        this.threadPool = threadPool;
+        this.flowFrameworkIndicesHandler = flowFrameworkIndicesHandler;
+    }
+
+    /**
+     * Whether a workflow node opted into reusing the resources of identical steps
+     * @param userInputs the user inputs of the node
+     * @return true if the node requests reuse
+     */
+    public static boolean isReuseRequested(Map<String, Object> userInputs) {
+        return userInputs.containsKey(REUSE_EXISTING_FIELD) && Boolean.parseBoolean(userInputs.get(REUSE_EXISTING_FIELD).toString());
+    }
+
+    @Override
+    public PlainActionFuture<WorkflowData> execute(
+        String currentNodeId,
+        WorkflowData currentNodeInputs,
+        Map<String, WorkflowData> outputs,
+        Map<String, String> previousNodeInputs,
+        Map<String, String> params,
+        String tenantId
+    ) {
+        AtomicReference<PlainActionFuture<WorkflowData>> delegateFuture = new AtomicReference<>();
+        PlainActionFuture<WorkflowData> sharedFuture = new PlainActionFuture<>() {
+            @Override
+            public boolean cancel(boolean mayInterruptIfRunning) {
+                boolean cancelled = super.cancel(mayInterruptIfRunning);
+                PlainActionFuture<WorkflowData> future = delegateFuture.get();
+                if (future != null) {
+                    future.cancel(mayInterruptIfRunning);
+                }
+                return cancelled;
+            }
+        };
+        String workflowId = currentNodeInputs.getWorkflowId();
+        Map<String, Object> inputs = resolvedInputs(currentNodeInputs, outputs, previousNodeInputs, params);
+        // Runs the wrapped step without sharing its resources
+        Runnable createUnshared = () -> chainDelegate(
+            currentNodeId,
+            currentNodeInputs,
+            outputs,
+            previousNodeInputs,
+            params,
+            tenantId,
+            delegateFuture,
+            sharedFuture,
+            sharedFuture
+        );
+        ActionListener<WorkflowState> ownerListener = ActionListener.wrap(state -> {
+            String resourceHash = SharedResourceHandler.computeResourceHash(getName(), inputs, tenantId, state.getUser());
+            flowFrameworkIndicesHandler.acquireSharedResource(resourceHash, workflowId, tenantId, ActionListener.wrap(shared -> {
+                if (shared == null) {
+                    chainDelegate(
+                        currentNodeId,
+                        currentNodeInputs,
+                        outputs,
+                        previousNodeInputs,
+                        params,
+                        tenantId,
+                        delegateFuture,
+                        sharedFuture,
+                        ActionListener.wrap(
+                            output -> share(resourceHash, currentNodeId, workflowId, tenantId, output, sharedFuture),
+                            sharedFuture::onFailure
+                        )
+                    );
+                } else {
+                    reuse(shared, resourceHash, currentNodeId, currentNodeInputs, tenantId, sharedFuture);
+                }
+            }, e -> {
+                // Reuse only saves work, the step can always create its own resources
+                logger.warn("Failed to look up shared resources for {}, creating new resources", currentNodeId, e);
+                createUnshared.run();
+            }));
+        }, e -> {
+            logger.warn("Failed to get the owner of workflow {}, creating new resources for {}", workflowId, currentNodeId, e);
+            createUnshared.run();
+        });
+        try (ThreadContext.StoredContext context = threadPool.getThreadContext().stashContext()) {
+            flowFrameworkIndicesHandler.getWorkflowState(workflowId, tenantId, Set.of(USER_FIELD), ownerListener, context);
+        }
+        return sharedFuture;
+    }
+
+    /**
+     * Records the shared resources in the state of this workflow and completes with the outputs of the step which created them
+     */
+    private void reuse(
+        Map<String, Object> shared,
+        String resourceHash,
+        String currentNodeId,
+        WorkflowData currentNodeInputs,
+        String tenantId,
+        PlainActionFuture<WorkflowData> sharedFuture
+    ) {
+        @SuppressWarnings("unchecked")
+        List<Map<String, Object>> resources = (List<Map<String, Object>>) shared.getOrDefault(RESOURCES_CREATED_FIELD, List.of());
+        @SuppressWarnings("unchecked")
+        Map<String, Object> stepOutputs = (Map<String, Object>) shared.getOrDefault(STEP_OUTPUTS_FIELD, Map.of());
+        Iterator<Map<String, Object>> iter = resources.iterator();
+        ActionListener<WorkflowData> recordListener = new ActionListener<>() {
+            @Override
+            public void onResponse(WorkflowData workflowData) {
+                if (!iter.hasNext()) {
+                    logger.info("Reused resources {} for {}", resources, currentNodeId);
+                    sharedFuture.onResponse(new WorkflowData(stepOutputs, currentNodeInputs.getWorkflowId(), currentNodeId));
+                    return;
+                }
+                Map<String, Object> resource = iter.next();
+                flowFrameworkIndicesHandler.addResourceToStateIndex(
+                    currentNodeInputs,
+                    currentNodeId,
+                    resource.get(WORKFLOW_STEP_NAME).toString(),
+                    resource.get(RESOURCE_ID).toString(),
+                    resourceHash,
+                    tenantId,
+                    this
+                );
+            }
+
+            @Override
+            public void onFailure(Exception e) {
+                logger.error("Failed to record reused resources for {}", currentNodeId, e);
+                if (!resources.isEmpty()) {
+                    // Drop the reference taken by this workflow, so that a failed provision does not keep the resources alive
+                    Map<String, Object> resource = resources.get(0);
+                    flowFrameworkIndicesHandler.releaseSharedResource(
+                        new ResourceCreated(
+                            resource.get(WORKFLOW_STEP_NAME).toString(),
+                            resource.get(WORKFLOW_STEP_ID).toString(),
+                            resource.get(RESOURCE_TYPE).toString(),
+                            resource.get(RESOURCE_ID).toString()
+                        ).withResourceHash(resourceHash),
+                        currentNodeInputs.getWorkflowId(),
+                        tenantId,
+                        ActionListener.wrap(r -> {}, ex -> logger.error("Failed to release reused resources", ex))
+                    );
+                }
+                sharedFuture.onFailure(e);
+            }
+        };
+        recordListener.onResponse(null);
+    }
+
+    /**
+     * Runs the wrapped step and notifies a listener once it completes, without blocking a thread while it runs
+     */
+    private void chainDelegate(
+        String currentNodeId,
+        WorkflowData currentNodeInputs,
+        Map<String, WorkflowData> outputs,
+        Map<String, String> previousNodeInputs,
+        Map<String, String> params,
+        String tenantId,
+        AtomicReference<PlainActionFuture<WorkflowData>> delegateFuture,
+        PlainActionFuture<WorkflowData> sharedFuture,
+        ActionListener<WorkflowData> listener
+    ) {
+        if (sharedFuture.isCancelled()) {
+            return;
+        }
+        PlainActionFuture<WorkflowData> future;
+        try {
+            future = delegate.execute(currentNodeId, currentNodeInputs, outputs, previousNodeInputs, params, tenantId);
+        } catch (Exception e) {
+            listener.onFailure(e);
+            return;
+        }
+        delegateFuture.set(future);
+        if (sharedFuture.isCancelled()) {
+            // Cancelled while the step was starting
+            future.cancel(true);
+        }
+        StepFutures.whenComplete(future, threadPool, listener);
+    }
+
+    /**
+     * Stores the resources created by the wrapped step for later workflows and completes with the output of the step
+     */
+    private void share(
+        String resourceHash,
+        String currentNodeId,
+        String workflowId,
+        String tenantId,
+        WorkflowData output,
+        PlainActionFuture<WorkflowData> sharedFuture
+    ) {
+        // The outcome of the step does not depend on sharing its resources
+        ActionListener<Boolean> shareListener = ActionListener.wrap(shared -> sharedFuture.onResponse(output), e -> {
+            logger.error("Failed to share the resources of {}", currentNodeId, e);
+            sharedFuture.onResponse(output);
+        });
+        ActionListener<WorkflowState> stateListener = ActionListener.wrap(state -> {
+            // The resources recorded by the wrapped step for this node
+            List<ResourceCreated> resources = state.resourcesCreated() == null
+                ? List.of()
+                : state.resourcesCreated().stream().filter(r -> currentNodeId.equals(r.workflowStepId())).collect(Collectors.toList());
+            if (resources.isEmpty()) {
+                shareListener.onResponse(false);
+                return;
+            }
+            flowFrameworkIndicesHandler.registerSharedResource(
+                resourceHash,
+                resources,
+                output.getContent(),
+                workflowId,
+                tenantId,
+                ActionListener.wrap(shared -> {
+                    if (shared) {
+                        recordSharedResources(resourceHash, resources, workflowId, tenantId, shareListener);
+                    } else {
+                        shareListener.onResponse(false);
+                    }
+                }, shareListener::onFailure)
+            );
+        }, shareListener::onFailure);
+        try (ThreadContext.StoredContext context = threadPool.getThreadContext().stashContext()) {
+            flowFrameworkIndicesHandler.getWorkflowState(workflowId, tenantId, Set.of(RESOURCES_CREATED_FIELD), stateListener, context);
+        }
+    }
+
+    /**
+     * Records the hash of the shared resources on the resources in the state of this workflow, so that deprovisioning it releases
+     * them. If the hash can not be recorded the reference of this workflow is dropped, so the resources stay owned by it alone.
+     */
+    private void recordSharedResources(
+        String resourceHash,
+        List<ResourceCreated> resources,
+        String workflowId,
+        String tenantId,
+        ActionListener<Boolean> listener
+    ) {
+        List<ResourceCreated> sharedResources = resources.stream().map(r -> r.withResourceHash(resourceHash)).collect(Collectors.toList());
+        flowFrameworkIndicesHandler.recordSharedResources(
+            workflowId,
+            tenantId,
+            sharedResources,
+            ActionListener.wrap(r -> listener.onResponse(true), e -> {
+                flowFrameworkIndicesHandler.releaseSharedResource(
+                    sharedResources.get(0),
+                    workflowId,
+                    tenantId,
+                    ActionListener.wrap(kept -> {}, ex -> logger.error("Failed to release unrecorded shared resources", ex))
+                );
+                listener.onFailure(e);
+            })
+        );
+    }
+
+    /**
+     * Gets the inputs of a step with substitutions and the outputs of previous steps resolved, excluding the reuse option
+     */
+    static Map<String, Object> resolvedInputs(
+        WorkflowData currentNodeInputs,
+        Map<String, WorkflowData> outputs,
+        Map<String, String> previousNodeInputs,
+        Map<String, String> params
+    ) {
+        Map<String, Object> inputs = new HashMap<>();
+        for (Map.Entry<String, Object> e : currentNodeInputs.getContent().entrySet()) {
+            if (!REUSE_EXISTING_FIELD.equals(e.getKey())) {
+                inputs.put(e.getKey(), ParseUtils.conditionallySubstitute(e.getValue(), outputs, params));
+            }
+        }
+        for (Map.Entry<String, String> e : previousNodeInputs.entrySet()) {
+            WorkflowData previousOutput = outputs.get(e.getKey());
+            if (previousOutput != null && previousOutput.getContent().containsKey(e.getValue())) {
+                inputs.put(e.getValue(), previousOutput.getContent().get(e.getValue()));
+            }
+        }
+        return inputs;
+    }
+
+    @Override
+    public boolean allowDeleteRequired() {
+        return delegate.allowDeleteRequired();
+    }
+
+    @Override
+    public String getName() {
+        return delegate.getName();
+    }
+}
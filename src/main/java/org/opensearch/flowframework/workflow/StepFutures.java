@@ -0,0 +1,72 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * The OpenSearch Contributors require contributions made to
+ * this file be licensed under the Apache-2.0 license or a
+ * compatible open source license.
+ */
+package org.opensearch.flowframework.workflow;
+
+import org.opensearch.action.support.PlainActionFuture;
+import org.opensearch.common.unit.TimeValue;
+import org.opensearch.core.action.ActionListener;
+import org.opensearch.threadpool.ThreadPool;
+
+/**
+ * Chains listeners to the futures returned by wrapped workflow steps.
+ * <p>
+ * A {@link WorkflowStep} returns a {@link PlainActionFuture}, which can not notify listeners. Rather than blocking a thread
+ * of the provision pool until the step completes, which deadlocks once every thread waits on a step queued behind it, the
+ * future is checked on the generic pool at a growing interval while the step runs, and the listener notified once it is done.
+ */
+final class StepFutures {
+
+    /** The delay before a running step is first checked again */
+    static final TimeValue INITIAL_POLL_INTERVAL = TimeValue.timeValueMillis(10);
+    /** The longest delay between checks of a running step */
+    static final TimeValue MAX_POLL_INTERVAL = TimeValue.timeValueMillis(500);
+
+    private StepFutures() {}
+
+    /**
+     * Notifies a listener once a step future completes, failing it if the future was cancelled
+     * @param stepFuture the future returned by the step
+     * @param threadPool the thread pool to check the future on
+     * @param listener notified of the output or failure of the step
+     */
+    static void whenComplete(PlainActionFuture<WorkflowData> stepFuture, ThreadPool threadPool, ActionListener<WorkflowData> listener) {
+        whenComplete(stepFuture, threadPool, INITIAL_POLL_INTERVAL.millis(), listener);
+    }
+
+    private static void whenComplete(
+        PlainActionFuture<WorkflowData> stepFuture,
+        ThreadPool threadPool,
+        long intervalMillis,
+        ActionListener<WorkflowData> listener
+    ) {
+        if (!stepFuture.isDone()) {
+            long nextIntervalMillis = Math.min(MAX_POLL_INTERVAL.millis(), intervalMillis * 2);
+            try {
+                threadPool.schedule(
+                    () -> whenComplete(stepFuture, threadPool, nextIntervalMillis, listener),
+                    TimeValue.timeValueMillis(intervalMillis),
+                    ThreadPool.Names.GENERIC
+                );
+            } catch (Exception e) {
+                // The node is shutting down
+                listener.onFailure(e);
+            }
+            return;
+        }
+        WorkflowData output;
+        try {
+            // Already done, so this does not block
+            output = stepFuture.actionGet();
+        } catch (Exception e) {
+            listener.onFailure(e);
+            return;
+        }
+        listener.onResponse(output);
+    }
+}
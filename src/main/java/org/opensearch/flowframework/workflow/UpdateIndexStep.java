@@ -12,22 +12,15 @@ import org.apache.logging.log4j.LogManager;
 import org.apache.logging.log4j.Logger;
 import org.apache.logging.log4j.message.ParameterizedMessageFactory;
 import org.opensearch.ExceptionsHelper;
-import org.opensearch.action.admin.indices.settings.get.GetSettingsRequest;
 import org.opensearch.action.admin.indices.settings.put.UpdateSettingsRequest;
 import org.opensearch.action.support.PlainActionFuture;
-import org.opensearch.common.settings.Settings;
-import org.opensearch.common.xcontent.XContentHelper;
 import org.opensearch.core.action.ActionListener;
-import org.opensearch.core.common.bytes.BytesArray;
-import org.opensearch.core.common.bytes.BytesReference;
 import org.opensearch.core.rest.RestStatus;
-import org.opensearch.core.xcontent.MediaTypeRegistry;
 import org.opensearch.flowframework.exception.FlowFrameworkException;
 import org.opensearch.flowframework.exception.WorkflowStepException;
 import org.opensearch.flowframework.util.ParseUtils;
 import org.opensearch.transport.client.Client;
 
-import java.nio.charset.StandardCharsets;
 import java.util.Collections;
 import java.util.HashMap;
 import java.util.Map;
@@ -45,6 +38,7 @@ public class UpdateIndexStep implements WorkflowStep {
 
     private static final Logger logger = LogManager.getLogger(UpdateIndexStep.class);
     private final Client client;
+    private final IndexSettingsSnapshot indexSettingsSnapshot;
 
     /** The name of this step */
     public static final String NAME = "update_index";
@@ -55,7 +49,18 @@ public class UpdateIndexStep implements WorkflowStep {
      * @param client Client to update an index
      */
     public UpdateIndexStep(Client client) {
+        this(client, new IndexSettingsSnapshot(client, Collections.emptySet()));
+    }
+
+    /**
+     * Instantiate this class
+     *
+     * @param client Client to update an index
+     * @param indexSettingsSnapshot the snapshot of current index settings shared by the steps of one workflow execution
+     */
+    public UpdateIndexStep(Client client, IndexSettingsSnapshot indexSettingsSnapshot) {
         this.client = client;
+        this.indexSettingsSnapshot = indexSettingsSnapshot;
     }
 
     @Override
@@ -84,19 +89,15 @@ public class UpdateIndexStep implements WorkflowStep {
             );
 
             String indexName = (String) inputs.get(INDEX_NAME);
-            String configurations = (String) inputs.get(CONFIGURATIONS);
-            byte[] byteArr = configurations.getBytes(StandardCharsets.UTF_8);
-            BytesReference configurationsBytes = new BytesArray(byteArr);
+            Map<String, Object> sourceAsMap = ParseUtils.configurationsToMap(inputs.get(CONFIGURATIONS));
 
             UpdateSettingsRequest updateSettingsRequest = new UpdateSettingsRequest(indexName);
 
-            if (configurations.isEmpty()) {
+            if (sourceAsMap.isEmpty()) {
                 String errorMessage = "Failed to update index settings for index " + indexName + ", index configuration is not given";
                 throw new FlowFrameworkException(errorMessage, RestStatus.BAD_REQUEST);
             } else {
 
-                Map<String, Object> sourceAsMap = XContentHelper.convertToMap(configurationsBytes, false, MediaTypeRegistry.JSON).v2();
-
                 // TODO : Add support to update index mappings
 
                 // extract index settings from configuration
@@ -124,14 +125,8 @@ public class UpdateIndexStep implements WorkflowStep {
                     Map<String, Object> filteredSettings = new HashMap<>();
 
                     // Retrieve current Index Settings
-                    GetSettingsRequest getSettingsRequest = new GetSettingsRequest();
-                    getSettingsRequest.indices(indexName);
-                    getSettingsRequest.includeDefaults(true);
-                    client.admin().indices().getSettings(getSettingsRequest, ActionListener.wrap(response -> {
-                        Map<String, Settings> indexToSettings = new HashMap<String, Settings>(response.getIndexToSettings());
-
+                    indexSettingsSnapshot.getSettings(indexName, ActionListener.wrap(currentIndexSettings -> {
                         // Include in the update request only settings with updated values
-                        Settings currentIndexSettings = indexToSettings.get(indexName);
                         for (Map.Entry<String, Object> e : flattenedSettings.entrySet()) {
                             String val = e.getValue().toString();
                             if (!val.equals(currentIndexSettings.get(e.getKey()))) {
@@ -148,6 +143,7 @@ public class UpdateIndexStep implements WorkflowStep {
                             updateIndexFuture.onFailure(new WorkflowStepException(errorMessage, RestStatus.BAD_REQUEST));
                         } else {
                             client.admin().indices().updateSettings(updateSettingsRequest, ActionListener.wrap(acknowledgedResponse -> {
+                                indexSettingsSnapshot.update(indexName, filteredSettings);
                                 String resourceName = getResourceByWorkflowStep(getName());
                                 logger.info("Updated index settings for index {}", indexName);
                                 updateIndexFuture.onResponse(
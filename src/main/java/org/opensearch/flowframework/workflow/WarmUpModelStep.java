@@ -0,0 +1,246 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * The OpenSearch Contributors require contributions made to
+ * this file be licensed under the Apache-2.0 license or a
+ * compatible open source license.
+ */
+package org.opensearch.flowframework.workflow;
+
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+import org.opensearch.ExceptionsHelper;
+import org.opensearch.action.support.PlainActionFuture;
+import org.opensearch.common.unit.TimeValue;
+import org.opensearch.core.action.ActionListener;
+import org.opensearch.core.rest.RestStatus;
+import org.opensearch.core.xcontent.XContentParser;
+import org.opensearch.flowframework.exception.FlowFrameworkException;
+import org.opensearch.flowframework.exception.WorkflowStepException;
+import org.opensearch.flowframework.indices.FlowFrameworkIndicesHandler;
+import org.opensearch.flowframework.util.ParseUtils;
+import org.opensearch.ml.client.MachineLearningNodeClient;
+import org.opensearch.ml.common.FunctionName;
+import org.opensearch.ml.common.input.MLInput;
+import org.opensearch.threadpool.ThreadPool;
+
+import java.util.HashMap;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+
+import static org.opensearch.flowframework.common.CommonValue.FUNCTION_NAME;
+import static org.opensearch.flowframework.common.CommonValue.PROVISION_WORKFLOW_THREAD_POOL;
+import static org.opensearch.flowframework.common.CommonValue.USER_OUTPUTS_FIELD;
+import static org.opensearch.flowframework.common.WorkflowResources.MODEL_ID;
+import static org.opensearch.flowframework.exception.WorkflowStepException.getSafeException;
+
+/**
+ * Step to warm up a deployed model with synthetic predictions and measure its latency.
+ * <p>
+ * The first predictions of a newly deployed model are slowed by loading the model, compiling it and connecting to a
+ * remote service. This step sends {@code warm_up_requests} predictions of the {@code warm_up_input} request body one after
+ * another, so they are paid for before the workflow completes. It then measures the latency of the warmed up model with
+ * {@code latency_requests} further predictions, leaving the slow first predictions out, and records the p50 and p99 latency
+ * in the user outputs of the workflow state under the id of this workflow node. If {@code max_p99_latency} is given, the
+ * step fails when the p99 latency exceeds it.
+ */
+public class WarmUpModelStep implements WorkflowStep {
+
+    private static final Logger logger = LogManager.getLogger(WarmUpModelStep.class);
+
+    /** The name of this step, used as a key in the template and the {@link WorkflowStepFactory} */
+    public static final String NAME = "warm_up_model";
+    /** The warm_up_input field, the body of the synthetic predict requests */
+    static final String WARM_UP_INPUT = "warm_up_input";
+    /** The warm_up_requests field, the number of synthetic predict requests warming up the model */
+    static final String WARM_UP_REQUESTS = "warm_up_requests";
+    /** The latency_requests field, the number of synthetic predict requests measuring the latency of the warmed up model */
+    static final String LATENCY_REQUESTS = "latency_requests";
+    /** The max_p99_latency field, the p99 latency above which the step fails */
+    static final String MAX_P99_LATENCY = "max_p99_latency";
+    /** The latency_p50_ms output, the median latency of the synthetic predict requests after the warm up */
+    static final String LATENCY_P50_MS = "latency_p50_ms";
+    /** The latency_p99_ms output, the 99th percentile latency of the synthetic predict requests after the warm up */
+    static final String LATENCY_P99_MS = "latency_p99_ms";
+
+    private static final int DEFAULT_WARM_UP_REQUESTS = 10;
+    private static final int DEFAULT_LATENCY_REQUESTS = 10;
+    private static final int MAX_REQUESTS = 1000;
+
+    /** Required input keys */
+    public static final Set<String> REQUIRED_INPUTS = Set.of(MODEL_ID, WARM_UP_INPUT);
+    /** Optional input keys */
+    public static final Set<String> OPTIONAL_INPUTS = Set.of(FUNCTION_NAME, WARM_UP_REQUESTS, LATENCY_REQUESTS, MAX_P99_LATENCY);
+    /** Provided output keys */
+    public static final Set<String> PROVIDED_OUTPUTS = Set.of(MODEL_ID, LATENCY_P50_MS, LATENCY_P99_MS);
+
+    private final ThreadPool threadPool;
+    private final MachineLearningNodeClient mlClient;
+    private final FlowFrameworkIndicesHandler flowFrameworkIndicesHandler;
+
+    /**
+     * Instantiate this class
+     * @param threadPool The OpenSearch thread pool
+     * @param mlClient client to instantiate MLClient
+     * @param flowFrameworkIndicesHandler FlowFrameworkIndicesHandler class to record the latency in the workflow state
+     */
+    public WarmUpModelStep(
+        ThreadPool threadPool,
+        MachineLearningNodeClient mlClient,
+        FlowFrameworkIndicesHandler flowFrameworkIndicesHandler
+    ) {
+        this.threadPool = threadPool;
+        this.mlClient = mlClient;
+        this.flowFrameworkIndicesHandler = flowFrameworkIndicesHandler;
+    }
+
+    @Override
+    public PlainActionFuture<WorkflowData> execute(
+        String currentNodeId,
+        WorkflowData currentNodeInputs,
+        Map<String, WorkflowData> outputs,
+        Map<String, String> previousNodeInputs,
+        Map<String, String> params,
+        String tenantId
+    ) {
+        PlainActionFuture<WorkflowData> warmUpFuture = PlainActionFuture.newFuture();
+
+        try {
+            Map<String, Object> inputs = ParseUtils.getInputsFromPreviousSteps(
+                REQUIRED_INPUTS,
+                OPTIONAL_INPUTS,
+                currentNodeInputs,
+                outputs,
+                previousNodeInputs,
+                params
+            );
+
+            String modelId = inputs.get(MODEL_ID).toString();
+            FunctionName functionName = inputs.containsKey(FUNCTION_NAME)
+                ? FunctionName.from(inputs.get(FUNCTION_NAME).toString().toUpperCase(Locale.ROOT))
+                : FunctionName.REMOTE;
+            int warmUpRequests = parseRequests(inputs, WARM_UP_REQUESTS, DEFAULT_WARM_UP_REQUESTS);
+            int latencyRequests = parseRequests(inputs, LATENCY_REQUESTS, DEFAULT_LATENCY_REQUESTS);
+            TimeValue maxP99Latency = inputs.containsKey(MAX_P99_LATENCY)
+                ? TimeValue.parseTimeValue(inputs.get(MAX_P99_LATENCY).toString(), MAX_P99_LATENCY)
+                : null;
+            MLInput mlInput = parseInput(inputs.get(WARM_UP_INPUT), functionName);
+
+            LatencySamples latencies = new LatencySamples(latencyRequests);
+            predict(modelId, tenantId, mlInput, warmUpRequests, latencies, 0, warmUpFuture, ActionListener.wrap(r -> {
+                long p50 = latencies.percentile(50);
+                long p99 = latencies.percentile(99);
+                logger.info(
+                    "Warmed up model {} with {} predictions, then measured {} predictions, p50 {}ms, p99 {}ms",
+                    modelId,
+                    warmUpRequests,
+                    latencyRequests,
+                    p50,
+                    p99
+                );
+
+                Map<String, String> latency = new HashMap<>();
+                latency.put(MODEL_ID, modelId);
+                latency.put(WARM_UP_REQUESTS, Integer.toString(warmUpRequests));
+                latency.put(LATENCY_REQUESTS, Integer.toString(latencyRequests));
+                latency.put(LATENCY_P50_MS, Long.toString(p50));
+                latency.put(LATENCY_P99_MS, Long.toString(p99));
+                Runnable complete = () -> {
+                    if (maxP99Latency != null && p99 > maxP99Latency.millis()) {
+                        String errorMessage = "Model " + modelId + " p99 latency " + p99 + "ms exceeds " + maxP99Latency;
+                        logger.error(errorMessage);
+                        warmUpFuture.onFailure(new WorkflowStepException(errorMessage, RestStatus.SERVICE_UNAVAILABLE));
+                    } else {
+                        warmUpFuture.onResponse(new WorkflowData(latency, currentNodeInputs.getWorkflowId(), currentNodeId));
+                    }
+                };
+                // The outcome of the warm up does not depend on recording its latency
+                flowFrameworkIndicesHandler.updateFlowFrameworkSystemIndexDoc(
+                    currentNodeInputs.getWorkflowId(),
+                    tenantId,
+                    Map.of(USER_OUTPUTS_FIELD, Map.of(currentNodeId, latency)),
+                    ActionListener.wrap(updateResponse -> complete.run(), e -> {
+                        logger.error("Failed to record the warm up latency of model {}", modelId, e);
+                        complete.run();
+                    })
+                );
+            }, ex -> {
+                Exception e = getSafeException(ex);
+                String errorMessage = e == null ? "Failed to warm up model " + modelId : e.getMessage();
+                logger.error(errorMessage, e);
+                warmUpFuture.onFailure(new WorkflowStepException(errorMessage, ExceptionsHelper.status(ex)));
+            }));
+        } catch (FlowFrameworkException e) {
+            warmUpFuture.onFailure(e);
+        } catch (Exception e) {
+            warmUpFuture.onFailure(new WorkflowStepException("Failed to warm up model " + e.getMessage(), RestStatus.BAD_REQUEST));
+        }
+        return warmUpFuture;
+    }
+
+    private static int parseRequests(Map<String, Object> inputs, String field, int defaultRequests) {
+        int requests = inputs.containsKey(field) ? Integer.parseInt(inputs.get(field).toString()) : defaultRequests;
+        if (requests < 1 || requests > MAX_REQUESTS) {
+            throw new IllegalArgumentException(field + " must be between 1 and " + MAX_REQUESTS);
+        }
+        return requests;
+    }
+
+    /**
+     * Sends the synthetic predictions one after another, each dispatched to the provision thread pool so a prediction
+     * completing on the calling thread does not grow the stack. Only the latencies of the predictions after the warm up
+     * ones are recorded.
+     */
+    private void predict(
+        String modelId,
+        String tenantId,
+        MLInput mlInput,
+        int warmUpRequests,
+        LatencySamples latencies,
+        int request,
+        PlainActionFuture<WorkflowData> warmUpFuture,
+        ActionListener<Void> listener
+    ) {
+        if (warmUpFuture.isDone()) {
+            // Timed out or cancelled
+            return;
+        }
+        long startNanos = System.nanoTime();
+        mlClient.predict(modelId, tenantId, mlInput, ActionListener.wrap(mlOutput -> {
+            if (request >= warmUpRequests) {
+                latencies.record(request - warmUpRequests, TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - startNanos));
+            }
+            if (request + 1 == warmUpRequests + latencies.size()) {
+                listener.onResponse(null);
+            } else {
+                threadPool.executor(PROVISION_WORKFLOW_THREAD_POOL)
+                    .execute(() -> predict(modelId, tenantId, mlInput, warmUpRequests, latencies, request + 1, warmUpFuture, listener));
+            }
+        }, listener::onFailure));
+    }
+
+    /**
+     * Parses the body of the synthetic predict requests, as it would be sent to the predict API
+     */
+    private static MLInput parseInput(Object warmUpInput, FunctionName functionName) throws Exception {
+        String json;
+        if (warmUpInput instanceof Map) {
+            @SuppressWarnings("unchecked")
+            Map<String, Object> inputMap = (Map<String, Object>) warmUpInput;
+            json = ParseUtils.parseArbitraryStringToObjectMapToString(inputMap);
+        } else {
+            json = warmUpInput.toString();
+        }
+        try (XContentParser parser = ParseUtils.jsonToParser(json)) {
+            return MLInput.parse(parser, functionName.name());
+        }
+    }
+
+    @Override
+    public String getName() {
+        return NAME;
+    }
+}
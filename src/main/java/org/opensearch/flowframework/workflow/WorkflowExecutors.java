@@ -0,0 +1,157 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * The OpenSearch Contributors require contributions made to
+ * this file be licensed under the Apache-2.0 license or a
+ * compatible open source license.
+ */
+package org.opensearch.flowframework.workflow;
+
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+import org.opensearch.common.metrics.CounterMetric;
+import org.opensearch.flowframework.common.FlowFrameworkSettings;
+import org.opensearch.flowframework.stats.VirtualThreadStats;
+import org.opensearch.threadpool.ThreadPool;
+
+import java.io.Closeable;
+import java.time.Duration;
+import java.util.Set;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+import jdk.jfr.consumer.RecordingStream;
+
+import static org.opensearch.flowframework.common.CommonValue.DEPROVISION_WORKFLOW_THREAD_POOL;
+import static org.opensearch.flowframework.common.CommonValue.FLOW_FRAMEWORK_THREAD_POOL_PREFIX;
+import static org.opensearch.flowframework.common.CommonValue.PROVISION_WORKFLOW_THREAD_POOL;
+
+/**
+ * Resolves the executor which provision and deprovision work runs on.
+ * <p>
+ * By default this is the plugin thread pool. When virtual threads are enabled, provision and deprovision work runs
+ * on a virtual thread per task instead, so that workflows blocked waiting on their predecessors or on remote calls
+ * do not each hold a platform thread. The thread context of the submitter is preserved as with the thread pools.
+ */
+public class WorkflowExecutors implements Closeable {
+
+    private static final Logger logger = LogManager.getLogger(WorkflowExecutors.class);
+
+    /** The thread pools whose work may run on virtual threads */
+    static final Set<String> VIRTUAL_THREAD_POOLS = Set.of(PROVISION_WORKFLOW_THREAD_POOL, DEPROVISION_WORKFLOW_THREAD_POOL);
+    /** The JFR event emitted when a virtual thread blocks while pinned to its carrier thread */
+    private static final String PINNED_EVENT = "jdk.VirtualThreadPinned";
+    /** Name prefix of this plugin's virtual threads, used to tell their pinned events from those of the rest of the JVM */
+    static final String VIRTUAL_THREAD_NAME_PREFIX = FLOW_FRAMEWORK_THREAD_POOL_PREFIX + "virtual#";
+
+    private final ThreadPool threadPool;
+    private final FlowFrameworkSettings flowFrameworkSettings;
+    private final CounterMetric active = new CounterMetric();
+    private final CounterMetric completed = new CounterMetric();
+    private final CounterMetric pinned = new CounterMetric();
+    private final CounterMetric pinnedMillis = new CounterMetric();
+    private ExecutorService virtualThreadExecutor;
+    private RecordingStream pinnedEvents;
+
+    /**
+     * Instantiates a new WorkflowExecutors
+     * @param threadPool the OpenSearch thread pool
+     * @param flowFrameworkSettings the plugin settings
+     */
+    public WorkflowExecutors(ThreadPool threadPool, FlowFrameworkSettings flowFrameworkSettings) {
+        this.threadPool = threadPool;
+        this.flowFrameworkSettings = flowFrameworkSettings;
+    }
+
+    /**
+     * Gets the executor to run work of a plugin thread pool on
+     * @param threadPoolName the name of the plugin thread pool
+     * @return a virtual thread executor if enabled for this thread pool, otherwise the thread pool
+     */
+    public Executor executor(String threadPoolName) {
+        if (flowFrameworkSettings.isVirtualThreadsEnabled() && VIRTUAL_THREAD_POOLS.contains(threadPoolName)) {
+            ExecutorService executor = virtualThreadExecutor();
+            return command -> executor.execute(threadPool.getThreadContext().preserveContext(() -> {
+                active.inc();
+                try {
+                    command.run();
+                } finally {
+                    active.dec();
+                    completed.inc();
+                }
+            }));
+        }
+        return threadPool.executor(threadPoolName);
+    }
+
+    /**
+     * Take a snapshot of the work executed on virtual threads
+     * @return the virtual thread stats
+     */
+    public VirtualThreadStats stats() {
+        return new VirtualThreadStats(
+            flowFrameworkSettings.isVirtualThreadsEnabled(),
+            (int) active.count(),
+            completed.count(),
+            pinned.count(),
+            pinnedMillis.count()
+        );
+    }
+
+    private synchronized ExecutorService virtualThreadExecutor() {
+        if (virtualThreadExecutor == null) {
+            virtualThreadExecutor = Executors.newThreadPerTaskExecutor(
+                Thread.ofVirtual().name(VIRTUAL_THREAD_NAME_PREFIX, 0).factory()
+            );
+            pinnedEvents = startPinnedEventStream();
+        }
+        return virtualThreadExecutor;
+    }
+
+    /**
+     * Counts the virtual threads which block while pinned to their carrier thread, e.g. inside a synchronized block,
+     * as these hold a platform thread just as the thread pools do. The pinned events are recorded for the whole JVM,
+     * so only those of this plugin's virtual threads are counted.
+     */
+    private RecordingStream startPinnedEventStream() {
+        try {
+            RecordingStream stream = new RecordingStream();
+            stream.enable(PINNED_EVENT).withThreshold(Duration.ofMillis(20));
+            stream.onEvent(PINNED_EVENT, event -> {
+                if (!isPluginThread(event.getThread() == null ? null : event.getThread().getJavaName())) {
+                    return;
+                }
+                pinned.inc();
+                pinnedMillis.inc(event.getDuration().toMillis());
+            });
+            stream.startAsync();
+            return stream;
+        } catch (Exception e) {
+            logger.warn("Failed to record pinned virtual thread events, pinned threads will not be counted", e);
+            return null;
+        }
+    }
+
+    /**
+     * Whether a thread is one of this plugin's virtual threads
+     * @param threadName the name of the thread, or null if unknown
+     * @return true if the thread was created by this plugin's virtual thread executor
+     */
+    static boolean isPluginThread(String threadName) {
+        return threadName != null && threadName.startsWith(VIRTUAL_THREAD_NAME_PREFIX);
+    }
+
+    @Override
+    public synchronized void close() {
+        if (pinnedEvents != null) {
+            pinnedEvents.close();
+            pinnedEvents = null;
+        }
+        if (virtualThreadExecutor != null) {
+            virtualThreadExecutor.shutdown();
+            virtualThreadExecutor = null;
+        }
+    }
+}
@@ -20,10 +20,10 @@ import org.opensearch.flowframework.model.Template;
 import org.opensearch.flowframework.model.Workflow;
 import org.opensearch.flowframework.model.WorkflowEdge;
 import org.opensearch.flowframework.model.WorkflowNode;
+import org.opensearch.flowframework.stats.FlowFrameworkStats;
 import org.opensearch.flowframework.util.ParseUtils;
 import org.opensearch.plugins.PluginInfo;
 import org.opensearch.plugins.PluginsService;
-import org.opensearch.threadpool.ThreadPool;
 
 import java.util.ArrayDeque;
 import java.util.ArrayList;
@@ -42,6 +42,7 @@ import java.util.stream.Stream;
 import static org.opensearch.flowframework.common.CommonValue.PROVISION_WORKFLOW;
 import static org.opensearch.flowframework.common.CommonValue.PROVISION_WORKFLOW_THREAD_POOL;
 import static org.opensearch.flowframework.common.FlowFrameworkSettings.MAX_WORKFLOW_STEPS;
+import static org.opensearch.flowframework.common.WorkflowResources.INDEX_NAME;
 import static org.opensearch.flowframework.model.WorkflowNode.NODE_TIMEOUT_DEFAULT_VALUE;
 import static org.opensearch.flowframework.model.WorkflowNode.NODE_TIMEOUT_FIELD;
 import static org.opensearch.flowframework.model.WorkflowNode.USER_INPUTS_FIELD;
@@ -65,24 +66,28 @@ public class WorkflowProcessSorter {
     );
 
     private WorkflowStepFactory workflowStepFactory;
-    private ThreadPool threadPool;
+    private WorkflowExecutors workflowExecutors;
     private Integer maxWorkflowSteps;
+    private FlowFrameworkStats flowFrameworkStats;
 
     /**
      * Instantiate this class.
      *
      * @param workflowStepFactory The factory which matches template step types to instances.
-     * @param threadPool The OpenSearch Thread pool to pass to process nodes.
+     * @param workflowExecutors Resolves the executors to pass to process nodes.
      * @param flowFrameworkSettings settings of the plugin
+     * @param flowFrameworkStats The node statistics to pass to process nodes.
      */
     public WorkflowProcessSorter(
         WorkflowStepFactory workflowStepFactory,
-        ThreadPool threadPool,
-        FlowFrameworkSettings flowFrameworkSettings
+        WorkflowExecutors workflowExecutors,
+        FlowFrameworkSettings flowFrameworkSettings,
+        FlowFrameworkStats flowFrameworkStats
     ) {
         this.workflowStepFactory = workflowStepFactory;
-        this.threadPool = threadPool;
+        this.workflowExecutors = workflowExecutors;
         this.maxWorkflowSteps = flowFrameworkSettings.getMaxWorkflowSteps();
+        this.flowFrameworkStats = flowFrameworkStats;
     }
 
     /**
@@ -118,11 +123,16 @@ public class WorkflowProcessSorter {
             }
         }
         List<WorkflowNode> sortedNodes = topologicalSort(workflow.nodes(), workflow.edges());
+        IndexSettingsSnapshot indexSettingsSnapshot = workflowStepFactory.createIndexSettingsSnapshot(
+            updatedIndices(sortedNodes.stream().filter(node -> UpdateIndexStep.NAME.equals(node.type())).collect(Collectors.toList()))
+        );
 
         List<ProcessNode> nodes = new ArrayList<>();
         Map<String, ProcessNode> idToNodeMap = new HashMap<>();
         for (WorkflowNode node : sortedNodes) {
-            WorkflowStep step = workflowStepFactory.createStep(node.type());
+            WorkflowStep step = UpdateIndexStep.NAME.equals(node.type())
+                ? workflowStepFactory.createUpdateIndexStep(indexSettingsSnapshot)
+                : workflowStepFactory.createStep(node);
             WorkflowData data = new WorkflowData(node.userInputs(), workflow.userParams(), workflowId, node.id());
             List<ProcessNode> predecessorNodes = workflow.edges()
                 .stream()
@@ -139,10 +149,11 @@ public class WorkflowProcessSorter {
                 params,
                 data,
                 predecessorNodes,
-                threadPool,
+                workflowExecutors,
                 PROVISION_WORKFLOW_THREAD_POOL,
                 nodeTimeout,
-                tenantId
+                tenantId,
+                flowFrameworkStats
             );
             idToNodeMap.put(processNode.id(), processNode);
             nodes.add(processNode);
@@ -241,6 +252,17 @@ public class WorkflowProcessSorter {
         Map<String, ProcessNode> idToNodeMap = new HashMap<>();
         List<ProcessNode> reprovisionSequence = new ArrayList<>();
 
+        List<WorkflowNode> updateIndexNodes = new ArrayList<>();
+        for (WorkflowNode node : sortedUpdatedNodes) {
+            WorkflowNode originalNode = originalTemplateMap.get(node.id());
+            if (originalNode != null
+                && UpdateIndexStep.NAME.equals(WorkflowResources.getUpdateStepByWorkflowStep(node.type()))
+                && shouldUpdateNode(node, originalNode)) {
+                updateIndexNodes.add(node);
+            }
+        }
+        IndexSettingsSnapshot indexSettingsSnapshot = workflowStepFactory.createIndexSettingsSnapshot(updatedIndices(updateIndexNodes));
+
         for (WorkflowNode node : sortedUpdatedNodes) {
             ProcessNode processNode = createProcessNode(
                 updatedWorkflow,
@@ -249,6 +271,7 @@ public class WorkflowProcessSorter {
                 resourcesCreated,
                 workflowId,
                 idToNodeMap,
+                indexSettingsSnapshot,
                 tenantId
             );
             if (processNode != null) {
@@ -268,6 +291,7 @@ public class WorkflowProcessSorter {
      * @param resourcesCreated a list of resources created for this template
      * @param workflowId the workflow ID associated with the template
      * @param idToNodeMap a map of the current reprovision sequence
+     * @param indexSettingsSnapshot the snapshot of index settings shared by the update index steps of the sequence
      * @param tenantId the tenant id
      * @return a ProcessNode
      * @throws Exception for issues creating the process node
@@ -279,6 +303,7 @@ public class WorkflowProcessSorter {
         List<ResourceCreated> resourcesCreated,
         String workflowId,
         Map<String, ProcessNode> idToNodeMap,
+        IndexSettingsSnapshot indexSettingsSnapshot,
         String tenantId
     ) throws Exception {
         WorkflowData data = new WorkflowData(node.userInputs(), updatedWorkflow.userParams(), workflowId, node.id());
@@ -297,7 +322,7 @@ public class WorkflowProcessSorter {
             WorkflowNode originalNode = originalTemplateMap.get(node.id());
             if (shouldUpdateNode(node, originalNode)) {
                 // Case 2: Existing modification, create update step
-                return createUpdateProcessNode(node, data, predecessorNodes, nodeTimeout, tenantId);
+                return createUpdateProcessNode(node, data, predecessorNodes, nodeTimeout, indexSettingsSnapshot, tenantId);
             } else {
                 // Case 4: No modification to existing node, create proxy step
                 return createWorkflowDataStepNode(node, data, predecessorNodes, nodeTimeout, resourcesCreated, tenantId);
@@ -321,7 +346,7 @@ public class WorkflowProcessSorter {
         TimeValue nodeTimeout,
         String tenantId
     ) {
-        WorkflowStep step = workflowStepFactory.createStep(node.type());
+        WorkflowStep step = workflowStepFactory.createStep(node);
         return new ProcessNode(
             node.id(),
             step,
@@ -329,10 +354,11 @@ public class WorkflowProcessSorter {
             Collections.emptyMap(), // TODO Add support to reprovision substitution templates
             data,
             predecessorNodes,
-            threadPool,
+            workflowExecutors,
             PROVISION_WORKFLOW_THREAD_POOL,
             nodeTimeout,
-            tenantId
+            tenantId,
+            flowFrameworkStats
         );
     }
 
@@ -342,6 +368,7 @@ public class WorkflowProcessSorter {
      * @param data the current node data
      * @param predecessorNodes the current node predecessors
      * @param nodeTimeout the current node timeout
+     * @param indexSettingsSnapshot the snapshot of index settings shared by the update index steps of the sequence
      * @param tenantId the tenant id
      * @return a ProcessNode
      * @throws FlowFrameworkException if the current node does not support updates
@@ -351,11 +378,14 @@ public class WorkflowProcessSorter {
         WorkflowData data,
         List<ProcessNode> predecessorNodes,
         TimeValue nodeTimeout,
+        IndexSettingsSnapshot indexSettingsSnapshot,
         String tenantId
     ) throws FlowFrameworkException {
         String updateStepName = WorkflowResources.getUpdateStepByWorkflowStep(node.type());
-        if (updateStepName != null) {
-            WorkflowStep step = workflowStepFactory.createStep(updateStepName);
+        if (updateStepName != null && !FanOutStep.isFanOut(node.userInputs())) {
+            WorkflowStep step = UpdateIndexStep.NAME.equals(updateStepName)
+                ? workflowStepFactory.createUpdateIndexStep(indexSettingsSnapshot)
+                : workflowStepFactory.createStep(updateStepName);
             return new ProcessNode(
                 node.id(),
                 step,
@@ -363,10 +393,11 @@ public class WorkflowProcessSorter {
                 Collections.emptyMap(), // TODO Add support to reprovision substitution templates
                 data,
                 predecessorNodes,
-                threadPool,
+                workflowExecutors,
                 PROVISION_WORKFLOW_THREAD_POOL,
                 nodeTimeout,
-                tenantId
+                tenantId,
+                flowFrameworkStats
             );
         } else {
             // Case 3 : Cannot update step (not supported)
@@ -408,16 +439,31 @@ public class WorkflowProcessSorter {
                 Collections.emptyMap(),
                 data,
                 predecessorNodes,
-                threadPool,
+                workflowExecutors,
                 PROVISION_WORKFLOW_THREAD_POOL,
                 nodeTimeout,
-                tenantId
+                tenantId,
+                flowFrameworkStats
             );
         } else {
             return null;
         }
     }
 
+    /**
+     * Gets the names of the indices updated by update index nodes, where given directly rather than by a substitution or a
+     * previous node
+     * @param updateIndexNodes the nodes updating index settings
+     * @return the index names
+     */
+    private static Set<String> updatedIndices(List<WorkflowNode> updateIndexNodes) {
+        return updateIndexNodes.stream()
+            .map(node -> node.userInputs().get(INDEX_NAME))
+            .filter(indexName -> indexName instanceof String && !((String) indexName).contains("${{"))
+            .map(String.class::cast)
+            .collect(Collectors.toSet());
+    }
+
     private boolean shouldUpdateNode(WorkflowNode node, WorkflowNode originalNode) throws Exception {
         return !node.previousNodeInputs().equals(originalNode.previousNodeInputs())
             || !ParseUtils.userInputsEquals(originalNode.userInputs(), node.userInputs());
@@ -489,6 +535,10 @@ public class WorkflowProcessSorter {
 
             // Retrieve all the user input data from this node
             List<String> currentNodeUserInputs = new ArrayList<>(processNode.input().getContent().keySet());
+            if (processNode.workflowStep() instanceof FanOutStep) {
+                // Inputs given by every entry of the fan out list
+                currentNodeUserInputs.addAll(FanOutStep.entryInputKeys(processNode.input().getContent()));
+            }
 
             // Combine both predecessor outputs and current node user inputs
             List<String> allInputs = Stream.concat(predecessorOutputs.stream(), currentNodeUserInputs.stream())
@@ -11,18 +11,22 @@ package org.opensearch.flowframework.workflow;
 import org.apache.logging.log4j.LogManager;
 import org.apache.logging.log4j.Logger;
 import org.apache.logging.log4j.message.ParameterizedMessageFactory;
+import org.opensearch.common.Nullable;
 import org.opensearch.common.unit.TimeValue;
 import org.opensearch.core.common.Strings;
 import org.opensearch.core.rest.RestStatus;
+import org.opensearch.core.xcontent.NamedXContentRegistry;
 import org.opensearch.flowframework.common.FlowFrameworkSettings;
 import org.opensearch.flowframework.exception.FlowFrameworkException;
 import org.opensearch.flowframework.indices.FlowFrameworkIndicesHandler;
+import org.opensearch.flowframework.model.WorkflowNode;
 import org.opensearch.flowframework.model.WorkflowStepValidator;
 import org.opensearch.flowframework.model.WorkflowValidator;
 import org.opensearch.ml.client.MachineLearningNodeClient;
 import org.opensearch.threadpool.ThreadPool;
 import org.opensearch.transport.client.Client;
 
+import java.nio.file.Path;
 import java.util.Collection;
 import java.util.Collections;
 import java.util.HashMap;
@@ -35,6 +39,7 @@ import java.util.stream.Stream;
 
 import static org.opensearch.flowframework.common.CommonValue.CONFIGURATIONS;
 import static org.opensearch.flowframework.common.CommonValue.EMBEDDING_DIMENSION;
+import static org.opensearch.flowframework.common.CommonValue.FAN_OUT_FIELD;
 import static org.opensearch.flowframework.common.CommonValue.FRAMEWORK_TYPE;
 import static org.opensearch.flowframework.common.CommonValue.FUNCTION_NAME;
 import static org.opensearch.flowframework.common.CommonValue.MODEL_CONTENT_HASH_VALUE;
@@ -44,6 +49,7 @@ import static org.opensearch.flowframework.common.CommonValue.NAME_FIELD;
 import static org.opensearch.flowframework.common.CommonValue.OPENSEARCH_ML;
 import static org.opensearch.flowframework.common.CommonValue.PIPELINE_ID;
 import static org.opensearch.flowframework.common.CommonValue.REGISTER_MODEL_STATUS;
+import static org.opensearch.flowframework.common.CommonValue.REUSE_EXISTING_FIELD;
 import static org.opensearch.flowframework.common.CommonValue.SUCCESS;
 import static org.opensearch.flowframework.common.CommonValue.TYPE;
 import static org.opensearch.flowframework.common.CommonValue.URL;
@@ -59,7 +65,12 @@ import static org.opensearch.flowframework.common.WorkflowResources.MODEL_ID;
 public class WorkflowStepFactory {
 
     private final Map<String, Supplier<WorkflowStep>> stepMap = new HashMap<>();
+    private final ThreadPool threadPool;
+    private final FlowFrameworkIndicesHandler flowFrameworkIndicesHandler;
+    private final Client client;
     private static final Logger logger = LogManager.getLogger(WorkflowStepFactory.class);
+    // The validator of all workflow steps, which only changes with the step definitions, built on first use
+    private volatile WorkflowValidator workflowValidator;
 
     /**
      * Instantiate this class.
@@ -77,28 +88,58 @@ public class WorkflowStepFactory {
         FlowFrameworkSettings flowFrameworkSettings,
         Client client
     ) {
+        this(threadPool, mlClient, flowFrameworkIndicesHandler, flowFrameworkSettings, client, NamedXContentRegistry.EMPTY, null);
+    }
+
+    /**
+     * Instantiate this class.
+     *
+     * @param threadPool The OpenSearch thread pool
+     * @param mlClient Machine Learning client to perform ml operations
+     * @param flowFrameworkIndicesHandler FlowFrameworkIndicesHandler class to update system indices
+     * @param flowFrameworkSettings common settings of the plugin
+     * @param client The OpenSearch Client
+     * @param xContentRegistry The registry to parse search requests with
+     * @param ingestDataPath The directory documents may be ingested from by file, or null if files may not be ingested
+     */
+    public WorkflowStepFactory(
+        ThreadPool threadPool,
+        MachineLearningNodeClient mlClient,
+        FlowFrameworkIndicesHandler flowFrameworkIndicesHandler,
+        FlowFrameworkSettings flowFrameworkSettings,
+        Client client,
+        NamedXContentRegistry xContentRegistry,
+        @Nullable Path ingestDataPath
+    ) {
+        this.threadPool = threadPool;
+        this.flowFrameworkIndicesHandler = flowFrameworkIndicesHandler;
+        this.client = client;
+        // One poller for the ml tasks of all the steps, rather than one polling loop per step
+        MLTaskPoller mlTaskPoller = new MLTaskPoller(threadPool, mlClient, flowFrameworkSettings);
         stepMap.put(NoOpStep.NAME, NoOpStep::new);
         stepMap.put(CreateIndexStep.NAME, () -> new CreateIndexStep(client, flowFrameworkIndicesHandler));
         stepMap.put(DeleteIndexStep.NAME, () -> new DeleteIndexStep(client));
         stepMap.put(ReindexStep.NAME, () -> new ReindexStep(client, flowFrameworkIndicesHandler));
+        stepMap.put(
+            IngestDocumentsStep.NAME,
+            () -> new IngestDocumentsStep(client, threadPool, flowFrameworkIndicesHandler, ingestDataPath)
+        );
         stepMap.put(
             RegisterLocalCustomModelStep.NAME,
-            () -> new RegisterLocalCustomModelStep(threadPool, mlClient, flowFrameworkIndicesHandler, flowFrameworkSettings)
+            () -> new RegisterLocalCustomModelStep(mlClient, flowFrameworkIndicesHandler, mlTaskPoller)
         );
         stepMap.put(
             RegisterLocalSparseEncodingModelStep.NAME,
-            () -> new RegisterLocalSparseEncodingModelStep(threadPool, mlClient, flowFrameworkIndicesHandler, flowFrameworkSettings)
+            () -> new RegisterLocalSparseEncodingModelStep(mlClient, flowFrameworkIndicesHandler, mlTaskPoller)
         );
         stepMap.put(
             RegisterLocalPretrainedModelStep.NAME,
-            () -> new RegisterLocalPretrainedModelStep(threadPool, mlClient, flowFrameworkIndicesHandler, flowFrameworkSettings)
+            () -> new RegisterLocalPretrainedModelStep(mlClient, flowFrameworkIndicesHandler, mlTaskPoller)
         );
         stepMap.put(RegisterRemoteModelStep.NAME, () -> new RegisterRemoteModelStep(mlClient, flowFrameworkIndicesHandler));
         stepMap.put(DeleteModelStep.NAME, () -> new DeleteModelStep(mlClient));
-        stepMap.put(
-            DeployModelStep.NAME,
-            () -> new DeployModelStep(threadPool, mlClient, flowFrameworkIndicesHandler, flowFrameworkSettings)
-        );
+        stepMap.put(DeployModelStep.NAME, () -> new DeployModelStep(mlClient, flowFrameworkIndicesHandler, mlTaskPoller));
+        stepMap.put(WarmUpModelStep.NAME, () -> new WarmUpModelStep(threadPool, mlClient, flowFrameworkIndicesHandler));
         stepMap.put(UndeployModelStep.NAME, () -> new UndeployModelStep(mlClient));
         stepMap.put(CreateConnectorStep.NAME, () -> new CreateConnectorStep(mlClient, flowFrameworkIndicesHandler));
         stepMap.put(DeleteConnectorStep.NAME, () -> new DeleteConnectorStep(mlClient));
@@ -112,6 +153,10 @@ public class WorkflowStepFactory {
         stepMap.put(UpdateIngestPipelineStep.NAME, () -> new UpdateIngestPipelineStep(client));
         stepMap.put(UpdateSearchPipelineStep.NAME, () -> new UpdateSearchPipelineStep(client));
         stepMap.put(UpdateIndexStep.NAME, () -> new UpdateIndexStep(client));
+        stepMap.put(
+            SearchSmokeTestStep.NAME,
+            () -> new SearchSmokeTestStep(client, threadPool, flowFrameworkIndicesHandler, xContentRegistry)
+        );
 
         stepMap.put(DeleteSearchPipelineStep.NAME, () -> new DeleteSearchPipelineStep(client));
     }
@@ -145,6 +190,15 @@ public class WorkflowStepFactory {
         /** Create ReIndex Step */
         REINDEX(ReindexStep.NAME, ReindexStep.REQUIRED_INPUTS, ReindexStep.PROVIDED_OUTPUTS, Collections.emptyList(), null),
 
+        /** Ingest Documents Step */
+        INGEST_DOCUMENTS(
+            IngestDocumentsStep.NAME,
+            IngestDocumentsStep.REQUIRED_INPUTS,
+            IngestDocumentsStep.PROVIDED_OUTPUTS,
+            Collections.emptyList(),
+            null
+        ),
+
         /** Create Connector Step */
         CREATE_CONNECTOR(
             CreateConnectorStep.NAME,
@@ -218,6 +272,15 @@ public class WorkflowStepFactory {
             TimeValue.timeValueSeconds(15)
         ),
 
+        /** Warm Up Model Step */
+        WARM_UP_MODEL(
+            WarmUpModelStep.NAME,
+            WarmUpModelStep.REQUIRED_INPUTS,
+            WarmUpModelStep.PROVIDED_OUTPUTS,
+            List.of(OPENSEARCH_ML),
+            TimeValue.timeValueSeconds(60)
+        ),
+
         /** Undeploy Model Step */
         UNDEPLOY_MODEL(UndeployModelStep.NAME, List.of(MODEL_ID), List.of(SUCCESS), List.of(OPENSEARCH_ML), null),
 
@@ -284,6 +347,15 @@ public class WorkflowStepFactory {
         /** Update Index Step */
         UPDATE_INDEX(UpdateIndexStep.NAME, List.of(INDEX_NAME, CONFIGURATIONS), List.of(INDEX_NAME), Collections.emptyList(), null),
 
+        /** Search Smoke Test Step */
+        SEARCH_SMOKE_TEST(
+            SearchSmokeTestStep.NAME,
+            SearchSmokeTestStep.REQUIRED_INPUTS,
+            SearchSmokeTestStep.PROVIDED_OUTPUTS,
+            Collections.emptyList(),
+            TimeValue.timeValueSeconds(60)
+        ),
+
         /** Delete Search Pipeline Step */
         DELETE_SEARCH_PIPELINE(
             DeleteSearchPipelineStep.NAME,
@@ -456,11 +528,16 @@ public class WorkflowStepFactory {
      * @return WorkflowValidator
      */
     public WorkflowValidator getWorkflowValidator() {
-        return new WorkflowValidator(
-            Stream.of(WorkflowSteps.values())
-                .filter(w -> !WorkflowProcessSorter.WORKFLOW_STEP_DENYLIST.contains(w.getWorkflowStepName()))
-                .collect(Collectors.toMap(WorkflowSteps::getWorkflowStepName, WorkflowSteps::getWorkflowStepValidator))
-        );
+        WorkflowValidator validator = workflowValidator;
+        if (validator == null) {
+            validator = new WorkflowValidator(
+                Stream.of(WorkflowSteps.values())
+                    .filter(w -> !WorkflowProcessSorter.WORKFLOW_STEP_DENYLIST.contains(w.getWorkflowStepName()))
+                    .collect(Collectors.toMap(WorkflowSteps::getWorkflowStepName, WorkflowSteps::getWorkflowStepValidator))
+            );
+            workflowValidator = validator;
+        }
+        return validator;
     }
 
     /**
@@ -497,6 +574,50 @@ public class WorkflowStepFactory {
         throw new FlowFrameworkException("Workflow step type [" + type + "] is not implemented.", RestStatus.NOT_IMPLEMENTED);
     }
 
+    /**
+     * Create a new instance of the {@link WorkflowStep} of a workflow node, which reuses the resources of identical steps
+     * of other workflows if the node opts in, or is executed once for each entry of the fan out list of the node.
+     * @param node The workflow node
+     * @return an instance of the type of the node
+     */
+    public WorkflowStep createStep(WorkflowNode node) {
+        WorkflowStep step = createStep(node.type());
+        if (FanOutStep.isFanOut(node.userInputs())) {
+            if (!FanOutStep.FAN_OUT_STEPS.contains(node.type()) || SharedResourceStep.isReuseRequested(node.userInputs())) {
+                String errorMessage = "Workflow step type [" + node.type() + "] does not support " + FAN_OUT_FIELD;
+                throw new FlowFrameworkException(errorMessage, RestStatus.BAD_REQUEST);
+            }
+            return new FanOutStep(step, threadPool, flowFrameworkIndicesHandler);
+        }
+        if (!SharedResourceStep.isReuseRequested(node.userInputs())) {
+            return step;
+        }
+        if (!SharedResourceStep.SHAREABLE_STEPS.contains(node.type())) {
+            String errorMessage = "Workflow step type [" + node.type() + "] does not support " + REUSE_EXISTING_FIELD;
+            throw new FlowFrameworkException(errorMessage, RestStatus.BAD_REQUEST);
+        }
+        return new SharedResourceStep(step, threadPool, flowFrameworkIndicesHandler);
+    }
+
+    /**
+     * Create a snapshot of the current settings of the indices updated by one workflow execution.
+     * @param indices The names of the indices known to be updated
+     * @return the snapshot, fetched on first use
+     */
+    public IndexSettingsSnapshot createIndexSettingsSnapshot(Set<String> indices) {
+        return new IndexSettingsSnapshot(client, indices);
+    }
+
+    /**
+     * Create a new instance of the {@link UpdateIndexStep} which reads current index settings from a snapshot shared with the
+     * other steps of the same workflow execution.
+     * @param indexSettingsSnapshot The shared snapshot of index settings
+     * @return an update index step
+     */
+    public WorkflowStep createUpdateIndexStep(IndexSettingsSnapshot indexSettingsSnapshot) {
+        return new UpdateIndexStep(client, indexSettingsSnapshot);
+    }
+
     /**
      * Gets the step map
      * @return a read-only copy of the step map
@@ -28,6 +28,10 @@ import java.util.concurrent.TimeUnit;
 import java.util.stream.Collectors;
 import java.util.stream.Stream;
 
+import static org.opensearch.flowframework.common.FlowFrameworkSettings.DEPROVISION_THREAD_POOL_SIZE;
+import static org.opensearch.flowframework.common.FlowFrameworkSettings.DOCUMENT_BODY_ENCODING;
+import static org.opensearch.flowframework.common.FlowFrameworkSettings.DOCUMENT_CACHE_SIZE;
+import static org.opensearch.flowframework.common.FlowFrameworkSettings.DOCUMENT_CACHE_TTL;
 import static org.opensearch.flowframework.common.FlowFrameworkSettings.FILTER_BY_BACKEND_ROLES;
 import static org.opensearch.flowframework.common.FlowFrameworkSettings.FLOW_FRAMEWORK_ENABLED;
 import static org.opensearch.flowframework.common.FlowFrameworkSettings.FLOW_FRAMEWORK_MULTI_TENANCY_ENABLED;
@@ -35,12 +39,22 @@ import static org.opensearch.flowframework.common.FlowFrameworkSettings.MAX_ACTI
 import static org.opensearch.flowframework.common.FlowFrameworkSettings.MAX_ACTIVE_PROVISIONS_PER_TENANT;
 import static org.opensearch.flowframework.common.FlowFrameworkSettings.MAX_WORKFLOWS;
 import static org.opensearch.flowframework.common.FlowFrameworkSettings.MAX_WORKFLOW_STEPS;
+import static org.opensearch.flowframework.common.FlowFrameworkSettings.PROVISION_THREAD_POOL_SIZE;
 import static org.opensearch.flowframework.common.FlowFrameworkSettings.REMOTE_METADATA_ENDPOINT;
 import static org.opensearch.flowframework.common.FlowFrameworkSettings.REMOTE_METADATA_REGION;
 import static org.opensearch.flowframework.common.FlowFrameworkSettings.REMOTE_METADATA_SERVICE_NAME;
 import static org.opensearch.flowframework.common.FlowFrameworkSettings.REMOTE_METADATA_TYPE;
+import static org.opensearch.flowframework.common.FlowFrameworkSettings.STARTUP_BOOTSTRAP_ENABLED;
+import static org.opensearch.flowframework.common.FlowFrameworkSettings.SUMMARY_CACHE_TTL;
 import static org.opensearch.flowframework.common.FlowFrameworkSettings.TASK_REQUEST_RETRY_DURATION;
+import static org.opensearch.flowframework.common.FlowFrameworkSettings.TEMPLATE_DEDUPLICATION_ENABLED;
+import static org.opensearch.flowframework.common.FlowFrameworkSettings.THREAD_POOL_AUTOSIZE_ENABLED;
+import static org.opensearch.flowframework.common.FlowFrameworkSettings.THREAD_POOL_AUTOSIZE_INTERVAL;
+import static org.opensearch.flowframework.common.FlowFrameworkSettings.THREAD_POOL_MIN_SIZE;
+import static org.opensearch.flowframework.common.FlowFrameworkSettings.THREAD_POOL_TARGET_QUEUE_LATENCY;
+import static org.opensearch.flowframework.common.FlowFrameworkSettings.VIRTUAL_THREADS_ENABLED;
 import static org.opensearch.flowframework.common.FlowFrameworkSettings.WORKFLOW_REQUEST_TIMEOUT;
+import static org.opensearch.flowframework.common.FlowFrameworkSettings.WORKFLOW_THREAD_POOL_SIZE;
 import static org.mockito.Mockito.mock;
 import static org.mockito.Mockito.when;
 
@@ -71,6 +85,7 @@ public class FlowFrameworkPluginTests extends OpenSearchTestCase {
         environment = mock(Environment.class);
         settings = Settings.builder().build();
         when(environment.settings()).thenReturn(settings);
+        when(environment.configDir()).thenReturn(createTempDir());
 
         final Set<Setting<?>> settingsSet = Stream.concat(
             ClusterSettings.BUILT_IN_CLUSTER_SETTINGS.stream(),
@@ -84,6 +99,20 @@ public class FlowFrameworkPluginTests extends OpenSearchTestCase {
                 FLOW_FRAMEWORK_MULTI_TENANCY_ENABLED,
                 MAX_ACTIVE_PROVISIONS_PER_TENANT,
                 MAX_ACTIVE_DEPROVISIONS_PER_TENANT,
+                TEMPLATE_DEDUPLICATION_ENABLED,
+                DOCUMENT_BODY_ENCODING,
+                DOCUMENT_CACHE_SIZE,
+                DOCUMENT_CACHE_TTL,
+                WORKFLOW_THREAD_POOL_SIZE,
+                PROVISION_THREAD_POOL_SIZE,
+                DEPROVISION_THREAD_POOL_SIZE,
+                THREAD_POOL_AUTOSIZE_ENABLED,
+                THREAD_POOL_MIN_SIZE,
+                THREAD_POOL_TARGET_QUEUE_LATENCY,
+                THREAD_POOL_AUTOSIZE_INTERVAL,
+                VIRTUAL_THREADS_ENABLED,
+                SUMMARY_CACHE_TTL,
+                STARTUP_BOOTSTRAP_ENABLED,
                 REMOTE_METADATA_TYPE,
                 REMOTE_METADATA_ENDPOINT,
                 REMOTE_METADATA_REGION,
@@ -104,16 +133,16 @@ public class FlowFrameworkPluginTests extends OpenSearchTestCase {
     public void testPlugin() throws IOException {
         try (FlowFrameworkPlugin ffp = new FlowFrameworkPlugin()) {
             assertEquals(
-                7,
+                10,
                 ffp.createComponents(client, clusterService, threadPool, null, null, null, environment, null, null, null, null).size()
             );
-            assertEquals(9, ffp.getRestHandlers(settings, null, null, null, null, null, null).size());
-            assertEquals(10, ffp.getActions().size());
+            assertEquals(14, ffp.getRestHandlers(settings, null, null, null, null, null, null).size());
+            assertEquals(15, ffp.getActions().size());
             assertEquals(3, ffp.getExecutorBuilders(settings).size());
-            assertEquals(16, ffp.getSettings().size());
+            assertEquals(27, ffp.getSettings().size());
 
             Collection<SystemIndexDescriptor> systemIndexDescriptors = ffp.getSystemIndexDescriptors(Settings.EMPTY);
-            assertEquals(3, systemIndexDescriptors.size());
+            assertEquals(5, systemIndexDescriptors.size());
         }
     }
 }
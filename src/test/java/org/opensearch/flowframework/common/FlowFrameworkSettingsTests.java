@@ -13,6 +13,8 @@ import org.opensearch.common.settings.ClusterSettings;
 import org.opensearch.common.settings.Setting;
 import org.opensearch.common.settings.Settings;
 import org.opensearch.common.unit.TimeValue;
+import org.opensearch.core.common.unit.ByteSizeUnit;
+import org.opensearch.core.common.unit.ByteSizeValue;
 import org.opensearch.test.OpenSearchTestCase;
 
 import java.io.IOException;
@@ -49,7 +51,18 @@ public class FlowFrameworkSettingsTests extends OpenSearchTestCase {
                 FlowFrameworkSettings.PROVISION_THREAD_POOL_SIZE,
                 FlowFrameworkSettings.MAX_ACTIVE_PROVISIONS_PER_TENANT,
                 FlowFrameworkSettings.DEPROVISION_THREAD_POOL_SIZE,
-                FlowFrameworkSettings.MAX_ACTIVE_DEPROVISIONS_PER_TENANT
+                FlowFrameworkSettings.MAX_ACTIVE_DEPROVISIONS_PER_TENANT,
+                FlowFrameworkSettings.TEMPLATE_DEDUPLICATION_ENABLED,
+                FlowFrameworkSettings.DOCUMENT_BODY_ENCODING,
+                FlowFrameworkSettings.DOCUMENT_CACHE_SIZE,
+                FlowFrameworkSettings.DOCUMENT_CACHE_TTL,
+                FlowFrameworkSettings.THREAD_POOL_AUTOSIZE_ENABLED,
+                FlowFrameworkSettings.THREAD_POOL_MIN_SIZE,
+                FlowFrameworkSettings.THREAD_POOL_TARGET_QUEUE_LATENCY,
+                FlowFrameworkSettings.THREAD_POOL_AUTOSIZE_INTERVAL,
+                FlowFrameworkSettings.VIRTUAL_THREADS_ENABLED,
+                FlowFrameworkSettings.SUMMARY_CACHE_TTL,
+                FlowFrameworkSettings.STARTUP_BOOTSTRAP_ENABLED
             )
         ).collect(Collectors.toSet());
         clusterSettings = new ClusterSettings(settings, settingsSet);
@@ -75,5 +88,42 @@ public class FlowFrameworkSettingsTests extends OpenSearchTestCase {
         assertEquals(Optional.of(2), Optional.ofNullable(flowFrameworkSettings.getMaxActiveProvisionsPerTenant()));
         assertEquals(Optional.of(4), Optional.ofNullable(flowFrameworkSettings.getDeprovisionThreadPoolSize()));
         assertEquals(Optional.of(1), Optional.ofNullable(flowFrameworkSettings.getMaxActiveDeprovisionsPerTenant()));
+        assertFalse(flowFrameworkSettings.isTemplateDeduplicationEnabled());
+        assertEquals("json", flowFrameworkSettings.getDocumentBodyEncoding());
+        assertEquals(new ByteSizeValue(10, ByteSizeUnit.MB), flowFrameworkSettings.getDocumentCacheSize());
+        assertEquals(TimeValue.timeValueSeconds(1), flowFrameworkSettings.getDocumentCacheTtl());
+        assertFalse(flowFrameworkSettings.isThreadPoolAutosizeEnabled());
+        assertEquals(Optional.of(1), Optional.ofNullable(flowFrameworkSettings.getThreadPoolMinSize()));
+        assertEquals(TimeValue.timeValueMillis(100), flowFrameworkSettings.getThreadPoolTargetQueueLatency());
+        assertEquals(TimeValue.timeValueSeconds(10), flowFrameworkSettings.getThreadPoolAutosizeInterval());
+        assertFalse(flowFrameworkSettings.isVirtualThreadsEnabled());
+        assertEquals(TimeValue.timeValueSeconds(5), flowFrameworkSettings.getSummaryCacheTtl());
+        assertTrue(flowFrameworkSettings.isStartupBootstrapEnabled());
+    }
+
+    public void testThreadPoolSizesAreDynamic() {
+        clusterSettings.applySettings(
+            Settings.builder()
+                .put(FlowFrameworkSettings.PROVISION_THREAD_POOL_SIZE.getKey(), 16)
+                .put(FlowFrameworkSettings.THREAD_POOL_AUTOSIZE_ENABLED.getKey(), true)
+                .put(FlowFrameworkSettings.THREAD_POOL_MIN_SIZE.getKey(), 2)
+                .build()
+        );
+        assertEquals(Optional.of(16), Optional.ofNullable(flowFrameworkSettings.getProvisionThreadPoolSize()));
+        assertTrue(flowFrameworkSettings.isThreadPoolAutosizeEnabled());
+        assertEquals(Optional.of(2), Optional.ofNullable(flowFrameworkSettings.getThreadPoolMinSize()));
+    }
+
+    public void testDocumentBodyEncoding() {
+        clusterSettings.applySettings(Settings.builder().put(FlowFrameworkSettings.DOCUMENT_BODY_ENCODING.getKey(), "smile").build());
+        assertEquals("smile", flowFrameworkSettings.getDocumentBodyEncoding());
+
+        IllegalArgumentException e = assertThrows(
+            IllegalArgumentException.class,
+            () -> FlowFrameworkSettings.DOCUMENT_BODY_ENCODING.get(
+                Settings.builder().put(FlowFrameworkSettings.DOCUMENT_BODY_ENCODING.getKey(), "yaml").build()
+            )
+        );
+        assertTrue(e.getMessage().contains("Invalid document body encoding [yaml]"));
     }
 }
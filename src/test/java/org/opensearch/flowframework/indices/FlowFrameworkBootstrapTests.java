@@ -0,0 +1,189 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * The OpenSearch Contributors require contributions made to
+ * this file be licensed under the Apache-2.0 license or a
+ * compatible open source license.
+ */
+package org.opensearch.flowframework.indices;
+
+import org.opensearch.Version;
+import org.opensearch.cluster.ClusterChangedEvent;
+import org.opensearch.cluster.ClusterName;
+import org.opensearch.cluster.ClusterState;
+import org.opensearch.cluster.block.ClusterBlocks;
+import org.opensearch.cluster.metadata.IndexMetadata;
+import org.opensearch.cluster.metadata.Metadata;
+import org.opensearch.cluster.service.ClusterService;
+import org.opensearch.common.settings.Settings;
+import org.opensearch.common.util.concurrent.OpenSearchExecutors;
+import org.opensearch.core.action.ActionListener;
+import org.opensearch.flowframework.common.FlowFrameworkSettings;
+import org.opensearch.flowframework.workflow.WorkflowStepFactory;
+import org.opensearch.gateway.GatewayService;
+import org.opensearch.test.OpenSearchTestCase;
+import org.opensearch.threadpool.ThreadPool;
+
+import org.mockito.Mock;
+import org.mockito.MockitoAnnotations;
+
+import static org.opensearch.flowframework.common.CommonValue.GLOBAL_CONTEXT_INDEX;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.ArgumentMatchers.isNull;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+public class FlowFrameworkBootstrapTests extends OpenSearchTestCase {
+
+    @Mock
+    private FlowFrameworkIndicesHandler flowFrameworkIndicesHandler;
+    @Mock
+    private WorkflowStepFactory workflowStepFactory;
+    @Mock
+    private FlowFrameworkSettings flowFrameworkSettings;
+    @Mock
+    private ClusterService clusterService;
+    @Mock
+    private ThreadPool threadPool;
+
+    @Override
+    public void setUp() throws Exception {
+        super.setUp();
+        MockitoAnnotations.openMocks(this);
+        when(threadPool.generic()).thenReturn(OpenSearchExecutors.newDirectExecutorService());
+        when(flowFrameworkSettings.isStartupBootstrapEnabled()).thenReturn(true);
+        when(flowFrameworkSettings.isFlowFrameworkEnabled()).thenReturn(true);
+        when(flowFrameworkSettings.isTemplateDeduplicationEnabled()).thenReturn(false);
+    }
+
+    public void testDisabled() {
+        when(flowFrameworkSettings.isStartupBootstrapEnabled()).thenReturn(false);
+        FlowFrameworkBootstrap bootstrap = createBootstrap(false);
+        bootstrap.start();
+
+        verify(clusterService, never()).addListener(any());
+        verify(workflowStepFactory, never()).getWorkflowValidator();
+    }
+
+    public void testWaitsForStateRecovery() {
+        FlowFrameworkBootstrap bootstrap = createBootstrap(false);
+        bootstrap.start();
+        verify(clusterService, times(1)).addListener(bootstrap);
+        verify(workflowStepFactory, times(1)).getWorkflowValidator();
+
+        ClusterState state = ClusterState.builder(ClusterName.DEFAULT)
+            .blocks(ClusterBlocks.builder().addGlobalBlock(GatewayService.STATE_NOT_RECOVERED_BLOCK))
+            .build();
+        bootstrap.clusterChanged(event(state, true));
+
+        verify(flowFrameworkIndicesHandler, never()).initFlowFrameworkIndexIfAbsent(any(), any());
+        verify(flowFrameworkIndicesHandler, never()).initializeConfigIndex(any(), any());
+        assertFalse(bootstrap.isComplete());
+    }
+
+    public void testClusterManagerInitializesAllIndices() {
+        respond(true);
+        FlowFrameworkBootstrap bootstrap = createBootstrap(false);
+        bootstrap.start();
+
+        bootstrap.clusterChanged(event(ClusterState.builder(ClusterName.DEFAULT).build(), true));
+
+        verify(flowFrameworkIndicesHandler, times(1)).initFlowFrameworkIndexIfAbsent(eq(FlowFrameworkIndex.GLOBAL_CONTEXT), any());
+        verify(flowFrameworkIndicesHandler, times(1)).initFlowFrameworkIndexIfAbsent(eq(FlowFrameworkIndex.WORKFLOW_STATE), any());
+        verify(flowFrameworkIndicesHandler, times(1)).initializeConfigIndex(isNull(), any());
+        verify(flowFrameworkIndicesHandler, never()).initFlowFrameworkIndexIfAbsent(eq(FlowFrameworkIndex.TEMPLATE_BODY), any());
+        assertTrue(bootstrap.isComplete());
+        verify(clusterService, times(1)).removeListener(bootstrap);
+
+        // Later cluster state changes do nothing more
+        bootstrap.clusterChanged(event(ClusterState.builder(ClusterName.DEFAULT).build(), true));
+        verify(flowFrameworkIndicesHandler, times(1)).initializeConfigIndex(isNull(), any());
+    }
+
+    public void testOtherNodesInitializeExistingIndices() {
+        respond(true);
+        FlowFrameworkBootstrap bootstrap = createBootstrap(false);
+        bootstrap.start();
+
+        IndexMetadata globalContext = IndexMetadata.builder(GLOBAL_CONTEXT_INDEX)
+            .settings(Settings.builder().put(IndexMetadata.SETTING_VERSION_CREATED, Version.CURRENT))
+            .numberOfShards(1)
+            .numberOfReplicas(0)
+            .build();
+        ClusterState state = ClusterState.builder(ClusterName.DEFAULT)
+            .metadata(Metadata.builder().put(globalContext, false))
+            .build();
+        bootstrap.clusterChanged(event(state, false));
+
+        verify(flowFrameworkIndicesHandler, times(1)).initFlowFrameworkIndexIfAbsent(eq(FlowFrameworkIndex.GLOBAL_CONTEXT), any());
+        verify(flowFrameworkIndicesHandler, never()).initFlowFrameworkIndexIfAbsent(eq(FlowFrameworkIndex.WORKFLOW_STATE), any());
+        verify(flowFrameworkIndicesHandler, never()).initializeConfigIndex(any(), any());
+        assertFalse(bootstrap.isComplete());
+    }
+
+    public void testGivesUpAfterFailedAttempts() {
+        doAnswer(invocation -> {
+            ActionListener<Boolean> listener = invocation.getArgument(1);
+            listener.onFailure(new RuntimeException("fail"));
+            return null;
+        }).when(flowFrameworkIndicesHandler).initFlowFrameworkIndexIfAbsent(any(), any());
+        doAnswer(invocation -> {
+            ActionListener<Boolean> listener = invocation.getArgument(1);
+            listener.onFailure(new RuntimeException("fail"));
+            return null;
+        }).when(flowFrameworkIndicesHandler).initializeConfigIndex(any(), any());
+        FlowFrameworkBootstrap bootstrap = createBootstrap(true);
+        bootstrap.start();
+
+        for (int i = 0; i < FlowFrameworkBootstrap.MAX_ATTEMPTS; i++) {
+            assertFalse(bootstrap.isComplete());
+            bootstrap.clusterChanged(event(ClusterState.builder(ClusterName.DEFAULT).build(), false));
+        }
+
+        // With multitenancy the config index is created without loading a master key
+        verify(flowFrameworkIndicesHandler, never()).initializeConfigIndex(any(), any());
+        verify(flowFrameworkIndicesHandler, times(FlowFrameworkBootstrap.MAX_ATTEMPTS)).initFlowFrameworkIndexIfAbsent(
+            eq(FlowFrameworkIndex.CONFIG),
+            any()
+        );
+        assertTrue(bootstrap.isComplete());
+        verify(clusterService, times(1)).removeListener(bootstrap);
+    }
+
+    private FlowFrameworkBootstrap createBootstrap(boolean multiTenancyEnabled) {
+        return new FlowFrameworkBootstrap(
+            flowFrameworkIndicesHandler,
+            workflowStepFactory,
+            flowFrameworkSettings,
+            clusterService,
+            threadPool,
+            multiTenancyEnabled
+        );
+    }
+
+    private void respond(boolean initialized) {
+        doAnswer(invocation -> {
+            ActionListener<Boolean> listener = invocation.getArgument(1);
+            listener.onResponse(initialized);
+            return null;
+        }).when(flowFrameworkIndicesHandler).initFlowFrameworkIndexIfAbsent(any(), any());
+        doAnswer(invocation -> {
+            ActionListener<Boolean> listener = invocation.getArgument(1);
+            listener.onResponse(initialized);
+            return null;
+        }).when(flowFrameworkIndicesHandler).initializeConfigIndex(any(), any());
+    }
+
+    private static ClusterChangedEvent event(ClusterState state, boolean localNodeClusterManager) {
+        ClusterChangedEvent event = mock(ClusterChangedEvent.class);
+        when(event.state()).thenReturn(state);
+        when(event.localNodeClusterManager()).thenReturn(localNodeClusterManager);
+        return event;
+    }
+}
@@ -33,9 +33,11 @@ import org.opensearch.core.action.ActionListener;
 import org.opensearch.core.common.bytes.BytesReference;
 import org.opensearch.core.index.shard.ShardId;
 import org.opensearch.core.xcontent.NamedXContentRegistry;
+import org.opensearch.core.xcontent.ToXContent;
 import org.opensearch.core.xcontent.ToXContentObject;
 import org.opensearch.core.xcontent.XContentBuilder;
 import org.opensearch.flowframework.TestHelpers;
+import org.opensearch.flowframework.common.FlowFrameworkSettings;
 import org.opensearch.flowframework.common.WorkflowResources;
 import org.opensearch.flowframework.model.ProvisioningProgress;
 import org.opensearch.flowframework.model.ResourceCreated;
@@ -45,6 +47,7 @@ import org.opensearch.flowframework.model.WorkflowState;
 import org.opensearch.flowframework.util.EncryptorUtils;
 import org.opensearch.flowframework.workflow.CreateConnectorStep;
 import org.opensearch.flowframework.workflow.CreateIndexStep;
+import org.opensearch.flowframework.workflow.RegisterRemoteModelStep;
 import org.opensearch.flowframework.workflow.WorkflowData;
 import org.opensearch.index.engine.VersionConflictEngineException;
 import org.opensearch.index.get.GetResult;
@@ -58,6 +61,7 @@ import org.opensearch.transport.client.IndicesAdminClient;
 
 import java.io.IOException;
 import java.time.Instant;
+import java.util.ArrayList;
 import java.util.Collections;
 import java.util.HashMap;
 import java.util.List;
@@ -70,12 +74,17 @@ import org.mockito.ArgumentCaptor;
 import org.mockito.Mock;
 import org.mockito.MockitoAnnotations;
 
+import static org.opensearch.flowframework.common.CommonValue.BODY_ENCODING_PARAM;
+import static org.opensearch.flowframework.common.CommonValue.ENCODED_BODY_FIELD;
 import static org.opensearch.flowframework.common.CommonValue.GLOBAL_CONTEXT_INDEX;
+import static org.opensearch.flowframework.common.CommonValue.STATE_FIELD;
+import static org.opensearch.flowframework.common.CommonValue.USER_OUTPUTS_FIELD;
 import static org.opensearch.flowframework.common.CommonValue.WORKFLOW_STATE_INDEX;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.anyString;
 import static org.mockito.Mockito.doAnswer;
 import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
@@ -90,6 +99,8 @@ public class FlowFrameworkIndicesHandlerTests extends OpenSearchTestCase {
     private ThreadPool threadPool;
     @Mock
     private EncryptorUtils encryptorUtils;
+    @Mock
+    private FlowFrameworkSettings flowFrameworkSettings;
     private FlowFrameworkIndicesHandler flowFrameworkIndicesHandler;
     private AdminClient adminClient;
     private IndicesAdminClient indicesAdminClient;
@@ -123,6 +134,7 @@ public class FlowFrameworkIndicesHandlerTests extends OpenSearchTestCase {
             sdkClient,
             clusterService,
             encryptorUtils,
+            flowFrameworkSettings,
             xContentRegistry(),
             false
         );
@@ -178,6 +190,7 @@ public class FlowFrameworkIndicesHandlerTests extends OpenSearchTestCase {
             sdkClient,
             clusterService,
             encryptorUtils,
+            flowFrameworkSettings,
             xContentRegistry(),
             true
         );
@@ -481,6 +494,52 @@ public class FlowFrameworkIndicesHandlerTests extends OpenSearchTestCase {
         );
     }
 
+    public void testUpdateEncodedUserOutputs() throws IOException {
+        ClusterState mockClusterState = mock(ClusterState.class);
+        Metadata mockMetaData = mock(Metadata.class);
+        when(clusterService.state()).thenReturn(mockClusterState);
+        when(mockClusterState.metadata()).thenReturn(mockMetaData);
+        when(mockMetaData.hasIndex(WORKFLOW_STATE_INDEX)).thenReturn(true);
+        when(flowFrameworkSettings.getDocumentBodyEncoding()).thenReturn("smile");
+
+        WorkflowState stored = WorkflowState.builder().workflowId("1").state("PROVISIONING").userOutputs(Map.of("first", "1")).build();
+        BytesReference storedSource = BytesReference.bytes(
+            stored.toXContent(XContentFactory.jsonBuilder(), new ToXContent.MapParams(Map.of(BODY_ENCODING_PARAM, "smile")))
+        );
+        doAnswer(invocation -> {
+            ActionListener<GetResponse> responseListener = invocation.getArgument(1);
+            GetResult getResult = new GetResult(WORKFLOW_STATE_INDEX, "1", 7, 1, 1, true, storedSource, null, null);
+            responseListener.onResponse(new GetResponse(getResult));
+            return null;
+        }).when(client).get(any(GetRequest.class), any());
+        ArgumentCaptor<UpdateRequest> updateCaptor = ArgumentCaptor.forClass(UpdateRequest.class);
+        doAnswer(invocation -> {
+            ActionListener<UpdateResponse> responseListener = invocation.getArgument(1);
+            responseListener.onResponse(new UpdateResponse(new ShardId(WORKFLOW_STATE_INDEX, "", 1), "id", -2, 0, 0, Result.UPDATED));
+            return null;
+        }).when(client).update(updateCaptor.capture(), any());
+
+        @SuppressWarnings("unchecked")
+        ActionListener<UpdateResponse> listener = mock(ActionListener.class);
+        flowFrameworkIndicesHandler.updateFlowFrameworkSystemIndexDoc(
+            "1",
+            null,
+            Map.of(USER_OUTPUTS_FIELD, Map.of("second", "2"), STATE_FIELD, "COMPLETED"),
+            listener
+        );
+        verify(listener, times(1)).onResponse(any(UpdateResponse.class));
+
+        // The merged outputs are written into a new encoded body, guarded by the version read
+        UpdateRequest updateRequest = updateCaptor.getValue();
+        assertEquals(7, updateRequest.ifSeqNo());
+        Map<String, Object> doc = updateRequest.doc().sourceAsMap();
+        assertTrue(doc.containsKey(ENCODED_BODY_FIELD));
+        assertNull(doc.get(USER_OUTPUTS_FIELD));
+        WorkflowState updated = WorkflowState.parse(updateRequest.doc().source());
+        assertEquals("COMPLETED", updated.getState());
+        assertEquals(Map.of("first", "1", "second", "2"), updated.userOutputs());
+    }
+
     public void testUpdateFlowFrameworkSystemIndexFullDoc() throws IOException {
         ClusterState mockClusterState = mock(ClusterState.class);
         Metadata mockMetaData = mock(Metadata.class);
@@ -690,6 +749,120 @@ public class FlowFrameworkIndicesHandlerTests extends OpenSearchTestCase {
         );
     }
 
+    public void testBufferResources() {
+        ClusterState mockClusterState = mock(ClusterState.class);
+        Metadata mockMetaData = mock(Metadata.class);
+        when(clusterService.state()).thenReturn(mockClusterState);
+        when(mockClusterState.metadata()).thenReturn(mockMetaData);
+        when(mockMetaData.hasIndex(WORKFLOW_STATE_INDEX)).thenReturn(true);
+
+        doAnswer(invocation -> {
+            ActionListener<GetResponse> responseListener = invocation.getArgument(1);
+            XContentBuilder builder = XContentFactory.jsonBuilder();
+            WorkflowState state = WorkflowState.builder().build();
+            state.toXContent(builder, null);
+            BytesReference workflowBytesRef = BytesReference.bytes(builder);
+            GetResult getResult = new GetResult(WORKFLOW_STATE_INDEX, "this_id", 1, 1, 1, true, workflowBytesRef, null, null);
+            responseListener.onResponse(new GetResponse(getResult));
+            return null;
+        }).when(client).get(any(GetRequest.class), any());
+        doAnswer(invocation -> {
+            ActionListener<UpdateResponse> responseListener = invocation.getArgument(1);
+            responseListener.onResponse(new UpdateResponse(new ShardId(WORKFLOW_STATE_INDEX, "", 1), "this_id", -2, 0, 0, Result.UPDATED));
+            return null;
+        }).when(client).update(any(UpdateRequest.class), any());
+
+        flowFrameworkIndicesHandler.bufferResources("this_id", "node_id");
+        @SuppressWarnings("unchecked")
+        ActionListener<WorkflowData> listener = mock(ActionListener.class);
+        for (String indexName : List.of("index-1", "index-2")) {
+            flowFrameworkIndicesHandler.addResourceToStateIndex(
+                new WorkflowData(Collections.emptyMap(), "this_id", null),
+                "node_id",
+                CreateIndexStep.NAME,
+                indexName,
+                null,
+                listener
+            );
+        }
+        // Buffered resources respond without updating the state
+        verify(listener, times(2)).onResponse(any(WorkflowData.class));
+        verify(client, never()).update(any(UpdateRequest.class), any());
+
+        @SuppressWarnings("unchecked")
+        ActionListener<WorkflowData> flushListener = mock(ActionListener.class);
+        flowFrameworkIndicesHandler.flushResources("this_id", "node_id", null, flushListener);
+        verify(flushListener, times(1)).onResponse(any(WorkflowData.class));
+        ArgumentCaptor<UpdateRequest> updateCaptor = ArgumentCaptor.forClass(UpdateRequest.class);
+        verify(client, times(1)).update(updateCaptor.capture(), any());
+        String updatedState = updateCaptor.getValue().doc().source().utf8ToString();
+        assertTrue(updatedState.contains("\"index-1\""));
+        assertTrue(updatedState.contains("\"index-2\""));
+
+        // Nothing is left buffered
+        flowFrameworkIndicesHandler.flushResources("this_id", "node_id", null, flushListener);
+        verify(flushListener, times(1)).onResponse(null);
+        verify(client, times(1)).update(any(UpdateRequest.class), any());
+    }
+
+    public void testGroupResourcesAddedDuringUpdate() {
+        ClusterState mockClusterState = mock(ClusterState.class);
+        Metadata mockMetaData = mock(Metadata.class);
+        when(clusterService.state()).thenReturn(mockClusterState);
+        when(mockClusterState.metadata()).thenReturn(mockMetaData);
+        when(mockMetaData.hasIndex(WORKFLOW_STATE_INDEX)).thenReturn(true);
+
+        doAnswer(invocation -> {
+            ActionListener<GetResponse> responseListener = invocation.getArgument(1);
+            XContentBuilder builder = XContentFactory.jsonBuilder();
+            WorkflowState state = WorkflowState.builder().build();
+            state.toXContent(builder, null);
+            BytesReference workflowBytesRef = BytesReference.bytes(builder);
+            GetResult getResult = new GetResult(WORKFLOW_STATE_INDEX, "this_id", 1, 1, 1, true, workflowBytesRef, null, null);
+            responseListener.onResponse(new GetResponse(getResult));
+            return null;
+        }).when(client).get(any(GetRequest.class), any());
+        // Hold the first update in flight
+        List<ActionListener<UpdateResponse>> updateListeners = new ArrayList<>();
+        doAnswer(invocation -> {
+            updateListeners.add(invocation.getArgument(1));
+            return null;
+        }).when(client).update(any(UpdateRequest.class), any());
+
+        @SuppressWarnings("unchecked")
+        ActionListener<WorkflowData> listener = mock(ActionListener.class);
+        for (String modelId : List.of("model-1", "model-2", "model-3")) {
+            flowFrameworkIndicesHandler.addResourceToStateIndex(
+                new WorkflowData(Collections.emptyMap(), "this_id", null),
+                "node_" + modelId,
+                RegisterRemoteModelStep.NAME,
+                modelId,
+                null,
+                listener
+            );
+        }
+        ArgumentCaptor<UpdateRequest> updateCaptor = ArgumentCaptor.forClass(UpdateRequest.class);
+        verify(client, times(1)).update(updateCaptor.capture(), any());
+        verify(listener, never()).onResponse(any(WorkflowData.class));
+
+        // The resources added meanwhile are written with a single update once the first completes
+        updateListeners.get(0)
+            .onResponse(new UpdateResponse(new ShardId(WORKFLOW_STATE_INDEX, "", 1), "this_id", -2, 0, 0, Result.UPDATED));
+        verify(client, times(2)).update(updateCaptor.capture(), any());
+        String updatedState = updateCaptor.getValue().doc().source().utf8ToString();
+        assertTrue(updatedState.contains("\"model-2\""));
+        assertTrue(updatedState.contains("\"model-3\""));
+        verify(listener, times(1)).onResponse(any(WorkflowData.class));
+
+        updateListeners.get(1)
+            .onResponse(new UpdateResponse(new ShardId(WORKFLOW_STATE_INDEX, "", 1), "this_id", -2, 0, 0, Result.UPDATED));
+        ArgumentCaptor<WorkflowData> responseCaptor = ArgumentCaptor.forClass(WorkflowData.class);
+        verify(listener, times(3)).onResponse(responseCaptor.capture());
+        assertEquals("node_model-3", responseCaptor.getValue().getNodeId());
+        assertEquals("model-3", responseCaptor.getValue().getContent().get(WorkflowResources.MODEL_ID));
+        verify(client, times(2)).update(any(UpdateRequest.class), any());
+    }
+
     public void testDeleteResourceFromStateIndex() {
         ClusterState mockClusterState = mock(ClusterState.class);
         Metadata mockMetaData = mock(Metadata.class);
@@ -816,6 +989,9 @@ public class FlowFrameworkIndicesHandlerTests extends OpenSearchTestCase {
         ArgumentCaptor<WorkflowData> responseCaptor = ArgumentCaptor.forClass(WorkflowData.class);
         verify(retryListener, times(1)).onResponse(responseCaptor.capture());
         assertEquals("this_id", responseCaptor.getValue().getContent().get(WorkflowResources.CONNECTOR_ID));
+        // The retries of the workflow are removed once read for the step timeline
+        assertEquals(Map.of("node_id", 1), flowFrameworkIndicesHandler.removeStepStateWriteRetries("this_id"));
+        assertTrue(flowFrameworkIndicesHandler.removeStepStateWriteRetries("this_id").isEmpty());
 
         // test failure on 6th after 5 retries even if 7th would have been success
         @SuppressWarnings("unchecked")
@@ -911,6 +1087,9 @@ public class FlowFrameworkIndicesHandlerTests extends OpenSearchTestCase {
         ArgumentCaptor<WorkflowData> responseCaptor = ArgumentCaptor.forClass(WorkflowData.class);
         verify(retryListener, times(1)).onResponse(responseCaptor.capture());
         assertEquals("this_id", responseCaptor.getValue().getContent().get(WorkflowResources.CONNECTOR_ID));
+        // The retries of the workflow are removed once read for the step timeline
+        assertEquals(Map.of("node_id", 1), flowFrameworkIndicesHandler.removeStepStateWriteRetries("this_id"));
+        assertTrue(flowFrameworkIndicesHandler.removeStepStateWriteRetries("this_id").isEmpty());
 
         // test failure on 6th after 5 retries even if 7th would have been success
         @SuppressWarnings("unchecked")
@@ -0,0 +1,278 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * The OpenSearch Contributors require contributions made to
+ * this file be licensed under the Apache-2.0 license or a
+ * compatible open source license.
+ */
+package org.opensearch.flowframework.indices;
+
+import org.opensearch.OpenSearchStatusException;
+import org.opensearch.action.DocWriteResponse.Result;
+import org.opensearch.action.delete.DeleteRequest;
+import org.opensearch.action.delete.DeleteResponse;
+import org.opensearch.action.get.GetRequest;
+import org.opensearch.action.get.GetResponse;
+import org.opensearch.action.index.IndexRequest;
+import org.opensearch.action.search.SearchRequest;
+import org.opensearch.action.support.PlainActionFuture;
+import org.opensearch.action.update.UpdateRequest;
+import org.opensearch.action.update.UpdateResponse;
+import org.opensearch.common.settings.Settings;
+import org.opensearch.common.util.concurrent.ThreadContext;
+import org.opensearch.common.xcontent.XContentFactory;
+import org.opensearch.commons.authuser.User;
+import org.opensearch.core.action.ActionListener;
+import org.opensearch.core.common.bytes.BytesReference;
+import org.opensearch.core.index.shard.ShardId;
+import org.opensearch.core.rest.RestStatus;
+import org.opensearch.core.xcontent.NamedXContentRegistry;
+import org.opensearch.flowframework.model.ResourceCreated;
+import org.opensearch.index.get.GetResult;
+import org.opensearch.remote.metadata.client.SdkClient;
+import org.opensearch.remote.metadata.client.impl.SdkClientFactory;
+import org.opensearch.test.OpenSearchTestCase;
+import org.opensearch.threadpool.ThreadPool;
+import org.opensearch.transport.client.Client;
+
+import java.io.IOException;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+import org.mockito.ArgumentCaptor;
+
+import static org.opensearch.flowframework.common.CommonValue.CREDENTIAL_FIELD;
+import static org.opensearch.flowframework.common.CommonValue.RESOURCES_CREATED_FIELD;
+import static org.opensearch.flowframework.common.CommonValue.SHARED_RESOURCE_INDEX;
+import static org.opensearch.flowframework.common.CommonValue.STEP_OUTPUTS_FIELD;
+import static org.opensearch.flowframework.common.CommonValue.WORKFLOW_IDS_FIELD;
+import static org.opensearch.flowframework.common.WorkflowResources.CONNECTOR_ID;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.timeout;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+public class SharedResourceHandlerTests extends OpenSearchTestCase {
+
+    private static final String HASH = "hash";
+    private static final ResourceCreated CONNECTOR = new ResourceCreated(
+        "create_connector",
+        "create_connector_1",
+        CONNECTOR_ID,
+        "connectorId"
+    ).withResourceHash(HASH);
+
+    private Client client;
+    private SharedResourceHandler sharedResourceHandler;
+
+    @Override
+    public void setUp() throws Exception {
+        super.setUp();
+        client = mock(Client.class);
+        ThreadPool threadPool = mock(ThreadPool.class);
+        when(client.threadPool()).thenReturn(threadPool);
+        when(threadPool.getThreadContext()).thenReturn(new ThreadContext(Settings.EMPTY));
+        SdkClient sdkClient = SdkClientFactory.createSdkClient(client, NamedXContentRegistry.EMPTY, Collections.emptyMap());
+        sharedResourceHandler = new SharedResourceHandler(client, sdkClient);
+    }
+
+    public void testComputeResourceHash() {
+        Map<String, Object> inputs = new LinkedHashMap<>();
+        inputs.put("name", "connector");
+        inputs.put("parameters", Map.of("model", "gpt", "endpoint", "api.openai.com"));
+        inputs.put(CREDENTIAL_FIELD, Map.of("key", "secret"));
+        Map<String, Object> reordered = new LinkedHashMap<>();
+        reordered.put(CREDENTIAL_FIELD, Map.of("key", "secret"));
+        reordered.put("parameters", Map.of("endpoint", "api.openai.com", "model", "gpt"));
+        reordered.put("name", "connector");
+
+        String hash = SharedResourceHandler.computeResourceHash("create_connector", inputs, null, null);
+        assertEquals(64, hash.length());
+        assertEquals(hash, SharedResourceHandler.computeResourceHash("create_connector", reordered, null, null));
+
+        // Resources are never shared across tenants or step types
+        assertNotEquals(hash, SharedResourceHandler.computeResourceHash("create_connector", inputs, "tenant", null));
+        assertNotEquals(hash, SharedResourceHandler.computeResourceHash("register_remote_model", inputs, null, null));
+
+        // Nor across owners, whatever the order of their backend roles
+        User owner = new User("alice", List.of("ml", "admin"), Collections.emptyList(), Collections.emptyList());
+        String ownerHash = SharedResourceHandler.computeResourceHash("create_connector", inputs, null, owner);
+        assertNotEquals(hash, ownerHash);
+        User reorderedRoles = new User("alice", List.of("admin", "ml"), Collections.emptyList(), Collections.emptyList());
+        assertEquals(ownerHash, SharedResourceHandler.computeResourceHash("create_connector", inputs, null, reorderedRoles));
+        User otherRoles = new User("alice", List.of("ml"), Collections.emptyList(), Collections.emptyList());
+        assertNotEquals(ownerHash, SharedResourceHandler.computeResourceHash("create_connector", inputs, null, otherRoles));
+        User otherOwner = new User("bob", List.of("ml", "admin"), Collections.emptyList(), Collections.emptyList());
+        assertNotEquals(ownerHash, SharedResourceHandler.computeResourceHash("create_connector", inputs, null, otherOwner));
+
+        // Credentials are compared by value
+        Map<String, Object> otherCredential = new LinkedHashMap<>(inputs);
+        otherCredential.put(CREDENTIAL_FIELD, Map.of("key", "another secret"));
+        assertNotEquals(hash, SharedResourceHandler.computeResourceHash("create_connector", otherCredential, null, null));
+    }
+
+    public void testAcquireMissing() throws Exception {
+        mockGet(null, 0);
+
+        PlainActionFuture<Map<String, Object>> future = PlainActionFuture.newFuture();
+        sharedResourceHandler.acquire(HASH, "workflow-2", null, future);
+        assertNull(future.actionGet(10, TimeUnit.SECONDS));
+        verify(client, never()).update(any(UpdateRequest.class), any());
+    }
+
+    public void testAcquire() throws Exception {
+        mockGet(List.of("workflow-1"), 3);
+        mockUpdate();
+
+        PlainActionFuture<Map<String, Object>> future = PlainActionFuture.newFuture();
+        sharedResourceHandler.acquire(HASH, "workflow-2", null, future);
+        Map<String, Object> shared = future.actionGet(10, TimeUnit.SECONDS);
+        assertEquals(Map.of(CONNECTOR_ID, "connectorId"), shared.get(STEP_OUTPUTS_FIELD));
+
+        ArgumentCaptor<UpdateRequest> updateCaptor = ArgumentCaptor.forClass(UpdateRequest.class);
+        verify(client, times(1)).update(updateCaptor.capture(), any());
+        assertEquals(3, updateCaptor.getValue().ifSeqNo());
+        assertEquals(List.of("workflow-1", "workflow-2"), updateCaptor.getValue().doc().sourceAsMap().get(WORKFLOW_IDS_FIELD));
+
+        // A workflow already holding a reference does not take another
+        PlainActionFuture<Map<String, Object>> secondFuture = PlainActionFuture.newFuture();
+        sharedResourceHandler.acquire(HASH, "workflow-1", null, secondFuture);
+        assertNotNull(secondFuture.actionGet(10, TimeUnit.SECONDS));
+        verify(client, times(1)).update(any(UpdateRequest.class), any());
+    }
+
+    public void testAcquireConflict() throws Exception {
+        mockGet(List.of("workflow-1"), 3);
+        doAnswer(invocation -> {
+            ActionListener<UpdateResponse> listener = invocation.getArgument(1);
+            listener.onFailure(new OpenSearchStatusException("conflict", RestStatus.CONFLICT));
+            return null;
+        }).doAnswer(invocation -> {
+            ActionListener<UpdateResponse> listener = invocation.getArgument(1);
+            listener.onResponse(new UpdateResponse(new ShardId(SHARED_RESOURCE_INDEX, "", 1), HASH, 4, 1, 2, Result.UPDATED));
+            return null;
+        }).when(client).update(any(UpdateRequest.class), any());
+
+        PlainActionFuture<Map<String, Object>> future = PlainActionFuture.newFuture();
+        sharedResourceHandler.acquire(HASH, "workflow-2", null, future);
+        assertNotNull(future.actionGet(10, TimeUnit.SECONDS));
+        verify(client, times(2)).get(any(GetRequest.class), any());
+        verify(client, times(2)).update(any(UpdateRequest.class), any());
+    }
+
+    public void testRegisterConflict() throws Exception {
+        doAnswer(invocation -> {
+            ActionListener<?> listener = invocation.getArgument(1);
+            listener.onFailure(new OpenSearchStatusException("document already exists", RestStatus.CONFLICT));
+            return null;
+        }).when(client).index(any(IndexRequest.class), any());
+
+        PlainActionFuture<Boolean> future = PlainActionFuture.newFuture();
+        sharedResourceHandler.register(
+            HASH,
+            List.of(new ResourceCreated("create_connector", "step_1", CONNECTOR_ID, "connectorId")),
+            Map.of(CONNECTOR_ID, "connectorId"),
+            "workflow-1",
+            null,
+            future
+        );
+        assertFalse(future.actionGet(10, TimeUnit.SECONDS));
+
+        ArgumentCaptor<IndexRequest> indexCaptor = ArgumentCaptor.forClass(IndexRequest.class);
+        verify(client, times(1)).index(indexCaptor.capture(), any());
+        Map<String, Object> document = indexCaptor.getValue().sourceAsMap();
+        assertEquals(List.of("workflow-1"), document.get(WORKFLOW_IDS_FIELD));
+        assertEquals(1, ((List<?>) document.get(RESOURCES_CREATED_FIELD)).size());
+    }
+
+    public void testReleaseStillShared() throws Exception {
+        mockGet(List.of("workflow-1", "workflow-2"), 3);
+        mockUpdate();
+
+        PlainActionFuture<Boolean> future = PlainActionFuture.newFuture();
+        sharedResourceHandler.release(CONNECTOR, "workflow-1", null, future);
+        assertTrue(future.actionGet(10, TimeUnit.SECONDS));
+
+        // Fetched by the hash recorded with the resource, rather than searched
+        ArgumentCaptor<GetRequest> getCaptor = ArgumentCaptor.forClass(GetRequest.class);
+        verify(client, times(1)).get(getCaptor.capture(), any());
+        assertEquals(HASH, getCaptor.getValue().id());
+        assertTrue(getCaptor.getValue().realtime());
+        verify(client, never()).search(any(SearchRequest.class), any());
+
+        ArgumentCaptor<UpdateRequest> updateCaptor = ArgumentCaptor.forClass(UpdateRequest.class);
+        verify(client, times(1)).update(updateCaptor.capture(), any());
+        assertEquals(List.of("workflow-2"), updateCaptor.getValue().doc().sourceAsMap().get(WORKFLOW_IDS_FIELD));
+        verify(client, never()).delete(any(DeleteRequest.class), any());
+    }
+
+    public void testReleaseLastReference() throws Exception {
+        mockGet(List.of("workflow-1"), 3);
+        mockUpdate();
+        doAnswer(invocation -> {
+            ActionListener<DeleteResponse> listener = invocation.getArgument(1);
+            listener.onResponse(new DeleteResponse(new ShardId(SHARED_RESOURCE_INDEX, "", 1), HASH, 5, 1, 3, true));
+            return null;
+        }).when(client).delete(any(DeleteRequest.class), any());
+
+        PlainActionFuture<Boolean> future = PlainActionFuture.newFuture();
+        sharedResourceHandler.release(CONNECTOR, "workflow-1", null, future);
+        assertFalse(future.actionGet(10, TimeUnit.SECONDS));
+
+        ArgumentCaptor<UpdateRequest> updateCaptor = ArgumentCaptor.forClass(UpdateRequest.class);
+        verify(client, times(1)).update(updateCaptor.capture(), any());
+        assertEquals(Collections.emptyList(), updateCaptor.getValue().doc().sourceAsMap().get(WORKFLOW_IDS_FIELD));
+        // The document is deleted after the release completes
+        verify(client, timeout(1000).times(1)).delete(any(DeleteRequest.class), any());
+    }
+
+    public void testReleaseUnshared() throws Exception {
+        PlainActionFuture<Boolean> future = PlainActionFuture.newFuture();
+        sharedResourceHandler.release(
+            new ResourceCreated("create_connector", "create_connector_1", CONNECTOR_ID, "connectorId"),
+            "workflow-1",
+            null,
+            future
+        );
+        assertFalse(future.actionGet(10, TimeUnit.SECONDS));
+        verify(client, never()).get(any(GetRequest.class), any());
+    }
+
+    private void mockGet(List<String> workflowIds, long seqNo) {
+        doAnswer(invocation -> {
+            ActionListener<GetResponse> listener = invocation.getArgument(1);
+            GetResult getResult = workflowIds == null
+                ? new GetResult(SHARED_RESOURCE_INDEX, HASH, -2, 0, -1, false, null, null, null)
+                : new GetResult(SHARED_RESOURCE_INDEX, HASH, seqNo, 1, 1, true, sharedResourceSource(workflowIds), null, null);
+            listener.onResponse(new GetResponse(getResult));
+            return null;
+        }).when(client).get(any(GetRequest.class), any());
+    }
+
+    private void mockUpdate() {
+        doAnswer(invocation -> {
+            ActionListener<UpdateResponse> listener = invocation.getArgument(1);
+            listener.onResponse(new UpdateResponse(new ShardId(SHARED_RESOURCE_INDEX, "", 1), HASH, 4, 1, 2, Result.UPDATED));
+            return null;
+        }).when(client).update(any(UpdateRequest.class), any());
+    }
+
+    private static BytesReference sharedResourceSource(List<String> workflowIds) throws IOException {
+        return BytesReference.bytes(
+            XContentFactory.jsonBuilder()
+                .startObject()
+                .field(RESOURCES_CREATED_FIELD, List.of(new ResourceCreated("create_connector", "step_1", CONNECTOR_ID, "connectorId")))
+                .field(STEP_OUTPUTS_FIELD, Map.of(CONNECTOR_ID, "connectorId"))
+                .field(WORKFLOW_IDS_FIELD, workflowIds)
+                .endObject()
+        );
+    }
+}
@@ -0,0 +1,307 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * The OpenSearch Contributors require contributions made to
+ * this file be licensed under the Apache-2.0 license or a
+ * compatible open source license.
+ */
+package org.opensearch.flowframework.indices;
+
+import org.opensearch.Version;
+import org.opensearch.action.get.GetRequest;
+import org.opensearch.action.get.GetResponse;
+import org.opensearch.action.index.IndexRequest;
+import org.opensearch.action.index.IndexResponse;
+import org.opensearch.action.support.PlainActionFuture;
+import org.opensearch.common.settings.Settings;
+import org.opensearch.common.util.concurrent.ThreadContext;
+import org.opensearch.common.xcontent.XContentFactory;
+import org.opensearch.common.xcontent.XContentType;
+import org.opensearch.core.action.ActionListener;
+import org.opensearch.core.common.Strings;
+import org.opensearch.core.common.bytes.BytesArray;
+import org.opensearch.core.common.bytes.BytesReference;
+import org.opensearch.core.xcontent.NamedXContentRegistry;
+import org.opensearch.core.xcontent.ToXContent;
+import org.opensearch.core.xcontent.ToXContentObject;
+import org.opensearch.core.xcontent.XContentBuilder;
+import org.opensearch.flowframework.TestHelpers;
+import org.opensearch.flowframework.common.DefaultUseCases;
+import org.opensearch.flowframework.model.Template;
+import org.opensearch.flowframework.model.Workflow;
+import org.opensearch.flowframework.model.WorkflowNode;
+import org.opensearch.flowframework.util.ParseUtils;
+import org.opensearch.index.get.GetResult;
+import org.opensearch.remote.metadata.client.SdkClient;
+import org.opensearch.remote.metadata.client.impl.SdkClientFactory;
+import org.opensearch.search.fetch.subphase.FetchSourceContext;
+import org.opensearch.test.OpenSearchTestCase;
+import org.opensearch.threadpool.ThreadPool;
+import org.opensearch.transport.client.Client;
+
+import java.io.IOException;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+import static org.opensearch.flowframework.common.CommonValue.CREDENTIAL_FIELD;
+import static org.opensearch.flowframework.common.CommonValue.GLOBAL_CONTEXT_INDEX;
+import static org.opensearch.flowframework.common.CommonValue.TEMPLATE_BODY_INDEX;
+import static org.opensearch.flowframework.common.CommonValue.WORKFLOWS_HASH_FIELD;
+import static org.opensearch.flowframework.common.CommonValue.WORKFLOWS_PARAMS_FIELD;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+public class SharedTemplateBodyHandlerTests extends OpenSearchTestCase {
+
+    private Client client;
+    private SharedTemplateBodyHandler sharedTemplateBodyHandler;
+    private Template template;
+
+    @Override
+    public void setUp() throws Exception {
+        super.setUp();
+        client = mock(Client.class);
+        ThreadPool threadPool = mock(ThreadPool.class);
+        when(client.threadPool()).thenReturn(threadPool);
+        when(threadPool.getThreadContext()).thenReturn(new ThreadContext(Settings.EMPTY));
+        SdkClient sdkClient = SdkClientFactory.createSdkClient(client, NamedXContentRegistry.EMPTY, Collections.emptyMap());
+        sharedTemplateBodyHandler = new SharedTemplateBodyHandler(client, sdkClient);
+        template = createTemplate("test", TestHelpers.createSampleWorkflow());
+    }
+
+    public void testIsDeduplicable() {
+        assertTrue(SharedTemplateBodyHandler.isDeduplicable(template));
+
+        WorkflowNode node = new WorkflowNode("A", "a-type", Collections.emptyMap(), Map.of(CREDENTIAL_FIELD, Map.of("key", "value")));
+        Workflow withCredentials = new Workflow(Collections.emptyMap(), List.of(node), Collections.emptyList());
+        assertFalse(SharedTemplateBodyHandler.isDeduplicable(createTemplate("test", withCredentials)));
+        assertFalse(SharedTemplateBodyHandler.isDeduplicable(Template.builder(template).workflows(Collections.emptyMap()).build()));
+    }
+
+    public void testWorkflowsHash() throws IOException {
+        Map<String, String> params = new LinkedHashMap<>();
+        params.put("a", "1");
+        params.put("b", "2");
+        Map<String, String> reorderedParams = new LinkedHashMap<>();
+        reorderedParams.put("b", "2");
+        reorderedParams.put("a", "1");
+        Workflow workflow = TestHelpers.createSampleWorkflow();
+        Template first = createTemplate("first", new Workflow(params, workflow.nodes(), workflow.edges()));
+        Template second = createTemplate("second", new Workflow(reorderedParams, workflow.nodes(), workflow.edges()));
+
+        // Only the workflows section contributes to the hash
+        BytesReference firstWorkflows = SharedTemplateBodyHandler.normalizedWorkflows(first);
+        BytesReference secondWorkflows = SharedTemplateBodyHandler.normalizedWorkflows(second);
+        assertEquals(firstWorkflows.utf8ToString(), secondWorkflows.utf8ToString());
+        String hash = SharedTemplateBodyHandler.computeWorkflowsHash(firstWorkflows, null);
+        assertEquals(hash, SharedTemplateBodyHandler.computeWorkflowsHash(secondWorkflows, null));
+        assertEquals(64, hash.length());
+
+        // Bodies are never shared across tenants
+        assertNotEquals(hash, SharedTemplateBodyHandler.computeWorkflowsHash(firstWorkflows, "tenant"));
+        // Different workflows produce different hashes
+        Template other = createTemplate("first", new Workflow(Map.of("a", "3"), workflow.nodes(), workflow.edges()));
+        assertNotEquals(hash, SharedTemplateBodyHandler.computeWorkflowsHash(SharedTemplateBodyHandler.normalizedWorkflows(other), null));
+    }
+
+    public void testReferencingDocument() throws IOException {
+        XContentBuilder builder = XContentFactory.jsonBuilder();
+        SharedTemplateBodyHandler.referencingDocument(template, "abc", null).toXContent(builder, ToXContent.EMPTY_PARAMS);
+        String json = builder.toString();
+        assertTrue(json.contains("\"" + WORKFLOWS_HASH_FIELD + "\":\"abc\""));
+        assertFalse(json.contains("\"workflows\""));
+
+        // An unresolved reference still parses, without workflows
+        Template parsed = Template.parse(json);
+        assertEquals(template.name(), parsed.name());
+        assertTrue(parsed.workflows().isEmpty());
+    }
+
+    public void testHasWorkflowsReference() throws IOException {
+        assertFalse(SharedTemplateBodyHandler.hasWorkflowsReference(null));
+        assertFalse(SharedTemplateBodyHandler.hasWorkflowsReference(globalContextResponse(template.toJson())));
+        assertTrue(SharedTemplateBodyHandler.hasWorkflowsReference(globalContextResponse(referencingJson("abc"))));
+    }
+
+    public void testPutSharedWorkflows() throws Exception {
+        doAnswer(invocation -> {
+            ActionListener<IndexResponse> listener = invocation.getArgument(1);
+            listener.onResponse(mock(IndexResponse.class));
+            return null;
+        }).when(client).index(any(IndexRequest.class), any());
+
+        PlainActionFuture<ToXContentObject> future = PlainActionFuture.newFuture();
+        sharedTemplateBodyHandler.putSharedWorkflows(template, future);
+        String hash = SharedTemplateBodyHandler.computeWorkflowsHash(SharedTemplateBodyHandler.normalizedWorkflows(template), null);
+        String json = toJson(future.actionGet(10, TimeUnit.SECONDS));
+        assertTrue(json.contains("\"" + WORKFLOWS_HASH_FIELD + "\":\"" + hash + "\""));
+        assertFalse(json.contains(WORKFLOWS_PARAMS_FIELD));
+        assertEquals(1, sharedTemplateBodyHandler.cachedBodyCount());
+
+        // A template with the same workflows is served from the cache without another write
+        PlainActionFuture<ToXContentObject> secondFuture = PlainActionFuture.newFuture();
+        sharedTemplateBodyHandler.putSharedWorkflows(createTemplate("another name", template.workflows().get("workflow")), secondFuture);
+        assertTrue(toJson(secondFuture.actionGet(10, TimeUnit.SECONDS)).contains(hash));
+        verify(client, times(1)).index(any(IndexRequest.class), any());
+    }
+
+    public void testParameterizeUseCaseWorkflows() throws Exception {
+        String file = "/" + DefaultUseCases.getSubstitutionReadyFileByUseCaseName("semantic_search");
+        Map<String, String> defaults = ParseUtils.parseJsonFileToStringToStringMap(
+            "/" + DefaultUseCases.getDefaultsFileByUseCaseName("semantic_search")
+        );
+        Map<String, String> firstParams = new LinkedHashMap<>(defaults);
+        firstParams.put("create_ingest_pipeline.model_id", "model-one");
+        firstParams.put("text_embedding.field_map.output", "first_embedding");
+        Map<String, String> secondParams = new LinkedHashMap<>(defaults);
+        secondParams.put("create_ingest_pipeline.model_id", "model-two");
+        secondParams.put("text_embedding.field_map.output", "second_embedding");
+        // Substituted as a use case create request does
+        String useCaseTemplate = ParseUtils.resourceToString(file);
+        Template first = Template.parse((String) ParseUtils.conditionallySubstitute(useCaseTemplate, null, firstParams));
+        Template second = Template.parse((String) ParseUtils.conditionallySubstitute(useCaseTemplate, null, secondParams));
+
+        SharedTemplateBodyHandler.ParameterizedWorkflows firstShared = SharedTemplateBodyHandler.parameterize(
+            SharedTemplateBodyHandler.normalizedWorkflowsMap(first)
+        );
+        SharedTemplateBodyHandler.ParameterizedWorkflows secondShared = SharedTemplateBodyHandler.parameterize(
+            SharedTemplateBodyHandler.normalizedWorkflowsMap(second)
+        );
+        assertNotNull(firstShared);
+        assertNotNull(secondShared);
+        // Both templates share the unsubstituted use case body and differ only in their parameter values
+        assertEquals(firstShared.workflows, secondShared.workflows);
+        assertEquals("model-one", firstShared.params.get("create_ingest_pipeline.model_id"));
+        assertEquals("second_embedding", secondShared.params.get("text_embedding.field_map.output"));
+        assertEquals(
+            SharedTemplateBodyHandler.normalizedWorkflowsMap(second),
+            SharedTemplateBodyHandler.substituteParams(secondShared.workflows, secondShared.params)
+        );
+
+        // A template edited after creation is stored as is
+        assertNull(SharedTemplateBodyHandler.parameterize(SharedTemplateBodyHandler.normalizedWorkflowsMap(template)));
+    }
+
+    public void testResolveSearchResponse() throws Exception {
+        String hash = SharedTemplateBodyHandler.computeWorkflowsHash(SharedTemplateBodyHandler.normalizedWorkflows(template), null);
+        mockSharedWorkflowsGet(hash);
+        XContentBuilder response = XContentFactory.jsonBuilder().startObject().startObject("hits").startArray("hits");
+        response.startObject().field("_id", "referencing").field("_source");
+        response.rawValue(new BytesArray(referencingJson(hash)).streamInput(), XContentType.JSON);
+        response.endObject();
+        response.startObject().field("_id", "inline").field("_source");
+        response.rawValue(new BytesArray(template.toJson()).streamInput(), XContentType.JSON);
+        response.endObject();
+        response.endArray().endObject().endObject();
+
+        PlainActionFuture<BytesReference> future = PlainActionFuture.newFuture();
+        FetchSourceContext fetchSource = new FetchSourceContext(true, Strings.EMPTY_ARRAY, new String[] { "workflows.workflow.edges" });
+        sharedTemplateBodyHandler.resolveSearchResponse(BytesReference.bytes(response), fetchSource, null, future);
+        String resolved = future.actionGet(10, TimeUnit.SECONDS).utf8ToString();
+        assertFalse(resolved.contains(WORKFLOWS_HASH_FIELD));
+        assertTrue(resolved.contains("\"nodes\""));
+        // The excludes of the request apply to the resolved workflows
+        int referencingStart = resolved.indexOf("\"referencing\"");
+        int inlineStart = resolved.indexOf("\"inline\"");
+        assertFalse(resolved.substring(referencingStart, inlineStart).contains("\"edges\""));
+        verify(client, times(1)).get(any(GetRequest.class), any());
+
+        // Responses without references are returned untouched
+        BytesReference inline = new BytesArray("{\"hits\":{\"hits\":[]}}");
+        PlainActionFuture<BytesReference> inlineFuture = PlainActionFuture.newFuture();
+        sharedTemplateBodyHandler.resolveSearchResponse(inline, fetchSource, null, inlineFuture);
+        assertSame(inline, inlineFuture.actionGet(10, TimeUnit.SECONDS));
+    }
+
+    public void testResolveTemplateSource() throws Exception {
+        String hash = SharedTemplateBodyHandler.computeWorkflowsHash(SharedTemplateBodyHandler.normalizedWorkflows(template), null);
+        mockSharedWorkflowsGet(hash);
+
+        PlainActionFuture<GetResponse> future = PlainActionFuture.newFuture();
+        sharedTemplateBodyHandler.resolveTemplateSource(globalContextResponse(referencingJson(hash)), null, future);
+        GetResponse resolved = future.actionGet(10, TimeUnit.SECONDS);
+        assertFalse(SharedTemplateBodyHandler.hasWorkflowsReference(resolved));
+        Template parsed = Template.parse(resolved.getSourceAsString());
+        assertEquals(template.name(), parsed.name());
+        assertWorkflowEquals(template.workflows().get("workflow"), parsed.workflows().get("workflow"));
+
+        // Second resolution of the same body is served from the cache
+        PlainActionFuture<GetResponse> secondFuture = PlainActionFuture.newFuture();
+        sharedTemplateBodyHandler.resolveTemplateSource(globalContextResponse(referencingJson(hash)), null, secondFuture);
+        Template parsedAgain = Template.parse(secondFuture.actionGet(10, TimeUnit.SECONDS).getSourceAsString());
+        assertWorkflowEquals(template.workflows().get("workflow"), parsedAgain.workflows().get("workflow"));
+        verify(client, times(1)).get(any(GetRequest.class), any());
+    }
+
+    public void testResolveInlineTemplateSource() throws Exception {
+        GetResponse inline = globalContextResponse(template.toJson());
+        PlainActionFuture<GetResponse> future = PlainActionFuture.newFuture();
+        sharedTemplateBodyHandler.resolveTemplateSource(inline, null, future);
+        assertSame(inline, future.actionGet(10, TimeUnit.SECONDS));
+        verify(client, never()).get(any(GetRequest.class), any());
+    }
+
+    private static void assertWorkflowEquals(Workflow expected, Workflow actual) {
+        assertEquals(expected.userParams(), actual.userParams());
+        assertEquals(expected.nodes(), actual.nodes());
+        assertEquals(expected.edges(), actual.edges());
+    }
+
+    private void mockSharedWorkflowsGet(String hash) {
+        doAnswer(invocation -> {
+            ActionListener<GetResponse> listener = invocation.getArgument(1);
+            XContentBuilder body = XContentFactory.jsonBuilder().startObject().field(WORKFLOWS_HASH_FIELD, hash);
+            body.rawField(
+                Template.WORKFLOWS_FIELD,
+                SharedTemplateBodyHandler.normalizedWorkflows(template).streamInput(),
+                XContentType.JSON
+            );
+            body.endObject();
+            GetResult getResult = new GetResult(TEMPLATE_BODY_INDEX, hash, 1, 1, 1, true, BytesReference.bytes(body), null, null);
+            listener.onResponse(new GetResponse(getResult));
+            return null;
+        }).when(client).get(any(GetRequest.class), any());
+    }
+
+    private static String toJson(ToXContentObject document) throws IOException {
+        return document.toXContent(XContentFactory.jsonBuilder(), ToXContent.EMPTY_PARAMS).toString();
+    }
+
+    private String referencingJson(String hash) throws IOException {
+        XContentBuilder builder = XContentFactory.jsonBuilder();
+        SharedTemplateBodyHandler.referencingDocument(template, hash, null).toXContent(builder, ToXContent.EMPTY_PARAMS);
+        return builder.toString();
+    }
+
+    private static GetResponse globalContextResponse(String json) {
+        GetResult getResult = new GetResult(GLOBAL_CONTEXT_INDEX, "workflow_id", 1, 1, 1, true, new BytesArray(json), null, null);
+        return new GetResponse(getResult);
+    }
+
+    private static Template createTemplate(String name, Workflow workflow) {
+        return new Template(
+            name,
+            "description",
+            "use case",
+            Version.fromString("1.0.0"),
+            List.of(Version.fromString("2.0.0")),
+            Map.of("workflow", workflow),
+            Collections.emptyMap(),
+            null,
+            null,
+            null,
+            null,
+            null,
+            Collections.emptyList()
+        );
+    }
+}
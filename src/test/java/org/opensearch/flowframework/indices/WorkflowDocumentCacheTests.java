@@ -0,0 +1,117 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * The OpenSearch Contributors require contributions made to
+ * this file be licensed under the Apache-2.0 license or a
+ * compatible open source license.
+ */
+package org.opensearch.flowframework.indices;
+
+import org.opensearch.action.get.GetResponse;
+import org.opensearch.common.unit.TimeValue;
+import org.opensearch.common.xcontent.XContentFactory;
+import org.opensearch.core.common.bytes.BytesArray;
+import org.opensearch.core.xcontent.ToXContent;
+import org.opensearch.core.xcontent.XContentBuilder;
+import org.opensearch.flowframework.TestHelpers;
+import org.opensearch.flowframework.model.Template;
+import org.opensearch.flowframework.model.WorkflowState;
+import org.opensearch.index.get.GetResult;
+import org.opensearch.test.OpenSearchTestCase;
+
+import java.io.IOException;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.opensearch.flowframework.common.CommonValue.GLOBAL_CONTEXT_INDEX;
+import static org.opensearch.flowframework.common.CommonValue.WORKFLOW_STATE_INDEX;
+
+public class WorkflowDocumentCacheTests extends OpenSearchTestCase {
+
+    private AtomicLong nanoTime;
+    private WorkflowDocumentCache documentCache;
+
+    @Override
+    public void setUp() throws Exception {
+        super.setUp();
+        nanoTime = new AtomicLong();
+        documentCache = new WorkflowDocumentCache(1024 * 1024, TimeValue.timeValueSeconds(1), nanoTime::get);
+    }
+
+    public void testTemplateValidatedBySeqNo() throws IOException {
+        Template template = Template.builder().name("test").workflows(Map.of("provision", TestHelpers.createSampleWorkflow())).build();
+        GetResponse response = getResponse(GLOBAL_CONTEXT_INDEX, "wf", 1, 1, template.toJson());
+
+        Template first = documentCache.getTemplate(response, null);
+        assertEquals("test", first.name());
+        assertEquals(0, documentCache.getHitCount());
+        assertEquals(1, documentCache.getMissCount());
+
+        // Unchanged document reuses the parsed instance
+        assertSame(first, documentCache.getTemplate(response, null));
+        assertEquals(1, documentCache.getHitCount());
+
+        // A new sequence number means the document changed
+        Template updated = Template.builder(template).name("updated").build();
+        Template second = documentCache.getTemplate(getResponse(GLOBAL_CONTEXT_INDEX, "wf", 2, 1, updated.toJson()), null);
+        assertEquals("updated", second.name());
+        assertEquals(2, documentCache.getMissCount());
+
+        // Entries are not shared across tenants
+        assertNotSame(second, documentCache.getTemplate(getResponse(GLOBAL_CONTEXT_INDEX, "wf", 2, 1, updated.toJson()), "tenant"));
+        assertEquals(2, documentCache.count());
+    }
+
+    public void testFreshWorkflowState() throws IOException {
+        WorkflowState state = WorkflowState.builder().workflowId("wf").state("PROVISIONING").build();
+        assertNull(documentCache.getFreshWorkflowState("wf", null));
+
+        WorkflowState parsed = documentCache.getWorkflowState(getResponse(WORKFLOW_STATE_INDEX, "wf", 1, 1, toJson(state)), null);
+        assertSame(parsed, documentCache.getFreshWorkflowState("wf", null));
+        assertNull(documentCache.getFreshWorkflowState("wf", "tenant"));
+
+        // Expires after the TTL
+        nanoTime.addAndGet(TimeValue.timeValueSeconds(1).nanos());
+        assertNull(documentCache.getFreshWorkflowState("wf", null));
+
+        // Revalidating the unchanged document restarts the TTL
+        documentCache.getWorkflowState(getResponse(WORKFLOW_STATE_INDEX, "wf", 1, 1, toJson(state)), null);
+        assertSame(parsed, documentCache.getFreshWorkflowState("wf", null));
+
+        documentCache.invalidate("wf", null);
+        assertNull(documentCache.getFreshWorkflowState("wf", null));
+        assertEquals(0, documentCache.count());
+    }
+
+    public void testEviction() throws IOException {
+        String json = toJson(WorkflowState.builder().workflowId("wf").state("COMPLETED").build());
+        long entrySize = json.length() + WorkflowDocumentCache.ENTRY_OVERHEAD_BYTES;
+        WorkflowDocumentCache smallCache = new WorkflowDocumentCache(entrySize * 2, TimeValue.timeValueSeconds(1), nanoTime::get);
+        for (int i = 0; i < 5; i++) {
+            smallCache.getWorkflowState(getResponse(WORKFLOW_STATE_INDEX, "wf" + i, 1, 1, json), null);
+        }
+        assertTrue(smallCache.getSizeInBytes() <= entrySize * 2);
+        assertTrue(smallCache.getEvictionCount() >= 3);
+    }
+
+    public void testDisabled() throws IOException {
+        WorkflowDocumentCache disabled = new WorkflowDocumentCache(0, TimeValue.timeValueSeconds(1));
+        String json = toJson(WorkflowState.builder().workflowId("wf").state("COMPLETED").build());
+        GetResponse response = getResponse(WORKFLOW_STATE_INDEX, "wf", 1, 1, json);
+        assertNotSame(disabled.getWorkflowState(response, null), disabled.getWorkflowState(response, null));
+        assertNull(disabled.getFreshWorkflowState("wf", null));
+        assertEquals(0, disabled.count());
+        assertEquals(2, disabled.getMissCount());
+    }
+
+    private static String toJson(WorkflowState state) throws IOException {
+        XContentBuilder builder = XContentFactory.jsonBuilder();
+        state.toXContent(builder, ToXContent.EMPTY_PARAMS);
+        return builder.toString();
+    }
+
+    private static GetResponse getResponse(String index, String id, long seqNo, long primaryTerm, String json) {
+        return new GetResponse(new GetResult(index, id, seqNo, primaryTerm, 1, true, new BytesArray(json), null, null));
+    }
+}
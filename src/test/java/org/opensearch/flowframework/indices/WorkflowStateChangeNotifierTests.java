@@ -0,0 +1,69 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * The OpenSearch Contributors require contributions made to
+ * this file be licensed under the Apache-2.0 license or a
+ * compatible open source license.
+ */
+package org.opensearch.flowframework.indices;
+
+import org.opensearch.test.OpenSearchTestCase;
+
+import java.util.concurrent.atomic.AtomicInteger;
+
+public class WorkflowStateChangeNotifierTests extends OpenSearchTestCase {
+
+    public void testListenersAreOneShot() {
+        WorkflowStateChangeNotifier notifier = new WorkflowStateChangeNotifier();
+        AtomicInteger calls = new AtomicInteger();
+        notifier.addListener("wf", null, calls::incrementAndGet);
+        notifier.addListener("wf", null, calls::incrementAndGet);
+        assertEquals(2, notifier.getWaitingCount());
+
+        // Other workflows and tenants do not trigger the listeners
+        notifier.notifyChanged("other", null);
+        notifier.notifyChanged("wf", "tenant");
+        assertEquals(0, calls.get());
+
+        notifier.notifyChanged("wf", null);
+        assertEquals(2, calls.get());
+        assertEquals(0, notifier.getWaitingCount());
+
+        notifier.notifyChanged("wf", null);
+        assertEquals(2, calls.get());
+    }
+
+    public void testListenerRegisteredOnce() {
+        WorkflowStateChangeNotifier notifier = new WorkflowStateChangeNotifier();
+        AtomicInteger calls = new AtomicInteger();
+        Runnable listener = calls::incrementAndGet;
+        notifier.addListener("wf", null, listener);
+        notifier.addListener("wf", null, listener);
+        assertEquals(1, notifier.getWaitingCount());
+
+        notifier.notifyChanged("wf", null);
+        assertEquals(1, calls.get());
+    }
+
+    public void testRemoveListener() {
+        WorkflowStateChangeNotifier notifier = new WorkflowStateChangeNotifier();
+        AtomicInteger calls = new AtomicInteger();
+        Runnable listener = calls::incrementAndGet;
+        notifier.addListener("wf", "tenant", listener);
+        notifier.removeListener("wf", "tenant", listener);
+        assertEquals(0, notifier.getWaitingCount());
+
+        notifier.notifyChanged("wf", "tenant");
+        assertEquals(0, calls.get());
+    }
+
+    public void testFailingListenerDoesNotBlockOthers() {
+        WorkflowStateChangeNotifier notifier = new WorkflowStateChangeNotifier();
+        AtomicInteger calls = new AtomicInteger();
+        notifier.addListener("wf", null, () -> { throw new IllegalStateException("failed"); });
+        notifier.addListener("wf", null, calls::incrementAndGet);
+        notifier.notifyChanged("wf", null);
+        assertEquals(1, calls.get());
+    }
+}
@@ -0,0 +1,82 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * The OpenSearch Contributors require contributions made to
+ * this file be licensed under the Apache-2.0 license or a
+ * compatible open source license.
+ */
+package org.opensearch.flowframework.model;
+
+import org.opensearch.common.io.stream.BytesStreamOutput;
+import org.opensearch.core.common.bytes.BytesReference;
+import org.opensearch.core.common.io.stream.BytesStreamInput;
+import org.opensearch.flowframework.exception.FlowFrameworkException;
+import org.opensearch.test.OpenSearchTestCase;
+
+import java.io.IOException;
+import java.time.Instant;
+
+public class StepTimelineTests extends OpenSearchTestCase {
+
+    public void testParseFeature() throws IOException {
+        Instant enqueueTime = Instant.ofEpochMilli(1000);
+        Instant startTime = Instant.ofEpochMilli(1500);
+        Instant endTime = Instant.ofEpochMilli(4000);
+        StepTimeline timeline = new StepTimeline(
+            "workflow_step_1",
+            "deploy_model",
+            enqueueTime,
+            startTime,
+            endTime,
+            450,
+            2,
+            StepStatus.COMPLETED
+        );
+
+        String json = TemplateTestJsonUtil.parseToJson(timeline);
+        assertTrue(json.contains("\"workflow_step_id\":\"workflow_step_1\""));
+        assertTrue(json.contains("\"workflow_step_name\":\"deploy_model\""));
+        assertTrue(json.contains("\"enqueue_time\":1000"));
+        assertTrue(json.contains("\"start_time\":1500"));
+        assertTrue(json.contains("\"end_time\":4000"));
+        assertTrue(json.contains("\"predecessor_wait_millis\":450"));
+        assertTrue(json.contains("\"retry_count\":2"));
+        assertTrue(json.contains("\"status\":\"COMPLETED\""));
+        assertEquals(timeline, StepTimeline.parse(TemplateTestJsonUtil.jsonToParser(json)));
+
+        try (BytesStreamOutput out = new BytesStreamOutput()) {
+            timeline.writeTo(out);
+            try (BytesStreamInput in = new BytesStreamInput(BytesReference.toBytes(out.bytes()))) {
+                assertEquals(timeline, new StepTimeline(in));
+            }
+        }
+    }
+
+    public void testUnfinishedStep() throws IOException {
+        StepTimeline timeline = new StepTimeline(
+            "workflow_step_2",
+            "register_model",
+            Instant.ofEpochMilli(1000),
+            null,
+            null,
+            0,
+            0,
+            StepStatus.WAITING
+        );
+        String json = TemplateTestJsonUtil.parseToJson(timeline);
+        assertFalse(json.contains("start_time"));
+        assertFalse(json.contains("end_time"));
+        StepTimeline parsed = StepTimeline.parse(TemplateTestJsonUtil.jsonToParser(json));
+        assertNull(parsed.startTime());
+        assertNull(parsed.endTime());
+        assertEquals(StepStatus.WAITING, parsed.status());
+    }
+
+    public void testParseInvalid() throws IOException {
+        String json = "{\"workflow_step_id\":\"workflow_step_1\",\"unknown\":\"field\"}";
+        assertThrows(FlowFrameworkException.class, () -> StepTimeline.parse(TemplateTestJsonUtil.jsonToParser(json)));
+        String missingStatus = "{\"workflow_step_id\":\"workflow_step_1\",\"workflow_step_name\":\"noop\"}";
+        assertThrows(FlowFrameworkException.class, () -> StepTimeline.parse(TemplateTestJsonUtil.jsonToParser(missingStatus)));
+    }
+}
@@ -9,10 +9,16 @@
 package org.opensearch.flowframework.model;
 
 import org.opensearch.Version;
+import org.opensearch.common.xcontent.XContentFactory;
+import org.opensearch.common.xcontent.XContentHelper;
+import org.opensearch.common.xcontent.XContentType;
 import org.opensearch.common.xcontent.json.JsonXContent;
+import org.opensearch.core.common.bytes.BytesReference;
 import org.opensearch.core.rest.RestStatus;
 import org.opensearch.core.xcontent.DeprecationHandler;
 import org.opensearch.core.xcontent.NamedXContentRegistry;
+import org.opensearch.core.xcontent.ToXContent;
+import org.opensearch.core.xcontent.XContentBuilder;
 import org.opensearch.core.xcontent.XContentParser;
 import org.opensearch.flowframework.exception.FlowFrameworkException;
 import org.opensearch.test.OpenSearchTestCase;
@@ -26,6 +32,8 @@ import java.util.List;
 import java.util.Map;
 
 import static org.opensearch.core.xcontent.XContentParserUtils.ensureExpectedToken;
+import static org.opensearch.flowframework.common.CommonValue.BODY_ENCODING_PARAM;
+import static org.opensearch.flowframework.common.CommonValue.ENCODED_BODY_FIELD;
 
 public class TemplateTests extends OpenSearchTestCase {
 
@@ -109,6 +117,39 @@ public class TemplateTests extends OpenSearchTestCase {
         assertThrows(FlowFrameworkException.class, () -> Template.parse(parser, true));
     }
 
+    public void testEncodedBody() throws IOException {
+        WorkflowNode nodeA = new WorkflowNode("A", "a-type", Collections.emptyMap(), Map.of("foo", "bar"));
+        WorkflowNode nodeB = new WorkflowNode("B", "b-type", Collections.emptyMap(), Map.of("baz", "qux"));
+        Workflow workflow = new Workflow(Map.of("key", "value"), List.of(nodeA, nodeB), List.of(new WorkflowEdge("A", "B")));
+        Template template = Template.builder()
+            .name("test")
+            .description("a test template")
+            .workflows(Map.of("workflow", workflow))
+            .uiMetadata(Map.of("foo", "bar"))
+            .build();
+
+        for (String encoding : List.of("smile", "cbor")) {
+            XContentBuilder builder = XContentFactory.jsonBuilder();
+            template.toXContent(builder, new ToXContent.MapParams(Map.of(BODY_ENCODING_PARAM, encoding)));
+            BytesReference source = BytesReference.bytes(builder);
+            Map<String, Object> sourceAsMap = XContentHelper.convertToMap(source, false, XContentType.JSON).v2();
+            // Searchable fields stay inline, the workflows and UI metadata are moved into the encoded body
+            assertEquals("test", sourceAsMap.get("name"));
+            assertFalse(sourceAsMap.containsKey(Template.WORKFLOWS_FIELD));
+            assertTrue(sourceAsMap.containsKey(ENCODED_BODY_FIELD));
+
+            Template parsed = Template.parse(source);
+            assertEquals("test", parsed.name());
+            assertEquals(Map.of("foo", "bar"), parsed.getUiMetadata());
+            assertEquals("Workflow [userParams={key=value}, nodes=[A, B], edges=[A->B]]", parsed.workflows().get("workflow").toString());
+        }
+
+        // Without the param the template is written inline
+        XContentBuilder builder = XContentFactory.jsonBuilder();
+        template.toXContent(builder, ToXContent.EMPTY_PARAMS);
+        assertFalse(builder.toString().contains(ENCODED_BODY_FIELD));
+    }
+
     public void testUpdateExistingTemplate() {
         // Time travel to guarantee update increments
         Instant now = Instant.now().minusMillis(100);
@@ -14,8 +14,12 @@ import org.opensearch.test.OpenSearchTestCase;
 
 import java.io.IOException;
 import java.util.Collections;
+import java.util.List;
 import java.util.Map;
 
+import static org.opensearch.flowframework.common.CommonValue.CONFIGURATIONS;
+import static org.opensearch.flowframework.common.CommonValue.FAN_OUT_FIELD;
+
 public class WorkflowNodeTests extends OpenSearchTestCase {
 
     @Override
@@ -87,6 +91,40 @@ public class WorkflowNodeTests extends OpenSearchTestCase {
         assertEquals(Map.of("key2", "value2"), ppX[0].params());
     }
 
+    public void testStructuredConfigurations() throws IOException {
+        String json = "{\"id\":\"A\",\"type\":\"create_index\",\"user_inputs\":{\"configurations\":"
+            + "{\"settings\":{\"index.knn\":true},\"mappings\":{\"properties\":{\"text\":{\"type\":\"text\"}}},"
+            + "\"aliases\":[\"a\",\"b\"]}}}";
+        WorkflowNode node = WorkflowNode.parse(TemplateTestJsonUtil.jsonToParser(json));
+        Map<String, Object> configurations = Map.of(
+            "settings",
+            Map.of("index.knn", true),
+            "mappings",
+            Map.of("properties", Map.of("text", Map.of("type", "text"))),
+            "aliases",
+            List.of("a", "b")
+        );
+        assertEquals(configurations, node.userInputs().get(CONFIGURATIONS));
+
+        WorkflowNode nodeX = WorkflowNode.parse(TemplateTestJsonUtil.jsonToParser(TemplateTestJsonUtil.parseToJson(node)));
+        assertEquals(configurations, nodeX.userInputs().get(CONFIGURATIONS));
+    }
+
+    public void testStructuredFanOutEntries() throws IOException {
+        String json = "{\"id\":\"A\",\"type\":\"create_index\",\"user_inputs\":{\"fan_out\":["
+            + "{\"index_name\":\"index-0\",\"configurations\":{\"settings\":{\"index\":{\"number_of_shards\":2}}}},"
+            + "{\"index_name\":\"index-1\",\"configurations\":{\"aliases\":[\"a\",\"b\"]}}]}}";
+        WorkflowNode node = WorkflowNode.parse(TemplateTestJsonUtil.jsonToParser(json));
+        List<Map<String, Object>> entries = List.of(
+            Map.of("index_name", "index-0", CONFIGURATIONS, Map.of("settings", Map.of("index", Map.of("number_of_shards", 2)))),
+            Map.of("index_name", "index-1", CONFIGURATIONS, Map.of("aliases", List.of("a", "b")))
+        );
+        assertEquals(entries, List.of((Map<?, ?>[]) node.userInputs().get(FAN_OUT_FIELD)));
+
+        WorkflowNode nodeX = WorkflowNode.parse(TemplateTestJsonUtil.jsonToParser(TemplateTestJsonUtil.parseToJson(node)));
+        assertEquals(entries, List.of((Map<?, ?>[]) nodeX.userInputs().get(FAN_OUT_FIELD)));
+    }
+
     public void testExceptions() throws IOException {
         String badJson = "{\"badField\":\"A\",\"type\":\"a-type\",\"user_inputs\":{\"foo\":\"bar\"}}";
         FlowFrameworkException e = assertThrows(
@@ -9,9 +9,12 @@
 package org.opensearch.flowframework.model;
 
 import org.opensearch.common.io.stream.BytesStreamOutput;
+import org.opensearch.common.xcontent.XContentFactory;
 import org.opensearch.commons.authuser.User;
 import org.opensearch.core.common.bytes.BytesReference;
 import org.opensearch.core.common.io.stream.BytesStreamInput;
+import org.opensearch.core.xcontent.ToXContent;
+import org.opensearch.core.xcontent.XContentBuilder;
 import org.opensearch.test.OpenSearchTestCase;
 
 import java.io.IOException;
@@ -20,6 +23,15 @@ import java.util.ArrayList;
 import java.util.Collections;
 import java.util.List;
 import java.util.Map;
+import java.util.Set;
+
+import static org.opensearch.flowframework.common.CommonValue.BODY_ENCODING_PARAM;
+import static org.opensearch.flowframework.common.CommonValue.ENCODED_BODY_FIELD;
+import static org.opensearch.flowframework.common.CommonValue.PROVISIONING_PROGRESS_FIELD;
+import static org.opensearch.flowframework.common.CommonValue.RESOURCES_CREATED_FIELD;
+import static org.opensearch.flowframework.common.CommonValue.STATE_FIELD;
+import static org.opensearch.flowframework.common.CommonValue.STEP_TIMELINE_FIELD;
+import static org.opensearch.flowframework.common.CommonValue.USER_OUTPUTS_FIELD;
 
 public class WorkflowStateTests extends OpenSearchTestCase {
 
@@ -91,6 +103,88 @@ public class WorkflowStateTests extends OpenSearchTestCase {
         }
     }
 
+    public void testEncodedBody() throws IOException {
+        WorkflowState wfs = WorkflowState.builder()
+            .workflowId("id")
+            .state("state")
+            .userOutputs(Map.of("foo", Map.of("bar", "baz"), "output", "value"))
+            .resourcesCreated(List.of(new ResourceCreated("name", "stepId", "type", "id")))
+            .build();
+
+        for (String encoding : List.of("smile", "cbor")) {
+            XContentBuilder builder = XContentFactory.jsonBuilder();
+            wfs.toXContent(builder, new ToXContent.MapParams(Map.of(BODY_ENCODING_PARAM, encoding)));
+            String json = builder.toString();
+            assertTrue(json.contains(ENCODED_BODY_FIELD));
+            assertFalse(json.contains(USER_OUTPUTS_FIELD));
+
+            WorkflowState parsed = WorkflowState.parse(BytesReference.bytes(builder));
+            assertEquals("id", parsed.getWorkflowId());
+            assertEquals("state", parsed.getState());
+            assertEquals(2, parsed.userOutputs().size());
+            assertEquals("baz", ((Map<?, ?>) parsed.userOutputs().get("foo")).get("bar"));
+            assertEquals("value", parsed.userOutputs().get("output"));
+            assertEquals("id", parsed.resourcesCreated().get(0).resourceId());
+        }
+    }
+
+    public void testProject() {
+        WorkflowState wfs = WorkflowState.builder()
+            .workflowId("id")
+            .error("error")
+            .state("state")
+            .provisioningProgress("progress")
+            .userOutputs(Map.of("output", "value"))
+            .resourcesCreated(List.of(new ResourceCreated("name", "stepId", "type", "id")))
+            .build();
+
+        WorkflowState projected = wfs.project(Set.of(STATE_FIELD, PROVISIONING_PROGRESS_FIELD));
+        assertEquals("id", projected.getWorkflowId());
+        assertEquals("state", projected.getState());
+        assertEquals("progress", projected.getProvisioningProgress());
+        assertNull(projected.getError());
+        assertNull(projected.userOutputs());
+        assertTrue(projected.resourcesCreated().isEmpty());
+
+        projected = wfs.project(Set.of(RESOURCES_CREATED_FIELD));
+        assertNull(projected.getState());
+        assertEquals(1, projected.resourcesCreated().size());
+    }
+
+    public void testStepTimeline() throws IOException {
+        List<StepTimeline> stepTimeline = List.of(
+            new StepTimeline(
+                "stepId",
+                "name",
+                Instant.ofEpochMilli(1000),
+                Instant.ofEpochMilli(1200),
+                Instant.ofEpochMilli(3000),
+                150,
+                1,
+                StepStatus.COMPLETED
+            ),
+            new StepTimeline("nextStepId", "name", Instant.ofEpochMilli(1000), null, null, 0, 0, StepStatus.SKIPPED)
+        );
+        WorkflowState wfs = WorkflowState.builder().workflowId("id").state("state").stepTimeline(stepTimeline).build();
+
+        XContentBuilder builder = XContentFactory.jsonBuilder();
+        wfs.toXContent(builder, ToXContent.EMPTY_PARAMS);
+        assertTrue(builder.toString().contains(STEP_TIMELINE_FIELD));
+        assertEquals(stepTimeline, WorkflowState.parse(BytesReference.bytes(builder)).stepTimeline());
+
+        try (BytesStreamOutput out = new BytesStreamOutput()) {
+            wfs.writeTo(out);
+            try (BytesStreamInput in = new BytesStreamInput(BytesReference.toBytes(out.bytes()))) {
+                assertEquals(stepTimeline, new WorkflowState(in).stepTimeline());
+            }
+        }
+
+        assertTrue(wfs.project(Set.of(STATE_FIELD)).stepTimeline().isEmpty());
+        assertEquals(stepTimeline, wfs.project(Set.of(STEP_TIMELINE_FIELD)).stepTimeline());
+        // Copies keep the timeline when other fields are updated
+        assertEquals(stepTimeline, WorkflowState.builder(wfs).state("other").build().stepTimeline());
+    }
+
     public void testWorkflowStateUpdate() {
         // Time travel to guarantee update increments
         Instant now = Instant.now().minusMillis(100);
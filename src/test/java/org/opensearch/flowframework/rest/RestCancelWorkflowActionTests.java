@@ -0,0 +1,123 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * The OpenSearch Contributors require contributions made to
+ * this file be licensed under the Apache-2.0 license or a
+ * compatible open source license.
+ */
+package org.opensearch.flowframework.rest;
+
+import org.opensearch.Version;
+import org.opensearch.cluster.ClusterName;
+import org.opensearch.cluster.node.DiscoveryNode;
+import org.opensearch.core.action.ActionListener;
+import org.opensearch.core.rest.RestStatus;
+import org.opensearch.flowframework.common.FlowFrameworkSettings;
+import org.opensearch.flowframework.exception.FlowFrameworkException;
+import org.opensearch.flowframework.transport.CancelWorkflowNodeResponse;
+import org.opensearch.flowframework.transport.CancelWorkflowRequest;
+import org.opensearch.flowframework.transport.CancelWorkflowResponse;
+import org.opensearch.rest.RestHandler;
+import org.opensearch.rest.RestRequest;
+import org.opensearch.test.OpenSearchTestCase;
+import org.opensearch.test.rest.FakeRestChannel;
+import org.opensearch.test.rest.FakeRestRequest;
+import org.opensearch.transport.client.node.NodeClient;
+
+import java.util.Collections;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+
+import static org.opensearch.flowframework.common.CommonValue.WORKFLOW_URI;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+public class RestCancelWorkflowActionTests extends OpenSearchTestCase {
+    private RestCancelWorkflowAction restCancelWorkflowAction;
+    private String cancelPath;
+    private FlowFrameworkSettings flowFrameworkFeatureEnabledSetting;
+    private NodeClient nodeClient;
+
+    @Override
+    public void setUp() throws Exception {
+        super.setUp();
+        flowFrameworkFeatureEnabledSetting = mock(FlowFrameworkSettings.class);
+        when(flowFrameworkFeatureEnabledSetting.isFlowFrameworkEnabled()).thenReturn(true);
+        this.restCancelWorkflowAction = new RestCancelWorkflowAction(flowFrameworkFeatureEnabledSetting);
+        this.cancelPath = String.format(Locale.ROOT, "%s/{%s}/%s", WORKFLOW_URI, "workflow_id", "_cancel");
+        this.nodeClient = mock(NodeClient.class);
+    }
+
+    public void testRestCancelWorkflowActionName() {
+        assertEquals("cancel_workflow", restCancelWorkflowAction.getName());
+    }
+
+    public void testRestCancelWorkflowActionRoutes() {
+        List<RestHandler.Route> routes = restCancelWorkflowAction.routes();
+        assertEquals(1, routes.size());
+        assertEquals(RestRequest.Method.POST, routes.get(0).getMethod());
+        assertEquals(this.cancelPath, routes.get(0).getPath());
+    }
+
+    public void testCancelWorkflow() throws Exception {
+        RestRequest request = new FakeRestRequest.Builder(xContentRegistry()).withMethod(RestRequest.Method.POST)
+            .withPath(this.cancelPath)
+            .withParams(Map.of("workflow_id", "abc"))
+            .build();
+        FakeRestChannel channel = new FakeRestChannel(request, false, 1);
+
+        DiscoveryNode node = new DiscoveryNode("node1", buildNewFakeTransportAddress(), Version.CURRENT);
+        doAnswer(invocation -> {
+            CancelWorkflowRequest cancelRequest = invocation.getArgument(1);
+            assertEquals("abc", cancelRequest.getWorkflowId());
+            ActionListener<CancelWorkflowResponse> actionListener = invocation.getArgument(2);
+            actionListener.onResponse(
+                new CancelWorkflowResponse(
+                    new ClusterName("test"),
+                    "abc",
+                    List.of(new CancelWorkflowNodeResponse(node, true)),
+                    Collections.emptyList()
+                )
+            );
+            return null;
+        }).when(nodeClient).execute(any(), any(CancelWorkflowRequest.class), any());
+
+        restCancelWorkflowAction.handleRequest(request, channel, nodeClient);
+        assertEquals(RestStatus.OK, channel.capturedResponse().status());
+        assertEquals("{\"workflow_id\":\"abc\",\"cancelled\":true}", channel.capturedResponse().content().utf8ToString());
+    }
+
+    public void testCancelWorkflowNotProvisioning() throws Exception {
+        RestRequest request = new FakeRestRequest.Builder(xContentRegistry()).withMethod(RestRequest.Method.POST)
+            .withPath(this.cancelPath)
+            .withParams(Map.of("workflow_id", "abc"))
+            .build();
+        FakeRestChannel channel = new FakeRestChannel(request, false, 1);
+
+        doAnswer(invocation -> {
+            ActionListener<CancelWorkflowResponse> actionListener = invocation.getArgument(2);
+            actionListener.onFailure(new FlowFrameworkException("The workflow abc is not being provisioned.", RestStatus.NOT_FOUND));
+            return null;
+        }).when(nodeClient).execute(any(), any(CancelWorkflowRequest.class), any());
+
+        restCancelWorkflowAction.handleRequest(request, channel, nodeClient);
+        assertEquals(RestStatus.NOT_FOUND, channel.capturedResponse().status());
+        assertTrue(channel.capturedResponse().content().utf8ToString().contains("is not being provisioned"));
+    }
+
+    public void testFeatureFlagNotEnabled() throws Exception {
+        when(flowFrameworkFeatureEnabledSetting.isFlowFrameworkEnabled()).thenReturn(false);
+        RestRequest request = new FakeRestRequest.Builder(xContentRegistry()).withMethod(RestRequest.Method.POST)
+            .withPath(this.cancelPath)
+            .withParams(Map.of("workflow_id", "abc"))
+            .build();
+        FakeRestChannel channel = new FakeRestChannel(request, false, 1);
+        restCancelWorkflowAction.handleRequest(request, channel, nodeClient);
+        assertEquals(RestStatus.FORBIDDEN, channel.capturedResponse().status());
+        assertTrue(channel.capturedResponse().content().utf8ToString().contains("This API is disabled."));
+    }
+}
@@ -0,0 +1,120 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * The OpenSearch Contributors require contributions made to
+ * this file be licensed under the Apache-2.0 license or a
+ * compatible open source license.
+ */
+package org.opensearch.flowframework.rest;
+
+import org.opensearch.core.action.ActionListener;
+import org.opensearch.core.common.bytes.BytesArray;
+import org.opensearch.core.rest.RestStatus;
+import org.opensearch.flowframework.common.FlowFrameworkSettings;
+import org.opensearch.flowframework.transport.ExportWorkflowsRequest;
+import org.opensearch.flowframework.transport.ExportWorkflowsResponse;
+import org.opensearch.rest.RestHandler;
+import org.opensearch.rest.RestRequest;
+import org.opensearch.test.OpenSearchTestCase;
+import org.opensearch.test.rest.FakeRestChannel;
+import org.opensearch.test.rest.FakeRestRequest;
+import org.opensearch.transport.client.node.NodeClient;
+
+import java.util.List;
+import java.util.Map;
+
+import static org.opensearch.flowframework.common.CommonValue.EXPORT_NEXT_CURSOR_HEADER;
+import static org.opensearch.flowframework.common.CommonValue.WORKFLOW_URI;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.verifyNoInteractions;
+import static org.mockito.Mockito.when;
+
+public class RestExportWorkflowsActionTests extends OpenSearchTestCase {
+    private RestExportWorkflowsAction restExportWorkflowsAction;
+    private String exportPath;
+    private FlowFrameworkSettings flowFrameworkFeatureEnabledSetting;
+    private NodeClient nodeClient;
+
+    @Override
+    public void setUp() throws Exception {
+        super.setUp();
+        flowFrameworkFeatureEnabledSetting = mock(FlowFrameworkSettings.class);
+        when(flowFrameworkFeatureEnabledSetting.isFlowFrameworkEnabled()).thenReturn(true);
+        this.restExportWorkflowsAction = new RestExportWorkflowsAction(flowFrameworkFeatureEnabledSetting);
+        this.exportPath = WORKFLOW_URI + "/_export";
+        this.nodeClient = mock(NodeClient.class);
+    }
+
+    public void testRestExportWorkflowsActionName() {
+        assertEquals("export_workflows", restExportWorkflowsAction.getName());
+    }
+
+    public void testRestExportWorkflowsActionRoutes() {
+        List<RestHandler.Route> routes = restExportWorkflowsAction.routes();
+        assertEquals(1, routes.size());
+        assertEquals(RestRequest.Method.GET, routes.get(0).getMethod());
+        assertEquals(this.exportPath, routes.get(0).getPath());
+    }
+
+    public void testExportWorkflows() throws Exception {
+        String cursor = ExportWorkflowsRequest.encodeCursor("wf0");
+        RestRequest request = new FakeRestRequest.Builder(xContentRegistry()).withMethod(RestRequest.Method.GET)
+            .withPath(this.exportPath)
+            .withParams(Map.of("size", "1", "cursor", cursor, "credentials", "encrypted"))
+            .build();
+        FakeRestChannel channel = new FakeRestChannel(request, false, 1);
+
+        doAnswer(invocation -> {
+            ExportWorkflowsRequest exportRequest = invocation.getArgument(1);
+            assertEquals(1, exportRequest.getSize());
+            assertEquals(cursor, exportRequest.getCursor());
+            assertTrue(exportRequest.isEncryptedCredentials());
+            ActionListener<ExportWorkflowsResponse> actionListener = invocation.getArgument(2);
+            actionListener.onResponse(
+                new ExportWorkflowsResponse(new BytesArray("{\"workflow_id\":\"wf1\"}\n"), 1, ExportWorkflowsRequest.encodeCursor("wf1"))
+            );
+            return null;
+        }).when(nodeClient).execute(any(), any(ExportWorkflowsRequest.class), any());
+
+        restExportWorkflowsAction.handleRequest(request, channel, nodeClient);
+        assertEquals(RestStatus.OK, channel.capturedResponse().status());
+        assertEquals("application/x-ndjson", channel.capturedResponse().contentType());
+        assertEquals("{\"workflow_id\":\"wf1\"}\n", channel.capturedResponse().content().utf8ToString());
+        assertEquals(
+            List.of(ExportWorkflowsRequest.encodeCursor("wf1")),
+            channel.capturedResponse().getHeaders().get(EXPORT_NEXT_CURSOR_HEADER)
+        );
+    }
+
+    public void testInvalidParams() throws Exception {
+        for (Map<String, String> params : List.of(
+            Map.of("size", "0"),
+            Map.of("size", "100000"),
+            Map.of("credentials", "plaintext"),
+            Map.of("cursor", "!")
+        )) {
+            RestRequest request = new FakeRestRequest.Builder(xContentRegistry()).withMethod(RestRequest.Method.GET)
+                .withPath(this.exportPath)
+                .withParams(params)
+                .build();
+            FakeRestChannel channel = new FakeRestChannel(request, false, 1);
+            restExportWorkflowsAction.handleRequest(request, channel, nodeClient);
+            assertEquals(RestStatus.BAD_REQUEST, channel.capturedResponse().status());
+        }
+        verifyNoInteractions(nodeClient);
+    }
+
+    public void testFeatureFlagNotEnabled() throws Exception {
+        when(flowFrameworkFeatureEnabledSetting.isFlowFrameworkEnabled()).thenReturn(false);
+        RestRequest request = new FakeRestRequest.Builder(xContentRegistry()).withMethod(RestRequest.Method.GET)
+            .withPath(this.exportPath)
+            .build();
+        FakeRestChannel channel = new FakeRestChannel(request, false, 1);
+        restExportWorkflowsAction.handleRequest(request, channel, nodeClient);
+        assertEquals(RestStatus.FORBIDDEN, channel.capturedResponse().status());
+        assertTrue(channel.capturedResponse().content().utf8ToString().contains("This API is disabled."));
+    }
+}
@@ -0,0 +1,128 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * The OpenSearch Contributors require contributions made to
+ * this file be licensed under the Apache-2.0 license or a
+ * compatible open source license.
+ */
+package org.opensearch.flowframework.rest;
+
+import org.opensearch.Version;
+import org.opensearch.cluster.ClusterName;
+import org.opensearch.cluster.node.DiscoveryNode;
+import org.opensearch.core.action.ActionListener;
+import org.opensearch.core.rest.RestStatus;
+import org.opensearch.flowframework.common.FlowFrameworkSettings;
+import org.opensearch.flowframework.stats.FlowFrameworkStats;
+import org.opensearch.flowframework.stats.FlowFrameworkStats.StepOutcome;
+import org.opensearch.flowframework.stats.VirtualThreadStats;
+import org.opensearch.flowframework.transport.FlowFrameworkStatsNodeResponse;
+import org.opensearch.flowframework.transport.FlowFrameworkStatsRequest;
+import org.opensearch.flowframework.transport.FlowFrameworkStatsResponse;
+import org.opensearch.rest.RestHandler;
+import org.opensearch.rest.RestRequest;
+import org.opensearch.test.OpenSearchTestCase;
+import org.opensearch.test.rest.FakeRestChannel;
+import org.opensearch.test.rest.FakeRestRequest;
+import org.opensearch.transport.client.node.NodeClient;
+
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+
+import static org.opensearch.flowframework.common.CommonValue.FLOW_FRAMEWORK_BASE_URI;
+import static org.opensearch.flowframework.common.CommonValue.STATS_URI;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+public class RestFlowFrameworkStatsActionTests extends OpenSearchTestCase {
+    private RestFlowFrameworkStatsAction restFlowFrameworkStatsAction;
+    private FlowFrameworkSettings flowFrameworkFeatureEnabledSetting;
+    private NodeClient nodeClient;
+
+    @Override
+    public void setUp() throws Exception {
+        super.setUp();
+        flowFrameworkFeatureEnabledSetting = mock(FlowFrameworkSettings.class);
+        when(flowFrameworkFeatureEnabledSetting.isFlowFrameworkEnabled()).thenReturn(true);
+        this.restFlowFrameworkStatsAction = new RestFlowFrameworkStatsAction(flowFrameworkFeatureEnabledSetting);
+        this.nodeClient = mock(NodeClient.class);
+    }
+
+    public void testRestFlowFrameworkStatsActionName() {
+        assertEquals("flow_framework_stats", restFlowFrameworkStatsAction.getName());
+    }
+
+    public void testRestFlowFrameworkStatsActionRoutes() {
+        List<RestHandler.Route> routes = restFlowFrameworkStatsAction.routes();
+        assertEquals(2, routes.size());
+        assertEquals(RestRequest.Method.GET, routes.get(0).getMethod());
+        assertEquals(STATS_URI, routes.get(0).getPath());
+        assertEquals(RestRequest.Method.GET, routes.get(1).getMethod());
+        assertEquals(FLOW_FRAMEWORK_BASE_URI + "/{nodeId}/stats", routes.get(1).getPath());
+    }
+
+    public void testNodeStats() throws Exception {
+        RestRequest request = new FakeRestRequest.Builder(xContentRegistry()).withMethod(RestRequest.Method.GET)
+            .withPath(FLOW_FRAMEWORK_BASE_URI + "/{nodeId}/stats")
+            .withParams(Map.of("nodeId", "node1,_local"))
+            .build();
+        FakeRestChannel channel = new FakeRestChannel(request, false, 1);
+
+        FlowFrameworkStats stats = new FlowFrameworkStats();
+        stats.recordStep("create_index", 1_000_000L, 25_000_000L, StepOutcome.SUCCESS);
+        stats.recordStep("create_index", 2_000_000L, 50_000_000L, StepOutcome.FAILURE);
+        DiscoveryNode node = new DiscoveryNode("node1", buildNewFakeTransportAddress(), Version.CURRENT);
+        FlowFrameworkStatsNodeResponse nodeResponse = new FlowFrameworkStatsNodeResponse(
+            node,
+            stats.getStepStats(),
+            Collections.emptyList(),
+            3,
+            2,
+            Map.of("tenant", 1),
+            Collections.emptyMap(),
+            0,
+            0,
+            0,
+            0,
+            0,
+            new VirtualThreadStats(true, 4, 10, 1, 25)
+        );
+        doAnswer(invocation -> {
+            FlowFrameworkStatsRequest statsRequest = invocation.getArgument(1);
+            assertArrayEquals(new String[] { "node1", "_local" }, statsRequest.nodesIds());
+            ActionListener<FlowFrameworkStatsResponse> actionListener = invocation.getArgument(2);
+            actionListener.onResponse(
+                new FlowFrameworkStatsResponse(new ClusterName("test"), List.of(nodeResponse), Collections.emptyList())
+            );
+            return null;
+        }).when(nodeClient).execute(any(), any(FlowFrameworkStatsRequest.class), any());
+
+        restFlowFrameworkStatsAction.handleRequest(request, channel, nodeClient);
+        assertEquals(RestStatus.OK, channel.capturedResponse().status());
+        String content = channel.capturedResponse().content().utf8ToString();
+        assertTrue(content.contains("\"cluster_name\":\"test\""));
+        assertTrue(content.contains("\"create_index\":{\"count\":2,\"failures\":1,\"timeouts\":0"));
+        assertTrue(content.contains("\"state_index\":{\"write_conflicts\":3,\"write_retries\":2}"));
+        assertTrue(content.contains("\"active_provisions_per_tenant\":{\"tenant\":1}"));
+        assertTrue(
+            content.contains(
+                "\"virtual_threads\":{\"enabled\":true,\"active\":4,\"completed\":10,\"pinned\":1,\"pinned_time_in_millis\":25}"
+            )
+        );
+    }
+
+    public void testFeatureFlagNotEnabled() throws Exception {
+        when(flowFrameworkFeatureEnabledSetting.isFlowFrameworkEnabled()).thenReturn(false);
+        RestRequest request = new FakeRestRequest.Builder(xContentRegistry()).withMethod(RestRequest.Method.GET)
+            .withPath(STATS_URI)
+            .build();
+        FakeRestChannel channel = new FakeRestChannel(request, false, 1);
+        restFlowFrameworkStatsAction.handleRequest(request, channel, nodeClient);
+        assertEquals(RestStatus.FORBIDDEN, channel.capturedResponse().status());
+        assertTrue(channel.capturedResponse().content().utf8ToString().contains("This API is disabled."));
+    }
+}
@@ -19,7 +19,11 @@ import org.opensearch.transport.client.node.NodeClient;
 
 import java.util.List;
 import java.util.Locale;
+import java.util.Map;
 
+import static org.opensearch.flowframework.common.CommonValue.RESOURCES_CURSOR;
+import static org.opensearch.flowframework.common.CommonValue.STATE_FIELDS;
+import static org.opensearch.flowframework.common.CommonValue.WAIT_FOR_CHANGE_TIMEOUT;
 import static org.opensearch.flowframework.common.CommonValue.WORKFLOW_URI;
 import static org.mockito.Mockito.mock;
 import static org.mockito.Mockito.when;
@@ -73,6 +77,39 @@ public class RestGetWorkflowStateActionTests extends OpenSearchTestCase {
         assertTrue(channel.capturedResponse().content().utf8ToString().contains("workflow_id cannot be null"));
     }
 
+    public void testWaitForChangeTimeoutTooLong() throws Exception {
+        RestRequest request = new FakeRestRequest.Builder(xContentRegistry()).withMethod(RestRequest.Method.GET)
+            .withPath(this.getPath)
+            .withParams(Map.of("workflow_id", "abc", WAIT_FOR_CHANGE_TIMEOUT, "5m"))
+            .build();
+
+        FakeRestChannel channel = new FakeRestChannel(request, true, 1);
+        restGetWorkflowStateAction.handleRequest(request, channel, nodeClient);
+
+        assertEquals(RestStatus.BAD_REQUEST, channel.capturedResponse().status());
+        assertTrue(channel.capturedResponse().content().utf8ToString().contains(WAIT_FOR_CHANGE_TIMEOUT + " cannot exceed 1m"));
+    }
+
+    public void testInvalidProjectionAndCursor() throws Exception {
+        RestRequest request = new FakeRestRequest.Builder(xContentRegistry()).withMethod(RestRequest.Method.GET)
+            .withPath(this.getPath)
+            .withParams(Map.of("workflow_id", "abc", STATE_FIELDS, "state,unknown"))
+            .build();
+        FakeRestChannel channel = new FakeRestChannel(request, true, 1);
+        restGetWorkflowStateAction.handleRequest(request, channel, nodeClient);
+        assertEquals(RestStatus.BAD_REQUEST, channel.capturedResponse().status());
+        assertTrue(channel.capturedResponse().content().utf8ToString().contains("Invalid fields [unknown]"));
+
+        request = new FakeRestRequest.Builder(xContentRegistry()).withMethod(RestRequest.Method.GET)
+            .withPath(this.getPath)
+            .withParams(Map.of("workflow_id", "abc", RESOURCES_CURSOR, "not a cursor"))
+            .build();
+        channel = new FakeRestChannel(request, true, 1);
+        restGetWorkflowStateAction.handleRequest(request, channel, nodeClient);
+        assertEquals(RestStatus.BAD_REQUEST, channel.capturedResponse().status());
+        assertTrue(channel.capturedResponse().content().utf8ToString().contains("Invalid resources_cursor"));
+    }
+
     public void testFeatureFlagNotEnabled() throws Exception {
         when(flowFrameworkFeatureEnabledSetting.isFlowFrameworkEnabled()).thenReturn(false);
         RestRequest request = new FakeRestRequest.Builder(xContentRegistry()).withMethod(RestRequest.Method.GET)
@@ -0,0 +1,128 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * The OpenSearch Contributors require contributions made to
+ * this file be licensed under the Apache-2.0 license or a
+ * compatible open source license.
+ */
+package org.opensearch.flowframework.rest;
+
+import org.opensearch.common.xcontent.XContentType;
+import org.opensearch.core.action.ActionListener;
+import org.opensearch.core.common.bytes.BytesArray;
+import org.opensearch.core.rest.RestStatus;
+import org.opensearch.flowframework.common.FlowFrameworkSettings;
+import org.opensearch.flowframework.transport.ImportWorkflowsRequest;
+import org.opensearch.flowframework.transport.ImportWorkflowsResponse;
+import org.opensearch.flowframework.transport.ImportWorkflowsResponse.ImportItem;
+import org.opensearch.rest.RestHandler;
+import org.opensearch.rest.RestRequest;
+import org.opensearch.test.OpenSearchTestCase;
+import org.opensearch.test.rest.FakeRestChannel;
+import org.opensearch.test.rest.FakeRestRequest;
+import org.opensearch.transport.client.node.NodeClient;
+
+import java.util.List;
+import java.util.Map;
+
+import static org.opensearch.flowframework.common.CommonValue.WORKFLOW_URI;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.verifyNoInteractions;
+import static org.mockito.Mockito.when;
+
+public class RestImportWorkflowsActionTests extends OpenSearchTestCase {
+    private static final String CONTENT = "{\"workflow_id\":\"wf1\",\"template\":{\"name\":\"test\"}}\n";
+
+    private RestImportWorkflowsAction restImportWorkflowsAction;
+    private String importPath;
+    private FlowFrameworkSettings flowFrameworkFeatureEnabledSetting;
+    private NodeClient nodeClient;
+
+    @Override
+    public void setUp() throws Exception {
+        super.setUp();
+        flowFrameworkFeatureEnabledSetting = mock(FlowFrameworkSettings.class);
+        when(flowFrameworkFeatureEnabledSetting.isFlowFrameworkEnabled()).thenReturn(true);
+        this.restImportWorkflowsAction = new RestImportWorkflowsAction(flowFrameworkFeatureEnabledSetting);
+        this.importPath = WORKFLOW_URI + "/_import";
+        this.nodeClient = mock(NodeClient.class);
+    }
+
+    public void testRestImportWorkflowsActionName() {
+        assertEquals("import_workflows", restImportWorkflowsAction.getName());
+    }
+
+    public void testRestImportWorkflowsActionRoutes() {
+        List<RestHandler.Route> routes = restImportWorkflowsAction.routes();
+        assertEquals(1, routes.size());
+        assertEquals(RestRequest.Method.POST, routes.get(0).getMethod());
+        assertEquals(this.importPath, routes.get(0).getPath());
+    }
+
+    public void testImportWorkflows() throws Exception {
+        RestRequest request = new FakeRestRequest.Builder(xContentRegistry()).withMethod(RestRequest.Method.POST)
+            .withPath(this.importPath)
+            .withParams(Map.of("validation", "none", "overwrite", "true", "credentials", "encrypted"))
+            .withContent(new BytesArray(CONTENT), XContentType.JSON)
+            .build();
+        FakeRestChannel channel = new FakeRestChannel(request, false, 1);
+
+        doAnswer(invocation -> {
+            ImportWorkflowsRequest importRequest = invocation.getArgument(1);
+            assertFalse(importRequest.isValidate());
+            assertTrue(importRequest.isOverwrite());
+            assertTrue(importRequest.isEncryptedCredentials());
+            assertEquals(CONTENT, importRequest.getContent().utf8ToString());
+            ActionListener<ImportWorkflowsResponse> actionListener = invocation.getArgument(2);
+            actionListener.onResponse(
+                new ImportWorkflowsResponse(
+                    5,
+                    List.of(new ImportItem(1, "wf1", RestStatus.CREATED, null), new ImportItem(2, "wf2", RestStatus.CONFLICT, "exists"))
+                )
+            );
+            return null;
+        }).when(nodeClient).execute(any(), any(ImportWorkflowsRequest.class), any());
+
+        restImportWorkflowsAction.handleRequest(request, channel, nodeClient);
+        assertEquals(RestStatus.OK, channel.capturedResponse().status());
+        String response = channel.capturedResponse().content().utf8ToString();
+        assertTrue(response.contains("\"errors\":true"));
+        assertTrue(response.contains("{\"line\":1,\"workflow_id\":\"wf1\",\"status\":201}"));
+        assertTrue(response.contains("{\"line\":2,\"workflow_id\":\"wf2\",\"status\":409,\"error\":\"exists\"}"));
+    }
+
+    public void testInvalidParams() throws Exception {
+        for (Map<String, String> params : List.of(Map.of("validation", "some"), Map.of("credentials", "redacted"))) {
+            RestRequest request = new FakeRestRequest.Builder(xContentRegistry()).withMethod(RestRequest.Method.POST)
+                .withPath(this.importPath)
+                .withParams(params)
+                .withContent(new BytesArray(CONTENT), XContentType.JSON)
+                .build();
+            FakeRestChannel channel = new FakeRestChannel(request, false, 1);
+            restImportWorkflowsAction.handleRequest(request, channel, nodeClient);
+            assertEquals(RestStatus.BAD_REQUEST, channel.capturedResponse().status());
+        }
+        RestRequest request = new FakeRestRequest.Builder(xContentRegistry()).withMethod(RestRequest.Method.POST)
+            .withPath(this.importPath)
+            .build();
+        FakeRestChannel channel = new FakeRestChannel(request, false, 1);
+        restImportWorkflowsAction.handleRequest(request, channel, nodeClient);
+        assertEquals(RestStatus.BAD_REQUEST, channel.capturedResponse().status());
+        verifyNoInteractions(nodeClient);
+    }
+
+    public void testFeatureFlagNotEnabled() throws Exception {
+        when(flowFrameworkFeatureEnabledSetting.isFlowFrameworkEnabled()).thenReturn(false);
+        RestRequest request = new FakeRestRequest.Builder(xContentRegistry()).withMethod(RestRequest.Method.POST)
+            .withPath(this.importPath)
+            .withContent(new BytesArray(CONTENT), XContentType.JSON)
+            .build();
+        FakeRestChannel channel = new FakeRestChannel(request, false, 1);
+        restImportWorkflowsAction.handleRequest(request, channel, nodeClient);
+        assertEquals(RestStatus.FORBIDDEN, channel.capturedResponse().status());
+        assertTrue(channel.capturedResponse().content().utf8ToString().contains("This API is disabled."));
+    }
+}
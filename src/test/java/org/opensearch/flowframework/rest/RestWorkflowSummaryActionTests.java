@@ -0,0 +1,112 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * The OpenSearch Contributors require contributions made to
+ * this file be licensed under the Apache-2.0 license or a
+ * compatible open source license.
+ */
+package org.opensearch.flowframework.rest;
+
+import org.opensearch.core.action.ActionListener;
+import org.opensearch.core.rest.RestStatus;
+import org.opensearch.flowframework.common.FlowFrameworkSettings;
+import org.opensearch.flowframework.transport.WorkflowSummaryRequest;
+import org.opensearch.flowframework.transport.WorkflowSummaryResponse;
+import org.opensearch.flowframework.transport.WorkflowSummaryResponse.WorkflowCounts;
+import org.opensearch.rest.RestHandler;
+import org.opensearch.rest.RestRequest;
+import org.opensearch.test.OpenSearchTestCase;
+import org.opensearch.test.rest.FakeRestChannel;
+import org.opensearch.test.rest.FakeRestRequest;
+import org.opensearch.transport.client.node.NodeClient;
+
+import java.util.List;
+import java.util.Map;
+
+import static org.opensearch.flowframework.common.CommonValue.WORKFLOW_URI;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.verifyNoInteractions;
+import static org.mockito.Mockito.when;
+
+public class RestWorkflowSummaryActionTests extends OpenSearchTestCase {
+    private RestWorkflowSummaryAction restWorkflowSummaryAction;
+    private String summaryPath;
+    private FlowFrameworkSettings flowFrameworkFeatureEnabledSetting;
+    private NodeClient nodeClient;
+
+    @Override
+    public void setUp() throws Exception {
+        super.setUp();
+        flowFrameworkFeatureEnabledSetting = mock(FlowFrameworkSettings.class);
+        when(flowFrameworkFeatureEnabledSetting.isFlowFrameworkEnabled()).thenReturn(true);
+        this.restWorkflowSummaryAction = new RestWorkflowSummaryAction(flowFrameworkFeatureEnabledSetting);
+        this.summaryPath = WORKFLOW_URI + "/_summary";
+        this.nodeClient = mock(NodeClient.class);
+    }
+
+    public void testRestWorkflowSummaryActionName() {
+        assertEquals("workflow_summary", restWorkflowSummaryAction.getName());
+    }
+
+    public void testRestWorkflowSummaryActionRoutes() {
+        List<RestHandler.Route> routes = restWorkflowSummaryAction.routes();
+        assertEquals(1, routes.size());
+        assertEquals(RestRequest.Method.GET, routes.get(0).getMethod());
+        assertEquals(this.summaryPath, routes.get(0).getPath());
+    }
+
+    public void testWorkflowSummary() throws Exception {
+        RestRequest request = new FakeRestRequest.Builder(xContentRegistry()).withMethod(RestRequest.Method.GET)
+            .withPath(this.summaryPath)
+            .withParams(Map.of("interval", "1h"))
+            .build();
+        FakeRestChannel channel = new FakeRestChannel(request, false, 1);
+
+        doAnswer(invocation -> {
+            WorkflowSummaryRequest summaryRequest = invocation.getArgument(1);
+            assertEquals("1h", summaryRequest.getInterval());
+            ActionListener<WorkflowSummaryResponse> actionListener = invocation.getArgument(2);
+            actionListener.onResponse(
+                new WorkflowSummaryResponse(
+                    new WorkflowCounts(2, 1, Map.of("state", Map.of("FAILED", 1L))),
+                    new WorkflowCounts(2, -1, Map.of()),
+                    false
+                )
+            );
+            return null;
+        }).when(nodeClient).execute(any(), any(WorkflowSummaryRequest.class), any());
+
+        restWorkflowSummaryAction.handleRequest(request, channel, nodeClient);
+        assertEquals(RestStatus.OK, channel.capturedResponse().status());
+        assertEquals(
+            "{\"timed_out\":false,\"workflow_states\":{\"total\":2,\"failed\":1,\"state\":{\"FAILED\":1}},\"workflows\":{\"total\":2}}",
+            channel.capturedResponse().content().utf8ToString()
+        );
+    }
+
+    public void testInvalidInterval() throws Exception {
+        RestRequest request = new FakeRestRequest.Builder(xContentRegistry()).withMethod(RestRequest.Method.GET)
+            .withPath(this.summaryPath)
+            .withParams(Map.of("interval", "3d"))
+            .build();
+        FakeRestChannel channel = new FakeRestChannel(request, false, 1);
+        restWorkflowSummaryAction.handleRequest(request, channel, nodeClient);
+        assertEquals(RestStatus.BAD_REQUEST, channel.capturedResponse().status());
+        assertTrue(channel.capturedResponse().content().utf8ToString().contains("must be a calendar interval"));
+        verifyNoInteractions(nodeClient);
+    }
+
+    public void testFeatureFlagNotEnabled() throws Exception {
+        when(flowFrameworkFeatureEnabledSetting.isFlowFrameworkEnabled()).thenReturn(false);
+        RestRequest request = new FakeRestRequest.Builder(xContentRegistry()).withMethod(RestRequest.Method.GET)
+            .withPath(this.summaryPath)
+            .build();
+        FakeRestChannel channel = new FakeRestChannel(request, false, 1);
+        restWorkflowSummaryAction.handleRequest(request, channel, nodeClient);
+        assertEquals(RestStatus.FORBIDDEN, channel.capturedResponse().status());
+        assertTrue(channel.capturedResponse().content().utf8ToString().contains("This API is disabled."));
+    }
+}
@@ -0,0 +1,71 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * The OpenSearch Contributors require contributions made to
+ * this file be licensed under the Apache-2.0 license or a
+ * compatible open source license.
+ */
+package org.opensearch.flowframework.stats;
+
+import org.opensearch.common.io.stream.BytesStreamOutput;
+import org.opensearch.core.common.io.stream.StreamInput;
+import org.opensearch.flowframework.stats.FlowFrameworkStats.StepOutcome;
+import org.opensearch.test.OpenSearchTestCase;
+
+import java.io.IOException;
+import java.util.Map;
+
+public class FlowFrameworkStatsTests extends OpenSearchTestCase {
+
+    public void testRecordStep() {
+        FlowFrameworkStats stats = new FlowFrameworkStats();
+        stats.recordStep("create_index", 1_000_000L, 10_000_000L, StepOutcome.SUCCESS);
+        stats.recordStep("create_index", 2_000_000L, 20_000_000L, StepOutcome.FAILURE);
+        stats.recordStep("create_index", 3_000_000L, 30_000_000L, StepOutcome.TIMEOUT);
+        stats.recordStep("noop", -1L, 0L, StepOutcome.SUCCESS);
+
+        Map<String, StepStats> stepStats = stats.getStepStats();
+        assertEquals(2, stepStats.size());
+        StepStats createIndex = stepStats.get("create_index");
+        assertEquals(3, createIndex.getCount());
+        assertEquals(1, createIndex.getFailures());
+        assertEquals(1, createIndex.getTimeouts());
+        assertEquals(3, createIndex.getQueueWaitMillis().getMaxValue());
+        assertEquals(20, createIndex.getExecutionMillis().getValueAtPercentile(50));
+
+        // Negative durations from clock adjustments are clamped
+        StepStats noop = stepStats.get("noop");
+        assertEquals(0, noop.getQueueWaitMillis().getMaxValue());
+
+        // Snapshots are not affected by later executions
+        stats.recordStep("create_index", 0L, 0L, StepOutcome.SUCCESS);
+        assertEquals(3, createIndex.getCount());
+        assertEquals(3, createIndex.getExecutionMillis().getTotalCount());
+    }
+
+    public void testMergeAndSerialization() throws IOException {
+        FlowFrameworkStats first = new FlowFrameworkStats();
+        first.recordStep("create_index", 0L, 10_000_000L, StepOutcome.SUCCESS);
+        FlowFrameworkStats second = new FlowFrameworkStats();
+        second.recordStep("create_index", 0L, 90_000_000L, StepOutcome.FAILURE);
+
+        StepStats merged = StepStats.merge(first.getStepStats().get("create_index"), second.getStepStats().get("create_index"));
+        assertEquals(2, merged.getCount());
+        assertEquals(1, merged.getFailures());
+        assertEquals(0, merged.getTimeouts());
+        assertEquals(10, merged.getExecutionMillis().getMinValue());
+        assertEquals(90, merged.getExecutionMillis().getMaxValue());
+
+        BytesStreamOutput out = new BytesStreamOutput();
+        merged.writeTo(out);
+        StreamInput in = out.bytes().streamInput();
+        StepStats read = new StepStats(in);
+        assertEquals(merged.getCount(), read.getCount());
+        assertEquals(merged.getFailures(), read.getFailures());
+        assertEquals(merged.getTimeouts(), read.getTimeouts());
+        assertEquals(90, read.getExecutionMillis().getMaxValue());
+        assertEquals(2, read.getExecutionMillis().getTotalCount());
+        assertEquals(merged.getQueueWaitMillis().getTotalCount(), read.getQueueWaitMillis().getTotalCount());
+    }
+}
@@ -25,11 +25,13 @@ import org.opensearch.flowframework.exception.FlowFrameworkException;
 import org.opensearch.flowframework.indices.FlowFrameworkIndicesHandler;
 import org.opensearch.flowframework.model.ResourceCreated;
 import org.opensearch.flowframework.model.WorkflowState;
+import org.opensearch.flowframework.stats.FlowFrameworkStats;
 import org.opensearch.flowframework.workflow.DeleteConnectorStep;
 import org.opensearch.flowframework.workflow.DeleteIndexStep;
 import org.opensearch.flowframework.workflow.DeleteIngestPipelineStep;
 import org.opensearch.flowframework.workflow.UndeployModelStep;
 import org.opensearch.flowframework.workflow.WorkflowData;
+import org.opensearch.flowframework.workflow.WorkflowExecutors;
 import org.opensearch.flowframework.workflow.WorkflowStepFactory;
 import org.opensearch.remote.metadata.client.SdkClient;
 import org.opensearch.remote.metadata.client.impl.SdkClientFactory;
@@ -63,9 +65,12 @@ import static org.opensearch.flowframework.common.WorkflowResources.PIPELINE_ID;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.anyMap;
 import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.argThat;
+import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.ArgumentMatchers.nullable;
 import static org.mockito.Mockito.doAnswer;
 import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.spy;
 import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
@@ -117,6 +122,12 @@ public class DeprovisionWorkflowTransportActionTests extends OpenSearchTestCase
         when(this.workflowStepFactory.createStep(DeleteIngestPipelineStep.NAME)).thenReturn(deleteIngestPipelineStep);
 
         this.flowFrameworkIndicesHandler = mock(FlowFrameworkIndicesHandler.class);
+        // Resources are not reused by other workflows unless a test says otherwise
+        doAnswer(invocation -> {
+            ActionListener<Boolean> releaseListener = invocation.getArgument(3);
+            releaseListener.onResponse(false);
+            return null;
+        }).when(flowFrameworkIndicesHandler).releaseSharedResource(any(ResourceCreated.class), anyString(), nullable(String.class), any());
         flowFrameworkSettings = mock(FlowFrameworkSettings.class);
         when(flowFrameworkSettings.getRequestTimeout()).thenReturn(TimeValue.timeValueSeconds(10));
 
@@ -130,7 +141,7 @@ public class DeprovisionWorkflowTransportActionTests extends OpenSearchTestCase
         this.deprovisionWorkflowTransportAction = new DeprovisionWorkflowTransportAction(
             mock(TransportService.class),
             mock(ActionFilters.class),
-            clientThreadPool,
+            new WorkflowExecutors(clientThreadPool, flowFrameworkSettings),
             client,
             sdkClient,
             workflowStepFactory,
@@ -138,7 +149,8 @@ public class DeprovisionWorkflowTransportActionTests extends OpenSearchTestCase
             flowFrameworkSettings,
             clusterService,
             xContentRegistry(),
-            Settings.EMPTY
+            Settings.EMPTY,
+            new FlowFrameworkStats()
         );
     }
 
@@ -198,6 +210,64 @@ public class DeprovisionWorkflowTransportActionTests extends OpenSearchTestCase
         );
     }
 
+    public void testDeprovisionSharedResource() throws Exception {
+        String workflowId = "1";
+
+        @SuppressWarnings("unchecked")
+        ActionListener<WorkflowResponse> listener = mock(ActionListener.class);
+        WorkflowRequest workflowRequest = new WorkflowRequest(workflowId, null);
+
+        doAnswer(invocation -> {
+            ActionListener<GetWorkflowStateResponse> responseListener = invocation.getArgument(2);
+
+            ResourceCreated sharedConnector = new ResourceCreated("create_connector", "step_1", CONNECTOR_ID, "connectorId");
+            WorkflowState state = WorkflowState.builder().resourcesCreated(List.of(sharedConnector.withResourceHash("hash"))).build();
+            responseListener.onResponse(new GetWorkflowStateResponse(state, true));
+            return null;
+        }).when(client).execute(any(GetWorkflowStateAction.class), any(GetWorkflowStateRequest.class), any());
+
+        // Another workflow still reuses the connector
+        doAnswer(invocation -> {
+            ActionListener<Boolean> releaseListener = invocation.getArgument(3);
+            releaseListener.onResponse(true);
+            return null;
+        }).when(flowFrameworkIndicesHandler).releaseSharedResource(
+            argThat(r -> "connectorId".equals(r.resourceId()) && "hash".equals(r.resourceHash())),
+            eq(workflowId),
+            nullable(String.class),
+            any()
+        );
+
+        doAnswer(invocation -> {
+            Consumer<Boolean> booleanConsumer = invocation.getArgument(2);
+            booleanConsumer.accept(Boolean.TRUE);
+            return null;
+        }).when(flowFrameworkIndicesHandler).doesTemplateExist(anyString(), any(), any(), any());
+
+        doAnswer(inv -> {
+            ActionListener<?> l = inv.getArgument(4);
+            l.onResponse(null);
+            return null;
+        }).when(flowFrameworkIndicesHandler).putInitialStateToWorkflowState(anyString(), any(), any(), any(), any());
+
+        CountDownLatch latch = new CountDownLatch(1);
+        LatchedActionListener<WorkflowResponse> latchedActionListener = new LatchedActionListener<>(listener, latch);
+        deprovisionWorkflowTransportAction.doExecute(mock(Task.class), workflowRequest, latchedActionListener);
+        latch.await(5, TimeUnit.SECONDS);
+
+        ArgumentCaptor<WorkflowResponse> responseCaptor = ArgumentCaptor.forClass(WorkflowResponse.class);
+        verify(listener, times(1)).onResponse(responseCaptor.capture());
+        assertEquals(workflowId, responseCaptor.getValue().getWorkflowId());
+        verify(deleteConnectorStep, never()).execute(
+            anyString(),
+            any(WorkflowData.class),
+            anyMap(),
+            anyMap(),
+            anyMap(),
+            nullable(String.class)
+        );
+    }
+
     public void testFailToDeprovision() throws Exception {
         String workflowId = "1";
 
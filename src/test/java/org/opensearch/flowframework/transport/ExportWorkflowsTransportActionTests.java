@@ -0,0 +1,207 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * The OpenSearch Contributors require contributions made to
+ * this file be licensed under the Apache-2.0 license or a
+ * compatible open source license.
+ */
+package org.opensearch.flowframework.transport;
+
+import org.opensearch.Version;
+import org.opensearch.action.get.GetResponse;
+import org.opensearch.action.search.SearchRequest;
+import org.opensearch.action.support.ActionFilters;
+import org.opensearch.cluster.service.ClusterService;
+import org.opensearch.common.settings.Settings;
+import org.opensearch.common.unit.TimeValue;
+import org.opensearch.common.util.concurrent.ThreadContext;
+import org.opensearch.common.xcontent.XContentFactory;
+import org.opensearch.commons.ConfigConstants;
+import org.opensearch.core.action.ActionListener;
+import org.opensearch.core.common.bytes.BytesReference;
+import org.opensearch.core.rest.RestStatus;
+import org.opensearch.core.xcontent.NamedXContentRegistry;
+import org.opensearch.core.xcontent.ToXContent;
+import org.opensearch.core.xcontent.XContentBuilder;
+import org.opensearch.flowframework.common.FlowFrameworkSettings;
+import org.opensearch.flowframework.exception.FlowFrameworkException;
+import org.opensearch.flowframework.indices.FlowFrameworkIndicesHandler;
+import org.opensearch.flowframework.model.Template;
+import org.opensearch.flowframework.model.Workflow;
+import org.opensearch.flowframework.model.WorkflowNode;
+import org.opensearch.flowframework.model.WorkflowState;
+import org.opensearch.flowframework.transport.handler.SearchHandler;
+import org.opensearch.flowframework.util.EncryptorUtils;
+import org.opensearch.remote.metadata.client.SdkClient;
+import org.opensearch.tasks.Task;
+import org.opensearch.test.OpenSearchTestCase;
+import org.opensearch.threadpool.ThreadPool;
+import org.opensearch.transport.TransportService;
+import org.opensearch.transport.client.Client;
+
+import java.io.IOException;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicReference;
+
+import org.mockito.ArgumentMatchers;
+
+import static org.opensearch.flowframework.common.CommonValue.GLOBAL_CONTEXT_INDEX;
+import static org.opensearch.flowframework.common.CommonValue.WORKFLOW_STATE_INDEX;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyBoolean;
+import static org.mockito.ArgumentMatchers.nullable;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.verifyNoInteractions;
+import static org.mockito.Mockito.when;
+
+public class ExportWorkflowsTransportActionTests extends OpenSearchTestCase {
+
+    private ExportWorkflowsTransportAction exportWorkflowsTransportAction;
+    private SearchHandler searchHandler;
+    private ThreadContext threadContext;
+    private Template template;
+
+    @Override
+    public void setUp() throws Exception {
+        super.setUp();
+        searchHandler = mock(SearchHandler.class);
+        FlowFrameworkSettings flowFrameworkSettings = mock(FlowFrameworkSettings.class);
+        when(flowFrameworkSettings.getRequestTimeout()).thenReturn(TimeValue.timeValueSeconds(10));
+        Client client = mock(Client.class);
+        ThreadPool threadPool = mock(ThreadPool.class);
+        threadContext = new ThreadContext(Settings.EMPTY);
+        when(client.threadPool()).thenReturn(threadPool);
+        when(threadPool.getThreadContext()).thenReturn(threadContext);
+        EncryptorUtils encryptorUtils = new EncryptorUtils(
+            mock(ClusterService.class),
+            client,
+            mock(SdkClient.class),
+            mock(NamedXContentRegistry.class),
+            false
+        );
+
+        FlowFrameworkIndicesHandler flowFrameworkIndicesHandler = mock(FlowFrameworkIndicesHandler.class);
+        doAnswer(invocation -> {
+            ActionListener<GetResponse> listener = invocation.getArgument(2);
+            listener.onResponse(invocation.getArgument(0));
+            return null;
+        }).when(flowFrameworkIndicesHandler).resolveTemplateReference(any(GetResponse.class), nullable(String.class), any());
+
+        this.exportWorkflowsTransportAction = new ExportWorkflowsTransportAction(
+            mock(TransportService.class),
+            mock(ActionFilters.class),
+            searchHandler,
+            flowFrameworkIndicesHandler,
+            encryptorUtils,
+            flowFrameworkSettings,
+            client
+        );
+
+        WorkflowNode node = new WorkflowNode(
+            "create_connector",
+            "create_connector",
+            Collections.emptyMap(),
+            Map.of("credential", Map.of("key", "encrypted"), "name", "connector")
+        );
+        this.template = Template.builder()
+            .name("test")
+            .useCase("semantic_search")
+            .templateVersion(Version.fromString("1.0.0"))
+            .workflows(Map.of("provision", new Workflow(Collections.emptyMap(), List.of(node), Collections.emptyList())))
+            .build();
+    }
+
+    public void testExportRedacted() throws Exception {
+        WorkflowState state1 = WorkflowState.builder().workflowId("wf1").state("COMPLETED").provisioningProgress("DONE").build();
+        WorkflowState state2 = WorkflowState.builder().workflowId("wf2").state("NOT_STARTED").provisioningProgress("NOT_STARTED").build();
+        stubSearch(
+            searchResponse(Map.of("wf1", state1, "wf2", state2), List.of("wf1", "wf2")),
+            searchResponse(Map.of("wf1", template), List.of("wf1"))
+        );
+
+        ExportWorkflowsResponse response = export(new ExportWorkflowsRequest(null, 2, null, false));
+        assertEquals(2, response.getCount());
+        assertEquals("wf2", ExportWorkflowsRequest.decodeCursor(response.getNextCursor()));
+        String[] lines = response.getContent().utf8ToString().split("\n");
+        assertEquals(2, lines.length);
+        assertTrue(lines[0].startsWith("{\"workflow_id\":\"wf1\",\"template\":{\"name\":\"test\""));
+        assertTrue(lines[0].contains("\"name\":\"connector\""));
+        assertFalse(lines[0].contains("credential"));
+        assertTrue(lines[0].contains("\"state\":{\"workflow_id\":\"wf1\",\"state\":\"COMPLETED\""));
+        assertTrue(lines[1].startsWith("{\"workflow_id\":\"wf2\",\"state\":{"));
+    }
+
+    public void testExportEncryptedLastPage() throws Exception {
+        WorkflowState state = WorkflowState.builder().workflowId("wf3").state("COMPLETED").provisioningProgress("DONE").build();
+        stubSearch(searchResponse(Map.of("wf3", state), List.of("wf3")), searchResponse(Map.of("wf3", template), List.of("wf3")));
+
+        ExportWorkflowsResponse response = export(
+            new ExportWorkflowsRequest(null, 2, ExportWorkflowsRequest.encodeCursor("wf2"), true)
+        );
+        assertEquals(1, response.getCount());
+        assertNull(response.getNextCursor());
+        assertTrue(response.getContent().utf8ToString().contains("\"credential\":{\"key\":\"encrypted\"}"));
+    }
+
+    public void testExportEncryptedRequiresAdmin() throws Exception {
+        threadContext.putTransient(ConfigConstants.OPENSEARCH_SECURITY_USER_INFO_THREAD_CONTEXT, "alice|odfe,aes|engineering,operations");
+        AtomicReference<Exception> failure = new AtomicReference<>();
+        exportWorkflowsTransportAction.doExecute(
+            mock(Task.class),
+            new ExportWorkflowsRequest(null, 10, null, true),
+            ActionListener.wrap(r -> fail("Expected failure"), failure::set)
+        );
+        assertEquals(RestStatus.FORBIDDEN, ((FlowFrameworkException) failure.get()).getRestStatus());
+        verifyNoInteractions(searchHandler);
+    }
+
+    private ExportWorkflowsResponse export(ExportWorkflowsRequest request) {
+        AtomicReference<ExportWorkflowsResponse> responseRef = new AtomicReference<>();
+        exportWorkflowsTransportAction.doExecute(
+            mock(Task.class),
+            request,
+            ActionListener.wrap(responseRef::set, e -> fail(e.getMessage()))
+        );
+        return responseRef.get();
+    }
+
+    private void stubSearch(FlowFrameworkSearchResponse stateResponse, FlowFrameworkSearchResponse templateResponse) {
+        doAnswer(invocation -> {
+            SearchRequest request = invocation.getArgument(0);
+            ActionListener<FlowFrameworkSearchResponse> responseListener = invocation.getArgument(4);
+            if (WORKFLOW_STATE_INDEX.equals(request.indices()[0])) {
+                responseListener.onResponse(stateResponse);
+            } else {
+                assertEquals(GLOBAL_CONTEXT_INDEX, request.indices()[0]);
+                responseListener.onResponse(templateResponse);
+            }
+            return null;
+        }).when(searchHandler)
+            .search(
+                any(SearchRequest.class),
+                nullable(String.class),
+                any(),
+                anyBoolean(),
+                ArgumentMatchers.<ActionListener<FlowFrameworkSearchResponse>>any()
+            );
+    }
+
+    private static FlowFrameworkSearchResponse searchResponse(Map<String, ? extends ToXContent> sources, List<String> ids)
+        throws IOException {
+        XContentBuilder builder = XContentFactory.jsonBuilder().startObject();
+        builder.field("took", 1).field("timed_out", false);
+        builder.startObject("hits").startObject("total").field("value", ids.size()).field("relation", "eq").endObject();
+        builder.startArray("hits");
+        for (String id : ids) {
+            builder.startObject().field("_index", "index").field("_id", id).field("_source");
+            sources.get(id).toXContent(builder, ToXContent.EMPTY_PARAMS);
+            builder.endObject();
+        }
+        builder.endArray().endObject().endObject();
+        return new FlowFrameworkSearchResponse(BytesReference.bytes(builder), false);
+    }
+}
@@ -15,12 +15,14 @@ import org.opensearch.cluster.service.ClusterService;
 import org.opensearch.common.io.stream.BytesStreamOutput;
 import org.opensearch.common.settings.ClusterSettings;
 import org.opensearch.common.settings.Settings;
+import org.opensearch.common.unit.TimeValue;
 import org.opensearch.common.util.concurrent.ThreadContext;
 import org.opensearch.common.xcontent.XContentFactory;
 import org.opensearch.core.action.ActionListener;
 import org.opensearch.core.common.bytes.BytesReference;
 import org.opensearch.core.common.io.stream.NamedWriteableAwareStreamInput;
 import org.opensearch.core.common.io.stream.StreamInput;
+import org.opensearch.core.rest.RestStatus;
 import org.opensearch.core.xcontent.NamedXContentRegistry;
 import org.opensearch.core.xcontent.ToXContent;
 import org.opensearch.core.xcontent.XContentBuilder;
@@ -28,6 +30,7 @@ import org.opensearch.flowframework.TestHelpers;
 import org.opensearch.flowframework.common.FlowFrameworkSettings;
 import org.opensearch.flowframework.exception.FlowFrameworkException;
 import org.opensearch.flowframework.indices.FlowFrameworkIndicesHandler;
+import org.opensearch.flowframework.model.ResourceCreated;
 import org.opensearch.flowframework.model.WorkflowState;
 import org.opensearch.flowframework.util.EncryptorUtils;
 import org.opensearch.index.IndexNotFoundException;
@@ -36,6 +39,7 @@ import org.opensearch.remote.metadata.client.SdkClient;
 import org.opensearch.remote.metadata.client.impl.SdkClientFactory;
 import org.opensearch.tasks.Task;
 import org.opensearch.test.OpenSearchTestCase;
+import org.opensearch.threadpool.Scheduler;
 import org.opensearch.threadpool.ThreadPool;
 import org.opensearch.transport.TransportService;
 import org.opensearch.transport.client.Client;
@@ -43,16 +47,29 @@ import org.junit.Assert;
 
 import java.io.IOException;
 import java.time.Instant;
+import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Collections;
 import java.util.HashSet;
+import java.util.List;
 import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.stream.Collectors;
 
 import org.mockito.ArgumentCaptor;
 import org.mockito.Mockito;
 
 import static org.opensearch.flowframework.common.CommonValue.GLOBAL_CONTEXT_INDEX;
+import static org.opensearch.flowframework.common.CommonValue.NEXT_RESOURCES_CURSOR_FIELD;
+import static org.opensearch.flowframework.common.CommonValue.PROVISIONING_PROGRESS_FIELD;
+import static org.opensearch.flowframework.common.CommonValue.STATE_FIELD;
+import static org.opensearch.flowframework.common.CommonValue.WORKFLOW_ID_FIELD;
+import static org.opensearch.flowframework.common.CommonValue.WORKFLOW_STATE_INDEX;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.Mockito.doAnswer;
 import static org.mockito.Mockito.mock;
 import static org.mockito.Mockito.never;
@@ -88,7 +105,15 @@ public class GetWorkflowStateTransportActionTests extends OpenSearchTestCase {
         when(clusterService.getClusterSettings()).thenReturn(clusterSettings);
         this.encryptorUtils = new EncryptorUtils(mock(ClusterService.class), client, sdkClient, xContentRegistry, false);
         this.flowFrameworkIndicesHandler = spy(
-            new FlowFrameworkIndicesHandler(client, sdkClient, clusterService, encryptorUtils, xContentRegistry, false)
+            new FlowFrameworkIndicesHandler(
+                client,
+                sdkClient,
+                clusterService,
+                encryptorUtils,
+                flowFrameworkSettings,
+                xContentRegistry,
+                false
+            )
         );
 
         this.getWorkflowStateTransportAction = new GetWorkflowStateTransportAction(
@@ -140,7 +165,175 @@ public class GetWorkflowStateTransportActionTests extends OpenSearchTestCase {
         GetWorkflowStateRequest newRequest = new GetWorkflowStateRequest(input);
         Assert.assertEquals(request.getWorkflowId(), newRequest.getWorkflowId());
         Assert.assertEquals(request.getAll(), newRequest.getAll());
+        Assert.assertEquals(TimeValue.MINUS_ONE, newRequest.getWaitForChangeTimeout());
         Assert.assertNull(newRequest.validate());
+
+        request = new GetWorkflowStateRequest("1234", true, null, TimeValue.timeValueSeconds(30), Set.of(STATE_FIELD), 10, 20, "step_9");
+        out = new BytesStreamOutput();
+        request.writeTo(out);
+        newRequest = new GetWorkflowStateRequest(out.bytes().streamInput());
+        Assert.assertEquals(TimeValue.timeValueSeconds(30), newRequest.getWaitForChangeTimeout());
+        Assert.assertEquals(Set.of(STATE_FIELD), newRequest.getFields());
+        Assert.assertEquals(10, newRequest.getResourcesFrom());
+        Assert.assertEquals(20, newRequest.getResourcesSize());
+        Assert.assertEquals("step_9", newRequest.getResourcesAfter());
+    }
+
+    public void testWaitForStateChange() throws IOException {
+        String workflowId = "test-workflow";
+        AtomicReference<WorkflowState> currentState = new AtomicReference<>(
+            WorkflowState.builder().workflowId(workflowId).state("PROVISIONING").provisioningProgress("IN_PROGRESS").build()
+        );
+        stubWorkflowStateGet(currentState);
+        Scheduler.ScheduledCancellable timeoutTask = mock(Scheduler.ScheduledCancellable.class);
+        Scheduler.ScheduledCancellable pollTask = mock(Scheduler.ScheduledCancellable.class);
+        when(client.threadPool().schedule(any(Runnable.class), eq(TimeValue.timeValueSeconds(30)), anyString())).thenReturn(timeoutTask);
+        when(
+            client.threadPool()
+                .schedule(any(Runnable.class), eq(GetWorkflowStateTransportAction.WAIT_FOR_CHANGE_POLL_INTERVAL), anyString())
+        ).thenReturn(pollTask);
+
+        @SuppressWarnings("unchecked")
+        ActionListener<GetWorkflowStateResponse> listener = mock(ActionListener.class);
+        GetWorkflowStateRequest request = new GetWorkflowStateRequest(workflowId, false, null, TimeValue.timeValueSeconds(30));
+        getWorkflowStateTransportAction.doExecute(null, request, listener);
+        verify(listener, never()).onResponse(any(GetWorkflowStateResponse.class));
+        assertEquals(1, flowFrameworkIndicesHandler.getStateChangeNotifier().getWaitingCount());
+
+        // A write which does not change the state keeps waiting
+        flowFrameworkIndicesHandler.getStateChangeNotifier().notifyChanged(workflowId, null);
+        verify(listener, never()).onResponse(any(GetWorkflowStateResponse.class));
+        assertEquals(1, flowFrameworkIndicesHandler.getStateChangeNotifier().getWaitingCount());
+
+        currentState.set(WorkflowState.builder().workflowId(workflowId).state("COMPLETED").provisioningProgress("DONE").build());
+        flowFrameworkIndicesHandler.getStateChangeNotifier().notifyChanged(workflowId, null);
+
+        ArgumentCaptor<GetWorkflowStateResponse> responseCaptor = ArgumentCaptor.forClass(GetWorkflowStateResponse.class);
+        verify(listener, times(1)).onResponse(responseCaptor.capture());
+        assertEquals("COMPLETED", responseCaptor.getValue().getWorkflowState().getState());
+        verify(timeoutTask, times(1)).cancel();
+        verify(pollTask, times(1)).cancel();
+        assertEquals(0, flowFrameworkIndicesHandler.getStateChangeNotifier().getWaitingCount());
+    }
+
+    public void testWaitForStateChangeTimeout() throws IOException {
+        String workflowId = "test-workflow";
+        AtomicReference<WorkflowState> currentState = new AtomicReference<>(
+            WorkflowState.builder().workflowId(workflowId).state("PROVISIONING").provisioningProgress("IN_PROGRESS").build()
+        );
+        stubWorkflowStateGet(currentState);
+        ArgumentCaptor<Runnable> timeoutCaptor = ArgumentCaptor.forClass(Runnable.class);
+        when(client.threadPool().schedule(timeoutCaptor.capture(), eq(TimeValue.timeValueSeconds(30)), anyString())).thenReturn(
+            mock(Scheduler.ScheduledCancellable.class)
+        );
+        when(
+            client.threadPool()
+                .schedule(any(Runnable.class), eq(GetWorkflowStateTransportAction.WAIT_FOR_CHANGE_POLL_INTERVAL), anyString())
+        ).thenReturn(mock(Scheduler.ScheduledCancellable.class));
+
+        @SuppressWarnings("unchecked")
+        ActionListener<GetWorkflowStateResponse> listener = mock(ActionListener.class);
+        GetWorkflowStateRequest request = new GetWorkflowStateRequest(workflowId, false, null, TimeValue.timeValueSeconds(30));
+        getWorkflowStateTransportAction.doExecute(null, request, listener);
+        verify(listener, never()).onResponse(any(GetWorkflowStateResponse.class));
+
+        // The workflow finished on another node, so no local notification arrives before the timeout
+        currentState.set(WorkflowState.builder().workflowId(workflowId).state("FAILED").provisioningProgress("FAILED").build());
+        timeoutCaptor.getValue().run();
+
+        ArgumentCaptor<GetWorkflowStateResponse> responseCaptor = ArgumentCaptor.forClass(GetWorkflowStateResponse.class);
+        verify(listener, times(1)).onResponse(responseCaptor.capture());
+        assertEquals("FAILED", responseCaptor.getValue().getWorkflowState().getState());
+        assertEquals(0, flowFrameworkIndicesHandler.getStateChangeNotifier().getWaitingCount());
+    }
+
+    public void testWaitForStateChangePollsRemoteChange() throws IOException {
+        String workflowId = "test-workflow";
+        AtomicReference<WorkflowState> currentState = new AtomicReference<>(
+            WorkflowState.builder().workflowId(workflowId).state("PROVISIONING").provisioningProgress("IN_PROGRESS").build()
+        );
+        stubWorkflowStateGet(currentState);
+        Scheduler.ScheduledCancellable timeoutTask = mock(Scheduler.ScheduledCancellable.class);
+        when(client.threadPool().schedule(any(Runnable.class), eq(TimeValue.timeValueSeconds(30)), anyString())).thenReturn(timeoutTask);
+        ArgumentCaptor<Runnable> pollCaptor = ArgumentCaptor.forClass(Runnable.class);
+        when(
+            client.threadPool()
+                .schedule(pollCaptor.capture(), eq(GetWorkflowStateTransportAction.WAIT_FOR_CHANGE_POLL_INTERVAL), anyString())
+        ).thenReturn(mock(Scheduler.ScheduledCancellable.class));
+
+        @SuppressWarnings("unchecked")
+        ActionListener<GetWorkflowStateResponse> listener = mock(ActionListener.class);
+        GetWorkflowStateRequest request = new GetWorkflowStateRequest(workflowId, false, null, TimeValue.timeValueSeconds(30));
+        getWorkflowStateTransportAction.doExecute(null, request, listener);
+
+        // An unchanged poll schedules the next one
+        pollCaptor.getValue().run();
+        verify(listener, never()).onResponse(any(GetWorkflowStateResponse.class));
+        assertEquals(2, pollCaptor.getAllValues().size());
+
+        // The workflow finished on another node, which the next poll observes before the timeout
+        currentState.set(WorkflowState.builder().workflowId(workflowId).state("COMPLETED").provisioningProgress("DONE").build());
+        pollCaptor.getValue().run();
+
+        ArgumentCaptor<GetWorkflowStateResponse> responseCaptor = ArgumentCaptor.forClass(GetWorkflowStateResponse.class);
+        verify(listener, times(1)).onResponse(responseCaptor.capture());
+        assertEquals("COMPLETED", responseCaptor.getValue().getWorkflowState().getState());
+        verify(timeoutTask, times(1)).cancel();
+        assertEquals(2, pollCaptor.getAllValues().size());
+        assertEquals(0, flowFrameworkIndicesHandler.getStateChangeNotifier().getWaitingCount());
+    }
+
+    public void testWaitForStateChangeDuringInitialFetch() throws IOException {
+        String workflowId = "test-workflow";
+        AtomicReference<WorkflowState> currentState = new AtomicReference<>(
+            WorkflowState.builder().workflowId(workflowId).state("PROVISIONING").provisioningProgress("IN_PROGRESS").build()
+        );
+        WorkflowState completedState = WorkflowState.builder()
+            .workflowId(workflowId)
+            .state("COMPLETED")
+            .provisioningProgress("DONE")
+            .build();
+        when(client.threadPool().schedule(any(Runnable.class), any(TimeValue.class), anyString())).thenReturn(
+            mock(Scheduler.ScheduledCancellable.class)
+        );
+        // A local write lands after the initial state is read but before the wait starts
+        AtomicBoolean notified = new AtomicBoolean(false);
+        doAnswer(invocation -> {
+            ActionListener<GetResponse> responseListener = invocation.getArgument(1);
+            GetResponse getResponse = getResponse(currentState.get());
+            if (!notified.getAndSet(true)) {
+                currentState.set(completedState);
+                flowFrameworkIndicesHandler.getStateChangeNotifier().notifyChanged(workflowId, null);
+            }
+            responseListener.onResponse(getResponse);
+            return null;
+        }).when(client).get(any(GetRequest.class), any());
+
+        @SuppressWarnings("unchecked")
+        ActionListener<GetWorkflowStateResponse> listener = mock(ActionListener.class);
+        GetWorkflowStateRequest request = new GetWorkflowStateRequest(workflowId, false, null, TimeValue.timeValueSeconds(30));
+        getWorkflowStateTransportAction.doExecute(null, request, listener);
+
+        ArgumentCaptor<GetWorkflowStateResponse> responseCaptor = ArgumentCaptor.forClass(GetWorkflowStateResponse.class);
+        verify(listener, times(1)).onResponse(responseCaptor.capture());
+        assertEquals("COMPLETED", responseCaptor.getValue().getWorkflowState().getState());
+        assertEquals(0, flowFrameworkIndicesHandler.getStateChangeNotifier().getWaitingCount());
+    }
+
+    private void stubWorkflowStateGet(AtomicReference<WorkflowState> currentState) {
+        doAnswer(invocation -> {
+            ActionListener<GetResponse> responseListener = invocation.getArgument(1);
+            responseListener.onResponse(getResponse(currentState.get()));
+            return null;
+        }).when(client).get(any(GetRequest.class), any());
+    }
+
+    private static GetResponse getResponse(WorkflowState state) throws IOException {
+        XContentBuilder builder = XContentFactory.jsonBuilder();
+        state.toXContent(builder, ToXContent.EMPTY_PARAMS);
+        return new GetResponse(
+            new GetResult(WORKFLOW_STATE_INDEX, state.getWorkflowId(), 1, 1, 1, true, BytesReference.bytes(builder), null, null)
+        );
     }
 
     public void testGetWorkflowStateResponse() throws IOException {
@@ -172,6 +365,144 @@ public class GetWorkflowStateTransportActionTests extends OpenSearchTestCase {
         Assert.assertEquals(map.get("workflow_id"), workFlowState.getWorkflowId());
     }
 
+    public void testPaginatedGetWorkflowStateResponse() throws IOException {
+        List<ResourceCreated> resourcesCreated = new ArrayList<>();
+        for (int i = 0; i < 5; i++) {
+            resourcesCreated.add(new ResourceCreated("create_index", "step_" + i, "index_name", "index_" + i));
+        }
+        WorkflowState workflowState = WorkflowState.builder()
+            .workflowId("test-workflow")
+            .state("COMPLETED")
+            .provisioningProgress("DONE")
+            .resourcesCreated(resourcesCreated)
+            .build();
+
+        List<String> resourceIds = new ArrayList<>();
+        int resourcesFrom = 0;
+        String resourcesAfter = null;
+        int pages = 0;
+        String cursor;
+        do {
+            GetWorkflowStateRequest request = new GetWorkflowStateRequest(
+                "test-workflow",
+                false,
+                null,
+                TimeValue.MINUS_ONE,
+                null,
+                resourcesFrom,
+                2,
+                resourcesAfter
+            );
+            GetWorkflowStateResponse response = GetWorkflowStateTransportAction.createResponse(request, workflowState);
+            assertTrue(response.getWorkflowState().resourcesCreated().size() <= 2);
+            response.getWorkflowState().resourcesCreated().forEach(r -> resourceIds.add(r.resourceId()));
+            cursor = response.getNextResourcesCursor();
+            if (cursor != null) {
+                XContentBuilder builder = TestHelpers.builder();
+                response.toXContent(builder, ToXContent.EMPTY_PARAMS);
+                assertEquals(cursor, TestHelpers.XContentBuilderToMap(builder).get(NEXT_RESOURCES_CURSOR_FIELD));
+                resourcesFrom = GetWorkflowStateRequest.decodeResourcesCursor(cursor);
+                resourcesAfter = GetWorkflowStateRequest.decodeResourcesCursorKey(cursor);
+            }
+            pages++;
+        } while (cursor != null);
+        assertEquals(3, pages);
+        assertEquals(List.of("index_0", "index_1", "index_2", "index_3", "index_4"), resourceIds);
+
+        // Removing resources of an earlier page does not skip any of the next page
+        GetWorkflowStateRequest firstPageRequest = new GetWorkflowStateRequest(
+            "test-workflow",
+            false,
+            null,
+            TimeValue.MINUS_ONE,
+            null,
+            0,
+            2
+        );
+        cursor = GetWorkflowStateTransportAction.createResponse(firstPageRequest, workflowState).getNextResourcesCursor();
+        WorkflowState deprovisionedState = WorkflowState.builder(workflowState)
+            .resourcesCreated(resourcesCreated.subList(1, resourcesCreated.size()))
+            .build();
+        GetWorkflowStateRequest nextPageRequest = new GetWorkflowStateRequest(
+            "test-workflow",
+            false,
+            null,
+            TimeValue.MINUS_ONE,
+            null,
+            GetWorkflowStateRequest.decodeResourcesCursor(cursor),
+            2,
+            GetWorkflowStateRequest.decodeResourcesCursorKey(cursor)
+        );
+        assertEquals(
+            List.of("index_2", "index_3"),
+            GetWorkflowStateTransportAction.createResponse(nextPageRequest, deprovisionedState)
+                .getWorkflowState()
+                .resourcesCreated()
+                .stream()
+                .map(ResourceCreated::resourceId)
+                .collect(Collectors.toList())
+        );
+
+        // Projection keeps only the requested fields
+        GetWorkflowStateRequest request = new GetWorkflowStateRequest(
+            "test-workflow",
+            false,
+            null,
+            TimeValue.MINUS_ONE,
+            Set.of(PROVISIONING_PROGRESS_FIELD),
+            0,
+            -1
+        );
+        GetWorkflowStateResponse response = GetWorkflowStateTransportAction.createResponse(request, workflowState);
+        assertEquals("DONE", response.getWorkflowState().getProvisioningProgress());
+        assertNull(response.getWorkflowState().getState());
+        assertTrue(response.getWorkflowState().resourcesCreated().isEmpty());
+        assertNull(response.getNextResourcesCursor());
+
+        FlowFrameworkException exception = expectThrows(
+            FlowFrameworkException.class,
+            () -> GetWorkflowStateRequest.decodeResourcesCursor("not a cursor")
+        );
+        assertEquals(RestStatus.BAD_REQUEST, exception.getRestStatus());
+    }
+
+    public void testProjectedGetWorkflowStateRequest() throws IOException {
+        AtomicReference<GetRequest> capturedRequest = new AtomicReference<>();
+        doAnswer(invocation -> {
+            capturedRequest.set(invocation.getArgument(0));
+            ActionListener<GetResponse> responseListener = invocation.getArgument(1);
+            XContentBuilder builder = XContentFactory.jsonBuilder()
+                .startObject()
+                .field(WORKFLOW_ID_FIELD, "test-workflow")
+                .field(STATE_FIELD, "COMPLETED")
+                .endObject();
+            BytesReference source = BytesReference.bytes(builder);
+            GetResult getResult = new GetResult(WORKFLOW_STATE_INDEX, "test-workflow", 1, 1, 1, true, source, null, null);
+            responseListener.onResponse(new GetResponse(getResult));
+            return null;
+        }).when(client).get(any(GetRequest.class), any());
+
+        @SuppressWarnings("unchecked")
+        ActionListener<GetWorkflowStateResponse> listener = mock(ActionListener.class);
+        GetWorkflowStateRequest request = new GetWorkflowStateRequest(
+            "test-workflow",
+            false,
+            null,
+            TimeValue.MINUS_ONE,
+            Set.of(STATE_FIELD),
+            0,
+            -1
+        );
+        getWorkflowStateTransportAction.doExecute(null, request, listener);
+
+        // The projection is pushed down to source filtering
+        Set<String> includes = Set.of(capturedRequest.get().fetchSourceContext().includes());
+        assertEquals(Set.of(WORKFLOW_ID_FIELD, STATE_FIELD), includes);
+        ArgumentCaptor<GetWorkflowStateResponse> responseCaptor = ArgumentCaptor.forClass(GetWorkflowStateResponse.class);
+        verify(listener, times(1)).onResponse(responseCaptor.capture());
+        assertEquals("COMPLETED", responseCaptor.getValue().getWorkflowState().getState());
+    }
+
     public void testExecuteGetWorkflowStateRequestFailure() throws IOException {
         String workflowId = "test-workflow";
         GetWorkflowStateRequest request = new GetWorkflowStateRequest(workflowId, false, null);
@@ -83,7 +83,15 @@ public class GetWorkflowTransportActionTests extends OpenSearchTestCase {
         );
         when(clusterService.getClusterSettings()).thenReturn(clusterSettings);
         this.flowFrameworkIndicesHandler = spy(
-            new FlowFrameworkIndicesHandler(client, sdkClient, clusterService, encryptorUtils, xContentRegistry, false)
+            new FlowFrameworkIndicesHandler(
+                client,
+                sdkClient,
+                clusterService,
+                encryptorUtils,
+                flowFrameworkSettings,
+                xContentRegistry,
+                false
+            )
         );
 
         this.getTemplateTransportAction = new GetWorkflowTransportAction(
@@ -0,0 +1,264 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * The OpenSearch Contributors require contributions made to
+ * this file be licensed under the Apache-2.0 license or a
+ * compatible open source license.
+ */
+package org.opensearch.flowframework.transport;
+
+import org.opensearch.Version;
+import org.opensearch.action.support.ActionFilters;
+import org.opensearch.action.support.PlainActionFuture;
+import org.opensearch.cluster.service.ClusterService;
+import org.opensearch.common.settings.ClusterSettings;
+import org.opensearch.common.settings.Settings;
+import org.opensearch.common.unit.TimeValue;
+import org.opensearch.common.xcontent.XContentFactory;
+import org.opensearch.commons.ConfigConstants;
+import org.opensearch.core.action.ActionListener;
+import org.opensearch.core.common.bytes.BytesArray;
+import org.opensearch.core.common.bytes.BytesReference;
+import org.opensearch.core.rest.RestStatus;
+import org.opensearch.core.xcontent.ToXContent;
+import org.opensearch.core.xcontent.XContentBuilder;
+import org.opensearch.flowframework.common.FlowFrameworkSettings;
+import org.opensearch.flowframework.exception.FlowFrameworkException;
+import org.opensearch.flowframework.indices.FlowFrameworkIndicesHandler;
+import org.opensearch.flowframework.model.Template;
+import org.opensearch.flowframework.model.Workflow;
+import org.opensearch.flowframework.model.WorkflowNode;
+import org.opensearch.flowframework.model.WorkflowState;
+import org.opensearch.flowframework.transport.ImportWorkflowsResponse.ImportItem;
+import org.opensearch.flowframework.util.EncryptorUtils;
+import org.opensearch.flowframework.workflow.WorkflowProcessSorter;
+import org.opensearch.plugins.PluginsService;
+import org.opensearch.tasks.Task;
+import org.opensearch.test.OpenSearchTestCase;
+import org.opensearch.threadpool.ScalingExecutorBuilder;
+import org.opensearch.threadpool.TestThreadPool;
+import org.opensearch.threadpool.ThreadPool;
+import org.opensearch.transport.TransportService;
+import org.opensearch.transport.client.Client;
+
+import java.io.IOException;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.stream.Collectors;
+
+import static org.opensearch.flowframework.common.CommonValue.FLOW_FRAMEWORK_THREAD_POOL_PREFIX;
+import static org.opensearch.flowframework.common.CommonValue.GLOBAL_CONTEXT_INDEX;
+import static org.opensearch.flowframework.common.CommonValue.WORKFLOW_STATE_INDEX;
+import static org.opensearch.flowframework.common.CommonValue.WORKFLOW_THREAD_POOL;
+import static org.opensearch.flowframework.common.FlowFrameworkSettings.FILTER_BY_BACKEND_ROLES;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyBoolean;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.anyMap;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.isNull;
+import static org.mockito.ArgumentMatchers.nullable;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.verifyNoInteractions;
+import static org.mockito.Mockito.when;
+
+public class ImportWorkflowsTransportActionTests extends OpenSearchTestCase {
+
+    private TestThreadPool threadPool;
+    private Client client;
+    private FlowFrameworkIndicesHandler flowFrameworkIndicesHandler;
+    private EncryptorUtils encryptorUtils;
+    private ImportWorkflowsTransportAction importWorkflowsTransportAction;
+    private Map<String, Map<String, Object>> written;
+
+    @Override
+    public void setUp() throws Exception {
+        super.setUp();
+        threadPool = new TestThreadPool(
+            ImportWorkflowsTransportActionTests.class.getName(),
+            new ScalingExecutorBuilder(
+                WORKFLOW_THREAD_POOL,
+                1,
+                4,
+                TimeValue.timeValueMinutes(5),
+                FLOW_FRAMEWORK_THREAD_POOL_PREFIX + WORKFLOW_THREAD_POOL
+            )
+        );
+        client = mock(Client.class);
+        when(client.threadPool()).thenReturn(threadPool);
+        ClusterService clusterService = mock(ClusterService.class);
+        when(clusterService.getClusterSettings()).thenReturn(new ClusterSettings(Settings.EMPTY, Set.of(FILTER_BY_BACKEND_ROLES)));
+        FlowFrameworkSettings flowFrameworkSettings = mock(FlowFrameworkSettings.class);
+        when(flowFrameworkSettings.isMultiTenancyEnabled()).thenReturn(false);
+
+        flowFrameworkIndicesHandler = mock(FlowFrameworkIndicesHandler.class);
+        doAnswer(invocation -> {
+            ActionListener<Boolean> listener = invocation.getArgument(1);
+            listener.onResponse(true);
+            return null;
+        }).when(flowFrameworkIndicesHandler).initializeConfigIndex(nullable(String.class), any());
+        doAnswer(invocation -> {
+            ActionListener<Boolean> listener = invocation.getArgument(0);
+            listener.onResponse(true);
+            return null;
+        }).when(flowFrameworkIndicesHandler).initGlobalContextIndexIfAbsent(any());
+        doAnswer(invocation -> {
+            ActionListener<Boolean> listener = invocation.getArgument(0);
+            listener.onResponse(true);
+            return null;
+        }).when(flowFrameworkIndicesHandler).initWorkflowStateIndexIfAbsent(any());
+        written = new ConcurrentHashMap<>();
+        doAnswer(invocation -> {
+            String index = invocation.getArgument(0);
+            Map<String, Object> documents = invocation.getArgument(2);
+            boolean overwrite = invocation.getArgument(3);
+            ActionListener<Map<String, Exception>> listener = invocation.getArgument(4);
+            written.put(index, documents);
+            if (!overwrite && GLOBAL_CONTEXT_INDEX.equals(index) && documents.containsKey("existing")) {
+                listener.onResponse(Map.of("existing", new FlowFrameworkException("version conflict", RestStatus.CONFLICT)));
+            } else {
+                listener.onResponse(Collections.emptyMap());
+            }
+            return null;
+        }).when(flowFrameworkIndicesHandler).bulkPutWorkflowDocuments(anyString(), nullable(String.class), anyMap(), anyBoolean(), any());
+
+        encryptorUtils = mock(EncryptorUtils.class);
+        when(encryptorUtils.encryptTemplateCredentials(anyList(), isNull())).thenAnswer(invocation -> {
+            List<Template> templates = invocation.getArgument(0);
+            return templates.stream().map(t -> Template.builder(t).description("encrypted").build()).collect(Collectors.toList());
+        });
+
+        WorkflowProcessSorter workflowProcessSorter = mock(WorkflowProcessSorter.class);
+        when(workflowProcessSorter.sortProcessNodes(any(Workflow.class), isNull(), anyMap(), nullable(String.class))).thenAnswer(
+            invocation -> {
+                Workflow workflow = invocation.getArgument(0);
+                if ("invalid".equals(workflow.nodes().get(0).type())) {
+                    throw new FlowFrameworkException("invalid step", RestStatus.BAD_REQUEST);
+                }
+                return Collections.emptyList();
+            }
+        );
+
+        importWorkflowsTransportAction = new ImportWorkflowsTransportAction(
+            mock(TransportService.class),
+            mock(ActionFilters.class),
+            flowFrameworkIndicesHandler,
+            workflowProcessSorter,
+            encryptorUtils,
+            flowFrameworkSettings,
+            mock(PluginsService.class),
+            threadPool,
+            clusterService,
+            client,
+            Settings.builder().put("node.processors", 2).build()
+        );
+    }
+
+    @Override
+    public void tearDown() throws Exception {
+        ThreadPool.terminate(threadPool, 500, TimeUnit.MILLISECONDS);
+        super.tearDown();
+    }
+
+    public void testImport() throws Exception {
+        WorkflowState state = WorkflowState.builder().workflowId("wf1").state("COMPLETED").provisioningProgress("DONE").build();
+        String content = line("wf1", template("create_connector"), state)
+            + "\n"
+            + line("wf2", template("invalid"), null)
+            + "\n"
+            + "{\"workflow_id\":\"wf3\"\n"
+            + line("existing", template("create_connector"), null)
+            + "\n"
+            + line("wf1", template("create_connector"), null)
+            + "\n"
+            + line("wf4", template("create_connector"), null)
+            + "\n";
+
+        List<ImportItem> items = importWorkflows(new ImportWorkflowsRequest(null, new BytesArray(content), true, false, false)).getItems();
+        assertEquals(6, items.size());
+        assertEquals(RestStatus.CREATED, items.get(0).getStatus());
+        assertEquals(RestStatus.BAD_REQUEST, items.get(1).getStatus());
+        assertTrue(items.get(1).getError().contains("invalid step"));
+        assertEquals(RestStatus.BAD_REQUEST, items.get(2).getStatus());
+        assertNull(items.get(2).getWorkflowId());
+        assertEquals(RestStatus.CONFLICT, items.get(3).getStatus());
+        assertEquals(RestStatus.CONFLICT, items.get(4).getStatus());
+        assertEquals("Duplicate workflow id in request", items.get(4).getError());
+        assertEquals(RestStatus.CREATED, items.get(5).getStatus());
+
+        assertEquals(Set.of("wf1", "existing", "wf4"), written.get(GLOBAL_CONTEXT_INDEX).keySet());
+        assertEquals("encrypted", ((Template) written.get(GLOBAL_CONTEXT_INDEX).get("wf4")).description());
+        // The state of a workflow whose template conflicted is not written
+        assertEquals(Set.of("wf1", "wf4"), written.get(WORKFLOW_STATE_INDEX).keySet());
+        assertEquals("COMPLETED", ((WorkflowState) written.get(WORKFLOW_STATE_INDEX).get("wf1")).getState());
+        WorkflowState defaultState = (WorkflowState) written.get(WORKFLOW_STATE_INDEX).get("wf4");
+        assertEquals("NOT_STARTED", defaultState.getState());
+        assertEquals("wf4", defaultState.getWorkflowId());
+    }
+
+    public void testImportWithoutValidationOrEncryption() throws Exception {
+        String content = line("wf1", template("invalid"), null) + "\n" + line("existing", template("create_connector"), null);
+
+        List<ImportItem> items = importWorkflows(new ImportWorkflowsRequest(null, new BytesArray(content), false, true, true)).getItems();
+        assertEquals(2, items.size());
+        assertEquals(RestStatus.CREATED, items.get(0).getStatus());
+        assertEquals(RestStatus.CREATED, items.get(1).getStatus());
+        assertEquals("test", ((Template) written.get(GLOBAL_CONTEXT_INDEX).get("wf1")).description());
+        verifyNoInteractions(encryptorUtils);
+    }
+
+    public void testOverwriteRequiresAdmin() throws Exception {
+        threadPool.getThreadContext()
+            .putTransient(ConfigConstants.OPENSEARCH_SECURITY_USER_INFO_THREAD_CONTEXT, "alice|odfe,aes|engineering,operations");
+        String content = line("wf1", template("create_connector"), null);
+        for (ImportWorkflowsRequest request : List.of(
+            new ImportWorkflowsRequest(null, new BytesArray(content), true, true, false),
+            new ImportWorkflowsRequest(null, new BytesArray(content), true, false, true)
+        )) {
+            AtomicReference<Exception> failure = new AtomicReference<>();
+            importWorkflowsTransportAction.doExecute(
+                mock(Task.class),
+                request,
+                ActionListener.wrap(r -> fail("Expected failure"), failure::set)
+            );
+            assertEquals(RestStatus.FORBIDDEN, ((FlowFrameworkException) failure.get()).getRestStatus());
+        }
+        verifyNoInteractions(flowFrameworkIndicesHandler);
+    }
+
+    private ImportWorkflowsResponse importWorkflows(ImportWorkflowsRequest request) {
+        PlainActionFuture<ImportWorkflowsResponse> future = PlainActionFuture.newFuture();
+        importWorkflowsTransportAction.doExecute(mock(Task.class), request, future);
+        return future.actionGet(10, TimeUnit.SECONDS);
+    }
+
+    private static Template template(String stepType) {
+        WorkflowNode node = new WorkflowNode("step", stepType, Collections.emptyMap(), Map.of("name", "connector"));
+        return Template.builder()
+            .name("test")
+            .description("test")
+            .useCase("semantic_search")
+            .templateVersion(Version.fromString("1.0.0"))
+            .workflows(Map.of("provision", new Workflow(Collections.emptyMap(), List.of(node), Collections.emptyList())))
+            .build();
+    }
+
+    private static String line(String workflowId, Template template, WorkflowState state) throws IOException {
+        XContentBuilder builder = XContentFactory.jsonBuilder().startObject();
+        builder.field(ExportWorkflowsResponse.WORKFLOW_ID_FIELD, workflowId);
+        builder.field(ExportWorkflowsResponse.TEMPLATE_FIELD);
+        template.toXContent(builder, ToXContent.EMPTY_PARAMS);
+        if (state != null) {
+            builder.field(ExportWorkflowsResponse.STATE_FIELD);
+            state.toXContent(builder, ToXContent.EMPTY_PARAMS);
+        }
+        return BytesReference.bytes(builder.endObject()).utf8ToString();
+    }
+}
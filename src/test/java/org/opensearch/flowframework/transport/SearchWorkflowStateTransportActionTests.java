@@ -62,24 +62,24 @@ public class SearchWorkflowStateTransportActionTests extends OpenSearchTestCase
 
     public void testSearchWorkflow() {
         @SuppressWarnings("unchecked")
-        ActionListener<SearchResponse> listener = mock(ActionListener.class);
+        ActionListener<FlowFrameworkSearchResponse> listener = mock(ActionListener.class);
         SearchRequest searchRequest = new SearchRequest();
         SearchSourceBuilder searchSourceBuilder = new SearchSourceBuilder();
         searchRequest.source(searchSourceBuilder);
 
         doAnswer(invocation -> {
             SearchRequest request = invocation.getArgument(0);
-            ActionListener<SearchResponse> responseListener = invocation.getArgument(3);
+            ActionListener<FlowFrameworkSearchResponse> responseListener = invocation.getArgument(3);
             ThreadContext.StoredContext storedContext = mock(ThreadContext.StoredContext.class);
             searchHandler.validateRole(request, null, null, null, responseListener, storedContext);
-            responseListener.onResponse(mock(SearchResponse.class));
+            responseListener.onResponse(mock(FlowFrameworkSearchResponse.class));
             return null;
         }).when(searchHandler)
             .search(
                 any(SearchRequest.class),
                 nullable(String.class),
                 eq(CommonValue.WORKFLOW_STATE_RESOURCE_TYPE),
-                ArgumentMatchers.<ActionListener<SearchResponse>>any()
+                ArgumentMatchers.<ActionListener<FlowFrameworkSearchResponse>>any()
             );
 
         doAnswer(invocation -> {
@@ -93,7 +93,7 @@ public class SearchWorkflowStateTransportActionTests extends OpenSearchTestCase
             any(SearchRequest.class),
             nullable(String.class),
             eq(CommonValue.WORKFLOW_STATE_RESOURCE_TYPE),
-            ArgumentMatchers.<ActionListener<SearchResponse>>any()
+            ArgumentMatchers.<ActionListener<FlowFrameworkSearchResponse>>any()
         );
     }
 
@@ -15,6 +15,7 @@ import org.opensearch.common.settings.Settings;
 import org.opensearch.common.util.concurrent.ThreadContext;
 import org.opensearch.core.action.ActionListener;
 import org.opensearch.flowframework.common.CommonValue;
+import org.opensearch.flowframework.indices.FlowFrameworkIndicesHandler;
 import org.opensearch.flowframework.transport.handler.SearchHandler;
 import org.opensearch.search.builder.SearchSourceBuilder;
 import org.opensearch.tasks.Task;
@@ -40,12 +41,14 @@ public class SearchWorkflowTransportActionTests extends OpenSearchTestCase {
     private ThreadPool threadPool;
     ThreadContext threadContext;
     private SearchHandler searchHandler;
+    private FlowFrameworkIndicesHandler flowFrameworkIndicesHandler;
 
     @Override
     public void setUp() throws Exception {
         super.setUp();
         this.client = mock(Client.class);
         searchHandler = mock(SearchHandler.class);
+        flowFrameworkIndicesHandler = mock(FlowFrameworkIndicesHandler.class);
         this.threadPool = mock(ThreadPool.class);
         Settings settings = Settings.builder().build();
         threadContext = new ThreadContext(settings);
@@ -54,7 +57,8 @@ public class SearchWorkflowTransportActionTests extends OpenSearchTestCase {
         this.searchWorkflowTransportAction = new SearchWorkflowTransportAction(
             mock(TransportService.class),
             mock(ActionFilters.class),
-            searchHandler
+            searchHandler,
+            flowFrameworkIndicesHandler
         );
 
     }
@@ -66,24 +70,24 @@ public class SearchWorkflowTransportActionTests extends OpenSearchTestCase {
         when(threadPool.getThreadContext()).thenReturn(threadContext);
 
         @SuppressWarnings("unchecked")
-        ActionListener<SearchResponse> listener = mock(ActionListener.class);
+        ActionListener<FlowFrameworkSearchResponse> listener = mock(ActionListener.class);
         SearchRequest searchRequest = new SearchRequest();
         SearchSourceBuilder searchSourceBuilder = new SearchSourceBuilder();
         searchRequest.source(searchSourceBuilder);
 
         doAnswer(invocation -> {
             SearchRequest request = invocation.getArgument(0);
-            ActionListener<SearchResponse> responseListener = invocation.getArgument(3);
+            ActionListener<FlowFrameworkSearchResponse> responseListener = invocation.getArgument(3);
             ThreadContext.StoredContext storedContext = mock(ThreadContext.StoredContext.class);
             searchHandler.validateRole(request, null, null, null, responseListener, storedContext);
-            responseListener.onResponse(mock(SearchResponse.class));
+            responseListener.onResponse(mock(FlowFrameworkSearchResponse.class));
             return null;
         }).when(searchHandler)
             .search(
                 any(SearchRequest.class),
                 nullable(String.class),
                 eq(CommonValue.WORKFLOW_RESOURCE_TYPE),
-                ArgumentMatchers.<ActionListener<SearchResponse>>any()
+                ArgumentMatchers.<ActionListener<FlowFrameworkSearchResponse>>any()
             );
 
         doAnswer(invocation -> {
@@ -97,8 +101,10 @@ public class SearchWorkflowTransportActionTests extends OpenSearchTestCase {
             any(SearchRequest.class),
             nullable(String.class),
             eq(CommonValue.WORKFLOW_RESOURCE_TYPE),
-            ArgumentMatchers.<ActionListener<SearchResponse>>any()
+            ArgumentMatchers.<ActionListener<FlowFrameworkSearchResponse>>any()
         );
+        // Search hits referencing shared workflows are resolved before responding
+        verify(flowFrameworkIndicesHandler).resolveSearchResponseReferences(any(), any(), nullable(String.class), any());
     }
 
 }
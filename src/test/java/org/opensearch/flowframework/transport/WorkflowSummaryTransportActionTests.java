@@ -0,0 +1,160 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * The OpenSearch Contributors require contributions made to
+ * this file be licensed under the Apache-2.0 license or a
+ * compatible open source license.
+ */
+package org.opensearch.flowframework.transport;
+
+import org.opensearch.action.search.SearchRequest;
+import org.opensearch.action.support.ActionFilters;
+import org.opensearch.common.settings.Settings;
+import org.opensearch.common.unit.TimeValue;
+import org.opensearch.common.util.concurrent.ThreadContext;
+import org.opensearch.core.action.ActionListener;
+import org.opensearch.core.common.bytes.BytesArray;
+import org.opensearch.core.xcontent.ToXContent;
+import org.opensearch.flowframework.common.FlowFrameworkSettings;
+import org.opensearch.flowframework.transport.handler.SearchHandler;
+import org.opensearch.index.IndexNotFoundException;
+import org.opensearch.tasks.Task;
+import org.opensearch.test.OpenSearchTestCase;
+import org.opensearch.threadpool.ThreadPool;
+import org.opensearch.transport.TransportService;
+import org.opensearch.transport.client.Client;
+
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicReference;
+
+import org.mockito.ArgumentMatchers;
+
+import static org.opensearch.common.xcontent.json.JsonXContent.jsonXContent;
+import static org.opensearch.flowframework.common.CommonValue.GLOBAL_CONTEXT_INDEX;
+import static org.opensearch.flowframework.common.CommonValue.WORKFLOW_RESOURCE_TYPE;
+import static org.opensearch.flowframework.common.CommonValue.WORKFLOW_STATE_INDEX;
+import static org.opensearch.flowframework.common.CommonValue.WORKFLOW_STATE_RESOURCE_TYPE;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.ArgumentMatchers.nullable;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+public class WorkflowSummaryTransportActionTests extends OpenSearchTestCase {
+
+    private static final String STATE_SEARCH_RESPONSE = "{\"took\":1,\"timed_out\":false,"
+        + "\"hits\":{\"total\":{\"value\":3,\"relation\":\"eq\"},\"max_score\":null,\"hits\":[]},"
+        + "\"aggregations\":{"
+        + "\"state\":{\"buckets\":[{\"key\":\"COMPLETED\",\"doc_count\":2},{\"key\":\"FAILED\",\"doc_count\":1}]},"
+        + "\"provision_start_time\":{\"buckets\":[{\"key_as_string\":\"2026-10-18T00:00:00.000Z\",\"key\":1792281600000,\"doc_count\":3}]},"
+        + "\"failed\":{\"doc_count\":1}}}";
+    private static final String WORKFLOW_SEARCH_RESPONSE = "{\"took\":1,\"timed_out\":false,"
+        + "\"hits\":{\"total\":{\"value\":3,\"relation\":\"eq\"},\"max_score\":null,\"hits\":[]},"
+        + "\"aggregations\":{\"use_case\":{\"buckets\":[{\"key\":\"semantic_search\",\"doc_count\":3}]}}}";
+
+    private WorkflowSummaryTransportAction workflowSummaryTransportAction;
+    private SearchHandler searchHandler;
+    private FlowFrameworkSettings flowFrameworkSettings;
+
+    @Override
+    public void setUp() throws Exception {
+        super.setUp();
+        searchHandler = mock(SearchHandler.class);
+        flowFrameworkSettings = mock(FlowFrameworkSettings.class);
+        when(flowFrameworkSettings.getRequestTimeout()).thenReturn(TimeValue.timeValueSeconds(10));
+        when(flowFrameworkSettings.getSummaryCacheTtl()).thenReturn(TimeValue.timeValueMinutes(1));
+        Client client = mock(Client.class);
+        ThreadPool threadPool = mock(ThreadPool.class);
+        when(client.threadPool()).thenReturn(threadPool);
+        when(threadPool.getThreadContext()).thenReturn(new ThreadContext(Settings.EMPTY));
+
+        this.workflowSummaryTransportAction = new WorkflowSummaryTransportAction(
+            mock(TransportService.class),
+            mock(ActionFilters.class),
+            searchHandler,
+            flowFrameworkSettings,
+            client
+        );
+    }
+
+    public void testSummary() throws Exception {
+        doAnswer(invocation -> {
+            SearchRequest request = invocation.getArgument(0);
+            assertEquals(0, request.source().size());
+            ActionListener<FlowFrameworkSearchResponse> responseListener = invocation.getArgument(3);
+            String content = WORKFLOW_STATE_INDEX.equals(request.indices()[0]) ? STATE_SEARCH_RESPONSE : WORKFLOW_SEARCH_RESPONSE;
+            responseListener.onResponse(new FlowFrameworkSearchResponse(new BytesArray(content), false));
+            return null;
+        }).when(searchHandler)
+            .search(
+                any(SearchRequest.class),
+                nullable(String.class),
+                any(),
+                ArgumentMatchers.<ActionListener<FlowFrameworkSearchResponse>>any()
+            );
+
+        AtomicReference<WorkflowSummaryResponse> responseRef = new AtomicReference<>();
+        workflowSummaryTransportAction.doExecute(
+            mock(Task.class),
+            new WorkflowSummaryRequest(null, WorkflowSummaryRequest.DEFAULT_INTERVAL),
+            ActionListener.wrap(responseRef::set, e -> fail(e.getMessage()))
+        );
+        WorkflowSummaryResponse response = responseRef.get();
+        assertFalse(response.isTimedOut());
+        assertEquals(3, response.getWorkflowStates().getTotal());
+        assertEquals(1, response.getWorkflowStates().getFailed());
+        assertEquals(Map.of("COMPLETED", 2L, "FAILED", 1L), response.getWorkflowStates().getGroups().get("state"));
+        assertEquals(Map.of("2026-10-18T00:00:00.000Z", 3L), response.getWorkflowStates().getGroups().get("provision_start_time"));
+        assertEquals(-1, response.getWorkflows().getFailed());
+        assertEquals(Map.of("semantic_search", 3L), response.getWorkflows().getGroups().get("use_case"));
+        String json = response.toXContent(jsonXContent.contentBuilder(), ToXContent.EMPTY_PARAMS).toString();
+        assertTrue(json.contains("\"workflow_states\":{\"total\":3,\"failed\":1,\"state\":{\"COMPLETED\":2,\"FAILED\":1}"));
+
+        // The second request within the TTL is served from the cache
+        workflowSummaryTransportAction.doExecute(
+            mock(Task.class),
+            new WorkflowSummaryRequest(null, WorkflowSummaryRequest.DEFAULT_INTERVAL),
+            ActionListener.wrap(responseRef::set, e -> fail(e.getMessage()))
+        );
+        assertSame(response, responseRef.get());
+        verify(searchHandler, times(1)).search(
+            any(SearchRequest.class),
+            nullable(String.class),
+            eq(WORKFLOW_STATE_RESOURCE_TYPE),
+            ArgumentMatchers.<ActionListener<FlowFrameworkSearchResponse>>any()
+        );
+        verify(searchHandler, times(1)).search(
+            any(SearchRequest.class),
+            nullable(String.class),
+            eq(WORKFLOW_RESOURCE_TYPE),
+            ArgumentMatchers.<ActionListener<FlowFrameworkSearchResponse>>any()
+        );
+    }
+
+    public void testSummaryWithoutIndices() {
+        doAnswer(invocation -> {
+            ActionListener<FlowFrameworkSearchResponse> responseListener = invocation.getArgument(3);
+            responseListener.onFailure(new IndexNotFoundException(GLOBAL_CONTEXT_INDEX));
+            return null;
+        }).when(searchHandler)
+            .search(
+                any(SearchRequest.class),
+                nullable(String.class),
+                any(),
+                ArgumentMatchers.<ActionListener<FlowFrameworkSearchResponse>>any()
+            );
+
+        AtomicReference<WorkflowSummaryResponse> responseRef = new AtomicReference<>();
+        workflowSummaryTransportAction.doExecute(
+            mock(Task.class),
+            new WorkflowSummaryRequest("tenant", "1h"),
+            ActionListener.wrap(responseRef::set, e -> fail(e.getMessage()))
+        );
+        assertEquals(0, responseRef.get().getWorkflowStates().getTotal());
+        assertEquals(0, responseRef.get().getWorkflows().getTotal());
+    }
+}
@@ -9,18 +9,25 @@
 package org.opensearch.flowframework.transport.handler;
 
 import org.opensearch.action.search.SearchRequest;
-import org.opensearch.action.search.SearchResponse;
 import org.opensearch.cluster.service.ClusterService;
 import org.opensearch.common.settings.ClusterSettings;
 import org.opensearch.common.settings.Settings;
 import org.opensearch.common.util.concurrent.ThreadContext;
+import org.opensearch.common.xcontent.XContentType;
+import org.opensearch.common.xcontent.json.JsonXContent;
 import org.opensearch.commons.ConfigConstants;
 import org.opensearch.core.action.ActionListener;
+import org.opensearch.core.xcontent.DeprecationHandler;
 import org.opensearch.core.xcontent.NamedXContentRegistry;
+import org.opensearch.core.xcontent.XContentBuilder;
+import org.opensearch.core.xcontent.XContentParser;
 import org.opensearch.flowframework.common.CommonValue;
 import org.opensearch.flowframework.common.FlowFrameworkSettings;
+import org.opensearch.flowframework.transport.FlowFrameworkSearchResponse;
+import org.opensearch.flowframework.util.ParseUtils;
 import org.opensearch.remote.metadata.client.SdkClient;
 import org.opensearch.remote.metadata.client.impl.SdkClientFactory;
+import org.opensearch.search.fetch.subphase.FetchSourceContext;
 import org.opensearch.test.OpenSearchTestCase;
 import org.opensearch.threadpool.ThreadPool;
 import org.opensearch.transport.client.Client;
@@ -30,6 +37,7 @@ import java.util.Collections;
 
 import static org.opensearch.flowframework.TestHelpers.clusterSetting;
 import static org.opensearch.flowframework.TestHelpers.matchAllRequest;
+import static org.opensearch.flowframework.common.FlowFrameworkSettings.DOCUMENT_BODY_ENCODING;
 import static org.opensearch.flowframework.common.FlowFrameworkSettings.FILTER_BY_BACKEND_ROLES;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.Mockito.doThrow;
@@ -49,7 +57,7 @@ public class SearchHandlerTests extends OpenSearchTestCase {
 
     private SearchRequest request;
 
-    private ActionListener<SearchResponse> listener;
+    private ActionListener<FlowFrameworkSearchResponse> listener;
 
     @SuppressWarnings("unchecked")
     @Before
@@ -57,7 +65,7 @@ public class SearchHandlerTests extends OpenSearchTestCase {
     public void setUp() throws Exception {
         super.setUp();
         settings = Settings.builder().put(FILTER_BY_BACKEND_ROLES.getKey(), false).build();
-        clusterSettings = clusterSetting(settings, FILTER_BY_BACKEND_ROLES);
+        clusterSettings = clusterSetting(settings, FILTER_BY_BACKEND_ROLES, DOCUMENT_BODY_ENCODING);
         clusterService = new ClusterService(settings, clusterSettings, mock(ThreadPool.class), null);
         client = mock(Client.class);
         sdkClient = SdkClientFactory.createSdkClient(client, NamedXContentRegistry.EMPTY, Collections.emptyMap());
@@ -102,4 +110,81 @@ public class SearchHandlerTests extends OpenSearchTestCase {
 
         verify(client, times(1)).search(any(), any());
     }
+
+    public void testCopySearchResponse() throws Exception {
+        String json = "{\"took\":3,\"timed_out\":false,\"hits\":{\"total\":{\"value\":2,\"relation\":\"eq\"},\"hits\":["
+            + "{\"_id\":\"1\",\"_source\":{\"name\":\"a\",\"user\":{\"name\":\"alice\"},"
+            + "\"workflows\":{\"provision\":{\"nodes\":[{\"id\":\"n\",\"user_inputs\":{\"credential\":{\"key\":\"secret\"}}}]}}}},"
+            + "{\"_id\":\"2\",\"_source\":{\"name\":\"b\"}}]}}";
+        XContentParser parser = JsonXContent.jsonXContent.createParser(
+            NamedXContentRegistry.EMPTY,
+            DeprecationHandler.THROW_UNSUPPORTED_OPERATION,
+            json
+        );
+        FetchSourceContext fetchSource = new FetchSourceContext(
+            true,
+            new String[0],
+            new String[] { "user", "workflows.provision.nodes.user_inputs.credential" }
+        );
+        FlowFrameworkSearchResponse response = SearchHandler.copySearchResponse(parser, fetchSource, false);
+        assertFalse(response.isTimedOut());
+        String content = response.toString();
+        assertTrue(content.contains("\"took\":3"));
+        assertTrue(content.contains("\"total\":{\"value\":2,\"relation\":\"eq\"}"));
+        assertTrue(content.contains("\"name\":\"a\""));
+        assertTrue(content.contains("\"id\":\"n\""));
+        assertTrue(content.contains("\"_source\":{\"name\":\"b\"}"));
+        // Excluded source fields are redacted
+        assertFalse(content.contains("alice"));
+        assertFalse(content.contains("secret"));
+
+        parser = JsonXContent.jsonXContent.createParser(
+            NamedXContentRegistry.EMPTY,
+            DeprecationHandler.THROW_UNSUPPORTED_OPERATION,
+            "{\"took\":3,\"timed_out\":true,\"hits\":{\"hits\":[]}}"
+        );
+        response = SearchHandler.copySearchResponse(parser, null, false);
+        assertTrue(response.isTimedOut());
+        assertEquals("{\"took\":3,\"timed_out\":true,\"hits\":{\"hits\":[]}}", response.toString());
+    }
+
+    public void testDecodeEncodedBodies() throws Exception {
+        XContentBuilder source = JsonXContent.contentBuilder().startObject().field("name", "a");
+        ParseUtils.writeEncodedBody(source, XContentType.SMILE, body -> {
+            body.startObject("workflows").startObject("provision").startArray("nodes");
+            body.startObject().field("id", "n").startObject("user_inputs").startObject("credential").field("key", "secret");
+            body.endObject().endObject().endObject();
+            body.endArray().endObject().endObject();
+            body.startObject("ui_metadata").field("layout", "hidden").endObject();
+        });
+        source.endObject();
+        String json = "{\"timed_out\":false,\"hits\":{\"hits\":[{\"_id\":\"1\",\"_source\":" + source.toString() + "}]}}";
+        FetchSourceContext fetchSource = new FetchSourceContext(
+            true,
+            new String[0],
+            new String[] { "ui_metadata", "workflows.provision.nodes.user_inputs.credential" }
+        );
+
+        FlowFrameworkSearchResponse response = SearchHandler.copySearchResponse(jsonParser(json), fetchSource, true);
+        String content = response.toString();
+        assertFalse(content.contains(CommonValue.ENCODED_BODY_FIELD));
+        assertTrue(content.contains("\"name\":\"a\""));
+        assertTrue(content.contains("\"id\":\"n\""));
+        // Excluded fields are filtered out of the decoded body
+        assertFalse(content.contains("secret"));
+        assertFalse(content.contains("hidden"));
+
+        // Without a configured encoding, encoded bodies are never returned
+        content = SearchHandler.copySearchResponse(jsonParser(json), fetchSource, false).toString();
+        assertFalse(content.contains(CommonValue.ENCODED_BODY_FIELD));
+        assertTrue(content.contains("\"name\":\"a\""));
+
+        // Hits without encoded bodies are copied as is
+        String plain = "{\"timed_out\":false,\"hits\":{\"hits\":[{\"_id\":\"2\",\"_source\":{\"name\":\"b\"}}]}}";
+        assertEquals(plain, SearchHandler.copySearchResponse(jsonParser(plain), fetchSource, true).toString());
+    }
+
+    private static XContentParser jsonParser(String json) throws Exception {
+        return JsonXContent.jsonXContent.createParser(NamedXContentRegistry.EMPTY, DeprecationHandler.THROW_UNSUPPORTED_OPERATION, json);
+    }
 }
@@ -0,0 +1,91 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * The OpenSearch Contributors require contributions made to
+ * this file be licensed under the Apache-2.0 license or a
+ * compatible open source license.
+ */
+package org.opensearch.flowframework.util;
+
+import org.opensearch.common.settings.Settings;
+import org.opensearch.common.unit.TimeValue;
+import org.opensearch.flowframework.common.FlowFrameworkSettings;
+import org.opensearch.test.OpenSearchTestCase;
+import org.opensearch.threadpool.ScalingExecutorBuilder;
+import org.opensearch.threadpool.TestThreadPool;
+import org.opensearch.threadpool.ThreadPool;
+
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+
+import static org.opensearch.flowframework.common.CommonValue.FLOW_FRAMEWORK_THREAD_POOL_PREFIX;
+import static org.opensearch.flowframework.common.CommonValue.PROVISION_WORKFLOW_THREAD_POOL;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+public class AdaptiveThreadPoolSizerTests extends OpenSearchTestCase {
+
+    public void testMaxPoolSize() {
+        assertEquals(8, AdaptiveThreadPoolSizer.maxPoolSize(8, 4));
+        assertEquals(15, AdaptiveThreadPoolSizer.maxPoolSize(8, 16));
+    }
+
+    public void testNextMaxSize() {
+        // Tasks wait and threads are blocked on remote calls, so the pool grows even if CPU is busy
+        assertEquals(10, AdaptiveThreadPoolSizer.nextMaxSize(8, 1, 16, 500, 100, 5, 8, 0.75, 80, 50));
+        // Tasks wait, threads are busy computing and CPU is busy, so the pool keeps its size
+        assertEquals(8, AdaptiveThreadPoolSizer.nextMaxSize(8, 1, 16, 500, 100, 5, 8, 0.1, 80, 50));
+        // Tasks wait and CPU is idle
+        assertEquals(10, AdaptiveThreadPoolSizer.nextMaxSize(8, 1, 16, 500, 100, 5, 8, 0.1, 20, 50));
+        // Growth is bounded by the configured size
+        assertEquals(16, AdaptiveThreadPoolSizer.nextMaxSize(16, 1, 16, 500, 100, 5, 16, 1.0, 20, 50));
+        // CPU or heap pressure shrinks the pool, down to the min size
+        assertEquals(6, AdaptiveThreadPoolSizer.nextMaxSize(8, 1, 16, 500, 100, 5, 8, 1.0, 95, 50));
+        assertEquals(6, AdaptiveThreadPoolSizer.nextMaxSize(8, 1, 16, 500, 100, 5, 8, 1.0, 20, 90));
+        assertEquals(4, AdaptiveThreadPoolSizer.nextMaxSize(4, 4, 16, 500, 100, 5, 4, 1.0, 95, 90));
+        // A mostly idle pool slowly shrinks
+        assertEquals(7, AdaptiveThreadPoolSizer.nextMaxSize(8, 1, 16, 0, 100, 0, 1, 0, 20, 50));
+        assertEquals(8, AdaptiveThreadPoolSizer.nextMaxSize(8, 1, 16, 0, 100, 0, 6, 0, 20, 50));
+    }
+
+    public void testResize() throws Exception {
+        TestThreadPool threadPool = new TestThreadPool(
+            AdaptiveThreadPoolSizerTests.class.getName(),
+            new ScalingExecutorBuilder(
+                PROVISION_WORKFLOW_THREAD_POOL,
+                1,
+                8,
+                TimeValue.timeValueMinutes(5),
+                FLOW_FRAMEWORK_THREAD_POOL_PREFIX + PROVISION_WORKFLOW_THREAD_POOL
+            )
+        );
+        try {
+            FlowFrameworkSettings flowFrameworkSettings = mock(FlowFrameworkSettings.class);
+            when(flowFrameworkSettings.getWorkflowThreadPoolSize()).thenReturn(4);
+            when(flowFrameworkSettings.getProvisionThreadPoolSize()).thenReturn(8);
+            when(flowFrameworkSettings.getDeprovisionThreadPoolSize()).thenReturn(4);
+            when(flowFrameworkSettings.getThreadPoolMinSize()).thenReturn(2);
+            when(flowFrameworkSettings.getThreadPoolTargetQueueLatency()).thenReturn(TimeValue.timeValueMillis(100));
+            Settings settings = Settings.builder().put("node.processors", 2).build();
+            ThreadPoolExecutor executor = (ThreadPoolExecutor) threadPool.executor(PROVISION_WORKFLOW_THREAD_POOL);
+
+            // The node is under heap pressure, so the idle pool shrinks
+            AdaptiveThreadPoolSizer sizer = new AdaptiveThreadPoolSizer(threadPool, flowFrameworkSettings, settings, () -> 10, () -> 95);
+            when(flowFrameworkSettings.isThreadPoolAutosizeEnabled()).thenReturn(true);
+            sizer.resizeAll();
+            assertEquals(6, executor.getMaximumPoolSize());
+            for (int i = 0; i < 10; i++) {
+                sizer.resizeAll();
+            }
+            assertEquals(2, executor.getMaximumPoolSize());
+
+            // Disabling autosizing restores the configured size
+            when(flowFrameworkSettings.isThreadPoolAutosizeEnabled()).thenReturn(false);
+            sizer.resizeAll();
+            assertEquals(8, executor.getMaximumPoolSize());
+        } finally {
+            ThreadPool.terminate(threadPool, 500, TimeUnit.MILLISECONDS);
+        }
+    }
+}
@@ -300,6 +300,25 @@ public class EncryptorUtilsTests extends OpenSearchTestCase {
         assertEquals(testCredentialValue, decryptedCredential);
     }
 
+    public void testEncryptTemplateCredentialsBatch() {
+        encryptorUtils.setMasterKey(null, testMasterKey);
+
+        List<Template> processedTemplates = encryptorUtils.encryptTemplateCredentials(List.of(testTemplate, testTemplate), null);
+        assertEquals(2, processedTemplates.size());
+        for (Template processedTemplate : processedTemplates) {
+            WorkflowNode node = processedTemplate.workflows().get("provision").nodes().get(0);
+            @SuppressWarnings("unchecked")
+            Map<String, String> encryptedCredentialMap = (Map<String, String>) node.userInputs().get(CREDENTIAL_FIELD);
+            assertNotEquals(testCredentialValue, encryptedCredentialMap.get(testCredentialKey));
+
+            // Credentials encrypted as a batch decrypt one at a time as usual
+            node = encryptorUtils.decryptTemplateCredentials(processedTemplate).workflows().get("provision").nodes().get(0);
+            @SuppressWarnings("unchecked")
+            Map<String, String> decryptedCredentialMap = (Map<String, String>) node.userInputs().get(CREDENTIAL_FIELD);
+            assertEquals(testCredentialValue, decryptedCredentialMap.get(testCredentialKey));
+        }
+    }
+
     public void testRedactTemplateCredential() {
         // Confirm credentials are present in the non-redacted template
         WorkflowNode node = testTemplate.workflows().get("provision").nodes().get(0);
@@ -9,8 +9,14 @@
 package org.opensearch.flowframework.util;
 
 import org.opensearch.common.xcontent.XContentFactory;
+import org.opensearch.common.xcontent.XContentType;
 import org.opensearch.commons.authuser.User;
+import org.opensearch.core.common.bytes.BytesArray;
+import org.opensearch.core.common.bytes.BytesReference;
+import org.opensearch.core.compress.CompressorRegistry;
 import org.opensearch.core.rest.RestStatus;
+import org.opensearch.core.xcontent.NamedXContentRegistry;
+import org.opensearch.core.xcontent.ToXContent;
 import org.opensearch.core.xcontent.XContentBuilder;
 import org.opensearch.core.xcontent.XContentParser;
 import org.opensearch.core.xcontent.XContentParser.Token;
@@ -227,6 +233,43 @@ public class ParseUtilsTests extends OpenSearchTestCase {
         assertEquals("This string contains step", result);
     }
 
+    public void testSubstituteLeaves() {
+        Map<String, WorkflowData> outputs = Map.of(
+            "node",
+            new WorkflowData(Map.of("model_id", "abc"), Collections.emptyMap(), "test", "test")
+        );
+        Map<String, String> params = Map.of("field", "my \"text\"");
+        Map<String, Object> configurations = Map.of(
+            "processors",
+            List.of(Map.of("text_embedding", Map.of("model_id", "${{node.model_id}}", "field_map", Map.of("${{field}}", "embedding")))),
+            "version",
+            1
+        );
+        Object result = ParseUtils.substituteLeaves(configurations, outputs, params);
+        Map<String, Object> expected = Map.of(
+            "processors",
+            List.of(Map.of("text_embedding", Map.of("model_id", "abc", "field_map", Map.of("${{field}}", "embedding")))),
+            "version",
+            1
+        );
+        assertEquals(expected, result);
+        // Leaves are not embedded in a JSON string so are not escaped
+        assertEquals("my \"text\"", ParseUtils.substituteLeaves("${{field}}", outputs, params));
+    }
+
+    public void testConfigurations() throws IOException {
+        Map<String, Object> configurations = Map.of("processors", List.of(Map.of("set", Map.of("field", "a", "value", 1))));
+        assertSame(configurations, ParseUtils.configurationsToMap(configurations));
+        assertEquals(configurations, ParseUtils.configurationsToMap("{\"processors\":[{\"set\":{\"field\":\"a\",\"value\":1}}]}"));
+        assertTrue(ParseUtils.configurationsToMap("").isEmpty());
+
+        assertEquals(
+            "{\"processors\":[{\"set\":{\"field\":\"a\",\"value\":1}}]}",
+            ParseUtils.configurationsToBytes(configurations).utf8ToString()
+        );
+        assertEquals("{\"weights\":[0.3, 0.7]}", ParseUtils.configurationsToBytes("{\"weights\":\"[0.3, 0.7]\"}").utf8ToString());
+    }
+
     public void testGetInputsFromPreviousSteps() {
         WorkflowData currentNodeInputs = new WorkflowData(
             Map.ofEntries(
@@ -381,6 +424,32 @@ public class ParseUtilsTests extends OpenSearchTestCase {
 
     }
 
+    public void testUserInputsEqualsStringConfigurations() throws Exception {
+        // Templates stored before structured configurations were supported hold them as strings
+        Map<String, Object> storedInputs = Map.of(
+            CommonValue.PIPELINE_ID,
+            "pipeline",
+            CommonValue.CONFIGURATIONS,
+            "{\"processors\":[{\"text_embedding\":{\"field_map\":{\"text\":\"embedding\"}}}],\"version\":1}"
+        );
+        Map<String, Object> structuredInputs = Map.of(
+            CommonValue.PIPELINE_ID,
+            "pipeline",
+            CommonValue.CONFIGURATIONS,
+            Map.of("version", 1, "processors", List.of(Map.of("text_embedding", Map.of("field_map", Map.of("text", "embedding")))))
+        );
+        assertTrue(ParseUtils.userInputsEquals(storedInputs, structuredInputs));
+        assertTrue(ParseUtils.userInputsEquals(structuredInputs, storedInputs));
+
+        Map<String, Object> modifiedInputs = Map.of(
+            CommonValue.PIPELINE_ID,
+            "pipeline",
+            CommonValue.CONFIGURATIONS,
+            Map.of("version", 2, "processors", List.of(Map.of("text_embedding", Map.of("field_map", Map.of("text", "embedding")))))
+        );
+        assertFalse(ParseUtils.userInputsEquals(storedInputs, modifiedInputs));
+    }
+
     public void testFlattenSettings() throws Exception {
 
         Map<String, Object> indexSettingsMap = new HashMap<>();
@@ -476,4 +545,36 @@ public class ParseUtilsTests extends OpenSearchTestCase {
         assertFalse(ParseUtils.checkUserPermissions(requestedUser, resourceUser, workflowId));
     }
 
+
+    public void testGetBodyEncoding() {
+        assertNull(ParseUtils.getBodyEncoding(null));
+        assertNull(ParseUtils.getBodyEncoding(ToXContent.EMPTY_PARAMS));
+        assertNull(ParseUtils.getBodyEncoding(new ToXContent.MapParams(Map.of(CommonValue.BODY_ENCODING_PARAM, "json"))));
+        ToXContent.Params smile = new ToXContent.MapParams(Map.of(CommonValue.BODY_ENCODING_PARAM, "smile"));
+        assertEquals(XContentType.SMILE, ParseUtils.getBodyEncoding(smile));
+        ToXContent.Params cbor = new ToXContent.MapParams(Map.of(CommonValue.BODY_ENCODING_PARAM, "CBOR"));
+        assertEquals(XContentType.CBOR, ParseUtils.getBodyEncoding(cbor));
+    }
+
+    public void testCreateEncodedBodyParser() throws IOException {
+        XContentBuilder body = XContentBuilder.builder(XContentType.SMILE.xContent()).startObject().field("foo", "bar").endObject();
+        byte[] encodedBody = BytesReference.toBytes(BytesReference.bytes(body));
+        try (XContentParser parser = ParseUtils.createEncodedBodyParser(NamedXContentRegistry.EMPTY, encodedBody)) {
+            assertEquals(Map.of("foo", "bar"), parser.map());
+        }
+
+        // Bodies are written compressed, as binary values are stored base64 encoded in the JSON source
+        XContentBuilder document = XContentFactory.jsonBuilder().startObject();
+        ParseUtils.writeEncodedBody(document, XContentType.CBOR, b -> b.field("foo", "bar"));
+        document.endObject();
+        try (XContentParser documentParser = ParseUtils.jsonToParser(document.toString())) {
+            documentParser.nextToken();
+            documentParser.nextToken();
+            byte[] written = documentParser.binaryValue();
+            assertNotNull(CompressorRegistry.compressor(new BytesArray(written)));
+            try (XContentParser parser = ParseUtils.createEncodedBodyParser(NamedXContentRegistry.EMPTY, written)) {
+                assertEquals(Map.of("foo", "bar"), parser.map());
+            }
+        }
+    }
 }
@@ -0,0 +1,153 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * The OpenSearch Contributors require contributions made to
+ * this file be licensed under the Apache-2.0 license or a
+ * compatible open source license.
+ */
+package org.opensearch.flowframework.workflow;
+
+import org.opensearch.OpenSearchTimeoutException;
+import org.opensearch.action.support.PlainActionFuture;
+import org.opensearch.common.settings.Settings;
+import org.opensearch.common.unit.TimeValue;
+import org.opensearch.common.util.concurrent.OpenSearchExecutors;
+import org.opensearch.flowframework.common.FlowFrameworkSettings;
+import org.opensearch.flowframework.exception.FlowFrameworkException;
+import org.opensearch.flowframework.model.StepStatus;
+import org.opensearch.flowframework.stats.FlowFrameworkStats;
+import org.opensearch.test.OpenSearchTestCase;
+import org.opensearch.threadpool.ScalingExecutorBuilder;
+import org.opensearch.threadpool.TestThreadPool;
+import org.opensearch.threadpool.ThreadPool;
+import org.junit.AfterClass;
+import org.junit.BeforeClass;
+
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.opensearch.flowframework.common.CommonValue.FLOW_FRAMEWORK_THREAD_POOL_PREFIX;
+import static org.opensearch.flowframework.common.CommonValue.PROVISION_WORKFLOW_THREAD_POOL;
+import static org.mockito.Mockito.mock;
+
+public class ActiveProvisionRegistryTests extends OpenSearchTestCase {
+
+    private static TestThreadPool testThreadPool;
+    private static WorkflowExecutors workflowExecutors;
+
+    @BeforeClass
+    public static void setup() {
+        testThreadPool = new TestThreadPool(
+            ActiveProvisionRegistryTests.class.getName(),
+            new ScalingExecutorBuilder(
+                PROVISION_WORKFLOW_THREAD_POOL,
+                2,
+                Math.max(2, OpenSearchExecutors.allocatedProcessors(Settings.EMPTY)),
+                TimeValue.timeValueMinutes(5),
+                FLOW_FRAMEWORK_THREAD_POOL_PREFIX + PROVISION_WORKFLOW_THREAD_POOL
+            )
+        );
+        workflowExecutors = new WorkflowExecutors(testThreadPool, mock(FlowFrameworkSettings.class));
+    }
+
+    @AfterClass
+    public static void cleanup() {
+        ThreadPool.terminate(testThreadPool, 500, TimeUnit.MILLISECONDS);
+    }
+
+    public void testCancel() throws Exception {
+        // A step which never completes on its own
+        PlainActionFuture<WorkflowData> stepFuture = PlainActionFuture.newFuture();
+        ProcessNode running = createNode("running", stepFuture, Collections.emptyList());
+        ProcessNode waiting = createNode("waiting", PlainActionFuture.newFuture(), List.of(running));
+        List<ProcessNode> workflowSequence = List.of(running, waiting);
+
+        ActiveProvisionRegistry registry = new ActiveProvisionRegistry();
+        registry.register("workflow", "tenant", workflowSequence);
+        assertEquals(1, registry.size());
+        workflowSequence.forEach(ProcessNode::execute);
+        assertBusy(() -> assertEquals(StepStatus.RUNNING, running.timeline(0).status()), 1, TimeUnit.MINUTES);
+
+        // Another tenant can't cancel the provisioning
+        assertFalse(registry.cancel("workflow", "other"));
+        assertFalse(registry.cancel("other", "tenant"));
+        assertTrue(registry.cancel("workflow", "tenant"));
+
+        assertThrows(FlowFrameworkException.class, () -> running.future().actionGet(1, TimeUnit.MINUTES));
+        assertThrows(FlowFrameworkException.class, () -> waiting.future().actionGet(1, TimeUnit.MINUTES));
+        assertTrue(stepFuture.isCancelled());
+        assertEquals(StepStatus.CANCELLED, running.timeline(0).status());
+        assertEquals(StepStatus.SKIPPED, waiting.timeline(0).status());
+
+        // A newer registration is not removed by an older execution
+        registry.register("workflow", "tenant", List.of(running));
+        registry.unregister("workflow", workflowSequence);
+        assertEquals(1, registry.size());
+        registry.unregister("workflow", List.of(running));
+        assertEquals(0, registry.size());
+    }
+
+    public void testCancelOutstandingStepsOnTimeout() throws Exception {
+        PlainActionFuture<WorkflowData> completedFuture = PlainActionFuture.newFuture();
+        completedFuture.onResponse(WorkflowData.EMPTY);
+        ProcessNode completed = createNode("completed", completedFuture, Collections.emptyList());
+        PlainActionFuture<WorkflowData> stepFuture = PlainActionFuture.newFuture();
+        ProcessNode running = createNode("running", stepFuture, Collections.emptyList());
+        List<ProcessNode> workflowSequence = List.of(completed, running);
+        workflowSequence.forEach(ProcessNode::execute);
+        completed.future().actionGet(1, TimeUnit.MINUTES);
+        assertBusy(() -> assertEquals(StepStatus.RUNNING, running.timeline(0).status()), 1, TimeUnit.MINUTES);
+
+        ActiveProvisionRegistry registry = new ActiveProvisionRegistry();
+        // Other failures leave the remaining steps running
+        AtomicInteger settled = new AtomicInteger();
+        registry.cancelOutstandingSteps("workflow", workflowSequence, new IllegalArgumentException("failed"), settled::incrementAndGet);
+        assertFalse(stepFuture.isDone());
+        assertEquals(1, settled.get());
+
+        CountDownLatch settledLatch = new CountDownLatch(1);
+        registry.cancelOutstandingSteps("workflow", workflowSequence, new OpenSearchTimeoutException("timed out"), settledLatch::countDown);
+        assertTrue(stepFuture.isCancelled());
+        // Settles once the running step has recorded its cancellation
+        assertTrue(settledLatch.await(1, TimeUnit.MINUTES));
+        assertTrue(running.future().isDone());
+        assertEquals(StepStatus.CANCELLED, running.timeline(0).status());
+        assertEquals(StepStatus.COMPLETED, completed.timeline(0).status());
+    }
+
+    private ProcessNode createNode(String id, PlainActionFuture<WorkflowData> stepFuture, List<ProcessNode> predecessors) {
+        return new ProcessNode(id, new WorkflowStep() {
+            @Override
+            public PlainActionFuture<WorkflowData> execute(
+                String currentNodeId,
+                WorkflowData currentNodeInputs,
+                Map<String, WorkflowData> outputs,
+                Map<String, String> previousNodeInputs,
+                Map<String, String> params,
+                String tenantId
+            ) {
+                return stepFuture;
+            }
+
+            @Override
+            public String getName() {
+                return "test";
+            }
+        },
+            Collections.emptyMap(),
+            Collections.emptyMap(),
+            WorkflowData.EMPTY,
+            predecessors,
+            workflowExecutors,
+            PROVISION_WORKFLOW_THREAD_POOL,
+            TimeValue.timeValueMinutes(1),
+            null,
+            new FlowFrameworkStats()
+        );
+    }
+}
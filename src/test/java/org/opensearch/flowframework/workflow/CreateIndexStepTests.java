@@ -119,6 +119,38 @@ public class CreateIndexStepTests extends OpenSearchTestCase {
 
     }
 
+    public void testCreateIndexStepStructuredConfigurations() {
+        WorkflowData structuredInputData = new WorkflowData(
+            Map.ofEntries(
+                Map.entry(INDEX_NAME, "demo"),
+                Map.entry(
+                    CONFIGURATIONS,
+                    Map.of(
+                        "settings",
+                        Map.of("index", Map.of("number_of_shards", 2)),
+                        "mappings",
+                        Map.of("properties", Map.of("age", Map.of("type", "${{age_type}}")))
+                    )
+                )
+            ),
+            "test-id",
+            "test-node-id"
+        );
+        ArgumentCaptor<CreateIndexRequest> requestCaptor = ArgumentCaptor.forClass(CreateIndexRequest.class);
+        createIndexStep.execute(
+            structuredInputData.getNodeId(),
+            structuredInputData,
+            Collections.emptyMap(),
+            Collections.emptyMap(),
+            Map.of("age_type", "integer"),
+            null
+        );
+        verify(indicesAdminClient, times(1)).create(requestCaptor.capture(), any());
+        CreateIndexRequest request = requestCaptor.getValue();
+        assertEquals("2", request.settings().get("index.number_of_shards"));
+        assertTrue(request.mappings().contains("\"age\":{\"type\":\"integer\"}"));
+    }
+
     public void testCreateIndexStepFailure() throws ExecutionException, InterruptedException {
         @SuppressWarnings({ "unchecked" })
         ArgumentCaptor<ActionListener<CreateIndexResponse>> actionListenerCaptor = ArgumentCaptor.forClass(ActionListener.class);
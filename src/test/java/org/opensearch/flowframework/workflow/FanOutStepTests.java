@@ -0,0 +1,256 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * The OpenSearch Contributors require contributions made to
+ * this file be licensed under the Apache-2.0 license or a
+ * compatible open source license.
+ */
+package org.opensearch.flowframework.workflow;
+
+import com.carrotsearch.randomizedtesting.annotations.ThreadLeakScope;
+
+import org.opensearch.action.support.PlainActionFuture;
+import org.opensearch.common.settings.Settings;
+import org.opensearch.common.unit.TimeValue;
+import org.opensearch.common.util.concurrent.OpenSearchExecutors;
+import org.opensearch.core.action.ActionListener;
+import org.opensearch.core.rest.RestStatus;
+import org.opensearch.flowframework.common.FlowFrameworkSettings;
+import org.opensearch.flowframework.exception.FlowFrameworkException;
+import org.opensearch.flowframework.indices.FlowFrameworkIndicesHandler;
+import org.opensearch.flowframework.model.WorkflowNode;
+import org.opensearch.ml.client.MachineLearningNodeClient;
+import org.opensearch.test.OpenSearchTestCase;
+import org.opensearch.threadpool.ScalingExecutorBuilder;
+import org.opensearch.threadpool.TestThreadPool;
+import org.opensearch.threadpool.ThreadPool;
+import org.opensearch.transport.client.Client;
+import org.junit.AfterClass;
+
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+
+import static org.opensearch.flowframework.common.CommonValue.FAN_OUT_CONCURRENCY_FIELD;
+import static org.opensearch.flowframework.common.CommonValue.FAN_OUT_FIELD;
+import static org.opensearch.flowframework.common.CommonValue.FLOW_FRAMEWORK_THREAD_POOL_PREFIX;
+import static org.opensearch.flowframework.common.CommonValue.PROVISION_WORKFLOW_THREAD_POOL;
+import static org.opensearch.flowframework.common.CommonValue.REUSE_EXISTING_FIELD;
+import static org.opensearch.flowframework.common.WorkflowResources.INDEX_NAME;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyMap;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.ArgumentMatchers.nullable;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.timeout;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@ThreadLeakScope(ThreadLeakScope.Scope.NONE)
+public class FanOutStepTests extends OpenSearchTestCase {
+
+    private static TestThreadPool testThreadPool;
+    private FlowFrameworkIndicesHandler flowFrameworkIndicesHandler;
+    private WorkflowStep createIndexStep;
+    private FanOutStep fanOutStep;
+
+    @Override
+    public void setUp() throws Exception {
+        super.setUp();
+        testThreadPool = new TestThreadPool(
+            FanOutStepTests.class.getName(),
+            new ScalingExecutorBuilder(
+                PROVISION_WORKFLOW_THREAD_POOL,
+                1,
+                Math.max(1, OpenSearchExecutors.allocatedProcessors(Settings.EMPTY) - 1),
+                TimeValue.timeValueMinutes(5),
+                FLOW_FRAMEWORK_THREAD_POOL_PREFIX + PROVISION_WORKFLOW_THREAD_POOL
+            )
+        );
+        flowFrameworkIndicesHandler = mock(FlowFrameworkIndicesHandler.class);
+        doAnswer(invocation -> {
+            ActionListener<Object> listener = invocation.getArgument(3);
+            listener.onResponse(null);
+            return null;
+        }).when(flowFrameworkIndicesHandler).flushResources(anyString(), anyString(), nullable(String.class), any());
+        createIndexStep = mock(CreateIndexStep.class);
+        when(createIndexStep.getName()).thenReturn(CreateIndexStep.NAME);
+        fanOutStep = new FanOutStep(createIndexStep, testThreadPool, flowFrameworkIndicesHandler);
+    }
+
+    @AfterClass
+    public static void cleanup() {
+        ThreadPool.terminate(testThreadPool, 500, TimeUnit.MILLISECONDS);
+    }
+
+    public void testFanOut() throws Exception {
+        // Echo the index name of each entry as the step output
+        when(createIndexStep.execute(anyString(), any(WorkflowData.class), anyMap(), anyMap(), anyMap(), nullable(String.class)))
+            .thenAnswer(invocation -> {
+                WorkflowData inputs = invocation.getArgument(1);
+                assertEquals("{}", inputs.getContent().get("configurations"));
+                assertFalse(inputs.getContent().containsKey(FAN_OUT_FIELD));
+                PlainActionFuture<WorkflowData> future = PlainActionFuture.newFuture();
+                future.onResponse(new WorkflowData(Map.of(INDEX_NAME, inputs.getContent().get(INDEX_NAME)), "test-id", "test-node-id"));
+                return future;
+            });
+        WorkflowData inputData = new WorkflowData(
+            Map.of(
+                "configurations",
+                "{}",
+                FAN_OUT_FIELD,
+                List.of(Map.of(INDEX_NAME, "index-0"), Map.of(INDEX_NAME, "index-1"), Map.of(INDEX_NAME, "index-2")),
+                FAN_OUT_CONCURRENCY_FIELD,
+                "2"
+            ),
+            "test-id",
+            "test-node-id"
+        );
+
+        WorkflowData output = execute(inputData).get();
+
+        assertEquals("index-0", output.getContent().get(INDEX_NAME + "_0"));
+        assertEquals("index-1", output.getContent().get(INDEX_NAME + "_1"));
+        assertEquals("index-2", output.getContent().get(INDEX_NAME + "_2"));
+        assertEquals(List.of("index-0", "index-1", "index-2"), output.getContent().get(INDEX_NAME));
+        verify(createIndexStep, times(3)).execute(
+            anyString(),
+            any(WorkflowData.class),
+            anyMap(),
+            anyMap(),
+            anyMap(),
+            nullable(String.class)
+        );
+        verify(flowFrameworkIndicesHandler).bufferResources("test-id", "test-node-id");
+        verify(flowFrameworkIndicesHandler).flushResources(eq("test-id"), eq("test-node-id"), nullable(String.class), any());
+    }
+
+    public void testFanOutFailure() {
+        PlainActionFuture<WorkflowData> failedFuture = PlainActionFuture.newFuture();
+        failedFuture.onFailure(new FlowFrameworkException("Failed to create index", RestStatus.INTERNAL_SERVER_ERROR));
+        when(createIndexStep.execute(anyString(), any(WorkflowData.class), anyMap(), anyMap(), anyMap(), nullable(String.class)))
+            .thenReturn(failedFuture);
+        WorkflowData inputData = new WorkflowData(
+            Map.of(FAN_OUT_FIELD, List.of(Map.of(INDEX_NAME, "index-0"), Map.of(INDEX_NAME, "index-1"))),
+            "test-id",
+            "test-node-id"
+        );
+
+        ExecutionException exception = assertThrows(ExecutionException.class, () -> execute(inputData).get());
+        assertTrue(exception.getCause().getMessage().contains("Failed to create index"));
+        // Resources created before the failure are still recorded
+        verify(flowFrameworkIndicesHandler).flushResources(eq("test-id"), eq("test-node-id"), nullable(String.class), any());
+    }
+
+    public void testCancelledFanOut() throws Exception {
+        // The first execution only completes once the fan out is cancelled
+        PlainActionFuture<WorkflowData> pendingFuture = PlainActionFuture.newFuture();
+        when(createIndexStep.execute(anyString(), any(WorkflowData.class), anyMap(), anyMap(), anyMap(), nullable(String.class)))
+            .thenReturn(pendingFuture);
+        WorkflowData inputData = new WorkflowData(
+            Map.of(
+                FAN_OUT_FIELD,
+                List.of(Map.of(INDEX_NAME, "index-0"), Map.of(INDEX_NAME, "index-1"), Map.of(INDEX_NAME, "index-2")),
+                FAN_OUT_CONCURRENCY_FIELD,
+                "1"
+            ),
+            "test-id",
+            "test-node-id"
+        );
+
+        PlainActionFuture<WorkflowData> fanOutFuture = execute(inputData);
+        assertFalse(fanOutFuture.isDone());
+        fanOutFuture.cancel(true);
+        pendingFuture.onResponse(new WorkflowData(Map.of(INDEX_NAME, "index-0"), "test-id", "test-node-id"));
+
+        // The remaining entries are not executed, but the resource of the completed one is recorded
+        verify(flowFrameworkIndicesHandler, timeout(10000)).flushResources(
+            eq("test-id"),
+            eq("test-node-id"),
+            nullable(String.class),
+            any()
+        );
+        verify(createIndexStep, times(1)).execute(
+            anyString(),
+            any(WorkflowData.class),
+            anyMap(),
+            anyMap(),
+            anyMap(),
+            nullable(String.class)
+        );
+        assertTrue(fanOutFuture.isCancelled());
+    }
+
+    public void testInvalidFanOut() {
+        for (Map<String, Object> inputs : List.<Map<String, Object>>of(
+            Map.of(FAN_OUT_FIELD, List.of()),
+            Map.of(FAN_OUT_FIELD, List.of("index-0")),
+            Map.of(FAN_OUT_FIELD, "index-0"),
+            Map.of(FAN_OUT_FIELD, List.of(Map.of(INDEX_NAME, "index-0")), FAN_OUT_CONCURRENCY_FIELD, "0"),
+            Map.of(FAN_OUT_FIELD, List.of(Map.of(INDEX_NAME, "index-0")), FAN_OUT_CONCURRENCY_FIELD, "many")
+        )) {
+            ExecutionException exception = assertThrows(
+                ExecutionException.class,
+                () -> execute(new WorkflowData(inputs, "test-id", "test-node-id")).get()
+            );
+            assertEquals(RestStatus.BAD_REQUEST, ((FlowFrameworkException) exception.getCause()).getRestStatus());
+        }
+        verify(flowFrameworkIndicesHandler, never()).bufferResources(anyString(), anyString());
+    }
+
+    public void testEntryInputKeys() {
+        assertEquals(
+            Set.of(INDEX_NAME),
+            FanOutStep.entryInputKeys(
+                Map.of(FAN_OUT_FIELD, List.of(Map.of(INDEX_NAME, "index-0", "configurations", "{}"), Map.of(INDEX_NAME, "index-1")))
+            )
+        );
+        assertEquals(Set.of(), FanOutStep.entryInputKeys(Map.of(FAN_OUT_FIELD, "index-0")));
+    }
+
+    public void testCreateStep() {
+        WorkflowStepFactory factory = new WorkflowStepFactory(
+            testThreadPool,
+            mock(MachineLearningNodeClient.class),
+            flowFrameworkIndicesHandler,
+            mock(FlowFrameworkSettings.class),
+            mock(Client.class)
+        );
+        Map<String, Object> fanOut = Map.of(FAN_OUT_FIELD, List.of(Map.of(INDEX_NAME, "index-0")));
+
+        assertTrue(factory.createStep(new WorkflowNode("a", CreateIndexStep.NAME, Map.of(), fanOut)) instanceof FanOutStep);
+        assertTrue(factory.createStep(new WorkflowNode("b", CreateIndexStep.NAME, Map.of(), Map.of())) instanceof CreateIndexStep);
+
+        FlowFrameworkException exception = assertThrows(
+            FlowFrameworkException.class,
+            () -> factory.createStep(new WorkflowNode("c", DeleteIndexStep.NAME, Map.of(), fanOut))
+        );
+        assertEquals(RestStatus.BAD_REQUEST, exception.getRestStatus());
+        exception = assertThrows(
+            FlowFrameworkException.class,
+            () -> factory.createStep(
+                new WorkflowNode("d", CreateIndexStep.NAME, Map.of(), Map.of(FAN_OUT_FIELD, List.of(), REUSE_EXISTING_FIELD, "true"))
+            )
+        );
+        assertEquals(RestStatus.BAD_REQUEST, exception.getRestStatus());
+    }
+
+    private PlainActionFuture<WorkflowData> execute(WorkflowData inputData) {
+        return fanOutStep.execute(
+            inputData.getNodeId(),
+            inputData,
+            Collections.emptyMap(),
+            Collections.emptyMap(),
+            Collections.emptyMap(),
+            null
+        );
+    }
+}
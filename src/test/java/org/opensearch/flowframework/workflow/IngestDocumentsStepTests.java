@@ -0,0 +1,345 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * The OpenSearch Contributors require contributions made to
+ * this file be licensed under the Apache-2.0 license or a
+ * compatible open source license.
+ */
+package org.opensearch.flowframework.workflow;
+
+import com.carrotsearch.randomizedtesting.annotations.ThreadLeakScope;
+
+import org.opensearch.action.DocWriteRequest;
+import org.opensearch.action.bulk.BulkItemResponse;
+import org.opensearch.action.bulk.BulkRequest;
+import org.opensearch.action.bulk.BulkResponse;
+import org.opensearch.action.index.IndexRequest;
+import org.opensearch.action.index.IndexResponse;
+import org.opensearch.action.support.PlainActionFuture;
+import org.opensearch.action.update.UpdateResponse;
+import org.opensearch.common.settings.Settings;
+import org.opensearch.common.unit.TimeValue;
+import org.opensearch.common.util.concurrent.OpenSearchExecutors;
+import org.opensearch.core.action.ActionListener;
+import org.opensearch.core.index.shard.ShardId;
+import org.opensearch.core.rest.RestStatus;
+import org.opensearch.flowframework.exception.WorkflowStepException;
+import org.opensearch.flowframework.indices.FlowFrameworkIndicesHandler;
+import org.opensearch.test.OpenSearchTestCase;
+import org.opensearch.threadpool.ScalingExecutorBuilder;
+import org.opensearch.threadpool.TestThreadPool;
+import org.opensearch.threadpool.ThreadPool;
+import org.opensearch.transport.client.Client;
+import org.junit.AfterClass;
+
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicReference;
+
+import org.mockito.ArgumentCaptor;
+
+import static org.opensearch.flowframework.common.CommonValue.FLOW_FRAMEWORK_THREAD_POOL_PREFIX;
+import static org.opensearch.flowframework.common.CommonValue.PROVISION_WORKFLOW_THREAD_POOL;
+import static org.opensearch.flowframework.common.CommonValue.USER_OUTPUTS_FIELD;
+import static org.opensearch.flowframework.common.WorkflowResources.INDEX_NAME;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyMap;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.ArgumentMatchers.nullable;
+import static org.mockito.Mockito.atLeastOnce;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+
+@ThreadLeakScope(ThreadLeakScope.Scope.NONE)
+public class IngestDocumentsStepTests extends OpenSearchTestCase {
+
+    private static TestThreadPool testThreadPool;
+    private Client client;
+    private FlowFrameworkIndicesHandler flowFrameworkIndicesHandler;
+    private Path ingestDataPath;
+    private IngestDocumentsStep ingestDocumentsStep;
+
+    @Override
+    public void setUp() throws Exception {
+        super.setUp();
+        testThreadPool = new TestThreadPool(
+            IngestDocumentsStepTests.class.getName(),
+            new ScalingExecutorBuilder(
+                PROVISION_WORKFLOW_THREAD_POOL,
+                1,
+                Math.max(1, OpenSearchExecutors.allocatedProcessors(Settings.EMPTY) - 1),
+                TimeValue.timeValueMinutes(5),
+                FLOW_FRAMEWORK_THREAD_POOL_PREFIX + PROVISION_WORKFLOW_THREAD_POOL
+            )
+        );
+        client = mock(Client.class);
+        flowFrameworkIndicesHandler = mock(FlowFrameworkIndicesHandler.class);
+        doAnswer(invocation -> {
+            ActionListener<UpdateResponse> updateResponseListener = invocation.getArgument(3);
+            updateResponseListener.onResponse(mock(UpdateResponse.class));
+            return null;
+        }).when(flowFrameworkIndicesHandler).updateFlowFrameworkSystemIndexDoc(anyString(), nullable(String.class), anyMap(), any());
+        ingestDataPath = createTempDir();
+        ingestDocumentsStep = new IngestDocumentsStep(client, testThreadPool, flowFrameworkIndicesHandler, ingestDataPath);
+    }
+
+    @AfterClass
+    public static void cleanup() {
+        ThreadPool.terminate(testThreadPool, 500, TimeUnit.MILLISECONDS);
+    }
+
+    public void testIngestInlineDocuments() throws ExecutionException, InterruptedException {
+        List<BulkRequest> bulkRequests = Collections.synchronizedList(new ArrayList<>());
+        doAnswer(invocation -> {
+            BulkRequest bulkRequest = invocation.getArgument(0);
+            bulkRequests.add(bulkRequest);
+            ActionListener<BulkResponse> bulkListener = invocation.getArgument(1);
+            bulkListener.onResponse(bulkResponse(bulkRequest, null));
+            return null;
+        }).when(client).bulk(any(BulkRequest.class), any());
+
+        WorkflowData inputData = new WorkflowData(
+            Map.of(
+                INDEX_NAME,
+                "demo",
+                IngestDocumentsStep.DOCUMENTS,
+                "{\"a\":1}\n{\"a\":2}\n\n{\"a\":3}",
+                IngestDocumentsStep.BATCH_SIZE,
+                "2"
+            ),
+            "test-id",
+            "test-node-id"
+        );
+        PlainActionFuture<WorkflowData> future = execute(inputData);
+
+        assertEquals("demo", future.get().getContent().get(INDEX_NAME));
+        assertEquals(2, bulkRequests.size());
+        assertEquals(3, bulkRequests.stream().mapToInt(BulkRequest::numberOfActions).sum());
+
+        @SuppressWarnings("unchecked")
+        ArgumentCaptor<Map<String, Object>> updateCaptor = ArgumentCaptor.forClass(Map.class);
+        verify(flowFrameworkIndicesHandler, atLeastOnce()).updateFlowFrameworkSystemIndexDoc(
+            eq("test-id"),
+            nullable(String.class),
+            updateCaptor.capture(),
+            any()
+        );
+        @SuppressWarnings("unchecked")
+        Map<String, Map<String, String>> userOutputs = (Map<String, Map<String, String>>) updateCaptor.getValue().get(USER_OUTPUTS_FIELD);
+        Map<String, String> progress = userOutputs.get("test-node-id");
+        assertEquals("COMPLETED", progress.get(IngestDocumentsStep.STATUS));
+        assertEquals("3", progress.get("ingested"));
+        assertEquals("0", progress.get("failed"));
+    }
+
+    public void testIngestJsonArrayThroughPipeline() throws ExecutionException, InterruptedException {
+        List<BulkRequest> bulkRequests = Collections.synchronizedList(new ArrayList<>());
+        doAnswer(invocation -> {
+            BulkRequest bulkRequest = invocation.getArgument(0);
+            bulkRequests.add(bulkRequest);
+            ActionListener<BulkResponse> bulkListener = invocation.getArgument(1);
+            bulkListener.onResponse(bulkResponse(bulkRequest, null));
+            return null;
+        }).when(client).bulk(any(BulkRequest.class), any());
+
+        WorkflowData inputData = new WorkflowData(
+            Map.of(INDEX_NAME, "demo", IngestDocumentsStep.DOCUMENTS, "[{\"a\":1},{\"a\":2}]", IngestDocumentsStep.PIPELINE, "embed"),
+            "test-id",
+            "test-node-id"
+        );
+        execute(inputData).get();
+
+        assertEquals(1, bulkRequests.size());
+        assertEquals(2, bulkRequests.get(0).numberOfActions());
+        IndexRequest indexRequest = (IndexRequest) bulkRequests.get(0).requests().get(0);
+        assertEquals("demo", indexRequest.index());
+        assertEquals("embed", indexRequest.getPipeline());
+    }
+
+    public void testIngestFile() throws Exception {
+        Files.writeString(ingestDataPath.resolve("docs.ndjson"), "{\"a\":1}\n{\"a\":2}\n", StandardCharsets.UTF_8);
+        AtomicInteger documents = new AtomicInteger();
+        doAnswer(invocation -> {
+            BulkRequest bulkRequest = invocation.getArgument(0);
+            documents.addAndGet(bulkRequest.numberOfActions());
+            ActionListener<BulkResponse> bulkListener = invocation.getArgument(1);
+            bulkListener.onResponse(bulkResponse(bulkRequest, null));
+            return null;
+        }).when(client).bulk(any(BulkRequest.class), any());
+
+        WorkflowData inputData = new WorkflowData(
+            Map.of(INDEX_NAME, "demo", IngestDocumentsStep.FILE_PATH, "docs.ndjson"),
+            "test-id",
+            "test-node-id"
+        );
+        execute(inputData).get();
+
+        assertEquals(2, documents.get());
+    }
+
+    public void testRetryRejectedDocuments() throws ExecutionException, InterruptedException {
+        AtomicInteger attempts = new AtomicInteger();
+        List<Integer> batchSizes = Collections.synchronizedList(new ArrayList<>());
+        doAnswer(invocation -> {
+            BulkRequest bulkRequest = invocation.getArgument(0);
+            batchSizes.add(bulkRequest.numberOfActions());
+            ActionListener<BulkResponse> bulkListener = invocation.getArgument(1);
+            // The first attempt rejects the second document
+            bulkListener.onResponse(bulkResponse(bulkRequest, attempts.getAndIncrement() == 0 ? RestStatus.TOO_MANY_REQUESTS : null));
+            return null;
+        }).when(client).bulk(any(BulkRequest.class), any());
+
+        WorkflowData inputData = new WorkflowData(
+            Map.of(INDEX_NAME, "demo", IngestDocumentsStep.DOCUMENTS, "{\"a\":1}\n{\"a\":2}"),
+            "test-id",
+            "test-node-id"
+        );
+        execute(inputData).get();
+
+        assertEquals(List.of(2, 1), batchSizes);
+    }
+
+    public void testFailedDocuments() {
+        doAnswer(invocation -> {
+            BulkRequest bulkRequest = invocation.getArgument(0);
+            ActionListener<BulkResponse> bulkListener = invocation.getArgument(1);
+            bulkListener.onResponse(bulkResponse(bulkRequest, RestStatus.BAD_REQUEST));
+            return null;
+        }).when(client).bulk(any(BulkRequest.class), any());
+
+        WorkflowData inputData = new WorkflowData(
+            Map.of(INDEX_NAME, "demo", IngestDocumentsStep.DOCUMENTS, "{\"a\":1}\n{\"a\":2}"),
+            "test-id",
+            "test-node-id"
+        );
+        ExecutionException exception = assertThrows(ExecutionException.class, () -> execute(inputData).get());
+        assertTrue(exception.getCause() instanceof WorkflowStepException);
+        assertEquals(RestStatus.BAD_REQUEST, ((WorkflowStepException) exception.getCause()).getRestStatus());
+        assertTrue(exception.getCause().getMessage().startsWith("Failed to ingest 1 of 2 documents into index demo"));
+    }
+
+    public void testCancelledIngest() throws Exception {
+        AtomicReference<PlainActionFuture<WorkflowData>> future = new AtomicReference<>();
+        CountDownLatch executed = new CountDownLatch(1);
+        AtomicInteger bulkRequests = new AtomicInteger();
+        doAnswer(invocation -> {
+            bulkRequests.incrementAndGet();
+            // The step is cancelled while the first batch is in flight
+            executed.await();
+            future.get().cancel(true);
+            BulkRequest bulkRequest = invocation.getArgument(0);
+            ActionListener<BulkResponse> bulkListener = invocation.getArgument(1);
+            bulkListener.onResponse(bulkResponse(bulkRequest, null));
+            return null;
+        }).when(client).bulk(any(BulkRequest.class), any());
+
+        WorkflowData inputData = new WorkflowData(
+            Map.of(
+                INDEX_NAME,
+                "demo",
+                IngestDocumentsStep.DOCUMENTS,
+                "{\"a\":1}\n{\"a\":2}\n{\"a\":3}",
+                IngestDocumentsStep.BATCH_SIZE,
+                "1"
+            ),
+            "test-id",
+            "test-node-id"
+        );
+        future.set(execute(inputData));
+        executed.countDown();
+
+        // The ingest is recorded as cancelled rather than completed, and no further batch is sent
+        @SuppressWarnings("unchecked")
+        ArgumentCaptor<Map<String, Object>> updateCaptor = ArgumentCaptor.forClass(Map.class);
+        assertBusy(() -> {
+            verify(flowFrameworkIndicesHandler, atLeastOnce()).updateFlowFrameworkSystemIndexDoc(
+                eq("test-id"),
+                nullable(String.class),
+                updateCaptor.capture(),
+                any()
+            );
+            @SuppressWarnings("unchecked")
+            Map<String, Map<String, String>> userOutputs = (Map<String, Map<String, String>>) updateCaptor.getValue()
+                .get(USER_OUTPUTS_FIELD);
+            assertEquals("CANCELLED", userOutputs.get("test-node-id").get(IngestDocumentsStep.STATUS));
+        }, 10, TimeUnit.SECONDS);
+        assertTrue(future.get().isCancelled());
+        assertEquals(1, bulkRequests.get());
+    }
+
+    public void testRequiresOneSource() {
+        WorkflowData inputData = new WorkflowData(
+            Map.of(INDEX_NAME, "demo", IngestDocumentsStep.DOCUMENTS, "{\"a\":1}", IngestDocumentsStep.FILE_PATH, "docs.ndjson"),
+            "test-id",
+            "test-node-id"
+        );
+        ExecutionException exception = assertThrows(ExecutionException.class, () -> execute(inputData).get());
+        assertTrue(exception.getCause() instanceof WorkflowStepException);
+        assertEquals(RestStatus.BAD_REQUEST, ((WorkflowStepException) exception.getCause()).getRestStatus());
+        verify(client, never()).bulk(any(BulkRequest.class), any());
+    }
+
+    public void testFileOutsideIngestDataDirectory() throws Exception {
+        Path outside = createTempFile();
+        Files.writeString(outside, "{\"a\":1}\n", StandardCharsets.UTF_8);
+        WorkflowData inputData = new WorkflowData(
+            Map.of(INDEX_NAME, "demo", IngestDocumentsStep.FILE_PATH, ingestDataPath.relativize(outside).toString()),
+            "test-id",
+            "test-node-id"
+        );
+        ExecutionException exception = assertThrows(ExecutionException.class, () -> execute(inputData).get());
+        assertTrue(exception.getCause() instanceof WorkflowStepException);
+        assertTrue(exception.getCause().getMessage().contains("is not a file in the ingest data directory"));
+        verify(client, never()).bulk(any(BulkRequest.class), any());
+        verify(flowFrameworkIndicesHandler, times(0)).updateFlowFrameworkSystemIndexDoc(anyString(), any(), anyMap(), any());
+    }
+
+    private PlainActionFuture<WorkflowData> execute(WorkflowData inputData) {
+        return ingestDocumentsStep.execute(
+            inputData.getNodeId(),
+            inputData,
+            Collections.emptyMap(),
+            Collections.emptyMap(),
+            Collections.emptyMap(),
+            null
+        );
+    }
+
+    /**
+     * Responds to a bulk request, failing its last document with the given status if more than one document is sent
+     */
+    private static BulkResponse bulkResponse(BulkRequest bulkRequest, RestStatus lastItemStatus) {
+        List<DocWriteRequest<?>> requests = bulkRequest.requests();
+        BulkItemResponse[] items = new BulkItemResponse[requests.size()];
+        for (int i = 0; i < items.length; i++) {
+            String id = Integer.toString(i);
+            if (lastItemStatus != null && items.length > 1 && i == items.length - 1) {
+                BulkItemResponse.Failure failure = new BulkItemResponse.Failure(
+                    "demo",
+                    id,
+                    new IllegalStateException("rejected"),
+                    lastItemStatus
+                );
+                items[i] = BulkItemResponse.failure(i, DocWriteRequest.OpType.INDEX, failure);
+            } else {
+                IndexResponse indexResponse = new IndexResponse(new ShardId("demo", "_na_", 0), id, 1, 1, 1, true);
+                items[i] = BulkItemResponse.success(i, DocWriteRequest.OpType.INDEX, indexResponse);
+            }
+        }
+        return new BulkResponse(items, 1);
+    }
+}
@@ -0,0 +1,137 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * The OpenSearch Contributors require contributions made to
+ * this file be licensed under the Apache-2.0 license or a
+ * compatible open source license.
+ */
+package org.opensearch.flowframework.workflow;
+
+import com.carrotsearch.randomizedtesting.annotations.ThreadLeakScope;
+
+import org.opensearch.action.support.PlainActionFuture;
+import org.opensearch.common.settings.Settings;
+import org.opensearch.common.unit.TimeValue;
+import org.opensearch.common.util.concurrent.FutureUtils;
+import org.opensearch.common.util.concurrent.OpenSearchExecutors;
+import org.opensearch.core.action.ActionListener;
+import org.opensearch.flowframework.common.FlowFrameworkSettings;
+import org.opensearch.ml.client.MachineLearningNodeClient;
+import org.opensearch.ml.common.MLTask;
+import org.opensearch.ml.common.MLTaskState;
+import org.opensearch.test.OpenSearchTestCase;
+import org.opensearch.threadpool.ScalingExecutorBuilder;
+import org.opensearch.threadpool.TestThreadPool;
+import org.opensearch.threadpool.ThreadPool;
+import org.junit.AfterClass;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.opensearch.flowframework.common.CommonValue.FLOW_FRAMEWORK_THREAD_POOL_PREFIX;
+import static org.opensearch.flowframework.common.CommonValue.WORKFLOW_THREAD_POOL;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.ArgumentMatchers.nullable;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.timeout;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@ThreadLeakScope(ThreadLeakScope.Scope.NONE)
+public class MLTaskPollerTests extends OpenSearchTestCase {
+
+    private static TestThreadPool testThreadPool;
+    private MachineLearningNodeClient mlClient;
+    private MLTaskPoller mlTaskPoller;
+
+    @Override
+    public void setUp() throws Exception {
+        super.setUp();
+        testThreadPool = new TestThreadPool(
+            MLTaskPollerTests.class.getName(),
+            new ScalingExecutorBuilder(
+                WORKFLOW_THREAD_POOL,
+                1,
+                Math.max(1, OpenSearchExecutors.allocatedProcessors(Settings.EMPTY) - 1),
+                TimeValue.timeValueMinutes(1),
+                FLOW_FRAMEWORK_THREAD_POOL_PREFIX + WORKFLOW_THREAD_POOL
+            )
+        );
+        mlClient = mock(MachineLearningNodeClient.class);
+        FlowFrameworkSettings flowFrameworkSettings = mock(FlowFrameworkSettings.class);
+        when(flowFrameworkSettings.getRetryDuration()).thenReturn(TimeValue.timeValueMillis(10));
+        mlTaskPoller = new MLTaskPoller(testThreadPool, mlClient, flowFrameworkSettings);
+    }
+
+    @AfterClass
+    public static void cleanup() {
+        ThreadPool.terminate(testThreadPool, 500, TimeUnit.MILLISECONDS);
+    }
+
+    public void testPollTasks() throws Exception {
+        // Each task runs for a number of polls before completing
+        Map<String, AtomicInteger> remainingPolls = new ConcurrentHashMap<>(
+            Map.of("task-1", new AtomicInteger(1), "task-2", new AtomicInteger(3))
+        );
+        doAnswer(invocation -> {
+            String taskId = invocation.getArgument(0);
+            ActionListener<MLTask> listener = invocation.getArgument(2);
+            MLTaskState state = remainingPolls.get(taskId).getAndDecrement() > 0 ? MLTaskState.RUNNING : MLTaskState.COMPLETED;
+            listener.onResponse(MLTask.builder().taskId(taskId).modelId("model-" + taskId).state(state).async(false).build());
+            return null;
+        }).when(mlClient).getTask(any(), nullable(String.class), any());
+
+        PlainActionFuture<MLTask> task1 = PlainActionFuture.newFuture();
+        PlainActionFuture<MLTask> task2 = PlainActionFuture.newFuture();
+        mlTaskPoller.poll("task-1", null, PlainActionFuture.newFuture(), task1);
+        mlTaskPoller.poll("task-2", null, PlainActionFuture.newFuture(), task2);
+
+        assertEquals("model-task-1", task1.get(5, TimeUnit.SECONDS).getModelId());
+        assertEquals("model-task-2", task2.get(5, TimeUnit.SECONDS).getModelId());
+        assertBusy(() -> assertEquals(0, mlTaskPoller.pendingTasks()));
+        // Finished tasks are not polled again
+        verify(mlClient, timeout(1000).times(2)).getTask(eq("task-1"), nullable(String.class), any());
+        verify(mlClient, timeout(1000).times(4)).getTask(eq("task-2"), nullable(String.class), any());
+    }
+
+    public void testPollFailure() throws Exception {
+        doAnswer(invocation -> {
+            ActionListener<MLTask> listener = invocation.getArgument(2);
+            listener.onFailure(new IllegalStateException("Task not found"));
+            return null;
+        }).when(mlClient).getTask(any(), nullable(String.class), any());
+
+        PlainActionFuture<MLTask> task = PlainActionFuture.newFuture();
+        mlTaskPoller.poll("task-1", null, PlainActionFuture.newFuture(), task);
+
+        Exception e = expectThrows(Exception.class, () -> task.get(5, TimeUnit.SECONDS));
+        assertTrue(e.getCause() instanceof IllegalStateException);
+        assertBusy(() -> assertEquals(0, mlTaskPoller.pendingTasks()));
+    }
+
+    public void testStopPollingCancelledStep() throws Exception {
+        doAnswer(invocation -> {
+            ActionListener<MLTask> listener = invocation.getArgument(2);
+            listener.onResponse(MLTask.builder().taskId("task-1").state(MLTaskState.RUNNING).async(false).build());
+            return null;
+        }).when(mlClient).getTask(any(), nullable(String.class), any());
+
+        PlainActionFuture<WorkflowData> stepFuture = PlainActionFuture.newFuture();
+        @SuppressWarnings("unchecked")
+        ActionListener<MLTask> listener = mock(ActionListener.class);
+        mlTaskPoller.poll("task-1", null, stepFuture, listener);
+        verify(mlClient, timeout(1000).atLeastOnce()).getTask(eq("task-1"), nullable(String.class), any());
+
+        // The task is polled a last time after the step is cancelled, then dropped
+        FutureUtils.cancel(stepFuture);
+        assertBusy(() -> assertEquals(0, mlTaskPoller.pendingTasks()));
+        verify(listener, never()).onResponse(any());
+        verify(listener, never()).onFailure(any());
+    }
+}
@@ -13,6 +13,13 @@ import org.opensearch.action.support.PlainActionFuture;
 import org.opensearch.common.settings.Settings;
 import org.opensearch.common.unit.TimeValue;
 import org.opensearch.common.util.concurrent.OpenSearchExecutors;
+import org.opensearch.core.rest.RestStatus;
+import org.opensearch.flowframework.common.FlowFrameworkSettings;
+import org.opensearch.flowframework.exception.FlowFrameworkException;
+import org.opensearch.flowframework.model.StepStatus;
+import org.opensearch.flowframework.model.StepTimeline;
+import org.opensearch.flowframework.stats.FlowFrameworkStats;
+import org.opensearch.flowframework.stats.StepStats;
 import org.opensearch.test.OpenSearchTestCase;
 import org.opensearch.threadpool.ScalingExecutorBuilder;
 import org.opensearch.threadpool.TestThreadPool;
@@ -35,6 +42,7 @@ import static org.mockito.Mockito.when;
 public class ProcessNodeTests extends OpenSearchTestCase {
 
     private static TestThreadPool testThreadPool;
+    private static WorkflowExecutors workflowExecutors;
     private static ProcessNode successfulNode;
     private static ProcessNode failedNode;
 
@@ -50,6 +58,7 @@ public class ProcessNodeTests extends OpenSearchTestCase {
                 FLOW_FRAMEWORK_THREAD_POOL_PREFIX + PROVISION_WORKFLOW_THREAD_POOL
             )
         );
+        workflowExecutors = new WorkflowExecutors(testThreadPool, mock(FlowFrameworkSettings.class));
 
         PlainActionFuture<WorkflowData> successfulFuture = PlainActionFuture.newFuture();
         successfulFuture.onResponse(WorkflowData.EMPTY);
@@ -92,10 +101,11 @@ public class ProcessNodeTests extends OpenSearchTestCase {
             Collections.emptyMap(),
             new WorkflowData(Map.of("test", "input"), Map.of("foo", "bar"), "test-id", "test-node-id"),
             List.of(successfulNode),
-            testThreadPool,
+            workflowExecutors,
             PROVISION_WORKFLOW_THREAD_POOL,
             TimeValue.timeValueMillis(50),
-            null
+            null,
+            new FlowFrameworkStats()
         );
         assertEquals("A", nodeA.id());
         assertEquals("test", nodeA.workflowStep().getName());
@@ -108,10 +118,18 @@ public class ProcessNodeTests extends OpenSearchTestCase {
         assertEquals(1, nodeA.predecessors().size());
         assertEquals(50, nodeA.nodeTimeout().millis());
         assertEquals("A", nodeA.toString());
+        assertEquals(StepStatus.QUEUED, nodeA.timeline(0).status());
 
         PlainActionFuture<WorkflowData> f = nodeA.execute();
         assertEquals(f, nodeA.future());
         assertEquals("output", f.actionGet(1, TimeUnit.MINUTES).getContent().get("test"));
+        StepTimeline timeline = nodeA.timeline(2);
+        assertEquals("A", timeline.workflowStepId());
+        assertEquals("test", timeline.workflowStepName());
+        assertEquals(StepStatus.COMPLETED, timeline.status());
+        assertEquals(2, timeline.retryCount());
+        assertFalse(timeline.startTime().isBefore(timeline.enqueueTime()));
+        assertFalse(timeline.endTime().isBefore(timeline.startTime()));
     }
 
     public void testNodeNoTimeout() throws InterruptedException, ExecutionException {
@@ -144,10 +162,11 @@ public class ProcessNodeTests extends OpenSearchTestCase {
             Collections.emptyMap(),
             WorkflowData.EMPTY,
             Collections.emptyList(),
-            testThreadPool,
+            workflowExecutors,
             PROVISION_WORKFLOW_THREAD_POOL,
             TimeValue.timeValueMillis(500),
-            null
+            null,
+            new FlowFrameworkStats()
         );
         assertEquals("B", nodeB.id());
         assertEquals("test", nodeB.workflowStep().getName());
@@ -162,6 +181,8 @@ public class ProcessNodeTests extends OpenSearchTestCase {
 
     public void testNodeTimeout() throws InterruptedException, ExecutionException {
         // Tests where execute finishes after timeout
+        FlowFrameworkStats stats = new FlowFrameworkStats();
+        PlainActionFuture<WorkflowData> stepFuture = PlainActionFuture.newFuture();
         ProcessNode nodeZ = new ProcessNode("Zzz", new WorkflowStep() {
             @Override
             public PlainActionFuture<WorkflowData> execute(
@@ -172,13 +193,12 @@ public class ProcessNodeTests extends OpenSearchTestCase {
                 Map<String, String> params,
                 String tenantId
             ) {
-                PlainActionFuture<WorkflowData> future = PlainActionFuture.newFuture();
                 testThreadPool.schedule(
-                    () -> future.onResponse(WorkflowData.EMPTY),
+                    () -> stepFuture.onResponse(WorkflowData.EMPTY),
                     TimeValue.timeValueMinutes(1),
                     PROVISION_WORKFLOW_THREAD_POOL
                 );
-                return future;
+                return stepFuture;
             }
 
             @Override
@@ -190,10 +210,11 @@ public class ProcessNodeTests extends OpenSearchTestCase {
             Collections.emptyMap(),
             WorkflowData.EMPTY,
             Collections.emptyList(),
-            testThreadPool,
+            workflowExecutors,
             PROVISION_WORKFLOW_THREAD_POOL,
             TimeValue.timeValueMillis(100),
-            null
+            null,
+            stats
         );
         assertEquals("Zzz", nodeZ.id());
         assertEquals("sleepy", nodeZ.workflowStep().getName());
@@ -205,6 +226,14 @@ public class ProcessNodeTests extends OpenSearchTestCase {
         OpenSearchTimeoutException exception = assertThrows(OpenSearchTimeoutException.class, () -> f.actionGet());
         assertTrue(f.isDone());
         assertEquals(TimeoutException.class, exception.getCause().getClass());
+        StepStats stepStats = stats.getStepStats().get("sleepy");
+        assertEquals(1, stepStats.getCount());
+        assertEquals(1, stepStats.getTimeouts());
+        assertEquals(0, stepStats.getFailures());
+        assertEquals(1, stepStats.getExecutionMillis().getTotalCount());
+        assertEquals(StepStatus.TIMED_OUT, nodeZ.timeline(0).status());
+        // The step is cancelled rather than left running
+        assertTrue(stepFuture.isCancelled());
     }
 
     public void testExceptions() {
@@ -233,10 +262,11 @@ public class ProcessNodeTests extends OpenSearchTestCase {
             Collections.emptyMap(),
             WorkflowData.EMPTY,
             List.of(successfulNode, failedNode),
-            testThreadPool,
+            workflowExecutors,
             PROVISION_WORKFLOW_THREAD_POOL,
             TimeValue.timeValueSeconds(15),
-            null
+            null,
+            new FlowFrameworkStats()
         );
         assertEquals("E", nodeE.id());
         assertEquals("test", nodeE.workflowStep().getName());
@@ -246,8 +276,36 @@ public class ProcessNodeTests extends OpenSearchTestCase {
 
         PlainActionFuture<WorkflowData> f = nodeE.execute();
         assertThrows(RuntimeException.class, () -> f.actionGet());
+        // The step never started since a predecessor failed
+        StepTimeline timeline = nodeE.timeline(0);
+        assertEquals(StepStatus.SKIPPED, timeline.status());
+        assertNull(timeline.startTime());
+        assertNull(timeline.endTime());
         assertTrue(f.isDone());
         // Tests where we already called execute
         assertThrows(IllegalStateException.class, () -> nodeE.execute());
     }
+
+    public void testCancelBeforeExecute() {
+        ProcessNode nodeC = new ProcessNode(
+            "C",
+            mock(WorkflowStep.class),
+            Collections.emptyMap(),
+            Collections.emptyMap(),
+            WorkflowData.EMPTY,
+            Collections.emptyList(),
+            workflowExecutors,
+            PROVISION_WORKFLOW_THREAD_POOL,
+            TimeValue.timeValueSeconds(15),
+            null,
+            new FlowFrameworkStats()
+        );
+        nodeC.cancel();
+        assertTrue(nodeC.isCancelled());
+
+        PlainActionFuture<WorkflowData> f = nodeC.execute();
+        FlowFrameworkException exception = assertThrows(FlowFrameworkException.class, () -> f.actionGet());
+        assertEquals(RestStatus.REQUEST_TIMEOUT, exception.getRestStatus());
+        assertEquals(StepStatus.SKIPPED, nodeC.timeline(0).status());
+    }
 }
@@ -10,16 +10,41 @@ package org.opensearch.flowframework.workflow;
 
 import org.apache.lucene.tests.util.LuceneTestCase;
 import org.opensearch.OpenSearchException;
+import org.opensearch.ResourceNotFoundException;
+import org.opensearch.action.admin.cluster.health.ClusterHealthRequest;
+import org.opensearch.action.admin.cluster.health.ClusterHealthResponse;
+import org.opensearch.action.admin.cluster.node.tasks.get.GetTaskRequest;
+import org.opensearch.action.admin.cluster.node.tasks.get.GetTaskResponse;
+import org.opensearch.action.admin.indices.forcemerge.ForceMergeRequest;
+import org.opensearch.action.admin.indices.forcemerge.ForceMergeResponse;
+import org.opensearch.action.admin.indices.settings.get.GetSettingsRequest;
+import org.opensearch.action.admin.indices.settings.get.GetSettingsResponse;
+import org.opensearch.action.admin.indices.settings.put.UpdateSettingsRequest;
 import org.opensearch.action.support.PlainActionFuture;
+import org.opensearch.action.support.clustermanager.AcknowledgedResponse;
+import org.opensearch.cluster.health.ClusterHealthStatus;
 import org.opensearch.common.Randomness;
+import org.opensearch.common.settings.Settings;
 import org.opensearch.common.unit.TimeValue;
+import org.opensearch.common.util.concurrent.ThreadContext;
 import org.opensearch.core.action.ActionListener;
 import org.opensearch.flowframework.indices.FlowFrameworkIndicesHandler;
+import org.opensearch.flowframework.model.WorkflowState;
+import org.opensearch.index.reindex.AbstractBulkByScrollRequest;
 import org.opensearch.index.reindex.BulkByScrollResponse;
 import org.opensearch.index.reindex.BulkByScrollTask;
+import org.opensearch.index.reindex.ReindexAction;
 import org.opensearch.index.reindex.ReindexRequest;
+import org.opensearch.tasks.Task;
+import org.opensearch.tasks.TaskInfo;
+import org.opensearch.tasks.TaskResult;
 import org.opensearch.test.OpenSearchTestCase;
+import org.opensearch.threadpool.ThreadPool;
+import org.opensearch.transport.client.AdminClient;
 import org.opensearch.transport.client.Client;
+import org.opensearch.transport.client.ClusterAdminClient;
+import org.opensearch.transport.client.IndicesAdminClient;
+import org.opensearch.transport.client.node.NodeClient;
 
 import java.io.IOException;
 import java.util.Collections;
@@ -37,12 +62,23 @@ import static java.util.stream.Collectors.toList;
 import static org.opensearch.common.unit.TimeValue.timeValueMillis;
 import static org.opensearch.flowframework.common.CommonValue.DESTINATION_INDEX;
 import static org.opensearch.flowframework.common.CommonValue.SOURCE_INDEX;
+import static org.opensearch.flowframework.common.CommonValue.TASK_ID;
+import static org.opensearch.flowframework.common.CommonValue.USER_OUTPUTS_FIELD;
+import static org.opensearch.flowframework.model.WorkflowNode.NODE_TIMEOUT_DEFAULT_VALUE;
+import static org.opensearch.flowframework.model.WorkflowNode.NODE_TIMEOUT_FIELD;
 import static org.opensearch.flowframework.workflow.ReindexStep.NAME;
 import static org.apache.lucene.tests.util.TestUtil.randomSimpleString;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyMap;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.ArgumentMatchers.isNull;
+import static org.mockito.Mockito.doAnswer;
 import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
 
 public class ReindexStepTests extends OpenSearchTestCase {
     private WorkflowData inputData = WorkflowData.EMPTY;
@@ -59,7 +95,11 @@ public class ReindexStepTests extends OpenSearchTestCase {
     /** The max_docs field for reindex */
     private static final String MAX_DOCS = "max_docs";
 
+    /** The wait_for_completion field for reindex */
+    private static final String WAIT_FOR_COMPLETION = "wait_for_completion";
+
     private FlowFrameworkIndicesHandler flowFrameworkIndicesHandler;
+    private WorkflowData backgroundInputData;
 
     @Override
     public void setUp() throws Exception {
@@ -81,6 +121,12 @@ public class ReindexStepTests extends OpenSearchTestCase {
             "test-node-id"
         );
 
+        backgroundInputData = new WorkflowData(
+            Map.of(SOURCE_INDEX, "demo", DESTINATION_INDEX, "dest", WAIT_FOR_COMPLETION, false),
+            "test-id",
+            "test-node-id"
+        );
+
         client = mock(Client.class);
         reIndexStep = new ReindexStep(client, flowFrameworkIndicesHandler);
     }
@@ -139,6 +185,331 @@ public class ReindexStepTests extends OpenSearchTestCase {
         assertEquals("Failed to reindex from source demo to dest", ex.getCause().getMessage());
     }
 
+    public void testBulkLoadReindexStep() throws ExecutionException, InterruptedException {
+        AdminClient adminClient = mock(AdminClient.class);
+        IndicesAdminClient indicesAdminClient = mock(IndicesAdminClient.class);
+        ClusterAdminClient clusterAdminClient = mock(ClusterAdminClient.class);
+        when(client.admin()).thenReturn(adminClient);
+        when(adminClient.indices()).thenReturn(indicesAdminClient);
+        when(adminClient.cluster()).thenReturn(clusterAdminClient);
+        doAnswer(invocation -> {
+            ActionListener<GetSettingsResponse> listener = invocation.getArgument(1);
+            Settings settings = Settings.builder().put("index.refresh_interval", "5s").build();
+            listener.onResponse(new GetSettingsResponse(Map.of("dest", settings), Collections.emptyMap()));
+            return null;
+        }).when(indicesAdminClient).getSettings(any(GetSettingsRequest.class), any());
+        doAnswer(invocation -> {
+            ActionListener<AcknowledgedResponse> listener = invocation.getArgument(1);
+            listener.onResponse(new AcknowledgedResponse(true));
+            return null;
+        }).when(indicesAdminClient).updateSettings(any(UpdateSettingsRequest.class), any());
+        ClusterHealthResponse healthResponse = mock(ClusterHealthResponse.class);
+        when(healthResponse.isTimedOut()).thenReturn(false);
+        when(healthResponse.getNumberOfDataNodes()).thenReturn(2);
+        doAnswer(invocation -> {
+            ActionListener<ClusterHealthResponse> listener = invocation.getArgument(1);
+            listener.onResponse(healthResponse);
+            return null;
+        }).when(clusterAdminClient).health(any(ClusterHealthRequest.class), any());
+
+        @SuppressWarnings({ "unchecked" })
+        ArgumentCaptor<ActionListener<BulkByScrollResponse>> actionListenerCaptor = ArgumentCaptor.forClass(ActionListener.class);
+        PlainActionFuture<WorkflowData> future = reIndexStep.execute(
+            inputData.getNodeId(),
+            new WorkflowData(Map.of(SOURCE_INDEX, "demo", DESTINATION_INDEX, "dest", "bulk_load", true), "test-id", "test-node-id"),
+            Collections.emptyMap(),
+            Collections.emptyMap(),
+            Collections.emptyMap(),
+            null
+        );
+
+        // Bulk load settings are applied before the reindex
+        ArgumentCaptor<UpdateSettingsRequest> updateCaptor = ArgumentCaptor.forClass(UpdateSettingsRequest.class);
+        verify(indicesAdminClient, times(1)).updateSettings(updateCaptor.capture(), any());
+        assertEquals("-1", updateCaptor.getValue().settings().get("index.refresh_interval"));
+        assertEquals("0", updateCaptor.getValue().settings().get("index.number_of_replicas"));
+        assertFalse(future.isDone());
+
+        verify(client, times(1)).execute(any(), any(ReindexRequest.class), actionListenerCaptor.capture());
+        actionListenerCaptor.getValue()
+            .onResponse(
+                new BulkByScrollResponse(
+                    timeValueMillis(randomNonNegativeLong()),
+                    randomStatus(),
+                    Collections.emptyList(),
+                    Collections.emptyList(),
+                    randomBoolean()
+                )
+            );
+
+        // The configured refresh interval is restored, and the default replica count as none was configured
+        verify(indicesAdminClient, times(2)).updateSettings(updateCaptor.capture(), any());
+        Settings restored = updateCaptor.getValue().settings();
+        assertEquals("5s", restored.get("index.refresh_interval"));
+        assertTrue(restored.keySet().contains("index.number_of_replicas"));
+        assertNull(restored.get("index.number_of_replicas"));
+        // The default replica can be allocated on the second data node, so the index is awaited to turn green within the node timeout
+        ArgumentCaptor<ClusterHealthRequest> healthCaptor = ArgumentCaptor.forClass(ClusterHealthRequest.class);
+        verify(clusterAdminClient, times(2)).health(healthCaptor.capture(), any());
+        assertEquals(ClusterHealthStatus.GREEN, healthCaptor.getValue().waitForStatus());
+        assertTrue(healthCaptor.getValue().timeout().compareTo(NODE_TIMEOUT_DEFAULT_VALUE) <= 0);
+        assertTrue(future.isDone());
+        assertEquals("dest", ((Map<?, ?>) future.get().getContent().get(NAME)).get(DESTINATION_INDEX));
+    }
+
+    public void testBulkLoadReindexStepForceMergesOnSingleNode() throws ExecutionException, InterruptedException {
+        AdminClient adminClient = mock(AdminClient.class);
+        IndicesAdminClient indicesAdminClient = mock(IndicesAdminClient.class);
+        ClusterAdminClient clusterAdminClient = mock(ClusterAdminClient.class);
+        when(client.admin()).thenReturn(adminClient);
+        when(adminClient.indices()).thenReturn(indicesAdminClient);
+        when(adminClient.cluster()).thenReturn(clusterAdminClient);
+        doAnswer(invocation -> {
+            ActionListener<GetSettingsResponse> listener = invocation.getArgument(1);
+            Settings settings = Settings.builder().put("index.number_of_replicas", "1").build();
+            listener.onResponse(new GetSettingsResponse(Map.of("dest", settings), Collections.emptyMap()));
+            return null;
+        }).when(indicesAdminClient).getSettings(any(GetSettingsRequest.class), any());
+        doAnswer(invocation -> {
+            ActionListener<AcknowledgedResponse> listener = invocation.getArgument(1);
+            listener.onResponse(new AcknowledgedResponse(true));
+            return null;
+        }).when(indicesAdminClient).updateSettings(any(UpdateSettingsRequest.class), any());
+        doAnswer(invocation -> {
+            ActionListener<ForceMergeResponse> listener = invocation.getArgument(1);
+            listener.onResponse(mock(ForceMergeResponse.class));
+            return null;
+        }).when(indicesAdminClient).forceMerge(any(ForceMergeRequest.class), any());
+        ClusterHealthResponse healthResponse = mock(ClusterHealthResponse.class);
+        when(healthResponse.isTimedOut()).thenReturn(false);
+        when(healthResponse.getNumberOfDataNodes()).thenReturn(1);
+        doAnswer(invocation -> {
+            ActionListener<ClusterHealthResponse> listener = invocation.getArgument(1);
+            listener.onResponse(healthResponse);
+            return null;
+        }).when(clusterAdminClient).health(any(ClusterHealthRequest.class), any());
+
+        @SuppressWarnings({ "unchecked" })
+        ArgumentCaptor<ActionListener<BulkByScrollResponse>> actionListenerCaptor = ArgumentCaptor.forClass(ActionListener.class);
+        PlainActionFuture<WorkflowData> future = reIndexStep.execute(
+            inputData.getNodeId(),
+            new WorkflowData(
+                Map.of(
+                    SOURCE_INDEX,
+                    "demo",
+                    DESTINATION_INDEX,
+                    "dest",
+                    "bulk_load",
+                    true,
+                    "force_merge",
+                    true,
+                    "max_num_segments",
+                    "5",
+                    NODE_TIMEOUT_FIELD,
+                    "60s"
+                ),
+                "test-id",
+                "test-node-id"
+            ),
+            Collections.emptyMap(),
+            Collections.emptyMap(),
+            Collections.emptyMap(),
+            null
+        );
+        verify(client, times(1)).execute(any(), any(ReindexRequest.class), actionListenerCaptor.capture());
+        actionListenerCaptor.getValue()
+            .onResponse(
+                new BulkByScrollResponse(
+                    timeValueMillis(randomNonNegativeLong()),
+                    randomStatus(),
+                    Collections.emptyList(),
+                    Collections.emptyList(),
+                    randomBoolean()
+                )
+            );
+
+        ArgumentCaptor<ForceMergeRequest> forceMergeCaptor = ArgumentCaptor.forClass(ForceMergeRequest.class);
+        verify(indicesAdminClient, times(1)).forceMerge(forceMergeCaptor.capture(), any());
+        assertEquals(5, forceMergeCaptor.getValue().maxNumSegments());
+        // The replica can't be allocated on the only data node, so the index is only awaited to turn yellow
+        ArgumentCaptor<ClusterHealthRequest> healthCaptor = ArgumentCaptor.forClass(ClusterHealthRequest.class);
+        verify(clusterAdminClient, times(2)).health(healthCaptor.capture(), any());
+        assertEquals(ClusterHealthStatus.YELLOW, healthCaptor.getValue().waitForStatus());
+        assertTrue(healthCaptor.getValue().timeout().compareTo(TimeValue.timeValueSeconds(60)) <= 0);
+        assertTrue(future.isDone());
+        assertEquals("dest", ((Map<?, ?>) future.get().getContent().get(NAME)).get(DESTINATION_INDEX));
+    }
+
+    public void testBulkLoadReindexStepRequiresWaiting() {
+        PlainActionFuture<WorkflowData> future = reIndexStep.execute(
+            inputData.getNodeId(),
+            new WorkflowData(
+                Map.of(SOURCE_INDEX, "demo", DESTINATION_INDEX, "dest", "bulk_load", true, WAIT_FOR_COMPLETION, false),
+                "test-id",
+                "test-node-id"
+            ),
+            Collections.emptyMap(),
+            Collections.emptyMap(),
+            Collections.emptyMap(),
+            null
+        );
+
+        assertTrue(future.isDone());
+        ExecutionException ex = assertThrows(ExecutionException.class, () -> future.get());
+        assertEquals("Failed to reindex bulk load settings can only be applied when waiting for completion", ex.getCause().getMessage());
+    }
+
+    @SuppressWarnings("unchecked")
+    public void testBackgroundReindexStep() throws ExecutionException, InterruptedException {
+        NodeClient nodeClient = mockNodeClient();
+        Task task = mock(Task.class);
+        when(task.getId()).thenReturn(42L);
+        when(nodeClient.executeLocally(eq(ReindexAction.INSTANCE), any(ReindexRequest.class), any(ActionListener.class))).thenReturn(task);
+        mockWorkflowState(Collections.emptyMap());
+        ArgumentCaptor<Map<String, Object>> updateCaptor = ArgumentCaptor.forClass(Map.class);
+        doAnswer(invocation -> {
+            ActionListener<Object> listener = invocation.getArgument(3);
+            listener.onResponse(null);
+            return null;
+        }).when(flowFrameworkIndicesHandler).updateFlowFrameworkSystemIndexDoc(anyString(), isNull(), updateCaptor.capture(), any());
+
+        ReindexStep backgroundStep = new ReindexStep(nodeClient, flowFrameworkIndicesHandler);
+        PlainActionFuture<WorkflowData> future = backgroundStep.execute(
+            inputData.getNodeId(),
+            backgroundInputData,
+            Collections.emptyMap(),
+            Collections.emptyMap(),
+            Collections.emptyMap(),
+            null
+        );
+
+        assertTrue(future.isDone());
+        Map<String, Object> output = (Map<String, Object>) future.get().getContent().get(NAME);
+        assertEquals("local-node:42", output.get(TASK_ID));
+
+        ArgumentCaptor<ReindexRequest> requestCaptor = ArgumentCaptor.forClass(ReindexRequest.class);
+        verify(nodeClient, times(1)).executeLocally(eq(ReindexAction.INSTANCE), requestCaptor.capture(), any(ActionListener.class));
+        assertEquals(AbstractBulkByScrollRequest.AUTO_SLICES, requestCaptor.getValue().getSlices());
+        assertTrue(requestCaptor.getValue().getShouldStoreResult());
+
+        Map<String, Object> userOutputs = (Map<String, Object>) updateCaptor.getValue().get(USER_OUTPUTS_FIELD);
+        Map<String, String> progress = (Map<String, String>) userOutputs.get("test-node-id");
+        assertEquals("local-node:42", progress.get(TASK_ID));
+        assertEquals(ReindexTaskMonitor.RUNNING, progress.get(ReindexTaskMonitor.STATUS));
+    }
+
+    @SuppressWarnings("unchecked")
+    public void testBackgroundReindexStepReattaches() throws ExecutionException, InterruptedException {
+        NodeClient nodeClient = mockNodeClient();
+        mockWorkflowState(
+            Map.of(
+                "test-node-id",
+                Map.of(TASK_ID, "other-node:7", SOURCE_INDEX, "demo", DESTINATION_INDEX, "dest", ReindexTaskMonitor.STATUS, "RUNNING")
+            )
+        );
+        TaskInfo taskInfo = mock(TaskInfo.class);
+        ClusterAdminClient clusterAdminClient = nodeClient.admin().cluster();
+        doAnswer(invocation -> {
+            ActionListener<GetTaskResponse> listener = invocation.getArgument(1);
+            listener.onResponse(new GetTaskResponse(new TaskResult(false, taskInfo)));
+            return null;
+        }).when(clusterAdminClient).getTask(any(GetTaskRequest.class), any());
+        doAnswer(invocation -> {
+            ActionListener<Object> listener = invocation.getArgument(3);
+            listener.onResponse(null);
+            return null;
+        }).when(flowFrameworkIndicesHandler).updateFlowFrameworkSystemIndexDoc(anyString(), isNull(), anyMap(), any());
+
+        ReindexStep backgroundStep = new ReindexStep(nodeClient, flowFrameworkIndicesHandler);
+        PlainActionFuture<WorkflowData> future = backgroundStep.execute(
+            inputData.getNodeId(),
+            new WorkflowData(
+                Map.of(SOURCE_INDEX, "demo", DESTINATION_INDEX, "dest", WAIT_FOR_COMPLETION, "false"),
+                "test-id",
+                "test-node-id"
+            ),
+            Collections.emptyMap(),
+            Collections.emptyMap(),
+            Collections.emptyMap(),
+            null
+        );
+
+        assertTrue(future.isDone());
+        Map<String, Object> output = (Map<String, Object>) future.get().getContent().get(NAME);
+        assertEquals("other-node:7", output.get(TASK_ID));
+        verify(nodeClient, never()).executeLocally(any(), any(), any(ActionListener.class));
+    }
+
+    @SuppressWarnings("unchecked")
+    public void testBackgroundReindexStepRestartsLostTask() throws ExecutionException, InterruptedException {
+        NodeClient nodeClient = mockNodeClient();
+        Task task = mock(Task.class);
+        when(task.getId()).thenReturn(43L);
+        when(nodeClient.executeLocally(eq(ReindexAction.INSTANCE), any(ReindexRequest.class), any(ActionListener.class))).thenReturn(task);
+        mockWorkflowState(Map.of("test-node-id", Map.of(TASK_ID, "old-node:7", SOURCE_INDEX, "demo", DESTINATION_INDEX, "dest")));
+        ClusterAdminClient clusterAdminClient = nodeClient.admin().cluster();
+        doAnswer(invocation -> {
+            ActionListener<GetTaskResponse> listener = invocation.getArgument(1);
+            listener.onFailure(new ResourceNotFoundException("task [old-node:7] isn't running and hasn't stored its results"));
+            return null;
+        }).when(clusterAdminClient).getTask(any(GetTaskRequest.class), any());
+        doAnswer(invocation -> {
+            ActionListener<Object> listener = invocation.getArgument(3);
+            listener.onResponse(null);
+            return null;
+        }).when(flowFrameworkIndicesHandler).updateFlowFrameworkSystemIndexDoc(anyString(), isNull(), anyMap(), any());
+
+        ReindexStep backgroundStep = new ReindexStep(nodeClient, flowFrameworkIndicesHandler);
+        PlainActionFuture<WorkflowData> future = backgroundStep.execute(
+            inputData.getNodeId(),
+            backgroundInputData,
+            Collections.emptyMap(),
+            Collections.emptyMap(),
+            Collections.emptyMap(),
+            null
+        );
+
+        assertTrue(future.isDone());
+        Map<String, Object> output = (Map<String, Object>) future.get().getContent().get(NAME);
+        assertEquals("local-node:43", output.get(TASK_ID));
+    }
+
+    public void testBackgroundReindexStepRequiresNode() {
+        PlainActionFuture<WorkflowData> future = reIndexStep.execute(
+            inputData.getNodeId(),
+            backgroundInputData,
+            Collections.emptyMap(),
+            Collections.emptyMap(),
+            Collections.emptyMap(),
+            null
+        );
+
+        assertTrue(future.isDone());
+        ExecutionException ex = assertThrows(ExecutionException.class, () -> future.get());
+        assertEquals("Background reindex must be started on a node", ex.getCause().getMessage());
+    }
+
+    private NodeClient mockNodeClient() {
+        NodeClient nodeClient = mock(NodeClient.class);
+        ThreadPool threadPool = mock(ThreadPool.class);
+        when(threadPool.getThreadContext()).thenReturn(new ThreadContext(Settings.EMPTY));
+        when(nodeClient.threadPool()).thenReturn(threadPool);
+        when(nodeClient.getLocalNodeId()).thenReturn("local-node");
+        AdminClient adminClient = mock(AdminClient.class);
+        ClusterAdminClient clusterAdminClient = mock(ClusterAdminClient.class);
+        when(nodeClient.admin()).thenReturn(adminClient);
+        when(adminClient.cluster()).thenReturn(clusterAdminClient);
+        return nodeClient;
+    }
+
+    private void mockWorkflowState(Map<String, Object> userOutputs) {
+        doAnswer(invocation -> {
+            ActionListener<WorkflowState> listener = invocation.getArgument(3);
+            listener.onResponse(WorkflowState.builder().workflowId("test-id").userOutputs(userOutputs).build());
+            return null;
+        }).when(flowFrameworkIndicesHandler).getWorkflowState(eq("test-id"), isNull(), any(), any(), any());
+    }
+
     private static BulkByScrollTask.Status randomStatus() {
         if (randomBoolean()) {
             return randomWorkingStatus(null);
@@ -0,0 +1,161 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * The OpenSearch Contributors require contributions made to
+ * this file be licensed under the Apache-2.0 license or a
+ * compatible open source license.
+ */
+package org.opensearch.flowframework.workflow;
+
+import org.opensearch.ResourceNotFoundException;
+import org.opensearch.action.NoShardAvailableActionException;
+import org.opensearch.action.admin.cluster.node.tasks.get.GetTaskRequest;
+import org.opensearch.action.admin.cluster.node.tasks.get.GetTaskResponse;
+import org.opensearch.action.search.SearchRequest;
+import org.opensearch.action.search.SearchResponse;
+import org.opensearch.cluster.service.ClusterService;
+import org.opensearch.common.settings.Settings;
+import org.opensearch.common.unit.TimeValue;
+import org.opensearch.common.util.concurrent.ThreadContext;
+import org.opensearch.core.action.ActionListener;
+import org.opensearch.core.index.shard.ShardId;
+import org.opensearch.flowframework.indices.FlowFrameworkIndicesHandler;
+import org.opensearch.flowframework.model.WorkflowState;
+import org.opensearch.test.OpenSearchTestCase;
+import org.opensearch.threadpool.Scheduler;
+import org.opensearch.threadpool.ThreadPool;
+import org.opensearch.transport.client.AdminClient;
+import org.opensearch.transport.client.Client;
+import org.opensearch.transport.client.ClusterAdminClient;
+
+import java.util.Map;
+
+import org.mockito.ArgumentCaptor;
+
+import static org.opensearch.flowframework.common.CommonValue.DESTINATION_INDEX;
+import static org.opensearch.flowframework.common.CommonValue.HAS_BACKGROUND_TASKS_FIELD;
+import static org.opensearch.flowframework.common.CommonValue.SOURCE_INDEX;
+import static org.opensearch.flowframework.common.CommonValue.TASK_ID;
+import static org.opensearch.flowframework.common.CommonValue.USER_OUTPUTS_FIELD;
+import static org.opensearch.flowframework.common.CommonValue.WORKFLOW_STATE_INDEX;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.ArgumentMatchers.isNull;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+public class ReindexTaskRecoveryTests extends OpenSearchTestCase {
+
+    private Client client;
+    private ClusterAdminClient clusterAdminClient;
+    private FlowFrameworkIndicesHandler flowFrameworkIndicesHandler;
+    private ThreadPool threadPool;
+    private ReindexTaskRecovery recovery;
+
+    @Override
+    public void setUp() throws Exception {
+        super.setUp();
+        client = mock(Client.class);
+        threadPool = mock(ThreadPool.class);
+        when(threadPool.getThreadContext()).thenReturn(new ThreadContext(Settings.EMPTY));
+        when(threadPool.scheduleWithFixedDelay(any(), any(), anyString())).thenReturn(mock(Scheduler.Cancellable.class));
+        when(client.threadPool()).thenReturn(threadPool);
+        AdminClient adminClient = mock(AdminClient.class);
+        clusterAdminClient = mock(ClusterAdminClient.class);
+        when(client.admin()).thenReturn(adminClient);
+        when(adminClient.cluster()).thenReturn(clusterAdminClient);
+        flowFrameworkIndicesHandler = mock(FlowFrameworkIndicesHandler.class);
+        recovery = new ReindexTaskRecovery(client, flowFrameworkIndicesHandler, mock(ClusterService.class), threadPool, false);
+    }
+
+    @SuppressWarnings("unchecked")
+    public void testRecoverMarksLostReindexFailed() {
+        doAnswer(invocation -> {
+            ActionListener<GetTaskResponse> listener = invocation.getArgument(1);
+            listener.onFailure(new ResourceNotFoundException("task [local-node:7] isn't running and hasn't stored its results"));
+            return null;
+        }).when(clusterAdminClient).getTask(any(GetTaskRequest.class), any());
+        ArgumentCaptor<Map<String, Object>> updateCaptor = ArgumentCaptor.forClass(Map.class);
+
+        WorkflowState state = WorkflowState.builder()
+            .workflowId("test-id")
+            .userOutputs(
+                Map.of(
+                    "local_reindex",
+                    Map.of(TASK_ID, "local-node:7", SOURCE_INDEX, "demo", DESTINATION_INDEX, "dest", ReindexTaskMonitor.STATUS, "RUNNING"),
+                    "remote_reindex",
+                    Map.of(TASK_ID, "other-node:3", SOURCE_INDEX, "demo", DESTINATION_INDEX, "dest", ReindexTaskMonitor.STATUS, "RUNNING")
+                )
+            )
+            .build();
+        recovery.recover("local-node", state);
+
+        // Only the reindex of this node is polled, the other node still monitors its own
+        ArgumentCaptor<GetTaskRequest> taskCaptor = ArgumentCaptor.forClass(GetTaskRequest.class);
+        verify(clusterAdminClient, times(1)).getTask(taskCaptor.capture(), any());
+        assertEquals("local-node:7", taskCaptor.getValue().getTaskId().toString());
+        verify(flowFrameworkIndicesHandler, times(1)).updateFlowFrameworkSystemIndexDoc(
+            eq("test-id"),
+            isNull(),
+            updateCaptor.capture(),
+            any(ActionListener.class)
+        );
+        Map<String, Object> userOutputs = (Map<String, Object>) updateCaptor.getValue().get(USER_OUTPUTS_FIELD);
+        Map<String, String> progress = (Map<String, String>) userOutputs.get("local_reindex");
+        assertEquals(ReindexTaskMonitor.FAILED, progress.get(ReindexTaskMonitor.STATUS));
+        assertEquals(false, updateCaptor.getValue().get(HAS_BACKGROUND_TASKS_FIELD));
+    }
+
+    public void testRecoverPageRetriesFailedSearch() {
+        doAnswer(invocation -> {
+            ActionListener<SearchResponse> listener = invocation.getArgument(1);
+            listener.onFailure(new NoShardAvailableActionException(new ShardId(WORKFLOW_STATE_INDEX, "_na_", 0)));
+            return null;
+        }).when(client).search(any(SearchRequest.class), any());
+        ArgumentCaptor<Runnable> retryCaptor = ArgumentCaptor.forClass(Runnable.class);
+
+        recovery.recoverPage("local-node", null, 0);
+        verify(threadPool, times(1)).schedule(
+            retryCaptor.capture(),
+            eq(ReindexTaskRecovery.INITIAL_RETRY_DELAY),
+            eq(ThreadPool.Names.GENERIC)
+        );
+
+        // Each retry doubles the delay
+        retryCaptor.getValue().run();
+        verify(client, times(2)).search(any(SearchRequest.class), any());
+        verify(threadPool, times(1)).schedule(any(), eq(TimeValue.timeValueSeconds(2)), eq(ThreadPool.Names.GENERIC));
+
+        // The search is given up once the retries are exhausted
+        recovery.recoverPage("local-node", null, ReindexTaskRecovery.MAX_RETRIES);
+        verify(threadPool, times(2)).schedule(any(), any(), anyString());
+    }
+
+    @SuppressWarnings("unchecked")
+    public void testRecoverClearsFlagWithoutRunningReindex() {
+        WorkflowState state = WorkflowState.builder()
+            .workflowId("test-id")
+            .userOutputs(
+                Map.of(
+                    "reindex",
+                    Map.of(TASK_ID, "local-node:7", SOURCE_INDEX, "demo", DESTINATION_INDEX, "dest", ReindexTaskMonitor.STATUS, "COMPLETED")
+                )
+            )
+            .build();
+        recovery.recover("local-node", state);
+
+        verify(clusterAdminClient, never()).getTask(any(GetTaskRequest.class), any());
+        verify(flowFrameworkIndicesHandler, times(1)).updateFlowFrameworkSystemIndexDoc(
+            eq("test-id"),
+            isNull(),
+            eq(Map.<String, Object>of(HAS_BACKGROUND_TASKS_FIELD, false)),
+            any(ActionListener.class)
+        );
+    }
+}
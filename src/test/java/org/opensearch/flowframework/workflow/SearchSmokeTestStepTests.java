@@ -0,0 +1,240 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * The OpenSearch Contributors require contributions made to
+ * this file be licensed under the Apache-2.0 license or a
+ * compatible open source license.
+ */
+package org.opensearch.flowframework.workflow;
+
+import com.carrotsearch.randomizedtesting.annotations.ThreadLeakScope;
+
+import org.opensearch.action.search.SearchRequest;
+import org.opensearch.action.search.SearchResponse;
+import org.opensearch.action.search.ShardSearchFailure;
+import org.opensearch.action.support.PlainActionFuture;
+import org.opensearch.action.update.UpdateResponse;
+import org.opensearch.common.settings.Settings;
+import org.opensearch.common.unit.TimeValue;
+import org.opensearch.common.util.concurrent.OpenSearchExecutors;
+import org.opensearch.core.action.ActionListener;
+import org.opensearch.core.rest.RestStatus;
+import org.opensearch.core.xcontent.NamedXContentRegistry;
+import org.opensearch.flowframework.exception.WorkflowStepException;
+import org.opensearch.flowframework.indices.FlowFrameworkIndicesHandler;
+import org.opensearch.index.IndexNotFoundException;
+import org.opensearch.search.SearchModule;
+import org.opensearch.test.OpenSearchTestCase;
+import org.opensearch.threadpool.ScalingExecutorBuilder;
+import org.opensearch.threadpool.TestThreadPool;
+import org.opensearch.threadpool.ThreadPool;
+import org.opensearch.transport.client.Client;
+import org.junit.AfterClass;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+
+import org.mockito.ArgumentCaptor;
+
+import static org.opensearch.flowframework.common.CommonValue.FLOW_FRAMEWORK_THREAD_POOL_PREFIX;
+import static org.opensearch.flowframework.common.CommonValue.PIPELINE_ID;
+import static org.opensearch.flowframework.common.CommonValue.PROVISION_WORKFLOW_THREAD_POOL;
+import static org.opensearch.flowframework.common.CommonValue.USER_OUTPUTS_FIELD;
+import static org.opensearch.flowframework.common.WorkflowResources.INDEX_NAME;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyMap;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.ArgumentMatchers.nullable;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@ThreadLeakScope(ThreadLeakScope.Scope.NONE)
+public class SearchSmokeTestStepTests extends OpenSearchTestCase {
+
+    private static final String QUERIES = "[{\"query\":{\"match_all\":{}}},{\"query\":{\"match\":{\"text\":\"hello\"}},\"size\":5}]";
+
+    private static TestThreadPool testThreadPool;
+    private Client client;
+    private FlowFrameworkIndicesHandler flowFrameworkIndicesHandler;
+    private SearchSmokeTestStep searchSmokeTestStep;
+
+    @Override
+    public void setUp() throws Exception {
+        super.setUp();
+        testThreadPool = new TestThreadPool(
+            SearchSmokeTestStepTests.class.getName(),
+            new ScalingExecutorBuilder(
+                PROVISION_WORKFLOW_THREAD_POOL,
+                1,
+                Math.max(1, OpenSearchExecutors.allocatedProcessors(Settings.EMPTY) - 1),
+                TimeValue.timeValueMinutes(5),
+                FLOW_FRAMEWORK_THREAD_POOL_PREFIX + PROVISION_WORKFLOW_THREAD_POOL
+            )
+        );
+        client = mock(Client.class);
+        flowFrameworkIndicesHandler = mock(FlowFrameworkIndicesHandler.class);
+        doAnswer(invocation -> {
+            ActionListener<UpdateResponse> updateResponseListener = invocation.getArgument(3);
+            updateResponseListener.onResponse(mock(UpdateResponse.class));
+            return null;
+        }).when(flowFrameworkIndicesHandler).updateFlowFrameworkSystemIndexDoc(anyString(), nullable(String.class), anyMap(), any());
+        NamedXContentRegistry xContentRegistry = new NamedXContentRegistry(
+            new SearchModule(Settings.EMPTY, Collections.emptyList()).getNamedXContents()
+        );
+        searchSmokeTestStep = new SearchSmokeTestStep(client, testThreadPool, flowFrameworkIndicesHandler, xContentRegistry);
+    }
+
+    @AfterClass
+    public static void cleanup() {
+        ThreadPool.terminate(testThreadPool, 500, TimeUnit.MILLISECONDS);
+    }
+
+    public void testSearchSmokeTest() throws ExecutionException, InterruptedException {
+        List<SearchRequest> searchRequests = Collections.synchronizedList(new ArrayList<>());
+        doAnswer(invocation -> {
+            searchRequests.add(invocation.getArgument(0));
+            ActionListener<SearchResponse> searchListener = invocation.getArgument(1);
+            searchListener.onResponse(mock(SearchResponse.class));
+            return null;
+        }).when(client).search(any(SearchRequest.class), any());
+
+        WorkflowData inputData = new WorkflowData(
+            Map.of(
+                INDEX_NAME,
+                "demo",
+                SearchSmokeTestStep.QUERIES,
+                QUERIES,
+                PIPELINE_ID,
+                "hybrid-pipeline",
+                SearchSmokeTestStep.ITERATIONS,
+                "3",
+                SearchSmokeTestStep.CONCURRENCY,
+                "2"
+            ),
+            "test-id",
+            "test-node-id"
+        );
+        PlainActionFuture<WorkflowData> future = execute(inputData);
+
+        assertEquals("demo", future.get().getContent().get(INDEX_NAME));
+        assertEquals(6, searchRequests.size());
+        for (SearchRequest searchRequest : searchRequests) {
+            assertArrayEquals(new String[] { "demo" }, searchRequest.indices());
+            assertEquals("hybrid-pipeline", searchRequest.pipeline());
+        }
+        assertEquals(3, searchRequests.stream().filter(r -> r.source().size() == 5).count());
+
+        @SuppressWarnings("unchecked")
+        ArgumentCaptor<Map<String, Object>> updateCaptor = ArgumentCaptor.forClass(Map.class);
+        verify(flowFrameworkIndicesHandler).updateFlowFrameworkSystemIndexDoc(
+            eq("test-id"),
+            nullable(String.class),
+            updateCaptor.capture(),
+            any()
+        );
+        @SuppressWarnings("unchecked")
+        Map<String, Map<String, String>> userOutputs = (Map<String, Map<String, String>>) updateCaptor.getValue().get(USER_OUTPUTS_FIELD);
+        Map<String, String> results = userOutputs.get("test-node-id");
+        assertEquals("6", results.get(SearchSmokeTestStep.SEARCHES));
+        assertTrue(results.containsKey(SearchSmokeTestStep.THROUGHPUT));
+        assertTrue(results.containsKey(SearchSmokeTestStep.LATENCY_P50_MS));
+        assertTrue(results.containsKey(SearchSmokeTestStep.LATENCY_P90_MS));
+        assertTrue(results.containsKey(SearchSmokeTestStep.LATENCY_P99_MS));
+    }
+
+    public void testThroughputGate() {
+        doAnswer(invocation -> {
+            ActionListener<SearchResponse> searchListener = invocation.getArgument(1);
+            searchListener.onResponse(mock(SearchResponse.class));
+            return null;
+        }).when(client).search(any(SearchRequest.class), any());
+
+        WorkflowData inputData = new WorkflowData(
+            Map.of(
+                INDEX_NAME,
+                "demo",
+                SearchSmokeTestStep.QUERIES,
+                Map.of("query", Map.of("match_all", Map.of())),
+                SearchSmokeTestStep.MIN_THROUGHPUT,
+                "1000000000"
+            ),
+            "test-id",
+            "test-node-id"
+        );
+        ExecutionException exception = assertThrows(ExecutionException.class, () -> execute(inputData).get());
+        assertTrue(exception.getCause() instanceof WorkflowStepException);
+        assertEquals(RestStatus.SERVICE_UNAVAILABLE, ((WorkflowStepException) exception.getCause()).getRestStatus());
+        assertTrue(exception.getCause().getMessage().contains("throughput"));
+    }
+
+    public void testSearchFailure() {
+        doAnswer(invocation -> {
+            ActionListener<SearchResponse> searchListener = invocation.getArgument(1);
+            searchListener.onFailure(new IndexNotFoundException("demo"));
+            return null;
+        }).when(client).search(any(SearchRequest.class), any());
+
+        WorkflowData inputData = new WorkflowData(
+            Map.of(INDEX_NAME, "demo", SearchSmokeTestStep.QUERIES, QUERIES, SearchSmokeTestStep.CONCURRENCY, "4"),
+            "test-id",
+            "test-node-id"
+        );
+        ExecutionException exception = assertThrows(ExecutionException.class, () -> execute(inputData).get());
+        assertTrue(exception.getCause() instanceof WorkflowStepException);
+        assertEquals(RestStatus.NOT_FOUND, ((WorkflowStepException) exception.getCause()).getRestStatus());
+        verify(flowFrameworkIndicesHandler, never()).updateFlowFrameworkSystemIndexDoc(anyString(), any(), anyMap(), any());
+    }
+
+    public void testShardFailure() {
+        SearchResponse searchResponse = mock(SearchResponse.class);
+        when(searchResponse.getFailedShards()).thenReturn(1);
+        when(searchResponse.getTotalShards()).thenReturn(1);
+        when(searchResponse.getShardFailures()).thenReturn(
+            new ShardSearchFailure[] { new ShardSearchFailure(new IllegalStateException("shard failed")) }
+        );
+        doAnswer(invocation -> {
+            ActionListener<SearchResponse> searchListener = invocation.getArgument(1);
+            searchListener.onResponse(searchResponse);
+            return null;
+        }).when(client).search(any(SearchRequest.class), any());
+
+        WorkflowData inputData = new WorkflowData(
+            Map.of(INDEX_NAME, "demo", SearchSmokeTestStep.QUERIES, QUERIES),
+            "test-id",
+            "test-node-id"
+        );
+        ExecutionException exception = assertThrows(ExecutionException.class, () -> execute(inputData).get());
+        assertTrue(exception.getCause().getMessage().contains("1 of 1 shards failed"));
+    }
+
+    public void testInvalidQuery() {
+        WorkflowData inputData = new WorkflowData(
+            Map.of(INDEX_NAME, "demo", SearchSmokeTestStep.QUERIES, "{\"query\":{\"no_such_query\":{}}}"),
+            "test-id",
+            "test-node-id"
+        );
+        ExecutionException exception = assertThrows(ExecutionException.class, () -> execute(inputData).get());
+        assertEquals(RestStatus.BAD_REQUEST, ((WorkflowStepException) exception.getCause()).getRestStatus());
+        verify(client, never()).search(any(SearchRequest.class), any());
+    }
+
+    private PlainActionFuture<WorkflowData> execute(WorkflowData inputData) {
+        return searchSmokeTestStep.execute(
+            inputData.getNodeId(),
+            inputData,
+            Collections.emptyMap(),
+            Collections.emptyMap(),
+            Collections.emptyMap(),
+            null
+        );
+    }
+}
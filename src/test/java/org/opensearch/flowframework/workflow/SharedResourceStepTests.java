@@ -0,0 +1,332 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * The OpenSearch Contributors require contributions made to
+ * this file be licensed under the Apache-2.0 license or a
+ * compatible open source license.
+ */
+package org.opensearch.flowframework.workflow;
+
+import com.carrotsearch.randomizedtesting.annotations.ThreadLeakScope;
+
+import org.opensearch.action.support.PlainActionFuture;
+import org.opensearch.common.settings.Settings;
+import org.opensearch.common.unit.TimeValue;
+import org.opensearch.common.util.concurrent.OpenSearchExecutors;
+import org.opensearch.commons.authuser.User;
+import org.opensearch.core.action.ActionListener;
+import org.opensearch.core.rest.RestStatus;
+import org.opensearch.flowframework.common.FlowFrameworkSettings;
+import org.opensearch.flowframework.exception.FlowFrameworkException;
+import org.opensearch.flowframework.indices.FlowFrameworkIndicesHandler;
+import org.opensearch.flowframework.indices.SharedResourceHandler;
+import org.opensearch.flowframework.model.ResourceCreated;
+import org.opensearch.flowframework.model.WorkflowNode;
+import org.opensearch.flowframework.model.WorkflowState;
+import org.opensearch.ml.client.MachineLearningNodeClient;
+import org.opensearch.test.OpenSearchTestCase;
+import org.opensearch.threadpool.ScalingExecutorBuilder;
+import org.opensearch.threadpool.TestThreadPool;
+import org.opensearch.threadpool.ThreadPool;
+import org.opensearch.transport.client.Client;
+import org.junit.AfterClass;
+
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.TimeUnit;
+
+import org.mockito.ArgumentCaptor;
+
+import static org.opensearch.flowframework.common.CommonValue.FLOW_FRAMEWORK_THREAD_POOL_PREFIX;
+import static org.opensearch.flowframework.common.CommonValue.PROVISION_WORKFLOW_THREAD_POOL;
+import static org.opensearch.flowframework.common.CommonValue.RESOURCES_CREATED_FIELD;
+import static org.opensearch.flowframework.common.CommonValue.REUSE_EXISTING_FIELD;
+import static org.opensearch.flowframework.common.CommonValue.STEP_OUTPUTS_FIELD;
+import static org.opensearch.flowframework.common.CommonValue.USER_FIELD;
+import static org.opensearch.flowframework.common.WorkflowResources.CONNECTOR_ID;
+import static org.opensearch.flowframework.common.WorkflowResources.MODEL_ID;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.anyMap;
+import static org.mockito.ArgumentMatchers.anySet;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.ArgumentMatchers.nullable;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@ThreadLeakScope(ThreadLeakScope.Scope.NONE)
+public class SharedResourceStepTests extends OpenSearchTestCase {
+
+    private static TestThreadPool testThreadPool;
+    private FlowFrameworkIndicesHandler flowFrameworkIndicesHandler;
+    private WorkflowStep createConnectorStep;
+    private SharedResourceStep sharedResourceStep;
+    private WorkflowData inputData;
+
+    @Override
+    public void setUp() throws Exception {
+        super.setUp();
+        testThreadPool = new TestThreadPool(
+            SharedResourceStepTests.class.getName(),
+            new ScalingExecutorBuilder(
+                PROVISION_WORKFLOW_THREAD_POOL,
+                1,
+                Math.max(1, OpenSearchExecutors.allocatedProcessors(Settings.EMPTY) - 1),
+                TimeValue.timeValueMinutes(5),
+                FLOW_FRAMEWORK_THREAD_POOL_PREFIX + PROVISION_WORKFLOW_THREAD_POOL
+            )
+        );
+        flowFrameworkIndicesHandler = mock(FlowFrameworkIndicesHandler.class);
+        createConnectorStep = mock(CreateConnectorStep.class);
+        when(createConnectorStep.getName()).thenReturn(CreateConnectorStep.NAME);
+        sharedResourceStep = new SharedResourceStep(createConnectorStep, testThreadPool, flowFrameworkIndicesHandler);
+        inputData = new WorkflowData(
+            Map.of("name", "OpenAI connector", "protocol", "http", REUSE_EXISTING_FIELD, "true"),
+            "test-id",
+            "test-node-id"
+        );
+    }
+
+    @AfterClass
+    public static void cleanup() {
+        ThreadPool.terminate(testThreadPool, 500, TimeUnit.MILLISECONDS);
+    }
+
+    public void testReuseSharedResource() throws Exception {
+        User owner = new User("alice", List.of("ml"), Collections.emptyList(), Collections.emptyList());
+        mockOwner(owner);
+        doAnswer(invocation -> {
+            ActionListener<Map<String, Object>> listener = invocation.getArgument(3);
+            listener.onResponse(
+                Map.of(
+                    RESOURCES_CREATED_FIELD,
+                    List.of(new ResourceCreated(CreateConnectorStep.NAME, "other-node-id", CONNECTOR_ID, "connectorId").resourceMap()),
+                    STEP_OUTPUTS_FIELD,
+                    Map.of(CONNECTOR_ID, "connectorId")
+                )
+            );
+            return null;
+        }).when(flowFrameworkIndicesHandler).acquireSharedResource(anyString(), eq("test-id"), nullable(String.class), any());
+        doAnswer(invocation -> {
+            ActionListener<WorkflowData> listener = invocation.getArgument(6);
+            listener.onResponse(new WorkflowData(Map.of(CONNECTOR_ID, "connectorId"), "test-id", "test-node-id"));
+            return null;
+        }).when(flowFrameworkIndicesHandler)
+            .addResourceToStateIndex(
+                any(WorkflowData.class),
+                anyString(),
+                anyString(),
+                anyString(),
+                anyString(),
+                nullable(String.class),
+                any()
+            );
+
+        WorkflowData output = execute().get(10, TimeUnit.SECONDS);
+
+        assertEquals(Map.of(CONNECTOR_ID, "connectorId"), output.getContent());
+        assertEquals("test-node-id", output.getNodeId());
+        // Only resources of the same owner are reused
+        Map<String, Object> hashedInputs = Map.of("name", "OpenAI connector", "protocol", "http");
+        String resourceHash = SharedResourceHandler.computeResourceHash(CreateConnectorStep.NAME, hashedInputs, null, owner);
+        verify(flowFrameworkIndicesHandler).acquireSharedResource(eq(resourceHash), eq("test-id"), nullable(String.class), any());
+        // The hash is recorded with the reused resource, so that deprovisioning releases it
+        verify(flowFrameworkIndicesHandler).addResourceToStateIndex(
+            any(WorkflowData.class),
+            eq("test-node-id"),
+            eq(CreateConnectorStep.NAME),
+            eq("connectorId"),
+            eq(resourceHash),
+            nullable(String.class),
+            any()
+        );
+        verify(createConnectorStep, never()).execute(anyString(), any(), anyMap(), anyMap(), anyMap(), nullable(String.class));
+    }
+
+    public void testCreateSharedResource() throws Exception {
+        doAnswer(invocation -> {
+            ActionListener<Map<String, Object>> listener = invocation.getArgument(3);
+            listener.onResponse(null);
+            return null;
+        }).when(flowFrameworkIndicesHandler).acquireSharedResource(anyString(), eq("test-id"), nullable(String.class), any());
+        mockCreateConnector();
+        doAnswer(invocation -> {
+            ActionListener<WorkflowState> listener = invocation.getArgument(3);
+            listener.onResponse(
+                WorkflowState.builder()
+                    .resourcesCreated(
+                        List.of(
+                            new ResourceCreated(CreateConnectorStep.NAME, "test-node-id", CONNECTOR_ID, "connectorId"),
+                            new ResourceCreated(RegisterRemoteModelStep.NAME, "other-node-id", MODEL_ID, "modelId")
+                        )
+                    )
+                    .build()
+            );
+            return null;
+        }).when(flowFrameworkIndicesHandler).getWorkflowState(eq("test-id"), nullable(String.class), anySet(), any(), any());
+        doAnswer(invocation -> {
+            ActionListener<Boolean> listener = invocation.getArgument(5);
+            listener.onResponse(true);
+            return null;
+        }).when(flowFrameworkIndicesHandler)
+            .registerSharedResource(anyString(), anyList(), anyMap(), anyString(), nullable(String.class), any());
+        doAnswer(invocation -> {
+            ActionListener<WorkflowData> listener = invocation.getArgument(3);
+            listener.onResponse(new WorkflowData(Map.of(CONNECTOR_ID, "connectorId"), "test-id", "test-node-id"));
+            return null;
+        }).when(flowFrameworkIndicesHandler).recordSharedResources(eq("test-id"), nullable(String.class), anyList(), any());
+
+        WorkflowData output = execute().get(10, TimeUnit.SECONDS);
+
+        assertEquals("connectorId", output.getContent().get(CONNECTOR_ID));
+        @SuppressWarnings("unchecked")
+        ArgumentCaptor<List<ResourceCreated>> resourcesCaptor = ArgumentCaptor.forClass(List.class);
+        Map<String, Object> hashedInputs = Map.of("name", "OpenAI connector", "protocol", "http");
+        String resourceHash = SharedResourceHandler.computeResourceHash(CreateConnectorStep.NAME, hashedInputs, null, null);
+        verify(flowFrameworkIndicesHandler).registerSharedResource(
+            eq(resourceHash),
+            resourcesCaptor.capture(),
+            eq(Map.of(CONNECTOR_ID, "connectorId")),
+            eq("test-id"),
+            nullable(String.class),
+            any()
+        );
+        assertEquals(1, resourcesCaptor.getValue().size());
+        assertEquals("connectorId", resourcesCaptor.getValue().get(0).resourceId());
+
+        // Once shared, the hash is recorded with the resources in the state of the workflow
+        @SuppressWarnings("unchecked")
+        ArgumentCaptor<List<ResourceCreated>> sharedCaptor = ArgumentCaptor.forClass(List.class);
+        verify(flowFrameworkIndicesHandler).recordSharedResources(eq("test-id"), nullable(String.class), sharedCaptor.capture(), any());
+        assertEquals(1, sharedCaptor.getValue().size());
+        assertEquals("connectorId", sharedCaptor.getValue().get(0).resourceId());
+        assertEquals(resourceHash, sharedCaptor.getValue().get(0).resourceHash());
+    }
+
+    public void testLookupFailure() throws Exception {
+        doAnswer(invocation -> {
+            ActionListener<Map<String, Object>> listener = invocation.getArgument(3);
+            listener.onFailure(new FlowFrameworkException("Failed to get shared resources", RestStatus.INTERNAL_SERVER_ERROR));
+            return null;
+        }).when(flowFrameworkIndicesHandler).acquireSharedResource(anyString(), eq("test-id"), nullable(String.class), any());
+        mockCreateConnector();
+        doAnswer(invocation -> {
+            ActionListener<WorkflowState> listener = invocation.getArgument(3);
+            listener.onFailure(new FlowFrameworkException("Failed to get workflow state", RestStatus.INTERNAL_SERVER_ERROR));
+            return null;
+        }).when(flowFrameworkIndicesHandler).getWorkflowState(eq("test-id"), nullable(String.class), anySet(), any(), any());
+        mockOwner(null);
+
+        // The step still creates its own resources
+        WorkflowData output = execute().get(10, TimeUnit.SECONDS);
+        assertEquals("connectorId", output.getContent().get(CONNECTOR_ID));
+        verify(flowFrameworkIndicesHandler, never()).registerSharedResource(
+            anyString(),
+            anyList(),
+            anyMap(),
+            anyString(),
+            nullable(String.class),
+            any()
+        );
+    }
+
+    public void testOwnerLookupFailure() throws Exception {
+        mockCreateConnector();
+        doAnswer(invocation -> {
+            ActionListener<WorkflowState> listener = invocation.getArgument(3);
+            listener.onFailure(new FlowFrameworkException("Failed to get workflow state", RestStatus.INTERNAL_SERVER_ERROR));
+            return null;
+        }).when(flowFrameworkIndicesHandler).getWorkflowState(eq("test-id"), nullable(String.class), anySet(), any(), any());
+
+        // Without an owner nothing is shared, but the step still creates its own resources
+        WorkflowData output = execute().get(10, TimeUnit.SECONDS);
+        assertEquals("connectorId", output.getContent().get(CONNECTOR_ID));
+        verify(flowFrameworkIndicesHandler, never()).acquireSharedResource(anyString(), anyString(), nullable(String.class), any());
+    }
+
+    public void testCancelPropagatesToStep() throws Exception {
+        mockOwner(null);
+        doAnswer(invocation -> {
+            ActionListener<Map<String, Object>> listener = invocation.getArgument(3);
+            listener.onResponse(null);
+            return null;
+        }).when(flowFrameworkIndicesHandler).acquireSharedResource(anyString(), eq("test-id"), nullable(String.class), any());
+        // The step never completes on its own
+        PlainActionFuture<WorkflowData> createFuture = PlainActionFuture.newFuture();
+        when(createConnectorStep.execute(anyString(), any(WorkflowData.class), anyMap(), anyMap(), anyMap(), nullable(String.class)))
+            .thenReturn(createFuture);
+
+        PlainActionFuture<WorkflowData> sharedFuture = execute();
+        assertFalse(sharedFuture.isDone());
+        sharedFuture.cancel(true);
+
+        assertTrue(createFuture.isCancelled());
+        expectThrows(CancellationException.class, () -> sharedFuture.get(10, TimeUnit.SECONDS));
+    }
+
+    public void testResolvedInputs() {
+        WorkflowData previousOutput = new WorkflowData(Map.of(CONNECTOR_ID, "connectorId"), "test-id", "create_connector");
+        Map<String, Object> inputs = SharedResourceStep.resolvedInputs(
+            new WorkflowData(Map.of("name", "${{ model_name }}", REUSE_EXISTING_FIELD, true), "test-id", "test-node-id"),
+            Map.of("create_connector", previousOutput),
+            Map.of("create_connector", CONNECTOR_ID),
+            Map.of("model_name", "gpt")
+        );
+        assertEquals(Map.of("name", "gpt", CONNECTOR_ID, "connectorId"), inputs);
+    }
+
+    public void testCreateStep() {
+        WorkflowStepFactory factory = new WorkflowStepFactory(
+            testThreadPool,
+            mock(MachineLearningNodeClient.class),
+            flowFrameworkIndicesHandler,
+            mock(FlowFrameworkSettings.class),
+            mock(Client.class)
+        );
+        Map<String, Object> reuse = Map.of(REUSE_EXISTING_FIELD, "true");
+
+        assertTrue(factory.createStep(new WorkflowNode("a", CreateConnectorStep.NAME, Map.of(), reuse)) instanceof SharedResourceStep);
+        assertTrue(factory.createStep(new WorkflowNode("b", CreateConnectorStep.NAME, Map.of(), Map.of())) instanceof CreateConnectorStep);
+        assertEquals(DeployModelStep.NAME, factory.createStep(new WorkflowNode("c", DeployModelStep.NAME, Map.of(), reuse)).getName());
+
+        FlowFrameworkException exception = assertThrows(
+            FlowFrameworkException.class,
+            () -> factory.createStep(new WorkflowNode("d", CreateIndexStep.NAME, Map.of(), reuse))
+        );
+        assertEquals(RestStatus.BAD_REQUEST, exception.getRestStatus());
+    }
+
+    private void mockOwner(User owner) {
+        doAnswer(invocation -> {
+            ActionListener<WorkflowState> listener = invocation.getArgument(3);
+            listener.onResponse(WorkflowState.builder().user(owner).build());
+            return null;
+        }).when(flowFrameworkIndicesHandler).getWorkflowState(eq("test-id"), nullable(String.class), eq(Set.of(USER_FIELD)), any(), any());
+    }
+
+    private void mockCreateConnector() {
+        PlainActionFuture<WorkflowData> createFuture = PlainActionFuture.newFuture();
+        createFuture.onResponse(new WorkflowData(Map.of(CONNECTOR_ID, "connectorId"), "test-id", "test-node-id"));
+        when(createConnectorStep.execute(anyString(), any(WorkflowData.class), anyMap(), anyMap(), anyMap(), nullable(String.class)))
+            .thenReturn(createFuture);
+    }
+
+    private PlainActionFuture<WorkflowData> execute() {
+        return sharedResourceStep.execute(
+            inputData.getNodeId(),
+            inputData,
+            Collections.emptyMap(),
+            Collections.emptyMap(),
+            Collections.emptyMap(),
+            null
+        );
+    }
+}
@@ -23,7 +23,9 @@ import org.opensearch.transport.client.IndicesAdminClient;
 import java.io.IOException;
 import java.util.Collections;
 import java.util.HashMap;
+import java.util.List;
 import java.util.Map;
+import java.util.Set;
 import java.util.concurrent.ExecutionException;
 
 import org.mockito.ArgumentCaptor;
@@ -359,4 +361,65 @@ public class UpdateIndexStepTests extends OpenSearchTestCase {
         );
     }
 
+    public void testSharedSettingsSnapshot() throws ExecutionException, InterruptedException {
+        Map<String, Settings> indexToSettings = Map.of(
+            "index-1",
+            Settings.builder().put("index.number_of_replicas", 1).build(),
+            "index-2",
+            Settings.builder().put("index.number_of_replicas", 1).build()
+        );
+        doAnswer(invocation -> {
+            ActionListener<GetSettingsResponse> getSettingsResponseListener = invocation.getArgument(1);
+            getSettingsResponseListener.onResponse(new GetSettingsResponse(indexToSettings, Collections.emptyMap()));
+            return null;
+        }).when(indicesAdminClient).getSettings(any(), any());
+        doAnswer(invocation -> {
+            ActionListener<AcknowledgedResponse> ackResponseListener = invocation.getArgument(1);
+            ackResponseListener.onResponse(new AcknowledgedResponse(true));
+            return null;
+        }).when(indicesAdminClient).updateSettings(any(), any());
+
+        IndexSettingsSnapshot indexSettingsSnapshot = new IndexSettingsSnapshot(client, Set.of("index-1", "index-2"));
+        Map<String, Object> configurations = Map.of("settings", Map.of("index.number_of_replicas", 2));
+        for (String indexName : List.of("index-1", "index-2")) {
+            WorkflowData data = new WorkflowData(
+                Map.ofEntries(Map.entry(INDEX_NAME, indexName), Map.entry(CONFIGURATIONS, configurations)),
+                "test-id",
+                "test-node-id"
+            );
+            PlainActionFuture<WorkflowData> future = new UpdateIndexStep(client, indexSettingsSnapshot).execute(
+                data.getNodeId(),
+                data,
+                Collections.emptyMap(),
+                Collections.emptyMap(),
+                Collections.emptyMap(),
+                null
+            );
+            assertEquals(indexName, future.get().getContent().get(INDEX_NAME));
+        }
+
+        // A single settings request for both indices
+        ArgumentCaptor<GetSettingsRequest> getSettingsRequestCaptor = ArgumentCaptor.forClass(GetSettingsRequest.class);
+        verify(indicesAdminClient, times(1)).getSettings(getSettingsRequestCaptor.capture(), any());
+        assertEquals(Set.of("index-1", "index-2"), Set.of(getSettingsRequestCaptor.getValue().indices()));
+        verify(indicesAdminClient, times(2)).updateSettings(any(), any());
+
+        // The snapshot records the applied settings, so repeating the update sends no request
+        WorkflowData data = new WorkflowData(
+            Map.ofEntries(Map.entry(INDEX_NAME, "index-1"), Map.entry(CONFIGURATIONS, configurations)),
+            "test-id",
+            "test-node-id"
+        );
+        PlainActionFuture<WorkflowData> future = new UpdateIndexStep(client, indexSettingsSnapshot).execute(
+            data.getNodeId(),
+            data,
+            Collections.emptyMap(),
+            Collections.emptyMap(),
+            Collections.emptyMap(),
+            null
+        );
+        assertThrows(ExecutionException.class, future::get);
+        verify(indicesAdminClient, times(1)).getSettings(any(), any());
+        verify(indicesAdminClient, times(2)).updateSettings(any(), any());
+    }
 }
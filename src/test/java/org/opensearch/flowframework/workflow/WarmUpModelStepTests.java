@@ -0,0 +1,257 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * The OpenSearch Contributors require contributions made to
+ * this file be licensed under the Apache-2.0 license or a
+ * compatible open source license.
+ */
+package org.opensearch.flowframework.workflow;
+
+import com.carrotsearch.randomizedtesting.annotations.ThreadLeakScope;
+
+import org.opensearch.OpenSearchStatusException;
+import org.opensearch.action.support.PlainActionFuture;
+import org.opensearch.action.update.UpdateResponse;
+import org.opensearch.common.settings.Settings;
+import org.opensearch.common.unit.TimeValue;
+import org.opensearch.common.util.concurrent.OpenSearchExecutors;
+import org.opensearch.core.action.ActionListener;
+import org.opensearch.core.rest.RestStatus;
+import org.opensearch.flowframework.exception.WorkflowStepException;
+import org.opensearch.flowframework.indices.FlowFrameworkIndicesHandler;
+import org.opensearch.ml.client.MachineLearningNodeClient;
+import org.opensearch.ml.common.input.MLInput;
+import org.opensearch.ml.common.output.MLOutput;
+import org.opensearch.test.OpenSearchTestCase;
+import org.opensearch.threadpool.ScalingExecutorBuilder;
+import org.opensearch.threadpool.TestThreadPool;
+import org.opensearch.threadpool.ThreadPool;
+import org.junit.AfterClass;
+
+import java.util.Collections;
+import java.util.Map;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.MockitoAnnotations;
+
+import static org.opensearch.flowframework.common.CommonValue.FLOW_FRAMEWORK_THREAD_POOL_PREFIX;
+import static org.opensearch.flowframework.common.CommonValue.PROVISION_WORKFLOW_THREAD_POOL;
+import static org.opensearch.flowframework.common.CommonValue.USER_OUTPUTS_FIELD;
+import static org.opensearch.flowframework.common.WorkflowResources.MODEL_ID;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyMap;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.ArgumentMatchers.nullable;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+
+@ThreadLeakScope(ThreadLeakScope.Scope.NONE)
+public class WarmUpModelStepTests extends OpenSearchTestCase {
+
+    private static TestThreadPool testThreadPool;
+
+    @Mock
+    MachineLearningNodeClient machineLearningNodeClient;
+
+    private FlowFrameworkIndicesHandler flowFrameworkIndicesHandler;
+    private WarmUpModelStep warmUpModelStep;
+
+    @Override
+    public void setUp() throws Exception {
+        super.setUp();
+        MockitoAnnotations.openMocks(this);
+        testThreadPool = new TestThreadPool(
+            WarmUpModelStepTests.class.getName(),
+            new ScalingExecutorBuilder(
+                PROVISION_WORKFLOW_THREAD_POOL,
+                1,
+                Math.max(1, OpenSearchExecutors.allocatedProcessors(Settings.EMPTY) - 1),
+                TimeValue.timeValueMinutes(5),
+                FLOW_FRAMEWORK_THREAD_POOL_PREFIX + PROVISION_WORKFLOW_THREAD_POOL
+            )
+        );
+        flowFrameworkIndicesHandler = mock(FlowFrameworkIndicesHandler.class);
+        doAnswer(invocation -> {
+            ActionListener<UpdateResponse> updateResponseListener = invocation.getArgument(3);
+            updateResponseListener.onResponse(mock(UpdateResponse.class));
+            return null;
+        }).when(flowFrameworkIndicesHandler).updateFlowFrameworkSystemIndexDoc(anyString(), nullable(String.class), anyMap(), any());
+        warmUpModelStep = new WarmUpModelStep(testThreadPool, machineLearningNodeClient, flowFrameworkIndicesHandler);
+    }
+
+    @AfterClass
+    public static void cleanup() {
+        ThreadPool.terminate(testThreadPool, 500, TimeUnit.MILLISECONDS);
+    }
+
+    public void testWarmUpModel() throws ExecutionException, InterruptedException {
+        doAnswer(invocation -> {
+            ActionListener<MLOutput> predictListener = invocation.getArgument(3);
+            predictListener.onResponse(mock(MLOutput.class));
+            return null;
+        }).when(machineLearningNodeClient).predict(eq("modelId"), nullable(String.class), any(MLInput.class), any());
+
+        WorkflowData inputData = new WorkflowData(
+            Map.of(
+                MODEL_ID,
+                "modelId",
+                WarmUpModelStep.WARM_UP_INPUT,
+                "{\"parameters\":{\"prompt\":\"hello\"}}",
+                WarmUpModelStep.WARM_UP_REQUESTS,
+                "5",
+                WarmUpModelStep.LATENCY_REQUESTS,
+                "3"
+            ),
+            "test-id",
+            "test-node-id"
+        );
+        PlainActionFuture<WorkflowData> future = execute(inputData);
+
+        WorkflowData output = future.get();
+        assertEquals("modelId", output.getContent().get(MODEL_ID));
+        assertTrue(output.getContent().containsKey(WarmUpModelStep.LATENCY_P50_MS));
+        assertTrue(output.getContent().containsKey(WarmUpModelStep.LATENCY_P99_MS));
+        // The warm up predictions are followed by the measured ones
+        verify(machineLearningNodeClient, times(8)).predict(eq("modelId"), nullable(String.class), any(MLInput.class), any());
+
+        @SuppressWarnings("unchecked")
+        ArgumentCaptor<Map<String, Object>> updateCaptor = ArgumentCaptor.forClass(Map.class);
+        verify(flowFrameworkIndicesHandler).updateFlowFrameworkSystemIndexDoc(
+            eq("test-id"),
+            nullable(String.class),
+            updateCaptor.capture(),
+            any()
+        );
+        @SuppressWarnings("unchecked")
+        Map<String, Map<String, String>> userOutputs = (Map<String, Map<String, String>>) updateCaptor.getValue().get(USER_OUTPUTS_FIELD);
+        assertEquals("5", userOutputs.get("test-node-id").get(WarmUpModelStep.WARM_UP_REQUESTS));
+        assertEquals("3", userOutputs.get("test-node-id").get(WarmUpModelStep.LATENCY_REQUESTS));
+    }
+
+    public void testWarmUpPredictionsNotMeasured() throws ExecutionException, InterruptedException {
+        AtomicInteger predictions = new AtomicInteger();
+        doAnswer(invocation -> {
+            // Only the first, cold prediction is slow
+            if (predictions.getAndIncrement() == 0) {
+                Thread.sleep(100);
+            }
+            ActionListener<MLOutput> predictListener = invocation.getArgument(3);
+            predictListener.onResponse(mock(MLOutput.class));
+            return null;
+        }).when(machineLearningNodeClient).predict(eq("modelId"), nullable(String.class), any(MLInput.class), any());
+
+        WorkflowData inputData = new WorkflowData(
+            Map.of(
+                MODEL_ID,
+                "modelId",
+                WarmUpModelStep.WARM_UP_INPUT,
+                "{\"parameters\":{\"prompt\":\"hello\"}}",
+                WarmUpModelStep.WARM_UP_REQUESTS,
+                "1",
+                WarmUpModelStep.LATENCY_REQUESTS,
+                "2",
+                WarmUpModelStep.MAX_P99_LATENCY,
+                "50ms"
+            ),
+            "test-id",
+            "test-node-id"
+        );
+        WorkflowData output = execute(inputData).get();
+
+        assertTrue(Long.parseLong(output.getContent().get(WarmUpModelStep.LATENCY_P99_MS).toString()) < 100);
+        assertEquals(3, predictions.get());
+    }
+
+    public void testWarmUpModelLatencyExceeded() {
+        doAnswer(invocation -> {
+            Thread.sleep(10);
+            ActionListener<MLOutput> predictListener = invocation.getArgument(3);
+            predictListener.onResponse(mock(MLOutput.class));
+            return null;
+        }).when(machineLearningNodeClient).predict(eq("modelId"), nullable(String.class), any(MLInput.class), any());
+
+        WorkflowData inputData = new WorkflowData(
+            Map.of(
+                MODEL_ID,
+                "modelId",
+                WarmUpModelStep.WARM_UP_INPUT,
+                Map.of("parameters", Map.of("prompt", "hello")),
+                WarmUpModelStep.WARM_UP_REQUESTS,
+                "1",
+                WarmUpModelStep.LATENCY_REQUESTS,
+                "2",
+                WarmUpModelStep.MAX_P99_LATENCY,
+                "1ms"
+            ),
+            "test-id",
+            "test-node-id"
+        );
+        ExecutionException exception = assertThrows(ExecutionException.class, () -> execute(inputData).get());
+        assertTrue(exception.getCause() instanceof WorkflowStepException);
+        assertEquals(RestStatus.SERVICE_UNAVAILABLE, ((WorkflowStepException) exception.getCause()).getRestStatus());
+        assertTrue(exception.getCause().getMessage().contains("p99 latency"));
+    }
+
+    public void testWarmUpModelPredictFailure() {
+        doAnswer(invocation -> {
+            ActionListener<MLOutput> predictListener = invocation.getArgument(3);
+            predictListener.onFailure(new OpenSearchStatusException("Model not deployed", RestStatus.BAD_REQUEST));
+            return null;
+        }).when(machineLearningNodeClient).predict(eq("modelId"), nullable(String.class), any(MLInput.class), any());
+
+        WorkflowData inputData = new WorkflowData(
+            Map.of(MODEL_ID, "modelId", WarmUpModelStep.WARM_UP_INPUT, "{\"parameters\":{\"prompt\":\"hello\"}}"),
+            "test-id",
+            "test-node-id"
+        );
+        ExecutionException exception = assertThrows(ExecutionException.class, () -> execute(inputData).get());
+        assertTrue(exception.getCause() instanceof WorkflowStepException);
+        assertEquals("Model not deployed", exception.getCause().getMessage());
+        verify(machineLearningNodeClient, times(1)).predict(eq("modelId"), nullable(String.class), any(MLInput.class), any());
+        verify(flowFrameworkIndicesHandler, never()).updateFlowFrameworkSystemIndexDoc(anyString(), any(), anyMap(), any());
+    }
+
+    public void testInvalidWarmUpRequests() {
+        WorkflowData inputData = new WorkflowData(
+            Map.of(MODEL_ID, "modelId", WarmUpModelStep.WARM_UP_INPUT, "{}", WarmUpModelStep.WARM_UP_REQUESTS, "0"),
+            "test-id",
+            "test-node-id"
+        );
+        ExecutionException exception = assertThrows(ExecutionException.class, () -> execute(inputData).get());
+        assertEquals(RestStatus.BAD_REQUEST, ((WorkflowStepException) exception.getCause()).getRestStatus());
+        verify(machineLearningNodeClient, never()).predict(anyString(), nullable(String.class), any(MLInput.class), any());
+    }
+
+    public void testPercentile() {
+        LatencySamples latencies = new LatencySamples(10);
+        long[] samples = new long[] { 100, 2, 3, 4, 5, 6, 7, 8, 9, 1 };
+        for (int i = 0; i < samples.length; i++) {
+            latencies.record(i, samples[i]);
+        }
+        assertEquals(5, latencies.percentile(50));
+        assertEquals(100, latencies.percentile(99));
+        LatencySamples single = new LatencySamples(1);
+        single.record(0, 7);
+        assertEquals(7, single.percentile(99));
+    }
+
+    private PlainActionFuture<WorkflowData> execute(WorkflowData inputData) {
+        return warmUpModelStep.execute(
+            inputData.getNodeId(),
+            inputData,
+            Collections.emptyMap(),
+            Collections.emptyMap(),
+            Collections.emptyMap(),
+            null
+        );
+    }
+}
@@ -0,0 +1,67 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * The OpenSearch Contributors require contributions made to
+ * this file be licensed under the Apache-2.0 license or a
+ * compatible open source license.
+ */
+package org.opensearch.flowframework.workflow;
+
+import org.opensearch.common.util.concurrent.ThreadContext;
+import org.opensearch.flowframework.common.FlowFrameworkSettings;
+import org.opensearch.flowframework.stats.VirtualThreadStats;
+import org.opensearch.test.OpenSearchTestCase;
+import org.opensearch.threadpool.TestThreadPool;
+import org.opensearch.threadpool.ThreadPool;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+
+import static org.opensearch.flowframework.common.CommonValue.PROVISION_WORKFLOW_THREAD_POOL;
+import static org.opensearch.flowframework.common.CommonValue.WORKFLOW_THREAD_POOL;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+public class WorkflowExecutorsTests extends OpenSearchTestCase {
+
+    public void testVirtualThreads() throws Exception {
+        TestThreadPool threadPool = new TestThreadPool(WorkflowExecutorsTests.class.getName());
+        FlowFrameworkSettings flowFrameworkSettings = mock(FlowFrameworkSettings.class);
+        WorkflowExecutors workflowExecutors = new WorkflowExecutors(threadPool, flowFrameworkSettings);
+        try {
+            when(flowFrameworkSettings.isVirtualThreadsEnabled()).thenReturn(true);
+
+            // Only provision and deprovision work runs on virtual threads
+            expectThrows(IllegalArgumentException.class, () -> workflowExecutors.executor(WORKFLOW_THREAD_POOL));
+
+            CompletableFuture<String> header = new CompletableFuture<>();
+            try (ThreadContext.StoredContext ignored = threadPool.getThreadContext().stashContext()) {
+                threadPool.getThreadContext().putHeader("test", "value");
+                workflowExecutors.executor(PROVISION_WORKFLOW_THREAD_POOL).execute(() -> {
+                    assertTrue(Thread.currentThread().isVirtual());
+                    header.complete(threadPool.getThreadContext().getHeader("test"));
+                });
+            }
+            // The thread context of the submitter is preserved
+            assertEquals("value", header.get(1, TimeUnit.MINUTES));
+            assertNull(threadPool.getThreadContext().getHeader("test"));
+
+            assertBusy(() -> {
+                VirtualThreadStats stats = workflowExecutors.stats();
+                assertEquals(0, stats.getActive());
+            }, 1, TimeUnit.MINUTES);
+        } finally {
+            workflowExecutors.close();
+            ThreadPool.terminate(threadPool, 500, TimeUnit.MILLISECONDS);
+        }
+    }
+
+    public void testIsPluginThread() {
+        assertTrue(WorkflowExecutors.isPluginThread(WorkflowExecutors.VIRTUAL_THREAD_NAME_PREFIX + "3"));
+        // Pinned events of other virtual threads of the JVM are not counted
+        assertFalse(WorkflowExecutors.isPluginThread("ForkJoinPool-1-worker-1"));
+        assertFalse(WorkflowExecutors.isPluginThread(""));
+        assertFalse(WorkflowExecutors.isPluginThread(null));
+    }
+}
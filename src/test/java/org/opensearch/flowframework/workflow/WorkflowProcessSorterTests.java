@@ -25,6 +25,7 @@ import org.opensearch.flowframework.model.TemplateTestJsonUtil;
 import org.opensearch.flowframework.model.Workflow;
 import org.opensearch.flowframework.model.WorkflowEdge;
 import org.opensearch.flowframework.model.WorkflowNode;
+import org.opensearch.flowframework.stats.FlowFrameworkStats;
 import org.opensearch.ml.client.MachineLearningNodeClient;
 import org.opensearch.test.OpenSearchTestCase;
 import org.opensearch.threadpool.ScalingExecutorBuilder;
@@ -133,7 +134,12 @@ public class WorkflowProcessSorterTests extends OpenSearchTestCase {
             )
         );
         workflowStepFactory = new WorkflowStepFactory(testThreadPool, mlClient, flowFrameworkIndicesHandler, flowFrameworkSettings, client);
-        workflowProcessSorter = new WorkflowProcessSorter(workflowStepFactory, testThreadPool, flowFrameworkSettings);
+        workflowProcessSorter = new WorkflowProcessSorter(
+            workflowStepFactory,
+            new WorkflowExecutors(testThreadPool, flowFrameworkSettings),
+            flowFrameworkSettings,
+            new FlowFrameworkStats()
+        );
 
         templateVersion = Version.fromString("1.0.0");
         compatibilityVersions = List.of(Version.fromString("2.1.6"), Version.fromString("3.0.0"));
@@ -832,4 +838,87 @@ public class WorkflowProcessSorterTests extends OpenSearchTestCase {
         assertTrue(reprovisionWorkflowStepNames.contains(UpdateIndexStep.NAME));
     }
 
+    public void testCreateReprovisionSequenceWithStructuredConfigurations() throws Exception {
+        // Register Search Pipeline Step with modified model ID
+        String pipelineId = "pipelineId";
+        String pipelineConfigurations =
+            "{“description”:“An neural ingest pipeline”,“processors”:[{“text_embedding”:{“field_map”:{“text”:“analyzed_text”},“model_id”:“abcdefgg”}}]}";
+        WorkflowNode createSearchPipeline = new WorkflowNode(
+            "workflow_step_1",
+            CreateSearchPipelineStep.NAME,
+            Map.of(),
+            Map.ofEntries(Map.entry(CONFIGURATIONS, pipelineConfigurations), Map.entry(PIPELINE_ID, pipelineId))
+        );
+
+        // Create Index Step with the configurations of the stored template given as an object rather than a string
+        Map<String, Object> configurations = Map.of(
+            "settings",
+            Map.of(
+                "index",
+                Map.of(
+                    "knn",
+                    true,
+                    "number_of_shards",
+                    2,
+                    "number_of_replicas",
+                    1,
+                    "default_pipeline",
+                    "_none",
+                    "search",
+                    Map.of("default_pipeline", "${{workflow_step_1.pipeline_id}}")
+                )
+            ),
+            "mappings",
+            Map.of("properties", Map.of("age", Map.of("type", "integer"))),
+            "aliases",
+            Map.of("sample-alias1", Map.of())
+        );
+        WorkflowNode createIndex = new WorkflowNode(
+            "workflow_step_2",
+            CreateIndexStep.NAME,
+            Map.ofEntries(Map.entry("workflow_step_1", PIPELINE_ID)),
+            Map.ofEntries(Map.entry(INDEX_NAME, "indexName"), Map.entry(CONFIGURATIONS, configurations))
+        );
+
+        List<WorkflowNode> nodes = List.of(createSearchPipeline, createIndex);
+        List<WorkflowEdge> edges = List.of(new WorkflowEdge("workflow_step_1", "workflow_step_2"));
+        Workflow workflow = new Workflow(Map.of(), nodes, edges);
+
+        Instant now = Instant.now();
+        Template templateWithStructuredConfigurations = new Template(
+            "test",
+            "a test template",
+            "test use case",
+            templateVersion,
+            compatibilityVersions,
+            Map.of("provision", workflow),
+            null,
+            null,
+            now,
+            now,
+            null,
+            null,
+            Collections.emptyList()
+        );
+
+        // The stored template holds the index configurations as an encoded string
+        List<ProcessNode> reprovisionSequence = workflowProcessSorter.createReprovisionSequence(
+            "1",
+            reprovisionTemplate,
+            templateWithStructuredConfigurations,
+            List.of(pipelineResource, indexResource),
+            null
+        );
+
+        assertEquals(2, reprovisionSequence.size());
+        List<String> reprovisionWorkflowStepNames = reprovisionSequence.stream()
+            .map(ProcessNode::workflowStep)
+            .map(WorkflowStep::getName)
+            .collect(Collectors.toList());
+        assertTrue(reprovisionWorkflowStepNames.contains(UpdateSearchPipelineStep.NAME));
+        // The index configurations are unchanged, so the index is not updated
+        assertFalse(reprovisionWorkflowStepNames.contains(UpdateIndexStep.NAME));
+        assertTrue(reprovisionWorkflowStepNames.contains(WorkflowDataStep.NAME));
+    }
+
 }